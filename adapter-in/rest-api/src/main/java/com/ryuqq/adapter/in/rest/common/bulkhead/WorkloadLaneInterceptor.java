@@ -0,0 +1,165 @@
+package com.ryuqq.adapter.in.rest.common.bulkhead;
+
+import com.ryuqq.adapter.in.rest.mcp.McpApiEndpoints;
+import com.ryuqq.application.common.bulkhead.Bulkhead;
+import com.ryuqq.application.common.bulkhead.WorkloadBulkheads;
+import com.ryuqq.application.common.bulkhead.WorkloadLane;
+import com.ryuqq.application.common.bulkhead.WorkloadLaneContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.Callable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * WorkloadLaneInterceptor - 요청을 워크로드 레인에 배정하고 벌크헤드 적용
+ *
+ * <p>컨트롤러 요청을 아래 기준으로 레인에 배정한 뒤, 레인의 실행 슬롯을 얻은 경우에만 핸들러를 실행합니다. 슬롯을 얻지 못하면 {@link
+ * com.ryuqq.application.common.bulkhead.BulkheadFullException}이 GlobalExceptionHandler에서 503으로
+ * 변환됩니다.
+ *
+ * <ul>
+ *   <li>{@link McpApiEndpoints#BASE} 하위 → {@link WorkloadLane#MCP_READ}
+ *   <li>그 외 GET/HEAD → {@link WorkloadLane#ADMIN_QUERY}
+ *   <li>그 외 (POST/PUT/PATCH/DELETE) → {@link WorkloadLane#COMMAND}
+ * </ul>
+ *
+ * <p>레인은 {@link WorkloadLaneContext}에도 기록되어 영속성 계층이 레인 전용 커넥션 풀을 고를 수 있습니다. 비동기 처리로 전환된 요청은 반환 타입에
+ * 따라 다르게 다룹니다.
+ *
+ * <ul>
+ *   <li>{@link DeferredResult} (롱폴링): 대기 중 슬롯을 점유하지 않도록 전환 시점에 반납
+ *   <li>그 외 ({@code StreamingResponseBody}, {@code Callable}): 작업 스레드에서 실제 조회/저장이 일어나므로 슬롯을 유지하고,
+ *       {@link CallableProcessingInterceptor}로 작업 스레드에도 같은 레인을 배정. 슬롯은 비동기 처리가 끝난 뒤 반납
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class WorkloadLaneInterceptor
+        implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE =
+            WorkloadLaneInterceptor.class.getName() + ".permit";
+    private static final String SCOPE_ATTRIBUTE =
+            WorkloadLaneInterceptor.class.getName() + ".scope";
+    private static final String LANE_ATTRIBUTE =
+            WorkloadLaneInterceptor.class.getName() + ".lane";
+    private static final String ASYNC_SCOPE_ATTRIBUTE =
+            WorkloadLaneInterceptor.class.getName() + ".asyncScope";
+
+    private final WorkloadBulkheads bulkheads;
+
+    public WorkloadLaneInterceptor(WorkloadBulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        WorkloadLane lane = classify(request);
+        // 스트리밍 완료 후의 비동기 디스패치는 처음 얻은 슬롯을 그대로 사용
+        if (!(request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkhead.Permit)) {
+            request.setAttribute(PERMIT_ATTRIBUTE, bulkheads.of(lane).acquire());
+        }
+        request.setAttribute(LANE_ATTRIBUTE, lane);
+        request.setAttribute(SCOPE_ATTRIBUTE, WorkloadLaneContext.enter(lane));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        closeScope(request);
+        if (isLongPolling(handler)) {
+            releasePermit(request);
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex) {
+        closeScope(request);
+        releasePermit(request);
+    }
+
+    /** 작업 스레드에서 스트리밍 본문/Callable 실행 전 요청의 레인에 배정 */
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(LANE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof WorkloadLane lane) {
+            request.setAttribute(
+                    ASYNC_SCOPE_ATTRIBUTE,
+                    WorkloadLaneContext.enter(lane),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object result) {
+        if (request.getAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof WorkloadLaneContext.Scope scope) {
+            request.removeAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            scope.close();
+        }
+    }
+
+    /** 비동기 디스패치 없이 끝난 경우(클라이언트 연결 끊김 등)에도 슬롯 반납 */
+    @Override
+    public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof Bulkhead.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            permit.close();
+        }
+    }
+
+    /**
+     * 요청의 워크로드 레인 판별
+     *
+     * @param request HTTP 요청
+     * @return 워크로드 레인
+     */
+    public static WorkloadLane classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith(McpApiEndpoints.BASE)) {
+            return WorkloadLane.MCP_READ;
+        }
+        String method = request.getMethod();
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            return WorkloadLane.ADMIN_QUERY;
+        }
+        return WorkloadLane.COMMAND;
+    }
+
+    private static boolean isLongPolling(Object handler) {
+        return handler instanceof HandlerMethod method
+                && DeferredResult.class.isAssignableFrom(
+                        method.getReturnType().getParameterType());
+    }
+
+    private static void closeScope(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof WorkloadLaneContext.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+
+    private static void releasePermit(HttpServletRequest request) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Bulkhead.Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            permit.close();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ryuqq.adapter.in.rest.common.controller;
 
 import com.ryuqq.adapter.in.rest.common.error.ErrorMapperRegistry;
+import com.ryuqq.application.common.bulkhead.BulkheadFullException;
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
 import com.ryuqq.domain.common.exception.DomainException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolation;
@@ -17,6 +19,7 @@ import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
@@ -308,6 +311,53 @@ public class GlobalExceptionHandler {
         return build(HttpStatus.CONFLICT, "Conflict", msg, STATE_CONFLICT, req);
     }
 
+    // ======= 503 - 워크로드 레인 포화 =======
+    private static final String WORKLOAD_SATURATED = "WORKLOAD_SATURATED";
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    @ExceptionHandler(BulkheadFullException.class)
+    public ResponseEntity<ProblemDetail> handleBulkheadFull(
+            BulkheadFullException ex, HttpServletRequest req) {
+        log.warn("Bulkhead rejected: code={}, lane={}", WORKLOAD_SATURATED, ex.lane().key());
+        ResponseEntity<ProblemDetail> res =
+                build(
+                        HttpStatus.SERVICE_UNAVAILABLE,
+                        "Service Unavailable",
+                        "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                        WORKLOAD_SATURATED,
+                        req);
+        return ResponseEntity.status(res.getStatusCode())
+                .headers(res.getHeaders())
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                .body(res.getBody());
+    }
+
+    // ======= 504 - 요청 기한 경과 =======
+    private static final String DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ProblemDetail> handleDeadlineExceeded(
+            DeadlineExceededException ex, HttpServletRequest req) {
+        return deadlineExceeded(req);
+    }
+
+    /** 요청 기한에서 계산된 statement timeout으로 취소된 쿼리 (@Repository 예외 변환 결과) */
+    @ExceptionHandler(QueryTimeoutException.class)
+    public ResponseEntity<ProblemDetail> handleQueryTimeout(
+            QueryTimeoutException ex, HttpServletRequest req) {
+        return deadlineExceeded(req);
+    }
+
+    private ResponseEntity<ProblemDetail> deadlineExceeded(HttpServletRequest req) {
+        log.warn("Request deadline exceeded: code={}", DEADLINE_EXCEEDED);
+        return build(
+                HttpStatus.GATEWAY_TIMEOUT,
+                "Gateway Timeout",
+                "요청 처리 기한을 초과했습니다.",
+                DEADLINE_EXCEEDED,
+                req);
+    }
+
     // ======= 500 - 나머지 잡기 =======
     private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
 
@@ -0,0 +1,164 @@
+package com.ryuqq.adapter.in.rest.common.deadline;
+
+import com.ryuqq.adapter.in.rest.common.bulkhead.WorkloadLaneInterceptor;
+import com.ryuqq.application.common.bulkhead.WorkloadLane;
+import com.ryuqq.application.common.deadline.DeadlineMetrics;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * RequestDeadlineInterceptor - 요청 처리 기한 설정
+ *
+ * <p>컨트롤러 요청마다 {@link RequestDeadline}을 설정합니다. 기한은 요청 도착 시점부터 계산되며 벌크헤드 대기, UseCase, QueryDSL
+ * 쿼리(statement timeout)에 적용됩니다.
+ *
+ * <ul>
+ *   <li>기본값: 워크로드 레인별 {@code deadline.defaults.<lane>} (mcp-read, admin-query, command)
+ *   <li>클라이언트 헤더 {@value #TIMEOUT_HEADER} (밀리초): 기본값보다 짧을 때만 적용 - 에이전트의 호출 타임아웃을 그대로 전달
+ * </ul>
+ *
+ * <p>기한을 넘긴 요청은 {@link DeadlineMetrics}로 기록합니다. 비동기 처리로 전환된 요청은 반환 타입에 따라 다르게 다룹니다.
+ *
+ * <ul>
+ *   <li>{@link DeferredResult} (롱폴링): 대기가 목적이므로 전환 시점에 기한 해제
+ *   <li>그 외 ({@code StreamingResponseBody}, {@code Callable}): {@link
+ *       CallableProcessingInterceptor}로 작업 스레드에 남은 기한을 그대로 설정 - 스트리밍 중 저장/조회도 요청 도착 시점 기준 기한을 따름
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class RequestDeadlineInterceptor
+        implements AsyncHandlerInterceptor, CallableProcessingInterceptor {
+
+    public static final String TIMEOUT_HEADER = "X-Request-Timeout";
+
+    private static final String PREFIX = "deadline.defaults.";
+    private static final Duration FALLBACK_TIMEOUT = Duration.ofSeconds(30);
+    private static final String SCOPE_ATTRIBUTE =
+            RequestDeadlineInterceptor.class.getName() + ".scope";
+    private static final String LANE_ATTRIBUTE =
+            RequestDeadlineInterceptor.class.getName() + ".lane";
+    private static final String DEADLINE_NANOS_ATTRIBUTE =
+            RequestDeadlineInterceptor.class.getName() + ".deadlineNanos";
+    private static final String ASYNC_SCOPE_ATTRIBUTE =
+            RequestDeadlineInterceptor.class.getName() + ".asyncScope";
+
+    private final Map<WorkloadLane, Duration> defaults = new EnumMap<>(WorkloadLane.class);
+    private final DeadlineMetrics metrics;
+
+    public RequestDeadlineInterceptor(Environment environment, DeadlineMetrics metrics) {
+        for (WorkloadLane lane : WorkloadLane.values()) {
+            defaults.put(
+                    lane,
+                    environment.getProperty(PREFIX + lane.key(), Duration.class, FALLBACK_TIMEOUT));
+        }
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
+        }
+        WorkloadLane lane = WorkloadLaneInterceptor.classify(request);
+        Duration timeout = timeout(defaults.get(lane), request.getHeader(TIMEOUT_HEADER));
+        request.setAttribute(LANE_ATTRIBUTE, lane);
+        request.setAttribute(SCOPE_ATTRIBUTE, RequestDeadline.start(timeout));
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isLongPolling(handler)) {
+            RequestDeadline.remaining()
+                    .ifPresent(
+                            remaining ->
+                                    request.setAttribute(
+                                            DEADLINE_NANOS_ATTRIBUTE,
+                                            System.nanoTime() + remaining.toNanos()));
+        }
+        release(request);
+    }
+
+    /** 작업 스레드에서 스트리밍 본문/Callable 실행 전 요청의 남은 기한 설정 */
+    @Override
+    public <T> void preProcess(NativeWebRequest request, Callable<T> task) {
+        if (request.getAttribute(DEADLINE_NANOS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof Long deadlineNanos) {
+            Duration remaining = Duration.ofNanos(Math.max(0L, deadlineNanos - System.nanoTime()));
+            request.setAttribute(
+                    ASYNC_SCOPE_ATTRIBUTE,
+                    RequestDeadline.start(remaining),
+                    RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    @Override
+    public <T> void postProcess(NativeWebRequest request, Callable<T> task, Object result) {
+        if (request.getAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof RequestDeadline.Scope scope) {
+            request.removeAttribute(ASYNC_SCOPE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            scope.close();
+        }
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Object handler,
+            Exception ex) {
+        if (RequestDeadline.isExpired()
+                && request.getAttribute(LANE_ATTRIBUTE) instanceof WorkloadLane lane) {
+            boolean cancelled = response.getStatus() == HttpStatus.GATEWAY_TIMEOUT.value();
+            metrics.recordExpired(lane.key(), cancelled);
+        }
+        release(request);
+    }
+
+    static Duration timeout(Duration laneDefault, String header) {
+        if (header == null || header.isBlank()) {
+            return laneDefault;
+        }
+        try {
+            long millis = Long.parseLong(header.trim());
+            if (millis <= 0) {
+                return laneDefault;
+            }
+            Duration requested = Duration.ofMillis(millis);
+            return requested.compareTo(laneDefault) < 0 ? requested : laneDefault;
+        } catch (NumberFormatException e) {
+            return laneDefault;
+        }
+    }
+
+    private static boolean isLongPolling(Object handler) {
+        return handler instanceof HandlerMethod method
+                && DeferredResult.class.isAssignableFrom(
+                        method.getReturnType().getParameterType());
+    }
+
+    private static void release(HttpServletRequest request) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof RequestDeadline.Scope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
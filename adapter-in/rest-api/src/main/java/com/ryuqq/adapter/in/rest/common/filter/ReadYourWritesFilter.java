@@ -0,0 +1,86 @@
+package com.ryuqq.adapter.in.rest.common.filter;
+
+import com.ryuqq.adapter.in.rest.mcp.McpApiEndpoints;
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * ReadYourWritesFilter - 쓰기 직후 조회의 Primary 고정
+ *
+ * <p>읽기 복제본 라우팅이 켜져 있으면 readOnly 트랜잭션은 복제본에서 실행되므로, 방금 쓴 데이터를 바로 다시 조회하면 복제 지연 때문에 이전 값이 보일 수 있습니다.
+ * 이 필터는 일관성 토큰으로 그 구간의 조회를 Primary로 보냅니다.
+ *
+ * <ul>
+ *   <li>변경 요청(POST/PUT/PATCH/DELETE): 요청 전체를 Primary로 처리하고 응답에 {@value #TOKEN_HEADER} (쓰기 시각, epoch
+ *       millis) 부여
+ *   <li>토큰을 다시 보낸 조회 요청: 토큰 발급 후 {@code read-consistency.primary-window} 이내면 Primary로 처리
+ *   <li>{@link McpApiEndpoints#BASE} 하위 요청: 본문을 받기 위해 POST를 쓰는 조회 전용 API이므로 변경 요청으로 보지 않음 (복제본 라우팅
+ *       유지, 토큰 미발급)
+ * </ul>
+ *
+ * <p>복제본 라우팅이 꺼져 있으면 모든 요청이 이미 Primary로 가므로 동작 차이는 없습니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final Clock clock;
+    private final Duration primaryWindow;
+
+    public ReadYourWritesFilter(
+            Clock clock, @Value("${read-consistency.primary-window:5s}") Duration primaryWindow) {
+        this.clock = clock;
+        this.primaryWindow = primaryWindow;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean mutating = MUTATING_METHODS.contains(request.getMethod()) && !isReadOnly(request);
+        if (mutating) {
+            response.setHeader(TOKEN_HEADER, Long.toString(now));
+        }
+        if (!mutating && !isWithinWindow(request.getHeader(TOKEN_HEADER), now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    private static boolean isReadOnly(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.startsWith(McpApiEndpoints.BASE);
+    }
+
+    private boolean isWithinWindow(String token, long now) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+        try {
+            long writtenAt = Long.parseLong(token.trim());
+            // 노드 간 시계 오차를 고려해 미래 방향도 같은 창만큼 허용
+            return Math.abs(now - writtenAt) <= primaryWindow.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.module.paramnames.ParameterNamesModule;
 import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
 
@@ -36,10 +37,13 @@ import org.springframework.http.converter.json.ProblemDetailJacksonMixin;
  * }
  * }</pre>
  *
+ * <p>네이티브 이미지에서 API DTO Record를 바인딩하기 위한 리플렉션 힌트는 {@link RestApiRuntimeHints}가 등록합니다.
+ *
  * @author development-team
  * @since 1.0.0
  */
 @Configuration
+@ImportRuntimeHints(RestApiRuntimeHints.class)
 public class JacksonConfig {
 
     /**
@@ -0,0 +1,44 @@
+package com.ryuqq.adapter.in.rest.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+/**
+ * RestApiRuntimeHints - REST API 네이티브 이미지 힌트
+ *
+ * <p>Spring AOT는 {@code @RequestBody}와 컨트롤러 반환 타입만 바인딩 힌트로 등록합니다. {@code @ModelAttribute}로 바인딩하는 조회
+ * 요청 Record, {@code ResponseEntity<ApiResponse<T>>}처럼 제네릭 안에 숨은 응답 Record, 스트리밍 응답에서 직접 직렬화하는 DTO까지
+ * 빠짐없이 포함하도록 {@code ..dto..} 패키지의 모든 API DTO에 Jackson 바인딩 힌트(생성자, 컴포넌트 접근자, 중첩 Record)를 등록합니다.
+ *
+ * <p>JVM 실행에서는 사용되지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public class RestApiRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.ryuqq.adapter.in.rest";
+    private static final String DTO_PACKAGE = ".dto.";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar =
+            new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(
+                (reader, factory) ->
+                        reader.getClassMetadata().getClassName().contains(DTO_PACKAGE));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            bindingRegistrar.registerReflectionHints(
+                    hints.reflection(),
+                    ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+    }
+}
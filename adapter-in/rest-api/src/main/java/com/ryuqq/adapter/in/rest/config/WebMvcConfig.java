@@ -1,14 +1,18 @@
 package com.ryuqq.adapter.in.rest.config;
 
 import com.ryuqq.adapter.in.rest.common.ApiPaths;
+import com.ryuqq.adapter.in.rest.common.bulkhead.WorkloadLaneInterceptor;
+import com.ryuqq.adapter.in.rest.common.deadline.RequestDeadlineInterceptor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 /**
  * Web MVC 설정
  *
- * <p>REST Docs 등 정적 리소스 경로를 설정합니다.
+ * <p>REST Docs 등 정적 리소스 경로와 요청 기한 / 워크로드 레인 인터셉터(스트리밍 작업 포함)를 설정합니다.
  *
  * <p><strong>API Gateway 라우팅:</strong>
  *
@@ -25,6 +29,16 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private static final String DOCS_PATH = ApiPaths.DOCS_PATTERN;
 
+    private final RequestDeadlineInterceptor requestDeadlineInterceptor;
+    private final WorkloadLaneInterceptor workloadLaneInterceptor;
+
+    public WebMvcConfig(
+            RequestDeadlineInterceptor requestDeadlineInterceptor,
+            WorkloadLaneInterceptor workloadLaneInterceptor) {
+        this.requestDeadlineInterceptor = requestDeadlineInterceptor;
+        this.workloadLaneInterceptor = workloadLaneInterceptor;
+    }
+
     /**
      * REST Docs 정적 리소스 핸들러 등록
      *
@@ -34,4 +48,30 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         registry.addResourceHandler(DOCS_PATH).addResourceLocations("classpath:/static/docs/");
     }
+
+    /**
+     * 요청 기한 / 워크로드 레인(벌크헤드) 인터셉터 등록
+     *
+     * <p>벌크헤드 대기 시간도 기한에 포함되도록 기한 인터셉터를 먼저 등록합니다.
+     *
+     * @param registry InterceptorRegistry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestDeadlineInterceptor);
+        registry.addInterceptor(workloadLaneInterceptor);
+    }
+
+    /**
+     * 비동기(스트리밍) 작업 인터셉터 등록
+     *
+     * <p>스트리밍 본문을 쓰는 작업 스레드도 요청의 기한과 워크로드 레인에서 실행되도록 합니다.
+     *
+     * @param configurer AsyncSupportConfigurer
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(
+                requestDeadlineInterceptor, workloadLaneInterceptor);
+    }
 }
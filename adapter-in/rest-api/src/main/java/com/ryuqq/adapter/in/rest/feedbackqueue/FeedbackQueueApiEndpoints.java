@@ -13,12 +13,15 @@ import com.ryuqq.adapter.in.rest.common.ApiPaths;
  * /api/v1/templates/feedback-queue
  *   ├── POST   /                           # 피드백 생성
  *   ├── GET    /                           # 전체 조회 (필터링)
+ *   ├── GET    /stats                      # 통계 (건수 + 대기 시간 백분위)
+ *   ├── GET    /human-review/inbox         # Human 리뷰 인박스 롱폴링
  *   ├── GET    /{feedbackQueueId}          # 단건 조회
  *   ├── PATCH  /{feedbackQueueId}/llm-approve    # LLM 1차 승인
  *   ├── PATCH  /{feedbackQueueId}/llm-reject     # LLM 1차 거절
  *   ├── PATCH  /{feedbackQueueId}/human-approve  # Human 2차 승인
  *   ├── PATCH  /{feedbackQueueId}/human-reject   # Human 2차 거절
- *   └── POST   /{feedbackQueueId}/merge          # 머지
+ *   ├── POST   /{feedbackQueueId}/merge          # 머지
+ *   └── POST   /merge-batch                      # 일괄 머지 (동일 대상 MODIFY 병합)
  * }</pre>
  *
  * @author ryu-qqq
@@ -44,6 +47,12 @@ public final class FeedbackQueueApiEndpoints {
     /** FeedbackQueue 기본 경로 */
     public static final String BASE = STANDARDS_BASE + "/feedback-queue";
 
+    /** FeedbackQueue 통계 경로 */
+    public static final String STATS = BASE + "/stats";
+
+    /** FeedbackQueue Human 리뷰 인박스 롱폴링 경로 */
+    public static final String HUMAN_REVIEW_INBOX = BASE + "/human-review/inbox";
+
     /** FeedbackQueue 단일 조회/수정 경로 */
     public static final String BY_ID = BASE + "/{feedbackQueueId}";
 
@@ -62,10 +71,19 @@ public final class FeedbackQueueApiEndpoints {
     /** FeedbackQueue 머지 경로 */
     public static final String MERGE = BY_ID + "/merge";
 
+    /** FeedbackQueue 일괄 머지 경로 */
+    public static final String MERGE_BATCH = BASE + "/merge-batch";
+
     // ============================================
     // Relative Paths (for @GetMapping, @PatchMapping, etc.)
     // ============================================
 
+    /** 통계 경로 (상대경로) */
+    public static final String STATS_PATH = "/stats";
+
+    /** Human 리뷰 인박스 롱폴링 경로 (상대경로) */
+    public static final String HUMAN_REVIEW_INBOX_PATH = "/human-review/inbox";
+
     /** ID 경로 (상대경로) */
     public static final String ID = "/{feedbackQueueId}";
 
@@ -84,6 +102,9 @@ public final class FeedbackQueueApiEndpoints {
     /** 머지 경로 (상대경로) */
     public static final String ID_MERGE = "/{feedbackQueueId}/merge";
 
+    /** 일괄 머지 경로 (상대경로) */
+    public static final String MERGE_BATCH_PATH = "/merge-batch";
+
     // ============================================
     // Path Variable Names
     // ============================================
@@ -3,16 +3,21 @@ package com.ryuqq.adapter.in.rest.feedbackqueue.controller.command;
 import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.FeedbackQueueApiEndpoints;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.CreateFeedbackApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.MergeFeedbackBatchApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.RejectFeedbackApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackMergeBatchApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueIdApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.mapper.FeedbackQueueCommandApiMapper;
 import com.ryuqq.adapter.in.rest.feedbackqueue.mapper.FeedbackQueueQueryApiMapper;
 import com.ryuqq.application.feedbackqueue.dto.command.CreateFeedbackCommand;
+import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackBatchCommand;
 import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.dto.command.ProcessFeedbackCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.port.in.CreateFeedbackUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackBatchUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.ProcessFeedbackUseCase;
 import io.swagger.v3.oas.annotations.Operation;
@@ -59,6 +64,7 @@ public class FeedbackQueueCommandController {
     private final CreateFeedbackUseCase createFeedbackUseCase;
     private final ProcessFeedbackUseCase processFeedbackUseCase;
     private final MergeFeedbackUseCase mergeFeedbackUseCase;
+    private final MergeFeedbackBatchUseCase mergeFeedbackBatchUseCase;
     private final FeedbackQueueCommandApiMapper commandMapper;
     private final FeedbackQueueQueryApiMapper queryMapper;
 
@@ -68,6 +74,7 @@ public class FeedbackQueueCommandController {
      * @param createFeedbackUseCase 피드백 생성 UseCase
      * @param processFeedbackUseCase 피드백 처리 통합 UseCase (승인/거절)
      * @param mergeFeedbackUseCase 머지 UseCase
+     * @param mergeFeedbackBatchUseCase 일괄 머지 UseCase
      * @param commandMapper Command API 매퍼
      * @param queryMapper Query API 매퍼
      */
@@ -75,11 +82,13 @@ public class FeedbackQueueCommandController {
             CreateFeedbackUseCase createFeedbackUseCase,
             ProcessFeedbackUseCase processFeedbackUseCase,
             MergeFeedbackUseCase mergeFeedbackUseCase,
+            MergeFeedbackBatchUseCase mergeFeedbackBatchUseCase,
             FeedbackQueueCommandApiMapper commandMapper,
             FeedbackQueueQueryApiMapper queryMapper) {
         this.createFeedbackUseCase = createFeedbackUseCase;
         this.processFeedbackUseCase = processFeedbackUseCase;
         this.mergeFeedbackUseCase = mergeFeedbackUseCase;
+        this.mergeFeedbackBatchUseCase = mergeFeedbackBatchUseCase;
         this.commandMapper = commandMapper;
         this.queryMapper = queryMapper;
     }
@@ -285,4 +294,40 @@ public class FeedbackQueueCommandController {
         FeedbackQueueApiResponse response = queryMapper.toResponse(result);
         return ResponseEntity.ok(ApiResponse.of(response));
     }
+
+    /**
+     * 피드백 일괄 머지 API
+     *
+     * <p>승인된 피드백 여러 건을 대상 테이블에 반영합니다. 동일 대상을 수정하는 MODIFY 피드백은 생성 순서대로 병합되어 대상 엔티티를 한 번만 저장합니다.
+     *
+     * @param request 일괄 머지 요청 DTO
+     * @return 피드백별 머지 결과
+     */
+    @Operation(
+            summary = "피드백 일괄 머지",
+            description = "승인된 피드백 여러 건을 반영합니다. 동일 대상 MODIFY 피드백은 병합되어 한 번만 저장됩니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "일괄 머지 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "FeedbackQueue를 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "409",
+                description = "유효하지 않은 상태 전이")
+    })
+    @PostMapping(FeedbackQueueApiEndpoints.MERGE_BATCH_PATH)
+    public ResponseEntity<ApiResponse<FeedbackMergeBatchApiResponse>> mergeBatch(
+            @Valid @RequestBody MergeFeedbackBatchApiRequest request) {
+
+        MergeFeedbackBatchCommand command = commandMapper.toMergeBatchCommand(request);
+        FeedbackMergeBatchResult result = mergeFeedbackBatchUseCase.execute(command);
+
+        FeedbackMergeBatchApiResponse response = queryMapper.toMergeBatchResponse(result);
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
 }
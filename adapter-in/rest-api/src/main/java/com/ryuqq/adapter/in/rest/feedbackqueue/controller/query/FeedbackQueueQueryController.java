@@ -3,20 +3,31 @@ package com.ryuqq.adapter.in.rest.feedbackqueue.controller.query;
 import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.FeedbackQueueApiEndpoints;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.GetFeedbackQueueStatsApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.SearchFeedbacksCursorApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.WaitHumanReviewInboxApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueStatsApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.HumanReviewInboxApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.mapper.FeedbackQueueQueryApiMapper;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.port.in.GetFeedbackQueueStatsUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.SearchFeedbacksByCursorUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.WaitForHumanReviewUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * FeedbackQueueQueryController - FeedbackQueue 조회 API
@@ -45,19 +56,30 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping(FeedbackQueueApiEndpoints.BASE)
 public class FeedbackQueueQueryController {
 
+    /** 롱폴링 대기 시간 이후 DeferredResult 자체 타임아웃까지의 여유 */
+    private static final Duration DEFERRED_TIMEOUT_GRACE = Duration.ofSeconds(5);
+
     private final SearchFeedbacksByCursorUseCase searchFeedbacksByCursorUseCase;
+    private final GetFeedbackQueueStatsUseCase getFeedbackQueueStatsUseCase;
+    private final WaitForHumanReviewUseCase waitForHumanReviewUseCase;
     private final FeedbackQueueQueryApiMapper mapper;
 
     /**
      * FeedbackQueueQueryController 생성자
      *
      * @param searchFeedbacksByCursorUseCase 복합 조건 조회 UseCase
+     * @param getFeedbackQueueStatsUseCase 통계 조회 UseCase
+     * @param waitForHumanReviewUseCase Human 리뷰 인박스 롱폴링 UseCase
      * @param mapper Query API 매퍼
      */
     public FeedbackQueueQueryController(
             SearchFeedbacksByCursorUseCase searchFeedbacksByCursorUseCase,
+            GetFeedbackQueueStatsUseCase getFeedbackQueueStatsUseCase,
+            WaitForHumanReviewUseCase waitForHumanReviewUseCase,
             FeedbackQueueQueryApiMapper mapper) {
         this.searchFeedbacksByCursorUseCase = searchFeedbacksByCursorUseCase;
+        this.getFeedbackQueueStatsUseCase = getFeedbackQueueStatsUseCase;
+        this.waitForHumanReviewUseCase = waitForHumanReviewUseCase;
         this.mapper = mapper;
     }
 
@@ -87,4 +109,80 @@ public class FeedbackQueueQueryController {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * FeedbackQueue 통계 조회
+     *
+     * <p>상태/리스크/대상 타입별 건수와 처리 중 상태별 대기 시간 백분위를 조회합니다.
+     *
+     * @param request 통계 조회 요청 DTO
+     * @return 피드백 큐 통계
+     */
+    @Operation(
+            summary = "피드백 큐 통계 조회",
+            description = "상태/리스크/대상 타입별 건수와 처리 중 상태별 대기 시간 백분위를 조회합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공")
+    })
+    @GetMapping(FeedbackQueueApiEndpoints.STATS_PATH)
+    public ResponseEntity<ApiResponse<FeedbackQueueStatsApiResponse>> getStats(
+            @Valid GetFeedbackQueueStatsApiRequest request) {
+
+        FeedbackQueueStatsResult result =
+                getFeedbackQueueStatsUseCase.execute(mapper.toStatsQuery(request));
+        FeedbackQueueStatsApiResponse response = mapper.toStatsResponse(result);
+
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * Human 리뷰 인박스 롱폴링
+     *
+     * <p>cursor가 현재 인박스 커서와 같으면 새 Human 승인 대기 피드백이 생길 때까지(최대 waitSeconds) 응답을 보류합니다. 대기 중에는 {@link
+     * DeferredResult}로 요청 스레드를 반환하므로 Tomcat 스레드를 점유하지 않습니다.
+     *
+     * @param request 롱폴링 요청 DTO
+     * @return 인박스 결과 (변경 시 Human 승인 대기 목록 포함)
+     */
+    @Operation(
+            summary = "Human 리뷰 인박스 롱폴링",
+            description =
+                    "새 MEDIUM 리스크 피드백이 LLM_APPROVED가 되면 즉시 응답합니다. 대기 시간 내 변경이 없으면 changed=false로"
+                            + " 응답합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "조회 성공")
+    })
+    @GetMapping(FeedbackQueueApiEndpoints.HUMAN_REVIEW_INBOX_PATH)
+    public DeferredResult<ResponseEntity<ApiResponse<HumanReviewInboxApiResponse>>>
+            waitHumanReviewInbox(@Valid WaitHumanReviewInboxApiRequest request) {
+
+        WaitForHumanReviewQuery query = mapper.toInboxQuery(request);
+        DeferredResult<ResponseEntity<ApiResponse<HumanReviewInboxApiResponse>>> deferredResult =
+                new DeferredResult<>(query.waitTimeout().plus(DEFERRED_TIMEOUT_GRACE).toMillis());
+
+        waitForHumanReviewUseCase
+                .execute(query)
+                .whenComplete(
+                        (result, error) -> {
+                            if (error != null) {
+                                deferredResult.setErrorResult(unwrap(error));
+                                return;
+                            }
+                            HumanReviewInboxApiResponse response = mapper.toInboxResponse(result);
+                            deferredResult.setResult(
+                                    ResponseEntity.ok(ApiResponse.success(response)));
+                        });
+
+        return deferredResult;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+    }
 }
@@ -0,0 +1,35 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * GetFeedbackQueueStatsApiRequest - FeedbackQueue 통계 조회 API Request
+ *
+ * <p>DTO-001: API Request DTO는 Record로 정의.
+ *
+ * <p>DTO-015: Request DTO Compact Constructor 기본값 설정 금지 -> Mapper에서 처리.
+ *
+ * @param percentiles 대기 시간 백분위 목록 (0 초과 1 이하, 미지정 시 0.5/0.9/0.99)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "FeedbackQueue 통계 조회 요청")
+public record GetFeedbackQueueStatsApiRequest(
+        @Parameter(description = "대기 시간 백분위 (복수 선택 가능)", example = "0.5,0.9,0.99")
+                @Schema(description = "대기 시간 백분위 목록 (0 초과 1 이하)", nullable = true)
+                @Size(max = 10, message = "백분위는 10개 이하로 지정해야 합니다")
+                List<
+                                @NotNull
+                                @DecimalMin(
+                                        value = "0.0",
+                                        inclusive = false,
+                                        message = "백분위는 0보다 커야 합니다")
+                                @DecimalMax(value = "1.0", message = "백분위는 1 이하여야 합니다")
+                                Double>
+                        percentiles) {}
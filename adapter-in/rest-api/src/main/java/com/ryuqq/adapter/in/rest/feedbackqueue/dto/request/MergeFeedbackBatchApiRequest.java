@@ -0,0 +1,25 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * MergeFeedbackBatchApiRequest - FeedbackQueue 일괄 머지 API Request
+ *
+ * <p>DTO-001: API Request DTO는 Record로 정의.
+ *
+ * <p>DTO-003: *ApiRequest 네이밍.
+ *
+ * @param feedbackQueueIds 머지할 FeedbackQueue ID 목록 (1~500건)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "FeedbackQueue 일괄 머지 요청 DTO")
+public record MergeFeedbackBatchApiRequest(
+        @Schema(description = "머지할 FeedbackQueue ID 목록", example = "[1, 2, 3]")
+                @NotEmpty(message = "feedbackQueueIds는 필수입니다")
+                @Size(max = 500, message = "feedbackQueueIds는 500건 이하여야 합니다")
+                List<@NotNull Long> feedbackQueueIds) {}
@@ -4,6 +4,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import java.util.List;
 
 /**
@@ -11,6 +12,8 @@ import java.util.List;
  *
  * <p>FeedbackQueue 목록을 커서 기반으로 조회합니다. 상태/대상 타입/피드백 타입/리스크/액션 필터(복수)를 지원합니다.
  *
+ * <p>conventionId/codingRuleId/structureId는 payload JSON 내부 값으로 필터링합니다.
+ *
  * <p>DTO-001: API Request DTO는 Record로 정의.
  *
  * <p>CUR-001: 커서 기반 조회 패턴 권장.
@@ -24,6 +27,10 @@ import java.util.List;
  * @param feedbackTypes 피드백 타입 필터 (복수 선택 가능)
  * @param riskLevels 리스크 레벨 필터 (복수 선택 가능)
  * @param actions 처리 액션 필터 (복수 선택 가능)
+ * @param includeArchived 보관된 피드백 포함 여부 (기본값: false)
+ * @param conventionId 페이로드 컨벤션 ID 필터
+ * @param codingRuleId 페이로드 코딩 규칙 ID 필터 (ruleId 포함)
+ * @param structureId 페이로드 패키지 구조 ID 필터
  * @author ryu-qqq
  * @since 1.0.0
  */
@@ -51,4 +58,19 @@ public record SearchFeedbacksCursorApiRequest(
                 List<String> riskLevels,
         @Parameter(description = "처리 액션 필터 (복수 선택 가능)", example = "LLM_APPROVE,HUMAN_REJECT")
                 @Schema(description = "처리 액션 필터 목록", nullable = true)
-                List<String> actions) {}
+                List<String> actions,
+        @Parameter(description = "보관된 피드백 포함 여부", example = "false")
+                @Schema(description = "보관된 피드백 포함 여부 (기본값: false)", nullable = true)
+                Boolean includeArchived,
+        @Parameter(description = "페이로드 컨벤션 ID 필터", example = "1")
+                @Schema(description = "payload.conventionId 필터", nullable = true)
+                @Positive(message = "conventionId는 양수여야 합니다")
+                Long conventionId,
+        @Parameter(description = "페이로드 코딩 규칙 ID 필터", example = "1")
+                @Schema(description = "payload.codingRuleId (또는 ruleId) 필터", nullable = true)
+                @Positive(message = "codingRuleId는 양수여야 합니다")
+                Long codingRuleId,
+        @Parameter(description = "페이로드 패키지 구조 ID 필터", example = "1")
+                @Schema(description = "payload.structureId 필터", nullable = true)
+                @Positive(message = "structureId는 양수여야 합니다")
+                Long structureId) {}
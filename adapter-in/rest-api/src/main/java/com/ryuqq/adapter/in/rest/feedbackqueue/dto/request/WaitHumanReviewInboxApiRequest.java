@@ -0,0 +1,36 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.request;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+/**
+ * WaitHumanReviewInboxApiRequest - Human 리뷰 인박스 롱폴링 API Request
+ *
+ * <p>DTO-001: API Request DTO는 Record로 정의.
+ *
+ * <p>DTO-015: Request DTO Compact Constructor 기본값 설정 금지 -> Mapper에서 처리.
+ *
+ * @param cursor 마지막으로 받은 인박스 커서 (null이면 대기 없이 즉시 반환)
+ * @param size 인박스 조회 크기 (기본값: 20, 최대: 100)
+ * @param waitSeconds 최대 대기 시간 초 (기본값: 25, 최대: 55)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "Human 리뷰 인박스 롱폴링 요청")
+public record WaitHumanReviewInboxApiRequest(
+        @Parameter(description = "마지막으로 받은 인박스 커서", example = "3")
+                @Schema(description = "인박스 커서 (null이면 즉시 반환)", nullable = true)
+                @Min(value = 0, message = "커서는 0 이상이어야 합니다")
+                Long cursor,
+        @Parameter(description = "인박스 조회 크기", example = "20")
+                @Schema(description = "인박스 조회 크기", minimum = "1", maximum = "100")
+                @Min(value = 1, message = "조회 크기는 1 이상이어야 합니다")
+                @Max(value = 100, message = "조회 크기는 100 이하여야 합니다")
+                Integer size,
+        @Parameter(description = "최대 대기 시간 (초)", example = "25")
+                @Schema(description = "최대 대기 시간 (초)", minimum = "1", maximum = "55")
+                @Min(value = 1, message = "대기 시간은 1초 이상이어야 합니다")
+                @Max(value = 55, message = "대기 시간은 55초 이하여야 합니다")
+                Integer waitSeconds) {}
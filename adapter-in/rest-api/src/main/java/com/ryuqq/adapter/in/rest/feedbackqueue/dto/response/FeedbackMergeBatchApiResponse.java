@@ -0,0 +1,38 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * FeedbackMergeBatchApiResponse - FeedbackQueue 일괄 머지 API Response
+ *
+ * <p>DTO-001: API Response DTO는 Record로 정의.
+ *
+ * <p>DTO-004: *ApiResponse 네이밍.
+ *
+ * @param mergedCount 머지된 피드백 수
+ * @param groupCount 대상 엔티티 기준 머지 그룹 수
+ * @param items 피드백별 머지 결과
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "FeedbackQueue 일괄 머지 응답 DTO")
+public record FeedbackMergeBatchApiResponse(
+        @Schema(description = "머지된 피드백 수", example = "3") int mergedCount,
+        @Schema(description = "대상 엔티티 기준 머지 그룹 수", example = "2") int groupCount,
+        @Schema(description = "피드백별 머지 결과") List<Item> items) {
+
+    /**
+     * 피드백별 머지 결과
+     *
+     * @param feedback 머지된 피드백 정보
+     * @param mergedTargetId 반영된 대상 엔티티 ID
+     * @param groupSize 함께 병합된 피드백 수
+     */
+    @Schema(description = "피드백별 머지 결과")
+    public record Item(
+            @Schema(description = "머지된 피드백") FeedbackQueueApiResponse feedback,
+            @Schema(description = "반영된 대상 엔티티 ID", example = "100", nullable = true)
+                    Long mergedTargetId,
+            @Schema(description = "함께 병합된 피드백 수", example = "2") int groupSize) {}
+}
@@ -0,0 +1,61 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FeedbackQueueStatsApiResponse - FeedbackQueue 통계 API Response
+ *
+ * <p>DTO-001: API Response DTO는 Record로 정의.
+ *
+ * <p>DTO-004: *ApiResponse 네이밍.
+ *
+ * <p>DTO-016: Response DTO는 String 타입으로 날짜/시간 표현.
+ *
+ * @param total 활성 피드백 전체 건수
+ * @param byStatus 상태별 건수
+ * @param byRiskLevel 리스크 레벨별 건수
+ * @param byTargetType 대상 타입별 건수
+ * @param ages 처리 중 상태별 대기 시간 통계
+ * @param generatedAt 집계 일시 (ISO 8601 형식)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "FeedbackQueue 통계 응답 DTO")
+public record FeedbackQueueStatsApiResponse(
+        @Schema(description = "활성 피드백 전체 건수", example = "42") long total,
+        @Schema(description = "상태별 건수") Map<String, Long> byStatus,
+        @Schema(description = "리스크 레벨별 건수") Map<String, Long> byRiskLevel,
+        @Schema(description = "대상 타입별 건수") Map<String, Long> byTargetType,
+        @Schema(description = "처리 중 상태별 대기 시간 통계") List<StatusAge> ages,
+        @Schema(description = "집계 일시 (ISO 8601 형식)", example = "2025-01-23T10:30:00")
+                String generatedAt) {
+
+    /**
+     * 상태별 대기 시간 통계
+     *
+     * @param status 처리 상태
+     * @param count 상태별 건수
+     * @param maxAgeSeconds 최대 대기 시간 (초)
+     * @param percentiles 백분위별 대기 시간
+     */
+    @Schema(description = "상태별 대기 시간 통계")
+    public record StatusAge(
+            @Schema(description = "처리 상태", example = "PENDING") String status,
+            @Schema(description = "상태별 건수", example = "12") long count,
+            @Schema(description = "최대 대기 시간 (초)", example = "86400", nullable = true)
+                    Long maxAgeSeconds,
+            @Schema(description = "백분위별 대기 시간") List<Percentile> percentiles) {}
+
+    /**
+     * 백분위 대기 시간
+     *
+     * @param percentile 백분위
+     * @param ageSeconds 대기 시간 (초)
+     */
+    @Schema(description = "백분위 대기 시간")
+    public record Percentile(
+            @Schema(description = "백분위", example = "0.9") double percentile,
+            @Schema(description = "대기 시간 (초)", example = "3600") long ageSeconds) {}
+}
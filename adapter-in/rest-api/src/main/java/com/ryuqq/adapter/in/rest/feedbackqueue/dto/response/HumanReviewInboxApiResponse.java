@@ -0,0 +1,24 @@
+package com.ryuqq.adapter.in.rest.feedbackqueue.dto.response;
+
+import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * HumanReviewInboxApiResponse - Human 리뷰 인박스 롱폴링 API Response
+ *
+ * <p>DTO-001: API Response DTO는 Record로 정의.
+ *
+ * <p>DTO-004: *ApiResponse 네이밍.
+ *
+ * @param cursor 다음 요청에 전달할 인박스 커서
+ * @param changed 인박스 변경 여부 (false면 대기 시간 내 새 항목 없음, feedbacks 비어 있음)
+ * @param feedbacks Human 승인 대기 피드백 목록
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "Human 리뷰 인박스 롱폴링 응답 DTO")
+public record HumanReviewInboxApiResponse(
+        @Schema(description = "다음 요청에 전달할 인박스 커서", example = "4") String cursor,
+        @Schema(description = "인박스 변경 여부", example = "true") boolean changed,
+        @Schema(description = "Human 승인 대기 피드백 목록")
+                SliceApiResponse<FeedbackQueueApiResponse> feedbacks) {}
@@ -2,6 +2,7 @@ package com.ryuqq.adapter.in.rest.feedbackqueue.error;
 
 import com.ryuqq.adapter.in.rest.common.mapper.ErrorMapper;
 import com.ryuqq.domain.common.exception.DomainException;
+import com.ryuqq.domain.feedbackqueue.exception.FeedbackMergeLockTimeoutException;
 import com.ryuqq.domain.feedbackqueue.exception.FeedbackQueueNotFoundException;
 import com.ryuqq.domain.feedbackqueue.exception.InvalidFeedbackStatusTransitionException;
 import java.net.URI;
@@ -33,7 +34,8 @@ public class FeedbackQueueErrorMapper implements ErrorMapper {
     @Override
     public boolean supports(DomainException ex) {
         return ex instanceof FeedbackQueueNotFoundException
-                || ex instanceof InvalidFeedbackStatusTransitionException;
+                || ex instanceof InvalidFeedbackStatusTransitionException
+                || ex instanceof FeedbackMergeLockTimeoutException;
     }
 
     /**
@@ -60,6 +62,13 @@ public class FeedbackQueueErrorMapper implements ErrorMapper {
                             e.getMessage(),
                             URI.create(ERROR_TYPE_BASE + "/invalid-status-transition"));
 
+            case FeedbackMergeLockTimeoutException e ->
+                    new MappedError(
+                            HttpStatus.CONFLICT,
+                            "Merge Target Locked",
+                            e.getMessage(),
+                            URI.create(ERROR_TYPE_BASE + "/merge-target-locked"));
+
             default ->
                     new MappedError(
                             HttpStatus.BAD_REQUEST,
@@ -1,8 +1,10 @@
 package com.ryuqq.adapter.in.rest.feedbackqueue.mapper;
 
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.CreateFeedbackApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.MergeFeedbackBatchApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.RejectFeedbackApiRequest;
 import com.ryuqq.application.feedbackqueue.dto.command.CreateFeedbackCommand;
+import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackBatchCommand;
 import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.dto.command.ProcessFeedbackCommand;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackAction;
@@ -98,4 +100,14 @@ public class FeedbackQueueCommandApiMapper {
     public MergeFeedbackCommand toMergeCommand(Long feedbackQueueId) {
         return new MergeFeedbackCommand(feedbackQueueId);
     }
+
+    /**
+     * MergeFeedbackBatchApiRequest -> MergeFeedbackBatchCommand 변환
+     *
+     * @param request API 요청 DTO
+     * @return Application Command DTO
+     */
+    public MergeFeedbackBatchCommand toMergeBatchCommand(MergeFeedbackBatchApiRequest request) {
+        return new MergeFeedbackBatchCommand(request.feedbackQueueIds());
+    }
 }
@@ -2,12 +2,24 @@ package com.ryuqq.adapter.in.rest.feedbackqueue.mapper;
 
 import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.adapter.in.rest.common.util.DateTimeFormatUtils;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.GetFeedbackQueueStatsApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.SearchFeedbacksCursorApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.WaitHumanReviewInboxApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackMergeBatchApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueStatsApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.HumanReviewInboxApiResponse;
 import com.ryuqq.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatusAgeResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import java.time.Duration;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -35,6 +47,7 @@ import org.springframework.stereotype.Component;
 public class FeedbackQueueQueryApiMapper {
 
     private static final int DEFAULT_SIZE = 20;
+    private static final int DEFAULT_WAIT_SECONDS = 25;
 
     /**
      * SearchFeedbacksCursorApiRequest -> FeedbackQueueSearchParams 변환
@@ -55,7 +68,11 @@ public class FeedbackQueueQueryApiMapper {
                 request.targetTypes(),
                 request.feedbackTypes(),
                 request.riskLevels(),
-                request.actions());
+                request.actions(),
+                request.includeArchived(),
+                request.conventionId(),
+                request.codingRuleId(),
+                request.structureId());
     }
 
     /**
@@ -109,4 +126,95 @@ public class FeedbackQueueQueryApiMapper {
         return SliceApiResponse.of(
                 responses, sliceResult.size(), sliceResult.hasNext(), nextCursor);
     }
+
+    /**
+     * FeedbackMergeBatchResult -> FeedbackMergeBatchApiResponse 변환
+     *
+     * @param result 일괄 머지 결과
+     * @return API 응답 DTO
+     */
+    public FeedbackMergeBatchApiResponse toMergeBatchResponse(FeedbackMergeBatchResult result) {
+        List<FeedbackMergeBatchApiResponse.Item> items =
+                result.items().stream()
+                        .map(
+                                item ->
+                                        new FeedbackMergeBatchApiResponse.Item(
+                                                toResponse(item.feedback()),
+                                                item.mergedTargetId(),
+                                                item.groupSize()))
+                        .toList();
+        return new FeedbackMergeBatchApiResponse(
+                result.mergedCount(), result.groupCount(), items);
+    }
+
+    /**
+     * GetFeedbackQueueStatsApiRequest -> GetFeedbackQueueStatsQuery 변환
+     *
+     * <p>DTO-015: 백분위 미지정 시 기본값은 Query에서 적용.
+     *
+     * @param request 통계 조회 요청 DTO
+     * @return GetFeedbackQueueStatsQuery
+     */
+    public GetFeedbackQueueStatsQuery toStatsQuery(GetFeedbackQueueStatsApiRequest request) {
+        return GetFeedbackQueueStatsQuery.of(request.percentiles());
+    }
+
+    /**
+     * WaitHumanReviewInboxApiRequest -> WaitForHumanReviewQuery 변환
+     *
+     * <p>DTO-015: size/waitSeconds 미지정 시 기본값 적용.
+     *
+     * @param request 롱폴링 요청 DTO
+     * @return WaitForHumanReviewQuery
+     */
+    public WaitForHumanReviewQuery toInboxQuery(WaitHumanReviewInboxApiRequest request) {
+        int size = request.size() != null && request.size() > 0 ? request.size() : DEFAULT_SIZE;
+        int waitSeconds =
+                request.waitSeconds() != null && request.waitSeconds() > 0
+                        ? request.waitSeconds()
+                        : DEFAULT_WAIT_SECONDS;
+        return WaitForHumanReviewQuery.of(request.cursor(), size, Duration.ofSeconds(waitSeconds));
+    }
+
+    /**
+     * HumanReviewInboxResult -> HumanReviewInboxApiResponse 변환
+     *
+     * @param result 롱폴링 결과
+     * @return API 응답 DTO
+     */
+    public HumanReviewInboxApiResponse toInboxResponse(HumanReviewInboxResult result) {
+        return new HumanReviewInboxApiResponse(
+                String.valueOf(result.cursor()),
+                result.changed(),
+                toSliceResponse(result.feedbacks()));
+    }
+
+    /**
+     * FeedbackQueueStatsResult -> FeedbackQueueStatsApiResponse 변환
+     *
+     * @param result 통계 결과
+     * @return API 응답 DTO
+     */
+    public FeedbackQueueStatsApiResponse toStatsResponse(FeedbackQueueStatsResult result) {
+        return new FeedbackQueueStatsApiResponse(
+                result.total(),
+                result.byStatus(),
+                result.byRiskLevel(),
+                result.byTargetType(),
+                result.ages().stream().map(this::toStatusAgeResponse).toList(),
+                DateTimeFormatUtils.formatIso8601(result.generatedAt()));
+    }
+
+    private FeedbackQueueStatsApiResponse.StatusAge toStatusAgeResponse(
+            FeedbackQueueStatusAgeResult age) {
+        List<FeedbackQueueStatsApiResponse.Percentile> percentiles =
+                age.percentiles().stream()
+                        .map(
+                                percentile ->
+                                        new FeedbackQueueStatsApiResponse.Percentile(
+                                                percentile.percentile(), percentile.ageSeconds()))
+                        .toList();
+        return new FeedbackQueueStatsApiResponse.StatusAge(
+                age.status(), age.count(), age.maxAgeSeconds(), percentiles);
+    }
 }
@@ -13,6 +13,8 @@ import com.ryuqq.adapter.in.rest.common.ApiPaths;
  * /api/v1/templates/mcp
  *   ├── GET /planning-context      # Planning Phase - 계획 컨텍스트 조회
  *   ├── GET /module/{moduleId}/context  # Execution Phase - Module 컨텍스트 조회
+ *   ├── POST /module/{moduleId}/scaffold  # Execution Phase - Module 파일 트리 ZIP 스트리밍
+ *   ├── POST /resolve-paths        # Execution Phase - 파일 경로 → Module/PackageStructure 해석
  *   └── GET /validation-context    # Validation Phase - 검증 컨텍스트 조회
  * }</pre>
  *
@@ -52,6 +54,36 @@ public final class McpApiEndpoints {
     /** Module Context 조회 전체 경로 */
     public static final String MODULE_CONTEXT_FULL = BASE + MODULE_CONTEXT;
 
+    /** Module 스캐폴드 ZIP 다운로드 경로 (상대경로) */
+    public static final String MODULE_SCAFFOLD = "/module/{moduleId}/scaffold";
+
+    /** Module 스캐폴드 ZIP 다운로드 전체 경로 */
+    public static final String MODULE_SCAFFOLD_FULL = BASE + MODULE_SCAFFOLD;
+
+    /** 파일 경로 해석 경로 (상대경로) */
+    public static final String RESOLVE_PATHS = "/resolve-paths";
+
+    /** 파일 경로 해석 전체 경로 */
+    public static final String RESOLVE_PATHS_FULL = BASE + RESOLVE_PATHS;
+
+    /** 클래스명 일괄 분류 경로 (상대경로) */
+    public static final String CLASSIFY_CLASS_NAMES = "/classify-class-names";
+
+    /** 클래스명 일괄 분류 전체 경로 */
+    public static final String CLASSIFY_CLASS_NAMES_FULL = BASE + CLASSIFY_CLASS_NAMES;
+
+    /** import 간선 레이어 의존성 검사 경로 (상대경로) */
+    public static final String VALIDATE_IMPORTS = "/validate-imports";
+
+    /** import 간선 레이어 의존성 검사 전체 경로 */
+    public static final String VALIDATE_IMPORTS_FULL = BASE + VALIDATE_IMPORTS;
+
+    /** 템플릿 일괄 렌더링 경로 (상대경로) */
+    public static final String RENDER_TEMPLATES = "/render-templates";
+
+    /** 템플릿 일괄 렌더링 전체 경로 */
+    public static final String RENDER_TEMPLATES_FULL = BASE + RENDER_TEMPLATES;
+
     // ============================================
     // Validation Phase Endpoints
     // ============================================
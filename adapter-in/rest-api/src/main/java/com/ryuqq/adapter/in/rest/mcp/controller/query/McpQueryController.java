@@ -2,43 +2,74 @@ package com.ryuqq.adapter.in.rest.mcp.controller.query;
 
 import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.McpApiEndpoints;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ClassifyClassNamesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.GetConfigFilesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.GetOnboardingApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.ModuleContextApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.PlanningContextApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.RenderTemplatesApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ResolvePathsApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ScaffoldModuleApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidateImportEdgesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidationContextApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassifyClassNamesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConfigFilesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ModuleContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.OnboardingContextsApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PlanningContextApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.RenderTemplatesApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ResolvePathsApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidateImportEdgesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidationContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.mapper.McpQueryApiMapper;
+import com.ryuqq.adapter.in.rest.mcp.stream.ModuleScaffoldZipWriter;
+import com.ryuqq.application.mcp.dto.query.ClassifyClassNamesQuery;
 import com.ryuqq.application.mcp.dto.query.GetConfigFilesQuery;
 import com.ryuqq.application.mcp.dto.query.GetOnboardingQuery;
 import com.ryuqq.application.mcp.dto.query.ModuleContextQuery;
 import com.ryuqq.application.mcp.dto.query.PlanningContextQuery;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery;
+import com.ryuqq.application.mcp.dto.query.ResolvePathsQuery;
+import com.ryuqq.application.mcp.dto.query.ScaffoldModuleQuery;
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery;
 import com.ryuqq.application.mcp.dto.query.ValidationContextQuery;
+import com.ryuqq.application.mcp.dto.response.ClassifyClassNamesResult;
 import com.ryuqq.application.mcp.dto.response.ConfigFilesResult;
 import com.ryuqq.application.mcp.dto.response.ModuleContextResult;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
 import com.ryuqq.application.mcp.dto.response.OnboardingContextsResult;
 import com.ryuqq.application.mcp.dto.response.PlanningContextResult;
+import com.ryuqq.application.mcp.dto.response.RenderTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.ResolvePathsResult;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
 import com.ryuqq.application.mcp.dto.response.ValidationContextResult;
+import com.ryuqq.application.mcp.port.in.ClassifyClassNamesUseCase;
 import com.ryuqq.application.mcp.port.in.GetConfigFilesForMcpUseCase;
 import com.ryuqq.application.mcp.port.in.GetModuleContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetOnboardingForMcpUseCase;
 import com.ryuqq.application.mcp.port.in.GetPlanningContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetValidationContextUseCase;
+import com.ryuqq.application.mcp.port.in.RenderTemplatesUseCase;
+import com.ryuqq.application.mcp.port.in.ResolvePathsUseCase;
+import com.ryuqq.application.mcp.port.in.ScaffoldModuleUseCase;
+import com.ryuqq.application.mcp.port.in.ValidateImportEdgesUseCase;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * McpQueryController - MCP Query API Controller
@@ -63,7 +94,13 @@ public class McpQueryController {
     private final GetValidationContextUseCase getValidationContextUseCase;
     private final GetConfigFilesForMcpUseCase getConfigFilesForMcpUseCase;
     private final GetOnboardingForMcpUseCase getOnboardingForMcpUseCase;
+    private final ResolvePathsUseCase resolvePathsUseCase;
+    private final ClassifyClassNamesUseCase classifyClassNamesUseCase;
+    private final ValidateImportEdgesUseCase validateImportEdgesUseCase;
+    private final RenderTemplatesUseCase renderTemplatesUseCase;
+    private final ScaffoldModuleUseCase scaffoldModuleUseCase;
     private final McpQueryApiMapper mapper;
+    private final ModuleScaffoldZipWriter moduleScaffoldZipWriter;
 
     /**
      * McpQueryController 생성자
@@ -73,7 +110,13 @@ public class McpQueryController {
      * @param getValidationContextUseCase Validation Context 조회 UseCase
      * @param getConfigFilesForMcpUseCase Config Files 조회 UseCase
      * @param getOnboardingForMcpUseCase Onboarding Context 조회 UseCase
+     * @param resolvePathsUseCase 파일 경로 해석 UseCase
+     * @param classifyClassNamesUseCase 클래스명 일괄 분류 UseCase
+     * @param validateImportEdgesUseCase import 간선 레이어 의존성 검사 UseCase
+     * @param renderTemplatesUseCase 템플릿 일괄 렌더링 UseCase
+     * @param scaffoldModuleUseCase 모듈 스캐폴드 UseCase
      * @param mapper Query API 매퍼
+     * @param moduleScaffoldZipWriter 모듈 스캐폴드 ZIP 스트리밍
      */
     public McpQueryController(
             GetPlanningContextUseCase getPlanningContextUseCase,
@@ -81,13 +124,25 @@ public class McpQueryController {
             GetValidationContextUseCase getValidationContextUseCase,
             GetConfigFilesForMcpUseCase getConfigFilesForMcpUseCase,
             GetOnboardingForMcpUseCase getOnboardingForMcpUseCase,
-            McpQueryApiMapper mapper) {
+            ResolvePathsUseCase resolvePathsUseCase,
+            ClassifyClassNamesUseCase classifyClassNamesUseCase,
+            ValidateImportEdgesUseCase validateImportEdgesUseCase,
+            RenderTemplatesUseCase renderTemplatesUseCase,
+            ScaffoldModuleUseCase scaffoldModuleUseCase,
+            McpQueryApiMapper mapper,
+            ModuleScaffoldZipWriter moduleScaffoldZipWriter) {
         this.getPlanningContextUseCase = getPlanningContextUseCase;
         this.getModuleContextUseCase = getModuleContextUseCase;
         this.getValidationContextUseCase = getValidationContextUseCase;
         this.getConfigFilesForMcpUseCase = getConfigFilesForMcpUseCase;
         this.getOnboardingForMcpUseCase = getOnboardingForMcpUseCase;
+        this.resolvePathsUseCase = resolvePathsUseCase;
+        this.classifyClassNamesUseCase = classifyClassNamesUseCase;
+        this.validateImportEdgesUseCase = validateImportEdgesUseCase;
+        this.renderTemplatesUseCase = renderTemplatesUseCase;
+        this.scaffoldModuleUseCase = scaffoldModuleUseCase;
         this.mapper = mapper;
+        this.moduleScaffoldZipWriter = moduleScaffoldZipWriter;
     }
 
     /**
@@ -160,6 +215,213 @@ public class McpQueryController {
         return ResponseEntity.ok(ApiResponse.of(response));
     }
 
+    /**
+     * 파일 경로 해석 API
+     *
+     * <p>저장소 상대 파일 경로로 Module, PackageStructure, 클래스 타입을 찾습니다. moduleId를 모르는 상태에서 Module Context를
+     * 조회하기 전에 사용합니다. 경로 목록이 쿼리 스트링 길이 제한을 넘지 않도록 조회지만 POST + Request Body를 사용합니다.
+     *
+     * <p>CTR-001/CTR-007: Controller 비즈니스 로직 금지 → Mapper에서 변환 처리.
+     *
+     * <p>CTR-002: ResponseEntity<ApiResponse<T>> 래핑 필수.
+     *
+     * @param request 파일 경로 해석 요청
+     * @return 경로별 해석 결과
+     */
+    @Operation(
+            summary = "파일 경로 해석",
+            description =
+                    "파일 경로를 module_path / path_pattern / naming_pattern과 비교하여 moduleId,"
+                            + " structureId, 클래스 타입을 찾습니다. 일치하지 않는 항목은 null입니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "해석 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (architectureId, paths 필수)")
+    })
+    @PostMapping(McpApiEndpoints.RESOLVE_PATHS)
+    public ResponseEntity<ApiResponse<ResolvePathsApiResponse>> resolvePaths(
+            @Valid @RequestBody ResolvePathsApiRequest request) {
+
+        ResolvePathsQuery query = mapper.toQuery(request);
+        ResolvePathsResult result = resolvePathsUseCase.execute(query);
+        ResolvePathsApiResponse response = mapper.toResponse(result);
+
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
+
+    /**
+     * 클래스명 일괄 분류 API
+     *
+     * <p>완전한 클래스명을 ClassTemplate naming_pattern과 PackageStructure path_pattern으로 분류합니다. 수천 건을 한 번에
+     * 보낼 수 있도록 조회지만 POST + Request Body를 사용합니다.
+     *
+     * <p>CTR-001/CTR-007: Controller 비즈니스 로직 금지 → Mapper에서 변환 처리.
+     *
+     * <p>CTR-002: ResponseEntity<ApiResponse<T>> 래핑 필수.
+     *
+     * @param request 클래스명 분류 요청
+     * @return 클래스명별 분류 결과
+     */
+    @Operation(
+            summary = "클래스명 일괄 분류",
+            description =
+                    "완전한 클래스명을 naming_pattern / path_pattern과 비교하여 클래스 타입과 structureId를"
+                            + " 찾습니다. 일치하지 않는 항목은 null입니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "분류 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (architectureId, classNames 필수)")
+    })
+    @PostMapping(McpApiEndpoints.CLASSIFY_CLASS_NAMES)
+    public ResponseEntity<ApiResponse<ClassifyClassNamesApiResponse>> classifyClassNames(
+            @Valid @RequestBody ClassifyClassNamesApiRequest request) {
+
+        ClassifyClassNamesQuery query = mapper.toQuery(request);
+        ClassifyClassNamesResult result = classifyClassNamesUseCase.execute(query);
+        ClassifyClassNamesApiResponse response = mapper.toResponse(result);
+
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
+
+    /**
+     * import 간선 레이어 의존성 검사 API
+     *
+     * <p>(fromPackage, toPackage) 간선을 PackageStructure로 레이어에 대응시키고 LayerDependencyRule 위반을 찾습니다.
+     * 저장소 전체 import 그래프를 한 번에 보낼 수 있도록 POST + Request Body를 사용합니다.
+     *
+     * <p>CTR-001/CTR-007: Controller 비즈니스 로직 금지 → Mapper에서 변환 처리.
+     *
+     * <p>CTR-002: ResponseEntity<ApiResponse<T>> 래핑 필수.
+     *
+     * @param request import 간선 검사 요청
+     * @return 위반 간선과 검사 건수
+     */
+    @Operation(
+            summary = "import 간선 레이어 의존성 검사",
+            description =
+                    "import 간선의 양쪽 패키지를 레이어로 해석하여 FORBIDDEN 규칙 위반과 허용 규칙(추이적 포함)으로 도달할"
+                            + " 수 없는 의존을 찾습니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "검사 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (architectureId, edges 필수)")
+    })
+    @PostMapping(McpApiEndpoints.VALIDATE_IMPORTS)
+    public ResponseEntity<ApiResponse<ValidateImportEdgesApiResponse>> validateImports(
+            @Valid @RequestBody ValidateImportEdgesApiRequest request) {
+
+        ValidateImportEdgesQuery query = mapper.toQuery(request);
+        ValidateImportEdgesResult result = validateImportEdgesUseCase.execute(query);
+        ValidateImportEdgesApiResponse response = mapper.toResponse(result);
+
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
+
+    /**
+     * 템플릿 일괄 렌더링 API
+     *
+     * <p>ClassTemplate template_code({@code {Domain}}), ResourceTemplate template_content({@code
+     * {profile}}), ConfigFileTemplate content({@code {{project_name}}})를 요청한 변수로 치환합니다. 템플릿은 서버에서 한
+     * 번 컴파일해 두고 수정될 때만 다시 컴파일합니다.
+     *
+     * <p>여러 항목을 한 번에 보낼 수 있도록 POST + Request Body를 사용합니다.
+     *
+     * <p>CTR-001/CTR-007: Controller 비즈니스 로직 금지 → Mapper에서 변환 처리.
+     *
+     * <p>CTR-002: ResponseEntity<ApiResponse<T>> 래핑 필수.
+     *
+     * @param request 템플릿 렌더링 요청
+     * @return 렌더링 결과 (요청 순서)
+     */
+    @Operation(
+            summary = "템플릿 일괄 렌더링",
+            description =
+                    "ClassTemplate/ResourceTemplate/ConfigFileTemplate을 요청한 변수로 치환합니다."
+                            + " 값이 없는 자리표시자는 원문을 유지하고 missingVariables로 알려줍니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "렌더링 성공"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (items 필수, templateType은 CLASS/CONFIG_FILE/RESOURCE)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "템플릿을 찾을 수 없음")
+    })
+    @PostMapping(McpApiEndpoints.RENDER_TEMPLATES)
+    public ResponseEntity<ApiResponse<RenderTemplatesApiResponse>> renderTemplates(
+            @Valid @RequestBody RenderTemplatesApiRequest request) {
+
+        RenderTemplatesQuery query = mapper.toQuery(request);
+        RenderTemplatesResult result = renderTemplatesUseCase.execute(query);
+        RenderTemplatesApiResponse response = mapper.toResponse(result);
+
+        return ResponseEntity.ok(ApiResponse.of(response));
+    }
+
+    /**
+     * Module 스캐폴드 ZIP 다운로드 API
+     *
+     * <p>Module의 ResourceTemplate, 패키지 구조별 ClassTemplate, 선택한 도구의 ConfigFileTemplate을 렌더링해 저장소 루트
+     * 기준 파일 트리를 ZIP으로 내려줍니다. 파일은 렌더링되는 대로 응답에 쓰므로 아카이브를 메모리에 만들지 않습니다.
+     *
+     * <p>Module/템플릿 조회는 스트리밍 전에 끝나므로 404는 일반 오류 응답으로 반환됩니다.
+     *
+     * <p>CTR-001/CTR-007: Controller 비즈니스 로직 금지 → Mapper에서 변환 처리.
+     *
+     * <p>CTR-002 예외: 바이너리(application/zip) 스트리밍 응답이라 ApiResponse로 래핑하지 않습니다.
+     *
+     * @param moduleId 모듈 ID (Path Variable)
+     * @param request 모듈 스캐폴드 요청
+     * @return ZIP 스트리밍 응답
+     */
+    @Operation(
+            summary = "Module 스캐폴드 ZIP 다운로드",
+            description =
+                    "Module의 리소스/클래스/설정 파일 템플릿을 렌더링한 파일 트리를 ZIP으로 스트리밍합니다."
+                            + " 경로를 만들 수 없는 템플릿(값이 없는 변수, 와일드카드 클래스명)은 제외합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "ZIP 스트리밍"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (toolTypes 값 오류)"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "Module을 찾을 수 없음")
+    })
+    @PostMapping(McpApiEndpoints.MODULE_SCAFFOLD)
+    public ResponseEntity<StreamingResponseBody> scaffoldModule(
+            @Parameter(description = "모듈 ID", example = "1", required = true)
+                    @PathVariable(McpApiEndpoints.PATH_MODULE_ID)
+                    Long moduleId,
+            @Valid @RequestBody ScaffoldModuleApiRequest request) {
+
+        ScaffoldModuleQuery query = mapper.toQuery(request, moduleId);
+        ModuleScaffoldResult result = scaffoldModuleUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(moduleScaffoldZipWriter.fileName(result))
+                                .build()
+                                .toString())
+                .body(moduleScaffoldZipWriter.toResponseBody(result));
+    }
+
     /**
      * Validation Context 조회 API
      *
@@ -0,0 +1,33 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * ClassifyClassNamesApiRequest - 클래스명 일괄 분류 요청 DTO
+ *
+ * <p>저장소 전체 클래스명을 한 번에 보낼 수 있도록 Request Body로 받습니다.
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * <p>DTO-002: @NotNull 필수 (Nullable 금지).
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param classNames 완전한 클래스명 목록 (필수, 최대 10,000개)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "클래스명 일괄 분류 요청")
+public record ClassifyClassNamesApiRequest(
+        @Schema(description = "아키텍처 ID", example = "1") @NotNull(message = "architectureId는 필수입니다")
+                Long architectureId,
+        @Schema(
+                        description = "완전한 클래스명 목록",
+                        example = "[\"com.ryuqq.domain.order.aggregate.Order\"]")
+                @NotEmpty(message = "classNames는 필수입니다")
+                @NotNull(message = "classNames는 필수입니다")
+                @Size(max = 10000, message = "classNames는 최대 10000개까지 요청할 수 있습니다")
+                List<String> classNames) {}
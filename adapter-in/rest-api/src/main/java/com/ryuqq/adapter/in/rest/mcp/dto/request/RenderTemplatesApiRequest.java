@@ -0,0 +1,58 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RenderTemplatesApiRequest - 템플릿 일괄 렌더링 요청 DTO
+ *
+ * <p>기능 하나에 필요한 클래스/설정 파일을 한 번에 생성할 수 있도록 여러 항목을 Request Body로 받습니다.
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * <p>DTO-002: @NotNull 필수 (Nullable 금지).
+ *
+ * @param items 렌더링 항목 목록 (필수, 최대 500개)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "템플릿 일괄 렌더링 요청")
+public record RenderTemplatesApiRequest(
+        @Schema(description = "렌더링 항목 목록")
+                @NotEmpty(message = "items는 필수입니다")
+                @NotNull(message = "items는 필수입니다")
+                @Size(max = 500, message = "items는 최대 500개까지 요청할 수 있습니다")
+                List<@Valid RenderItemRequest> items) {
+
+    /**
+     * RenderItemRequest - 렌더링 항목 요청 DTO
+     *
+     * @param templateType 템플릿 종류 (CLASS, CONFIG_FILE, RESOURCE)
+     * @param templateId 템플릿 ID
+     * @param variables 변수 이름 → 값 (선택)
+     */
+    @Schema(description = "렌더링 항목 요청 DTO")
+    public record RenderItemRequest(
+            @Schema(
+                            description = "템플릿 종류 (CLASS, CONFIG_FILE, RESOURCE)",
+                            allowableValues = {"CLASS", "CONFIG_FILE", "RESOURCE"},
+                            example = "CLASS")
+                    @NotNull(message = "templateType은 필수입니다")
+                    @Pattern(
+                            regexp = "CLASS|CONFIG_FILE|RESOURCE",
+                            message = "templateType은 CLASS, CONFIG_FILE, RESOURCE 중 하나여야 합니다")
+                    String templateType,
+            @Schema(description = "템플릿 ID", example = "1")
+                    @NotNull(message = "templateId는 필수입니다")
+                    Long templateId,
+            @Schema(
+                            description = "변수 이름 → 값 (값이 없는 자리표시자는 원문 유지)",
+                            example = "{\"Domain\": \"Order\", \"domain\": \"order\"}")
+                    Map<String, String> variables) {}
+}
@@ -0,0 +1,34 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * ResolvePathsApiRequest - 파일 경로 해석 요청 DTO
+ *
+ * <p>경로 500개는 쿼리 스트링 길이 제한을 넘을 수 있으므로 Request Body로 받습니다.
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * <p>DTO-002: @NotNull 필수 (Nullable 금지).
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param paths 저장소 상대 파일 경로 목록 (필수, 최대 500개)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "파일 경로 해석 요청")
+public record ResolvePathsApiRequest(
+        @Schema(description = "아키텍처 ID", example = "1") @NotNull(message = "architectureId는 필수입니다")
+                Long architectureId,
+        @Schema(
+                        description = "저장소 상대 파일 경로 목록",
+                        example =
+                                "[\"domain/src/main/java/com/ryuqq/order/aggregate/Order.java\"]")
+                @NotEmpty(message = "paths는 필수입니다")
+                @NotNull(message = "paths는 필수입니다")
+                @Size(max = 500, message = "paths는 최대 500개까지 요청할 수 있습니다")
+                List<String> paths) {}
@@ -0,0 +1,36 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScaffoldModuleApiRequest - 모듈 스캐폴드 요청 DTO
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * @param variables 변수 이름 → 값 (선택, 파일 경로와 본문에 공통 적용)
+ * @param toolTypes 설정 파일 도구 타입 목록 (선택, 비어 있으면 설정 파일 제외)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "모듈 스캐폴드 요청")
+public record ScaffoldModuleApiRequest(
+        @Schema(
+                        description = "변수 이름 → 값 (경로나 클래스명에 값이 없는 변수가 남으면 해당 파일 제외)",
+                        example =
+                                "{\"base_package\": \"com.ryuqq\", \"domain\": \"order\","
+                                        + " \"Domain\": \"Order\"}")
+                Map<String, String> variables,
+        @Schema(description = "설정 파일 도구 타입 목록 (선택)", example = "[\"CLAUDE\"]")
+                @Size(max = 5, message = "toolTypes는 최대 5개까지 요청할 수 있습니다")
+                List<
+                                @Pattern(
+                                        regexp = "CLAUDE|CURSOR|COPILOT|WINDSURF|GENERIC",
+                                        message =
+                                                "toolTypes는 CLAUDE, CURSOR, COPILOT, WINDSURF,"
+                                                        + " GENERIC 중 하나여야 합니다")
+                                String>
+                        toolTypes) {}
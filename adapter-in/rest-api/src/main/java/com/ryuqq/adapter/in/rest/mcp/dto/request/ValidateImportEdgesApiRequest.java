@@ -0,0 +1,51 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * ValidateImportEdgesApiRequest - import 간선 레이어 의존성 검사 요청 DTO
+ *
+ * <p>저장소 전체 import 그래프를 한 번에 보낼 수 있도록 Request Body로 받습니다.
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * <p>DTO-002: @NotNull 필수 (Nullable 금지).
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param edges import 간선 목록 (필수, 최대 50,000개)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "import 간선 레이어 의존성 검사 요청")
+public record ValidateImportEdgesApiRequest(
+        @Schema(description = "아키텍처 ID", example = "1") @NotNull(message = "architectureId는 필수입니다")
+                Long architectureId,
+        @Schema(description = "import 간선 목록")
+                @NotEmpty(message = "edges는 필수입니다")
+                @NotNull(message = "edges는 필수입니다")
+                @Size(max = 50000, message = "edges는 최대 50000개까지 요청할 수 있습니다")
+                List<@Valid ImportEdgeRequest> edges) {
+
+    /**
+     * ImportEdgeRequest - import 간선 요청 DTO
+     *
+     * @param fromPackage import하는 클래스의 패키지
+     * @param toPackage import되는 클래스의 패키지
+     */
+    @Schema(description = "import 간선 요청 DTO")
+    public record ImportEdgeRequest(
+            @Schema(description = "import하는 클래스의 패키지", example = "com.ryuqq.domain.order.aggregate")
+                    @NotBlank(message = "fromPackage는 필수입니다")
+                    String fromPackage,
+            @Schema(
+                            description = "import되는 클래스의 패키지",
+                            example = "com.ryuqq.application.order.port.in")
+                    @NotBlank(message = "toPackage는 필수입니다")
+                    String toPackage) {}
+}
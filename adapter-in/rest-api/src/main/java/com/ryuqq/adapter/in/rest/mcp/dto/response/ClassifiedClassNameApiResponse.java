@@ -0,0 +1,26 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ClassifiedClassNameApiResponse - 클래스명 분류 결과
+ *
+ * @param className 요청한 클래스명
+ * @param classTypeId 클래스 타입 ID (일치하는 naming_pattern이 없으면 null)
+ * @param classType 클래스 타입 코드
+ * @param structureId 패키지 구조 ID (패키지가 없거나 일치하지 않으면 null)
+ * @param pathPattern 일치한 패키지 경로 패턴
+ * @param moduleId 패키지 구조가 속한 모듈 ID
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "클래스명 분류 결과")
+public record ClassifiedClassNameApiResponse(
+        @Schema(description = "요청한 클래스명", example = "com.ryuqq.domain.order.aggregate.Order")
+                String className,
+        @Schema(description = "클래스 타입 ID", example = "2") Long classTypeId,
+        @Schema(description = "클래스 타입 코드", example = "AGGREGATE") String classType,
+        @Schema(description = "패키지 구조 ID", example = "1") Long structureId,
+        @Schema(description = "패키지 경로 패턴", example = "{base_package}.{domain}.aggregate")
+                String pathPattern,
+        @Schema(description = "모듈 ID", example = "1") Long moduleId) {}
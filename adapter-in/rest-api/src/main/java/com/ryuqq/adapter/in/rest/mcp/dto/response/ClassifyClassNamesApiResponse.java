@@ -0,0 +1,17 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * ClassifyClassNamesApiResponse - 클래스명 일괄 분류 응답
+ *
+ * @param classes 클래스명별 분류 결과 (요청 순서)
+ * @param classifiedCount 클래스 타입이 분류된 클래스명 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "클래스명 일괄 분류 응답")
+public record ClassifyClassNamesApiResponse(
+        @Schema(description = "클래스명별 분류 결과") List<ClassifiedClassNameApiResponse> classes,
+        @Schema(description = "클래스 타입이 분류된 클래스명 수", example = "1") int classifiedCount) {}
@@ -0,0 +1,25 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ImportEdgeViolationApiResponse - 레이어 의존성 규칙을 위반한 import 간선
+ *
+ * @param fromPackage import하는 클래스의 패키지
+ * @param toPackage import되는 클래스의 패키지
+ * @param fromLayer from 패키지의 레이어 코드
+ * @param toLayer to 패키지의 레이어 코드
+ * @param violationType 위반 유형 (FORBIDDEN, UNDECLARED)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "레이어 의존성 규칙 위반 간선")
+public record ImportEdgeViolationApiResponse(
+        @Schema(description = "import하는 클래스의 패키지", example = "com.ryuqq.domain.order.aggregate")
+                String fromPackage,
+        @Schema(description = "import되는 클래스의 패키지", example = "com.ryuqq.application.order.port.in")
+                String toPackage,
+        @Schema(description = "from 레이어 코드", example = "DOMAIN") String fromLayer,
+        @Schema(description = "to 레이어 코드", example = "APPLICATION") String toLayer,
+        @Schema(description = "위반 유형 (FORBIDDEN, UNDECLARED)", example = "FORBIDDEN")
+                String violationType) {}
@@ -0,0 +1,18 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * RenderTemplatesApiResponse - 템플릿 일괄 렌더링 응답
+ *
+ * @param templates 렌더링 결과 (요청 순서)
+ * @param compiledCount 이번 요청에서 새로 컴파일한 템플릿 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "템플릿 일괄 렌더링 응답")
+public record RenderTemplatesApiResponse(
+        @Schema(description = "렌더링 결과 (요청 순서)") List<RenderedTemplateApiResponse> templates,
+        @Schema(description = "새로 컴파일한 템플릿 수 (나머지는 캐시 사용)", example = "0")
+                int compiledCount) {}
@@ -0,0 +1,23 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * RenderedTemplateApiResponse - 템플릿 렌더링 결과 항목
+ *
+ * @param templateType 템플릿 종류 (CLASS, CONFIG_FILE, RESOURCE)
+ * @param templateId 템플릿 ID
+ * @param content 렌더링 결과
+ * @param missingVariables 템플릿이 참조하지만 값이 주어지지 않은 변수 이름
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "템플릿 렌더링 결과 항목")
+public record RenderedTemplateApiResponse(
+        @Schema(description = "템플릿 종류", example = "CLASS") String templateType,
+        @Schema(description = "템플릿 ID", example = "1") Long templateId,
+        @Schema(description = "렌더링 결과 (값이 없는 자리표시자는 원문 유지)", example = "public class Order {}")
+                String content,
+        @Schema(description = "값이 주어지지 않은 변수 이름", example = "[\"id\"]")
+                List<String> missingVariables) {}
@@ -0,0 +1,17 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * ResolvePathsApiResponse - 파일 경로 일괄 해석 응답
+ *
+ * @param paths 경로별 해석 결과 (요청 순서)
+ * @param resolvedCount 모듈까지 해석된 경로 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "파일 경로 일괄 해석 응답")
+public record ResolvePathsApiResponse(
+        @Schema(description = "경로별 해석 결과") List<ResolvedPathApiResponse> paths,
+        @Schema(description = "모듈까지 해석된 경로 수", example = "1") int resolvedCount) {}
@@ -0,0 +1,30 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * ResolvedPathApiResponse - 파일 경로 해석 결과
+ *
+ * @param path 요청한 파일 경로
+ * @param moduleId 모듈 ID (일치하는 모듈이 없으면 null)
+ * @param modulePath 일치한 모듈 경로
+ * @param structureId 패키지 구조 ID (일치하는 구조가 없으면 null)
+ * @param pathPattern 일치한 패키지 경로 패턴
+ * @param classTypeId 파일명으로 추론한 클래스 타입 ID
+ * @param classType 파일명으로 추론한 클래스 타입 코드
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "파일 경로 해석 결과")
+public record ResolvedPathApiResponse(
+        @Schema(
+                        description = "요청한 파일 경로",
+                        example = "domain/src/main/java/com/ryuqq/order/aggregate/Order.java")
+                String path,
+        @Schema(description = "모듈 ID", example = "1") Long moduleId,
+        @Schema(description = "모듈 경로", example = "domain") String modulePath,
+        @Schema(description = "패키지 구조 ID", example = "1") Long structureId,
+        @Schema(description = "패키지 경로 패턴", example = "{base_package}.{domain}.aggregate")
+                String pathPattern,
+        @Schema(description = "클래스 타입 ID", example = "2") Long classTypeId,
+        @Schema(description = "클래스 타입 코드", example = "AGGREGATE") String classType) {}
@@ -0,0 +1,19 @@
+package com.ryuqq.adapter.in.rest.mcp.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+/**
+ * ValidateImportEdgesApiResponse - import 간선 레이어 의존성 검사 응답
+ *
+ * @param violations 위반 간선 (요청 순서)
+ * @param checkedCount 양쪽 패키지가 레이어로 해석되어 검사한 간선 수
+ * @param unresolvedCount 레이어로 해석되지 않아 검사하지 않은 간선 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Schema(description = "import 간선 레이어 의존성 검사 응답")
+public record ValidateImportEdgesApiResponse(
+        @Schema(description = "위반 간선 (요청 순서)") List<ImportEdgeViolationApiResponse> violations,
+        @Schema(description = "검사한 간선 수", example = "1200") int checkedCount,
+        @Schema(description = "레이어로 해석되지 않은 간선 수", example = "35") int unresolvedCount) {}
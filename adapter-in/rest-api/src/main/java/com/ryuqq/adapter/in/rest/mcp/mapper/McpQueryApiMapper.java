@@ -1,20 +1,28 @@
 package com.ryuqq.adapter.in.rest.mcp.mapper;
 
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ClassifyClassNamesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.GetConfigFilesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.GetOnboardingApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.ModuleContextApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.PlanningContextApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.RenderTemplatesApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ResolvePathsApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ScaffoldModuleApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidateImportEdgesApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidationContextApiRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ArchUnitTestDetailApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ArchitectureSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ChecklistItemApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ChecklistItemDetailApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassTemplateDetailApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassifiedClassNameApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassifyClassNamesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.CodingRuleWithDetailsApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConfigFileApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConfigFilesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConventionWithRulesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ExecutionContextApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ImportEdgeViolationApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.LayerSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.LayerValidationStatsApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.LayerWithModulesApiResponse;
@@ -29,28 +37,44 @@ import com.ryuqq.adapter.in.rest.mcp.dto.response.PackageStructureWithDetailsApi
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PackageSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PlanningContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PlanningContextSummaryApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.RenderTemplatesApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.RenderedTemplateApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ResolvePathsApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ResolvedPathApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.RuleContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.RuleExampleDetailApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.TechStackSummaryApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidateImportEdgesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidationContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidationContextSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ZeroToleranceDetailApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ZeroToleranceRuleApiResponse;
+import com.ryuqq.application.mcp.dto.query.ClassifyClassNamesQuery;
 import com.ryuqq.application.mcp.dto.query.GetConfigFilesQuery;
 import com.ryuqq.application.mcp.dto.query.GetOnboardingQuery;
 import com.ryuqq.application.mcp.dto.query.ModuleContextQuery;
 import com.ryuqq.application.mcp.dto.query.PlanningContextQuery;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.RenderItem;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.query.ResolvePathsQuery;
+import com.ryuqq.application.mcp.dto.query.ScaffoldModuleQuery;
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery;
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery.ImportEdge;
 import com.ryuqq.application.mcp.dto.query.ValidationContextQuery;
 import com.ryuqq.application.mcp.dto.response.ArchUnitTestDetailResult;
 import com.ryuqq.application.mcp.dto.response.ArchitectureSummaryResult;
 import com.ryuqq.application.mcp.dto.response.ChecklistItemDetailResult;
 import com.ryuqq.application.mcp.dto.response.ChecklistItemResult;
 import com.ryuqq.application.mcp.dto.response.ClassTemplateDetailResult;
+import com.ryuqq.application.mcp.dto.response.ClassifiedClassNameResult;
+import com.ryuqq.application.mcp.dto.response.ClassifyClassNamesResult;
 import com.ryuqq.application.mcp.dto.response.CodingRuleWithDetailsResult;
 import com.ryuqq.application.mcp.dto.response.ConfigFileResult;
 import com.ryuqq.application.mcp.dto.response.ConfigFilesResult;
 import com.ryuqq.application.mcp.dto.response.ConventionWithRulesResult;
 import com.ryuqq.application.mcp.dto.response.ExecutionContextResult;
+import com.ryuqq.application.mcp.dto.response.ImportEdgeViolationResult;
 import com.ryuqq.application.mcp.dto.response.LayerWithModulesResult;
 import com.ryuqq.application.mcp.dto.response.ModuleContextResult;
 import com.ryuqq.application.mcp.dto.response.ModuleContextSummaryResult;
@@ -63,9 +87,14 @@ import com.ryuqq.application.mcp.dto.response.PackageStructureWithDetailsResult;
 import com.ryuqq.application.mcp.dto.response.PackageSummaryResult;
 import com.ryuqq.application.mcp.dto.response.PlanningContextResult;
 import com.ryuqq.application.mcp.dto.response.PlanningContextSummaryResult;
+import com.ryuqq.application.mcp.dto.response.RenderTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.RenderedTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ResolvePathsResult;
+import com.ryuqq.application.mcp.dto.response.ResolvedPathResult;
 import com.ryuqq.application.mcp.dto.response.RuleContextResult;
 import com.ryuqq.application.mcp.dto.response.RuleExampleDetailResult;
 import com.ryuqq.application.mcp.dto.response.TechStackSummaryResult;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
 import com.ryuqq.application.mcp.dto.response.ValidationContextResult;
 import com.ryuqq.application.mcp.dto.response.ValidationContextSummaryResult;
 import com.ryuqq.application.mcp.dto.response.ZeroToleranceDetailResult;
@@ -442,4 +471,157 @@ public class McpQueryApiMapper {
                 result.content(),
                 result.priority());
     }
+
+    /**
+     * ResolvePathsApiRequest -> ResolvePathsQuery 변환
+     *
+     * @param request 파일 경로 해석 요청 DTO
+     * @return 파일 경로 해석 쿼리
+     */
+    public ResolvePathsQuery toQuery(ResolvePathsApiRequest request) {
+        return new ResolvePathsQuery(request.architectureId(), request.paths());
+    }
+
+    /**
+     * ResolvePathsResult -> ResolvePathsApiResponse 변환
+     *
+     * @param result 파일 경로 해석 결과
+     * @return 파일 경로 해석 API 응답
+     */
+    public ResolvePathsApiResponse toResponse(ResolvePathsResult result) {
+        List<ResolvedPathApiResponse> paths =
+                result.paths().stream().map(this::toResolvedPathResponse).toList();
+        return new ResolvePathsApiResponse(paths, result.resolvedCount());
+    }
+
+    private ResolvedPathApiResponse toResolvedPathResponse(ResolvedPathResult result) {
+        return new ResolvedPathApiResponse(
+                result.path(),
+                result.moduleId(),
+                result.modulePath(),
+                result.structureId(),
+                result.pathPattern(),
+                result.classTypeId(),
+                result.classType());
+    }
+
+    /**
+     * ClassifyClassNamesApiRequest -> ClassifyClassNamesQuery 변환
+     *
+     * @param request 클래스명 분류 요청 DTO
+     * @return 클래스명 분류 쿼리
+     */
+    public ClassifyClassNamesQuery toQuery(ClassifyClassNamesApiRequest request) {
+        return new ClassifyClassNamesQuery(request.architectureId(), request.classNames());
+    }
+
+    /**
+     * ClassifyClassNamesResult -> ClassifyClassNamesApiResponse 변환
+     *
+     * @param result 클래스명 분류 결과
+     * @return 클래스명 분류 API 응답
+     */
+    public ClassifyClassNamesApiResponse toResponse(ClassifyClassNamesResult result) {
+        List<ClassifiedClassNameApiResponse> classes =
+                result.classes().stream().map(this::toClassifiedClassNameResponse).toList();
+        return new ClassifyClassNamesApiResponse(classes, result.classifiedCount());
+    }
+
+    private ClassifiedClassNameApiResponse toClassifiedClassNameResponse(
+            ClassifiedClassNameResult result) {
+        return new ClassifiedClassNameApiResponse(
+                result.className(),
+                result.classTypeId(),
+                result.classType(),
+                result.structureId(),
+                result.pathPattern(),
+                result.moduleId());
+    }
+
+    /**
+     * ValidateImportEdgesApiRequest -> ValidateImportEdgesQuery 변환
+     *
+     * @param request import 간선 검사 요청 DTO
+     * @return import 간선 검사 쿼리
+     */
+    public ValidateImportEdgesQuery toQuery(ValidateImportEdgesApiRequest request) {
+        List<ImportEdge> edges =
+                request.edges().stream()
+                        .map(edge -> new ImportEdge(edge.fromPackage(), edge.toPackage()))
+                        .toList();
+        return new ValidateImportEdgesQuery(request.architectureId(), edges);
+    }
+
+    /**
+     * ValidateImportEdgesResult -> ValidateImportEdgesApiResponse 변환
+     *
+     * @param result import 간선 검사 결과
+     * @return import 간선 검사 API 응답
+     */
+    public ValidateImportEdgesApiResponse toResponse(ValidateImportEdgesResult result) {
+        List<ImportEdgeViolationApiResponse> violations =
+                result.violations().stream().map(this::toImportEdgeViolationResponse).toList();
+        return new ValidateImportEdgesApiResponse(
+                violations, result.checkedCount(), result.unresolvedCount());
+    }
+
+    private ImportEdgeViolationApiResponse toImportEdgeViolationResponse(
+            ImportEdgeViolationResult result) {
+        return new ImportEdgeViolationApiResponse(
+                result.fromPackage(),
+                result.toPackage(),
+                result.fromLayer(),
+                result.toLayer(),
+                result.violationType());
+    }
+
+    /**
+     * RenderTemplatesApiRequest -> RenderTemplatesQuery 변환
+     *
+     * @param request 템플릿 렌더링 요청 DTO
+     * @return 템플릿 렌더링 쿼리
+     */
+    public RenderTemplatesQuery toQuery(RenderTemplatesApiRequest request) {
+        List<RenderItem> items =
+                request.items().stream()
+                        .map(
+                                item ->
+                                        new RenderItem(
+                                                TemplateType.valueOf(item.templateType()),
+                                                item.templateId(),
+                                                item.variables()))
+                        .toList();
+        return new RenderTemplatesQuery(items);
+    }
+
+    /**
+     * RenderTemplatesResult -> RenderTemplatesApiResponse 변환
+     *
+     * @param result 템플릿 렌더링 결과
+     * @return 템플릿 렌더링 API 응답
+     */
+    public RenderTemplatesApiResponse toResponse(RenderTemplatesResult result) {
+        List<RenderedTemplateApiResponse> templates =
+                result.templates().stream().map(this::toRenderedTemplateResponse).toList();
+        return new RenderTemplatesApiResponse(templates, result.compiledCount());
+    }
+
+    /**
+     * ScaffoldModuleApiRequest -> ScaffoldModuleQuery 변환
+     *
+     * @param request 모듈 스캐폴드 요청 DTO
+     * @param moduleId 모듈 ID
+     * @return 모듈 스캐폴드 쿼리
+     */
+    public ScaffoldModuleQuery toQuery(ScaffoldModuleApiRequest request, Long moduleId) {
+        return new ScaffoldModuleQuery(moduleId, request.variables(), request.toolTypes());
+    }
+
+    private RenderedTemplateApiResponse toRenderedTemplateResponse(RenderedTemplateResult result) {
+        return new RenderedTemplateApiResponse(
+                result.templateType(),
+                result.templateId(),
+                result.content(),
+                result.missingVariables());
+    }
 }
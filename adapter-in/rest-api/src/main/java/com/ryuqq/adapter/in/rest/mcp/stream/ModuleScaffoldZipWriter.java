@@ -0,0 +1,78 @@
+package com.ryuqq.adapter.in.rest.mcp.stream;
+
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileResult;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * ModuleScaffoldZipWriter - 모듈 스캐폴드 파일 트리를 ZIP으로 스트리밍
+ *
+ * <p>파일마다 ZIP 엔트리를 열고 템플릿을 UTF-8 Writer에 바로 렌더링한 뒤 엔트리를 닫습니다. 아카이브나 파일 본문을 메모리에 모으지 않으므로, 파일 수나 설정
+ * 파일(longtext) 크기와 관계없이 힙 사용량은 버퍼 크기로 일정합니다.
+ *
+ * <p>템플릿 조회와 컴파일은 UseCase에서 끝나므로 스트리밍 중에는 DB 커넥션을 사용하지 않습니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ModuleScaffoldZipWriter {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    /**
+     * 응답 본문 생성
+     *
+     * @param result 모듈 스캐폴드 파일 트리
+     * @return ZIP 스트리밍 응답 본문
+     */
+    public StreamingResponseBody toResponseBody(ModuleScaffoldResult result) {
+        return out -> write(result, out);
+    }
+
+    /**
+     * 출력 스트림에 ZIP 쓰기
+     *
+     * <p>출력 스트림은 닫지 않습니다 (응답 스트림은 컨테이너가 닫음).
+     *
+     * @param result 모듈 스캐폴드 파일 트리
+     * @param out 출력 스트림
+     * @throws IOException 출력 스트림 쓰기 실패
+     */
+    public void write(ModuleScaffoldResult result, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        for (ScaffoldFileResult file : result.files()) {
+            zip.putNextEntry(new ZipEntry(file.path()));
+            file.writeTo(writer);
+            writer.flush();
+            zip.closeEntry();
+        }
+        zip.finish();
+        out.flush();
+    }
+
+    /**
+     * 다운로드 파일명
+     *
+     * @param result 모듈 스캐폴드 파일 트리
+     * @return 모듈 경로 마지막 이름 + .zip (예: rest-api.zip)
+     */
+    public String fileName(ModuleScaffoldResult result) {
+        String modulePath = result.modulePath();
+        String name = modulePath.substring(modulePath.lastIndexOf('/') + 1);
+        return (name.isBlank() || name.equals(".") ? "module-" + result.moduleId() : name)
+                + ".zip";
+    }
+}
@@ -13,8 +13,11 @@ import com.ryuqq.adapter.in.rest.common.ApiPaths;
  * /api/v1/templates/tech-stacks
  *   ├── GET    /                           # 커서 기반 목록 조회
  *   ├── POST   /                           # 생성
+ *   ├── POST   /import                     # 컨벤션 세트 가져오기 (NDJSON 진행 스트리밍)
  *   ├── PUT    /{techStackId}              # 수정
- *   └── PATCH  /{techStackId}/archive      # 아카이브 (Soft Delete)
+ *   ├── PATCH  /{techStackId}/archive      # 아카이브 (Soft Delete)
+ *   ├── GET    /{techStackId}/export       # 컨벤션 세트 내보내기 (NDJSON 스트리밍)
+ *   └── GET    /{techStackId}/bundle       # 컨벤션 세트 바이너리 번들 (읽기 전용 서빙용)
  * }</pre>
  *
  * @author ryu-qqq
@@ -32,6 +35,15 @@ public final class TechStackApiEndpoints {
     /** ID 경로 (상대경로) */
     public static final String ID = "/{techStackId}";
 
+    /** 컨벤션 세트 내보내기 경로 (상대경로) */
+    public static final String EXPORT = "/{techStackId}/export";
+
+    /** 컨벤션 세트 바이너리 번들 경로 (상대경로) */
+    public static final String BUNDLE = "/{techStackId}/bundle";
+
+    /** 컨벤션 세트 가져오기 경로 (상대경로) */
+    public static final String IMPORT = "/import";
+
     /** TechStack ID 경로 변수명 */
     public static final String PATH_TECH_STACK_ID = "techStackId";
 }
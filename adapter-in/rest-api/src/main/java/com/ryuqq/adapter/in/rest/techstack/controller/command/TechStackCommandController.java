@@ -6,6 +6,11 @@ import com.ryuqq.adapter.in.rest.techstack.dto.request.CreateTechStackApiRequest
 import com.ryuqq.adapter.in.rest.techstack.dto.request.UpdateTechStackApiRequest;
 import com.ryuqq.adapter.in.rest.techstack.dto.response.TechStackIdApiResponse;
 import com.ryuqq.adapter.in.rest.techstack.mapper.TechStackCommandApiMapper;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonReader;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonWriter;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.port.in.ImportConventionSetUseCase;
 import com.ryuqq.application.techstack.dto.command.CreateTechStackCommand;
 import com.ryuqq.application.techstack.dto.command.UpdateTechStackCommand;
 import com.ryuqq.application.techstack.port.in.CreateTechStackUseCase;
@@ -15,6 +20,8 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,11 +30,12 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * TechStackCommandController - TechStack 생성/수정 API
  *
- * <p>기술 스택 CU(Create, Update) 엔드포인트를 제공합니다.
+ * <p>기술 스택 CU(Create, Update)와 컨벤션 세트 가져오기 엔드포인트를 제공합니다.
  *
  * <p>CTR-001: Controller는 @RestController로 정의.
  *
@@ -47,22 +55,34 @@ public class TechStackCommandController {
 
     private final CreateTechStackUseCase createTechStackUseCase;
     private final UpdateTechStackUseCase updateTechStackUseCase;
+    private final ImportConventionSetUseCase importConventionSetUseCase;
     private final TechStackCommandApiMapper mapper;
+    private final ConventionSetNdjsonReader conventionSetNdjsonReader;
+    private final ConventionSetNdjsonWriter conventionSetNdjsonWriter;
 
     /**
      * TechStackCommandController 생성자
      *
      * @param createTechStackUseCase TechStack 생성 UseCase
      * @param updateTechStackUseCase TechStack 수정 UseCase
+     * @param importConventionSetUseCase 컨벤션 세트 가져오기 UseCase
      * @param mapper API 매퍼
+     * @param conventionSetNdjsonReader 컨벤션 세트 NDJSON 읽기
+     * @param conventionSetNdjsonWriter 가져오기 진행 NDJSON 쓰기
      */
     public TechStackCommandController(
             CreateTechStackUseCase createTechStackUseCase,
             UpdateTechStackUseCase updateTechStackUseCase,
-            TechStackCommandApiMapper mapper) {
+            ImportConventionSetUseCase importConventionSetUseCase,
+            TechStackCommandApiMapper mapper,
+            ConventionSetNdjsonReader conventionSetNdjsonReader,
+            ConventionSetNdjsonWriter conventionSetNdjsonWriter) {
         this.createTechStackUseCase = createTechStackUseCase;
         this.updateTechStackUseCase = updateTechStackUseCase;
+        this.importConventionSetUseCase = importConventionSetUseCase;
         this.mapper = mapper;
+        this.conventionSetNdjsonReader = conventionSetNdjsonReader;
+        this.conventionSetNdjsonWriter = conventionSetNdjsonWriter;
     }
 
     /**
@@ -132,4 +152,52 @@ public class TechStackCommandController {
 
         return ResponseEntity.ok(ApiResponse.of());
     }
+
+    /**
+     * 컨벤션 세트 가져오기 API
+     *
+     * <p>내보내기 API가 만든 NDJSON 문서를 받아 저장합니다. 문서 전체 검증, 부모 존재 확인, 기존 행 조회는 응답을 쓰기 전에 끝나므로 400/404/409는
+     * 일반 오류 응답으로 반환됩니다. 이후 {@code 1,000}행 청크마다 커밋하고 진행 줄을 스트리밍합니다. 청크 저장은 COMMAND 레인과 요청 기한 안에서
+     * 실행되며, 실패하면 마지막 줄에 오류 줄({@code {"error":...}})을 씁니다.
+     *
+     * <p>같은 문서를 다시 보내면 이미 저장된 행은 자연 키로 찾아 건너뛰므로, 도중에 끊긴 가져오기를 이어서 진행할 수 있습니다.
+     *
+     * <p>CTR-002 예외: 스트리밍(application/x-ndjson) 요청/응답이라 ApiResponse로 래핑하지 않습니다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return NDJSON 진행 스트리밍 응답
+     * @throws IOException 요청 본문 읽기 실패
+     */
+    @Operation(
+            summary = "컨벤션 세트 가져오기",
+            description =
+                    "내보내기 형식의 NDJSON 컨벤션 세트를 저장하고 청크 커밋마다 진행 줄을 스트리밍합니다."
+                            + " 이미 있는 행은 건너뛰므로 재전송으로 이어서 진행합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "NDJSON 진행 스트리밍"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400",
+                description = "잘못된 문서"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "문서 밖 부모 행을 찾을 수 없음"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "409",
+                description = "같은 자연 키의 행이 다른 부모에 있음")
+    })
+    @PostMapping(
+            value = TechStackApiEndpoints.IMPORT,
+            consumes = ConventionSetNdjsonWriter.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importConventionSet(InputStream body)
+            throws IOException {
+
+        ImportConventionSetCommand command = conventionSetNdjsonReader.read(body);
+        ConventionSetImportResult result = importConventionSetUseCase.execute(command);
+
+        return ResponseEntity.ok()
+                .contentType(ConventionSetNdjsonWriter.APPLICATION_NDJSON)
+                .body(conventionSetNdjsonWriter.toResponseBody(result));
+    }
 }
@@ -6,17 +6,28 @@ import com.ryuqq.adapter.in.rest.techstack.TechStackApiEndpoints;
 import com.ryuqq.adapter.in.rest.techstack.dto.request.SearchTechStacksCursorApiRequest;
 import com.ryuqq.adapter.in.rest.techstack.dto.response.TechStackApiResponse;
 import com.ryuqq.adapter.in.rest.techstack.mapper.TechStackQueryApiMapper;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetBundleWriter;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonWriter;
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.port.in.ExportConventionSetUseCase;
 import com.ryuqq.application.techstack.dto.query.TechStackSearchParams;
 import com.ryuqq.application.techstack.dto.response.TechStackSliceResult;
 import com.ryuqq.application.techstack.port.in.SearchTechStacksByCursorUseCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 /**
  * TechStackQueryController - TechStack 조회 API
@@ -42,19 +53,31 @@ import org.springframework.web.bind.annotation.RestController;
 public class TechStackQueryController {
 
     private final SearchTechStacksByCursorUseCase searchTechStacksByCursorUseCase;
+    private final ExportConventionSetUseCase exportConventionSetUseCase;
     private final TechStackQueryApiMapper mapper;
+    private final ConventionSetNdjsonWriter conventionSetNdjsonWriter;
+    private final ConventionSetBundleWriter conventionSetBundleWriter;
 
     /**
      * TechStackQueryController 생성자
      *
      * @param searchTechStacksByCursorUseCase TechStack 복합 조건 조회 UseCase (커서 기반)
+     * @param exportConventionSetUseCase 컨벤션 세트 내보내기 UseCase
      * @param mapper API 매퍼
+     * @param conventionSetNdjsonWriter 컨벤션 세트 NDJSON 스트리밍
+     * @param conventionSetBundleWriter 컨벤션 세트 바이너리 번들 응답
      */
     public TechStackQueryController(
             SearchTechStacksByCursorUseCase searchTechStacksByCursorUseCase,
-            TechStackQueryApiMapper mapper) {
+            ExportConventionSetUseCase exportConventionSetUseCase,
+            TechStackQueryApiMapper mapper,
+            ConventionSetNdjsonWriter conventionSetNdjsonWriter,
+            ConventionSetBundleWriter conventionSetBundleWriter) {
         this.searchTechStacksByCursorUseCase = searchTechStacksByCursorUseCase;
+        this.exportConventionSetUseCase = exportConventionSetUseCase;
         this.mapper = mapper;
+        this.conventionSetNdjsonWriter = conventionSetNdjsonWriter;
+        this.conventionSetBundleWriter = conventionSetBundleWriter;
     }
 
     /**
@@ -85,4 +108,99 @@ public class TechStackQueryController {
 
         return ResponseEntity.ok(ApiResponse.of(response));
     }
+
+    /**
+     * 컨벤션 세트 내보내기 API
+     *
+     * <p>TechStack과 그 아래 아키텍처/레이어/모듈/패키지 구조/템플릿/컨벤션/규칙 전체를 NDJSON으로 스트리밍합니다. 행은 DB 커서에서 읽는 대로 응답에
+     * 쓰므로 행 수와 관계없이 메모리에 모으지 않습니다.
+     *
+     * <p>스트리밍은 ADMIN_QUERY 레인 슬롯을 유지한 채 요청 기한 안에서만 진행되며, 기한이 지나면 마지막 줄(end) 없이 끊깁니다. 비동기 요청 타임아웃
+     * ({@code spring.mvc.async.request-timeout})이 전체 응답 시간의 상한입니다.
+     *
+     * <p>TechStack 존재 확인은 스트리밍 전에 끝나므로 404는 일반 오류 응답으로 반환됩니다.
+     *
+     * <p>CTR-002 예외: 스트리밍(application/x-ndjson) 응답이라 ApiResponse로 래핑하지 않습니다.
+     *
+     * @param techStackId TechStack ID (Path Variable)
+     * @return NDJSON 스트리밍 응답
+     */
+    @Operation(
+            summary = "컨벤션 세트 내보내기",
+            description =
+                    "TechStack 하위 컨벤션 세트 전체를 버전이 붙은 NDJSON으로 스트리밍합니다."
+                            + " 첫 줄은 형식 헤더, 마지막 줄은 테이블별 행 수입니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "NDJSON 스트리밍"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "TechStack을 찾을 수 없음")
+    })
+    @GetMapping(TechStackApiEndpoints.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportConventionSet(
+            @Parameter(description = "TechStack ID", example = "1", required = true)
+                    @PathVariable(TechStackApiEndpoints.PATH_TECH_STACK_ID)
+                    Long techStackId) {
+
+        ExportConventionSetQuery query = mapper.toExportQuery(techStackId);
+        ConventionSetExportResult result = exportConventionSetUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .contentType(ConventionSetNdjsonWriter.APPLICATION_NDJSON)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(conventionSetNdjsonWriter.fileName(result))
+                                .build()
+                                .toString())
+                .body(conventionSetNdjsonWriter.toResponseBody(result));
+    }
+
+    /**
+     * 컨벤션 세트 바이너리 번들 내보내기 API
+     *
+     * <p>내보내기와 같은 행을 ID 인덱스가 붙은 바이너리 번들로 내려줍니다. 번들은 메모리 매핑한 채로 읽도록 설계되어, DB 없이 MCP 조회를 서빙하는 번들
+     * 모드(bundle 프로필)의 입력으로 사용합니다.
+     *
+     * <p>인덱스가 데이터보다 앞에 오므로 행을 모두 읽은 뒤 응답을 쓰기 시작합니다 (번들 크기만큼의 힙 사용).
+     *
+     * <p>CTR-002 예외: 바이너리(application/octet-stream) 응답이라 ApiResponse로 래핑하지 않습니다.
+     *
+     * @param techStackId TechStack ID (Path Variable)
+     * @return 번들 스트리밍 응답
+     */
+    @Operation(
+            summary = "컨벤션 세트 번들 내보내기",
+            description =
+                    "TechStack 하위 컨벤션 세트 전체를 ID 인덱스가 붙은 바이너리 번들로 내려줍니다."
+                            + " 번들 모드 서버가 메모리 매핑해 MCP 조회를 서빙합니다.")
+    @ApiResponses({
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200",
+                description = "번들 파일"),
+        @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404",
+                description = "TechStack을 찾을 수 없음")
+    })
+    @GetMapping(TechStackApiEndpoints.BUNDLE)
+    public ResponseEntity<StreamingResponseBody> exportConventionSetBundle(
+            @Parameter(description = "TechStack ID", example = "1", required = true)
+                    @PathVariable(TechStackApiEndpoints.PATH_TECH_STACK_ID)
+                    Long techStackId) {
+
+        ExportConventionSetQuery query = mapper.toExportQuery(techStackId);
+        ConventionSetExportResult result = exportConventionSetUseCase.execute(query);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment()
+                                .filename(conventionSetBundleWriter.fileName(result))
+                                .build()
+                                .toString())
+                .body(conventionSetBundleWriter.toResponseBody(result));
+    }
 }
@@ -0,0 +1,65 @@
+package com.ryuqq.adapter.in.rest.techstack.error;
+
+import com.ryuqq.adapter.in.rest.common.mapper.ErrorMapper;
+import com.ryuqq.domain.common.exception.DomainException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetParentNotFoundException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetRowConflictException;
+import java.net.URI;
+import java.util.Locale;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetErrorMapper - 컨벤션 세트 가져오기 예외를 HTTP 응답으로 변환
+ *
+ * <p>컨벤션 세트 관련 DomainException을 RFC 7807 호환 에러 응답으로 변환합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetErrorMapper implements ErrorMapper {
+
+    private static final String ERROR_TYPE_BASE = "/errors/convention-set";
+
+    @Override
+    public boolean supports(DomainException ex) {
+        return ex instanceof ConventionSetInvalidDocumentException
+                || ex instanceof ConventionSetParentNotFoundException
+                || ex instanceof ConventionSetRowConflictException;
+    }
+
+    @Override
+    public MappedError map(DomainException ex, Locale locale) {
+        return switch (ex) {
+            case ConventionSetInvalidDocumentException e ->
+                    new MappedError(
+                            HttpStatus.BAD_REQUEST,
+                            "ConventionSet Invalid Document",
+                            e.getMessage(),
+                            URI.create(ERROR_TYPE_BASE + "/invalid-document"));
+
+            case ConventionSetParentNotFoundException e ->
+                    new MappedError(
+                            HttpStatus.NOT_FOUND,
+                            "ConventionSet Parent Not Found",
+                            e.getMessage(),
+                            URI.create(ERROR_TYPE_BASE + "/parent-not-found"));
+
+            case ConventionSetRowConflictException e ->
+                    new MappedError(
+                            HttpStatus.CONFLICT,
+                            "ConventionSet Row Conflict",
+                            e.getMessage(),
+                            URI.create(ERROR_TYPE_BASE + "/row-conflict"));
+
+            default ->
+                    new MappedError(
+                            HttpStatus.BAD_REQUEST,
+                            "ConventionSet Error",
+                            ex.getMessage(),
+                            URI.create(ERROR_TYPE_BASE));
+        };
+    }
+}
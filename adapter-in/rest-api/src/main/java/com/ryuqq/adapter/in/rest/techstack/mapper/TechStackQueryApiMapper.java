@@ -5,6 +5,7 @@ import com.ryuqq.adapter.in.rest.common.util.DateTimeFormatUtils;
 import com.ryuqq.adapter.in.rest.techstack.dto.request.SearchTechStacksCursorApiRequest;
 import com.ryuqq.adapter.in.rest.techstack.dto.response.TechStackApiResponse;
 import com.ryuqq.application.common.dto.query.CommonCursorParams;
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
 import com.ryuqq.application.techstack.dto.query.TechStackSearchParams;
 import com.ryuqq.application.techstack.dto.response.TechStackResult;
 import com.ryuqq.application.techstack.dto.response.TechStackSliceResult;
@@ -43,6 +44,16 @@ public class TechStackQueryApiMapper {
         return TechStackSearchParams.of(cursorParams, request.status(), request.platformTypes());
     }
 
+    /**
+     * techStackId -> ExportConventionSetQuery 변환
+     *
+     * @param techStackId TechStack ID
+     * @return 컨벤션 세트 내보내기 쿼리
+     */
+    public ExportConventionSetQuery toExportQuery(Long techStackId) {
+        return new ExportConventionSetQuery(techStackId);
+    }
+
     /**
      * TechStackResult -> TechStackApiResponse 변환
      *
@@ -0,0 +1,62 @@
+package com.ryuqq.adapter.in.rest.techstack.stream;
+
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.format.ConventionSetBundleBuilder;
+import com.ryuqq.application.conventionset.format.ConventionSetBundleFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * ConventionSetBundleWriter - 컨벤션 세트를 바이너리 번들로 응답
+ *
+ * <p>내보내기 행을 {@link ConventionSetBundleBuilder}로 모아 {@link ConventionSetBundleFormat} 레이아웃으로 씁니다.
+ * 번들은 ID 인덱스가 데이터보다 앞에 오므로 행을 모두 읽은 뒤에 첫 바이트를 씁니다. 도중에 실패하면 아무것도 쓰지 않은 채 연결이 끊기고, 받은 쪽은 시그니처/디렉터리
+ * 검사에서 불완전한 파일을 거부합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetBundleWriter {
+
+    /**
+     * 응답 본문 생성
+     *
+     * @param result 내보내기 결과
+     * @return 번들 스트리밍 응답 본문
+     */
+    public StreamingResponseBody toResponseBody(ConventionSetExportResult result) {
+        return out -> write(result, out);
+    }
+
+    /**
+     * 출력 스트림에 번들 쓰기
+     *
+     * <p>출력 스트림은 닫지 않습니다 (응답 스트림은 컨테이너가 닫음).
+     *
+     * @param result 내보내기 결과
+     * @param out 출력 스트림
+     * @throws IOException 출력 스트림 쓰기 실패
+     */
+    public void write(ConventionSetExportResult result, OutputStream out) throws IOException {
+        ConventionSetBundleBuilder builder = new ConventionSetBundleBuilder();
+        result.writeRows(builder);
+        builder.writeTo(out, result.techStackId(), result.exportedAt());
+    }
+
+    /**
+     * 다운로드 파일명
+     *
+     * @param result 내보내기 결과
+     * @return convention-set-{techStackId}.bundle
+     */
+    public String fileName(ConventionSetExportResult result) {
+        return ConventionSetFormat.NAME
+                + "-"
+                + result.techStackId()
+                + ConventionSetBundleFormat.EXTENSION;
+    }
+}
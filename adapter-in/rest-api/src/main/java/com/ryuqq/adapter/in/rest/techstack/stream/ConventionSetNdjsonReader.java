@@ -0,0 +1,149 @@
+package com.ryuqq.adapter.in.rest.techstack.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand.Section;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetNdjsonReader - NDJSON 컨벤션 세트 문서 읽기
+ *
+ * <p>{@link ConventionSetNdjsonWriter}가 내보낸 형식(헤더, 테이블 줄, 행 배열, end 줄)을 그대로 읽어 커맨드로 바꿉니다.
+ *
+ * <ul>
+ *   <li>end 줄이 없으면 도중에 끊긴 내보내기 파일로 보고 거부합니다
+ *   <li>end 줄에 rowCount가 있으면 읽은 행 수와 비교합니다
+ *   <li>행 값은 문자열/숫자/불리언/null만 허용합니다
+ * </ul>
+ *
+ * <p>테이블명/컬럼 검증은 애플리케이션 계층에서 문서 전체를 대상으로 수행합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetNdjsonReader {
+
+    private final ObjectMapper objectMapper;
+
+    public ConventionSetNdjsonReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * NDJSON 문서 읽기
+     *
+     * <p>입력 스트림은 닫지 않습니다 (요청 스트림은 컨테이너가 닫음).
+     *
+     * @param in 입력 스트림
+     * @return 가져오기 커맨드
+     * @throws IOException 입력 스트림 읽기 실패
+     * @throws ConventionSetInvalidDocumentException 줄 구조가 형식과 다른 경우
+     */
+    public ImportConventionSetCommand read(InputStream in) throws IOException {
+        try {
+            return readLines(objectMapper.readerFor(JsonNode.class).readValues(in));
+        } catch (JsonProcessingException e) {
+            throw new ConventionSetInvalidDocumentException(
+                    "malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private ImportConventionSetCommand readLines(MappingIterator<JsonNode> lines)
+            throws IOException {
+        JsonNode header = null;
+        List<Section> sections = new ArrayList<>();
+        String table = null;
+        List<String> columns = null;
+        List<Object[]> rows = null;
+        long rowCount = 0;
+        boolean ended = false;
+        while (lines.hasNextValue()) {
+            JsonNode line = lines.nextValue();
+            if (ended) {
+                throw invalid("content after end line");
+            }
+            if (header == null) {
+                if (!line.path("format").isTextual() || !line.path("version").canConvertToInt()) {
+                    throw invalid("first line must be the format header");
+                }
+                header = line;
+            } else if (line.isArray()) {
+                if (rows == null) {
+                    throw invalid("row before table line");
+                }
+                rows.add(values(table, line));
+                rowCount++;
+            } else if (line.path("table").isTextual()) {
+                if (table != null) {
+                    sections.add(new Section(table, columns, rows));
+                }
+                table = line.get("table").textValue();
+                columns = columns(table, line.path("columns"));
+                rows = new ArrayList<>();
+            } else if (line.path("end").asBoolean(false)) {
+                JsonNode declared = line.path("rowCount");
+                if (!declared.isMissingNode() && declared.asLong() != rowCount) {
+                    throw invalid(
+                            "end line declares " + declared.asLong() + " rows, read " + rowCount);
+                }
+                ended = true;
+            } else {
+                throw invalid("unknown line " + line);
+            }
+        }
+        if (header == null) {
+            throw invalid("empty document");
+        }
+        if (!ended) {
+            throw invalid("missing end line (truncated document)");
+        }
+        if (table != null) {
+            sections.add(new Section(table, columns, rows));
+        }
+        return new ImportConventionSetCommand(
+                header.get("format").textValue(), header.get("version").asInt(), sections);
+    }
+
+    private static List<String> columns(String table, JsonNode node) {
+        if (!node.isArray()) {
+            throw invalid("columns of " + table + " must be an array");
+        }
+        List<String> columns = new ArrayList<>(node.size());
+        for (JsonNode column : node) {
+            if (!column.isTextual()) {
+                throw invalid("columns of " + table + " must be strings");
+            }
+            columns.add(column.textValue());
+        }
+        return columns;
+    }
+
+    private static Object[] values(String table, JsonNode row) {
+        Object[] values = new Object[row.size()];
+        for (int i = 0; i < values.length; i++) {
+            JsonNode node = row.get(i);
+            if (node.isContainerNode()) {
+                throw invalid("nested value in row of " + table);
+            }
+            values[i] = node.isNull() ? null : node.isNumber() ? node.numberValue() : scalar(node);
+        }
+        return values;
+    }
+
+    private static Object scalar(JsonNode node) {
+        return node.isBoolean() ? (Object) node.booleanValue() : node.asText();
+    }
+
+    private static ConventionSetInvalidDocumentException invalid(String reason) {
+        return new ConventionSetInvalidDocumentException(reason);
+    }
+}
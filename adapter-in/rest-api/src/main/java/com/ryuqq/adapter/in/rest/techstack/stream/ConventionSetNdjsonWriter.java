@@ -0,0 +1,290 @@
+package com.ryuqq.adapter.in.rest.techstack.stream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.ProgressListener;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.TableSummary;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetRowWriter;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.domain.common.exception.DomainException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * ConventionSetNdjsonWriter - 컨벤션 세트를 NDJSON으로 스트리밍
+ *
+ * <p>한 줄에 JSON 값 하나를 씁니다.
+ *
+ * <pre>{@code
+ * {"format":"convention-set","version":1,"techStackId":1,"exportedAt":"2026-01-01T00:00:00Z"}
+ * {"table":"tech_stack","columns":["id","name",...]}
+ * [1,"Spring Boot 3.5 with Java 21",...]
+ * {"table":"architecture","columns":["id","tech_stack_id",...]}
+ * ...
+ * {"end":true,"rowCount":123456,"counts":{"tech_stack":1,"architecture":2,...}}
+ * }</pre>
+ *
+ * <p>가져오기 결과는 같은 방식으로 진행 상황을 씁니다. 청크가 커밋될 때마다 한 줄을 쓰고 flush합니다.
+ *
+ * <pre>{@code
+ * {"format":"convention-set","version":1,"importedAt":"...","insertCount":9,"skippedCount":3}
+ * {"table":"tech_stack","rows":1,"skipped":1}
+ * ...
+ * {"table":"layer","inserted":4,"total":4}
+ * ...
+ * {"end":true,"inserted":9}
+ * }</pre>
+ *
+ * <p>청크 저장이 실패하면 end 대신 오류 줄을 쓰고 스트림을 끝냅니다. {@code inserted}는 실패 전까지 커밋된 행 수이며, 같은 문서를 다시 보내면 그
+ * 다음부터 이어집니다.
+ *
+ * <pre>{@code
+ * {"error":{"code":"DEADLINE_EXCEEDED","message":"..."},"inserted":2000}
+ * }</pre>
+ *
+ * <p>행은 DB 커서에서 읽는 대로 JsonGenerator 버퍼를 거쳐 응답에 쓰므로 힙 사용량은 행 수와 관계없이 일정합니다. 마지막 줄(end)이 없으면 도중에 실패한
+ * 불완전한 스트림입니다 (응답 헤더가 이미 나간 뒤라 상태 코드로 알릴 수 없음).
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetNdjsonWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(ConventionSetNdjsonWriter.class);
+
+    private static final String DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+    private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    public static final MediaType APPLICATION_NDJSON =
+            MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private final ObjectMapper objectMapper;
+
+    public ConventionSetNdjsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 응답 본문 생성
+     *
+     * @param result 내보내기 결과
+     * @return NDJSON 스트리밍 응답 본문
+     */
+    public StreamingResponseBody toResponseBody(ConventionSetExportResult result) {
+        return out -> write(result, out);
+    }
+
+    /**
+     * 출력 스트림에 NDJSON 쓰기
+     *
+     * <p>출력 스트림은 닫지 않습니다 (응답 스트림은 컨테이너가 닫음).
+     *
+     * @param result 내보내기 결과
+     * @param out 출력 스트림
+     * @throws IOException 출력 스트림 쓰기 실패
+     */
+    public void write(ConventionSetExportResult result, OutputStream out) throws IOException {
+        JsonGenerator generator = createGenerator(out);
+
+        generator.writeStartObject();
+        generator.writeStringField("format", ConventionSetFormat.NAME);
+        generator.writeNumberField("version", result.formatVersion());
+        generator.writeNumberField("techStackId", result.techStackId());
+        generator.writeStringField("exportedAt", result.exportedAt().toString());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+
+        Map<ConventionSetTable, Long> counts = result.writeRows(new LineWriter(generator));
+
+        long rowCount = 0;
+        for (long count : counts.values()) {
+            rowCount += count;
+        }
+        generator.writeStartObject();
+        generator.writeBooleanField("end", true);
+        generator.writeNumberField("rowCount", rowCount);
+        generator.writeObjectFieldStart("counts");
+        for (Map.Entry<ConventionSetTable, Long> entry : counts.entrySet()) {
+            generator.writeNumberField(entry.getKey().tableName(), entry.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        generator.close();
+    }
+
+    /**
+     * 가져오기 진행 응답 본문 생성
+     *
+     * @param result 가져오기 결과 (검증/계획 완료, 저장 전)
+     * @return NDJSON 스트리밍 응답 본문
+     */
+    public StreamingResponseBody toResponseBody(ConventionSetImportResult result) {
+        return out -> write(result, out);
+    }
+
+    /**
+     * 행을 저장하며 출력 스트림에 진행 상황 쓰기
+     *
+     * <p>출력 스트림은 닫지 않습니다 (응답 스트림은 컨테이너가 닫음). 청크 줄마다 flush하므로 클라이언트는 커밋된 진행 상황을 바로 받습니다. 청크 저장 실패는
+     * 응답 헤더가 이미 나간 뒤이므로 예외 대신 오류 줄로 알립니다.
+     *
+     * @param result 가져오기 결과
+     * @param out 출력 스트림
+     * @throws IOException 출력 스트림 쓰기 실패 (이후 청크는 저장하지 않음)
+     */
+    public void write(ConventionSetImportResult result, OutputStream out) throws IOException {
+        JsonGenerator generator = createGenerator(out);
+
+        generator.writeStartObject();
+        generator.writeStringField("format", ConventionSetFormat.NAME);
+        generator.writeNumberField("version", result.formatVersion());
+        generator.writeStringField("importedAt", result.importedAt().toString());
+        generator.writeNumberField("insertCount", result.insertCount());
+        generator.writeNumberField("skippedCount", result.skippedCount());
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+        for (TableSummary table : result.tables()) {
+            generator.writeStartObject();
+            generator.writeStringField("table", table.table().tableName());
+            generator.writeNumberField("rows", table.rowCount());
+            generator.writeNumberField("skipped", table.skippedCount());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        generator.flush();
+
+        ProgressLineWriter progress = new ProgressLineWriter(generator);
+        try {
+            long inserted = result.insertRows(progress);
+
+            generator.writeStartObject();
+            generator.writeBooleanField("end", true);
+            generator.writeNumberField("inserted", inserted);
+            generator.writeEndObject();
+        } catch (RuntimeException e) {
+            writeError(generator, e, progress.committed());
+        }
+        generator.writeRaw('\n');
+        generator.close();
+    }
+
+    private static void writeError(JsonGenerator generator, RuntimeException e, long committed)
+            throws IOException {
+        String code;
+        String message;
+        if (e instanceof DomainException domainException) {
+            log.warn("Convention set import failed: code={}", domainException.code());
+            code = domainException.code();
+            message = domainException.getMessage();
+        } else if (e instanceof DeadlineExceededException || e instanceof QueryTimeoutException) {
+            log.warn("Convention set import failed: code={}", DEADLINE_EXCEEDED);
+            code = DEADLINE_EXCEEDED;
+            message = "요청 처리 기한을 초과했습니다.";
+        } else {
+            log.error("Convention set import failed: code={}", INTERNAL_ERROR, e);
+            code = INTERNAL_ERROR;
+            message = "서버 오류가 발생했습니다.";
+        }
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("error");
+        generator.writeStringField("code", code);
+        generator.writeStringField("message", message);
+        generator.writeEndObject();
+        generator.writeNumberField("inserted", committed);
+        generator.writeEndObject();
+    }
+
+    /**
+     * 다운로드 파일명
+     *
+     * @param result 내보내기 결과
+     * @return convention-set-{techStackId}.ndjson
+     */
+    public String fileName(ConventionSetExportResult result) {
+        return ConventionSetFormat.NAME + "-" + result.techStackId() + ".ndjson";
+    }
+
+    private JsonGenerator createGenerator(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(out, JsonEncoding.UTF8);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setPrettyPrinter(null);
+        generator.setRootValueSeparator(null);
+        return generator;
+    }
+
+    /** 청크 커밋마다 진행 줄을 쓰고, 실패 시 알릴 커밋된 행 수를 누적 */
+    private static final class ProgressLineWriter implements ProgressListener {
+
+        private final JsonGenerator generator;
+        private final Map<ConventionSetTable, Integer> inserted =
+                new EnumMap<>(ConventionSetTable.class);
+
+        ProgressLineWriter(JsonGenerator generator) {
+            this.generator = generator;
+        }
+
+        @Override
+        public void chunkCommitted(ConventionSetTable table, int tableInserted, int total)
+                throws IOException {
+            inserted.put(table, tableInserted);
+            generator.writeStartObject();
+            generator.writeStringField("table", table.tableName());
+            generator.writeNumberField("inserted", tableInserted);
+            generator.writeNumberField("total", total);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+            generator.flush();
+        }
+
+        long committed() {
+            long committed = 0;
+            for (int count : inserted.values()) {
+                committed += count;
+            }
+            return committed;
+        }
+    }
+
+    private record LineWriter(JsonGenerator generator) implements ConventionSetRowWriter {
+
+        @Override
+        public void table(ConventionSetTable table) throws IOException {
+            generator.writeStartObject();
+            generator.writeStringField("table", table.tableName());
+            generator.writeArrayFieldStart("columns");
+            for (String column : table.columns()) {
+                generator.writeString(column);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void row(Object[] values) throws IOException {
+            generator.writeStartArray();
+            for (Object value : values) {
+                generator.writeObject(value);
+            }
+            generator.writeEndArray();
+            generator.writeRaw('\n');
+        }
+    }
+}
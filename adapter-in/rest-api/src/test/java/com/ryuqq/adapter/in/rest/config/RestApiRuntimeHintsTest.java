@@ -0,0 +1,53 @@
+package com.ryuqq.adapter.in.rest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.PlanningContextApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.RenderTemplatesApiRequest.RenderItemRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ModuleSummaryApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * RestApiRuntimeHints 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("RestApiRuntimeHints 단위 테스트")
+class RestApiRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new RestApiRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("@ModelAttribute 요청 Record와 중첩 요청 Record에 바인딩 힌트 등록")
+    void registerHints_ShouldRegisterRequestRecords() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(PlanningContextApiRequest.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(RenderItemRequest.class))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("공통 응답 래퍼와 응답 Record에 바인딩 힌트 등록")
+    void registerHints_ShouldRegisterResponseRecords() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(ApiResponse.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ModuleSummaryApiResponse.class))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("dto 패키지 밖의 클래스는 등록하지 않음")
+    void registerHints_ShouldSkipClassesOutsideDtoPackages() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(JacksonConfig.class)).rejects(hints);
+    }
+}
@@ -34,18 +34,30 @@ import com.ryuqq.application.codingrule.port.in.CreateCodingRuleUseCase;
 import com.ryuqq.application.codingrule.port.in.ListCodingRuleIndexUseCase;
 import com.ryuqq.application.codingrule.port.in.SearchCodingRulesByCursorUseCase;
 import com.ryuqq.application.codingrule.port.in.UpdateCodingRuleUseCase;
+import com.ryuqq.application.common.bulkhead.Bulkhead;
+import com.ryuqq.application.common.bulkhead.WorkloadBulkheads;
+import com.ryuqq.application.common.deadline.DeadlineMetrics;
 import com.ryuqq.application.convention.dto.response.ConventionSliceResult;
 import com.ryuqq.application.convention.port.in.CreateConventionUseCase;
 import com.ryuqq.application.convention.port.in.SearchConventionsByCursorUseCase;
 import com.ryuqq.application.convention.port.in.UpdateConventionUseCase;
+import com.ryuqq.application.conventionset.port.in.ExportConventionSetUseCase;
+import com.ryuqq.application.conventionset.port.in.ImportConventionSetUseCase;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeItemResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
 import com.ryuqq.application.feedbackqueue.port.in.CreateFeedbackUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.GetAwaitingHumanReviewUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.GetFeedbackQueueStatsUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.GetPendingFeedbacksUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackBatchUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.ProcessFeedbackUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.SearchFeedbacksByCursorUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.WaitForHumanReviewUseCase;
 import com.ryuqq.application.layer.dto.response.LayerSliceResult;
 import com.ryuqq.application.layer.port.in.CreateLayerUseCase;
 import com.ryuqq.application.layer.port.in.SearchLayersByCursorUseCase;
@@ -53,9 +65,14 @@ import com.ryuqq.application.layer.port.in.UpdateLayerUseCase;
 import com.ryuqq.application.layerdependency.port.in.CreateLayerDependencyRuleUseCase;
 import com.ryuqq.application.layerdependency.port.in.SearchLayerDependencyRulesByCursorUseCase;
 import com.ryuqq.application.layerdependency.port.in.UpdateLayerDependencyRuleUseCase;
+import com.ryuqq.application.mcp.port.in.ClassifyClassNamesUseCase;
 import com.ryuqq.application.mcp.port.in.GetModuleContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetPlanningContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetValidationContextUseCase;
+import com.ryuqq.application.mcp.port.in.RenderTemplatesUseCase;
+import com.ryuqq.application.mcp.port.in.ResolvePathsUseCase;
+import com.ryuqq.application.mcp.port.in.ScaffoldModuleUseCase;
+import com.ryuqq.application.mcp.port.in.ValidateImportEdgesUseCase;
 import com.ryuqq.application.module.dto.response.ModuleSliceResult;
 import com.ryuqq.application.module.port.in.CreateModuleUseCase;
 import com.ryuqq.application.module.port.in.GetModuleTreeUseCase;
@@ -86,7 +103,10 @@ import com.ryuqq.application.zerotolerance.port.in.CreateZeroToleranceRuleUseCas
 import com.ryuqq.application.zerotolerance.port.in.SearchZeroToleranceRulesByCursorUseCase;
 import com.ryuqq.application.zerotolerance.port.in.UpdateZeroToleranceRuleUseCase;
 import java.time.Instant;
+import java.time.Clock;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
@@ -102,6 +122,29 @@ import org.springframework.context.annotation.Primary;
 @TestConfiguration
 public class UseCaseMockConfiguration {
 
+    // ========================================
+    // Infrastructure (Bootstrap에서 제공하는 Bean)
+    // ========================================
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
+    /** 벌크헤드는 항상 즉시 허가 (동시 실행 한도 미적용) */
+    @Bean
+    public WorkloadBulkheads workloadBulkheads() {
+        Bulkhead bulkhead = mock(Bulkhead.class);
+        when(bulkhead.acquire()).thenReturn(() -> {});
+        WorkloadBulkheads bulkheads = mock(WorkloadBulkheads.class);
+        when(bulkheads.of(any())).thenReturn(bulkhead);
+        return bulkheads;
+    }
+
+    @Bean
+    public DeadlineMetrics deadlineMetrics() {
+        return mock(DeadlineMetrics.class);
+    }
+
     // ========================================
     // Architecture UseCases
     // ========================================
@@ -392,6 +435,46 @@ public class UseCaseMockConfiguration {
         return mock;
     }
 
+    @Bean
+    @Primary
+    public ResolvePathsUseCase resolvePathsUseCase() {
+        ResolvePathsUseCase mock = mock(ResolvePathsUseCase.class);
+        when(mock.execute(any())).thenReturn(null);
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public ClassifyClassNamesUseCase classifyClassNamesUseCase() {
+        ClassifyClassNamesUseCase mock = mock(ClassifyClassNamesUseCase.class);
+        when(mock.execute(any())).thenReturn(null);
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public ValidateImportEdgesUseCase validateImportEdgesUseCase() {
+        ValidateImportEdgesUseCase mock = mock(ValidateImportEdgesUseCase.class);
+        when(mock.execute(any())).thenReturn(null);
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public RenderTemplatesUseCase renderTemplatesUseCase() {
+        RenderTemplatesUseCase mock = mock(RenderTemplatesUseCase.class);
+        when(mock.execute(any())).thenReturn(null);
+        return mock;
+    }
+
+    @Bean
+    @Primary
+    public ScaffoldModuleUseCase scaffoldModuleUseCase() {
+        ScaffoldModuleUseCase mock = mock(ScaffoldModuleUseCase.class);
+        when(mock.execute(any())).thenReturn(null);
+        return mock;
+    }
+
     // ========================================
     // Module UseCases
     // ========================================
@@ -553,6 +636,18 @@ public class UseCaseMockConfiguration {
         return mock;
     }
 
+    @Bean
+    @Primary
+    public ExportConventionSetUseCase exportConventionSetUseCase() {
+        return mock(ExportConventionSetUseCase.class);
+    }
+
+    @Bean
+    @Primary
+    public ImportConventionSetUseCase importConventionSetUseCase() {
+        return mock(ImportConventionSetUseCase.class);
+    }
+
     // ========================================
     // ZeroTolerance UseCases
     // ========================================
@@ -598,6 +693,17 @@ public class UseCaseMockConfiguration {
         return mock;
     }
 
+    @Bean
+    @Primary
+    public GetFeedbackQueueStatsUseCase getFeedbackQueueStatsUseCase() {
+        GetFeedbackQueueStatsUseCase mock = mock(GetFeedbackQueueStatsUseCase.class);
+        when(mock.execute(any()))
+                .thenReturn(
+                        new FeedbackQueueStatsResult(
+                                0L, Map.of(), Map.of(), Map.of(), List.of(), Instant.now()));
+        return mock;
+    }
+
     @Bean
     @Primary
     public GetPendingFeedbacksUseCase getPendingFeedbacksUseCase() {
@@ -614,6 +720,16 @@ public class UseCaseMockConfiguration {
         return mock;
     }
 
+    @Bean
+    @Primary
+    public WaitForHumanReviewUseCase waitForHumanReviewUseCase() {
+        WaitForHumanReviewUseCase mock = mock(WaitForHumanReviewUseCase.class);
+        when(mock.execute(any()))
+                .thenReturn(
+                        CompletableFuture.completedFuture(HumanReviewInboxResult.unchanged(0L)));
+        return mock;
+    }
+
     @Bean
     @Primary
     public ProcessFeedbackUseCase processFeedbackUseCase() {
@@ -654,6 +770,32 @@ public class UseCaseMockConfiguration {
         return mock;
     }
 
+    @Bean
+    @Primary
+    public MergeFeedbackBatchUseCase mergeFeedbackBatchUseCase() {
+        MergeFeedbackBatchUseCase mock = mock(MergeFeedbackBatchUseCase.class);
+        when(mock.execute(any()))
+                .thenReturn(
+                        new FeedbackMergeBatchResult(
+                                List.of(
+                                        new FeedbackMergeItemResult(
+                                                new FeedbackQueueResult(
+                                                        1L,
+                                                        "CODING_RULE",
+                                                        1L,
+                                                        "MODIFY",
+                                                        "SAFE",
+                                                        "{\"codingRuleId\":1}",
+                                                        "MERGED",
+                                                        null,
+                                                        Instant.now(),
+                                                        Instant.now()),
+                                                1L,
+                                                1)),
+                                1));
+        return mock;
+    }
+
     // ========================================
     // ConfigFileTemplate UseCases
     // ========================================
@@ -26,6 +26,7 @@ import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.dto.command.ProcessFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.port.in.CreateFeedbackUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackBatchUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.ProcessFeedbackUseCase;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackAction;
@@ -53,6 +54,8 @@ class FeedbackQueueCommandControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private MergeFeedbackUseCase mergeFeedbackUseCase;
 
+    @MockitoBean private MergeFeedbackBatchUseCase mergeFeedbackBatchUseCase;
+
     @MockitoBean private FeedbackQueueCommandApiMapper commandMapper;
 
     @MockitoBean private FeedbackQueueQueryApiMapper queryMapper;
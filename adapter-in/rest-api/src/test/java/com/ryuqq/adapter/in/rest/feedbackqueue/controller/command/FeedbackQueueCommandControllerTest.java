@@ -6,11 +6,14 @@ import com.ryuqq.adapter.in.rest.TestRestApiApplication;
 import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.FeedbackQueueApiEndpoints;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.CreateFeedbackApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.MergeFeedbackBatchApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.RejectFeedbackApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackMergeBatchApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueIdApiResponse;
 import com.ryuqq.adapter.in.rest.fixture.request.CreateFeedbackApiRequestFixture;
 import com.ryuqq.adapter.in.rest.fixture.request.RejectFeedbackApiRequestFixture;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -250,4 +253,51 @@ class FeedbackQueueCommandControllerTest {
             assertThat(response.getBody()).isNotNull();
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/feedback-queue/merge-batch - 일괄 머지")
+    class MergeBatch {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() {
+            // Given
+            MergeFeedbackBatchApiRequest request =
+                    new MergeFeedbackBatchApiRequest(List.of(1L, 2L));
+            HttpEntity<MergeFeedbackBatchApiRequest> httpEntity = new HttpEntity<>(request);
+
+            // When
+            ResponseEntity<ApiResponse<FeedbackMergeBatchApiResponse>> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.MERGE_BATCH,
+                            HttpMethod.POST,
+                            httpEntity,
+                            new ParameterizedTypeReference<
+                                    ApiResponse<FeedbackMergeBatchApiResponse>>() {});
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().data().items()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("빈 ID 목록 요청 시 400 Bad Request 반환")
+        void emptyIds_ShouldReturn400() {
+            // Given
+            MergeFeedbackBatchApiRequest request = new MergeFeedbackBatchApiRequest(List.of());
+            HttpEntity<MergeFeedbackBatchApiRequest> httpEntity = new HttpEntity<>(request);
+
+            // When
+            ResponseEntity<String> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.MERGE_BATCH,
+                            HttpMethod.POST,
+                            httpEntity,
+                            String.class);
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
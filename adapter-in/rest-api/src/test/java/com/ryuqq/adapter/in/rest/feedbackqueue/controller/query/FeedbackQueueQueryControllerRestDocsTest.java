@@ -6,29 +6,44 @@ import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.docu
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.adapter.in.rest.common.error.ErrorMapperRegistry;
 import com.ryuqq.adapter.in.rest.feedbackqueue.FeedbackQueueApiEndpoints;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueStatsApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.HumanReviewInboxApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.mapper.FeedbackQueueQueryApiMapper;
 import com.ryuqq.adapter.in.rest.fixture.request.SearchFeedbacksCursorApiRequestFixture;
 import com.ryuqq.adapter.in.rest.fixture.response.FeedbackQueueApiResponseFixture;
 import com.ryuqq.application.common.dto.query.CommonCursorParams;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import com.ryuqq.application.feedbackqueue.port.in.GetFeedbackQueueStatsUseCase;
 import com.ryuqq.application.feedbackqueue.port.in.SearchFeedbacksByCursorUseCase;
+import com.ryuqq.application.feedbackqueue.port.in.WaitForHumanReviewUseCase;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 /**
@@ -43,6 +58,10 @@ class FeedbackQueueQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private SearchFeedbacksByCursorUseCase searchFeedbacksByCursorUseCase;
 
+    @MockitoBean private GetFeedbackQueueStatsUseCase getFeedbackQueueStatsUseCase;
+
+    @MockitoBean private WaitForHumanReviewUseCase waitForHumanReviewUseCase;
+
     @MockitoBean private FeedbackQueueQueryApiMapper mapper;
 
     @MockitoBean private ErrorMapperRegistry errorMapperRegistry;
@@ -63,7 +82,11 @@ class FeedbackQueueQueryControllerRestDocsTest extends RestDocsTestSupport {
                             request.targetTypes(),
                             request.feedbackTypes(),
                             request.riskLevels(),
-                            request.actions());
+                            request.actions(),
+                            request.includeArchived(),
+                            request.conventionId(),
+                            request.codingRuleId(),
+                            request.structureId());
             var result1 =
                     new FeedbackQueueResult(
                             1L,
@@ -93,6 +116,8 @@ class FeedbackQueueQueryControllerRestDocsTest extends RestDocsTestSupport {
                                     .param("feedbackTypes", "ADD", "MODIFY")
                                     .param("riskLevels", "SAFE", "MEDIUM")
                                     .param("actions", "LLM_APPROVE", "HUMAN_REJECT")
+                                    .param("includeArchived", "false")
+                                    .param("conventionId", "1")
                                     .param("size", "20"))
                     .andExpect(status().isOk())
                     .andExpect(jsonPath("$.data.content").isArray())
@@ -120,6 +145,18 @@ class FeedbackQueueQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .optional(),
                                             parameterWithName("actions")
                                                     .description("처리 액션 필터 (복수 선택 가능)")
+                                                    .optional(),
+                                            parameterWithName("includeArchived")
+                                                    .description("보관된 피드백 포함 여부 (기본값: false)")
+                                                    .optional(),
+                                            parameterWithName("conventionId")
+                                                    .description("페이로드 컨벤션 ID 필터")
+                                                    .optional(),
+                                            parameterWithName("codingRuleId")
+                                                    .description("페이로드 코딩 규칙 ID 필터 (ruleId 포함)")
+                                                    .optional(),
+                                            parameterWithName("structureId")
+                                                    .description("페이로드 패키지 구조 ID 필터")
                                                     .optional()),
                                     responseFields(
                                             fieldWithPath("data")
@@ -177,4 +214,187 @@ class FeedbackQueueQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .type(String.class))));
         }
     }
+
+    @Nested
+    @DisplayName("GET /stats - FeedbackQueue 통계 조회")
+    class GetStats {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() throws Exception {
+            // Given
+            var query = GetFeedbackQueueStatsQuery.of(List.of(0.5, 0.9));
+            var result =
+                    new FeedbackQueueStatsResult(
+                            12L,
+                            Map.of("PENDING", 10L, "MERGED", 2L),
+                            Map.of("SAFE", 12L),
+                            Map.of("CODING_RULE", 12L),
+                            List.of(),
+                            Instant.parse("2024-01-01T00:00:00Z"));
+            var response =
+                    new FeedbackQueueStatsApiResponse(
+                            12L,
+                            Map.of("PENDING", 10L, "MERGED", 2L),
+                            Map.of("SAFE", 12L),
+                            Map.of("CODING_RULE", 12L),
+                            List.of(
+                                    new FeedbackQueueStatsApiResponse.StatusAge(
+                                            "PENDING",
+                                            10L,
+                                            7200L,
+                                            List.of(
+                                                    new FeedbackQueueStatsApiResponse.Percentile(
+                                                            0.5, 600L),
+                                                    new FeedbackQueueStatsApiResponse.Percentile(
+                                                            0.9, 3600L)))),
+                            "2024-01-01T09:00:00");
+
+            given(mapper.toStatsQuery(any())).willReturn(query);
+            given(getFeedbackQueueStatsUseCase.execute(any())).willReturn(result);
+            given(mapper.toStatsResponse(any())).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(
+                            get(FeedbackQueueApiEndpoints.STATS)
+                                    .param("percentiles", "0.5", "0.9"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.total").value(12))
+                    .andDo(
+                            document(
+                                    "feedback-queue-stats",
+                                    queryParameters(
+                                            parameterWithName("percentiles")
+                                                    .description(
+                                                            "대기 시간 백분위 (0 초과 1 이하, 기본값:"
+                                                                    + " 0.5,0.9,0.99)")
+                                                    .optional()),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.total")
+                                                    .description("활성 피드백 전체 건수")
+                                                    .type(Long.class),
+                                            subsectionWithPath("data.byStatus")
+                                                    .description("상태별 건수")
+                                                    .type(Object.class),
+                                            subsectionWithPath("data.byRiskLevel")
+                                                    .description("리스크 레벨별 건수")
+                                                    .type(Object.class),
+                                            subsectionWithPath("data.byTargetType")
+                                                    .description("대상 타입별 건수")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.ages")
+                                                    .description("처리 중 상태별 대기 시간 통계")
+                                                    .type(java.util.List.class),
+                                            fieldWithPath("data.ages[].status")
+                                                    .description("처리 상태")
+                                                    .type(String.class),
+                                            fieldWithPath("data.ages[].count")
+                                                    .description("상태별 건수")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.ages[].maxAgeSeconds")
+                                                    .description("최대 대기 시간 (초)")
+                                                    .type(Long.class)
+                                                    .optional(),
+                                            fieldWithPath("data.ages[].percentiles")
+                                                    .description("백분위별 대기 시간")
+                                                    .type(java.util.List.class),
+                                            fieldWithPath("data.ages[].percentiles[].percentile")
+                                                    .description("백분위")
+                                                    .type(Double.class),
+                                            fieldWithPath("data.ages[].percentiles[].ageSeconds")
+                                                    .description("대기 시간 (초)")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.generatedAt")
+                                                    .description("집계 일시")
+                                                    .type(String.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /human-review/inbox - Human 리뷰 인박스 롱폴링")
+    class WaitHumanReviewInbox {
+
+        @Test
+        @DisplayName("인박스 변경 시 200 OK와 대기 목록 반환")
+        void changedInbox_ShouldReturn200() throws Exception {
+            // Given
+            var query = WaitForHumanReviewQuery.of(3L, 20, Duration.ofSeconds(25));
+            var sliceResult = FeedbackQueueSliceResult.empty();
+            var result = HumanReviewInboxResult.changed(4L, sliceResult);
+            var response =
+                    new HumanReviewInboxApiResponse(
+                            "4",
+                            true,
+                            SliceApiResponse.of(
+                                    List.of(FeedbackQueueApiResponseFixture.valid()),
+                                    20,
+                                    false,
+                                    null));
+
+            given(mapper.toInboxQuery(any())).willReturn(query);
+            given(waitForHumanReviewUseCase.execute(any()))
+                    .willReturn(CompletableFuture.completedFuture(result));
+            given(mapper.toInboxResponse(any())).willReturn(response);
+
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    get(FeedbackQueueApiEndpoints.HUMAN_REVIEW_INBOX)
+                                            .param("cursor", "3")
+                                            .param("size", "20")
+                                            .param("waitSeconds", "25"))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // When & Then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.cursor").value("4"))
+                    .andExpect(jsonPath("$.data.changed").value(true))
+                    .andDo(
+                            document(
+                                    "feedback-queue-human-review-inbox",
+                                    queryParameters(
+                                            parameterWithName("cursor")
+                                                    .description(
+                                                            "마지막으로 받은 인박스 커서 (없으면 대기 없이"
+                                                                    + " 즉시 반환)")
+                                                    .optional(),
+                                            parameterWithName("size")
+                                                    .description("인박스 조회 크기 (1~100)")
+                                                    .optional(),
+                                            parameterWithName("waitSeconds")
+                                                    .description("최대 대기 시간 초 (1~55, 기본값: 25)")
+                                                    .optional()),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.cursor")
+                                                    .description("다음 요청에 전달할 인박스 커서")
+                                                    .type(String.class),
+                                            fieldWithPath("data.changed")
+                                                    .description(
+                                                            "인박스 변경 여부 (false면 대기 시간 내 새 항목"
+                                                                    + " 없음)")
+                                                    .type(Boolean.class),
+                                            subsectionWithPath("data.feedbacks")
+                                                    .description("Human 승인 대기 피드백 슬라이스")
+                                                    .type(Object.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+    }
 }
@@ -7,6 +7,8 @@ import com.ryuqq.adapter.in.rest.common.dto.ApiResponse;
 import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
 import com.ryuqq.adapter.in.rest.feedbackqueue.FeedbackQueueApiEndpoints;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueStatsApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.HumanReviewInboxApiResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -141,4 +143,83 @@ class FeedbackQueueQueryControllerTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
         }
     }
+
+    @Nested
+    @DisplayName("GET /stats - FeedbackQueue 통계 조회")
+    class GetStats {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() {
+            // When
+            ResponseEntity<ApiResponse<FeedbackQueueStatsApiResponse>> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.STATS + "?percentiles=0.5,0.9",
+                            HttpMethod.GET,
+                            null,
+                            new ParameterizedTypeReference<
+                                    ApiResponse<FeedbackQueueStatsApiResponse>>() {});
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().data()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("백분위가 범위를 벗어나면 400 Bad Request 반환")
+        void percentileOutOfRange_ShouldReturn400() {
+            // When
+            ResponseEntity<ApiResponse<FeedbackQueueStatsApiResponse>> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.STATS + "?percentiles=1.5",
+                            HttpMethod.GET,
+                            null,
+                            new ParameterizedTypeReference<
+                                    ApiResponse<FeedbackQueueStatsApiResponse>>() {});
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /human-review/inbox - Human 리뷰 인박스 롱폴링")
+    class WaitHumanReviewInbox {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() {
+            // When
+            ResponseEntity<ApiResponse<HumanReviewInboxApiResponse>> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.HUMAN_REVIEW_INBOX
+                                    + "?cursor=0&waitSeconds=1",
+                            HttpMethod.GET,
+                            null,
+                            new ParameterizedTypeReference<
+                                    ApiResponse<HumanReviewInboxApiResponse>>() {});
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).isNotNull();
+            assertThat(response.getBody().data()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("대기 시간이 범위를 벗어나면 400 Bad Request 반환")
+        void waitSecondsOutOfRange_ShouldReturn400() {
+            // When
+            ResponseEntity<ApiResponse<HumanReviewInboxApiResponse>> response =
+                    restTemplate.exchange(
+                            FeedbackQueueApiEndpoints.HUMAN_REVIEW_INBOX + "?waitSeconds=120",
+                            HttpMethod.GET,
+                            null,
+                            new ParameterizedTypeReference<
+                                    ApiResponse<HumanReviewInboxApiResponse>>() {});
+
+            // Then
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
 }
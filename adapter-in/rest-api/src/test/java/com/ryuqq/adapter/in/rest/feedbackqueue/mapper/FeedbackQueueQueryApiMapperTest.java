@@ -3,14 +3,26 @@ package com.ryuqq.adapter.in.rest.feedbackqueue.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import com.ryuqq.adapter.in.rest.common.dto.SliceApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.GetFeedbackQueueStatsApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.SearchFeedbacksCursorApiRequest;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.request.WaitHumanReviewInboxApiRequest;
 import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.FeedbackQueueStatsApiResponse;
+import com.ryuqq.adapter.in.rest.feedbackqueue.dto.response.HumanReviewInboxApiResponse;
 import com.ryuqq.adapter.in.rest.fixture.request.SearchFeedbacksCursorApiRequestFixture;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueAgePercentileResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatusAgeResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -104,6 +116,8 @@ class FeedbackQueueQueryApiMapperTest {
             assertThat(searchParams.riskLevels()).contains("SAFE", "MEDIUM");
             assertThat(searchParams.feedbackTypes()).contains("ADD", "MODIFY");
             assertThat(searchParams.actions()).contains("LLM_APPROVE", "HUMAN_REJECT");
+            assertThat(searchParams.conventionId()).isEqualTo(1L);
+            assertThat(searchParams.hasPayloadFilter()).isTrue();
         }
     }
 
@@ -299,4 +313,87 @@ class FeedbackQueueQueryApiMapperTest {
             assertThat(response.nextCursor()).isNull();
         }
     }
+
+    @Nested
+    @DisplayName("toStatsQuery / toStatsResponse")
+    class Stats {
+
+        @Test
+        @DisplayName("백분위 미지정 시 기본 백분위 적용")
+        void nullPercentiles_ShouldUseDefaults() {
+            // When
+            GetFeedbackQueueStatsQuery query =
+                    mapper.toStatsQuery(new GetFeedbackQueueStatsApiRequest(null));
+
+            // Then
+            assertThat(query.percentiles()).containsExactly(0.5, 0.9, 0.99);
+        }
+
+        @Test
+        @DisplayName("통계 결과 변환")
+        void statsResult_ShouldMapCorrectly() {
+            // Given
+            var result =
+                    new FeedbackQueueStatsResult(
+                            3L,
+                            Map.of("PENDING", 3L),
+                            Map.of("SAFE", 3L),
+                            Map.of("CODING_RULE", 3L),
+                            List.of(
+                                    new FeedbackQueueStatusAgeResult(
+                                            "PENDING",
+                                            3L,
+                                            120L,
+                                            List.of(
+                                                    new FeedbackQueueAgePercentileResult(
+                                                            0.5, 60L)))),
+                            Instant.parse("2024-01-01T00:00:00Z"));
+
+            // When
+            FeedbackQueueStatsApiResponse response = mapper.toStatsResponse(result);
+
+            // Then
+            assertThat(response.total()).isEqualTo(3L);
+            assertThat(response.byStatus()).containsEntry("PENDING", 3L);
+            assertThat(response.ages()).hasSize(1);
+            assertThat(response.ages().get(0).maxAgeSeconds()).isEqualTo(120L);
+            assertThat(response.ages().get(0).percentiles())
+                    .containsExactly(new FeedbackQueueStatsApiResponse.Percentile(0.5, 60L));
+            assertThat(response.generatedAt()).isNotNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("toInboxQuery / toInboxResponse")
+    class Inbox {
+
+        @Test
+        @DisplayName("size/waitSeconds 미지정 시 기본값 20 / 25초 사용")
+        void emptyRequest_ShouldUseDefaults() {
+            // Given
+            WaitHumanReviewInboxApiRequest request =
+                    new WaitHumanReviewInboxApiRequest(null, null, null);
+
+            // When
+            WaitForHumanReviewQuery query = mapper.toInboxQuery(request);
+
+            // Then
+            assertThat(query.isInitial()).isTrue();
+            assertThat(query.size()).isEqualTo(20);
+            assertThat(query.waitTimeout()).isEqualTo(Duration.ofSeconds(25));
+        }
+
+        @Test
+        @DisplayName("unchanged 결과는 빈 목록과 같은 커서로 변환")
+        void unchangedResult_ShouldMapCursorAndEmptyFeedbacks() {
+            // When
+            HumanReviewInboxApiResponse response =
+                    mapper.toInboxResponse(HumanReviewInboxResult.unchanged(7L));
+
+            // Then
+            assertThat(response.cursor()).isEqualTo("7");
+            assertThat(response.changed()).isFalse();
+            assertThat(response.feedbacks().content()).isEmpty();
+        }
+    }
 }
@@ -3,24 +3,42 @@ package com.ryuqq.adapter.in.rest.mcp.controller.query;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.requestFields;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.payload.PayloadDocumentation.subsectionWithPath;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.adapter.in.rest.common.RestDocsTestSupport;
 import com.ryuqq.adapter.in.rest.common.error.ErrorMapperRegistry;
 import com.ryuqq.adapter.in.rest.mcp.McpApiEndpoints;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ClassifyClassNamesApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.RenderTemplatesApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.RenderTemplatesApiRequest.RenderItemRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ResolvePathsApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ScaffoldModuleApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidateImportEdgesApiRequest;
+import com.ryuqq.adapter.in.rest.mcp.dto.request.ValidateImportEdgesApiRequest.ImportEdgeRequest;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ArchitectureSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ChecklistItemApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassifiedClassNameApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ClassifyClassNamesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConfigFileApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ConfigFilesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ExecutionContextApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ImportEdgeViolationApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.LayerSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.LayerValidationStatsApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ModuleContextApiResponse;
@@ -30,31 +48,54 @@ import com.ryuqq.adapter.in.rest.mcp.dto.response.OnboardingApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.OnboardingContextsApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PlanningContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.PlanningContextSummaryApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.RenderTemplatesApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.RenderedTemplateApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ResolvePathsApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ResolvedPathApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.RuleContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.TechStackSummaryApiResponse;
+import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidateImportEdgesApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidationContextApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ValidationContextSummaryApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.dto.response.ZeroToleranceRuleApiResponse;
 import com.ryuqq.adapter.in.rest.mcp.mapper.McpQueryApiMapper;
+import com.ryuqq.adapter.in.rest.mcp.stream.ModuleScaffoldZipWriter;
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.common.template.TemplateSyntax;
 import com.ryuqq.application.mcp.dto.query.ModuleContextQuery;
 import com.ryuqq.application.mcp.dto.query.PlanningContextQuery;
 import com.ryuqq.application.mcp.dto.query.ValidationContextQuery;
+import com.ryuqq.application.mcp.dto.response.ClassifyClassNamesResult;
 import com.ryuqq.application.mcp.dto.response.ConfigFilesResult;
 import com.ryuqq.application.mcp.dto.response.ModuleContextResult;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
 import com.ryuqq.application.mcp.dto.response.OnboardingContextsResult;
 import com.ryuqq.application.mcp.dto.response.PlanningContextResult;
+import com.ryuqq.application.mcp.dto.response.RenderTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.ResolvePathsResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileResult;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
 import com.ryuqq.application.mcp.dto.response.ValidationContextResult;
+import com.ryuqq.application.mcp.port.in.ClassifyClassNamesUseCase;
 import com.ryuqq.application.mcp.port.in.GetConfigFilesForMcpUseCase;
 import com.ryuqq.application.mcp.port.in.GetModuleContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetOnboardingForMcpUseCase;
 import com.ryuqq.application.mcp.port.in.GetPlanningContextUseCase;
 import com.ryuqq.application.mcp.port.in.GetValidationContextUseCase;
+import com.ryuqq.application.mcp.port.in.RenderTemplatesUseCase;
+import com.ryuqq.application.mcp.port.in.ResolvePathsUseCase;
+import com.ryuqq.application.mcp.port.in.ScaffoldModuleUseCase;
+import com.ryuqq.application.mcp.port.in.ValidateImportEdgesUseCase;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
 /**
@@ -64,6 +105,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
  * @since 1.0.0
  */
 @WebMvcTest(McpQueryController.class)
+@Import(ModuleScaffoldZipWriter.class)
 @DisplayName("McpQueryController REST Docs")
 class McpQueryControllerRestDocsTest extends RestDocsTestSupport {
 
@@ -77,6 +119,16 @@ class McpQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private GetOnboardingForMcpUseCase getOnboardingForMcpUseCase;
 
+    @MockitoBean private ResolvePathsUseCase resolvePathsUseCase;
+
+    @MockitoBean private ClassifyClassNamesUseCase classifyClassNamesUseCase;
+
+    @MockitoBean private ValidateImportEdgesUseCase validateImportEdgesUseCase;
+
+    @MockitoBean private RenderTemplatesUseCase renderTemplatesUseCase;
+
+    @MockitoBean private ScaffoldModuleUseCase scaffoldModuleUseCase;
+
     @MockitoBean private McpQueryApiMapper mapper;
 
     @MockitoBean private ErrorMapperRegistry errorMapperRegistry;
@@ -683,4 +735,504 @@ class McpQueryControllerRestDocsTest extends RestDocsTestSupport {
                     .andDo(document("mcp-onboarding-validation-error"));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/mcp/resolve-paths - 파일 경로 해석")
+    class ResolvePaths {
+
+        private static final String PATH =
+                "adapter-out/persistence-mysql/src/main/java/com/ryuqq/adapter/out/persistence"
+                        + "/order/adapter/OrderCommandAdapter.java";
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() throws Exception {
+            // Given
+            var request = new ResolvePathsApiRequest(1L, List.of(PATH));
+            var response =
+                    new ResolvePathsApiResponse(
+                            List.of(
+                                    new ResolvedPathApiResponse(
+                                            PATH,
+                                            3L,
+                                            "adapter-out/persistence-mysql",
+                                            37L,
+                                            "{base_package}.{domain}.adapter",
+                                            24L,
+                                            "COMMAND_ADAPTER")),
+                            1);
+
+            given(mapper.toQuery(any(ResolvePathsApiRequest.class))).willReturn(null);
+            given(resolvePathsUseCase.execute(any())).willReturn(null);
+            given(mapper.toResponse((ResolvePathsResult) any())).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.RESOLVE_PATHS)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.paths[0].moduleId").value(3))
+                    .andExpect(jsonPath("$.data.resolvedCount").value(1))
+                    .andDo(
+                            document(
+                                    "mcp-resolve-paths",
+                                    requestFields(
+                                            fieldWithPath("architectureId")
+                                                    .description("아키텍처 ID (필수)")
+                                                    .type(Long.class),
+                                            fieldWithPath("paths")
+                                                    .description("저장소 상대 파일 경로 목록 (필수, 최대 500개)")
+                                                    .type(List.class)),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.paths")
+                                                    .description("경로별 해석 결과 (요청 순서)")
+                                                    .type(List.class),
+                                            fieldWithPath("data.paths[].path")
+                                                    .description("요청한 파일 경로")
+                                                    .type(String.class),
+                                            fieldWithPath("data.paths[].moduleId")
+                                                    .description("모듈 ID (일치하는 모듈이 없으면 null)")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.paths[].modulePath")
+                                                    .description("일치한 모듈 경로")
+                                                    .type(String.class),
+                                            fieldWithPath("data.paths[].structureId")
+                                                    .description("패키지 구조 ID (일치하는 구조가 없으면 null)")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.paths[].pathPattern")
+                                                    .description("일치한 패키지 경로 패턴")
+                                                    .type(String.class),
+                                            fieldWithPath("data.paths[].classTypeId")
+                                                    .description("파일명으로 추론한 클래스 타입 ID")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.paths[].classType")
+                                                    .description("파일명으로 추론한 클래스 타입 코드")
+                                                    .type(String.class),
+                                            fieldWithPath("data.resolvedCount")
+                                                    .description("모듈까지 해석된 경로 수")
+                                                    .type(Integer.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+
+        @Test
+        @DisplayName("paths가 비어 있으면 400 Bad Request 반환")
+        void emptyPaths_ShouldReturn400() throws Exception {
+            // Given
+            var request = new ResolvePathsApiRequest(1L, List.of());
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.RESOLVE_PATHS)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(document("mcp-resolve-paths-validation-error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/mcp/classify-class-names - 클래스명 일괄 분류")
+    class ClassifyClassNames {
+
+        private static final String CLASS_NAME = "com.ryuqq.domain.order.aggregate.Order";
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() throws Exception {
+            // Given
+            var request = new ClassifyClassNamesApiRequest(1L, List.of(CLASS_NAME));
+            var response =
+                    new ClassifyClassNamesApiResponse(
+                            List.of(
+                                    new ClassifiedClassNameApiResponse(
+                                            CLASS_NAME,
+                                            2L,
+                                            "AGGREGATE",
+                                            12L,
+                                            "{base_package}.{domain}.aggregate",
+                                            1L)),
+                            1);
+
+            given(mapper.toQuery(any(ClassifyClassNamesApiRequest.class))).willReturn(null);
+            given(classifyClassNamesUseCase.execute(any())).willReturn(null);
+            given(mapper.toResponse((ClassifyClassNamesResult) any())).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.CLASSIFY_CLASS_NAMES)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.classes[0].classType").value("AGGREGATE"))
+                    .andExpect(jsonPath("$.data.classifiedCount").value(1))
+                    .andDo(
+                            document(
+                                    "mcp-classify-class-names",
+                                    requestFields(
+                                            fieldWithPath("architectureId")
+                                                    .description("아키텍처 ID (필수)")
+                                                    .type(Long.class),
+                                            fieldWithPath("classNames")
+                                                    .description("완전한 클래스명 목록 (필수, 최대 10000개)")
+                                                    .type(List.class)),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.classes")
+                                                    .description("클래스명별 분류 결과 (요청 순서)")
+                                                    .type(List.class),
+                                            fieldWithPath("data.classes[].className")
+                                                    .description("요청한 클래스명")
+                                                    .type(String.class),
+                                            fieldWithPath("data.classes[].classTypeId")
+                                                    .description(
+                                                            "클래스 타입 ID (일치하는 naming_pattern이 없으면"
+                                                                    + " null)")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.classes[].classType")
+                                                    .description("클래스 타입 코드")
+                                                    .type(String.class),
+                                            fieldWithPath("data.classes[].structureId")
+                                                    .description(
+                                                            "패키지 구조 ID (패키지가 없거나 일치하지 않으면 null)")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.classes[].pathPattern")
+                                                    .description("일치한 패키지 경로 패턴")
+                                                    .type(String.class),
+                                            fieldWithPath("data.classes[].moduleId")
+                                                    .description("패키지 구조가 속한 모듈 ID")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.classifiedCount")
+                                                    .description("클래스 타입이 분류된 클래스명 수")
+                                                    .type(Integer.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+
+        @Test
+        @DisplayName("classNames가 비어 있으면 400 Bad Request 반환")
+        void emptyClassNames_ShouldReturn400() throws Exception {
+            // Given
+            var request = new ClassifyClassNamesApiRequest(1L, List.of());
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.CLASSIFY_CLASS_NAMES)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(document("mcp-classify-class-names-validation-error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/mcp/validate-imports - import 간선 레이어 의존성 검사")
+    class ValidateImports {
+
+        private static final String AGGREGATE = "com.ryuqq.domain.order.aggregate";
+        private static final String PORT_IN = "com.ryuqq.application.order.port.in";
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() throws Exception {
+            // Given
+            var request =
+                    new ValidateImportEdgesApiRequest(
+                            1L, List.of(new ImportEdgeRequest(AGGREGATE, PORT_IN)));
+            var response =
+                    new ValidateImportEdgesApiResponse(
+                            List.of(
+                                    new ImportEdgeViolationApiResponse(
+                                            AGGREGATE,
+                                            PORT_IN,
+                                            "DOMAIN",
+                                            "APPLICATION",
+                                            "FORBIDDEN")),
+                            1,
+                            0);
+
+            given(mapper.toQuery(any(ValidateImportEdgesApiRequest.class))).willReturn(null);
+            given(validateImportEdgesUseCase.execute(any())).willReturn(null);
+            given(mapper.toResponse((ValidateImportEdgesResult) any())).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.VALIDATE_IMPORTS)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.violations[0].violationType").value("FORBIDDEN"))
+                    .andExpect(jsonPath("$.data.checkedCount").value(1))
+                    .andDo(
+                            document(
+                                    "mcp-validate-imports",
+                                    requestFields(
+                                            fieldWithPath("architectureId")
+                                                    .description("아키텍처 ID (필수)")
+                                                    .type(Long.class),
+                                            fieldWithPath("edges")
+                                                    .description("import 간선 목록 (필수, 최대 50000개)")
+                                                    .type(List.class),
+                                            fieldWithPath("edges[].fromPackage")
+                                                    .description("import하는 클래스의 패키지")
+                                                    .type(String.class),
+                                            fieldWithPath("edges[].toPackage")
+                                                    .description("import되는 클래스의 패키지")
+                                                    .type(String.class)),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.violations")
+                                                    .description("위반 간선 (요청 순서)")
+                                                    .type(List.class),
+                                            fieldWithPath("data.violations[].fromPackage")
+                                                    .description("import하는 클래스의 패키지")
+                                                    .type(String.class),
+                                            fieldWithPath("data.violations[].toPackage")
+                                                    .description("import되는 클래스의 패키지")
+                                                    .type(String.class),
+                                            fieldWithPath("data.violations[].fromLayer")
+                                                    .description("from 패키지의 레이어 코드")
+                                                    .type(String.class),
+                                            fieldWithPath("data.violations[].toLayer")
+                                                    .description("to 패키지의 레이어 코드")
+                                                    .type(String.class),
+                                            fieldWithPath("data.violations[].violationType")
+                                                    .description(
+                                                            "위반 유형 (FORBIDDEN: 금지 규칙, UNDECLARED:"
+                                                                    + " 허용 규칙으로 도달 불가)")
+                                                    .type(String.class),
+                                            fieldWithPath("data.checkedCount")
+                                                    .description("양쪽 패키지가 레이어로 해석되어 검사한 간선 수")
+                                                    .type(Integer.class),
+                                            fieldWithPath("data.unresolvedCount")
+                                                    .description("레이어로 해석되지 않아 검사하지 않은 간선 수")
+                                                    .type(Integer.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+
+        @Test
+        @DisplayName("간선 패키지가 비어 있으면 400 Bad Request 반환")
+        void blankPackage_ShouldReturn400() throws Exception {
+            // Given
+            var request =
+                    new ValidateImportEdgesApiRequest(
+                            1L, List.of(new ImportEdgeRequest(AGGREGATE, " ")));
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.VALIDATE_IMPORTS)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(document("mcp-validate-imports-validation-error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/mcp/render-templates - 템플릿 일괄 렌더링")
+    class RenderTemplates {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK 반환")
+        void validRequest_ShouldReturn200() throws Exception {
+            // Given
+            var request =
+                    new RenderTemplatesApiRequest(
+                            List.of(
+                                    new RenderItemRequest(
+                                            "CLASS",
+                                            1L,
+                                            Map.of("Domain", "Order", "domain", "order"))));
+            var response =
+                    new RenderTemplatesApiResponse(
+                            List.of(
+                                    new RenderedTemplateApiResponse(
+                                            "CLASS",
+                                            1L,
+                                            "@GetMapping(\"/orders/{id}\")",
+                                            List.of("id"))),
+                            1);
+
+            given(mapper.toQuery(any(RenderTemplatesApiRequest.class))).willReturn(null);
+            given(renderTemplatesUseCase.execute(any())).willReturn(null);
+            given(mapper.toResponse((RenderTemplatesResult) any())).willReturn(response);
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.RENDER_TEMPLATES)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.templates[0].missingVariables[0]").value("id"))
+                    .andExpect(jsonPath("$.data.compiledCount").value(1))
+                    .andDo(
+                            document(
+                                    "mcp-render-templates",
+                                    requestFields(
+                                            fieldWithPath("items")
+                                                    .description("렌더링 항목 목록 (필수, 최대 500개)")
+                                                    .type(List.class),
+                                            fieldWithPath("items[].templateType")
+                                                    .description(
+                                                            "템플릿 종류 (CLASS, CONFIG_FILE,"
+                                                                    + " RESOURCE)")
+                                                    .type(String.class),
+                                            fieldWithPath("items[].templateId")
+                                                    .description("템플릿 ID")
+                                                    .type(Long.class),
+                                            subsectionWithPath("items[].variables")
+                                                    .description("변수 이름 → 값 (선택)")
+                                                    .type(Object.class)),
+                                    responseFields(
+                                            fieldWithPath("data")
+                                                    .description("응답 데이터")
+                                                    .type(Object.class),
+                                            fieldWithPath("data.templates")
+                                                    .description("렌더링 결과 (요청 순서)")
+                                                    .type(List.class),
+                                            fieldWithPath("data.templates[].templateType")
+                                                    .description("템플릿 종류")
+                                                    .type(String.class),
+                                            fieldWithPath("data.templates[].templateId")
+                                                    .description("템플릿 ID")
+                                                    .type(Long.class),
+                                            fieldWithPath("data.templates[].content")
+                                                    .description("렌더링 결과 (값이 없는 자리표시자는 원문 유지)")
+                                                    .type(String.class),
+                                            fieldWithPath("data.templates[].missingVariables")
+                                                    .description("템플릿이 참조하지만 값이 주어지지 않은 변수 이름")
+                                                    .type(List.class),
+                                            fieldWithPath("data.compiledCount")
+                                                    .description("이번 요청에서 새로 컴파일한 템플릿 수")
+                                                    .type(Integer.class),
+                                            fieldWithPath("timestamp")
+                                                    .description("응답 시간")
+                                                    .type(String.class),
+                                            fieldWithPath("requestId")
+                                                    .description("요청 ID")
+                                                    .type(String.class))));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 템플릿 종류면 400 Bad Request 반환")
+        void unknownTemplateType_ShouldReturn400() throws Exception {
+            // Given
+            var request =
+                    new RenderTemplatesApiRequest(
+                            List.of(new RenderItemRequest("MODULE", 1L, Map.of())));
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.RENDER_TEMPLATES)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(document("mcp-render-templates-validation-error"));
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/mcp/module/{moduleId}/scaffold - Module 스캐폴드 ZIP")
+    class ScaffoldModule {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK와 ZIP 스트리밍")
+        void validRequest_ShouldStreamZip() throws Exception {
+            // Given
+            var request =
+                    new ScaffoldModuleApiRequest(
+                            Map.of("base_package", "com.ryuqq", "Domain", "Order"),
+                            List.of("CLAUDE"));
+            var result =
+                    new ModuleScaffoldResult(
+                            1L,
+                            "adapter-in/rest-api",
+                            List.of(
+                                    new ScaffoldFileResult(
+                                            "adapter-in/rest-api/src/main/java/com/ryuqq/"
+                                                    + "OrderController.java",
+                                            "CLASS",
+                                            1L,
+                                            CompiledTemplate.compile(
+                                                    "class {Domain}Controller {}",
+                                                    TemplateSyntax.SINGLE_BRACE),
+                                            Map.of("Domain", "Order"))),
+                            0);
+
+            given(mapper.toQuery(any(ScaffoldModuleApiRequest.class), eq(1L))).willReturn(null);
+            given(scaffoldModuleUseCase.execute(any())).willReturn(result);
+
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    post(McpApiEndpoints.BASE + McpApiEndpoints.MODULE_SCAFFOLD, 1L)
+                                            .contentType(MediaType.APPLICATION_JSON)
+                                            .content(objectMapper.writeValueAsString(request)))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // When & Then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/zip"))
+                    .andExpect(
+                            header().string(
+                                            HttpHeaders.CONTENT_DISPOSITION,
+                                            "attachment; filename=\"rest-api.zip\""))
+                    .andDo(
+                            document(
+                                    "mcp-module-scaffold",
+                                    pathParameters(
+                                            parameterWithName("moduleId").description("모듈 ID")),
+                                    requestFields(
+                                            subsectionWithPath("variables")
+                                                    .description("변수 이름 → 값 (선택)")
+                                                    .type(Object.class),
+                                            fieldWithPath("toolTypes")
+                                                    .description(
+                                                            "설정 파일 도구 타입 목록 (선택, 비어 있으면"
+                                                                    + " 설정 파일 제외)")
+                                                    .type(List.class)),
+                                    responseHeaders(
+                                            headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                    .description("application/zip"),
+                                            headerWithName(HttpHeaders.CONTENT_DISPOSITION)
+                                                    .description("첨부 파일명 (모듈 경로 마지막 이름.zip)"))));
+        }
+
+        @Test
+        @DisplayName("지원하지 않는 도구 타입이면 400 Bad Request 반환")
+        void unknownToolType_ShouldReturn400() throws Exception {
+            // Given
+            var request = new ScaffoldModuleApiRequest(Map.of(), List.of("VIM"));
+
+            // When & Then
+            mockMvc.perform(
+                            post(McpApiEndpoints.BASE + McpApiEndpoints.MODULE_SCAFFOLD, 1L)
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isBadRequest())
+                    .andDo(document("mcp-module-scaffold-validation-error"));
+        }
+    }
 }
@@ -0,0 +1,127 @@
+package com.ryuqq.adapter.in.rest.mcp.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.common.template.TemplateSyntax;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ModuleScaffoldZipWriter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ModuleScaffoldZipWriter 단위 테스트")
+class ModuleScaffoldZipWriterTest {
+
+    private final ModuleScaffoldZipWriter writer = new ModuleScaffoldZipWriter();
+
+    private static ScaffoldFileResult file(String path, String source, TemplateSyntax syntax) {
+        return new ScaffoldFileResult(
+                path,
+                "CLASS",
+                1L,
+                CompiledTemplate.compile(source, syntax),
+                Map.of("Domain", "주문", "project_name", "order-api"));
+    }
+
+    private static Map<String, String> unzip(byte[] archive) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(
+                        entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Nested
+    @DisplayName("write 메서드")
+    class Write {
+
+        @Test
+        @DisplayName("파일 순서대로 엔트리를 만들고 본문을 UTF-8로 렌더링")
+        void write_ShouldRenderEachFileAsEntry() throws Exception {
+            // given
+            ModuleScaffoldResult result =
+                    new ModuleScaffoldResult(
+                            1L,
+                            "adapter-in/rest-api",
+                            List.of(
+                                    file(
+                                            ".claude/CLAUDE.md",
+                                            "# {{project_name}}",
+                                            TemplateSyntax.DOUBLE_BRACE),
+                                    file(
+                                            "adapter-in/rest-api/OrderController.java",
+                                            "class {Domain} { int[] a = {1}; }",
+                                            TemplateSyntax.SINGLE_BRACE)),
+                            0);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            writer.write(result, out);
+
+            // then
+            assertThat(unzip(out.toByteArray()))
+                    .containsExactly(
+                            Map.entry(".claude/CLAUDE.md", "# order-api"),
+                            Map.entry(
+                                    "adapter-in/rest-api/OrderController.java",
+                                    "class 주문 { int[] a = {1}; }"));
+        }
+
+        @Test
+        @DisplayName("본문이 버퍼보다 커도 엔트리 내용이 잘리지 않음")
+        void write_WithLargeContent_ShouldKeepWholeEntry() throws Exception {
+            // given
+            String large = "{Domain}\n".repeat(10_000);
+            ModuleScaffoldResult result =
+                    new ModuleScaffoldResult(
+                            1L,
+                            "domain",
+                            List.of(file("domain/big.txt", large, TemplateSyntax.SINGLE_BRACE)),
+                            0);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // when
+            writer.write(result, out);
+
+            // then
+            assertThat(unzip(out.toByteArray()).get("domain/big.txt"))
+                    .isEqualTo("주문\n".repeat(10_000));
+        }
+    }
+
+    @Nested
+    @DisplayName("fileName 메서드")
+    class FileName {
+
+        @Test
+        @DisplayName("모듈 경로 마지막 이름으로 파일명을 만들고, 없으면 모듈 ID 사용")
+        void fileName_ShouldUseLastPathSegment() {
+            // given
+            var nested = new ModuleScaffoldResult(1L, "adapter-in/rest-api", List.of(), 0);
+            var root = new ModuleScaffoldResult(7L, ".", List.of(), 0);
+
+            // when & then
+            assertThat(writer.fileName(nested)).isEqualTo("rest-api.zip");
+            assertThat(writer.fileName(root)).isEqualTo("module-7.zip");
+        }
+    }
+}
@@ -1,8 +1,16 @@
 package com.ryuqq.adapter.in.rest.techstack.controller.command;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.put;
@@ -11,7 +19,11 @@ import static org.springframework.restdocs.payload.PayloadDocumentation.requestF
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.adapter.in.rest.common.RestDocsTestSupport;
@@ -20,16 +32,30 @@ import com.ryuqq.adapter.in.rest.fixture.request.CreateTechStackApiRequestFixtur
 import com.ryuqq.adapter.in.rest.fixture.request.UpdateTechStackApiRequestFixture;
 import com.ryuqq.adapter.in.rest.techstack.TechStackApiEndpoints;
 import com.ryuqq.adapter.in.rest.techstack.mapper.TechStackCommandApiMapper;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonReader;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonWriter;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.TableSummary;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.in.ImportConventionSetUseCase;
 import com.ryuqq.application.techstack.dto.command.CreateTechStackCommand;
 import com.ryuqq.application.techstack.dto.command.UpdateTechStackCommand;
 import com.ryuqq.application.techstack.port.in.CreateTechStackUseCase;
 import com.ryuqq.application.techstack.port.in.UpdateTechStackUseCase;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * TechStackCommandController REST Docs 테스트
@@ -38,6 +64,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
  * @since 1.0.0
  */
 @WebMvcTest(TechStackCommandController.class)
+@Import({ConventionSetNdjsonReader.class, ConventionSetNdjsonWriter.class})
 @DisplayName("TechStackCommandController REST Docs")
 class TechStackCommandControllerRestDocsTest extends RestDocsTestSupport {
 
@@ -45,6 +72,8 @@ class TechStackCommandControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private UpdateTechStackUseCase updateTechStackUseCase;
 
+    @MockitoBean private ImportConventionSetUseCase importConventionSetUseCase;
+
     @MockitoBean private TechStackCommandApiMapper mapper;
 
     @MockitoBean private ErrorMapperRegistry errorMapperRegistry;
@@ -254,4 +283,79 @@ class TechStackCommandControllerRestDocsTest extends RestDocsTestSupport {
                                                     .type(String.class))));
         }
     }
+
+    @Nested
+    @DisplayName("POST /api/v1/templates/tech-stacks/import - 컨벤션 세트 가져오기")
+    class ImportConventionSet {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK와 청크 진행 NDJSON 스트리밍")
+        void validRequest_ShouldStreamProgress() throws Exception {
+            // Given
+            String body =
+                    """
+                    {"format":"convention-set","version":1,"techStackId":1}
+                    {"table":"layer","columns":["id","architecture_id","code"]}
+                    [10,1,"DOMAIN"]
+                    [11,1,"APPLICATION"]
+                    {"end":true,"rowCount":2}
+                    """;
+            var result =
+                    new ConventionSetImportResult(
+                            ConventionSetFormat.VERSION,
+                            Instant.parse("2026-01-01T00:00:00Z"),
+                            List.of(new TableSummary(ConventionSetTable.LAYER, 2, 1)),
+                            listener -> {
+                                listener.chunkCommitted(ConventionSetTable.LAYER, 1, 1);
+                                return 1;
+                            });
+            given(importConventionSetUseCase.execute(any())).willReturn(result);
+
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    post(
+                                                    TechStackApiEndpoints.TECH_STACKS
+                                                            + TechStackApiEndpoints.IMPORT)
+                                            .contentType(
+                                                    ConventionSetNdjsonWriter.APPLICATION_NDJSON)
+                                            .content(body))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // When & Then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(
+                            header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                    .andExpect(content().string(startsWith("{\"format\":\"convention-set\"")))
+                    .andExpect(
+                            content()
+                                    .string(
+                                            containsString(
+                                                    "{\"table\":\"layer\",\"rows\":2,"
+                                                            + "\"skipped\":1}")))
+                    .andExpect(
+                            content()
+                                    .string(
+                                            containsString(
+                                                    "{\"table\":\"layer\",\"inserted\":1,"
+                                                            + "\"total\":1}")))
+                    .andExpect(content().string(endsWith("{\"end\":true,\"inserted\":1}\n")))
+                    .andDo(
+                            document(
+                                    "tech-stack-import",
+                                    requestHeaders(
+                                            headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                    .description("application/x-ndjson")),
+                                    responseHeaders(
+                                            headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                    .description("application/x-ndjson"))));
+
+            ArgumentCaptor<ImportConventionSetCommand> captor =
+                    ArgumentCaptor.forClass(ImportConventionSetCommand.class);
+            then(importConventionSetUseCase).should().execute(captor.capture());
+            assertThat(captor.getValue().sections()).hasSize(1);
+            assertThat(captor.getValue().sections().get(0).rows()).hasSize(2);
+        }
+    }
 }
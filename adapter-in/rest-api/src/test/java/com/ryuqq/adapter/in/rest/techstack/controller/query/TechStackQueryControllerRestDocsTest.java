@@ -1,14 +1,24 @@
 package com.ryuqq.adapter.in.rest.techstack.controller.query;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
+import static org.springframework.restdocs.headers.HeaderDocumentation.responseHeaders;
 import static org.springframework.restdocs.mockmvc.MockMvcRestDocumentation.document;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
 import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.ryuqq.adapter.in.rest.common.RestDocsTestSupport;
@@ -18,16 +28,30 @@ import com.ryuqq.adapter.in.rest.fixture.response.TechStackApiResponseFixture;
 import com.ryuqq.adapter.in.rest.techstack.TechStackApiEndpoints;
 import com.ryuqq.adapter.in.rest.techstack.dto.request.SearchTechStacksCursorApiRequest;
 import com.ryuqq.adapter.in.rest.techstack.mapper.TechStackQueryApiMapper;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetBundleWriter;
+import com.ryuqq.adapter.in.rest.techstack.stream.ConventionSetNdjsonWriter;
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.format.ConventionSetBundle;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.in.ExportConventionSetUseCase;
 import com.ryuqq.application.techstack.dto.query.TechStackSearchParams;
 import com.ryuqq.application.techstack.dto.response.TechStackResult;
 import com.ryuqq.application.techstack.dto.response.TechStackSliceResult;
 import com.ryuqq.application.techstack.port.in.SearchTechStacksByCursorUseCase;
+import java.nio.ByteBuffer;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MvcResult;
 
 /**
  * TechStackQueryController REST Docs 테스트
@@ -36,11 +60,14 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
  * @since 1.0.0
  */
 @WebMvcTest(TechStackQueryController.class)
+@Import({ConventionSetNdjsonWriter.class, ConventionSetBundleWriter.class})
 @DisplayName("TechStackQueryController REST Docs")
 class TechStackQueryControllerRestDocsTest extends RestDocsTestSupport {
 
     @MockitoBean private SearchTechStacksByCursorUseCase searchTechStacksByCursorUseCase;
 
+    @MockitoBean private ExportConventionSetUseCase exportConventionSetUseCase;
+
     @MockitoBean private TechStackQueryApiMapper mapper;
 
     @MockitoBean private ErrorMapperRegistry errorMapperRegistry;
@@ -175,4 +202,150 @@ class TechStackQueryControllerRestDocsTest extends RestDocsTestSupport {
                                                     .type(String.class))));
         }
     }
+
+    @Nested
+    @DisplayName("GET /api/v1/templates/tech-stacks/{techStackId}/export - 컨벤션 세트 내보내기")
+    class ExportConventionSet {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK와 NDJSON 스트리밍")
+        void validRequest_ShouldStreamNdjson() throws Exception {
+            // Given
+            var result =
+                    new ConventionSetExportResult(
+                            1L,
+                            ConventionSetFormat.VERSION,
+                            Instant.parse("2026-01-01T00:00:00Z"),
+                            writer -> {
+                                writer.table(ConventionSetTable.TECH_STACK);
+                                writer.row(
+                                        new Object[] {
+                                            1L,
+                                            "Spring Boot 3.5 with Java 21",
+                                            "ACTIVE",
+                                            "JAVA",
+                                            "21",
+                                            "[\"records\"]",
+                                            "SPRING_BOOT",
+                                            "3.5.0",
+                                            "[\"spring-web\"]",
+                                            "JVM",
+                                            "JVM",
+                                            "GRADLE",
+                                            "build.gradle",
+                                            null
+                                        });
+                                return Map.of(ConventionSetTable.TECH_STACK, 1L);
+                            });
+
+            given(mapper.toExportQuery(1L)).willReturn(new ExportConventionSetQuery(1L));
+            given(exportConventionSetUseCase.execute(any())).willReturn(result);
+
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    get(
+                                            TechStackApiEndpoints.TECH_STACKS
+                                                    + TechStackApiEndpoints.EXPORT,
+                                            1L))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // When & Then
+            mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk())
+                    .andExpect(
+                            header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                    .andExpect(
+                            header().string(
+                                            HttpHeaders.CONTENT_DISPOSITION,
+                                            "attachment; filename=\"convention-set-1.ndjson\""))
+                    .andExpect(content().string(startsWith("{\"format\":\"convention-set\"")))
+                    .andExpect(content().string(containsString("{\"table\":\"tech_stack\"")))
+                    .andExpect(
+                            content().string(containsString("\"counts\":{\"tech_stack\":1}")))
+                    .andDo(
+                            document(
+                                    "tech-stack-export",
+                                    pathParameters(
+                                            parameterWithName("techStackId")
+                                                    .description("TechStack ID")),
+                                    responseHeaders(
+                                            headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                    .description("application/x-ndjson"),
+                                            headerWithName(HttpHeaders.CONTENT_DISPOSITION)
+                                                    .description("첨부 파일명 (NDJSON)"))));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/templates/tech-stacks/{techStackId}/bundle - 컨벤션 세트 번들 내보내기")
+    class ExportConventionSetBundle {
+
+        @Test
+        @DisplayName("정상 요청 시 200 OK와 ID 인덱스가 붙은 바이너리 번들")
+        void validRequest_ShouldWriteBundle() throws Exception {
+            // Given
+            var result =
+                    new ConventionSetExportResult(
+                            1L,
+                            ConventionSetFormat.VERSION,
+                            Instant.parse("2026-01-01T00:00:00Z"),
+                            writer -> {
+                                writer.table(ConventionSetTable.LAYER);
+                                writer.row(
+                                        new Object[] {1L, 1L, "DOMAIN", "도메인 레이어", null, 1});
+                                return Map.of(ConventionSetTable.LAYER, 1L);
+                            });
+
+            given(mapper.toExportQuery(1L)).willReturn(new ExportConventionSetQuery(1L));
+            given(exportConventionSetUseCase.execute(any())).willReturn(result);
+            String disposition = "attachment; filename=\"convention-set-1.bundle\"";
+
+            MvcResult asyncResult =
+                    mockMvc.perform(
+                                    get(
+                                            TechStackApiEndpoints.TECH_STACKS
+                                                    + TechStackApiEndpoints.BUNDLE,
+                                            1L))
+                            .andExpect(request().asyncStarted())
+                            .andReturn();
+
+            // When
+            MvcResult response =
+                    mockMvc.perform(asyncDispatch(asyncResult))
+                            .andExpect(status().isOk())
+                            .andExpect(
+                                    header().string(
+                                                    HttpHeaders.CONTENT_TYPE,
+                                                    "application/octet-stream"))
+                            .andExpect(
+                                    header().string(
+                                                    HttpHeaders.CONTENT_DISPOSITION,
+                                                    disposition))
+                            .andDo(
+                                    document(
+                                            "tech-stack-bundle",
+                                            pathParameters(
+                                                    parameterWithName("techStackId")
+                                                            .description("TechStack ID")),
+                                            responseHeaders(
+                                                    headerWithName(HttpHeaders.CONTENT_TYPE)
+                                                            .description(
+                                                                    "application/octet-stream"),
+                                                    headerWithName(
+                                                                    HttpHeaders.CONTENT_DISPOSITION)
+                                                            .description("첨부 파일명 (번들)"))))
+                            .andReturn();
+
+            // Then
+            ConventionSetBundle bundle =
+                    ConventionSetBundle.open(
+                            ByteBuffer.wrap(response.getResponse().getContentAsByteArray()));
+            ConventionSetBundle.Table layers = bundle.table(ConventionSetTable.LAYER);
+            assertThat(bundle.techStackId()).isEqualTo(1L);
+            assertThat(layers.size()).isEqualTo(1);
+            assertThat(layers.getString(layers.indexOf(1L), layers.column("code")))
+                    .isEqualTo("DOMAIN");
+        }
+    }
 }
@@ -0,0 +1,96 @@
+package com.ryuqq.adapter.in.rest.techstack.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.in.rest.common.mapper.ErrorMapper.MappedError;
+import com.ryuqq.domain.common.exception.DomainException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetParentNotFoundException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetRowConflictException;
+import com.ryuqq.domain.techstack.exception.TechStackNotFoundException;
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ * ConventionSetErrorMapper 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ConventionSetErrorMapper 단위 테스트")
+class ConventionSetErrorMapperTest {
+
+    private ConventionSetErrorMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new ConventionSetErrorMapper();
+    }
+
+    @Nested
+    @DisplayName("supports(DomainException)")
+    class Supports {
+
+        @Test
+        @DisplayName("컨벤션 세트 예외는 지원하고 다른 도메인 예외는 지원하지 않음")
+        void supports_ShouldMatchConventionSetExceptions() {
+            // Given
+            DomainException invalid = new ConventionSetInvalidDocumentException("unknown table x");
+            DomainException other = new TechStackNotFoundException(1L);
+
+            // When & Then
+            assertThat(mapper.supports(invalid)).isTrue();
+            assertThat(mapper.supports(other)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("map(DomainException, Locale)")
+    class Map {
+
+        @Test
+        @DisplayName("문서 형식 오류를 400으로 변환")
+        void invalidDocument_ShouldMapTo400() {
+            // Given
+            ConventionSetInvalidDocumentException ex =
+                    new ConventionSetInvalidDocumentException("unknown table x");
+
+            // When
+            MappedError mappedError = mapper.map(ex, Locale.KOREAN);
+
+            // Then
+            assertThat(mappedError.status()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(mappedError.detail()).isEqualTo(ex.getMessage());
+            assertThat(mappedError.type())
+                    .isEqualTo(URI.create("/errors/convention-set/invalid-document"));
+        }
+
+        @Test
+        @DisplayName("없는 부모를 404, 키 충돌을 409로 변환")
+        void parentNotFoundAndConflict_ShouldMapTo404And409() {
+            // Given
+            ConventionSetParentNotFoundException notFound =
+                    new ConventionSetParentNotFoundException("convention", List.of(99L));
+            ConventionSetRowConflictException conflict =
+                    new ConventionSetRowConflictException("coding_rule", "[svc-001]");
+
+            // When
+            MappedError notFoundError = mapper.map(notFound, Locale.KOREAN);
+            MappedError conflictError = mapper.map(conflict, Locale.KOREAN);
+
+            // Then
+            assertThat(notFoundError.status()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(notFoundError.type())
+                    .isEqualTo(URI.create("/errors/convention-set/parent-not-found"));
+            assertThat(conflictError.status()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(conflictError.type())
+                    .isEqualTo(URI.create("/errors/convention-set/row-conflict"));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.ryuqq.adapter.in.rest.techstack.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConventionSetNdjsonReader 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ConventionSetNdjsonReader 단위 테스트")
+class ConventionSetNdjsonReaderTest {
+
+    private static final String HEADER =
+            "{\"format\":\"convention-set\",\"version\":1,\"techStackId\":1}\n";
+
+    private final ConventionSetNdjsonReader reader =
+            new ConventionSetNdjsonReader(new ObjectMapper());
+
+    private ImportConventionSetCommand read(String body) throws Exception {
+        return reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("헤더, 테이블 줄, 행 배열을 섹션으로 읽고 행 값은 스칼라로 변환")
+    void read_ShouldGroupRowsIntoSections() throws Exception {
+        // given
+        String body =
+                HEADER
+                        + "{\"table\":\"layer\",\"columns\":[\"id\",\"code\",\"flag\"]}\n"
+                        + "[10,\"DOMAIN\",true]\n"
+                        + "[11,null,false]\n"
+                        + "{\"table\":\"convention\",\"columns\":[\"id\"]}\n"
+                        + "{\"end\":true,\"rowCount\":2,\"counts\":{\"layer\":2}}\n";
+
+        // when
+        ImportConventionSetCommand command = read(body);
+
+        // then
+        assertThat(command.format()).isEqualTo("convention-set");
+        assertThat(command.formatVersion()).isEqualTo(1);
+        assertThat(command.sections()).hasSize(2);
+        assertThat(command.sections().get(0).table()).isEqualTo("layer");
+        assertThat(command.sections().get(0).columns()).containsExactly("id", "code", "flag");
+        assertThat(command.sections().get(0).rows().get(0)).containsExactly(10, "DOMAIN", true);
+        assertThat(command.sections().get(0).rows().get(1)).containsExactly(11, null, false);
+        assertThat(command.sections().get(1).rows()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("end 줄이 없으면 잘린 문서로 거부")
+    void read_WithoutEndLine_ShouldReject() {
+        // given
+        String body = HEADER + "{\"table\":\"layer\",\"columns\":[\"id\"]}\n[1]\n";
+
+        // when & then
+        assertThatThrownBy(() -> read(body))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+
+    @Test
+    @DisplayName("end 줄의 rowCount와 읽은 행 수가 다르면 거부")
+    void read_WithRowCountMismatch_ShouldReject() {
+        // given
+        String body =
+                HEADER
+                        + "{\"table\":\"layer\",\"columns\":[\"id\"]}\n[1]\n"
+                        + "{\"end\":true,\"rowCount\":2}\n";
+
+        // when & then
+        assertThatThrownBy(() -> read(body))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+
+    @Test
+    @DisplayName("테이블 줄 전의 행, 중첩 값, 깨진 JSON은 거부")
+    void read_WithMalformedLines_ShouldReject() {
+        // given
+        String rowFirst = HEADER + "[1]\n{\"end\":true}\n";
+        String nested =
+                HEADER + "{\"table\":\"layer\",\"columns\":[\"id\"]}\n[[1]]\n{\"end\":true}\n";
+        String broken = HEADER + "{\"table\":\n";
+
+        // when & then
+        assertThatThrownBy(() -> read(rowFirst))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+        assertThatThrownBy(() -> read(nested))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+        assertThatThrownBy(() -> read(broken))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+}
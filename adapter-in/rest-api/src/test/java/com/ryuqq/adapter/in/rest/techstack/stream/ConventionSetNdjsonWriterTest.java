@@ -0,0 +1,183 @@
+package com.ryuqq.adapter.in.rest.techstack.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.TableSummary;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConventionSetNdjsonWriter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@DisplayName("ConventionSetNdjsonWriter 단위 테스트")
+class ConventionSetNdjsonWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final ConventionSetNdjsonWriter writer = new ConventionSetNdjsonWriter(objectMapper);
+
+    private List<JsonNode> write(ConventionSetExportResult result) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer.write(result, out);
+        return lines(out);
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws Exception {
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertThat(body).endsWith("\n");
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : body.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    @Test
+    @DisplayName("헤더, 테이블별 컬럼 줄과 행 배열, 행 수 트레일러 순서로 한 줄에 하나씩 출력")
+    void write_ShouldEmitOneJsonValuePerLine() throws Exception {
+        // given
+        ConventionSetExportResult result =
+                new ConventionSetExportResult(
+                        7L,
+                        ConventionSetFormat.VERSION,
+                        Instant.parse("2026-01-01T00:00:00Z"),
+                        rowWriter -> {
+                            Map<ConventionSetTable, Long> counts =
+                                    new EnumMap<>(ConventionSetTable.class);
+                            rowWriter.table(ConventionSetTable.LAYER);
+                            rowWriter.row(new Object[] {1L, 7L, "DOMAIN", "도메인", null, 1});
+                            rowWriter.row(new Object[] {2L, 7L, "APPLICATION", "응용\n계층", "", 2});
+                            counts.put(ConventionSetTable.LAYER, 2L);
+                            rowWriter.table(ConventionSetTable.CONVENTION);
+                            counts.put(ConventionSetTable.CONVENTION, 0L);
+                            return counts;
+                        });
+
+        // when
+        List<JsonNode> lines = write(result);
+
+        // then
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0).get("format").asText()).isEqualTo("convention-set");
+        assertThat(lines.get(0).get("version").asInt()).isEqualTo(ConventionSetFormat.VERSION);
+        assertThat(lines.get(0).get("techStackId").asLong()).isEqualTo(7L);
+        assertThat(lines.get(0).get("exportedAt").asText()).isEqualTo("2026-01-01T00:00:00Z");
+
+        assertThat(lines.get(1).get("table").asText()).isEqualTo("layer");
+        assertThat(lines.get(1).get("columns"))
+                .extracting(JsonNode::asText)
+                .containsExactlyElementsOf(ConventionSetTable.LAYER.columns());
+
+        assertThat(lines.get(2).isArray()).isTrue();
+        assertThat(lines.get(2).get(2).asText()).isEqualTo("DOMAIN");
+        assertThat(lines.get(2).get(4).isNull()).isTrue();
+        assertThat(lines.get(3).get(3).asText()).isEqualTo("응용\n계층");
+
+        assertThat(lines.get(4).get("table").asText()).isEqualTo("convention");
+
+        JsonNode trailer = lines.get(5);
+        assertThat(trailer.get("end").asBoolean()).isTrue();
+        assertThat(trailer.get("rowCount").asLong()).isEqualTo(2L);
+        assertThat(trailer.get("counts").get("layer").asLong()).isEqualTo(2L);
+        assertThat(trailer.get("counts").get("convention").asLong()).isZero();
+    }
+
+    @Test
+    @DisplayName("다운로드 파일명은 convention-set-{techStackId}.ndjson")
+    void fileName_ShouldIncludeTechStackId() {
+        // given
+        ConventionSetExportResult result =
+                new ConventionSetExportResult(
+                        3L, ConventionSetFormat.VERSION, Instant.EPOCH, rowWriter -> Map.of());
+
+        // when & then
+        assertThat(writer.fileName(result)).isEqualTo("convention-set-3.ndjson");
+    }
+
+    @Test
+    @DisplayName("가져오기는 헤더, 테이블별 계획, 청크 커밋마다 진행 줄, 저장 수 트레일러 순서로 출력")
+    void writeImport_ShouldEmitProgressPerChunk() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<String> flushedBeforeSecondChunk = new ArrayList<>();
+        ConventionSetImportResult result =
+                new ConventionSetImportResult(
+                        ConventionSetFormat.VERSION,
+                        Instant.parse("2026-01-01T00:00:00Z"),
+                        List.of(
+                                new TableSummary(ConventionSetTable.TECH_STACK, 1, 1),
+                                new TableSummary(ConventionSetTable.LAYER, 1_500, 0)),
+                        listener -> {
+                            listener.chunkCommitted(ConventionSetTable.LAYER, 1_000, 1_500);
+                            flushedBeforeSecondChunk.add(out.toString(StandardCharsets.UTF_8));
+                            listener.chunkCommitted(ConventionSetTable.LAYER, 1_500, 1_500);
+                            return 1_500;
+                        });
+
+        // when
+        writer.write(result, out);
+
+        // then
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(6);
+        assertThat(lines.get(0).get("importedAt").asText()).isEqualTo("2026-01-01T00:00:00Z");
+        assertThat(lines.get(0).get("insertCount").asLong()).isEqualTo(1_500L);
+        assertThat(lines.get(0).get("skippedCount").asLong()).isEqualTo(1L);
+        assertThat(lines.get(1).get("table").asText()).isEqualTo("tech_stack");
+        assertThat(lines.get(1).get("skipped").asInt()).isEqualTo(1);
+        assertThat(lines.get(2).get("rows").asInt()).isEqualTo(1_500);
+        assertThat(lines.get(3).get("inserted").asInt()).isEqualTo(1_000);
+        assertThat(lines.get(4).get("total").asInt()).isEqualTo(1_500);
+        assertThat(lines.get(5).get("end").asBoolean()).isTrue();
+        assertThat(lines.get(5).get("inserted").asLong()).isEqualTo(1_500L);
+        assertThat(flushedBeforeSecondChunk.get(0)).endsWith("\"inserted\":1000,\"total\":1500}\n");
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 end 대신 오류 코드와 커밋된 행 수를 담은 오류 줄로 끝냄")
+    void writeImport_WhenChunkFails_ShouldEndWithErrorLine() throws Exception {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConventionSetImportResult result =
+                new ConventionSetImportResult(
+                        ConventionSetFormat.VERSION,
+                        Instant.parse("2026-01-01T00:00:00Z"),
+                        List.of(
+                                new TableSummary(ConventionSetTable.LAYER, 500, 0),
+                                new TableSummary(ConventionSetTable.MODULE, 2_500, 0)),
+                        listener -> {
+                            listener.chunkCommitted(ConventionSetTable.LAYER, 500, 500);
+                            listener.chunkCommitted(ConventionSetTable.MODULE, 1_000, 2_500);
+                            throw new DeadlineExceededException("Request deadline exceeded");
+                        });
+
+        // when
+        writer.write(result, out);
+
+        // then
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).hasSize(6);
+        JsonNode last = lines.get(5);
+        assertThat(last.has("end")).isFalse();
+        assertThat(last.get("error").get("code").asText()).isEqualTo("DEADLINE_EXCEEDED");
+        assertThat(last.get("error").get("message").asText()).isNotBlank();
+        assertThat(last.get("inserted").asLong()).isEqualTo(1_500L);
+    }
+}
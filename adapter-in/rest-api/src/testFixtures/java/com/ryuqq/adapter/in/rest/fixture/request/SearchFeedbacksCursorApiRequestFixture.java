@@ -23,15 +23,21 @@ public final class SearchFeedbacksCursorApiRequestFixture {
                 List.of("CODING_RULE"),
                 List.of("ADD", "MODIFY"),
                 List.of("SAFE", "MEDIUM"),
-                List.of("LLM_APPROVE", "HUMAN_REJECT"));
+                List.of("LLM_APPROVE", "HUMAN_REJECT"),
+                false,
+                1L,
+                null,
+                null);
     }
 
     public static SearchFeedbacksCursorApiRequest withNullSize() {
-        return new SearchFeedbacksCursorApiRequest(null, null, null, null, null, null, null);
+        return new SearchFeedbacksCursorApiRequest(
+                null, null, null, null, null, null, null, null, null, null, null);
     }
 
     public static SearchFeedbacksCursorApiRequest withZeroSize() {
-        return new SearchFeedbacksCursorApiRequest(null, 0, null, null, null, null, null);
+        return new SearchFeedbacksCursorApiRequest(
+                null, 0, null, null, null, null, null, null, null, null, null);
     }
 
     public static SearchFeedbacksCursorApiRequest withAllFilters() {
@@ -0,0 +1,551 @@
+package com.ryuqq.adapter.out.bundle.adapter;
+
+import com.ryuqq.application.conventionset.format.ConventionSetBundle;
+import com.ryuqq.application.conventionset.format.ConventionSetBundle.Table;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.mcp.dto.context.ArchUnitTestDto;
+import com.ryuqq.application.mcp.dto.context.ChecklistItemDto;
+import com.ryuqq.application.mcp.dto.context.ClassTemplateDto;
+import com.ryuqq.application.mcp.dto.context.CodingRuleWithDetailsDto;
+import com.ryuqq.application.mcp.dto.context.ModuleWithLayerAndConventionDto;
+import com.ryuqq.application.mcp.dto.context.PackagePurposeDto;
+import com.ryuqq.application.mcp.dto.context.PackageStructureWithPurposesDto;
+import com.ryuqq.application.mcp.dto.context.PlanningLayerModuleStructureDto;
+import com.ryuqq.application.mcp.dto.context.PlanningTechStackArchitectureDto;
+import com.ryuqq.application.mcp.dto.context.RuleExampleDto;
+import com.ryuqq.application.mcp.dto.context.TemplateAndTestDto;
+import com.ryuqq.application.mcp.dto.context.ValidationChecklistDto;
+import com.ryuqq.application.mcp.dto.context.ValidationZeroToleranceDto;
+import com.ryuqq.application.mcp.dto.context.ZeroToleranceDto;
+import com.ryuqq.application.mcp.port.out.McpContextQueryPort;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * McpContextBundleQueryAdapter - 메모리 매핑 번들 기반 MCP Context 조회 Adapter
+ *
+ * <p>McpContextQueryPort를 {@link ConventionSetBundle}로 구현합니다. JPA 구현(McpContextQueryAdapter)과 같은
+ * 결과를 돌려주도록 조인/필터/정렬 의미를 그대로 따릅니다.
+ *
+ * <ul>
+ *   <li>활성 컨벤션: is_active가 true인 컨벤션만 조인
+ *   <li>클래스 타입 필터: coding_rule.applies_to 문자열 포함 여부
+ *   <li>Validation 조회: layerId, ruleId 오름차순
+ * </ul>
+ *
+ * <p>번들에는 삭제된 행이 없으므로 deleted_at 조건이 필요 없습니다. ID 조회는 번들 인덱스의 이진 탐색이고, 부모 ID로 자식을 찾는 조회는 요청마다 자식
+ * 테이블을 한 번 훑어 그룹핑합니다 (IN절 + 메모리 집계와 같은 형태).
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+@SuppressWarnings("PMD.ExcessiveImports") // MCP Context 조회를 위해 다수 DTO import 필요
+public class McpContextBundleQueryAdapter implements McpContextQueryPort {
+
+    private static final String ACTIVE = "ACTIVE";
+
+    private final Table techStacks;
+    private final Table architectures;
+    private final Table layers;
+    private final Table classTypes;
+    private final Table modules;
+    private final Table structures;
+    private final Table purposes;
+    private final Table templates;
+    private final Table archUnitTests;
+    private final Table conventions;
+    private final Table rules;
+    private final Table examples;
+    private final Table zeroTolerances;
+    private final Table checklistItems;
+
+    public McpContextBundleQueryAdapter(ConventionSetBundle bundle) {
+        this.techStacks = bundle.table(ConventionSetTable.TECH_STACK);
+        this.architectures = bundle.table(ConventionSetTable.ARCHITECTURE);
+        this.layers = bundle.table(ConventionSetTable.LAYER);
+        this.classTypes = bundle.table(ConventionSetTable.CLASS_TYPE);
+        this.modules = bundle.table(ConventionSetTable.MODULE);
+        this.structures = bundle.table(ConventionSetTable.PACKAGE_STRUCTURE);
+        this.purposes = bundle.table(ConventionSetTable.PACKAGE_PURPOSE);
+        this.templates = bundle.table(ConventionSetTable.CLASS_TEMPLATE);
+        this.archUnitTests = bundle.table(ConventionSetTable.ARCHUNIT_TEST);
+        this.conventions = bundle.table(ConventionSetTable.CONVENTION);
+        this.rules = bundle.table(ConventionSetTable.CODING_RULE);
+        this.examples = bundle.table(ConventionSetTable.RULE_EXAMPLE);
+        this.zeroTolerances = bundle.table(ConventionSetTable.ZERO_TOLERANCE_RULE);
+        this.checklistItems = bundle.table(ConventionSetTable.CHECKLIST_ITEM);
+    }
+
+    @Override
+    public Optional<ModuleWithLayerAndConventionDto> findModuleWithLayerAndConvention(
+            Long moduleId) {
+        int module = indexOf(modules, moduleId);
+        if (module < 0) {
+            return Optional.empty();
+        }
+        int layer = indexOf(layers, modules.getLong(module, modules.column("layer_id")));
+        if (layer < 0) {
+            return Optional.empty();
+        }
+        int convention = first(activeConventionsOf(moduleId));
+        return Optional.of(
+                new ModuleWithLayerAndConventionDto(
+                        moduleId,
+                        modules.getString(module, modules.column("name")),
+                        modules.getString(module, modules.column("description")),
+                        layers.id(layer),
+                        layers.getString(layer, layers.column("code")),
+                        layers.getString(layer, layers.column("name")),
+                        convention >= 0 ? conventions.id(convention) : null,
+                        convention >= 0
+                                ? conventions.getString(convention, conventions.column("version"))
+                                : null,
+                        convention >= 0
+                                ? conventions.getString(
+                                        convention, conventions.column("description"))
+                                : null));
+    }
+
+    @Override
+    public List<CodingRuleWithDetailsDto> findCodingRulesWithDetails(
+            Long conventionId, Long classTypeId) {
+        // 0. classTypeId → code 변환
+        int classType = indexOf(classTypes, classTypeId);
+        String classTypeCode =
+                classType >= 0 ? classTypes.getString(classType, classTypes.column("code")) : null;
+
+        // 1. CodingRule 조회 (classTypeCode 필터 적용)
+        int appliesToColumn = rules.column("applies_to");
+        List<Integer> ruleRows = new ArrayList<>();
+        for (int rule : rowsBy(rules, "convention_id").getOrDefault(conventionId, List.of())) {
+            String appliesTo = rules.getString(rule, appliesToColumn);
+            if (classTypeCode == null
+                    || classTypeCode.isEmpty()
+                    || (appliesTo != null && appliesTo.contains(classTypeCode))) {
+                ruleRows.add(rule);
+            }
+        }
+        if (ruleRows.isEmpty()) {
+            return List.of();
+        }
+
+        // 2. ruleId 기준 그룹핑
+        Map<Long, List<Integer>> examplesByRuleId = rowsBy(examples, "rule_id");
+        Map<Long, List<Integer>> zeroTolerancesByRuleId = rowsBy(zeroTolerances, "rule_id");
+        Map<Long, List<Integer>> checklistByRuleId = rowsBy(checklistItems, "rule_id");
+
+        // 3. 결과 조립
+        List<CodingRuleWithDetailsDto> results = new ArrayList<>(ruleRows.size());
+        for (int rule : ruleRows) {
+            long ruleId = rules.id(rule);
+            List<RuleExampleDto> exampleDtos = new ArrayList<>();
+            for (int example : examplesByRuleId.getOrDefault(ruleId, List.of())) {
+                exampleDtos.add(
+                        new RuleExampleDto(
+                                examples.getString(example, examples.column("example_type")),
+                                examples.getString(example, examples.column("code")),
+                                examples.getString(example, examples.column("explanation"))));
+            }
+            int zt = first(zeroTolerancesByRuleId.get(ruleId));
+            int cl = first(checklistByRuleId.get(ruleId));
+            results.add(
+                    new CodingRuleWithDetailsDto(
+                            ruleId,
+                            rules.getString(rule, rules.column("code")),
+                            rules.getString(rule, rules.column("name")),
+                            rules.getString(rule, rules.column("description")),
+                            rules.getString(rule, rules.column("severity")),
+                            rules.getString(rule, appliesToColumn),
+                            exampleDtos,
+                            zt >= 0 ? toZeroToleranceDto(zt) : null,
+                            cl >= 0 ? toChecklistItemDto(cl) : null));
+        }
+        return results;
+    }
+
+    @Override
+    public List<PackageStructureWithPurposesDto> findPackageStructuresWithPurposes(Long moduleId) {
+        List<Integer> structureRows =
+                rowsBy(structures, "module_id").getOrDefault(moduleId, List.of());
+        if (structureRows.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Integer>> purposesByStructureId = rowsBy(purposes, "structure_id");
+        List<PackageStructureWithPurposesDto> results = new ArrayList<>(structureRows.size());
+        for (int structure : structureRows) {
+            long structureId = structures.id(structure);
+            List<PackagePurposeDto> purposeDtos = new ArrayList<>();
+            for (int purpose : purposesByStructureId.getOrDefault(structureId, List.of())) {
+                purposeDtos.add(
+                        new PackagePurposeDto(
+                                purposes.getString(purpose, purposes.column("code")),
+                                purposes.getString(purpose, purposes.column("description"))));
+            }
+            results.add(
+                    new PackageStructureWithPurposesDto(
+                            structureId,
+                            structures.getString(structure, structures.column("path_pattern")),
+                            structures.getString(structure, structures.column("description")),
+                            purposeDtos));
+        }
+        return results;
+    }
+
+    @Override
+    public List<TemplateAndTestDto> findTemplatesAndTests(
+            List<Long> structureIds, Long classTypeId) {
+        if (structureIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<Integer>> templatesByStructureId = rowsBy(templates, "structure_id");
+        Map<Long, List<Integer>> archTestsByStructureId = rowsBy(archUnitTests, "structure_id");
+        int classTypeColumn = templates.column("class_type_id");
+
+        List<TemplateAndTestDto> results = new ArrayList<>(structureIds.size());
+        for (Long structureId : structureIds) {
+            List<ClassTemplateDto> templateDtos = new ArrayList<>();
+            for (int template : templatesByStructureId.getOrDefault(structureId, List.of())) {
+                Long templateClassTypeId = templates.getLong(template, classTypeColumn);
+                if (classTypeId != null && !classTypeId.equals(templateClassTypeId)) {
+                    continue;
+                }
+                templateDtos.add(
+                        new ClassTemplateDto(
+                                templates.id(template),
+                                templateClassTypeId,
+                                templates.getString(template, templates.column("template_code")),
+                                templates.getString(template, templates.column("description"))));
+            }
+
+            List<ArchUnitTestDto> archTestDtos = new ArrayList<>();
+            for (int test : archTestsByStructureId.getOrDefault(structureId, List.of())) {
+                archTestDtos.add(
+                        new ArchUnitTestDto(
+                                archUnitTests.id(test),
+                                archUnitTests.getString(test, archUnitTests.column("name")),
+                                archUnitTests.getString(test, archUnitTests.column("description")),
+                                archUnitTests.getString(test, archUnitTests.column("test_code"))));
+            }
+
+            results.add(new TemplateAndTestDto(structureId, templateDtos, archTestDtos));
+        }
+        return results;
+    }
+
+    // ========== Planning Context 조회 메서드 ==========
+
+    @Override
+    public Optional<PlanningTechStackArchitectureDto> findTechStackWithArchitecture(
+            Long techStackId) {
+        int techStack = techStackId != null ? indexOf(techStacks, techStackId) : activeTechStack();
+        if (techStack < 0) {
+            return Optional.empty();
+        }
+        int architecture =
+                first(rowsBy(architectures, "tech_stack_id").get(techStacks.id(techStack)));
+        if (architecture < 0) {
+            return Optional.empty();
+        }
+        return Optional.of(
+                new PlanningTechStackArchitectureDto(
+                        techStacks.id(techStack),
+                        techStacks.getString(techStack, techStacks.column("name")),
+                        techStacks.getString(techStack, techStacks.column("language_type")),
+                        techStacks.getString(techStack, techStacks.column("language_version")),
+                        techStacks.getString(techStack, techStacks.column("framework_type")),
+                        techStacks.getString(techStack, techStacks.column("framework_version")),
+                        architectures.id(architecture),
+                        architectures.getString(architecture, architectures.column("name")),
+                        architectures.getString(
+                                architecture, architectures.column("pattern_description"))));
+    }
+
+    @Override
+    public List<PlanningLayerModuleStructureDto> findLayerModuleStructures(
+            Long architectureId, List<String> layerCodes) {
+        Map<Long, List<Integer>> modulesByLayerId = rowsBy(modules, "layer_id");
+        Map<Long, List<Integer>> structuresByModuleId = rowsBy(structures, "module_id");
+        Map<Long, List<Integer>> purposesByStructureId = rowsBy(purposes, "structure_id");
+        Map<Long, List<Integer>> templatesByStructureId = rowsBy(templates, "structure_id");
+        Map<Long, List<Integer>> rulesByConventionId = rowsBy(rules, "convention_id");
+
+        List<PlanningLayerModuleStructureDto> results = new ArrayList<>();
+        for (int layer : layerRows(architectureId, layerCodes).values()) {
+            for (int module : modulesByLayerId.getOrDefault(layers.id(layer), List.of())) {
+                long moduleId = modules.id(module);
+                int ruleCount = 0;
+                for (int convention : activeConventionsOf(moduleId)) {
+                    ruleCount +=
+                            rulesByConventionId
+                                    .getOrDefault(conventions.id(convention), List.of())
+                                    .size();
+                }
+
+                List<Integer> structureRows =
+                        structuresByModuleId.getOrDefault(moduleId, List.of());
+                if (structureRows.isEmpty()) {
+                    // LEFT JOIN: 패키지 구조가 없는 모듈도 한 행
+                    results.add(toLayerModuleStructureDto(layer, module, -1, null, 0, ruleCount));
+                    continue;
+                }
+                for (int structure : structureRows) {
+                    long structureId = structures.id(structure);
+                    Set<String> purposeCodes = new TreeSet<>();
+                    for (int purpose : purposesByStructureId.getOrDefault(structureId, List.of())) {
+                        purposeCodes.add(purposes.getString(purpose, purposes.column("code")));
+                    }
+                    results.add(
+                            toLayerModuleStructureDto(
+                                    layer,
+                                    module,
+                                    structure,
+                                    purposeCodes.isEmpty() ? null : String.join(",", purposeCodes),
+                                    templatesByStructureId
+                                            .getOrDefault(structureId, List.of())
+                                            .size(),
+                                    ruleCount));
+                }
+            }
+        }
+        return results;
+    }
+
+    private PlanningLayerModuleStructureDto toLayerModuleStructureDto(
+            int layer,
+            int module,
+            int structure,
+            String allowedClassTypes,
+            int templateCount,
+            int ruleCount) {
+        boolean hasStructure = structure >= 0;
+        return new PlanningLayerModuleStructureDto(
+                layers.getString(layer, layers.column("code")),
+                layers.getString(layer, layers.column("name")),
+                layers.getString(layer, layers.column("description")),
+                modules.id(module),
+                modules.getString(module, modules.column("name")),
+                modules.getString(module, modules.column("description")),
+                hasStructure ? structures.id(structure) : null,
+                hasStructure
+                        ? structures.getString(structure, structures.column("path_pattern"))
+                        : null,
+                hasStructure
+                        ? structures.getString(structure, structures.column("description"))
+                        : null,
+                allowedClassTypes,
+                templateCount,
+                ruleCount);
+    }
+
+    // ========== Validation Context 조회 메서드 ==========
+
+    @Override
+    public List<ValidationZeroToleranceDto> findZeroToleranceRulesForValidation(
+            Long architectureId, List<String> layerCodes, List<String> classTypes) {
+        Map<Long, Integer> layerRowById = layerRows(architectureId, layerCodes);
+        if (layerRowById.isEmpty()) {
+            return List.of();
+        }
+
+        List<LayerRuleRow<ValidationZeroToleranceDto>> rows = new ArrayList<>();
+        for (int zt = 0; zt < zeroTolerances.size(); zt++) {
+            int rule = indexOf(rules, zeroTolerances.getLong(zt, zeroTolerances.column("rule_id")));
+            Integer layer = validationLayerOf(rule, layerRowById, classTypes);
+            if (layer == null) {
+                continue;
+            }
+            String appliesTo = rules.getString(rule, rules.column("applies_to"));
+            rows.add(
+                    new LayerRuleRow<>(
+                            layers.id(layer),
+                            rules.id(rule),
+                            new ValidationZeroToleranceDto(
+                                    layers.getString(layer, layers.column("code")),
+                                    rules.getString(rule, rules.column("code")),
+                                    rules.getString(rule, rules.column("name")),
+                                    appliesTo != null && !appliesTo.isBlank()
+                                            ? List.of(appliesTo.split(","))
+                                            : List.of(),
+                                    rules.getString(rule, rules.column("severity")),
+                                    zeroTolerances.getString(
+                                            zt, zeroTolerances.column("detection_pattern")),
+                                    zeroTolerances.getString(
+                                            zt, zeroTolerances.column("detection_type")),
+                                    zeroTolerances.getBoolean(
+                                            zt, zeroTolerances.column("auto_reject_pr")))));
+        }
+        return sorted(rows);
+    }
+
+    @Override
+    public List<ValidationChecklistDto> findChecklistItemsForValidation(
+            Long architectureId, List<String> layerCodes, List<String> classTypes) {
+        Map<Long, Integer> layerRowById = layerRows(architectureId, layerCodes);
+        if (layerRowById.isEmpty()) {
+            return List.of();
+        }
+
+        List<LayerRuleRow<ValidationChecklistDto>> rows = new ArrayList<>();
+        for (int item = 0; item < checklistItems.size(); item++) {
+            int rule =
+                    indexOf(rules, checklistItems.getLong(item, checklistItems.column("rule_id")));
+            Integer layer = validationLayerOf(rule, layerRowById, classTypes);
+            if (layer == null) {
+                continue;
+            }
+            String automationTool =
+                    checklistItems.getString(item, checklistItems.column("automation_tool"));
+            rows.add(
+                    new LayerRuleRow<>(
+                            layers.id(layer),
+                            rules.id(rule),
+                            new ValidationChecklistDto(
+                                    layers.getString(layer, layers.column("code")),
+                                    rules.getString(rule, rules.column("code")),
+                                    checklistItems.getString(
+                                            item, checklistItems.column("check_description")),
+                                    rules.getString(rule, rules.column("severity")),
+                                    automationTool != null && !automationTool.isBlank())));
+        }
+        return sorted(rows);
+    }
+
+    /**
+     * CodingRule → Convention(Active) → Module → Layer 조인과 클래스 타입 필터
+     *
+     * @return 대상 레이어의 행 번호 (조인/필터에서 빠지면 null)
+     */
+    private Integer validationLayerOf(
+            int rule, Map<Long, Integer> layerRowById, List<String> classTypes) {
+        if (rule < 0
+                || !appliesToAny(rules.getString(rule, rules.column("applies_to")), classTypes)) {
+            return null;
+        }
+        int convention = indexOf(conventions, rules.getLong(rule, rules.column("convention_id")));
+        if (convention < 0
+                || !conventions.getBoolean(convention, conventions.column("is_active"))) {
+            return null;
+        }
+        int module =
+                indexOf(modules, conventions.getLong(convention, conventions.column("module_id")));
+        if (module < 0) {
+            return null;
+        }
+        return layerRowById.get(modules.getLong(module, modules.column("layer_id")));
+    }
+
+    private static boolean appliesToAny(String appliesTo, List<String> classTypes) {
+        if (classTypes == null || classTypes.isEmpty()) {
+            return true;
+        }
+        if (appliesTo == null) {
+            return false;
+        }
+        for (String classType : classTypes) {
+            if (appliesTo.contains(classType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> List<T> sorted(List<LayerRuleRow<T>> rows) {
+        // 안정 정렬이므로 같은 규칙의 항목은 ID 순서 유지
+        rows.sort(
+                Comparator.comparingLong((LayerRuleRow<T> row) -> row.layerId())
+                        .thenComparingLong(LayerRuleRow::ruleId));
+        return rows.stream().map(LayerRuleRow::value).toList();
+    }
+
+    /** 아키텍처의 레이어 (코드 필터가 비어 있으면 전체, ID 순) */
+    private Map<Long, Integer> layerRows(Long architectureId, List<String> layerCodes) {
+        int architectureColumn = layers.column("architecture_id");
+        int codeColumn = layers.column("code");
+        Map<Long, Integer> rows = new LinkedHashMap<>();
+        for (int layer = 0; layer < layers.size(); layer++) {
+            if (!Objects.equals(layers.getLong(layer, architectureColumn), architectureId)) {
+                continue;
+            }
+            if (layerCodes != null
+                    && !layerCodes.isEmpty()
+                    && !layerCodes.contains(layers.getString(layer, codeColumn))) {
+                continue;
+            }
+            rows.put(layers.id(layer), layer);
+        }
+        return rows;
+    }
+
+    private List<Integer> activeConventionsOf(long moduleId) {
+        int moduleColumn = conventions.column("module_id");
+        int activeColumn = conventions.column("is_active");
+        List<Integer> rows = new ArrayList<>(1);
+        for (int convention = 0; convention < conventions.size(); convention++) {
+            if (Objects.equals(conventions.getLong(convention, moduleColumn), moduleId)
+                    && conventions.getBoolean(convention, activeColumn)) {
+                rows.add(convention);
+            }
+        }
+        return rows;
+    }
+
+    private int activeTechStack() {
+        int statusColumn = techStacks.column("status");
+        for (int techStack = 0; techStack < techStacks.size(); techStack++) {
+            if (ACTIVE.equals(techStacks.getString(techStack, statusColumn))) {
+                return techStack;
+            }
+        }
+        return -1;
+    }
+
+    private ChecklistItemDto toChecklistItemDto(int item) {
+        return new ChecklistItemDto(
+                checklistItems.getString(item, checklistItems.column("check_description")),
+                checklistItems.value(item, checklistItems.column("automation_tool")) != null);
+    }
+
+    private ZeroToleranceDto toZeroToleranceDto(int zt) {
+        return new ZeroToleranceDto(
+                zeroTolerances.getString(zt, zeroTolerances.column("detection_pattern")),
+                zeroTolerances.getString(zt, zeroTolerances.column("detection_type")),
+                zeroTolerances.getBoolean(zt, zeroTolerances.column("auto_reject_pr")));
+    }
+
+    /** 부모 ID 컬럼 기준 행 번호 그룹핑 (각 목록은 ID 순) */
+    private static Map<Long, List<Integer>> rowsBy(Table table, String column) {
+        int parentColumn = table.column(column);
+        Map<Long, List<Integer>> rows = new HashMap<>();
+        for (int row = 0; row < table.size(); row++) {
+            Long parentId = table.getLong(row, parentColumn);
+            if (parentId != null) {
+                rows.computeIfAbsent(parentId, key -> new ArrayList<>()).add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static int indexOf(Table table, Long id) {
+        return id != null ? table.indexOf(id) : -1;
+    }
+
+    private static int first(List<Integer> rows) {
+        return rows != null && !rows.isEmpty() ? rows.get(0) : -1;
+    }
+
+    private record LayerRuleRow<T>(long layerId, long ruleId, T value) {}
+}
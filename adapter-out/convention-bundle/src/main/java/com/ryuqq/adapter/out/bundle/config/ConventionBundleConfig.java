@@ -0,0 +1,49 @@
+package com.ryuqq.adapter.out.bundle.config;
+
+import com.ryuqq.application.conventionset.format.ConventionSetBundle;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ConventionBundleConfig - 컨벤션 세트 번들 매핑 설정
+ *
+ * <p>{@code convention-bundle.path}의 번들 파일을 읽기 전용으로 메모리 매핑합니다. 채널은 매핑 직후 닫아도 매핑은 GC될 때까지 유효하며, 힙에
+ * 복사하지 않으므로 기동 시간과 힙 사용량이 번들 크기와 관계없습니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Configuration
+public class ConventionBundleConfig {
+
+    @Bean
+    public ConventionSetBundle conventionSetBundle(@Value("${convention-bundle.path}") Path path)
+            throws IOException {
+        return map(path);
+    }
+
+    /**
+     * 번들 파일 매핑
+     *
+     * @param path 번들 파일 경로
+     * @return 번들
+     * @throws IOException 파일 열기 실패
+     * @throws IllegalStateException 파일이 2GB를 넘는 경우
+     */
+    public static ConventionSetBundle map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IllegalStateException("Convention set bundle exceeds 2GB: " + path);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            return ConventionSetBundle.open(buffer);
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.ryuqq.adapter.out.bundle.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.bundle.config.ConventionBundleConfig;
+import com.ryuqq.application.conventionset.format.ConventionSetBundleBuilder;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.mcp.dto.context.CodingRuleWithDetailsDto;
+import com.ryuqq.application.mcp.dto.context.ModuleWithLayerAndConventionDto;
+import com.ryuqq.application.mcp.dto.context.PackageStructureWithPurposesDto;
+import com.ryuqq.application.mcp.dto.context.PlanningLayerModuleStructureDto;
+import com.ryuqq.application.mcp.dto.context.PlanningTechStackArchitectureDto;
+import com.ryuqq.application.mcp.dto.context.TemplateAndTestDto;
+import com.ryuqq.application.mcp.dto.context.ValidationChecklistDto;
+import com.ryuqq.application.mcp.dto.context.ValidationZeroToleranceDto;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * McpContextBundleQueryAdapter 단위 테스트
+ *
+ * <p>번들 파일을 실제로 메모리 매핑해 조회합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("adapter-out")
+@DisplayName("McpContextBundleQueryAdapter 단위 테스트")
+class McpContextBundleQueryAdapterTest {
+
+    @TempDir Path tempDir;
+
+    private McpContextBundleQueryAdapter sut;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ConventionSetBundleBuilder builder = new ConventionSetBundleBuilder();
+        builder.table(ConventionSetTable.TECH_STACK);
+        builder.row(
+                new Object[] {
+                    1L, "Spring Boot 3.5", "ACTIVE", "JAVA", "21", null, "SPRING_BOOT", "3.5.0",
+                    null, "JVM", "JVM", "GRADLE", "build.gradle", null
+                });
+        builder.table(ConventionSetTable.ARCHITECTURE);
+        builder.row(new Object[] {1L, 1L, "Hexagonal", "HEXAGONAL", "포트와 어댑터", null, null});
+        builder.table(ConventionSetTable.LAYER);
+        builder.row(new Object[] {10L, 1L, "DOMAIN", "도메인", "도메인 레이어", 1});
+        builder.row(new Object[] {20L, 1L, "APPLICATION", "애플리케이션", null, 2});
+        builder.table(ConventionSetTable.CLASS_TYPE);
+        builder.row(new Object[] {5L, 1L, "AGGREGATE", "Aggregate", null, 1});
+        builder.table(ConventionSetTable.MODULE);
+        builder.row(new Object[] {100L, 10L, null, "domain", "도메인 모듈", "domain", ":domain"});
+        builder.row(new Object[] {200L, 20L, null, "application", null, "application", ":app"});
+        builder.table(ConventionSetTable.PACKAGE_STRUCTURE);
+        builder.row(new Object[] {1000L, 100L, "{base}.domain.{bc}.aggregate", "Aggregate"});
+        builder.table(ConventionSetTable.PACKAGE_PURPOSE);
+        builder.row(new Object[] {1L, 1000L, "VO", "Value Object", "값 객체"});
+        builder.row(new Object[] {2L, 1000L, "AGGREGATE", "Aggregate", "애그리거트"});
+        builder.table(ConventionSetTable.CLASS_TEMPLATE);
+        builder.row(
+                new Object[] {
+                    1L, 1000L, 5L, "public class {Name} {}", null, null, null, null, null, null,
+                    "Aggregate 템플릿"
+                });
+        builder.row(
+                new Object[] {
+                    2L, 1000L, 6L, "public record {Name}() {}", null, null, null, null, null,
+                    null, "VO 템플릿"
+                });
+        builder.table(ConventionSetTable.ARCHUNIT_TEST);
+        builder.row(
+                new Object[] {
+                    1L, 1000L, "ARCH-001", "Lombok 금지", null, "DomainTest", "noLombok",
+                    "noClasses()...", "BLOCKER"
+                });
+        builder.table(ConventionSetTable.CONVENTION);
+        builder.row(new Object[] {50L, 100L, "1.0.0", "도메인 컨벤션", true});
+        builder.row(new Object[] {51L, 200L, "0.9.0", "폐기된 컨벤션", false});
+        builder.table(ConventionSetTable.CODING_RULE);
+        builder.row(
+                new Object[] {
+                    500L, 50L, "DOM-001", "Lombok 금지", "BLOCKER", "ANNOTATION", "설명", null,
+                    false, "AGGREGATE,VO"
+                });
+        builder.row(
+                new Object[] {
+                    501L, 50L, "DOM-002", "Setter 금지", "CRITICAL", "STRUCTURE", "설명", null,
+                    false, "ENTITY"
+                });
+        builder.row(
+                new Object[] {
+                    510L, 51L, "APP-001", "폐기 규칙", "MAJOR", "STRUCTURE", null, null, false,
+                    "AGGREGATE"
+                });
+        builder.table(ConventionSetTable.RULE_EXAMPLE);
+        builder.row(
+                new Object[] {
+                    1L, 500L, "BAD", "@Data class Order {}", "JAVA", "Lombok 사용", null, null,
+                    null
+                });
+        builder.table(ConventionSetTable.ZERO_TOLERANCE_RULE);
+        builder.row(
+                new Object[] {1L, 500L, "LOMBOK", "@Data", "REGEX", true, "Lombok 사용 금지"});
+        builder.row(
+                new Object[] {2L, 510L, "LOMBOK", "@Getter", "REGEX", true, "비활성 컨벤션"});
+        builder.table(ConventionSetTable.CHECKLIST_ITEM);
+        builder.row(
+                new Object[] {
+                    1L, 501L, 1, "Setter가 없는가", "MANUAL", " ", null, false, null, null
+                });
+        builder.row(
+                new Object[] {
+                    2L, 500L, 1, "Lombok import가 없는가", "AUTOMATED", "ArchUnit", "ARCH-001",
+                    true, null, null
+                });
+
+        Path path = tempDir.resolve("convention-set-1.bundle");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            builder.writeTo(out, 1L, Instant.parse("2026-01-01T00:00:00Z"));
+        }
+        sut = new McpContextBundleQueryAdapter(ConventionBundleConfig.map(path));
+    }
+
+    @Nested
+    @DisplayName("Module Context 조회")
+    class ModuleContext {
+
+        @Test
+        @DisplayName("Module + Layer + 활성 Convention 조회")
+        void findModuleWithLayerAndConvention_ShouldJoinActiveConvention() {
+            // when
+            ModuleWithLayerAndConventionDto domain =
+                    sut.findModuleWithLayerAndConvention(100L).orElseThrow();
+            ModuleWithLayerAndConventionDto application =
+                    sut.findModuleWithLayerAndConvention(200L).orElseThrow();
+
+            // then
+            assertThat(domain.layerCode()).isEqualTo("DOMAIN");
+            assertThat(domain.conventionId()).isEqualTo(50L);
+            assertThat(domain.conventionVersion()).isEqualTo("1.0.0");
+            assertThat(application.conventionId()).isNull();
+            assertThat(sut.findModuleWithLayerAndConvention(999L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("classTypeId의 코드가 appliesTo에 포함된 규칙만 상세와 함께 조회")
+        void findCodingRulesWithDetails_ShouldFilterByClassTypeCode() {
+            // when
+            List<CodingRuleWithDetailsDto> filtered = sut.findCodingRulesWithDetails(50L, 5L);
+            List<CodingRuleWithDetailsDto> all = sut.findCodingRulesWithDetails(50L, null);
+
+            // then
+            assertThat(filtered)
+                    .extracting(CodingRuleWithDetailsDto::ruleCode)
+                    .containsExactly("DOM-001");
+            CodingRuleWithDetailsDto rule = filtered.get(0);
+            assertThat(rule.examples()).hasSize(1);
+            assertThat(rule.zeroTolerance().detectionPattern()).isEqualTo("@Data");
+            assertThat(rule.zeroTolerance().autoRejectPr()).isTrue();
+            assertThat(rule.checklistItem().hasAutomation()).isTrue();
+            assertThat(all)
+                    .extracting(CodingRuleWithDetailsDto::ruleCode)
+                    .containsExactly("DOM-001", "DOM-002");
+        }
+
+        @Test
+        @DisplayName("패키지 구조와 목적, 템플릿(classType 필터)과 ArchUnit 테스트 조회")
+        void findStructuresAndTemplates_ShouldGroupByStructure() {
+            // when
+            List<PackageStructureWithPurposesDto> structures =
+                    sut.findPackageStructuresWithPurposes(100L);
+            List<TemplateAndTestDto> templates =
+                    sut.findTemplatesAndTests(List.of(1000L, 2000L), 5L);
+
+            // then
+            assertThat(structures).hasSize(1);
+            assertThat(structures.get(0).purposes()).hasSize(2);
+            assertThat(templates)
+                    .extracting(TemplateAndTestDto::structureId)
+                    .containsExactly(1000L, 2000L);
+            assertThat(templates.get(0).templates()).hasSize(1);
+            assertThat(templates.get(0).templates().get(0).classTypeId()).isEqualTo(5L);
+            assertThat(templates.get(0).archUnitTests()).hasSize(1);
+            assertThat(templates.get(1).templates()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Planning Context 조회")
+    class PlanningContext {
+
+        @Test
+        @DisplayName("techStackId가 null이면 ACTIVE 스택과 아키텍처 조회")
+        void findTechStackWithArchitecture_ShouldFallBackToActiveStack() {
+            // when
+            PlanningTechStackArchitectureDto result =
+                    sut.findTechStackWithArchitecture(null).orElseThrow();
+
+            // then
+            assertThat(result.techStackId()).isEqualTo(1L);
+            assertThat(result.architectureName()).isEqualTo("Hexagonal");
+            assertThat(sut.findTechStackWithArchitecture(2L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("레이어/모듈/구조 평면 행과 허용 클래스 타입, 템플릿/규칙 수 계산")
+        void findLayerModuleStructures_ShouldFlattenWithCounts() {
+            // when
+            List<PlanningLayerModuleStructureDto> rows =
+                    sut.findLayerModuleStructures(1L, List.of());
+
+            // then
+            assertThat(rows).hasSize(2);
+            PlanningLayerModuleStructureDto domain = rows.get(0);
+            assertThat(domain.layerCode()).isEqualTo("DOMAIN");
+            assertThat(domain.allowedClassTypes()).isEqualTo("AGGREGATE,VO");
+            assertThat(domain.templateCount()).isEqualTo(2);
+            assertThat(domain.ruleCount()).isEqualTo(2);
+            PlanningLayerModuleStructureDto application = rows.get(1);
+            assertThat(application.structureId()).isNull();
+            assertThat(application.ruleCount()).isZero();
+            assertThat(sut.findLayerModuleStructures(1L, List.of("APPLICATION"))).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Context 조회")
+    class ValidationContext {
+
+        @Test
+        @DisplayName("활성 컨벤션의 Zero-Tolerance 규칙만 레이어 코드와 함께 조회")
+        void findZeroToleranceRulesForValidation_ShouldSkipInactiveConvention() {
+            // when
+            List<ValidationZeroToleranceDto> rules =
+                    sut.findZeroToleranceRulesForValidation(1L, List.of(), List.of("AGGREGATE"));
+
+            // then
+            assertThat(rules).hasSize(1);
+            assertThat(rules.get(0).layerCode()).isEqualTo("DOMAIN");
+            assertThat(rules.get(0).appliesTo()).containsExactly("AGGREGATE", "VO");
+            assertThat(sut.findZeroToleranceRulesForValidation(2L, List.of(), List.of()))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("체크리스트는 ruleId 순으로 정렬하고 공백 자동화 도구는 자동화 없음")
+        void findChecklistItemsForValidation_ShouldSortByRuleId() {
+            // when
+            List<ValidationChecklistDto> items =
+                    sut.findChecklistItemsForValidation(1L, List.of("DOMAIN"), List.of());
+
+            // then
+            assertThat(items)
+                    .extracting(ValidationChecklistDto::ruleCode)
+                    .containsExactly("DOM-001", "DOM-002");
+            assertThat(items.get(0).hasAutomation()).isTrue();
+            assertThat(items.get(1).hasAutomation()).isFalse();
+        }
+    }
+}
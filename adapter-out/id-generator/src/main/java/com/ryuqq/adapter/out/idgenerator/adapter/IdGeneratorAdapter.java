@@ -0,0 +1,37 @@
+package com.ryuqq.adapter.out.idgenerator.adapter;
+
+import com.ryuqq.adapter.out.idgenerator.generator.TimeOrderedLongIdGenerator;
+import com.ryuqq.adapter.out.idgenerator.generator.UuidV7Generator;
+import com.ryuqq.application.common.port.out.IdGeneratorPort;
+import org.springframework.stereotype.Component;
+
+/**
+ * IdGeneratorAdapter - ID 생성 Adapter
+ *
+ * <p>IdGeneratorPort를 구현합니다. 두 생성기 모두 CAS 기반으로 락 없이 동작합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Component
+public class IdGeneratorAdapter implements IdGeneratorPort {
+
+    private final UuidV7Generator uuidV7Generator;
+    private final TimeOrderedLongIdGenerator longIdGenerator;
+
+    public IdGeneratorAdapter(
+            UuidV7Generator uuidV7Generator, TimeOrderedLongIdGenerator longIdGenerator) {
+        this.uuidV7Generator = uuidV7Generator;
+        this.longIdGenerator = longIdGenerator;
+    }
+
+    @Override
+    public String generate() {
+        return uuidV7Generator.next().toString();
+    }
+
+    @Override
+    public long generateLong() {
+        return longIdGenerator.nextId();
+    }
+}
@@ -0,0 +1,32 @@
+package com.ryuqq.adapter.out.idgenerator.config;
+
+import com.ryuqq.adapter.out.idgenerator.generator.TimeOrderedLongIdGenerator;
+import com.ryuqq.adapter.out.idgenerator.generator.UuidV7Generator;
+import java.time.Clock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * IdGeneratorConfig - ID 생성기 Bean 설정
+ *
+ * <p>{@code id-generator.worker-id}는 노드마다 달라야 합니다 (0~63). 같은 worker ID를 가진 노드가 동시에 발급하면 Long ID가
+ * 중복될 수 있으므로, 운영 환경에서는 기본값 없이 환경 변수로 주입합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public TimeOrderedLongIdGenerator timeOrderedLongIdGenerator(
+            Clock clock, @Value("${id-generator.worker-id:0}") int workerId) {
+        return new TimeOrderedLongIdGenerator(clock, workerId);
+    }
+
+    @Bean
+    public UuidV7Generator uuidV7Generator(Clock clock) {
+        return new UuidV7Generator(clock);
+    }
+}
@@ -0,0 +1,144 @@
+package com.ryuqq.adapter.out.idgenerator.generator;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TimeOrderedLongIdGenerator - 시간 순서 53-bit Long ID 생성기
+ *
+ * <p>Snowflake 계열 레이아웃을 JavaScript 안전 정수 범위(2^53 - 1) 안으로 줄인 구성입니다. REST 응답의 Long ID를 브라우저가 정밀도 손실
+ * 없이 다룰 수 있습니다.
+ *
+ * <pre>
+ * | 40 bit: EPOCH 이후 경과 ms (~34년) | 6 bit: worker (0~63) | 7 bit: sequence (128/ms) |
+ * </pre>
+ *
+ * <p><strong>락 없는 생성:</strong> (timestamp, sequence) 쌍을 하나의 {@link AtomicLong}에 묶어 CAS로 갱신합니다.
+ *
+ * <ul>
+ *   <li>시계가 앞서 있으면 시퀀스를 0으로 초기화
+ *   <li>같은 ms 이거나 시계가 뒤에 있으면 직전 값 + 1 (시퀀스 초과 시 다음 ms를 미리 사용)
+ * </ul>
+ *
+ * <p><strong>단조 시계 가드:</strong> 미리 사용한 ms 또는 시계 역행으로 마지막 값이 실제 시각보다 앞선 경우,
+ *
+ * <ul>
+ *   <li>{@value #MAX_BORROW_MILLIS}ms 이내: 그대로 진행 (단조 증가 유지)
+ *   <li>{@value #MAX_BACKWARD_MILLIS}ms 이내: 약 1ms 대기 후 재시도
+ *   <li>그 이상: {@link IllegalStateException} - 중복 위험이 있으므로 발급 중단
+ * </ul>
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+public final class TimeOrderedLongIdGenerator {
+
+    /** 기준 시각: 2025-01-01T00:00:00Z */
+    public static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int TIMESTAMP_BITS = 40;
+    static final int WORKER_BITS = 6;
+    static final int SEQUENCE_BITS = 7;
+
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+
+    static final long MAX_TIMESTAMP = (1L << TIMESTAMP_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    static final long MAX_BORROW_MILLIS = 1_000L;
+    static final long MAX_BACKWARD_MILLIS = 5_000L;
+
+    private static final long BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Clock clock;
+    private final long workerBits;
+
+    /** (EPOCH 이후 ms << SEQUENCE_BITS) | sequence */
+    private final AtomicLong lastState = new AtomicLong(-1L);
+
+    public TimeOrderedLongIdGenerator(Clock clock, int workerId) {
+        if (clock == null) {
+            throw new IllegalArgumentException("clock must not be null");
+        }
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException(
+                    "workerId must be between 0 and " + MAX_WORKER_ID + ": " + workerId);
+        }
+        this.clock = clock;
+        this.workerBits = (long) workerId << SEQUENCE_BITS;
+    }
+
+    /**
+     * 새 ID 생성
+     *
+     * @return 양수 53-bit 시간 순서 ID
+     * @throws IllegalStateException 시계가 허용 범위 이상 역행했거나 타임스탬프 비트가 소진된 경우
+     */
+    public long nextId() {
+        while (true) {
+            long now = currentMillis();
+            long prev = lastState.get();
+            long prevMillis = prev >> SEQUENCE_BITS;
+
+            long next;
+            if (now > prevMillis) {
+                next = now << SEQUENCE_BITS;
+            } else {
+                long ahead = prevMillis - now;
+                if (ahead > MAX_BACKWARD_MILLIS) {
+                    throw new IllegalStateException(
+                            "Clock moved backwards by " + ahead + "ms; refusing to generate id");
+                }
+                if (ahead > MAX_BORROW_MILLIS) {
+                    LockSupport.parkNanos(BACKOFF_NANOS);
+                    continue;
+                }
+                next = prev + 1;
+            }
+
+            if (lastState.compareAndSet(prev, next)) {
+                return compose(next);
+            }
+        }
+    }
+
+    private long currentMillis() {
+        long elapsed = clock.millis() - EPOCH_MILLIS;
+        if (elapsed < 0) {
+            throw new IllegalStateException("Clock is before id epoch: " + clock.instant());
+        }
+        return elapsed;
+    }
+
+    private long compose(long state) {
+        long millis = state >> SEQUENCE_BITS;
+        if (millis > MAX_TIMESTAMP) {
+            throw new IllegalStateException("Id timestamp bits exhausted");
+        }
+        long sequence = state & SEQUENCE_MASK;
+        return (millis << (WORKER_BITS + SEQUENCE_BITS)) | workerBits | sequence;
+    }
+
+    /**
+     * ID에서 생성 시각 추출
+     *
+     * @param id 이 생성기가 발급한 ID
+     * @return 생성 시각 (ms 정밀도)
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (WORKER_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    /**
+     * ID에서 worker ID 추출
+     *
+     * @param id 이 생성기가 발급한 ID
+     * @return worker ID
+     */
+    public static int workerIdOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_WORKER_ID);
+    }
+}
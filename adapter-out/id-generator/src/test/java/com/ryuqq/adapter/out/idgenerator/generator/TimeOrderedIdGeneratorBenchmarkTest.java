@@ -0,0 +1,102 @@
+package com.ryuqq.adapter.out.idgenerator.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ID 생성기 경합 처리량 벤치마크
+ *
+ * <p>일반 test 태스크에서는 제외됩니다. {@code ./gradlew :adapter-out:id-generator:benchmark}로 실행합니다.
+ *
+ * <p>플랫폼 스레드 수를 코어 수의 2배로 두어 CAS 경합을 유도하고, 전 스레드에서 발급된 ID가 중복되지 않는지 함께 검증합니다. Long 생성기는 ms 당 128개로
+ * 제한되므로 처리량 상한은 노드당 약 128,000/s 이며, 초과분은 다음 ms를 미리 사용합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("benchmark")
+@DisplayName("ID 생성기 경합 처리량 벤치마크")
+class TimeOrderedIdGeneratorBenchmarkTest {
+
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    @DisplayName("Long ID - 다중 스레드 경합에서 중복 없음 + 처리량 출력")
+    void longIds_UnderContention() throws Exception {
+        TimeOrderedLongIdGenerator generator =
+                new TimeOrderedLongIdGenerator(Clock.systemUTC(), 1);
+
+        Set<Long> ids = run("long", generator::nextId);
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    @DisplayName("UUIDv7 - 다중 스레드 경합에서 중복 없음 + 처리량 출력")
+    void uuidV7_UnderContention() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator(Clock.systemUTC());
+
+        Set<UUID> ids = run("uuidv7", generator::next);
+
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    private static <T> Set<T> run(String name, Supplier<T> supplier) throws Exception {
+        Set<T> results = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<T>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    List<T> local = new ArrayList<>(IDS_PER_THREAD);
+                                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                                        local.add(supplier.get());
+                                    }
+                                    return local;
+                                }));
+            }
+
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<List<T>> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+            long elapsedNanos = System.nanoTime() - begin;
+            for (Future<List<T>> future : futures) {
+                results.addAll(future.get());
+            }
+
+            long total = (long) THREADS * IDS_PER_THREAD;
+            System.out.printf(
+                    "[id-benchmark] %s threads=%d ids=%d elapsed=%dms throughput=%.0f ids/s%n",
+                    name,
+                    THREADS,
+                    total,
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                    total / (elapsedNanos / 1_000_000_000.0));
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
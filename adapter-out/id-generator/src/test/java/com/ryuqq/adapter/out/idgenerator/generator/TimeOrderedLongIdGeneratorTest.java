@@ -0,0 +1,202 @@
+package com.ryuqq.adapter.out.idgenerator.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * TimeOrderedLongIdGenerator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("adapter-out")
+@DisplayName("TimeOrderedLongIdGenerator 단위 테스트")
+class TimeOrderedLongIdGeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Nested
+    @DisplayName("생성")
+    class Create {
+
+        @Test
+        @DisplayName("worker ID가 범위를 벗어나면 예외")
+        void create_WithOutOfRangeWorkerId_ShouldThrow() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+
+            // when & then
+            assertThatThrownBy(() -> new TimeOrderedLongIdGenerator(clock, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(
+                            () ->
+                                    new TimeOrderedLongIdGenerator(
+                                            clock, TimeOrderedLongIdGenerator.MAX_WORKER_ID + 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("nextId()")
+    class NextId {
+
+        @Test
+        @DisplayName("같은 ms 안에서도 고유하고 단조 증가")
+        void nextId_WithinSameMillis_ShouldBeUniqueAndIncreasing() {
+            // given
+            TimeOrderedLongIdGenerator sut =
+                    new TimeOrderedLongIdGenerator(new MutableClock(NOW), 5);
+            Set<Long> ids = new HashSet<>();
+            long previous = 0L;
+
+            // when & then
+            for (int i = 0; i < 1_000; i++) {
+                long id = sut.nextId();
+                assertThat(id).isGreaterThan(previous);
+                assertThat(ids.add(id)).isTrue();
+                previous = id;
+            }
+        }
+
+        @Test
+        @DisplayName("타임스탬프와 worker ID를 복원할 수 있고 JS 안전 정수 범위 이내")
+        void nextId_ShouldEncodeTimestampAndWorker() {
+            // given
+            TimeOrderedLongIdGenerator sut =
+                    new TimeOrderedLongIdGenerator(new MutableClock(NOW), 42);
+
+            // when
+            long id = sut.nextId();
+
+            // then
+            assertThat(TimeOrderedLongIdGenerator.timestampOf(id)).isEqualTo(NOW);
+            assertThat(TimeOrderedLongIdGenerator.workerIdOf(id)).isEqualTo(42);
+            assertThat(id).isPositive().isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+        }
+
+        @Test
+        @DisplayName("최대 타임스탬프(~2059년)에서도 JS 안전 정수 범위 이내")
+        void nextId_AtMaxTimestamp_ShouldStayJsSafe() {
+            // given
+            Instant last =
+                    Instant.ofEpochMilli(
+                            TimeOrderedLongIdGenerator.EPOCH_MILLIS
+                                    + TimeOrderedLongIdGenerator.MAX_TIMESTAMP);
+            TimeOrderedLongIdGenerator sut =
+                    new TimeOrderedLongIdGenerator(
+                            new MutableClock(last), TimeOrderedLongIdGenerator.MAX_WORKER_ID);
+
+            // when
+            long id = sut.nextId();
+
+            // then
+            assertThat(id)
+                    .isEqualTo(JS_MAX_SAFE_INTEGER - TimeOrderedLongIdGenerator.SEQUENCE_MASK);
+        }
+
+        @Test
+        @DisplayName("시계가 소폭 역행해도 단조 증가 유지")
+        void nextId_WhenClockMovesBackSlightly_ShouldStayMonotonic() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            TimeOrderedLongIdGenerator sut = new TimeOrderedLongIdGenerator(clock, 1);
+            long before = sut.nextId();
+
+            // when
+            clock.set(NOW.minusMillis(500));
+            long after = sut.nextId();
+
+            // then
+            assertThat(after).isGreaterThan(before);
+        }
+
+        @Test
+        @DisplayName("ms 당 시퀀스를 모두 쓰면 다음 ms를 미리 사용")
+        void nextId_WhenSequenceExhausted_ShouldBorrowNextMillis() {
+            // given
+            TimeOrderedLongIdGenerator sut =
+                    new TimeOrderedLongIdGenerator(new MutableClock(NOW), 0);
+            int perMillis = (int) TimeOrderedLongIdGenerator.SEQUENCE_MASK + 1;
+            long last = 0L;
+
+            // when
+            for (int i = 0; i <= perMillis; i++) {
+                last = sut.nextId();
+            }
+
+            // then
+            assertThat(TimeOrderedLongIdGenerator.timestampOf(last)).isEqualTo(NOW.plusMillis(1));
+        }
+
+        @Test
+        @DisplayName("시계가 허용 범위 이상 역행하면 발급 중단")
+        void nextId_WhenClockMovesBackTooFar_ShouldThrow() {
+            // given
+            MutableClock clock = new MutableClock(NOW);
+            TimeOrderedLongIdGenerator sut = new TimeOrderedLongIdGenerator(clock, 1);
+            sut.nextId();
+
+            // when
+            clock.set(NOW.minusMillis(TimeOrderedLongIdGenerator.MAX_BACKWARD_MILLIS + 1));
+
+            // then
+            assertThatThrownBy(sut::nextId)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Clock moved backwards");
+        }
+
+        @Test
+        @DisplayName("기준 시각 이전의 시계는 거부")
+        void nextId_WhenClockBeforeEpoch_ShouldThrow() {
+            // given
+            TimeOrderedLongIdGenerator sut =
+                    new TimeOrderedLongIdGenerator(
+                            new MutableClock(Instant.parse("2024-12-31T23:59:59Z")), 0);
+
+            // when & then
+            assertThatThrownBy(sut::nextId).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    /** 테스트용 가변 Clock */
+    static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void set(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.ryuqq.adapter.out.idgenerator.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.idgenerator.generator.TimeOrderedLongIdGeneratorTest.MutableClock;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * UuidV7Generator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("adapter-out")
+@DisplayName("UuidV7Generator 단위 테스트")
+class UuidV7GeneratorTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+
+    @Test
+    @DisplayName("버전 7, RFC 9562 variant, 상위 48비트에 unix ms 기록")
+    void next_ShouldSetVersionVariantAndTimestamp() {
+        // given
+        UuidV7Generator sut = new UuidV7Generator(new MutableClock(NOW));
+
+        // when
+        UUID uuid = sut.next();
+
+        // then
+        assertThat(uuid.version()).isEqualTo(7);
+        assertThat(uuid.variant()).isEqualTo(2);
+        assertThat(uuid.getMostSignificantBits() >>> 16).isEqualTo(NOW.toEpochMilli());
+    }
+
+    @Test
+    @DisplayName("같은 ms 및 시계 역행 시에도 문자열 정렬 순서가 단조 증가")
+    void next_ShouldBeMonotonicAsString() {
+        // given
+        MutableClock clock = new MutableClock(NOW);
+        UuidV7Generator sut = new UuidV7Generator(clock);
+        String previous = sut.next().toString();
+
+        // when & then
+        for (int i = 0; i < 10_000; i++) {
+            if (i == 5_000) {
+                clock.set(NOW.minusSeconds(1));
+            }
+            String current = sut.next().toString();
+            assertThat(current).isGreaterThan(previous);
+            previous = current;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import com.ryuqq.adapter.out.persistence.architecture.entity.ArchitectureJpaEnti
 import com.ryuqq.domain.architecture.query.ArchitectureSliceCriteria;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -46,6 +47,7 @@ public class ArchitectureQueryDslRepository {
                 queryFactory
                         .selectFrom(architectureJpaEntity)
                         .where(conditionBuilder.idEq(id), conditionBuilder.deletedAtIsNull())
+                        .setHint(HibernateHints.HINT_CACHEABLE, true)
                         .fetchOne();
         return Optional.ofNullable(result);
     }
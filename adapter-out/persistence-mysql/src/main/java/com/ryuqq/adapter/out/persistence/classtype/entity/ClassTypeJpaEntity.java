@@ -1,6 +1,8 @@
 package com.ryuqq.adapter.out.persistence.classtype.entity;
 
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheRegions;
 import com.ryuqq.adapter.out.persistence.common.entity.SoftDeletableEntity;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -9,6 +11,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import java.time.Instant;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * ClassTypeJpaEntity - ClassType JPA 엔티티
@@ -20,6 +24,8 @@ import java.util.Objects;
  */
 @Entity
 @Table(name = "class_type")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ReferenceCacheRegions.CLASS_TYPE)
 public class ClassTypeJpaEntity extends SoftDeletableEntity {
 
     @Id
@@ -8,6 +8,7 @@ import com.ryuqq.adapter.out.persistence.classtype.entity.ClassTypeJpaEntity;
 import com.ryuqq.domain.classtype.query.ClassTypeSliceCriteria;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -47,6 +48,7 @@ public class ClassTypeQueryDslRepository {
                 queryFactory
                         .selectFrom(classTypeJpaEntity)
                         .where(conditionBuilder.idEq(id), conditionBuilder.deletedAtIsNull())
+                        .setHint(HibernateHints.HINT_CACHEABLE, true)
                         .fetchOne();
         return Optional.ofNullable(result);
     }
@@ -8,6 +8,7 @@ import com.ryuqq.adapter.out.persistence.classtypecategory.entity.ClassTypeCateg
 import com.ryuqq.domain.classtypecategory.query.ClassTypeCategorySliceCriteria;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -47,6 +48,7 @@ public class ClassTypeCategoryQueryDslRepository {
                 queryFactory
                         .selectFrom(classTypeCategoryJpaEntity)
                         .where(conditionBuilder.idEq(id), conditionBuilder.deletedAtIsNull())
+                        .setHint(HibernateHints.HINT_CACHEABLE, true)
                         .fetchOne();
         return Optional.ofNullable(result);
     }
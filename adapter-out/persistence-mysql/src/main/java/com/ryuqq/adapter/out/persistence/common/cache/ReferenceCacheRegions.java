@@ -0,0 +1,34 @@
+package com.ryuqq.adapter.out.persistence.common.cache;
+
+/**
+ * ReferenceCacheRegions - 참조 데이터 2차 캐시 리전 이름
+ *
+ * <p>Layer, ClassType 등 거의 변하지 않지만 검증/명령 경로마다 조회되는 엔티티를 Hibernate 2차 캐시에 둡니다. 리전 이름은 {@code
+ * ehcache.xml}의 cache alias와 일치해야 합니다.
+ *
+ * <p>ID 단건 조회 쿼리는 {@code HibernateHints.HINT_CACHEABLE} 힌트로 쿼리 캐시(기본 리전)를 사용합니다. 쿼리 캐시는 결과 ID만 저장하고
+ * 엔티티는 이 리전들에서 가져옵니다. 명령 경로의 존재 여부 확인은 캐시하지 않고 항상 DB에서 확인합니다.
+ *
+ * <p>무효화:
+ *
+ * <ul>
+ *   <li>같은 노드 수정/소프트 삭제: 엔티티 UPDATE이므로 READ_WRITE 전략이 커밋 후 엔트리를 갱신
+ *   <li>같은 노드 쿼리 캐시: 테이블이 변경되면 update timestamps가 갱신되어 이전 결과를 사용하지 않음
+ *   <li>다른 노드: {@link ReferenceCacheVersionListener}가 올린 리전 버전을 {@link ReferenceCacheSynchronizer}가
+ *       감지해 리전과 쿼리 캐시를 비움
+ *   <li>JDBC 일괄 저장(컨벤션 세트 가져오기): {@code ConventionSetCacheInvalidator}가 같은 버전 증가와 로컬 무효화를 직접 수행
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public final class ReferenceCacheRegions {
+
+    public static final String LAYER = "reference.layer";
+    public static final String CLASS_TYPE = "reference.class_type";
+    public static final String CLASS_TYPE_CATEGORY = "reference.class_type_category";
+    public static final String ARCHITECTURE = "reference.architecture";
+    public static final String TECH_STACK = "reference.tech_stack";
+    public static final String LAYER_DEPENDENCY_RULE = "reference.layer_dependency_rule";
+
+    private ReferenceCacheRegions() {}
+}
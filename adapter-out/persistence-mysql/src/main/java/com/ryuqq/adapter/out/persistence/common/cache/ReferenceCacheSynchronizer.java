@@ -0,0 +1,92 @@
+package com.ryuqq.adapter.out.persistence.common.cache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReferenceCacheSynchronizer - 다른 노드의 참조 데이터 변경을 2차 캐시에 반영
+ *
+ * <p>주기적으로 {@code reference_cache_version}을 Primary에서 읽어, 마지막으로 본 버전과 다른 리전을 비웁니다. 리전이 하나라도 비워지면 쿼리
+ * 캐시도 함께 비웁니다. 쿼리 캐시 무효화 기준(update timestamps)도 노드마다 따로 있어 다른 노드의 변경을 알 수 없기 때문입니다.
+ *
+ * <p>다른 노드의 변경은 최대 {@code syncInterval} 뒤에 반영됩니다. 조회에 실패하면 경고를 남기고 다음 주기에 다시 시도합니다.
+ *
+ * @author ryu-qqq
+ */
+public class ReferenceCacheSynchronizer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceCacheSynchronizer.class);
+
+    private static final String SELECT_SQL = "SELECT region, version FROM reference_cache_version";
+
+    private final DataSource dataSource;
+    private final Cache cache;
+    private final Duration syncInterval;
+    private final Map<String, Long> versions = new HashMap<>();
+    private ScheduledExecutorService scheduler;
+
+    public ReferenceCacheSynchronizer(DataSource dataSource, Cache cache, Duration syncInterval) {
+        this.dataSource = dataSource;
+        this.cache = cache;
+        this.syncInterval = syncInterval;
+    }
+
+    /** 현재 버전을 기준으로 기록한 뒤 주기 확인 시작 (기동 시점에는 캐시가 비어 있으므로 비우지 않음) */
+    public void start() {
+        sync(false);
+        scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("reference-cache-sync").daemon().factory());
+        long intervalMillis = syncInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+                () -> sync(true), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 리전 버전 확인
+     *
+     * @param evictUnseen 기준 버전이 없는 리전도 비울지 여부 (기동 시 조회가 실패했던 경우)
+     */
+    synchronized void sync(boolean evictUnseen) {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+                ResultSet resultSet = statement.executeQuery()) {
+            boolean evicted = false;
+            while (resultSet.next()) {
+                String region = resultSet.getString(1);
+                long version = resultSet.getLong(2);
+                Long previous = versions.put(region, version);
+                if (previous == null ? evictUnseen : previous != version) {
+                    cache.evictRegion(region);
+                    evicted = true;
+                    log.debug("Reference cache region evicted: {} (version {})", region, version);
+                }
+            }
+            if (evicted) {
+                cache.evictDefaultQueryRegion();
+            }
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Reference cache version check failed: {}", e.getMessage());
+        }
+    }
+
+    /** 주기 확인 중단 */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ryuqq.adapter.out.persistence.common.cache;
+
+import java.sql.PreparedStatement;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.WeakHashMap;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+/**
+ * ReferenceCacheVersionListener - 참조 엔티티 변경 시 리전 버전 증가
+ *
+ * <p>2차 캐시 리전을 가진 엔티티({@code @Cache})가 생성/수정/삭제되면, 커밋 직전에 같은 트랜잭션에서 {@code
+ * reference_cache_version}의 해당 리전 버전을 올립니다. 다른 노드는 {@link ReferenceCacheSynchronizer}로 버전 변경을 감지해
+ * 자신의 캐시를 비웁니다.
+ *
+ * <p>한 트랜잭션에서 같은 리전이 여러 번 바뀌어도 리전당 한 번만 올리며, 리전 이름 순서로 갱신하여 트랜잭션 간 행 락 순서를 맞춥니다.
+ *
+ * @author ryu-qqq
+ */
+public class ReferenceCacheVersionListener
+        implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    /** 리전 버전 증가 (JDBC로 직접 저장하는 경로도 같은 문장 사용) */
+    public static final String BUMP_SQL =
+            "UPDATE reference_cache_version SET version = version + 1 WHERE region = ?";
+
+    private final Map<EventSource, RegionVersionBump> pending =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        register(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        register(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        register(event.getSession(), event.getPersister());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void register(EventSource session, EntityPersister persister) {
+        if (!persister.canWriteToCache()) {
+            return;
+        }
+        String region = persister.getCacheAccessStrategy().getRegion().getName();
+        pending.computeIfAbsent(
+                        session,
+                        source -> {
+                            RegionVersionBump bump = new RegionVersionBump();
+                            source.getActionQueue().registerProcess(bump);
+                            // 롤백으로 버전을 올리지 않은 경우에도 세션의 대기 리전을 정리
+                            source.getActionQueue()
+                                    .registerProcess(
+                                            (AfterTransactionCompletionProcess)
+                                                    (success, completed) ->
+                                                            pending.remove(source));
+                            return bump;
+                        })
+                .regions
+                .add(region);
+    }
+
+    /** 트랜잭션에서 변경된 리전의 버전을 커밋 직전에 올림 */
+    private final class RegionVersionBump implements BeforeTransactionCompletionProcess {
+
+        private final Set<String> regions = new TreeSet<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            session.doWork(
+                    connection -> {
+                        try (PreparedStatement statement = connection.prepareStatement(BUMP_SQL)) {
+                            for (String region : regions) {
+                                statement.setString(1, region);
+                                statement.executeUpdate();
+                            }
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.ryuqq.adapter.out.persistence.common.cache.config;
+
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheSynchronizer;
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheVersionListener;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+/**
+ * ReferenceCacheSyncConfig - 참조 데이터 2차 캐시 노드 간 무효화 설정
+ *
+ * <p>2차 캐시는 노드마다 독립된 인프로세스 캐시이므로 아래 두 가지로 다른 노드의 변경을 반영합니다.
+ *
+ * <ul>
+ *   <li>{@link ReferenceCacheVersionListener}: 참조 엔티티를 변경한 트랜잭션에서 리전 버전 증가
+ *   <li>{@link ReferenceCacheSynchronizer}: {@code persistence.reference-cache.sync-interval}마다 버전을
+ *       확인해 바뀐 리전과 쿼리 캐시를 비움
+ * </ul>
+ *
+ * <p>2차 캐시가 꺼져 있거나 {@code persistence.reference-cache.sync-enabled=false}이면 둘 다 등록하지 않습니다. 네이티브
+ * 이미지(AOT)에서는 {@code @ConditionalOnProperty}가 빌드 시점에 고정되므로 런타임 값으로 판단합니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class ReferenceCacheSyncConfig {
+
+    /** 지연 초기화 프로필에서도 기동 중에 리스너를 등록하고 확인을 시작 */
+    @Bean(destroyMethod = "close")
+    @Lazy(false)
+    public ReferenceCacheSynchronizer referenceCacheSynchronizer(
+            EntityManagerFactory entityManagerFactory,
+            DataSource dataSource,
+            @Value("${persistence.reference-cache.sync-enabled:true}") boolean syncEnabled,
+            @Value("${persistence.reference-cache.sync-interval:2s}") Duration syncInterval) {
+        SessionFactoryImplementor sessionFactory =
+                entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        ReferenceCacheSynchronizer synchronizer =
+                new ReferenceCacheSynchronizer(
+                        dataSource, sessionFactory.getCache(), syncInterval);
+        if (!syncEnabled
+                || !sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            return synchronizer;
+        }
+
+        ReferenceCacheVersionListener listener = new ReferenceCacheVersionListener();
+        EventListenerRegistry registry =
+                sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+        synchronizer.start();
+        return synchronizer;
+    }
+}
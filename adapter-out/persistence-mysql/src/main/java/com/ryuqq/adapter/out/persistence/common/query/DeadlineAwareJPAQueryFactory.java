@@ -0,0 +1,50 @@
+package com.ryuqq.adapter.out.persistence.common.query;
+
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import jakarta.persistence.EntityManager;
+import java.time.Duration;
+import org.hibernate.jpa.HibernateHints;
+
+/**
+ * DeadlineAwareJPAQueryFactory - 요청 기한을 쿼리 타임아웃으로 적용하는 JPAQueryFactory
+ *
+ * <p>모든 QueryDSL Repository가 이 팩토리로 조회 쿼리를 만들므로, 요청 기한({@link RequestDeadline})이 있으면 쿼리마다 아래를
+ * 적용합니다. 기한이 없는 작업(스케줄러, 아웃박스 릴레이 등)은 기존과 동일합니다.
+ *
+ * <ul>
+ *   <li>기한이 이미 지났으면 쿼리를 만들지 않고 {@link
+ *       com.ryuqq.application.common.deadline.DeadlineExceededException}으로 중단
+ *   <li>남은 시간을 JDBC statement timeout으로 지정 - 기한을 넘기면 드라이버가 DB 쿼리를 취소하고 커넥션을 반환
+ * </ul>
+ *
+ * <p>JDBC 타임아웃은 초 단위이므로 남은 시간을 초 단위로 올림합니다.
+ *
+ * @author ryu-qqq
+ */
+public class DeadlineAwareJPAQueryFactory extends JPAQueryFactory {
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+
+    public DeadlineAwareJPAQueryFactory(EntityManager entityManager) {
+        super(entityManager);
+    }
+
+    @Override
+    public JPAQuery<?> query() {
+        JPAQuery<?> query = super.query();
+        RequestDeadline.remaining()
+                .ifPresent(
+                        remaining -> {
+                            RequestDeadline.checkNotExpired();
+                            query.setHint(HibernateHints.HINT_TIMEOUT, timeoutSeconds(remaining));
+                        });
+        return query;
+    }
+
+    static int timeoutSeconds(Duration remaining) {
+        long seconds = (remaining.toMillis() + MILLIS_PER_SECOND - 1) / MILLIS_PER_SECOND;
+        return Math.clamp(seconds, 1, Integer.MAX_VALUE);
+    }
+}
@@ -3,10 +3,12 @@ package com.ryuqq.adapter.out.persistence.config;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.common.query.DeadlineAwareJPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -14,6 +16,8 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 /**
  * JPA 및 QueryDSL 설정
  *
+ * <p>네이티브 이미지용 QueryDSL 프로젝션/2차 캐시 힌트는 {@link PersistenceRuntimeHints}가 등록합니다.
+ *
  * @author Development Team
  * @since 1.0.0
  */
@@ -22,11 +26,20 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableJpaRepositories(basePackages = "com.ryuqq.adapter.out.persistence")
 @EnableJpaAuditing
 @EnableTransactionManagement
+@ImportRuntimeHints(PersistenceRuntimeHints.class)
 public class JpaConfig {
 
+    /**
+     * QueryDSL 쿼리 팩토리
+     *
+     * <p>요청 기한이 있으면 쿼리마다 남은 시간을 statement timeout으로 적용합니다.
+     *
+     * @param entityManager EntityManager (트랜잭션 바인딩 프록시)
+     * @return JPAQueryFactory
+     */
     @Bean
     public JPAQueryFactory jpaQueryFactory(EntityManager entityManager) {
-        return new JPAQueryFactory(entityManager);
+        return new DeadlineAwareJPAQueryFactory(entityManager);
     }
 
     /**
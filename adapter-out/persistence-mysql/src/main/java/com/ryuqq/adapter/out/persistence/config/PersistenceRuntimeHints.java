@@ -0,0 +1,58 @@
+package com.ryuqq.adapter.out.persistence.config;
+
+import com.ryuqq.domain.codingrule.vo.CodingRuleIndexData;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+
+/**
+ * PersistenceRuntimeHints - Persistence Layer 네이티브 이미지 힌트
+ *
+ * <p>엔티티, 리포지토리, {@code @Convert} 컨버터는 Spring AOT가 처리하므로 여기서는 AOT가 보지 못하는 리플렉션/리소스만 등록합니다.
+ *
+ * <ul>
+ *   <li>QueryDSL 프로젝션 - {@code Projections.constructor}는 런타임에 {@code getConstructors()}로 생성자를 찾으므로
+ *       {@code ..dto..} 패키지의 Row Record와 도메인 프로젝션({@link CodingRuleIndexData})의 public 생성자
+ *   <li>Hibernate 2차 캐시 - 이름으로 로딩하는 JCache 프로바이더와 {@code ehcache.xml}
+ * </ul>
+ *
+ * <p>프로젝션 Row는 {@code ..dto..} 패키지에 둔다는 규칙을 그대로 따르므로, 새 Row를 추가해도 힌트를 고칠 필요가 없습니다. JVM 실행에서는 사용되지
+ * 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public class PersistenceRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String BASE_PACKAGE = "com.ryuqq.adapter.out.persistence";
+    private static final String PROJECTION_PACKAGE = ".dto.";
+    private static final String JCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+    private static final String EHCACHE_CONFIG = "ehcache.xml";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(
+                (reader, factory) ->
+                        reader.getClassMetadata().getClassName().contains(PROJECTION_PACKAGE));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            hints.reflection()
+                    .registerType(
+                            TypeReference.of(candidate.getBeanClassName()),
+                            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.reflection()
+                .registerType(CodingRuleIndexData.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        hints.reflection()
+                .registerType(
+                        TypeReference.of(JCACHE_PROVIDER),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.resources().registerPattern(EHCACHE_CONFIG);
+    }
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.adapter.out.persistence.conventionset.adapter;
+
+import com.ryuqq.adapter.out.persistence.conventionset.repository.ConventionSetExportAdminQueryDslRepository;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetExportAdminQueryPort;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetExportAdminQueryAdapter - 컨벤션 세트 내보내기 Adapter
+ *
+ * <p>ConventionSetExportAdminQueryPort를 구현합니다. 테이블별로 Repository의 스트리밍 메서드를 골라 위임합니다.
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetExportAdminQueryAdapter implements ConventionSetExportAdminQueryPort {
+
+    private final ConventionSetExportAdminQueryDslRepository repository;
+
+    public ConventionSetExportAdminQueryAdapter(
+            ConventionSetExportAdminQueryDslRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Stream<Object[]> streamRows(ConventionSetTable table, Long techStackId) {
+        return switch (table) {
+            case TECH_STACK -> repository.streamTechStacks(techStackId);
+            case ARCHITECTURE -> repository.streamArchitectures(techStackId);
+            case LAYER -> repository.streamLayers(techStackId);
+            case LAYER_DEPENDENCY_RULE -> repository.streamLayerDependencyRules(techStackId);
+            case CLASS_TYPE_CATEGORY -> repository.streamClassTypeCategories(techStackId);
+            case CLASS_TYPE -> repository.streamClassTypes(techStackId);
+            case MODULE -> repository.streamModules(techStackId);
+            case PACKAGE_STRUCTURE -> repository.streamPackageStructures(techStackId);
+            case PACKAGE_PURPOSE -> repository.streamPackagePurposes(techStackId);
+            case CLASS_TEMPLATE -> repository.streamClassTemplates(techStackId);
+            case ARCHUNIT_TEST -> repository.streamArchUnitTests(techStackId);
+            case RESOURCE_TEMPLATE -> repository.streamResourceTemplates(techStackId);
+            case CONVENTION -> repository.streamConventions(techStackId);
+            case CODING_RULE -> repository.streamCodingRules(techStackId);
+            case RULE_EXAMPLE -> repository.streamRuleExamples(techStackId);
+            case ZERO_TOLERANCE_RULE -> repository.streamZeroToleranceRules(techStackId);
+            case CHECKLIST_ITEM -> repository.streamChecklistItems(techStackId);
+            case CONFIG_FILE_TEMPLATE -> repository.streamConfigFileTemplates(techStackId);
+            case ONBOARDING_CONTEXT -> repository.streamOnboardingContexts(techStackId);
+        };
+    }
+}
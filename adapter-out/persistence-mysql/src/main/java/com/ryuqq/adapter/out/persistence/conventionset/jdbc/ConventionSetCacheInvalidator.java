@@ -0,0 +1,123 @@
+package com.ryuqq.adapter.out.persistence.conventionset.jdbc;
+
+import com.ryuqq.adapter.out.persistence.architecture.entity.ArchitectureJpaEntity;
+import com.ryuqq.adapter.out.persistence.classtemplate.entity.ClassTemplateJpaEntity;
+import com.ryuqq.adapter.out.persistence.classtype.entity.ClassTypeJpaEntity;
+import com.ryuqq.adapter.out.persistence.classtypecategory.entity.ClassTypeCategoryJpaEntity;
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheVersionListener;
+import com.ryuqq.adapter.out.persistence.dictionary.ReferenceDictionaryChangeListener;
+import com.ryuqq.adapter.out.persistence.layer.entity.LayerJpaEntity;
+import com.ryuqq.adapter.out.persistence.layerdependency.entity.LayerDependencyRuleJpaEntity;
+import com.ryuqq.adapter.out.persistence.module.entity.ModuleJpaEntity;
+import com.ryuqq.adapter.out.persistence.packagestructure.entity.PackageStructureJpaEntity;
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndexChangeListener;
+import com.ryuqq.adapter.out.persistence.techstack.entity.TechStackJpaEntity;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Map;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ConventionSetCacheInvalidator - JDBC 일괄 저장 후 캐시 무효화
+ *
+ * <p>가져오기는 영속성 컨텍스트를 거치지 않으므로 Hibernate 이벤트 리스너가 변경을 알지 못합니다. 저장한 테이블의 엔티티 타입으로 리스너와 같은 무효화를 직접
+ * 수행합니다.
+ *
+ * <ul>
+ *   <li>같은 트랜잭션: 2차 캐시 리전이 있는 테이블이면 {@code reference_cache_version} 버전 증가 (다른 노드가 리전과 쿼리 캐시를 비움)
+ *   <li>커밋 후: 이 노드의 해당 리전과 쿼리 캐시를 비우고 참조 사전/경로 색인 리스너에 변경을 알림
+ * </ul>
+ *
+ * <p>버전 증가는 {@code ReferenceCacheSyncConfig}와 같은 조건(2차 캐시 사용, {@code
+ * persistence.reference-cache.sync-enabled})에서만 수행합니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ConventionSetCacheInvalidator {
+
+    private static final Map<ConventionSetTable, Class<?>> ENTITY_TYPES =
+            Map.of(
+                    ConventionSetTable.TECH_STACK, TechStackJpaEntity.class,
+                    ConventionSetTable.ARCHITECTURE, ArchitectureJpaEntity.class,
+                    ConventionSetTable.LAYER, LayerJpaEntity.class,
+                    ConventionSetTable.LAYER_DEPENDENCY_RULE, LayerDependencyRuleJpaEntity.class,
+                    ConventionSetTable.CLASS_TYPE_CATEGORY, ClassTypeCategoryJpaEntity.class,
+                    ConventionSetTable.CLASS_TYPE, ClassTypeJpaEntity.class,
+                    ConventionSetTable.MODULE, ModuleJpaEntity.class,
+                    ConventionSetTable.PACKAGE_STRUCTURE, PackageStructureJpaEntity.class,
+                    ConventionSetTable.CLASS_TEMPLATE, ClassTemplateJpaEntity.class);
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final ReferenceDictionaryChangeListener dictionaryChangeListener;
+    private final ModulePathIndexChangeListener pathIndexChangeListener;
+    private final boolean versionSyncEnabled;
+
+    public ConventionSetCacheInvalidator(
+            EntityManagerFactory entityManagerFactory,
+            JdbcTemplate jdbcTemplate,
+            ReferenceDictionaryChangeListener dictionaryChangeListener,
+            ModulePathIndexChangeListener pathIndexChangeListener,
+            @Value("${persistence.reference-cache.sync-enabled:true}") boolean syncEnabled) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.dictionaryChangeListener = dictionaryChangeListener;
+        this.pathIndexChangeListener = pathIndexChangeListener;
+        this.versionSyncEnabled =
+                syncEnabled
+                        && sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+    }
+
+    /**
+     * 행 저장 알림 (저장한 트랜잭션 안에서 호출)
+     *
+     * @param table 행을 저장한 테이블
+     */
+    public void rowsInserted(ConventionSetTable table) {
+        Class<?> entityType = ENTITY_TYPES.get(table);
+        if (entityType == null) {
+            return;
+        }
+        EntityPersister persister =
+                sessionFactory.getMappingMetamodel().getEntityDescriptor(entityType);
+        String region =
+                persister.canWriteToCache()
+                        ? persister.getCacheAccessStrategy().getRegion().getName()
+                        : null;
+        if (region != null && versionSyncEnabled) {
+            jdbcTemplate.update(ReferenceCacheVersionListener.BUMP_SQL, region);
+        }
+
+        Runnable evict = () -> evictLocal(entityType, region);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evict.run();
+                    }
+                });
+    }
+
+    private void evictLocal(Class<?> entityType, String region) {
+        Cache cache = sessionFactory.getCache();
+        if (region != null) {
+            cache.evictRegion(region);
+        }
+        // 없는 ID를 조회한 빈 결과도 쿼리 캐시에 남아 있을 수 있음
+        cache.evictDefaultQueryRegion();
+        dictionaryChangeListener.entityTypeChanged(entityType);
+        pathIndexChangeListener.entityTypeChanged(entityType);
+    }
+}
@@ -0,0 +1,188 @@
+package com.ryuqq.adapter.out.persistence.conventionset.jdbc;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetImportCommandPort;
+import com.ryuqq.application.conventionset.port.out.ConventionSetImportQueryPort;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetJdbcImporter - 컨벤션 세트 가져오기 JDBC 구현
+ *
+ * <p>컨벤션 테이블 엔티티는 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하고 행마다 생성 키를 조회합니다. 가져오기는 JPA를 거치지 않고 생성
+ * 키 반환 배치 INSERT로 저장합니다. {@code rewriteBatchedStatements=true}에서 드라이버가 배치를 다중 행 INSERT로 바꿔 보내고, 발급된
+ * AUTO_INCREMENT ID를 배치 단위로 돌려받습니다. ID는 JPA로 만든 행과 같은 체계를 따릅니다.
+ *
+ * <ul>
+ *   <li>호출한 쪽 트랜잭션에 참여합니다 (JpaTransactionManager가 같은 커넥션을 노출)
+ *   <li>테이블/컬럼명은 {@link ConventionSetTable}의 상수만 사용합니다. 문서의 컬럼 목록은 이 상수와 일치해야 통과하므로 SQL에 외부 입력이
+ *       들어가지 않습니다
+ *   <li>IN 조건은 {@value #MAX_IN_VALUES}개씩 나눠 조회합니다
+ *   <li>Hibernate 이벤트를 거치지 않으므로 저장 후 {@link ConventionSetCacheInvalidator}로 캐시를 무효화합니다
+ * </ul>
+ *
+ * <p>CommandAdapter/QueryAdapter 규칙(JpaRepository + Mapper)에 맞지 않는 JDBC 전용 구현이므로 lock 패키지처럼 별도 패키지에
+ * 둡니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ConventionSetJdbcImporter
+        implements ConventionSetImportQueryPort, ConventionSetImportCommandPort {
+
+    static final int MAX_IN_VALUES = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ConventionSetCacheInvalidator cacheInvalidator;
+
+    public ConventionSetJdbcImporter(
+            JdbcTemplate jdbcTemplate, ConventionSetCacheInvalidator cacheInvalidator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    @Override
+    public Set<Long> findExistingIds(ConventionSetTable table, Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        for (List<Object> chunk : partition(ids)) {
+            String sql =
+                    "SELECT id FROM "
+                            + table.tableName()
+                            + " WHERE deleted_at IS NULL AND id IN ("
+                            + placeholders(chunk.size())
+                            + ")";
+            existing.addAll(jdbcTemplate.queryForList(sql, Long.class, chunk.toArray()));
+        }
+        return existing;
+    }
+
+    @Override
+    public List<Object[]> findRowsIn(
+            ConventionSetTable table, List<String> columns, String column, Collection<?> values) {
+        requireColumns(table, columns);
+        requireColumns(table, List.of(column));
+        List<Object[]> rows = new ArrayList<>();
+        for (List<Object> chunk : partition(values)) {
+            String sql =
+                    "SELECT "
+                            + String.join(", ", columns)
+                            + " FROM "
+                            + table.tableName()
+                            + " WHERE deleted_at IS NULL AND "
+                            + column
+                            + " IN ("
+                            + placeholders(chunk.size())
+                            + ") ORDER BY id";
+            rows.addAll(
+                    jdbcTemplate.query(
+                            sql,
+                            (resultSet, rowNum) -> {
+                                Object[] row = new Object[columns.size()];
+                                for (int i = 0; i < row.length; i++) {
+                                    row[i] = resultSet.getObject(i + 1);
+                                }
+                                return row;
+                            },
+                            chunk.toArray()));
+        }
+        return rows;
+    }
+
+    @Override
+    public List<Long> insertAll(ConventionSetTable table, List<Object[]> rows, Instant now) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        // id는 AUTO_INCREMENT가 발급
+        List<String> columns = table.columns().subList(1, table.columns().size());
+        String sql =
+                "INSERT INTO "
+                        + table.tableName()
+                        + " ("
+                        + String.join(", ", columns)
+                        + ", created_at, updated_at) VALUES ("
+                        + placeholders(columns.size() + 2)
+                        + ")";
+        Timestamp timestamp = Timestamp.from(now);
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Object[] args = Arrays.copyOfRange(row, 1, row.length + 2);
+            args[columns.size()] = timestamp;
+            args[columns.size() + 1] = timestamp;
+            batch.add(args);
+        }
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement statement, int i) throws SQLException {
+                        new ArgumentPreparedStatementSetter(batch.get(i)).setValues(statement);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+        List<Long> ids = generatedIds(keyHolder);
+        if (ids.size() != rows.size()) {
+            throw new IllegalStateException(
+                    "Expected "
+                            + rows.size()
+                            + " generated ids for "
+                            + table.tableName()
+                            + " but got "
+                            + ids.size());
+        }
+        cacheInvalidator.rowsInserted(table);
+        return ids;
+    }
+
+    private static List<Long> generatedIds(KeyHolder keyHolder) {
+        List<Long> ids = new ArrayList<>();
+        for (Map<String, Object> keys : keyHolder.getKeyList()) {
+            ids.add(((Number) keys.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private static void requireColumns(ConventionSetTable table, List<String> columns) {
+        if (!table.columns().containsAll(columns)) {
+            throw new IllegalArgumentException(
+                    "Unknown columns for " + table.tableName() + ": " + columns);
+        }
+    }
+
+    private static List<List<Object>> partition(Collection<?> values) {
+        List<Object> all = new ArrayList<>(values);
+        List<List<Object>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_IN_VALUES) {
+            chunks.add(all.subList(from, Math.min(from + MAX_IN_VALUES, all.size())));
+        }
+        return chunks;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,609 @@
+package com.ryuqq.adapter.out.persistence.conventionset.repository;
+
+import static com.ryuqq.adapter.out.persistence.architecture.entity.QArchitectureJpaEntity.architectureJpaEntity;
+import static com.ryuqq.adapter.out.persistence.archunittest.entity.QArchUnitTestJpaEntity.archUnitTestJpaEntity;
+import static com.ryuqq.adapter.out.persistence.checklistitem.entity.QChecklistItemJpaEntity.checklistItemJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtemplate.entity.QClassTemplateJpaEntity.classTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtype.entity.QClassTypeJpaEntity.classTypeJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtypecategory.entity.QClassTypeCategoryJpaEntity.classTypeCategoryJpaEntity;
+import static com.ryuqq.adapter.out.persistence.codingrule.entity.QCodingRuleJpaEntity.codingRuleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.configfiletemplate.entity.QConfigFileTemplateJpaEntity.configFileTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.convention.entity.QConventionJpaEntity.conventionJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layer.entity.QLayerJpaEntity.layerJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layerdependency.entity.QLayerDependencyRuleJpaEntity.layerDependencyRuleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.module.entity.QModuleJpaEntity.moduleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.onboardingcontext.entity.QOnboardingContextJpaEntity.onboardingContextJpaEntity;
+import static com.ryuqq.adapter.out.persistence.packagepurpose.entity.QPackagePurposeJpaEntity.packagePurposeJpaEntity;
+import static com.ryuqq.adapter.out.persistence.packagestructure.entity.QPackageStructureJpaEntity.packageStructureJpaEntity;
+import static com.ryuqq.adapter.out.persistence.resourcetemplate.entity.QResourceTemplateJpaEntity.resourceTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.ruleexample.entity.QRuleExampleJpaEntity.ruleExampleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.techstack.entity.QTechStackJpaEntity.techStackJpaEntity;
+import static com.ryuqq.adapter.out.persistence.zerotolerance.entity.QZeroToleranceRuleJpaEntity.zeroToleranceRuleJpaEntity;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ConventionSetExportAdminQueryDslRepository - 컨벤션 세트 내보내기 행 스트리밍
+ *
+ * <p>테이블마다 기술 스택 하위 행을 ID 순으로 스트리밍합니다. 엔티티 대신 컬럼 Tuple을 조회하므로 영속성 컨텍스트에 행이 쌓이지 않고, JDBC fetch size
+ * 힌트로 서버 측 커서를 사용하므로 결과 전체를 드라이버 버퍼에 올리지 않습니다.
+ *
+ * <ul>
+ *   <li>각 메서드의 select 컬럼 순서는 내보내기 형식의 컬럼 순서와 같습니다 (감사 컬럼 제외)
+ *   <li>부모 범위는 삭제되지 않은 상위 행의 ID 서브쿼리로 좁히므로, 삭제된 부모 아래의 행은 제외됩니다
+ *   <li>반환된 스트림은 트랜잭션 안에서 소비하고 닫아야 합니다
+ * </ul>
+ *
+ * <p>fetch-size 기본값 Integer.MIN_VALUE는 MySQL Connector/J의 행 단위 스트리밍 모드입니다. H2처럼 음수를 허용하지 않는 드라이버는
+ * {@code persistence.export.fetch-size}를 양수로 설정합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Repository
+public class ConventionSetExportAdminQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final int fetchSize;
+
+    public ConventionSetExportAdminQueryDslRepository(
+            JPAQueryFactory queryFactory,
+            @Value("${persistence.export.fetch-size:-2147483648}") int fetchSize) {
+        this.queryFactory = queryFactory;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * TechStack (기술 스택 자신) 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamTechStacks(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                techStackJpaEntity.id,
+                                techStackJpaEntity.name,
+                                techStackJpaEntity.status,
+                                techStackJpaEntity.languageType,
+                                techStackJpaEntity.languageVersion,
+                                techStackJpaEntity.languageFeatures,
+                                techStackJpaEntity.frameworkType,
+                                techStackJpaEntity.frameworkVersion,
+                                techStackJpaEntity.frameworkModules,
+                                techStackJpaEntity.platformType,
+                                techStackJpaEntity.runtimeEnvironment,
+                                techStackJpaEntity.buildToolType,
+                                techStackJpaEntity.buildConfigFile,
+                                techStackJpaEntity.referenceLinks)
+                        .from(techStackJpaEntity)
+                        .where(
+                                techStackJpaEntity.id.eq(techStackId),
+                                techStackJpaEntity.deletedAt.isNull()));
+    }
+
+    /**
+     * Architecture 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamArchitectures(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                architectureJpaEntity.id,
+                                architectureJpaEntity.techStackId,
+                                architectureJpaEntity.name,
+                                architectureJpaEntity.patternType,
+                                architectureJpaEntity.patternDescription,
+                                architectureJpaEntity.patternPrinciples,
+                                architectureJpaEntity.referenceLinks)
+                        .from(architectureJpaEntity)
+                        .where(
+                                architectureJpaEntity.techStackId.eq(techStackId),
+                                architectureJpaEntity.deletedAt.isNull())
+                        .orderBy(architectureJpaEntity.id.asc()));
+    }
+
+    /**
+     * Layer 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamLayers(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                layerJpaEntity.id,
+                                layerJpaEntity.architectureId,
+                                layerJpaEntity.code,
+                                layerJpaEntity.name,
+                                layerJpaEntity.description,
+                                layerJpaEntity.orderIndex)
+                        .from(layerJpaEntity)
+                        .where(
+                                layerJpaEntity.architectureId.in(architectureIds(techStackId)),
+                                layerJpaEntity.deletedAt.isNull())
+                        .orderBy(layerJpaEntity.id.asc()));
+    }
+
+    /**
+     * LayerDependencyRule 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamLayerDependencyRules(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                layerDependencyRuleJpaEntity.id,
+                                layerDependencyRuleJpaEntity.architectureId,
+                                layerDependencyRuleJpaEntity.fromLayer,
+                                layerDependencyRuleJpaEntity.toLayer,
+                                layerDependencyRuleJpaEntity.dependencyType,
+                                layerDependencyRuleJpaEntity.conditionDescription)
+                        .from(layerDependencyRuleJpaEntity)
+                        .where(
+                                layerDependencyRuleJpaEntity.architectureId.in(
+                                        architectureIds(techStackId)),
+                                layerDependencyRuleJpaEntity.deletedAt.isNull())
+                        .orderBy(layerDependencyRuleJpaEntity.id.asc()));
+    }
+
+    /**
+     * ClassTypeCategory 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamClassTypeCategories(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                classTypeCategoryJpaEntity.id,
+                                classTypeCategoryJpaEntity.architectureId,
+                                classTypeCategoryJpaEntity.code,
+                                classTypeCategoryJpaEntity.name,
+                                classTypeCategoryJpaEntity.description,
+                                classTypeCategoryJpaEntity.orderIndex)
+                        .from(classTypeCategoryJpaEntity)
+                        .where(
+                                classTypeCategoryJpaEntity.architectureId.in(
+                                        architectureIds(techStackId)),
+                                classTypeCategoryJpaEntity.deletedAt.isNull())
+                        .orderBy(classTypeCategoryJpaEntity.id.asc()));
+    }
+
+    /**
+     * ClassType 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamClassTypes(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                classTypeJpaEntity.id,
+                                classTypeJpaEntity.categoryId,
+                                classTypeJpaEntity.code,
+                                classTypeJpaEntity.name,
+                                classTypeJpaEntity.description,
+                                classTypeJpaEntity.orderIndex)
+                        .from(classTypeJpaEntity)
+                        .where(
+                                classTypeJpaEntity.categoryId.in(categoryIds(techStackId)),
+                                classTypeJpaEntity.deletedAt.isNull())
+                        .orderBy(classTypeJpaEntity.id.asc()));
+    }
+
+    /**
+     * Module 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamModules(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                moduleJpaEntity.id,
+                                moduleJpaEntity.layerId,
+                                moduleJpaEntity.parentModuleId,
+                                moduleJpaEntity.name,
+                                moduleJpaEntity.description,
+                                moduleJpaEntity.modulePath,
+                                moduleJpaEntity.buildIdentifier)
+                        .from(moduleJpaEntity)
+                        .where(
+                                moduleJpaEntity.layerId.in(layerIds(techStackId)),
+                                moduleJpaEntity.deletedAt.isNull())
+                        .orderBy(moduleJpaEntity.id.asc()));
+    }
+
+    /**
+     * PackageStructure 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamPackageStructures(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                packageStructureJpaEntity.id,
+                                packageStructureJpaEntity.moduleId,
+                                packageStructureJpaEntity.pathPattern,
+                                packageStructureJpaEntity.description)
+                        .from(packageStructureJpaEntity)
+                        .where(
+                                packageStructureJpaEntity.moduleId.in(moduleIds(techStackId)),
+                                packageStructureJpaEntity.deletedAt.isNull())
+                        .orderBy(packageStructureJpaEntity.id.asc()));
+    }
+
+    /**
+     * PackagePurpose 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamPackagePurposes(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                packagePurposeJpaEntity.id,
+                                packagePurposeJpaEntity.structureId,
+                                packagePurposeJpaEntity.code,
+                                packagePurposeJpaEntity.name,
+                                packagePurposeJpaEntity.description)
+                        .from(packagePurposeJpaEntity)
+                        .where(
+                                packagePurposeJpaEntity.structureId.in(structureIds(techStackId)),
+                                packagePurposeJpaEntity.deletedAt.isNull())
+                        .orderBy(packagePurposeJpaEntity.id.asc()));
+    }
+
+    /**
+     * ClassTemplate 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamClassTemplates(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                classTemplateJpaEntity.id,
+                                classTemplateJpaEntity.structureId,
+                                classTemplateJpaEntity.classTypeId,
+                                classTemplateJpaEntity.templateCode,
+                                classTemplateJpaEntity.namingPattern,
+                                classTemplateJpaEntity.requiredAnnotations,
+                                classTemplateJpaEntity.forbiddenAnnotations,
+                                classTemplateJpaEntity.requiredInterfaces,
+                                classTemplateJpaEntity.forbiddenInheritance,
+                                classTemplateJpaEntity.requiredMethods,
+                                classTemplateJpaEntity.description)
+                        .from(classTemplateJpaEntity)
+                        .where(
+                                classTemplateJpaEntity.structureId.in(structureIds(techStackId)),
+                                classTemplateJpaEntity.deletedAt.isNull())
+                        .orderBy(classTemplateJpaEntity.id.asc()));
+    }
+
+    /**
+     * ArchUnitTest 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamArchUnitTests(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                archUnitTestJpaEntity.id,
+                                archUnitTestJpaEntity.structureId,
+                                archUnitTestJpaEntity.code,
+                                archUnitTestJpaEntity.name,
+                                archUnitTestJpaEntity.description,
+                                archUnitTestJpaEntity.testClassName,
+                                archUnitTestJpaEntity.testMethodName,
+                                archUnitTestJpaEntity.testCode,
+                                archUnitTestJpaEntity.severity)
+                        .from(archUnitTestJpaEntity)
+                        .where(
+                                archUnitTestJpaEntity.structureId.in(structureIds(techStackId)),
+                                archUnitTestJpaEntity.deletedAt.isNull())
+                        .orderBy(archUnitTestJpaEntity.id.asc()));
+    }
+
+    /**
+     * ResourceTemplate 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamResourceTemplates(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                resourceTemplateJpaEntity.id,
+                                resourceTemplateJpaEntity.moduleId,
+                                resourceTemplateJpaEntity.category,
+                                resourceTemplateJpaEntity.filePath,
+                                resourceTemplateJpaEntity.fileType,
+                                resourceTemplateJpaEntity.description,
+                                resourceTemplateJpaEntity.templateContent,
+                                resourceTemplateJpaEntity.required)
+                        .from(resourceTemplateJpaEntity)
+                        .where(
+                                resourceTemplateJpaEntity.moduleId.in(moduleIds(techStackId)),
+                                resourceTemplateJpaEntity.deletedAt.isNull())
+                        .orderBy(resourceTemplateJpaEntity.id.asc()));
+    }
+
+    /**
+     * Convention 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamConventions(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                conventionJpaEntity.id,
+                                conventionJpaEntity.moduleId,
+                                conventionJpaEntity.version,
+                                conventionJpaEntity.description,
+                                conventionJpaEntity.isActive)
+                        .from(conventionJpaEntity)
+                        .where(
+                                conventionJpaEntity.moduleId.in(moduleIds(techStackId)),
+                                conventionJpaEntity.deletedAt.isNull())
+                        .orderBy(conventionJpaEntity.id.asc()));
+    }
+
+    /**
+     * CodingRule 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamCodingRules(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                codingRuleJpaEntity.id,
+                                codingRuleJpaEntity.conventionId,
+                                codingRuleJpaEntity.code,
+                                codingRuleJpaEntity.name,
+                                codingRuleJpaEntity.severity,
+                                codingRuleJpaEntity.category,
+                                codingRuleJpaEntity.description,
+                                codingRuleJpaEntity.rationale,
+                                codingRuleJpaEntity.autoFixable,
+                                codingRuleJpaEntity.appliesTo)
+                        .from(codingRuleJpaEntity)
+                        .where(
+                                codingRuleJpaEntity.conventionId.in(conventionIds(techStackId)),
+                                codingRuleJpaEntity.deletedAt.isNull())
+                        .orderBy(codingRuleJpaEntity.id.asc()));
+    }
+
+    /**
+     * RuleExample 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamRuleExamples(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                ruleExampleJpaEntity.id,
+                                ruleExampleJpaEntity.ruleId,
+                                ruleExampleJpaEntity.exampleType,
+                                ruleExampleJpaEntity.code,
+                                ruleExampleJpaEntity.language,
+                                ruleExampleJpaEntity.explanation,
+                                ruleExampleJpaEntity.highlightLines,
+                                ruleExampleJpaEntity.source,
+                                ruleExampleJpaEntity.feedbackId)
+                        .from(ruleExampleJpaEntity)
+                        .where(
+                                ruleExampleJpaEntity.ruleId.in(ruleIds(techStackId)),
+                                ruleExampleJpaEntity.deletedAt.isNull())
+                        .orderBy(ruleExampleJpaEntity.id.asc()));
+    }
+
+    /**
+     * ZeroToleranceRule 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamZeroToleranceRules(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                zeroToleranceRuleJpaEntity.id,
+                                zeroToleranceRuleJpaEntity.ruleId,
+                                zeroToleranceRuleJpaEntity.type,
+                                zeroToleranceRuleJpaEntity.detectionPattern,
+                                zeroToleranceRuleJpaEntity.detectionType,
+                                zeroToleranceRuleJpaEntity.autoRejectPr,
+                                zeroToleranceRuleJpaEntity.errorMessage)
+                        .from(zeroToleranceRuleJpaEntity)
+                        .where(
+                                zeroToleranceRuleJpaEntity.ruleId.in(ruleIds(techStackId)),
+                                zeroToleranceRuleJpaEntity.deletedAt.isNull())
+                        .orderBy(zeroToleranceRuleJpaEntity.id.asc()));
+    }
+
+    /**
+     * ChecklistItem 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamChecklistItems(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                checklistItemJpaEntity.id,
+                                checklistItemJpaEntity.ruleId,
+                                checklistItemJpaEntity.sequenceOrder,
+                                checklistItemJpaEntity.checkDescription,
+                                checklistItemJpaEntity.checkType,
+                                checklistItemJpaEntity.automationTool,
+                                checklistItemJpaEntity.automationRuleId,
+                                checklistItemJpaEntity.isCritical,
+                                checklistItemJpaEntity.source,
+                                checklistItemJpaEntity.feedbackId)
+                        .from(checklistItemJpaEntity)
+                        .where(
+                                checklistItemJpaEntity.ruleId.in(ruleIds(techStackId)),
+                                checklistItemJpaEntity.deletedAt.isNull())
+                        .orderBy(checklistItemJpaEntity.id.asc()));
+    }
+
+    /**
+     * ConfigFileTemplate (아키텍처 전용 + 기술 스택 공통) 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamConfigFileTemplates(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                configFileTemplateJpaEntity.id,
+                                configFileTemplateJpaEntity.techStackId,
+                                configFileTemplateJpaEntity.architectureId,
+                                configFileTemplateJpaEntity.toolType,
+                                configFileTemplateJpaEntity.filePath,
+                                configFileTemplateJpaEntity.fileName,
+                                configFileTemplateJpaEntity.content,
+                                configFileTemplateJpaEntity.category,
+                                configFileTemplateJpaEntity.description,
+                                configFileTemplateJpaEntity.variables,
+                                configFileTemplateJpaEntity.displayOrder,
+                                configFileTemplateJpaEntity.isRequired)
+                        .from(configFileTemplateJpaEntity)
+                        .where(
+                                configFileTemplateJpaEntity.techStackId.eq(techStackId),
+                                configFileTemplateJpaEntity
+                                        .architectureId
+                                        .isNull()
+                                        .or(
+                                                configFileTemplateJpaEntity.architectureId.in(
+                                                        architectureIds(techStackId))),
+                                configFileTemplateJpaEntity.deletedAt.isNull())
+                        .orderBy(configFileTemplateJpaEntity.id.asc()));
+    }
+
+    /**
+     * OnboardingContext (아키텍처 전용 + 기술 스택 공통) 행 스트리밍
+     *
+     * @param techStackId 기술 스택 ID
+     * @return 컬럼 값 배열 (ID 순)
+     */
+    public Stream<Object[]> streamOnboardingContexts(Long techStackId) {
+        return stream(
+                queryFactory
+                        .select(
+                                onboardingContextJpaEntity.id,
+                                onboardingContextJpaEntity.techStackId,
+                                onboardingContextJpaEntity.architectureId,
+                                onboardingContextJpaEntity.contextType,
+                                onboardingContextJpaEntity.title,
+                                onboardingContextJpaEntity.content,
+                                onboardingContextJpaEntity.priority)
+                        .from(onboardingContextJpaEntity)
+                        .where(
+                                onboardingContextJpaEntity.techStackId.eq(techStackId),
+                                onboardingContextJpaEntity
+                                        .architectureId
+                                        .isNull()
+                                        .or(
+                                                onboardingContextJpaEntity.architectureId.in(
+                                                        architectureIds(techStackId))),
+                                onboardingContextJpaEntity.deletedAt.isNull())
+                        .orderBy(onboardingContextJpaEntity.id.asc()));
+    }
+
+    private Stream<Object[]> stream(JPAQuery<Tuple> query) {
+        return query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize).stream()
+                .map(Tuple::toArray);
+    }
+
+    private static JPQLQuery<Long> architectureIds(Long techStackId) {
+        return JPAExpressions.select(architectureJpaEntity.id)
+                .from(architectureJpaEntity)
+                .where(
+                        architectureJpaEntity.techStackId.eq(techStackId),
+                        architectureJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> categoryIds(Long techStackId) {
+        return JPAExpressions.select(classTypeCategoryJpaEntity.id)
+                .from(classTypeCategoryJpaEntity)
+                .where(
+                        classTypeCategoryJpaEntity.architectureId.in(architectureIds(techStackId)),
+                        classTypeCategoryJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> layerIds(Long techStackId) {
+        return JPAExpressions.select(layerJpaEntity.id)
+                .from(layerJpaEntity)
+                .where(
+                        layerJpaEntity.architectureId.in(architectureIds(techStackId)),
+                        layerJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> moduleIds(Long techStackId) {
+        return JPAExpressions.select(moduleJpaEntity.id)
+                .from(moduleJpaEntity)
+                .where(
+                        moduleJpaEntity.layerId.in(layerIds(techStackId)),
+                        moduleJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> structureIds(Long techStackId) {
+        return JPAExpressions.select(packageStructureJpaEntity.id)
+                .from(packageStructureJpaEntity)
+                .where(
+                        packageStructureJpaEntity.moduleId.in(moduleIds(techStackId)),
+                        packageStructureJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> conventionIds(Long techStackId) {
+        return JPAExpressions.select(conventionJpaEntity.id)
+                .from(conventionJpaEntity)
+                .where(
+                        conventionJpaEntity.moduleId.in(moduleIds(techStackId)),
+                        conventionJpaEntity.deletedAt.isNull());
+    }
+
+    private static JPQLQuery<Long> ruleIds(Long techStackId) {
+        return JPAExpressions.select(codingRuleJpaEntity.id)
+                .from(codingRuleJpaEntity)
+                .where(
+                        codingRuleJpaEntity.conventionId.in(conventionIds(techStackId)),
+                        codingRuleJpaEntity.deletedAt.isNull());
+    }
+}
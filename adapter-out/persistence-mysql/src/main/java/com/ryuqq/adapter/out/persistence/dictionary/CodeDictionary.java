@@ -0,0 +1,168 @@
+package com.ryuqq.adapter.out.persistence.dictionary;
+
+import com.ryuqq.adapter.out.persistence.dictionary.dto.ReferenceCodeRow;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * CodeDictionary - 불변 id ↔ code 양방향 사전
+ *
+ * <p>코드는 범위(scope) 안에서만 유일하므로(예: Layer 코드는 Architecture 안에서 유일) code → id 조회는 항상 범위 ID와 함께 합니다. 박싱
+ * 없이 조회하도록 정렬된 원시 배열과 이진 탐색으로 구성합니다.
+ *
+ * <ul>
+ *   <li>id → code: id 오름차순 {@code long[]}에서 이진 탐색
+ *   <li>(scope, code) → id: 범위별로 묶고 범위 안에서 code 순으로 정렬한 배열에서 이진 탐색
+ * </ul>
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있습니다. 갱신은 새 사전을 만들어 교체합니다.
+ *
+ * @author ryu-qqq
+ */
+public final class CodeDictionary {
+
+    private static final long[] NO_IDS = new long[0];
+
+    private final long[] ids;
+    private final String[] codes;
+
+    private final long[] scopeKeys;
+    private final int[] scopeOffsets;
+    private final String[] scopedCodes;
+    private final long[] scopedIds;
+
+    private CodeDictionary(List<ReferenceCodeRow> rows) {
+        ReferenceCodeRow[] byId =
+                rows.stream()
+                        .sorted(Comparator.comparingLong(ReferenceCodeRow::id))
+                        .toArray(ReferenceCodeRow[]::new);
+        this.ids = new long[byId.length];
+        this.codes = new String[byId.length];
+        for (int i = 0; i < byId.length; i++) {
+            ids[i] = byId[i].id();
+            codes[i] = byId[i].code();
+        }
+
+        ReferenceCodeRow[] byScope =
+                rows.stream()
+                        .sorted(
+                                Comparator.comparingLong(ReferenceCodeRow::scopeId)
+                                        .thenComparing(ReferenceCodeRow::code)
+                                        .thenComparingLong(ReferenceCodeRow::id))
+                        .toArray(ReferenceCodeRow[]::new);
+        this.scopedCodes = new String[byScope.length];
+        this.scopedIds = new long[byScope.length];
+        long[] keys = new long[byScope.length];
+        int[] offsets = new int[byScope.length + 1];
+        int scopeCount = 0;
+        for (int i = 0; i < byScope.length; i++) {
+            scopedCodes[i] = byScope[i].code();
+            scopedIds[i] = byScope[i].id();
+            if (scopeCount == 0 || keys[scopeCount - 1] != byScope[i].scopeId()) {
+                keys[scopeCount] = byScope[i].scopeId();
+                offsets[scopeCount] = i;
+                scopeCount++;
+            }
+        }
+        offsets[scopeCount] = byScope.length;
+        this.scopeKeys = Arrays.copyOf(keys, scopeCount);
+        this.scopeOffsets = Arrays.copyOf(offsets, scopeCount + 1);
+    }
+
+    /**
+     * 조회 결과로 사전 생성
+     *
+     * <p>같은 범위에 같은 코드가 여러 건이면 id가 가장 작은 행이 code → id 조회 결과가 됩니다.
+     *
+     * @param rows id/범위/code 목록 (id, scopeId, code 모두 non-null)
+     * @return 사전
+     */
+    public static CodeDictionary of(List<ReferenceCodeRow> rows) {
+        return new CodeDictionary(rows);
+    }
+
+    /**
+     * id로 코드 조회
+     *
+     * @param id 참조 데이터 ID
+     * @return 코드 (없으면 null)
+     */
+    public String codeOf(long id) {
+        int index = Arrays.binarySearch(ids, id);
+        return index >= 0 ? codes[index] : null;
+    }
+
+    /**
+     * 범위 안에서 코드로 id 조회
+     *
+     * @param scopeId 범위 ID
+     * @param code 코드
+     * @return id (없으면 empty)
+     */
+    public OptionalLong idOf(long scopeId, String code) {
+        int scope = Arrays.binarySearch(scopeKeys, scopeId);
+        if (scope < 0 || code == null) {
+            return OptionalLong.empty();
+        }
+        int index = indexOf(scope, code);
+        return index >= 0 ? OptionalLong.of(scopedIds[index]) : OptionalLong.empty();
+    }
+
+    /**
+     * 범위 안에서 여러 코드를 id로 변환 (없는 코드는 제외)
+     *
+     * @param scopeId 범위 ID
+     * @param codes 코드 목록
+     * @return id 배열 (코드 목록 순서)
+     */
+    public long[] idsOf(long scopeId, Collection<String> codes) {
+        int scope = Arrays.binarySearch(scopeKeys, scopeId);
+        if (scope < 0 || codes.isEmpty()) {
+            return NO_IDS;
+        }
+        long[] result = new long[codes.size()];
+        int count = 0;
+        for (String code : codes) {
+            int index = code != null ? indexOf(scope, code) : -1;
+            if (index >= 0) {
+                result[count++] = scopedIds[index];
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 범위에 속한 전체 id
+     *
+     * @param scopeId 범위 ID
+     * @return id 배열 (코드 순)
+     */
+    public long[] idsIn(long scopeId) {
+        int scope = Arrays.binarySearch(scopeKeys, scopeId);
+        if (scope < 0) {
+            return NO_IDS;
+        }
+        return Arrays.copyOfRange(scopedIds, scopeOffsets[scope], scopeOffsets[scope + 1]);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    private int indexOf(int scope, String code) {
+        int from = scopeOffsets[scope];
+        int to = scopeOffsets[scope + 1];
+        int index = Arrays.binarySearch(scopedCodes, from, to, code);
+        if (index < 0) {
+            return index;
+        }
+        // 중복 코드는 정렬상 id가 작은 쪽이 앞에 있으므로 첫 항목으로 이동
+        while (index > from && scopedCodes[index - 1].equals(code)) {
+            index--;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,114 @@
+package com.ryuqq.adapter.out.persistence.dictionary;
+
+import com.ryuqq.adapter.out.persistence.dictionary.repository.ReferenceCodeQueryDslRepository;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ReferenceDictionaries - 참조 데이터 id ↔ code 사전 모음
+ *
+ * <p>MCP 조회 경로는 ClassType/Layer의 id와 코드를 요청마다 변환합니다. 이 변환을 DB 조회나 JOIN 대신 메모리의 {@link
+ * CodeDictionary}로 처리합니다.
+ *
+ * <ul>
+ *   <li>ClassType (범위: categoryId), Layer (범위: architectureId)
+ *   <li>ClassTypeCategory (범위: architectureId), Architecture 이름 (범위: techStackId)
+ * </ul>
+ *
+ * <p><strong>갱신</strong>:
+ *
+ * <ul>
+ *   <li>최초 조회 시 네 사전을 함께 적재하고, 새 스냅샷 전체를 한 번에 교체합니다 (조회 중인 요청은 이전 스냅샷을 끝까지 사용)
+ *   <li>참조 엔티티 변경이 커밋되면 {@link ReferenceDictionaryChangeListener}가 {@link #invalidate()}를 호출하고, 다음
+ *       조회에서 다시 적재합니다
+ *   <li>다른 노드의 변경이나 복제본 지연으로 적재된 이전 값은 {@code persistence.dictionary.max-age}가 지나면 다시 적재합니다
+ *   <li>재적재는 한 스레드만 수행하며, 그동안 다른 스레드는 이전 스냅샷을 사용합니다
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ReferenceDictionaries {
+
+    private final ReferenceCodeQueryDslRepository repository;
+    private final long maxAgeNanos;
+    private final AtomicLong changeVersion = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public ReferenceDictionaries(
+            ReferenceCodeQueryDslRepository repository,
+            @Value("${persistence.dictionary.max-age:60s}") Duration maxAge) {
+        this.repository = repository;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public CodeDictionary classTypes() {
+        return current().classTypes();
+    }
+
+    public CodeDictionary layers() {
+        return current().layers();
+    }
+
+    public CodeDictionary classTypeCategories() {
+        return current().classTypeCategories();
+    }
+
+    public CodeDictionary architectures() {
+        return current().architectures();
+    }
+
+    /** 참조 데이터 변경 통지 - 다음 조회에서 다시 적재 */
+    public void invalidate() {
+        changeVersion.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot loaded = snapshot;
+        if (loaded != null && loaded.isFresh(changeVersion.get(), maxAgeNanos)) {
+            return loaded;
+        }
+        if (loaded == null) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return loaded;
+        }
+        try {
+            Snapshot latest = snapshot;
+            if (latest != null && latest.isFresh(changeVersion.get(), maxAgeNanos)) {
+                return latest;
+            }
+            // 적재 중 들어온 변경은 버전이 달라 다음 조회에서 다시 적재됨
+            long version = changeVersion.get();
+            Snapshot reloaded =
+                    new Snapshot(
+                            version,
+                            System.nanoTime(),
+                            CodeDictionary.of(repository.findClassTypeCodes()),
+                            CodeDictionary.of(repository.findLayerCodes()),
+                            CodeDictionary.of(repository.findClassTypeCategoryCodes()),
+                            CodeDictionary.of(repository.findArchitectureNames()));
+            snapshot = reloaded;
+            return reloaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private record Snapshot(
+            long version,
+            long loadedAtNanos,
+            CodeDictionary classTypes,
+            CodeDictionary layers,
+            CodeDictionary classTypeCategories,
+            CodeDictionary architectures) {
+
+        boolean isFresh(long currentVersion, long maxAgeNanos) {
+            return version == currentVersion && System.nanoTime() - loadedAtNanos < maxAgeNanos;
+        }
+    }
+}
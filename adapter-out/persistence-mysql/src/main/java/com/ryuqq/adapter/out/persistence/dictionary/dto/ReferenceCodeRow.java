@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.dictionary.dto;
+
+/**
+ * ReferenceCodeRow - 참조 데이터 id/code 사전 적재용 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param id 참조 데이터 ID
+ * @param scopeId 코드가 유일한 범위의 ID (예: Layer는 architectureId, ClassType은 categoryId)
+ * @param code 코드 (Architecture는 이름)
+ * @author ryu-qqq
+ */
+public record ReferenceCodeRow(Long id, Long scopeId, String code) {}
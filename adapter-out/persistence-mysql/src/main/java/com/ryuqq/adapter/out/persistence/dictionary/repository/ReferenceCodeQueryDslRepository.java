@@ -0,0 +1,102 @@
+package com.ryuqq.adapter.out.persistence.dictionary.repository;
+
+import static com.ryuqq.adapter.out.persistence.architecture.entity.QArchitectureJpaEntity.architectureJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtype.entity.QClassTypeJpaEntity.classTypeJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtypecategory.entity.QClassTypeCategoryJpaEntity.classTypeCategoryJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layer.entity.QLayerJpaEntity.layerJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.dictionary.dto.ReferenceCodeRow;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ReferenceCodeQueryDslRepository - 참조 데이터 id/code 전체 조회
+ *
+ * <p>ReferenceDictionaries 적재용입니다. 삭제되지 않은 행의 (id, 범위 ID, code)만 조회하며, 참조 데이터는 수백 건 수준이므로 페이징하지
+ * 않습니다.
+ *
+ * @author ryu-qqq
+ */
+@Repository
+public class ReferenceCodeQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ReferenceCodeQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * ClassType 코드 조회 (범위: categoryId)
+     *
+     * @return ClassType id/code 목록
+     */
+    public List<ReferenceCodeRow> findClassTypeCodes() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReferenceCodeRow.class,
+                                classTypeJpaEntity.id,
+                                classTypeJpaEntity.categoryId,
+                                classTypeJpaEntity.code))
+                .from(classTypeJpaEntity)
+                .where(classTypeJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * Layer 코드 조회 (범위: architectureId)
+     *
+     * @return Layer id/code 목록
+     */
+    public List<ReferenceCodeRow> findLayerCodes() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReferenceCodeRow.class,
+                                layerJpaEntity.id,
+                                layerJpaEntity.architectureId,
+                                layerJpaEntity.code))
+                .from(layerJpaEntity)
+                .where(layerJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ClassTypeCategory 코드 조회 (범위: architectureId)
+     *
+     * @return ClassTypeCategory id/code 목록
+     */
+    public List<ReferenceCodeRow> findClassTypeCategoryCodes() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReferenceCodeRow.class,
+                                classTypeCategoryJpaEntity.id,
+                                classTypeCategoryJpaEntity.architectureId,
+                                classTypeCategoryJpaEntity.code))
+                .from(classTypeCategoryJpaEntity)
+                .where(classTypeCategoryJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * Architecture 이름 조회 (범위: techStackId)
+     *
+     * @return Architecture id/name 목록
+     */
+    public List<ReferenceCodeRow> findArchitectureNames() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ReferenceCodeRow.class,
+                                architectureJpaEntity.id,
+                                architectureJpaEntity.techStackId,
+                                architectureJpaEntity.name))
+                .from(architectureJpaEntity)
+                .where(architectureJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+}
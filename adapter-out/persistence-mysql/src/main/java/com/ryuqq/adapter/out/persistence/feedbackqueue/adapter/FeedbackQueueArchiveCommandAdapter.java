@@ -0,0 +1,50 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueArchiveJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueArchiveJpaRepository;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchiveCommandPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchiveCommandAdapter - 피드백 보관 명령 어댑터
+ *
+ * <p>FeedbackQueueArchiveCommandPort를 구현합니다. 보관 엔티티는 할당 ID + isNew()=true 이므로 saveAll이 사전 SELECT 없이
+ * JDBC 배치 INSERT로 flush 됩니다.
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchiveCommandAdapter implements FeedbackQueueArchiveCommandPort {
+
+    private final FeedbackQueueArchiveJpaRepository repository;
+    private final FeedbackQueueArchiveJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param repository 보관 JPA 레포지토리
+     * @param mapper 보관 Entity-Domain 매퍼
+     */
+    public FeedbackQueueArchiveCommandAdapter(
+            FeedbackQueueArchiveJpaRepository repository,
+            FeedbackQueueArchiveJpaEntityMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 피드백 일괄 보관
+     *
+     * @param feedbackQueues 보관할 FeedbackQueue 목록
+     * @param archivedAt 보관 일시
+     */
+    @Override
+    public void persistAll(List<FeedbackQueue> feedbackQueues, Instant archivedAt) {
+        repository.saveAll(mapper.toEntities(feedbackQueues, archivedAt));
+    }
+}
@@ -0,0 +1,49 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueArchiveJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueArchiveQueryDslRepository;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchiveQueryPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchiveQueryAdapter - 피드백 보관 조회 어댑터
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchiveQueryAdapter implements FeedbackQueueArchiveQueryPort {
+
+    private final FeedbackQueueArchiveQueryDslRepository queryDslRepository;
+    private final FeedbackQueueArchiveJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryDslRepository 보관 QueryDSL 레포지토리
+     * @param mapper 보관 Entity-Domain 매퍼
+     */
+    public FeedbackQueueArchiveQueryAdapter(
+            FeedbackQueueArchiveQueryDslRepository queryDslRepository,
+            FeedbackQueueArchiveJpaEntityMapper mapper) {
+        this.queryDslRepository = queryDslRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public Optional<FeedbackQueue> findById(Long id) {
+        return queryDslRepository.findById(id).map(mapper::toDomain);
+    }
+
+    @Override
+    public List<FeedbackQueue> findBySliceCriteria(FeedbackQueueSliceCriteria criteria) {
+        return queryDslRepository.findBySliceCriteria(criteria).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+}
@@ -6,6 +6,7 @@ import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueJ
 import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueCommandPort;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import java.util.List;
 import org.springframework.stereotype.Component;
 
 /**
@@ -51,4 +52,33 @@ public class FeedbackQueueCommandAdapter implements FeedbackQueueCommandPort {
         FeedbackQueueJpaEntity saved = repository.save(entity);
         return FeedbackQueueId.of(saved.getId());
     }
+
+    /**
+     * FeedbackQueue 일괄 영속화 (생성/수정)
+     *
+     * <p>saveAll로 한 번에 저장하여 hibernate.jdbc.batch_size / order_updates 설정에 따라 단일 JDBC 배치로 flush 됩니다.
+     *
+     * @param feedbackQueues 영속화할 FeedbackQueue 목록
+     */
+    @Override
+    public void persistAll(List<FeedbackQueue> feedbackQueues) {
+        List<FeedbackQueueJpaEntity> entities =
+                feedbackQueues.stream().map(mapper::toEntity).toList();
+        repository.saveAll(entities);
+    }
+
+    /**
+     * 보관 완료된 피드백 제거
+     *
+     * <p>deleteAllByIdInBatch로 단일 DELETE ... IN 문을 실행합니다 (엔티티 로딩 없음).
+     *
+     * @param feedbackIds 보관 완료된 피드백 ID 목록
+     */
+    @Override
+    public void deleteArchived(List<Long> feedbackIds) {
+        if (feedbackIds == null || feedbackIds.isEmpty()) {
+            return;
+        }
+        repository.deleteAllByIdInBatch(feedbackIds);
+    }
 }
@@ -10,6 +10,7 @@ import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
@@ -74,6 +75,18 @@ public class FeedbackQueueQueryAdapter implements FeedbackQueueQueryPort {
         return queryDslRepository.findById(id).map(mapper::toDomain);
     }
 
+    /**
+     * ID 목록으로 피드백 큐 일괄 조회
+     *
+     * @param ids 피드백 큐 ID 목록
+     * @return 피드백 큐 목록
+     */
+    @Override
+    public List<FeedbackQueue> findByIds(List<Long> ids) {
+        List<FeedbackQueueJpaEntity> entities = queryDslRepository.findByIds(ids);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
     /**
      * 상태별 피드백 큐 목록 조회
      *
@@ -187,6 +200,22 @@ public class FeedbackQueueQueryAdapter implements FeedbackQueueQueryPort {
         return entities.stream().map(mapper::toDomain).toList();
     }
 
+    /**
+     * 보관 대상 피드백 조회
+     *
+     * @param statuses 대상 상태 목록
+     * @param updatedBefore 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 보관 대상 피드백 목록
+     */
+    @Override
+    public List<FeedbackQueue> findArchivable(
+            List<FeedbackStatus> statuses, Instant updatedBefore, int limit) {
+        List<FeedbackQueueJpaEntity> entities =
+                queryDslRepository.findArchivable(statuses, updatedBefore, limit);
+        return entities.stream().map(mapper::toDomain).toList();
+    }
+
     /**
      * 피드백 큐 존재 여부 확인
      *
@@ -0,0 +1,65 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueStatsDeltaJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueStatsDeltaJpaRepository;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsCommandAdapter - 피드백 큐 통계 명령 어댑터
+ *
+ * <p>FeedbackQueueStatsCommandPort를 구현합니다. 증감 기록은 INSERT 만 하므로 상태 전이 트랜잭션끼리 카운터 행 락을 두고 경합하지 않습니다.
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsCommandAdapter implements FeedbackQueueStatsCommandPort {
+
+    private final FeedbackQueueStatsDeltaJpaRepository repository;
+    private final FeedbackQueueStatsDeltaJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param repository 통계 증감 기록 JPA 레포지토리
+     * @param mapper 통계 Entity-Domain 매퍼
+     */
+    public FeedbackQueueStatsCommandAdapter(
+            FeedbackQueueStatsDeltaJpaRepository repository,
+            FeedbackQueueStatsDeltaJpaEntityMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 카운터 증감 기록
+     *
+     * @param deltas 증감 목록
+     * @param recordedAt 기록 일시
+     */
+    @Override
+    public void persistAll(List<FeedbackQueueCounterDelta> deltas, Instant recordedAt) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        repository.saveAll(mapper.toEntities(deltas, recordedAt));
+    }
+
+    /**
+     * 압축된 증감 기록 일괄 삭제
+     *
+     * @param deltaIds 삭제할 증감 기록 ID 목록
+     */
+    @Override
+    public void deleteAll(List<Long> deltaIds) {
+        if (deltaIds.isEmpty()) {
+            return;
+        }
+        repository.deleteAllByIdInBatch(deltaIds);
+    }
+}
@@ -0,0 +1,58 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueStatsDeltaJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueStatsQueryDslRepository;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsQueryPort;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsQueryAdapter - 피드백 큐 통계 조회 어댑터
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsQueryAdapter implements FeedbackQueueStatsQueryPort {
+
+    private final FeedbackQueueStatsQueryDslRepository queryDslRepository;
+    private final FeedbackQueueStatsDeltaJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryDslRepository 통계 QueryDSL 레포지토리
+     * @param mapper 통계 Entity-Domain 매퍼
+     */
+    public FeedbackQueueStatsQueryAdapter(
+            FeedbackQueueStatsQueryDslRepository queryDslRepository,
+            FeedbackQueueStatsDeltaJpaEntityMapper mapper) {
+        this.queryDslRepository = queryDslRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public List<FeedbackQueueCounter> sumCounters() {
+        return queryDslRepository.sumCounters().stream().map(mapper::toCounter).toList();
+    }
+
+    @Override
+    public List<Long> findDeltaIds() {
+        return queryDslRepository.findDeltaIds();
+    }
+
+    @Override
+    public List<FeedbackQueueCounter> countActual() {
+        return queryDslRepository.countActual().stream().map(mapper::toCounter).toList();
+    }
+
+    @Override
+    public Optional<Instant> findUpdatedAtAt(FeedbackQueueAgeProbe probe) {
+        return queryDslRepository.findUpdatedAtAt(probe.status(), probe.offset());
+    }
+}
@@ -0,0 +1,98 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.condition;
+
+import static com.ryuqq.adapter.out.persistence.feedbackqueue.entity.QFeedbackQueueArchiveJpaEntity.feedbackQueueArchiveJpaEntity;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchiveConditionBuilder - 피드백 보관 테이블 QueryDSL 조건 빌더
+ *
+ * <p>보관 테이블에는 종료 상태만 존재하므로 처리 액션(FeedbackAction) 필터는 제공하지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchiveConditionBuilder {
+
+    public BooleanExpression idEq(Long id) {
+        return id != null ? feedbackQueueArchiveJpaEntity.id.eq(id) : null;
+    }
+
+    public BooleanExpression statusesIn(List<FeedbackStatus> statuses) {
+        return statuses != null && !statuses.isEmpty()
+                ? feedbackQueueArchiveJpaEntity.status.in(statuses)
+                : null;
+    }
+
+    public BooleanExpression targetTypesIn(List<FeedbackTargetType> targetTypes) {
+        return targetTypes != null && !targetTypes.isEmpty()
+                ? feedbackQueueArchiveJpaEntity.targetType.in(targetTypes)
+                : null;
+    }
+
+    public BooleanExpression feedbackTypesIn(List<FeedbackType> feedbackTypes) {
+        return feedbackTypes != null && !feedbackTypes.isEmpty()
+                ? feedbackQueueArchiveJpaEntity.feedbackType.in(feedbackTypes)
+                : null;
+    }
+
+    public BooleanExpression riskLevelsIn(List<RiskLevel> riskLevels) {
+        return riskLevels != null && !riskLevels.isEmpty()
+                ? feedbackQueueArchiveJpaEntity.riskLevel.in(riskLevels)
+                : null;
+    }
+
+    /**
+     * 페이로드 컨벤션 ID 일치 조건
+     *
+     * <p>payload JSON에서 추출된 생성 컬럼(payload_convention_id)을 사용하므로 인덱스를 탈 수 있습니다.
+     *
+     * @param conventionId 컨벤션 ID
+     * @return payloadConventionId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadConventionIdEq(Long conventionId) {
+        return conventionId != null
+                ? feedbackQueueArchiveJpaEntity.payloadConventionId.eq(conventionId)
+                : null;
+    }
+
+    /**
+     * 페이로드 코딩 규칙 ID 일치 조건
+     *
+     * @param codingRuleId 코딩 규칙 ID ($.codingRuleId 또는 $.ruleId)
+     * @return payloadCodingRuleId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadCodingRuleIdEq(Long codingRuleId) {
+        return codingRuleId != null
+                ? feedbackQueueArchiveJpaEntity.payloadCodingRuleId.eq(codingRuleId)
+                : null;
+    }
+
+    /**
+     * 페이로드 패키지 구조 ID 일치 조건
+     *
+     * @param structureId 패키지 구조 ID
+     * @return payloadStructureId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadStructureIdEq(Long structureId) {
+        return structureId != null
+                ? feedbackQueueArchiveJpaEntity.payloadStructureId.eq(structureId)
+                : null;
+    }
+
+    /**
+     * 커서 기반 페이징 조건
+     *
+     * @param cursor 커서 (마지막 ID)
+     * @return ID < cursor 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression cursorLt(Long cursor) {
+        return cursor != null ? feedbackQueueArchiveJpaEntity.id.lt(cursor) : null;
+    }
+}
@@ -8,6 +8,7 @@ import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
 
@@ -115,6 +116,16 @@ public class FeedbackQueueConditionBuilder {
         return merged;
     }
 
+    /**
+     * ID 목록 포함 조건
+     *
+     * @param ids 피드백 큐 ID 목록
+     * @return id IN 조건 (비어있으면 null 반환)
+     */
+    public BooleanExpression idsIn(List<Long> ids) {
+        return ids != null && !ids.isEmpty() ? feedbackQueueJpaEntity.id.in(ids) : null;
+    }
+
     /**
      * 대상 ID 일치 조건
      *
@@ -125,6 +136,44 @@ public class FeedbackQueueConditionBuilder {
         return targetId != null ? feedbackQueueJpaEntity.targetId.eq(targetId) : null;
     }
 
+    /**
+     * 페이로드 컨벤션 ID 일치 조건
+     *
+     * <p>payload JSON에서 추출된 생성 컬럼(payload_convention_id)을 사용하므로 인덱스를 탈 수 있습니다.
+     *
+     * @param conventionId 컨벤션 ID
+     * @return payloadConventionId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadConventionIdEq(Long conventionId) {
+        return conventionId != null
+                ? feedbackQueueJpaEntity.payloadConventionId.eq(conventionId)
+                : null;
+    }
+
+    /**
+     * 페이로드 코딩 규칙 ID 일치 조건
+     *
+     * @param codingRuleId 코딩 규칙 ID ($.codingRuleId 또는 $.ruleId)
+     * @return payloadCodingRuleId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadCodingRuleIdEq(Long codingRuleId) {
+        return codingRuleId != null
+                ? feedbackQueueJpaEntity.payloadCodingRuleId.eq(codingRuleId)
+                : null;
+    }
+
+    /**
+     * 페이로드 패키지 구조 ID 일치 조건
+     *
+     * @param structureId 패키지 구조 ID
+     * @return payloadStructureId 일치 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression payloadStructureIdEq(Long structureId) {
+        return structureId != null
+                ? feedbackQueueJpaEntity.payloadStructureId.eq(structureId)
+                : null;
+    }
+
     /**
      * 커서 기반 페이징 조건
      *
@@ -134,4 +183,14 @@ public class FeedbackQueueConditionBuilder {
     public BooleanExpression cursorLt(Long cursor) {
         return cursor != null ? feedbackQueueJpaEntity.id.lt(cursor) : null;
     }
+
+    /**
+     * 수정 일시 기준 이전 조건
+     *
+     * @param updatedBefore 기준 시각
+     * @return updatedAt < updatedBefore 조건 (nullable이면 null 반환)
+     */
+    public BooleanExpression updatedAtBefore(Instant updatedBefore) {
+        return updatedBefore != null ? feedbackQueueJpaEntity.updatedAt.lt(updatedBefore) : null;
+    }
 }
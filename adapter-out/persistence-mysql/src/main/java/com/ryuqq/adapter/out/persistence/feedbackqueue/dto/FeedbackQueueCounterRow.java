@@ -0,0 +1,19 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.dto;
+
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+
+/**
+ * FeedbackQueueCounterRow - 키별 건수 집계 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param status 처리 상태
+ * @param riskLevel 리스크 수준
+ * @param targetType 피드백 대상 타입
+ * @param count 건수 (증감 합계 또는 실제 건수)
+ * @author ryu-qqq
+ */
+public record FeedbackQueueCounterRow(
+        FeedbackStatus status, RiskLevel riskLevel, FeedbackTargetType targetType, Long count) {}
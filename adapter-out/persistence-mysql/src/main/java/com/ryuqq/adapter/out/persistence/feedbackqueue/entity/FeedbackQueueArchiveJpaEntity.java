@@ -0,0 +1,188 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.entity;
+
+import com.ryuqq.adapter.out.persistence.common.entity.BaseAuditEntity;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * FeedbackQueueArchiveJpaEntity - 피드백 보관 JPA 엔티티
+ *
+ * <p>feedback_queue_archive 테이블과 매핑됩니다. 테이블은 created_at 기준 월 단위 RANGE 파티션으로 구성되며, 원본
+ * feedback_queue의 ID를 그대로 유지합니다 (IDENTITY 미사용).
+ *
+ * <p>보관 테이블은 추가 전용(append-only)이므로 {@link #isNew()}는 항상 true를 반환합니다. 할당 ID 엔티티의 save() 시 발생하는 사전
+ * SELECT(merge)를 피하고, IDENTITY가 아니므로 Hibernate JDBC 배치 INSERT가 그대로 적용됩니다.
+ *
+ * @author ryu-qqq
+ */
+@Entity
+@Table(name = "feedback_queue_archive")
+public class FeedbackQueueArchiveJpaEntity extends BaseAuditEntity implements Persistable<Long> {
+
+    @Id
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 50, nullable = false)
+    private FeedbackTargetType targetType;
+
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "feedback_type", length = 20, nullable = false)
+    private FeedbackType feedbackType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level", length = 20, nullable = false)
+    private RiskLevel riskLevel;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    /** payload $.conventionId 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_convention_id", insertable = false, updatable = false)
+    private Long payloadConventionId;
+
+    /** payload $.codingRuleId (없으면 $.ruleId) 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_coding_rule_id", insertable = false, updatable = false)
+    private Long payloadCodingRuleId;
+
+    /** payload $.structureId 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_structure_id", insertable = false, updatable = false)
+    private Long payloadStructureId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30, nullable = false)
+    private FeedbackStatus status;
+
+    @Column(name = "review_notes", length = 1000)
+    private String reviewNotes;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+
+    protected FeedbackQueueArchiveJpaEntity() {}
+
+    private FeedbackQueueArchiveJpaEntity(
+            Long id,
+            FeedbackTargetType targetType,
+            Long targetId,
+            FeedbackType feedbackType,
+            RiskLevel riskLevel,
+            String payload,
+            FeedbackStatus status,
+            String reviewNotes,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant archivedAt) {
+        super(createdAt, updatedAt);
+        this.id = id;
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.feedbackType = feedbackType;
+        this.riskLevel = riskLevel;
+        this.payload = payload;
+        this.status = status;
+        this.reviewNotes = reviewNotes;
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * 정적 팩토리 메서드
+     *
+     * @param id 원본 피드백 큐 ID
+     * @param targetType 피드백 대상 타입
+     * @param targetId 피드백 대상 ID
+     * @param feedbackType 피드백 유형
+     * @param riskLevel 리스크 수준
+     * @param payload 피드백 내용 (JSON)
+     * @param status 처리 상태 (종료 상태)
+     * @param reviewNotes 검토 노트
+     * @param createdAt 생성 일시 (파티션 키)
+     * @param updatedAt 수정 일시
+     * @param archivedAt 보관 일시
+     * @return FeedbackQueueArchiveJpaEntity 인스턴스
+     */
+    public static FeedbackQueueArchiveJpaEntity of(
+            Long id,
+            FeedbackTargetType targetType,
+            Long targetId,
+            FeedbackType feedbackType,
+            RiskLevel riskLevel,
+            String payload,
+            FeedbackStatus status,
+            String reviewNotes,
+            Instant createdAt,
+            Instant updatedAt,
+            Instant archivedAt) {
+        return new FeedbackQueueArchiveJpaEntity(
+                id,
+                targetType,
+                targetId,
+                feedbackType,
+                riskLevel,
+                payload,
+                status,
+                reviewNotes,
+                createdAt,
+                updatedAt,
+                archivedAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    public FeedbackTargetType getTargetType() {
+        return targetType;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public FeedbackType getFeedbackType() {
+        return feedbackType;
+    }
+
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public FeedbackStatus getStatus() {
+        return status;
+    }
+
+    public String getReviewNotes() {
+        return reviewNotes;
+    }
+
+    public Instant getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -9,14 +9,18 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.domain.Persistable;
 
 /**
  * FeedbackQueueJpaEntity - 피드백 큐 JPA 엔티티
@@ -25,16 +29,19 @@ import java.util.Objects;
  *
  * <p>Long FK 전략을 사용하여 JPA 관계 어노테이션을 사용하지 않습니다.
  *
+ * <p>ID는 애플리케이션에서 미리 할당합니다 (IdGeneratorPort). IDENTITY 전략은 INSERT마다 생성 키를 받아와야 해서 JDBC 배치가 비활성화되므로
+ * 사용하지 않습니다. 할당 ID 엔티티의 save() 가 merge(사전 SELECT)로 빠지지 않도록 {@link Persistable}을 구현하고, 신규 여부는 {@link
+ * #ofNewInstant}로 생성했는지로 판단합니다.
+ *
  * @author ryu-qqq
  */
 @Entity
 @Table(name = "feedback_queue")
-public class FeedbackQueueJpaEntity extends BaseAuditEntity {
+public class FeedbackQueueJpaEntity extends BaseAuditEntity implements Persistable<Long> {
 
     private static final ZoneId SYSTEM_ZONE = ZoneId.systemDefault();
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "id")
     private Long id;
 
@@ -53,9 +60,22 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
     @Column(name = "risk_level", length = 20, nullable = false)
     private RiskLevel riskLevel;
 
-    @Column(name = "payload", columnDefinition = "TEXT", nullable = false)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false)
     private String payload;
 
+    /** payload $.conventionId 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_convention_id", insertable = false, updatable = false)
+    private Long payloadConventionId;
+
+    /** payload $.codingRuleId (없으면 $.ruleId) 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_coding_rule_id", insertable = false, updatable = false)
+    private Long payloadCodingRuleId;
+
+    /** payload $.structureId 생성 컬럼 (DB 계산, 읽기 전용) */
+    @Column(name = "payload_structure_id", insertable = false, updatable = false)
+    private Long payloadStructureId;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "status", length = 30, nullable = false)
     private FeedbackStatus status;
@@ -63,6 +83,9 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
     @Column(name = "review_notes", length = 1000)
     private String reviewNotes;
 
+    /** 신규 INSERT 대상 여부 (영속 컬럼 아님) */
+    @Transient private boolean newEntity;
+
     protected FeedbackQueueJpaEntity() {}
 
     private FeedbackQueueJpaEntity(
@@ -75,7 +98,8 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
             FeedbackStatus status,
             String reviewNotes,
             Instant createdAt,
-            Instant updatedAt) {
+            Instant updatedAt,
+            boolean newEntity) {
         super(createdAt, updatedAt);
         this.id = id;
         this.targetType = targetType;
@@ -85,6 +109,7 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
         this.payload = payload;
         this.status = status;
         this.reviewNotes = reviewNotes;
+        this.newEntity = newEntity;
     }
 
     /**
@@ -123,7 +148,8 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
                 status,
                 reviewNotes,
                 toInstant(createdAt),
-                toInstant(updatedAt));
+                toInstant(updatedAt),
+                false);
     }
 
     /**
@@ -162,7 +188,50 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
                 status,
                 reviewNotes,
                 createdAt,
-                updatedAt);
+                updatedAt,
+                false);
+    }
+
+    /**
+     * 신규 INSERT용 정적 팩토리 메서드 (Instant 기반 - Mapper 사용)
+     *
+     * <p>사전 할당된 ID로 생성하며, save() 시 merge 없이 persist 됩니다.
+     *
+     * @param id 사전 할당된 피드백 큐 ID
+     * @param targetType 피드백 대상 타입
+     * @param targetId 피드백 대상 ID
+     * @param feedbackType 피드백 유형
+     * @param riskLevel 리스크 수준
+     * @param payload 피드백 내용 (JSON)
+     * @param status 처리 상태
+     * @param reviewNotes 검토 노트
+     * @param createdAt 생성 일시
+     * @param updatedAt 수정 일시
+     * @return FeedbackQueueJpaEntity 인스턴스
+     */
+    public static FeedbackQueueJpaEntity ofNewInstant(
+            Long id,
+            FeedbackTargetType targetType,
+            Long targetId,
+            FeedbackType feedbackType,
+            RiskLevel riskLevel,
+            String payload,
+            FeedbackStatus status,
+            String reviewNotes,
+            Instant createdAt,
+            Instant updatedAt) {
+        return new FeedbackQueueJpaEntity(
+                id,
+                targetType,
+                targetId,
+                feedbackType,
+                riskLevel,
+                payload,
+                status,
+                reviewNotes,
+                createdAt,
+                updatedAt,
+                true);
     }
 
     private static Instant toInstant(LocalDateTime localDateTime) {
@@ -172,10 +241,22 @@ public class FeedbackQueueJpaEntity extends BaseAuditEntity {
         return localDateTime.atZone(SYSTEM_ZONE).toInstant();
     }
 
+    @Override
     public Long getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     public FeedbackTargetType getTargetType() {
         return targetType;
     }
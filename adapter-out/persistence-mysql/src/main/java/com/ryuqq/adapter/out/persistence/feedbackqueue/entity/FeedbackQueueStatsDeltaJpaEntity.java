@@ -0,0 +1,104 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.entity;
+
+import com.ryuqq.adapter.out.persistence.common.entity.BaseAuditEntity;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+
+/**
+ * FeedbackQueueStatsDeltaJpaEntity - 피드백 큐 통계 증감 기록 JPA 엔티티
+ *
+ * <p>feedback_queue_stats_delta 테이블과 매핑됩니다. 추가 전용(append-only)이며, 키별 카운터는 delta_count 합계입니다.
+ *
+ * @author ryu-qqq
+ */
+@Entity
+@Table(name = "feedback_queue_stats_delta")
+public class FeedbackQueueStatsDeltaJpaEntity extends BaseAuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 30, nullable = false)
+    private FeedbackStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_level", length = 20, nullable = false)
+    private RiskLevel riskLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 50, nullable = false)
+    private FeedbackTargetType targetType;
+
+    @Column(name = "delta_count", nullable = false)
+    private long deltaCount;
+
+    protected FeedbackQueueStatsDeltaJpaEntity() {}
+
+    private FeedbackQueueStatsDeltaJpaEntity(
+            Long id,
+            FeedbackStatus status,
+            RiskLevel riskLevel,
+            FeedbackTargetType targetType,
+            long deltaCount,
+            Instant recordedAt) {
+        super(recordedAt, recordedAt);
+        this.id = id;
+        this.status = status;
+        this.riskLevel = riskLevel;
+        this.targetType = targetType;
+        this.deltaCount = deltaCount;
+    }
+
+    /**
+     * 정적 팩토리 메서드 (신규 증감 기록)
+     *
+     * @param status 처리 상태
+     * @param riskLevel 리스크 수준
+     * @param targetType 피드백 대상 타입
+     * @param deltaCount 증감량
+     * @param recordedAt 기록 일시
+     * @return FeedbackQueueStatsDeltaJpaEntity 인스턴스
+     */
+    public static FeedbackQueueStatsDeltaJpaEntity create(
+            FeedbackStatus status,
+            RiskLevel riskLevel,
+            FeedbackTargetType targetType,
+            long deltaCount,
+            Instant recordedAt) {
+        return new FeedbackQueueStatsDeltaJpaEntity(
+                null, status, riskLevel, targetType, deltaCount, recordedAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public FeedbackStatus getStatus() {
+        return status;
+    }
+
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
+    public FeedbackTargetType getTargetType() {
+        return targetType;
+    }
+
+    public long getDeltaCount() {
+        return deltaCount;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.jdbc;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchivePartitionPort;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchivePartitionJdbcMaintainer - 피드백 보관 테이블 파티션 관리 JDBC 구현
+ *
+ * <p>V3 마이그레이션이 만든 월 파티션({@code pYYYY_MM})과 {@code p_future}를 관리합니다.
+ *
+ * <ul>
+ *   <li>추가: {@code REORGANIZE PARTITION p_future}로 월 파티션을 떼어 냅니다. 아직 해당 월의 데이터가 없으므로 재구성 비용이 거의
+ *       없습니다
+ *   <li>삭제: {@code DROP PARTITION}으로 월 단위 보관 데이터를 한 번에 제거합니다
+ *   <li>MySQL이 아니면(H2 등 ddl-auto로 만든 비파티션 테이블) 월 파티션이 없는 것으로 취급합니다
+ * </ul>
+ *
+ * <p>CommandAdapter/QueryAdapter 규칙(JpaRepository + Mapper)에 맞지 않는 DDL 전용 구현이므로 별도 jdbc 패키지에 둡니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchivePartitionJdbcMaintainer
+        implements FeedbackQueueArchivePartitionPort {
+
+    static final String TABLE = "feedback_queue_archive";
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final String MYSQL = "MySQL";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p\\d{4}_\\d{2}");
+    private static final DateTimeFormatter PARTITION_NAME =
+            DateTimeFormatter.ofPattern("'p'uuuu_MM");
+    private static final DateTimeFormatter BOUNDARY = DateTimeFormatter.ofPattern("uuuu-MM-'01'");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public FeedbackQueueArchivePartitionJdbcMaintainer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<YearMonth> findMonthlyPartitions() {
+        if (!isMySql()) {
+            return List.of();
+        }
+        return jdbcTemplate
+                .queryForList(
+                        "SELECT partition_name FROM information_schema.partitions"
+                                + " WHERE table_schema = DATABASE() AND table_name = ?"
+                                + " AND partition_name IS NOT NULL",
+                        String.class,
+                        TABLE)
+                .stream()
+                .filter(name -> MONTHLY_PARTITION.matcher(name).matches())
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    public void addMonthlyPartitions(List<YearMonth> months) {
+        if (!months.isEmpty()) {
+            jdbcTemplate.execute(reorganizeFutureSql(months));
+        }
+    }
+
+    @Override
+    public void dropMonthlyPartitions(List<YearMonth> months) {
+        if (!months.isEmpty()) {
+            jdbcTemplate.execute(dropSql(months));
+        }
+    }
+
+    static String reorganizeFutureSql(List<YearMonth> months) {
+        String monthly =
+                months.stream()
+                        .map(
+                                month ->
+                                        "PARTITION "
+                                                + month.format(PARTITION_NAME)
+                                                + " VALUES LESS THAN ('"
+                                                + month.plusMonths(1).format(BOUNDARY)
+                                                + "')")
+                        .collect(Collectors.joining(", "));
+        return "ALTER TABLE "
+                + TABLE
+                + " REORGANIZE PARTITION "
+                + FUTURE_PARTITION
+                + " INTO ("
+                + monthly
+                + ", PARTITION "
+                + FUTURE_PARTITION
+                + " VALUES LESS THAN (MAXVALUE))";
+    }
+
+    static String dropSql(List<YearMonth> months) {
+        return "ALTER TABLE "
+                + TABLE
+                + " DROP PARTITION "
+                + months.stream()
+                        .map(month -> month.format(PARTITION_NAME))
+                        .collect(Collectors.joining(", "));
+    }
+
+    private boolean isMySql() {
+        String product =
+                jdbcTemplate.execute(
+                        (ConnectionCallback<String>)
+                                connection -> connection.getMetaData().getDatabaseProductName());
+        return MYSQL.equalsIgnoreCase(product);
+    }
+}
@@ -0,0 +1,56 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.jdbc;
+
+import com.ryuqq.application.feedbackqueue.port.out.HumanReviewInboxVersionPort;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * HumanReviewInboxVersionJdbcStore - Human 리뷰 인박스 변경 버전 JDBC 구현
+ *
+ * <p>V8 마이그레이션이 만든 단일 행({@code human_review_inbox_version}, id = 1)의 버전을 올리고 읽습니다.
+ *
+ * <ul>
+ *   <li>증가는 호출한 트랜잭션에 참여하므로 인박스 변경과 함께 커밋되거나 롤백됩니다
+ *   <li>{@code feedback-queue.human-review-inbox.version-sync-enabled=false}이면(H2 create-drop 등
+ *       테이블이 없는 환경) 증가하지 않고 항상 같은 버전을 반환합니다. 이때 다른 노드의 변경은 재확인 주기로만 반영됩니다
+ * </ul>
+ *
+ * <p>CommandAdapter/QueryAdapter 규칙(JpaRepository + Mapper)에 맞지 않는 단일 행 갱신이므로 별도 jdbc 패키지에 둡니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class HumanReviewInboxVersionJdbcStore implements HumanReviewInboxVersionPort {
+
+    static final String INCREMENT_SQL =
+            "UPDATE human_review_inbox_version SET version = version + 1 WHERE id = 1";
+    static final String SELECT_SQL = "SELECT version FROM human_review_inbox_version WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public HumanReviewInboxVersionJdbcStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${feedback-queue.human-review-inbox.version-sync-enabled:true}")
+                    boolean enabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void increment() {
+        if (enabled) {
+            jdbcTemplate.update(INCREMENT_SQL);
+        }
+    }
+
+    @Override
+    public long findVersion() {
+        if (!enabled) {
+            return 0L;
+        }
+        Long version = jdbcTemplate.queryForObject(SELECT_SQL, Long.class);
+        return version != null ? version : 0L;
+    }
+}
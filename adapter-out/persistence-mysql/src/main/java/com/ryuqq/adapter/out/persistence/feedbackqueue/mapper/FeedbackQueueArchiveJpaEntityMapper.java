@@ -0,0 +1,92 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.mapper;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueArchiveJpaEntity;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackPayload;
+import com.ryuqq.domain.feedbackqueue.vo.ReviewNotes;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchiveJpaEntityMapper - FeedbackQueue Archive Entity <-> Domain 변환
+ *
+ * <p>EMAP-002: Pure Java만 사용 (Lombok/MapStruct 금지)
+ *
+ * <p>EMAP-003: 시간 필드 생성 금지 (보관 일시는 호출자가 전달)
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchiveJpaEntityMapper {
+
+    public FeedbackQueueArchiveJpaEntityMapper() {}
+
+    /**
+     * Archive Entity -> Domain 변환
+     *
+     * @param entity 보관 JPA 엔티티
+     * @return FeedbackQueue 도메인 객체
+     */
+    public FeedbackQueue toDomain(FeedbackQueueArchiveJpaEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        return FeedbackQueue.reconstitute(
+                FeedbackQueueId.of(entity.getId()),
+                entity.getTargetType(),
+                entity.getTargetId(),
+                entity.getFeedbackType(),
+                FeedbackPayload.of(entity.getPayload()),
+                entity.getStatus(),
+                entity.getRiskLevel(),
+                parseReviewNotes(entity.getReviewNotes()),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+
+    /**
+     * Domain -> Archive Entity 변환
+     *
+     * @param domain FeedbackQueue 도메인 객체
+     * @param archivedAt 보관 일시
+     * @return 보관 JPA 엔티티
+     */
+    public FeedbackQueueArchiveJpaEntity toEntity(FeedbackQueue domain, Instant archivedAt) {
+        if (domain == null) {
+            return null;
+        }
+        return FeedbackQueueArchiveJpaEntity.of(
+                domain.idValue(),
+                domain.targetType(),
+                domain.targetId(),
+                domain.feedbackType(),
+                domain.riskLevel(),
+                domain.payloadValue(),
+                domain.status(),
+                domain.reviewNotesValue(),
+                domain.createdAt(),
+                domain.updatedAt(),
+                archivedAt);
+    }
+
+    /**
+     * Domain 목록 -> Archive Entity 목록 변환
+     *
+     * @param domains FeedbackQueue 도메인 목록
+     * @param archivedAt 보관 일시
+     * @return 보관 JPA 엔티티 목록
+     */
+    public List<FeedbackQueueArchiveJpaEntity> toEntities(
+            List<FeedbackQueue> domains, Instant archivedAt) {
+        return domains.stream().map(domain -> toEntity(domain, archivedAt)).toList();
+    }
+
+    private ReviewNotes parseReviewNotes(String reviewNotes) {
+        if (reviewNotes == null || reviewNotes.isBlank()) {
+            return ReviewNotes.empty();
+        }
+        return ReviewNotes.of(reviewNotes);
+    }
+}
@@ -64,6 +64,8 @@ public class FeedbackQueueJpaEntityMapper {
      *
      * <p>AGG-014: Law of Demeter 준수 - 위임 메서드 사용 (체이닝 금지)
      *
+     * <p>아직 영속화되지 않은 도메인은 사전 할당 ID를 가진 신규 엔티티로 변환하여 persist(배치 INSERT) 되도록 합니다.
+     *
      * @param domain FeedbackQueue 도메인 객체
      * @return JPA 엔티티
      */
@@ -71,6 +73,19 @@ public class FeedbackQueueJpaEntityMapper {
         if (domain == null) {
             return null;
         }
+        if (domain.isNew()) {
+            return FeedbackQueueJpaEntity.ofNewInstant(
+                    domain.idValue(),
+                    domain.targetType(),
+                    domain.targetId(),
+                    domain.feedbackType(),
+                    domain.riskLevel(),
+                    domain.payloadValue(),
+                    domain.status(),
+                    domain.reviewNotesValue(),
+                    domain.createdAt(),
+                    domain.updatedAt());
+        }
         return FeedbackQueueJpaEntity.ofInstant(
                 domain.idValue(),
                 domain.targetType(),
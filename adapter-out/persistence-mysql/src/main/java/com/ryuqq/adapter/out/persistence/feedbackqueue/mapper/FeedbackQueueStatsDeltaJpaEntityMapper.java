@@ -0,0 +1,52 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.mapper;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.dto.FeedbackQueueCounterRow;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueStatsDeltaJpaEntity;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsDeltaJpaEntityMapper - 피드백 큐 통계 Entity/Row-Domain 매퍼
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsDeltaJpaEntityMapper {
+
+    /**
+     * 증감 목록을 Entity 목록으로 변환
+     *
+     * @param deltas 증감 목록
+     * @param recordedAt 기록 일시
+     * @return FeedbackQueueStatsDeltaJpaEntity 목록
+     */
+    public List<FeedbackQueueStatsDeltaJpaEntity> toEntities(
+            List<FeedbackQueueCounterDelta> deltas, Instant recordedAt) {
+        return deltas.stream()
+                .map(
+                        delta ->
+                                FeedbackQueueStatsDeltaJpaEntity.create(
+                                        delta.key().status(),
+                                        delta.key().riskLevel(),
+                                        delta.key().targetType(),
+                                        delta.delta(),
+                                        recordedAt))
+                .toList();
+    }
+
+    /**
+     * 집계 Row를 카운터로 변환
+     *
+     * @param row 집계 Row
+     * @return FeedbackQueueCounter
+     */
+    public FeedbackQueueCounter toCounter(FeedbackQueueCounterRow row) {
+        return FeedbackQueueCounter.of(
+                FeedbackQueueCounterKey.of(row.status(), row.riskLevel(), row.targetType()),
+                row.count() != null ? row.count() : 0L);
+    }
+}
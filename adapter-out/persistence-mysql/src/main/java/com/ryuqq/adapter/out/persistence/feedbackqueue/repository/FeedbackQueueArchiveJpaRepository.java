@@ -0,0 +1,14 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.repository;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueArchiveJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * FeedbackQueueArchiveJpaRepository - 피드백 보관 JPA 레포지토리
+ *
+ * <p>보관 테이블 배치 INSERT(saveAll)를 제공합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueArchiveJpaRepository
+        extends JpaRepository<FeedbackQueueArchiveJpaEntity, Long> {}
@@ -0,0 +1,86 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.repository;
+
+import static com.ryuqq.adapter.out.persistence.feedbackqueue.entity.QFeedbackQueueArchiveJpaEntity.feedbackQueueArchiveJpaEntity;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.condition.FeedbackQueueArchiveConditionBuilder;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueArchiveJpaEntity;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackPayloadFilter;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * FeedbackQueueArchiveQueryDslRepository - 피드백 보관 테이블 QueryDSL 레포지토리
+ *
+ * <p>보관 테이블은 종료 상태만 보관하므로, 처리 액션 필터가 지정된 조회는 쿼리 없이 빈 결과를 반환합니다.
+ *
+ * @author ryu-qqq
+ */
+@Repository
+public class FeedbackQueueArchiveQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final FeedbackQueueArchiveConditionBuilder conditionBuilder;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryFactory JPAQueryFactory
+     * @param conditionBuilder 조건 빌더
+     */
+    public FeedbackQueueArchiveQueryDslRepository(
+            JPAQueryFactory queryFactory, FeedbackQueueArchiveConditionBuilder conditionBuilder) {
+        this.queryFactory = queryFactory;
+        this.conditionBuilder = conditionBuilder;
+    }
+
+    /**
+     * ID로 보관된 피드백 조회
+     *
+     * @param id 피드백 큐 ID
+     * @return 보관된 피드백 Optional
+     */
+    public Optional<FeedbackQueueArchiveJpaEntity> findById(Long id) {
+        FeedbackQueueArchiveJpaEntity entity =
+                queryFactory
+                        .selectFrom(feedbackQueueArchiveJpaEntity)
+                        .where(conditionBuilder.idEq(id))
+                        .fetchOne();
+        return Optional.ofNullable(entity);
+    }
+
+    /**
+     * SliceCriteria 기반 조회
+     *
+     * @param criteria 슬라이스 조회 조건
+     * @return 보관된 피드백 목록 (ID 내림차순)
+     */
+    public List<FeedbackQueueArchiveJpaEntity> findBySliceCriteria(
+            FeedbackQueueSliceCriteria criteria) {
+        if (criteria.hasActionFilter()) {
+            return List.of();
+        }
+        FeedbackPayloadFilter payloadFilter = criteria.payloadFilter();
+
+        return queryFactory
+                .selectFrom(feedbackQueueArchiveJpaEntity)
+                .where(
+                        conditionBuilder.statusesIn(
+                                criteria.hasStatusFilter() ? criteria.statuses() : null),
+                        conditionBuilder.targetTypesIn(
+                                criteria.hasTargetTypeFilter() ? criteria.targetTypes() : null),
+                        conditionBuilder.feedbackTypesIn(
+                                criteria.hasFeedbackTypeFilter() ? criteria.feedbackTypes() : null),
+                        conditionBuilder.riskLevelsIn(
+                                criteria.hasRiskLevelFilter() ? criteria.riskLevels() : null),
+                        conditionBuilder.payloadConventionIdEq(payloadFilter.conventionId()),
+                        conditionBuilder.payloadCodingRuleIdEq(payloadFilter.codingRuleId()),
+                        conditionBuilder.payloadStructureIdEq(payloadFilter.structureId()),
+                        conditionBuilder.cursorLt(criteria.cursorPageRequest().cursor()))
+                .orderBy(feedbackQueueArchiveJpaEntity.id.desc())
+                .limit(criteria.fetchSize())
+                .fetch();
+    }
+}
@@ -5,12 +5,14 @@ import static com.ryuqq.adapter.out.persistence.feedbackqueue.entity.QFeedbackQu
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ryuqq.adapter.out.persistence.feedbackqueue.condition.FeedbackQueueConditionBuilder;
 import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueJpaEntity;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackPayloadFilter;
 import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackAction;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.stereotype.Repository;
@@ -55,6 +57,24 @@ public class FeedbackQueueQueryDslRepository {
         return Optional.ofNullable(entity);
     }
 
+    /**
+     * ID 목록으로 피드백 큐 일괄 조회
+     *
+     * <p>빈 목록이면 조회하지 않고 빈 결과를 반환합니다 (조건 누락으로 인한 전체 조회 방지).
+     *
+     * @param ids 피드백 큐 ID 목록
+     * @return 피드백 큐 목록
+     */
+    public List<FeedbackQueueJpaEntity> findByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(feedbackQueueJpaEntity)
+                .where(conditionBuilder.idsIn(ids))
+                .fetch();
+    }
+
     /**
      * 상태별 피드백 큐 목록 조회
      *
@@ -193,6 +213,7 @@ public class FeedbackQueueQueryDslRepository {
                 criteria.hasFeedbackTypeFilter() ? criteria.feedbackTypes() : null;
         List<RiskLevel> riskLevels = criteria.hasRiskLevelFilter() ? criteria.riskLevels() : null;
         List<FeedbackAction> actions = criteria.hasActionFilter() ? criteria.actions() : null;
+        FeedbackPayloadFilter payloadFilter = criteria.payloadFilter();
 
         return queryFactory
                 .selectFrom(feedbackQueueJpaEntity)
@@ -202,12 +223,40 @@ public class FeedbackQueueQueryDslRepository {
                         conditionBuilder.feedbackTypesIn(feedbackTypes),
                         conditionBuilder.riskLevelsIn(riskLevels),
                         conditionBuilder.actionsIn(actions),
+                        conditionBuilder.payloadConventionIdEq(payloadFilter.conventionId()),
+                        conditionBuilder.payloadCodingRuleIdEq(payloadFilter.codingRuleId()),
+                        conditionBuilder.payloadStructureIdEq(payloadFilter.structureId()),
                         conditionBuilder.cursorLt(criteria.cursorPageRequest().cursor()))
                 .orderBy(feedbackQueueJpaEntity.id.desc())
                 .limit(criteria.fetchSize())
                 .fetch();
     }
 
+    /**
+     * 보관 대상 피드백 큐 목록 조회
+     *
+     * <p>(status, updated_at) 복합 인덱스를 사용하며, 배치 간 진행이 안정적이도록 ID 오름차순으로 조회합니다.
+     *
+     * @param statuses 대상 상태 목록
+     * @param updatedBefore 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 피드백 큐 목록
+     */
+    public List<FeedbackQueueJpaEntity> findArchivable(
+            List<FeedbackStatus> statuses, Instant updatedBefore, int limit) {
+        if (statuses == null || statuses.isEmpty() || updatedBefore == null) {
+            return List.of();
+        }
+        return queryFactory
+                .selectFrom(feedbackQueueJpaEntity)
+                .where(
+                        conditionBuilder.statusesIn(statuses),
+                        conditionBuilder.updatedAtBefore(updatedBefore))
+                .orderBy(feedbackQueueJpaEntity.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
     /**
      * ID로 피드백 큐 존재 여부 확인
      *
@@ -0,0 +1,14 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.repository;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueStatsDeltaJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * FeedbackQueueStatsDeltaJpaRepository - 피드백 큐 통계 증감 기록 JPA 레포지토리
+ *
+ * <p>증감 기록 INSERT(saveAll)와 보정 시 ID 기반 일괄 삭제를 제공합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueStatsDeltaJpaRepository
+        extends JpaRepository<FeedbackQueueStatsDeltaJpaEntity, Long> {}
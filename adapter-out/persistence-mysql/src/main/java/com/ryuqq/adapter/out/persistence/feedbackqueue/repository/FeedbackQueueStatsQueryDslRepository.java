@@ -0,0 +1,119 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.repository;
+
+import static com.ryuqq.adapter.out.persistence.feedbackqueue.entity.QFeedbackQueueJpaEntity.feedbackQueueJpaEntity;
+import static com.ryuqq.adapter.out.persistence.feedbackqueue.entity.QFeedbackQueueStatsDeltaJpaEntity.feedbackQueueStatsDeltaJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.condition.FeedbackQueueConditionBuilder;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.dto.FeedbackQueueCounterRow;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * FeedbackQueueStatsQueryDslRepository - 피드백 큐 통계 QueryDSL 레포지토리
+ *
+ * <p>카운터 합산은 증감 기록 테이블만 읽습니다. 보정 작업에서만 feedback_queue 를 GROUP BY 로 집계합니다.
+ *
+ * @author ryu-qqq
+ */
+@Repository
+public class FeedbackQueueStatsQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+    private final FeedbackQueueConditionBuilder conditionBuilder;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryFactory JPAQueryFactory
+     * @param conditionBuilder 피드백 큐 조건 빌더
+     */
+    public FeedbackQueueStatsQueryDslRepository(
+            JPAQueryFactory queryFactory, FeedbackQueueConditionBuilder conditionBuilder) {
+        this.queryFactory = queryFactory;
+        this.conditionBuilder = conditionBuilder;
+    }
+
+    /**
+     * 키별 증감 합계 조회 (합계 0 이하 제외)
+     *
+     * @return 키별 카운터 Row 목록
+     */
+    public List<FeedbackQueueCounterRow> sumCounters() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                FeedbackQueueCounterRow.class,
+                                feedbackQueueStatsDeltaJpaEntity.status,
+                                feedbackQueueStatsDeltaJpaEntity.riskLevel,
+                                feedbackQueueStatsDeltaJpaEntity.targetType,
+                                feedbackQueueStatsDeltaJpaEntity.deltaCount.sum()))
+                .from(feedbackQueueStatsDeltaJpaEntity)
+                .groupBy(
+                        feedbackQueueStatsDeltaJpaEntity.status,
+                        feedbackQueueStatsDeltaJpaEntity.riskLevel,
+                        feedbackQueueStatsDeltaJpaEntity.targetType)
+                .having(feedbackQueueStatsDeltaJpaEntity.deltaCount.sum().gt(0L))
+                .fetch();
+    }
+
+    /**
+     * 증감 기록 ID 전체 조회
+     *
+     * @return 증감 기록 ID 목록
+     */
+    public List<Long> findDeltaIds() {
+        return queryFactory
+                .select(feedbackQueueStatsDeltaJpaEntity.id)
+                .from(feedbackQueueStatsDeltaJpaEntity)
+                .fetch();
+    }
+
+    /**
+     * feedback_queue 키별 실제 건수 조회
+     *
+     * @return 키별 실제 건수 Row 목록
+     */
+    public List<FeedbackQueueCounterRow> countActual() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                FeedbackQueueCounterRow.class,
+                                feedbackQueueJpaEntity.status,
+                                feedbackQueueJpaEntity.riskLevel,
+                                feedbackQueueJpaEntity.targetType,
+                                feedbackQueueJpaEntity.count()))
+                .from(feedbackQueueJpaEntity)
+                .groupBy(
+                        feedbackQueueJpaEntity.status,
+                        feedbackQueueJpaEntity.riskLevel,
+                        feedbackQueueJpaEntity.targetType)
+                .fetch();
+    }
+
+    /**
+     * 상태별 updated_at 오름차순 offset 위치의 updated_at 조회
+     *
+     * <p>(status, updated_at) 인덱스만으로 처리되는 단건 조회입니다.
+     *
+     * @param status 처리 상태
+     * @param offset updated_at 오름차순 offset
+     * @return updated_at Optional
+     */
+    public Optional<Instant> findUpdatedAtAt(FeedbackStatus status, long offset) {
+        Instant updatedAt =
+                queryFactory
+                        .select(feedbackQueueJpaEntity.updatedAt)
+                        .from(feedbackQueueJpaEntity)
+                        .where(conditionBuilder.statusEq(status))
+                        .orderBy(feedbackQueueJpaEntity.updatedAt.asc())
+                        .offset(offset)
+                        .limit(1)
+                        .fetchOne();
+        return Optional.ofNullable(updatedAt);
+    }
+}
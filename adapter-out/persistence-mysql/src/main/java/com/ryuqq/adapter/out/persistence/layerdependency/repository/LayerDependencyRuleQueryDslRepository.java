@@ -7,6 +7,7 @@ import com.ryuqq.adapter.out.persistence.layerdependency.condition.LayerDependen
 import com.ryuqq.adapter.out.persistence.layerdependency.entity.LayerDependencyRuleJpaEntity;
 import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -45,6 +46,7 @@ public class LayerDependencyRuleQueryDslRepository {
                 queryFactory
                         .selectFrom(layerDependencyRuleJpaEntity)
                         .where(conditionBuilder.idEq(id))
+                        .setHint(HibernateHints.HINT_CACHEABLE, true)
                         .fetchOne();
         return Optional.ofNullable(entity);
     }
@@ -62,6 +64,7 @@ public class LayerDependencyRuleQueryDslRepository {
                 .orderBy(
                         layerDependencyRuleJpaEntity.fromLayer.asc(),
                         layerDependencyRuleJpaEntity.toLayer.asc())
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
                 .fetch();
     }
 
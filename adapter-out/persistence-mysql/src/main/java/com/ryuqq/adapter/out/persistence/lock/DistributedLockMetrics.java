@@ -0,0 +1,89 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import com.ryuqq.domain.common.vo.LockKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DistributedLockMetrics - 분산락 메트릭 기록
+ *
+ * <p>락 구현체 공통으로 아래 메트릭을 기록합니다. 태그 카디널리티를 제한하기 위해 키 전체가 아닌 키의 도메인 세그먼트({@code lock:{domain}:...})만
+ * 태그로 사용합니다.
+ *
+ * <ul>
+ *   <li>{@code distributed.lock.wait} (Timer) - 락 대기 시간, result=acquired|timeout
+ *   <li>{@code distributed.lock.hold} (Timer) - 락 보유 시간
+ *   <li>{@code distributed.lock.contention} (Counter) - 즉시 획득에 실패하여 대기가 필요했던 횟수
+ *   <li>{@code distributed.lock.lease.exceeded} (Counter) - 보유 시간이 요청한 leaseTime을 넘긴 횟수
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class DistributedLockMetrics {
+
+    private static final String WAIT = "distributed.lock.wait";
+    private static final String HOLD = "distributed.lock.hold";
+    private static final String CONTENTION = "distributed.lock.contention";
+    private static final String LEASE_EXCEEDED = "distributed.lock.lease.exceeded";
+
+    private static final String TAG_IMPLEMENTATION = "implementation";
+    private static final String TAG_DOMAIN = "domain";
+    private static final String TAG_RESULT = "result";
+    private static final String UNKNOWN_DOMAIN = "unknown";
+
+    private final MeterRegistry meterRegistry;
+    private final String implementation;
+
+    public DistributedLockMetrics(MeterRegistry meterRegistry, String implementation) {
+        this.meterRegistry = meterRegistry;
+        this.implementation = implementation;
+    }
+
+    void recordAcquired(LockKey key, long waitNanos) {
+        waitTimer(key, "acquired").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordTimeout(LockKey key, long waitNanos) {
+        waitTimer(key, "timeout").record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordContention(LockKey key) {
+        Counter.builder(CONTENTION)
+                .tag(TAG_IMPLEMENTATION, implementation)
+                .tag(TAG_DOMAIN, domainOf(key))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    void recordReleased(LockKey key, long holdNanos, long leaseNanos) {
+        String domain = domainOf(key);
+        Timer.builder(HOLD)
+                .tag(TAG_IMPLEMENTATION, implementation)
+                .tag(TAG_DOMAIN, domain)
+                .register(meterRegistry)
+                .record(holdNanos, TimeUnit.NANOSECONDS);
+
+        if (leaseNanos > 0 && holdNanos > leaseNanos) {
+            Counter.builder(LEASE_EXCEEDED)
+                    .tag(TAG_IMPLEMENTATION, implementation)
+                    .tag(TAG_DOMAIN, domain)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private Timer waitTimer(LockKey key, String result) {
+        return Timer.builder(WAIT)
+                .tag(TAG_IMPLEMENTATION, implementation)
+                .tag(TAG_DOMAIN, domainOf(key))
+                .tag(TAG_RESULT, result)
+                .register(meterRegistry);
+    }
+
+    private static String domainOf(LockKey key) {
+        String[] segments = key.value().split(":", 3);
+        return segments.length >= 2 && !segments[1].isEmpty() ? segments[1] : UNKNOWN_DOMAIN;
+    }
+}
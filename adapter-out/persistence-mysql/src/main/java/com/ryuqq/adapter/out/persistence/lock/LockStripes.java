@@ -0,0 +1,66 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * LockStripes - 키 해시 기반 고정 개수 락 스트라이프
+ *
+ * <p>키마다 락 객체를 만들지 않고 2의 거듭제곱 개의 {@link ReentrantLock} 중 하나에 키를 배정합니다. 락 객체 수가 고정되어 메모리가 늘지 않는 대신,
+ * 같은 스트라이프에 배정된 서로 다른 키끼리는 JVM 안에서 서로를 기다릴 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+final class LockStripes {
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    LockStripes(int requestedStripes) {
+        int size = sizeFor(requestedStripes);
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 실제 스트라이프 수
+     *
+     * @return requestedStripes를 2의 거듭제곱으로 올린 값
+     */
+    static int sizeFor(int requestedStripes) {
+        if (requestedStripes <= 0) {
+            throw new IllegalArgumentException("stripes must be positive");
+        }
+        int size = Integer.highestOneBit(requestedStripes);
+        return size < requestedStripes ? size << 1 : size;
+    }
+
+    ReentrantLock stripeFor(String name) {
+        int hash = name.hashCode();
+        // 하위 비트만 쓰는 mask 연산 전에 상위 비트를 섞어 분포를 고르게 함
+        return stripes[(hash ^ (hash >>> 16)) & mask];
+    }
+
+    /**
+     * 스트라이프 획득 시도
+     *
+     * <p>즉시 획득하지 못하면 contended 콜백을 호출한 뒤 남은 시간만큼 대기합니다.
+     *
+     * @return 획득 여부 (인터럽트 시 인터럽트 상태를 복원하고 false)
+     */
+    static boolean tryAcquire(ReentrantLock stripe, long timeoutNanos, Runnable contended) {
+        if (stripe.tryLock()) {
+            return true;
+        }
+        contended.run();
+        try {
+            return stripe.tryLock(Math.max(0L, timeoutNanos), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.domain.common.vo.LockKey;
+import com.zaxxer.hikari.HikariDataSource;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * MySqlNamedDistributedLock - MySQL 네임드 락 기반 DistributedLockPort 구현
+ *
+ * <p>{@code GET_LOCK} / {@code RELEASE_LOCK}으로 노드 간 배제를 보장합니다. 네임드 락은 세션(커넥션) 단위이므로 락을 보유하는 동안 커넥션
+ * 하나를 점유하며, 이 커넥션은 JPA와 분리된 전용 풀에서 가져옵니다.
+ *
+ * <ul>
+ *   <li>JVM 내 경합은 {@link LockStripes}에서 먼저 해소합니다. 같은 노드에서 같은 키를 기다리는 스레드가 여럿이어도 {@code GET_LOCK}으로
+ *       대기하는 커넥션은 하나뿐이므로 전용 풀이 대기자로 고갈되지 않습니다.
+ *   <li>같은 스레드의 재획득은 보유 횟수만 늘립니다 (재진입).
+ *   <li>한 노드가 동시에 보유하는 락은 스트라이프 수를 넘지 않으므로, 전용 풀은 {@link #poolSizeFor(int)} 이상으로 둡니다. 풀이 고갈되어 커넥션을
+ *       얻지 못하면 대기 시간 내 획득 실패(false)로 처리합니다.
+ *   <li>leaseTime은 강제하지 않습니다. 노드가 죽으면 커넥션 종료와 함께 MySQL이 락을 해제하며, 초과 보유 여부는 메트릭으로 기록합니다.
+ *   <li>MySQL 락 이름은 최대 64자이므로, 더 긴 키는 SHA-256 해시(64자 hex)로 변환합니다.
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class MySqlNamedDistributedLock implements DistributedLockPort, AutoCloseable {
+
+    public static final String IMPLEMENTATION = "mysql";
+
+    private static final int MAX_LOCK_NAME_LENGTH = 64;
+    private static final String GET_LOCK = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK = "SELECT RELEASE_LOCK(?)";
+    private static final String IS_USED_LOCK = "SELECT IS_USED_LOCK(?)";
+
+    private final HikariDataSource lockDataSource;
+    private final LockStripes stripes;
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final DistributedLockMetrics metrics;
+
+    public MySqlNamedDistributedLock(
+            HikariDataSource lockDataSource, int stripes, DistributedLockMetrics metrics) {
+        this.lockDataSource = lockDataSource;
+        this.stripes = new LockStripes(stripes);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean tryLock(LockKey key, long waitTime, long leaseTime, TimeUnit unit) {
+        String name = lockName(key);
+        Session current = sessions.get(name);
+        if (current != null && current.isOwnedByCurrentThread()) {
+            current.reenter();
+            return true;
+        }
+
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + unit.toNanos(waitTime);
+        // JVM 내 경합과 MySQL 경합을 합쳐 획득 시도당 한 번만 기록
+        AtomicBoolean contended = new AtomicBoolean();
+        Runnable onContention =
+                () -> {
+                    if (contended.compareAndSet(false, true)) {
+                        metrics.recordContention(key);
+                    }
+                };
+
+        ReentrantLock stripe = stripes.stripeFor(name);
+        if (!LockStripes.tryAcquire(stripe, deadlineNanos - startNanos, onContention)) {
+            metrics.recordTimeout(key, System.nanoTime() - startNanos);
+            return false;
+        }
+
+        Connection connection;
+        try {
+            connection = lockDataSource.getConnection();
+        } catch (SQLTransientConnectionException e) {
+            // 풀 고갈은 락 경합과 같게 취급하여 호출자의 타임아웃 처리로 넘김
+            stripe.unlock();
+            onContention.run();
+            metrics.recordTimeout(key, System.nanoTime() - startNanos);
+            return false;
+        } catch (SQLException e) {
+            stripe.unlock();
+            throw new DataAccessResourceFailureException(
+                    "Failed to acquire named lock: " + name, e);
+        }
+
+        try {
+            boolean acquired = getLock(connection, name, 0);
+            if (!acquired) {
+                onContention.run();
+                long remainingSeconds = remainingSeconds(deadlineNanos);
+                acquired = remainingSeconds > 0 && getLock(connection, name, remainingSeconds);
+            }
+
+            long waitedNanos = System.nanoTime() - startNanos;
+            if (!acquired) {
+                connection.close();
+                stripe.unlock();
+                metrics.recordTimeout(key, waitedNanos);
+                return false;
+            }
+            sessions.put(name, new Session(connection, System.nanoTime(), unit.toNanos(leaseTime)));
+            metrics.recordAcquired(key, waitedNanos);
+            return true;
+        } catch (SQLException e) {
+            discard(connection);
+            stripe.unlock();
+            throw new DataAccessResourceFailureException(
+                    "Failed to acquire named lock: " + name, e);
+        }
+    }
+
+    @Override
+    public void unlock(LockKey key) {
+        String name = lockName(key);
+        Session session = sessions.get(name);
+        if (session == null || !session.isOwnedByCurrentThread()) {
+            return;
+        }
+        if (session.exit()) {
+            return;
+        }
+
+        sessions.remove(name);
+        try {
+            releaseLock(session.connection(), name);
+            session.connection().close();
+        } catch (SQLException e) {
+            // 락이 남은 커넥션이 풀로 돌아가지 않도록 폐기 (커넥션 종료 시 MySQL이 락 해제)
+            discard(session.connection());
+            throw new DataAccessResourceFailureException(
+                    "Failed to release named lock: " + name, e);
+        } finally {
+            stripes.stripeFor(name).unlock();
+            metrics.recordReleased(
+                    key, System.nanoTime() - session.acquiredNanos(), session.leaseNanos());
+        }
+    }
+
+    @Override
+    public boolean isHeldByCurrentThread(LockKey key) {
+        Session session = sessions.get(lockName(key));
+        return session != null && session.isOwnedByCurrentThread();
+    }
+
+    @Override
+    public boolean isLocked(LockKey key) {
+        String name = lockName(key);
+        if (sessions.containsKey(name)) {
+            return true;
+        }
+        try (Connection connection = lockDataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(IS_USED_LOCK)) {
+            statement.setString(1, name);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getObject(1) != null;
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Failed to check named lock: " + name, e);
+        }
+    }
+
+    /**
+     * 전용 락 커넥션 풀에 필요한 최소 크기
+     *
+     * <p>노드당 동시 보유 락 상한(스트라이프 수)에 {@link #isLocked(LockKey)} 조회용 1개를 더한 값입니다.
+     *
+     * @param stripes 설정된 스트라이프 수
+     * @return 최소 풀 크기
+     */
+    public static int poolSizeFor(int stripes) {
+        return LockStripes.sizeFor(stripes) + 1;
+    }
+
+    /** 전용 락 커넥션 풀 종료 */
+    @Override
+    public void close() {
+        lockDataSource.close();
+    }
+
+    static String lockName(LockKey key) {
+        String value = key.value();
+        if (value.length() <= MAX_LOCK_NAME_LENGTH) {
+            return value;
+        }
+        try {
+            byte[] digest =
+                    MessageDigest.getInstance("SHA-256")
+                            .digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static boolean getLock(Connection connection, String name, long timeoutSeconds)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(GET_LOCK)) {
+            statement.setString(1, name);
+            statement.setLong(2, timeoutSeconds);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                // 1: 획득, 0: 타임아웃, NULL: 오류 (예: 세션 KILL)
+                return resultSet.next() && resultSet.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(RELEASE_LOCK)) {
+            statement.setString(1, name);
+            statement.executeQuery().close();
+        }
+    }
+
+    private static long remainingSeconds(long deadlineNanos) {
+        long remainingNanos = deadlineNanos - System.nanoTime();
+        return remainingNanos <= 0 ? 0 : TimeUnit.NANOSECONDS.toSeconds(remainingNanos - 1) + 1;
+    }
+
+    private void discard(Connection connection) {
+        if (connection != null) {
+            lockDataSource.evictConnection(connection);
+        }
+    }
+
+    /**
+     * 키 단위 락 세션
+     *
+     * <p>네임드 락을 보유한 커넥션과 보유 정보입니다. 보유 횟수는 소유 스레드만 변경합니다.
+     */
+    private static final class Session {
+
+        private final Thread owner = Thread.currentThread();
+        private final Connection connection;
+        private final long acquiredNanos;
+        private final long leaseNanos;
+        private int reentries;
+
+        private Session(Connection connection, long acquiredNanos, long leaseNanos) {
+            this.connection = connection;
+            this.acquiredNanos = acquiredNanos;
+            this.leaseNanos = leaseNanos;
+        }
+
+        private boolean isOwnedByCurrentThread() {
+            return owner == Thread.currentThread();
+        }
+
+        private void reenter() {
+            reentries++;
+        }
+
+        /** 재진입 1회를 해제하고, 아직 보유 중이면 true */
+        private boolean exit() {
+            if (reentries == 0) {
+                return false;
+            }
+            reentries--;
+            return true;
+        }
+
+        private Connection connection() {
+            return connection;
+        }
+
+        private long acquiredNanos() {
+            return acquiredNanos;
+        }
+
+        private long leaseNanos() {
+            return leaseNanos;
+        }
+    }
+}
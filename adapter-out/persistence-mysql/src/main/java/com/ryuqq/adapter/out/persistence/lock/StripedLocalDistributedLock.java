@@ -0,0 +1,130 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.domain.common.vo.LockKey;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * StripedLocalDistributedLock - JVM 내 lock striping 기반 DistributedLockPort 구현
+ *
+ * <p>단일 노드 배포와 테스트용 구현입니다. 노드 간 배제는 보장하지 않습니다.
+ *
+ * <ul>
+ *   <li>키는 고정 개수의 스트라이프({@link LockStripes}) 중 하나로 배정되어, 키 수와 관계없이 락 객체가 늘지 않습니다.
+ *   <li>같은 스레드의 재획득은 보유 횟수만 늘립니다 (재진입).
+ *   <li>leaseTime은 강제하지 않으며, 초과 보유 여부만 메트릭으로 기록합니다.
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class StripedLocalDistributedLock implements DistributedLockPort {
+
+    public static final String IMPLEMENTATION = "local";
+
+    private final LockStripes stripes;
+    private final Map<String, Hold> holds = new ConcurrentHashMap<>();
+    private final DistributedLockMetrics metrics;
+
+    public StripedLocalDistributedLock(int stripes, DistributedLockMetrics metrics) {
+        this.stripes = new LockStripes(stripes);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean tryLock(LockKey key, long waitTime, long leaseTime, TimeUnit unit) {
+        String name = key.value();
+        Hold current = holds.get(name);
+        if (current != null && current.isOwnedByCurrentThread()) {
+            current.reenter();
+            return true;
+        }
+
+        long startNanos = System.nanoTime();
+        ReentrantLock stripe = stripes.stripeFor(name);
+        boolean acquired =
+                LockStripes.tryAcquire(
+                        stripe, unit.toNanos(waitTime), () -> metrics.recordContention(key));
+        long waitedNanos = System.nanoTime() - startNanos;
+
+        if (!acquired) {
+            metrics.recordTimeout(key, waitedNanos);
+            return false;
+        }
+        holds.put(name, new Hold(System.nanoTime(), unit.toNanos(leaseTime)));
+        metrics.recordAcquired(key, waitedNanos);
+        return true;
+    }
+
+    @Override
+    public void unlock(LockKey key) {
+        String name = key.value();
+        Hold hold = holds.get(name);
+        if (hold == null || !hold.isOwnedByCurrentThread()) {
+            return;
+        }
+        if (hold.exit()) {
+            return;
+        }
+
+        holds.remove(name);
+        stripes.stripeFor(name).unlock();
+        metrics.recordReleased(key, System.nanoTime() - hold.acquiredNanos(), hold.leaseNanos());
+    }
+
+    @Override
+    public boolean isHeldByCurrentThread(LockKey key) {
+        Hold hold = holds.get(key.value());
+        return hold != null && hold.isOwnedByCurrentThread();
+    }
+
+    @Override
+    public boolean isLocked(LockKey key) {
+        return holds.containsKey(key.value());
+    }
+
+    /**
+     * 키 단위 보유 정보
+     *
+     * <p>보유 횟수는 소유 스레드만 변경합니다.
+     */
+    private static final class Hold {
+
+        private final Thread owner = Thread.currentThread();
+        private final long acquiredNanos;
+        private final long leaseNanos;
+        private int reentries;
+
+        private Hold(long acquiredNanos, long leaseNanos) {
+            this.acquiredNanos = acquiredNanos;
+            this.leaseNanos = leaseNanos;
+        }
+
+        private boolean isOwnedByCurrentThread() {
+            return owner == Thread.currentThread();
+        }
+
+        private void reenter() {
+            reentries++;
+        }
+
+        /** 재진입 1회를 해제하고, 아직 보유 중이면 true */
+        private boolean exit() {
+            if (reentries == 0) {
+                return false;
+            }
+            reentries--;
+            return true;
+        }
+
+        private long acquiredNanos() {
+            return acquiredNanos;
+        }
+
+        private long leaseNanos() {
+            return leaseNanos;
+        }
+    }
+}
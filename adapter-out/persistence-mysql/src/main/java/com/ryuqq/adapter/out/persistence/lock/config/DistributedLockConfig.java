@@ -0,0 +1,111 @@
+package com.ryuqq.adapter.out.persistence.lock.config;
+
+import com.ryuqq.adapter.out.persistence.lock.DistributedLockMetrics;
+import com.ryuqq.adapter.out.persistence.lock.MySqlNamedDistributedLock;
+import com.ryuqq.adapter.out.persistence.lock.StripedLocalDistributedLock;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DistributedLockConfig - DistributedLockPort 구현 선택
+ *
+ * <p>{@code persistence.lock.mode}로 구현을 선택합니다.
+ *
+ * <ul>
+ *   <li>{@code local} (기본값): {@link StripedLocalDistributedLock} - 단일 노드/테스트용
+ *   <li>{@code mysql}: {@link MySqlNamedDistributedLock} - 다중 노드용, 전용 커넥션 풀 사용 (유휴 1개부터 필요 시 확장)
+ * </ul>
+ *
+ * <p>락 전용 풀 크기를 지정하지 않으면(0) 노드당 동시 보유 락 상한인 스트라이프 수에 맞춰 정합니다. 더 작게 지정하면 경고를 남기며, 풀이 고갈되면 락 획득 실패로
+ * 처리됩니다.
+ *
+ * <p>네이티브 이미지(AOT)에서는 {@code @ConditionalOnProperty}가 빌드 시점에 고정되므로 런타임 값으로 구현을 고릅니다.
+ *
+ * <p>락 전용 풀은 DataSource 빈으로 등록하지 않습니다. 등록하면 Spring Boot의 기본 DataSource 자동 설정이 비활성화되기 때문입니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class DistributedLockConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DistributedLockConfig.class);
+
+    private static final String LOCK_POOL_NAME = "HikariPool-NamedLock";
+    private static final String MODE_LOCAL = "local";
+    private static final String MODE_MYSQL = "mysql";
+
+    @Bean
+    public DistributedLockPort distributedLockPort(
+            @Value("${persistence.lock.mode:local}") String mode,
+            @Value("${persistence.lock.stripes:64}") int stripes,
+            @Value("${persistence.lock.pool.maximum-pool-size:0}") int maximumPoolSize,
+            @Value("${persistence.lock.pool.connection-timeout:3000}") long connectionTimeout,
+            DataSourceProperties dataSourceProperties,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return switch (mode) {
+            case MODE_LOCAL ->
+                    new StripedLocalDistributedLock(
+                            stripes,
+                            metrics(meterRegistry, StripedLocalDistributedLock.IMPLEMENTATION));
+            case MODE_MYSQL ->
+                    mySqlNamedDistributedLock(
+                            dataSourceProperties,
+                            stripes,
+                            maximumPoolSize,
+                            connectionTimeout,
+                            meterRegistry);
+            default ->
+                    throw new IllegalStateException("Unsupported persistence.lock.mode: " + mode);
+        };
+    }
+
+    private static DistributedLockPort mySqlNamedDistributedLock(
+            DataSourceProperties dataSourceProperties,
+            int stripes,
+            int maximumPoolSize,
+            long connectionTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        int requiredPoolSize = MySqlNamedDistributedLock.poolSizeFor(stripes);
+        int poolSize = maximumPoolSize > 0 ? maximumPoolSize : requiredPoolSize;
+        if (poolSize < requiredPoolSize) {
+            log.warn(
+                    "락 전용 풀이 동시 보유 가능한 락 수보다 작음, 고갈 시 락 획득 실패: poolSize={}, required={}",
+                    poolSize,
+                    requiredPoolSize);
+        }
+
+        HikariConfig hikariConfig = new HikariConfig();
+        hikariConfig.setPoolName(LOCK_POOL_NAME);
+        hikariConfig.setJdbcUrl(dataSourceProperties.determineUrl());
+        hikariConfig.setUsername(dataSourceProperties.determineUsername());
+        hikariConfig.setPassword(dataSourceProperties.determinePassword());
+        hikariConfig.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        hikariConfig.setMaximumPoolSize(poolSize);
+        hikariConfig.setMinimumIdle(1);
+        hikariConfig.setConnectionTimeout(connectionTimeout);
+        // 네임드 락은 트랜잭션과 무관하며, 락 보유 중 커넥션 점유는 정상 동작이므로 누수 감지 비활성화
+        hikariConfig.setAutoCommit(true);
+        hikariConfig.setLeakDetectionThreshold(0);
+
+        return new MySqlNamedDistributedLock(
+                new HikariDataSource(hikariConfig),
+                stripes,
+                metrics(meterRegistry, MySqlNamedDistributedLock.IMPLEMENTATION));
+    }
+
+    private static DistributedLockMetrics metrics(
+            ObjectProvider<MeterRegistry> meterRegistry, String implementation) {
+        return new DistributedLockMetrics(
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry), implementation);
+    }
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.adapter.out.persistence.mcp.adapter;
 
+import com.ryuqq.adapter.out.persistence.dictionary.CodeDictionary;
+import com.ryuqq.adapter.out.persistence.dictionary.ReferenceDictionaries;
 import com.ryuqq.adapter.out.persistence.mcp.dto.ArchUnitTestRow;
 import com.ryuqq.adapter.out.persistence.mcp.dto.ChecklistItemRow;
 import com.ryuqq.adapter.out.persistence.mcp.dto.ClassTemplateRow;
@@ -30,6 +32,7 @@ import com.ryuqq.application.mcp.dto.context.ValidationZeroToleranceDto;
 import com.ryuqq.application.mcp.dto.context.ZeroToleranceDto;
 import com.ryuqq.application.mcp.port.out.McpContextQueryPort;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -43,6 +46,8 @@ import org.springframework.stereotype.Component;
  *
  * <p>N+1 문제 해결을 위해 IN절과 메모리 집계를 활용합니다.
  *
+ * <p>ClassType/Layer의 id ↔ code 변환은 DB 조회나 JOIN 대신 {@link ReferenceDictionaries}로 처리합니다.
+ *
  * <p>ADP-001: Adapter 명명 규칙 준수.
  *
  * @author ryu-qqq
@@ -53,9 +58,12 @@ import org.springframework.stereotype.Component;
 public class McpContextQueryAdapter implements McpContextQueryPort {
 
     private final McpContextQueryDslRepository repository;
+    private final ReferenceDictionaries dictionaries;
 
-    public McpContextQueryAdapter(McpContextQueryDslRepository repository) {
+    public McpContextQueryAdapter(
+            McpContextQueryDslRepository repository, ReferenceDictionaries dictionaries) {
         this.repository = repository;
+        this.dictionaries = dictionaries;
     }
 
     @Override
@@ -69,8 +77,9 @@ public class McpContextQueryAdapter implements McpContextQueryPort {
     @Override
     public List<CodingRuleWithDetailsDto> findCodingRulesWithDetails(
             Long conventionId, Long classTypeId) {
-        // 0. classTypeId → code 변환
-        String classTypeCode = repository.findClassTypeCodeById(classTypeId);
+        // 0. classTypeId → code 변환 (사전 조회)
+        String classTypeCode =
+                classTypeId != null ? dictionaries.classTypes().codeOf(classTypeId) : null;
 
         // 1. CodingRule 기본 정보 조회 (classTypeCode 필터 적용)
         List<CodingRuleRow> rules =
@@ -310,31 +319,52 @@ public class McpContextQueryAdapter implements McpContextQueryPort {
     @Override
     public List<ValidationZeroToleranceDto> findZeroToleranceRulesForValidation(
             Long architectureId, List<String> layerCodes, List<String> classTypes) {
+        CodeDictionary layers = dictionaries.layers();
+        List<Long> layerIds = toLayerIds(layers, architectureId, layerCodes);
+        if (layerIds.isEmpty()) {
+            return List.of();
+        }
+
         List<ValidationZeroToleranceRow> rows =
-                repository.findZeroToleranceRulesForValidation(
-                        architectureId, layerCodes, classTypes);
+                repository.findZeroToleranceRulesForValidation(layerIds, classTypes);
 
-        return rows.stream().map(this::toValidationZeroToleranceDto).toList();
+        return rows.stream().map(row -> toValidationZeroToleranceDto(row, layers)).toList();
     }
 
     @Override
     public List<ValidationChecklistDto> findChecklistItemsForValidation(
             Long architectureId, List<String> layerCodes, List<String> classTypes) {
+        CodeDictionary layers = dictionaries.layers();
+        List<Long> layerIds = toLayerIds(layers, architectureId, layerCodes);
+        if (layerIds.isEmpty()) {
+            return List.of();
+        }
+
         List<ValidationChecklistRow> rows =
-                repository.findChecklistItemsForValidation(architectureId, layerCodes, classTypes);
+                repository.findChecklistItemsForValidation(layerIds, classTypes);
+
+        return rows.stream().map(row -> toValidationChecklistDto(row, layers)).toList();
+    }
 
-        return rows.stream().map(this::toValidationChecklistDto).toList();
+    /** 아키텍처의 레이어 코드 필터를 layerId 목록으로 변환 (필터가 비어 있으면 아키텍처의 전체 레이어) */
+    private static List<Long> toLayerIds(
+            CodeDictionary layers, Long architectureId, List<String> layerCodes) {
+        long[] ids =
+                layerCodes != null && !layerCodes.isEmpty()
+                        ? layers.idsOf(architectureId, layerCodes)
+                        : layers.idsIn(architectureId);
+        return Arrays.stream(ids).boxed().toList();
     }
 
     private ValidationZeroToleranceDto toValidationZeroToleranceDto(
-            ValidationZeroToleranceRow row) {
+            ValidationZeroToleranceRow row, CodeDictionary layers) {
         List<String> appliesTo =
                 row.appliesTo() != null && !row.appliesTo().isBlank()
                         ? List.of(row.appliesTo().split(","))
                         : List.of();
 
         return new ValidationZeroToleranceDto(
-                row.layerCode(),
+                layers.codeOf(row.layerId()),
                 row.ruleCode(),
                 row.ruleName(),
                 appliesTo,
@@ -344,9 +374,10 @@ public class McpContextQueryAdapter implements McpContextQueryPort {
                 row.autoRejectPr());
     }
 
-    private ValidationChecklistDto toValidationChecklistDto(ValidationChecklistRow row) {
+    private ValidationChecklistDto toValidationChecklistDto(
+            ValidationChecklistRow row, CodeDictionary layers) {
         return new ValidationChecklistDto(
-                row.layerCode(),
+                layers.codeOf(row.layerId()),
                 row.ruleCode(),
                 row.checkDescription(),
                 row.severity(),
@@ -0,0 +1,53 @@
+package com.ryuqq.adapter.out.persistence.mcp.adapter;
+
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker;
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker.Edge;
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker.Report;
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndexProvider;
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery.ImportEdge;
+import com.ryuqq.application.mcp.dto.response.ImportEdgeViolationResult;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
+import com.ryuqq.application.mcp.port.out.McpImportEdgeQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * McpImportEdgeQueryAdapter - import 간선 레이어 의존성 검사 Adapter
+ *
+ * <p>McpImportEdgeQueryPort를 구현합니다. DB를 직접 조회하지 않고 {@link ModulePathIndexProvider}가 보관한 {@link
+ * ImportEdgeChecker}로 간선을 검사합니다.
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpImportEdgeQueryAdapter implements McpImportEdgeQueryPort {
+
+    private final ModulePathIndexProvider indexProvider;
+
+    public McpImportEdgeQueryAdapter(ModulePathIndexProvider indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+
+    @Override
+    public ValidateImportEdgesResult findViolations(Long architectureId, List<ImportEdge> edges) {
+        List<Edge> checkerEdges =
+                edges.stream().map(edge -> new Edge(edge.fromPackage(), edge.toPackage())).toList();
+        Report report = indexProvider.importEdgeChecker().check(architectureId, checkerEdges);
+        List<ImportEdgeViolationResult> violations =
+                report.violations().stream()
+                        .map(
+                                violation ->
+                                        new ImportEdgeViolationResult(
+                                                violation.fromPackage(),
+                                                violation.toPackage(),
+                                                violation.fromLayer(),
+                                                violation.toLayer(),
+                                                violation.violationType()))
+                        .toList();
+        return new ValidateImportEdgesResult(
+                violations, report.checkedCount(), report.unresolvedCount());
+    }
+}
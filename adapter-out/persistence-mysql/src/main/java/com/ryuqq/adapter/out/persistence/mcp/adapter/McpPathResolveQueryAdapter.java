@@ -0,0 +1,71 @@
+package com.ryuqq.adapter.out.persistence.mcp.adapter;
+
+import com.ryuqq.adapter.out.persistence.pathindex.ClassNameClassifier.Classification;
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndex;
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndexProvider;
+import com.ryuqq.application.mcp.dto.response.ClassifiedClassNameResult;
+import com.ryuqq.application.mcp.dto.response.ResolvedPathResult;
+import com.ryuqq.application.mcp.port.out.McpPathResolveQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * McpPathResolveQueryAdapter - 파일 경로 해석 / 클래스명 분류 Adapter
+ *
+ * <p>McpPathResolveQueryPort를 구현합니다. DB를 직접 조회하지 않고 {@link ModulePathIndexProvider}가 보관한 컴파일된 색인과
+ * 분류기를 사용하며, 요청 하나의 모든 경로(클래스명)는 같은 스냅샷으로 해석합니다.
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpPathResolveQueryAdapter implements McpPathResolveQueryPort {
+
+    private final ModulePathIndexProvider indexProvider;
+
+    public McpPathResolveQueryAdapter(ModulePathIndexProvider indexProvider) {
+        this.indexProvider = indexProvider;
+    }
+
+    @Override
+    public List<ResolvedPathResult> findByPaths(Long architectureId, List<String> paths) {
+        ModulePathIndex index = indexProvider.index();
+        return paths.stream().map(path -> resolve(index, architectureId, path)).toList();
+    }
+
+    @Override
+    public List<ClassifiedClassNameResult> findByClassNames(
+            Long architectureId, List<String> classNames) {
+        return indexProvider.classifier().classifyAll(architectureId, classNames).stream()
+                .map(McpPathResolveQueryAdapter::toResult)
+                .toList();
+    }
+
+    private static ClassifiedClassNameResult toResult(Classification classification) {
+        return new ClassifiedClassNameResult(
+                classification.className(),
+                classification.classTypeId(),
+                classification.classType(),
+                classification.structureId(),
+                classification.pathPattern(),
+                classification.moduleId());
+    }
+
+    private static ResolvedPathResult resolve(
+            ModulePathIndex index, Long architectureId, String path) {
+        return index.resolve(architectureId, path)
+                .map(
+                        match ->
+                                new ResolvedPathResult(
+                                        path,
+                                        match.moduleId(),
+                                        match.modulePath(),
+                                        match.structureId(),
+                                        match.pathPattern(),
+                                        match.classTypeId(),
+                                        match.classType()))
+                .orElseGet(() -> ResolvedPathResult.unresolved(path));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ryuqq.adapter.out.persistence.mcp.adapter;
+
+import com.ryuqq.adapter.out.persistence.mcp.dto.ScaffoldFileTemplateRow;
+import com.ryuqq.adapter.out.persistence.mcp.repository.McpScaffoldQueryDslRepository;
+import com.ryuqq.application.mcp.dto.response.ScaffoldClassTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldModuleResult;
+import com.ryuqq.application.mcp.port.out.McpScaffoldQueryPort;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+
+/**
+ * McpScaffoldQueryAdapter - 모듈 스캐폴드용 템플릿 위치 조회 Adapter
+ *
+ * <p>McpScaffoldQueryPort를 구현합니다.
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpScaffoldQueryAdapter implements McpScaffoldQueryPort {
+
+    private final McpScaffoldQueryDslRepository repository;
+
+    public McpScaffoldQueryAdapter(McpScaffoldQueryDslRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public Optional<ScaffoldModuleResult> findModule(Long moduleId) {
+        return repository
+                .findModule(moduleId)
+                .map(
+                        row ->
+                                new ScaffoldModuleResult(
+                                        row.moduleId(),
+                                        row.modulePath(),
+                                        row.architectureId(),
+                                        row.techStackId()));
+    }
+
+    @Override
+    public List<ScaffoldClassTemplateResult> findClassTemplates(Long moduleId) {
+        return repository.findClassTemplates(moduleId).stream()
+                .map(
+                        row ->
+                                new ScaffoldClassTemplateResult(
+                                        row.templateId(), row.pathPattern(), row.namingPattern()))
+                .toList();
+    }
+
+    @Override
+    public List<ScaffoldFileTemplateResult> findResourceTemplates(Long moduleId) {
+        return toResults(repository.findResourceTemplates(moduleId));
+    }
+
+    @Override
+    public List<ScaffoldFileTemplateResult> findConfigFileTemplates(
+            Long techStackId, Long architectureId, List<String> toolTypes) {
+        return toResults(
+                repository.findConfigFileTemplates(techStackId, architectureId, toolTypes));
+    }
+
+    private static List<ScaffoldFileTemplateResult> toResults(List<ScaffoldFileTemplateRow> rows) {
+        return rows.stream()
+                .map(row -> new ScaffoldFileTemplateResult(row.templateId(), row.filePath()))
+                .toList();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ryuqq.adapter.out.persistence.mcp.adapter;
+
+import com.ryuqq.adapter.out.persistence.mcp.dto.TemplateSourceRow;
+import com.ryuqq.adapter.out.persistence.mcp.dto.TemplateVersionRow;
+import com.ryuqq.adapter.out.persistence.mcp.repository.McpTemplateSourceQueryDslRepository;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.response.TemplateSourceResult;
+import com.ryuqq.application.mcp.dto.response.TemplateVersionResult;
+import com.ryuqq.application.mcp.port.out.McpTemplateSourceQueryPort;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * McpTemplateSourceQueryAdapter - 템플릿 렌더링용 원문/버전 조회 Adapter
+ *
+ * <p>McpTemplateSourceQueryPort를 구현합니다. 템플릿 종류에 따라 ClassTemplate, ConfigFileTemplate,
+ * ResourceTemplate을 조회합니다.
+ *
+ * <p>ADP-001: Adapter 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpTemplateSourceQueryAdapter implements McpTemplateSourceQueryPort {
+
+    private final McpTemplateSourceQueryDslRepository repository;
+
+    public McpTemplateSourceQueryAdapter(McpTemplateSourceQueryDslRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    public List<TemplateVersionResult> findVersions(
+            TemplateType templateType, Collection<Long> templateIds) {
+        List<TemplateVersionRow> rows =
+                switch (templateType) {
+                    case CLASS -> repository.findClassTemplateVersions(templateIds);
+                    case CONFIG_FILE -> repository.findConfigFileTemplateVersions(templateIds);
+                    case RESOURCE -> repository.findResourceTemplateVersions(templateIds);
+                };
+        return rows.stream()
+                .map(row -> new TemplateVersionResult(row.templateId(), row.updatedAt()))
+                .toList();
+    }
+
+    @Override
+    public List<TemplateSourceResult> findSources(
+            TemplateType templateType, Collection<Long> templateIds) {
+        List<TemplateSourceRow> rows =
+                switch (templateType) {
+                    case CLASS -> repository.findClassTemplateSources(templateIds);
+                    case CONFIG_FILE -> repository.findConfigFileTemplateSources(templateIds);
+                    case RESOURCE -> repository.findResourceTemplateSources(templateIds);
+                };
+        return rows.stream()
+                .map(
+                        row ->
+                                new TemplateSourceResult(
+                                        row.templateId(), row.updatedAt(), row.source()))
+                .toList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.ryuqq.adapter.out.persistence.mcp.dto;
+
+/**
+ * ScaffoldClassTemplateRow - 스캐폴드용 ClassTemplate 위치 DTO (PackageStructure + ClassTemplate)
+ *
+ * <p>QueryDSL Projection용 DTO입니다. template_code는 조회하지 않습니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param pathPattern 패키지 경로 패턴
+ * @param namingPattern 클래스명 패턴
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldClassTemplateRow(Long templateId, String pathPattern, String namingPattern) {}
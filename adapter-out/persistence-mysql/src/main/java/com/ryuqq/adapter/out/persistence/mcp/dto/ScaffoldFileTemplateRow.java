@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.mcp.dto;
+
+/**
+ * ScaffoldFileTemplateRow - 스캐폴드용 파일 템플릿 위치 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다. 템플릿 본문은 조회하지 않습니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param filePath 파일 경로
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldFileTemplateRow(Long templateId, String filePath) {}
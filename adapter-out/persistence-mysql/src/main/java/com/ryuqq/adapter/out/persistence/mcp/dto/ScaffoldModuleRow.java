@@ -0,0 +1,16 @@
+package com.ryuqq.adapter.out.persistence.mcp.dto;
+
+/**
+ * ScaffoldModuleRow - 스캐폴드 대상 모듈 DTO (Module + Layer + Architecture)
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param moduleId 모듈 ID
+ * @param modulePath 모듈 경로
+ * @param architectureId 아키텍처 ID
+ * @param techStackId 기술 스택 ID
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldModuleRow(
+        Long moduleId, String modulePath, Long architectureId, Long techStackId) {}
@@ -0,0 +1,16 @@
+package com.ryuqq.adapter.out.persistence.mcp.dto;
+
+import java.time.Instant;
+
+/**
+ * TemplateSourceRow - 템플릿 원문 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param updatedAt 수정 일시
+ * @param source 템플릿 원문 (template_code 또는 content)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record TemplateSourceRow(Long templateId, Instant updatedAt, String source) {}
@@ -0,0 +1,15 @@
+package com.ryuqq.adapter.out.persistence.mcp.dto;
+
+import java.time.Instant;
+
+/**
+ * TemplateVersionRow - 템플릿 버전 DTO (원문 제외)
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param updatedAt 수정 일시
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record TemplateVersionRow(Long templateId, Instant updatedAt) {}
@@ -3,11 +3,12 @@ package com.ryuqq.adapter.out.persistence.mcp.dto;
 /**
  * ValidationChecklistRow - Validation Context용 ChecklistItem DTO
  *
- * <p>Layer → Module → Convention → CodingRule → ChecklistItem JOIN 결과를 담습니다.
+ * <p>Module → Convention → CodingRule → ChecklistItem JOIN 결과를 담습니다. 레이어는 ID로만 담고 코드는 레이어 사전으로
+ * 변환합니다.
  *
  * <p>QueryDSL Projection용 DTO입니다.
  *
- * @param layerCode 레이어 코드
+ * @param layerId 레이어 ID
  * @param ruleCode 규칙 코드
  * @param checkDescription 체크 설명
  * @param severity 심각도
@@ -16,7 +17,7 @@ package com.ryuqq.adapter.out.persistence.mcp.dto;
  * @since 1.0.0
  */
 public record ValidationChecklistRow(
-        String layerCode,
+        Long layerId,
         String ruleCode,
         String checkDescription,
         String severity,
@@ -3,11 +3,12 @@ package com.ryuqq.adapter.out.persistence.mcp.dto;
 /**
  * ValidationZeroToleranceRow - Validation Context용 ZeroTolerance DTO
  *
- * <p>Layer → Module → Convention → CodingRule → ZeroToleranceRule JOIN 결과를 담습니다.
+ * <p>Module → Convention → CodingRule → ZeroToleranceRule JOIN 결과를 담습니다. 레이어는 ID로만 담고 코드는 레이어 사전으로
+ * 변환합니다.
  *
  * <p>QueryDSL Projection용 DTO입니다.
  *
- * @param layerCode 레이어 코드
+ * @param layerId 레이어 ID
  * @param ruleCode 규칙 코드
  * @param ruleName 규칙 이름
  * @param appliesTo 적용 대상 (comma separated)
@@ -19,7 +20,7 @@ package com.ryuqq.adapter.out.persistence.mcp.dto;
  * @since 1.0.0
  */
 public record ValidationZeroToleranceRow(
-        String layerCode,
+        Long layerId,
         String ruleCode,
         String ruleName,
         String appliesTo,
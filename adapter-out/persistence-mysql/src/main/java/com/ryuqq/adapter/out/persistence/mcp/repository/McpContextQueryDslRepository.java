@@ -4,7 +4,6 @@ import static com.ryuqq.adapter.out.persistence.architecture.entity.QArchitectur
 import static com.ryuqq.adapter.out.persistence.archunittest.entity.QArchUnitTestJpaEntity.archUnitTestJpaEntity;
 import static com.ryuqq.adapter.out.persistence.checklistitem.entity.QChecklistItemJpaEntity.checklistItemJpaEntity;
 import static com.ryuqq.adapter.out.persistence.classtemplate.entity.QClassTemplateJpaEntity.classTemplateJpaEntity;
-import static com.ryuqq.adapter.out.persistence.classtype.entity.QClassTypeJpaEntity.classTypeJpaEntity;
 import static com.ryuqq.adapter.out.persistence.codingrule.entity.QCodingRuleJpaEntity.codingRuleJpaEntity;
 import static com.ryuqq.adapter.out.persistence.convention.entity.QConventionJpaEntity.conventionJpaEntity;
 import static com.ryuqq.adapter.out.persistence.layer.entity.QLayerJpaEntity.layerJpaEntity;
@@ -132,23 +131,6 @@ public class McpContextQueryDslRepository {
         return query.fetch();
     }
 
-    /**
-     * classTypeId → code 변환 조회
-     *
-     * @param classTypeId 클래스 타입 ID
-     * @return 클래스 타입 코드 (없으면 null)
-     */
-    public String findClassTypeCodeById(Long classTypeId) {
-        if (classTypeId == null) {
-            return null;
-        }
-        return queryFactory
-                .select(classTypeJpaEntity.code)
-                .from(classTypeJpaEntity)
-                .where(classTypeJpaEntity.id.eq(classTypeId), classTypeJpaEntity.deletedAt.isNull())
-                .fetchOne();
-    }
-
     /**
      * Query 2-2: RuleExample 조회 (IN절 사용)
      *
@@ -465,23 +447,23 @@ public class McpContextQueryDslRepository {
     /**
      * Query V-1: ZeroToleranceRule 조회 (Validation Context용)
      *
-     * <p>Layer → Module → Convention(Active) → CodingRule → ZeroToleranceRule JOIN.
+     * <p>Module → Convention(Active) → CodingRule → ZeroToleranceRule JOIN.
      *
-     * <p>layerCodes, classTypes 필터를 지원합니다.
+     * <p>Layer는 JOIN하지 않습니다. 호출자가 레이어 사전으로 아키텍처/레이어 코드를 삭제되지 않은 layerId 목록으로 변환해 전달하고, 결과의 layerId를
+     * 다시 코드로 변환합니다.
      *
-     * @param architectureId 아키텍처 ID
-     * @param layerCodes 레이어 코드 필터 목록 (empty면 전체 조회)
+     * @param layerIds 대상 레이어 ID 목록 (non-empty)
      * @param classTypes 클래스 타입 필터 목록 (empty면 전체 조회)
-     * @return ZeroTolerance + CodingRule + Layer 정보
+     * @return ZeroTolerance + CodingRule + layerId 정보
      */
     public List<ValidationZeroToleranceRow> findZeroToleranceRulesForValidation(
-            Long architectureId, List<String> layerCodes, List<String> classTypes) {
+            List<Long> layerIds, List<String> classTypes) {
         var query =
                 queryFactory
                         .select(
                                 Projections.constructor(
                                         ValidationZeroToleranceRow.class,
-                                        layerJpaEntity.code,
+                                        moduleJpaEntity.layerId,
                                         codingRuleJpaEntity.code,
                                         codingRuleJpaEntity.name,
                                         codingRuleJpaEntity.appliesTo,
@@ -496,21 +478,13 @@ public class McpContextQueryDslRepository {
                         .on(codingRuleJpaEntity.conventionId.eq(conventionJpaEntity.id))
                         .join(moduleJpaEntity)
                         .on(conventionJpaEntity.moduleId.eq(moduleJpaEntity.id))
-                        .join(layerJpaEntity)
-                        .on(moduleJpaEntity.layerId.eq(layerJpaEntity.id))
                         .where(
-                                layerJpaEntity.architectureId.eq(architectureId),
+                                moduleJpaEntity.layerId.in(layerIds),
                                 conventionJpaEntity.isActive.isTrue(),
                                 zeroToleranceRuleJpaEntity.deletedAt.isNull(),
                                 codingRuleJpaEntity.deletedAt.isNull(),
                                 conventionJpaEntity.deletedAt.isNull(),
-                                moduleJpaEntity.deletedAt.isNull(),
-                                layerJpaEntity.deletedAt.isNull());
-
-        // 레이어 코드 필터
-        if (layerCodes != null && !layerCodes.isEmpty()) {
-            query.where(layerJpaEntity.code.in(layerCodes));
-        }
+                                moduleJpaEntity.deletedAt.isNull());
 
         // 클래스 타입 필터 (appliesTo에 포함된 경우)
         if (classTypes != null && !classTypes.isEmpty()) {
@@ -524,29 +498,28 @@ public class McpContextQueryDslRepository {
             }
         }
 
-        return query.orderBy(layerJpaEntity.id.asc(), codingRuleJpaEntity.id.asc()).fetch();
+        return query.orderBy(moduleJpaEntity.layerId.asc(), codingRuleJpaEntity.id.asc()).fetch();
     }
 
     /**
      * Query V-2: ChecklistItem 조회 (Validation Context용)
      *
-     * <p>Layer → Module → Convention(Active) → CodingRule → ChecklistItem JOIN.
+     * <p>Module → Convention(Active) → CodingRule → ChecklistItem JOIN.
      *
-     * <p>layerCodes, classTypes 필터를 지원합니다.
+     * <p>Layer는 JOIN하지 않습니다 ({@link #findZeroToleranceRulesForValidation(List, List)} 참조).
      *
-     * @param architectureId 아키텍처 ID
-     * @param layerCodes 레이어 코드 필터 목록 (empty면 전체 조회)
+     * @param layerIds 대상 레이어 ID 목록 (non-empty)
      * @param classTypes 클래스 타입 필터 목록 (empty면 전체 조회)
-     * @return ChecklistItem + CodingRule + Layer 정보
+     * @return ChecklistItem + CodingRule + layerId 정보
      */
     public List<ValidationChecklistRow> findChecklistItemsForValidation(
-            Long architectureId, List<String> layerCodes, List<String> classTypes) {
+            List<Long> layerIds, List<String> classTypes) {
         var query =
                 queryFactory
                         .select(
                                 Projections.constructor(
                                         ValidationChecklistRow.class,
-                                        layerJpaEntity.code,
+                                        moduleJpaEntity.layerId,
                                         codingRuleJpaEntity.code,
                                         checklistItemJpaEntity.checkDescription,
                                         codingRuleJpaEntity.severity.stringValue(),
@@ -558,21 +531,13 @@ public class McpContextQueryDslRepository {
                         .on(codingRuleJpaEntity.conventionId.eq(conventionJpaEntity.id))
                         .join(moduleJpaEntity)
                         .on(conventionJpaEntity.moduleId.eq(moduleJpaEntity.id))
-                        .join(layerJpaEntity)
-                        .on(moduleJpaEntity.layerId.eq(layerJpaEntity.id))
                         .where(
-                                layerJpaEntity.architectureId.eq(architectureId),
+                                moduleJpaEntity.layerId.in(layerIds),
                                 conventionJpaEntity.isActive.isTrue(),
                                 checklistItemJpaEntity.deletedAt.isNull(),
                                 codingRuleJpaEntity.deletedAt.isNull(),
                                 conventionJpaEntity.deletedAt.isNull(),
-                                moduleJpaEntity.deletedAt.isNull(),
-                                layerJpaEntity.deletedAt.isNull());
-
-        // 레이어 코드 필터
-        if (layerCodes != null && !layerCodes.isEmpty()) {
-            query.where(layerJpaEntity.code.in(layerCodes));
-        }
+                                moduleJpaEntity.deletedAt.isNull());
 
         // 클래스 타입 필터 (appliesTo에 포함된 경우)
         if (classTypes != null && !classTypes.isEmpty()) {
@@ -586,6 +551,6 @@ public class McpContextQueryDslRepository {
             }
         }
 
-        return query.orderBy(layerJpaEntity.id.asc(), codingRuleJpaEntity.id.asc()).fetch();
+        return query.orderBy(moduleJpaEntity.layerId.asc(), codingRuleJpaEntity.id.asc()).fetch();
     }
 }
@@ -0,0 +1,149 @@
+package com.ryuqq.adapter.out.persistence.mcp.repository;
+
+import static com.ryuqq.adapter.out.persistence.architecture.entity.QArchitectureJpaEntity.architectureJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtemplate.entity.QClassTemplateJpaEntity.classTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.configfiletemplate.entity.QConfigFileTemplateJpaEntity.configFileTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layer.entity.QLayerJpaEntity.layerJpaEntity;
+import static com.ryuqq.adapter.out.persistence.module.entity.QModuleJpaEntity.moduleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.packagestructure.entity.QPackageStructureJpaEntity.packageStructureJpaEntity;
+import static com.ryuqq.adapter.out.persistence.resourcetemplate.entity.QResourceTemplateJpaEntity.resourceTemplateJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.mcp.dto.ScaffoldClassTemplateRow;
+import com.ryuqq.adapter.out.persistence.mcp.dto.ScaffoldFileTemplateRow;
+import com.ryuqq.adapter.out.persistence.mcp.dto.ScaffoldModuleRow;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * McpScaffoldQueryDslRepository - 모듈 스캐폴드용 템플릿 위치 조회
+ *
+ * <p>경로를 만드는 컬럼만 조회하고 TEXT 컬럼(template_code, template_content, content)은 읽지 않습니다. 본문은 {@link
+ * McpTemplateSourceQueryDslRepository}가 컴파일 캐시에 없는 템플릿만 조회합니다.
+ *
+ * <p>예외적으로 JOIN을 허용하여 N+1 문제를 해결합니다.
+ *
+ * <p>REP-002: QueryDSL Repository 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Repository
+public class McpScaffoldQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public McpScaffoldQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * Module + Layer + Architecture 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return 모듈 경로와 아키텍처/기술 스택 ID
+     */
+    public Optional<ScaffoldModuleRow> findModule(Long moduleId) {
+        ScaffoldModuleRow result =
+                queryFactory
+                        .select(
+                                Projections.constructor(
+                                        ScaffoldModuleRow.class,
+                                        moduleJpaEntity.id,
+                                        moduleJpaEntity.modulePath,
+                                        architectureJpaEntity.id,
+                                        architectureJpaEntity.techStackId))
+                        .from(moduleJpaEntity)
+                        .join(layerJpaEntity)
+                        .on(moduleJpaEntity.layerId.eq(layerJpaEntity.id))
+                        .join(architectureJpaEntity)
+                        .on(layerJpaEntity.architectureId.eq(architectureJpaEntity.id))
+                        .where(
+                                moduleJpaEntity.id.eq(moduleId),
+                                moduleJpaEntity.deletedAt.isNull(),
+                                layerJpaEntity.deletedAt.isNull(),
+                                architectureJpaEntity.deletedAt.isNull())
+                        .fetchOne();
+
+        return Optional.ofNullable(result);
+    }
+
+    /**
+     * PackageStructure + ClassTemplate 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return 템플릿 ID/패키지 경로 패턴/클래스명 패턴 (패키지 구조 ID, 템플릿 ID 순)
+     */
+    public List<ScaffoldClassTemplateRow> findClassTemplates(Long moduleId) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ScaffoldClassTemplateRow.class,
+                                classTemplateJpaEntity.id,
+                                packageStructureJpaEntity.pathPattern,
+                                classTemplateJpaEntity.namingPattern))
+                .from(packageStructureJpaEntity)
+                .join(classTemplateJpaEntity)
+                .on(classTemplateJpaEntity.structureId.eq(packageStructureJpaEntity.id))
+                .where(
+                        packageStructureJpaEntity.moduleId.eq(moduleId),
+                        packageStructureJpaEntity.deletedAt.isNull(),
+                        classTemplateJpaEntity.deletedAt.isNull())
+                .orderBy(packageStructureJpaEntity.id.asc(), classTemplateJpaEntity.id.asc())
+                .fetch();
+    }
+
+    /**
+     * ResourceTemplate 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return 템플릿 ID/모듈 기준 파일 경로 (템플릿 ID 순)
+     */
+    public List<ScaffoldFileTemplateRow> findResourceTemplates(Long moduleId) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ScaffoldFileTemplateRow.class,
+                                resourceTemplateJpaEntity.id,
+                                resourceTemplateJpaEntity.filePath))
+                .from(resourceTemplateJpaEntity)
+                .where(
+                        resourceTemplateJpaEntity.moduleId.eq(moduleId),
+                        resourceTemplateJpaEntity.deletedAt.isNull())
+                .orderBy(resourceTemplateJpaEntity.id.asc())
+                .fetch();
+    }
+
+    /**
+     * ConfigFileTemplate 조회 (아키텍처 전용 + 기술 스택 공통)
+     *
+     * @param techStackId 기술 스택 ID
+     * @param architectureId 아키텍처 ID
+     * @param toolTypes 도구 타입 목록
+     * @return 템플릿 ID/저장소 루트 기준 파일 경로 (display_order, ID 순)
+     */
+    public List<ScaffoldFileTemplateRow> findConfigFileTemplates(
+            Long techStackId, Long architectureId, List<String> toolTypes) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ScaffoldFileTemplateRow.class,
+                                configFileTemplateJpaEntity.id,
+                                configFileTemplateJpaEntity.filePath))
+                .from(configFileTemplateJpaEntity)
+                .where(
+                        configFileTemplateJpaEntity.techStackId.eq(techStackId),
+                        configFileTemplateJpaEntity
+                                .architectureId
+                                .eq(architectureId)
+                                .or(configFileTemplateJpaEntity.architectureId.isNull()),
+                        configFileTemplateJpaEntity.toolType.in(toolTypes),
+                        configFileTemplateJpaEntity.deletedAt.isNull())
+                .orderBy(
+                        configFileTemplateJpaEntity.displayOrder.asc(),
+                        configFileTemplateJpaEntity.id.asc())
+                .fetch();
+    }
+}
@@ -0,0 +1,153 @@
+package com.ryuqq.adapter.out.persistence.mcp.repository;
+
+import static com.ryuqq.adapter.out.persistence.classtemplate.entity.QClassTemplateJpaEntity.classTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.configfiletemplate.entity.QConfigFileTemplateJpaEntity.configFileTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.resourcetemplate.entity.QResourceTemplateJpaEntity.resourceTemplateJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.mcp.dto.TemplateSourceRow;
+import com.ryuqq.adapter.out.persistence.mcp.dto.TemplateVersionRow;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * McpTemplateSourceQueryDslRepository - 템플릿 렌더링용 원문/버전 조회
+ *
+ * <p>버전 조회는 id/updated_at만 읽으므로 TEXT 컬럼(template_code, content, template_content)을 전송하지 않습니다. 원문은
+ * 컴파일 캐시에 없는 템플릿만 조회합니다.
+ *
+ * <p>REP-002: QueryDSL Repository 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Repository
+public class McpTemplateSourceQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public McpTemplateSourceQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * ClassTemplate 버전 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시 목록
+     */
+    public List<TemplateVersionRow> findClassTemplateVersions(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateVersionRow.class,
+                                classTemplateJpaEntity.id,
+                                classTemplateJpaEntity.updatedAt))
+                .from(classTemplateJpaEntity)
+                .where(classTemplateJpaEntity.id.in(ids), classTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ClassTemplate 원문 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시/template_code 목록
+     */
+    public List<TemplateSourceRow> findClassTemplateSources(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateSourceRow.class,
+                                classTemplateJpaEntity.id,
+                                classTemplateJpaEntity.updatedAt,
+                                classTemplateJpaEntity.templateCode))
+                .from(classTemplateJpaEntity)
+                .where(classTemplateJpaEntity.id.in(ids), classTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ConfigFileTemplate 버전 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시 목록
+     */
+    public List<TemplateVersionRow> findConfigFileTemplateVersions(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateVersionRow.class,
+                                configFileTemplateJpaEntity.id,
+                                configFileTemplateJpaEntity.updatedAt))
+                .from(configFileTemplateJpaEntity)
+                .where(
+                        configFileTemplateJpaEntity.id.in(ids),
+                        configFileTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ConfigFileTemplate 원문 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시/content 목록
+     */
+    public List<TemplateSourceRow> findConfigFileTemplateSources(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateSourceRow.class,
+                                configFileTemplateJpaEntity.id,
+                                configFileTemplateJpaEntity.updatedAt,
+                                configFileTemplateJpaEntity.content))
+                .from(configFileTemplateJpaEntity)
+                .where(
+                        configFileTemplateJpaEntity.id.in(ids),
+                        configFileTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ResourceTemplate 버전 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시 목록
+     */
+    public List<TemplateVersionRow> findResourceTemplateVersions(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateVersionRow.class,
+                                resourceTemplateJpaEntity.id,
+                                resourceTemplateJpaEntity.updatedAt))
+                .from(resourceTemplateJpaEntity)
+                .where(
+                        resourceTemplateJpaEntity.id.in(ids),
+                        resourceTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * ResourceTemplate 원문 조회
+     *
+     * @param ids 템플릿 ID 목록
+     * @return 템플릿 ID/수정 일시/template_content 목록
+     */
+    public List<TemplateSourceRow> findResourceTemplateSources(Collection<Long> ids) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                TemplateSourceRow.class,
+                                resourceTemplateJpaEntity.id,
+                                resourceTemplateJpaEntity.updatedAt,
+                                resourceTemplateJpaEntity.templateContent))
+                .from(resourceTemplateJpaEntity)
+                .where(
+                        resourceTemplateJpaEntity.id.in(ids),
+                        resourceTemplateJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ryuqq.adapter.out.persistence.outbox.adapter;
+
+import com.ryuqq.adapter.out.persistence.outbox.mapper.OutboxMessageJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.outbox.repository.OutboxMessageJpaRepository;
+import com.ryuqq.application.outbox.port.out.OutboxCommandPort;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxMessageCommandAdapter - 아웃박스 메시지 명령 어댑터
+ *
+ * <p>OutboxCommandPort를 구현합니다. 발행 완료 행은 상태 변경 없이 ID 기반 일괄 DELETE 하여 테이블에 미발행 행만 남깁니다.
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxMessageCommandAdapter implements OutboxCommandPort {
+
+    private final OutboxMessageJpaRepository repository;
+    private final OutboxMessageJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param repository 아웃박스 JPA 레포지토리
+     * @param mapper 아웃박스 Entity-Domain 매퍼
+     */
+    public OutboxMessageCommandAdapter(
+            OutboxMessageJpaRepository repository, OutboxMessageJpaEntityMapper mapper) {
+        this.repository = repository;
+        this.mapper = mapper;
+    }
+
+    /**
+     * 아웃박스 메시지 저장 (신규 INSERT 또는 실패 기록 UPDATE)
+     *
+     * @param messages 저장할 메시지 목록
+     */
+    @Override
+    public void persistAll(List<OutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        repository.saveAll(messages.stream().map(mapper::toEntity).toList());
+    }
+
+    /**
+     * 발행 완료 메시지 일괄 삭제
+     *
+     * @param messageIds 삭제할 메시지 ID 목록
+     */
+    @Override
+    public void deleteAll(List<Long> messageIds) {
+        if (messageIds.isEmpty()) {
+            return;
+        }
+        repository.deleteAllByIdInBatch(messageIds);
+    }
+}
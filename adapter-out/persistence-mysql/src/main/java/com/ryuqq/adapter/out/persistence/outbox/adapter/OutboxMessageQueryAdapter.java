@@ -0,0 +1,60 @@
+package com.ryuqq.adapter.out.persistence.outbox.adapter;
+
+import com.ryuqq.adapter.out.persistence.outbox.dto.OutboxDeferredHeadRow;
+import com.ryuqq.adapter.out.persistence.outbox.mapper.OutboxMessageJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.outbox.repository.OutboxMessageQueryDslRepository;
+import com.ryuqq.application.outbox.port.out.OutboxQueryPort;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxMessageQueryAdapter - 아웃박스 메시지 조회 어댑터
+ *
+ * <p>QADP-002: Adapter에서 @Transactional 금지
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxMessageQueryAdapter implements OutboxQueryPort {
+
+    private final OutboxMessageQueryDslRepository queryDslRepository;
+    private final OutboxMessageJpaEntityMapper mapper;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryDslRepository 아웃박스 QueryDSL 레포지토리
+     * @param mapper 아웃박스 Entity-Domain 매퍼
+     */
+    public OutboxMessageQueryAdapter(
+            OutboxMessageQueryDslRepository queryDslRepository,
+            OutboxMessageJpaEntityMapper mapper) {
+        this.queryDslRepository = queryDslRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public List<OutboxMessage> findDue(Instant now, int limit) {
+        return queryDslRepository.findDue(now, limit).stream().map(mapper::toDomain).toList();
+    }
+
+    @Override
+    public Map<String, Long> findDeferredHeadIds(Collection<String> aggregateKeys, Instant now) {
+        return queryDslRepository.findDeferredHeads(aggregateKeys, now).stream()
+                .collect(
+                        Collectors.toMap(
+                                OutboxDeferredHeadRow::aggregateKey,
+                                OutboxDeferredHeadRow::headId));
+    }
+
+    @Override
+    public Optional<Instant> findOldestPendingCreatedAt() {
+        return queryDslRepository.findOldestPendingCreatedAt();
+    }
+}
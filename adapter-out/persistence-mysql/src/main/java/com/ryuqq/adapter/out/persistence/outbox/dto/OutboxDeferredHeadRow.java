@@ -0,0 +1,12 @@
+package com.ryuqq.adapter.out.persistence.outbox.dto;
+
+/**
+ * OutboxDeferredHeadRow - 키별 재시도 대기 선두 메시지 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param aggregateKey 순서 보장 단위 키
+ * @param headId 재시도 대기 중인 메시지 중 최소 ID
+ * @author ryu-qqq
+ */
+public record OutboxDeferredHeadRow(String aggregateKey, Long headId) {}
@@ -0,0 +1,174 @@
+package com.ryuqq.adapter.out.persistence.outbox.entity;
+
+import com.ryuqq.adapter.out.persistence.common.entity.BaseAuditEntity;
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * OutboxMessageJpaEntity - 도메인 이벤트 아웃박스 JPA 엔티티
+ *
+ * <p>domain_event_outbox 테이블과 매핑됩니다. ID는 INSERT 순서를 따르도록 AUTO_INCREMENT를 사용합니다.
+ *
+ * @author ryu-qqq
+ */
+@Entity
+@Table(name = "domain_event_outbox")
+public class OutboxMessageJpaEntity extends BaseAuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "aggregate_key", length = 150, nullable = false, updatable = false)
+    private String aggregateKey;
+
+    @Column(name = "event_type", length = 100, nullable = false, updatable = false)
+    private String eventType;
+
+    @Column(name = "event_class", length = 255, nullable = false, updatable = false)
+    private String eventClass;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "payload", nullable = false, updatable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private OutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private Instant occurredAt;
+
+    protected OutboxMessageJpaEntity() {}
+
+    private OutboxMessageJpaEntity(
+            Long id,
+            String aggregateKey,
+            String eventType,
+            String eventClass,
+            String payload,
+            OutboxStatus status,
+            int attempts,
+            Instant nextAttemptAt,
+            String lastError,
+            Instant occurredAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        super(createdAt, updatedAt);
+        this.id = id;
+        this.aggregateKey = aggregateKey;
+        this.eventType = eventType;
+        this.eventClass = eventClass;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * 정적 팩토리 메서드
+     *
+     * @param id 아웃박스 메시지 ID (신규는 null)
+     * @param aggregateKey 순서 보장 단위 키
+     * @param eventType 이벤트 타입
+     * @param eventClass 이벤트 클래스 (FQN)
+     * @param payload 직렬화된 이벤트 (JSON)
+     * @param status 상태
+     * @param attempts 전달 시도 횟수
+     * @param nextAttemptAt 다음 전달 시도 일시
+     * @param lastError 마지막 실패 사유
+     * @param occurredAt 이벤트 발생 일시
+     * @param createdAt 기록 일시
+     * @param updatedAt 수정 일시
+     * @return OutboxMessageJpaEntity 인스턴스
+     */
+    public static OutboxMessageJpaEntity of(
+            Long id,
+            String aggregateKey,
+            String eventType,
+            String eventClass,
+            String payload,
+            OutboxStatus status,
+            int attempts,
+            Instant nextAttemptAt,
+            String lastError,
+            Instant occurredAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        return new OutboxMessageJpaEntity(
+                id,
+                aggregateKey,
+                eventType,
+                eventClass,
+                payload,
+                status,
+                attempts,
+                nextAttemptAt,
+                lastError,
+                occurredAt,
+                createdAt,
+                updatedAt);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getAggregateKey() {
+        return aggregateKey;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getEventClass() {
+        return eventClass;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+}
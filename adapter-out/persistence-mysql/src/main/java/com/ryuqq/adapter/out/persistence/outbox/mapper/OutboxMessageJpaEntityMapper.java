@@ -0,0 +1,59 @@
+package com.ryuqq.adapter.out.persistence.outbox.mapper;
+
+import com.ryuqq.adapter.out.persistence.outbox.entity.OutboxMessageJpaEntity;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import com.ryuqq.domain.outbox.id.OutboxMessageId;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxMessageJpaEntityMapper - 아웃박스 메시지 Entity-Domain 매퍼
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxMessageJpaEntityMapper {
+
+    /**
+     * Domain을 Entity로 변환
+     *
+     * @param domain OutboxMessage 도메인 객체
+     * @return OutboxMessageJpaEntity
+     */
+    public OutboxMessageJpaEntity toEntity(OutboxMessage domain) {
+        return OutboxMessageJpaEntity.of(
+                domain.isNew() ? null : domain.idValue(),
+                domain.aggregateKey(),
+                domain.eventType(),
+                domain.eventClass(),
+                domain.payload(),
+                domain.status(),
+                domain.attempts(),
+                domain.nextAttemptAt(),
+                domain.lastError(),
+                domain.occurredAt(),
+                domain.createdAt(),
+                domain.updatedAt());
+    }
+
+    /**
+     * Entity를 Domain으로 변환
+     *
+     * @param entity OutboxMessageJpaEntity
+     * @return OutboxMessage 도메인 객체
+     */
+    public OutboxMessage toDomain(OutboxMessageJpaEntity entity) {
+        return OutboxMessage.reconstitute(
+                OutboxMessageId.of(entity.getId()),
+                entity.getAggregateKey(),
+                entity.getEventType(),
+                entity.getEventClass(),
+                entity.getPayload(),
+                entity.getStatus(),
+                entity.getAttempts(),
+                entity.getNextAttemptAt(),
+                entity.getLastError(),
+                entity.getOccurredAt(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+    }
+}
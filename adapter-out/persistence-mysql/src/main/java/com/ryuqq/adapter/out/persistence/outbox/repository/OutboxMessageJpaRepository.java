@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.outbox.repository;
+
+import com.ryuqq.adapter.out.persistence.outbox.entity.OutboxMessageJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * OutboxMessageJpaRepository - 도메인 이벤트 아웃박스 JPA 레포지토리
+ *
+ * <p>신규 기록/실패 기록(saveAll)과 발행 완료 행의 ID 기반 일괄 삭제를 제공합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface OutboxMessageJpaRepository extends JpaRepository<OutboxMessageJpaEntity, Long> {}
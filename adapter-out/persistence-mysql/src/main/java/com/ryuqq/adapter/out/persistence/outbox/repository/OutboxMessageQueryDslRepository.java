@@ -0,0 +1,95 @@
+package com.ryuqq.adapter.out.persistence.outbox.repository;
+
+import static com.ryuqq.adapter.out.persistence.outbox.entity.QOutboxMessageJpaEntity.outboxMessageJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.outbox.dto.OutboxDeferredHeadRow;
+import com.ryuqq.adapter.out.persistence.outbox.entity.OutboxMessageJpaEntity;
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.stereotype.Repository;
+
+/**
+ * OutboxMessageQueryDslRepository - 도메인 이벤트 아웃박스 QueryDSL 레포지토리
+ *
+ * <p>모든 조회는 status 선두 인덱스로 PENDING 행만 읽습니다. 발행된 행은 삭제되므로 테이블 크기는 미발행 적체량에 비례합니다.
+ *
+ * @author ryu-qqq
+ */
+@Repository
+public class OutboxMessageQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 생성자 주입
+     *
+     * @param queryFactory JPAQueryFactory
+     */
+    public OutboxMessageQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 전달 가능 메시지 조회 (PENDING + next_attempt_at &lt;= now, ID 오름차순)
+     *
+     * @param now 기준 시각
+     * @param limit 최대 건수
+     * @return Entity 목록
+     */
+    public List<OutboxMessageJpaEntity> findDue(Instant now, int limit) {
+        return queryFactory
+                .selectFrom(outboxMessageJpaEntity)
+                .where(
+                        outboxMessageJpaEntity.status.eq(OutboxStatus.PENDING),
+                        outboxMessageJpaEntity.nextAttemptAt.loe(now))
+                .orderBy(outboxMessageJpaEntity.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 키별 재시도 대기 선두 메시지 조회 (PENDING + next_attempt_at &gt; now)
+     *
+     * @param aggregateKeys 대상 키 목록
+     * @param now 기준 시각
+     * @return 키별 최소 ID Row 목록
+     */
+    public List<OutboxDeferredHeadRow> findDeferredHeads(
+            Collection<String> aggregateKeys, Instant now) {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                OutboxDeferredHeadRow.class,
+                                outboxMessageJpaEntity.aggregateKey,
+                                outboxMessageJpaEntity.id.min()))
+                .from(outboxMessageJpaEntity)
+                .where(
+                        outboxMessageJpaEntity.aggregateKey.in(aggregateKeys),
+                        outboxMessageJpaEntity.status.eq(OutboxStatus.PENDING),
+                        outboxMessageJpaEntity.nextAttemptAt.gt(now))
+                .groupBy(outboxMessageJpaEntity.aggregateKey)
+                .fetch();
+    }
+
+    /**
+     * 가장 오래된 PENDING 메시지의 기록 시각 조회
+     *
+     * @return 기록 시각 Optional
+     */
+    public Optional<Instant> findOldestPendingCreatedAt() {
+        Instant createdAt =
+                queryFactory
+                        .select(outboxMessageJpaEntity.createdAt)
+                        .from(outboxMessageJpaEntity)
+                        .where(outboxMessageJpaEntity.status.eq(OutboxStatus.PENDING))
+                        .orderBy(outboxMessageJpaEntity.createdAt.asc())
+                        .limit(1)
+                        .fetchOne();
+        return Optional.ofNullable(createdAt);
+    }
+}
@@ -0,0 +1,195 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ClassNameClassifier - FQCN → ClassType/PackageStructure 일괄 분류기
+ *
+ * <p>아키텍처에 속한 모든 ClassTemplate naming_pattern을 하나의 역순 접미사 트라이로 합쳐 둡니다. 클래스명을 뒤에서부터 한 번 훑으면 접미사가
+ * 일치하는 후보만 모이고, 후보 중 가장 구체적인 것부터 정규식과 패키지 패턴을 확인합니다. 이름마다 전체 패턴을 순회하지 않습니다.
+ *
+ * <ul>
+ *   <li>후보 우선순위: 이름 리터럴이 긴 패턴 → 패키지 리터럴이 많은 구조 → 구조 ID 순
+ *   <li>패키지가 없는 단순 클래스명은 이름만으로 클래스 타입을 고르며, 구조/모듈은 비워 둡니다
+ *   <li>중첩 클래스({@code Outer$Inner})는 바깥 클래스명으로 분류합니다
+ * </ul>
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있고, {@value #PARALLEL_THRESHOLD}건 이상은 병렬로 분류합니다.
+ *
+ * @author ryu-qqq
+ */
+public final class ClassNameClassifier {
+
+    static final int PARALLEL_THRESHOLD = 1024;
+
+    private static final Comparator<Candidate> BY_PRIORITY =
+            Comparator.comparing(Candidate::naming, ClassNamePattern.BY_SPECIFICITY)
+                    .thenComparing(Candidate::structure, PackagePattern.BY_SPECIFICITY);
+
+    private final Map<Long, SuffixNode> roots;
+
+    private ClassNameClassifier(Map<Long, SuffixNode> roots) {
+        this.roots = roots;
+    }
+
+    /**
+     * 조회 결과로 분류기 생성
+     *
+     * @param modules 모듈 경로 목록 (모듈 → 아키텍처 매핑용)
+     * @param structures 패키지 경로 패턴 목록
+     * @param templates 클래스 명명 패턴 목록
+     * @return 분류기
+     */
+    public static ClassNameClassifier of(
+            List<ModulePathRow> modules,
+            List<StructurePatternRow> structures,
+            List<StructureTemplateRow> templates) {
+        Map<Long, Long> architectureByModule = new HashMap<>();
+        for (ModulePathRow module : modules) {
+            architectureByModule.put(module.moduleId(), module.architectureId());
+        }
+        Map<Long, PackagePattern> structureById = new HashMap<>();
+        for (StructurePatternRow structure : structures) {
+            if (structure.pathPattern() != null && !structure.pathPattern().isBlank()) {
+                structureById.put(structure.structureId(), PackagePattern.compile(structure));
+            }
+        }
+
+        Map<Long, SuffixNode> roots = new HashMap<>();
+        for (StructureTemplateRow template : templates) {
+            PackagePattern structure = structureById.get(template.structureId());
+            Long architectureId =
+                    structure != null ? architectureByModule.get(structure.moduleId()) : null;
+            if (architectureId == null) {
+                continue;
+            }
+            SuffixNode root = roots.computeIfAbsent(architectureId, id -> new SuffixNode());
+            for (ClassNamePattern naming : ClassNamePattern.compileAll(template)) {
+                root.insert(naming.suffix(), new Candidate(naming, structure));
+            }
+        }
+        roots.values().forEach(SuffixNode::freeze);
+        return new ClassNameClassifier(roots);
+    }
+
+    /**
+     * 클래스명 하나 분류
+     *
+     * @param architectureId 아키텍처 ID
+     * @param className 완전한 클래스명 (예: com.ryuqq.domain.order.aggregate.Order) 또는 단순 클래스명
+     * @return 분류 결과 (일치하는 패턴이 없으면 {@link Classification#isClassified()}가 false)
+     */
+    public Classification classify(long architectureId, String className) {
+        SuffixNode root = roots.get(architectureId);
+        if (root == null || className == null || className.isBlank()) {
+            return Classification.unclassified(className);
+        }
+        String[] segments = className.strip().split("\\.");
+        int packageEnd = segments.length - 1;
+        String simpleName = simpleName(segments[packageEnd]);
+
+        Candidate best = null;
+        SuffixNode node = root;
+        for (int i = simpleName.length(); node != null; i--) {
+            for (Candidate candidate : node.candidates) {
+                if ((best == null || BY_PRIORITY.compare(candidate, best) < 0)
+                        && candidate.naming().matches(simpleName)
+                        && (packageEnd == 0
+                                || candidate.structure().matches(segments, 0, packageEnd))) {
+                    best = candidate;
+                }
+            }
+            node = i > 0 ? node.children.get(simpleName.charAt(i - 1)) : null;
+        }
+        if (best == null) {
+            return Classification.unclassified(className);
+        }
+        boolean packageMatched = packageEnd > 0;
+        return new Classification(
+                className,
+                best.naming().classTypeId(),
+                best.naming().classType(),
+                packageMatched ? best.structure().structureId() : null,
+                packageMatched ? best.structure().pathPattern() : null,
+                packageMatched ? best.structure().moduleId() : null);
+    }
+
+    /**
+     * 클래스명 일괄 분류
+     *
+     * @param architectureId 아키텍처 ID
+     * @param classNames 클래스명 목록
+     * @return 분류 결과 (요청 순서)
+     */
+    public List<Classification> classifyAll(long architectureId, List<String> classNames) {
+        if (classNames.size() < PARALLEL_THRESHOLD) {
+            return classNames.stream().map(name -> classify(architectureId, name)).toList();
+        }
+        return classNames.parallelStream().map(name -> classify(architectureId, name)).toList();
+    }
+
+    private static String simpleName(String lastSegment) {
+        int nested = lastSegment.indexOf('$');
+        return nested > 0 ? lastSegment.substring(0, nested) : lastSegment;
+    }
+
+    /**
+     * 분류 결과
+     *
+     * @param className 요청한 클래스명
+     * @param classTypeId 클래스 타입 ID (nullable)
+     * @param classType 클래스 타입 코드 (nullable)
+     * @param structureId 패키지 구조 ID (nullable)
+     * @param pathPattern 일치한 패키지 경로 패턴 (nullable)
+     * @param moduleId 모듈 ID (nullable)
+     */
+    public record Classification(
+            String className,
+            Long classTypeId,
+            String classType,
+            Long structureId,
+            String pathPattern,
+            Long moduleId) {
+
+        static Classification unclassified(String className) {
+            return new Classification(className, null, null, null, null, null);
+        }
+
+        public boolean isClassified() {
+            return classTypeId != null;
+        }
+    }
+
+    private record Candidate(ClassNamePattern naming, PackagePattern structure) {}
+
+    /** naming_pattern 접미사를 뒤에서부터 넣은 트라이 노드 (적재 중에만 변경) */
+    private static final class SuffixNode {
+
+        private static final Candidate[] NONE = new Candidate[0];
+
+        private final Map<Character, SuffixNode> children = new HashMap<>(4);
+        private final List<Candidate> pending = new ArrayList<>();
+        private Candidate[] candidates = NONE;
+
+        void insert(String suffix, Candidate candidate) {
+            SuffixNode node = this;
+            for (int i = suffix.length() - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(suffix.charAt(i), key -> new SuffixNode());
+            }
+            node.pending.add(candidate);
+        }
+
+        void freeze() {
+            candidates = pending.stream().sorted(BY_PRIORITY).toArray(Candidate[]::new);
+            pending.clear();
+            children.values().forEach(SuffixNode::freeze);
+        }
+    }
+}
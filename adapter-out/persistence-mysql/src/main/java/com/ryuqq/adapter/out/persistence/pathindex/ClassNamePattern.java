@@ -0,0 +1,88 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * ClassNamePattern - 컴파일된 ClassTemplate naming_pattern 대안 하나
+ *
+ * <p>{@code {Name}}은 대문자로 시작하는 식별자, {@code *}는 임의의 식별자 문자열, 그 외 문자는 리터럴입니다. {@code |}로 구분된 대안은 각각
+ * 별도 패턴으로 컴파일합니다.
+ *
+ * @param structureId 패키지 구조 ID
+ * @param classTypeId 클래스 타입 ID
+ * @param classType 클래스 타입 코드
+ * @param regex 전체 일치용 정규식
+ * @param literalLength 리터럴 문자 수 (클수록 구체적인 패턴)
+ * @param suffix 마지막 placeholder 뒤의 리터럴 (placeholder가 없으면 전체 이름)
+ * @author ryu-qqq
+ */
+record ClassNamePattern(
+        long structureId,
+        long classTypeId,
+        String classType,
+        Pattern regex,
+        int literalLength,
+        String suffix) {
+
+    /** 리터럴이 긴 패턴 우선, 같으면 클래스 타입 ID 순 */
+    static final Comparator<ClassNamePattern> BY_SPECIFICITY =
+            Comparator.comparingInt(ClassNamePattern::literalLength)
+                    .reversed()
+                    .thenComparingLong(ClassNamePattern::classTypeId);
+
+    private static final String NAME = "[A-Z][A-Za-z0-9]*";
+    private static final String ANY = "[A-Za-z0-9]*";
+
+    static List<ClassNamePattern> compileAll(StructureTemplateRow template) {
+        List<ClassNamePattern> patterns = new ArrayList<>();
+        for (String alternative : template.namingPattern().split("\\|")) {
+            if (!alternative.isBlank()) {
+                patterns.add(compile(alternative.strip(), template));
+            }
+        }
+        return patterns;
+    }
+
+    private static ClassNamePattern compile(String alternative, StructureTemplateRow template) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        int literalLength = 0;
+        for (int i = 0; i < alternative.length(); i++) {
+            char c = alternative.charAt(i);
+            int close = c == '{' ? alternative.indexOf('}', i) : -1;
+            if (close > i || c == '*') {
+                literalLength += literal.length();
+                appendLiteral(regex, literal);
+                regex.append(c == '*' ? ANY : NAME);
+                i = Math.max(i, close);
+            } else {
+                literal.append(c);
+            }
+        }
+        String suffix = literal.toString();
+        literalLength += literal.length();
+        appendLiteral(regex, literal);
+        return new ClassNamePattern(
+                template.structureId(),
+                template.classTypeId(),
+                template.classTypeCode(),
+                Pattern.compile(regex.toString()),
+                literalLength,
+                suffix);
+    }
+
+    private static void appendLiteral(StringBuilder regex, StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            regex.append(Pattern.quote(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    boolean matches(String simpleName) {
+        return regex.matcher(simpleName).matches();
+    }
+}
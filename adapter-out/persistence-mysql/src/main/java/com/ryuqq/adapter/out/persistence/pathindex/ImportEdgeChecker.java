@@ -0,0 +1,193 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.LayerReachability.Violation;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.LayerRuleRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModuleLayerRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ImportEdgeChecker - import 간선(fromPackage → toPackage) 레이어 의존성 검사기
+ *
+ * <p>패키지를 PackageStructure path_pattern으로 모듈의 레이어에 대응시킨 뒤, 아키텍처별로 컴파일한 {@link LayerReachability}
+ * 행렬에서 비트 하나로 허용 여부를 확인합니다.
+ *
+ * <ul>
+ *   <li>패키지는 리터럴 세그먼트가 많은 패턴부터 비교하며, 처음 일치한 구조의 모듈 레이어로 해석합니다
+ *   <li>요청 하나에서 같은 패키지는 한 번만 해석합니다 (저장소 전체 import 그래프는 간선 수보다 패키지 수가 훨씬 적음)
+ *   <li>어느 쪽이든 레이어로 해석되지 않는 간선은 검사하지 않고 미해석으로 셉니다
+ * </ul>
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+public final class ImportEdgeChecker {
+
+    private static final int UNRESOLVED = -1;
+
+    private final Map<Long, ArchitectureRules> architectures;
+
+    private ImportEdgeChecker(Map<Long, ArchitectureRules> architectures) {
+        this.architectures = architectures;
+    }
+
+    /**
+     * 조회 결과로 검사기 생성
+     *
+     * @param modules 모듈별 레이어 코드 목록
+     * @param structures 패키지 경로 패턴 목록
+     * @param rules 레이어 의존성 규칙 목록
+     * @return 검사기
+     */
+    public static ImportEdgeChecker of(
+            List<ModuleLayerRow> modules,
+            List<StructurePatternRow> structures,
+            List<LayerRuleRow> rules) {
+        Map<Long, ModuleLayerRow> moduleById = new HashMap<>();
+        Map<Long, Set<String>> layersByArchitecture = new HashMap<>();
+        for (ModuleLayerRow module : modules) {
+            moduleById.put(module.moduleId(), module);
+            layersByArchitecture
+                    .computeIfAbsent(module.architectureId(), id -> new LinkedHashSet<>())
+                    .add(module.layerCode());
+        }
+        Map<Long, List<LayerRuleRow>> rulesByArchitecture = new HashMap<>();
+        for (LayerRuleRow rule : rules) {
+            rulesByArchitecture
+                    .computeIfAbsent(rule.architectureId(), id -> new ArrayList<>())
+                    .add(rule);
+            layersByArchitecture.putIfAbsent(rule.architectureId(), new LinkedHashSet<>());
+        }
+
+        Map<Long, LayerReachability> reachabilityByArchitecture = new HashMap<>();
+        for (Map.Entry<Long, Set<String>> entry : layersByArchitecture.entrySet()) {
+            List<LayerRuleRow> architectureRules =
+                    rulesByArchitecture.getOrDefault(entry.getKey(), List.of());
+            reachabilityByArchitecture.put(
+                    entry.getKey(), LayerReachability.of(entry.getValue(), architectureRules));
+        }
+
+        Map<Long, List<PackagePattern>> patternsByArchitecture = new HashMap<>();
+        for (StructurePatternRow structure : structures) {
+            ModuleLayerRow module = moduleById.get(structure.moduleId());
+            if (module != null
+                    && structure.pathPattern() != null
+                    && !structure.pathPattern().isBlank()) {
+                patternsByArchitecture
+                        .computeIfAbsent(module.architectureId(), id -> new ArrayList<>())
+                        .add(PackagePattern.compile(structure));
+            }
+        }
+
+        Map<Long, ArchitectureRules> architectures = new HashMap<>();
+        for (Map.Entry<Long, LayerReachability> entry : reachabilityByArchitecture.entrySet()) {
+            LayerReachability reachability = entry.getValue();
+            List<PackageLayer> packages = new ArrayList<>();
+            for (PackagePattern pattern :
+                    patternsByArchitecture.getOrDefault(entry.getKey(), List.of())) {
+                String layerCode = moduleById.get(pattern.moduleId()).layerCode();
+                packages.add(new PackageLayer(pattern, reachability.indexOf(layerCode)));
+            }
+            packages.sort(
+                    Comparator.comparing(PackageLayer::pattern, PackagePattern.BY_SPECIFICITY));
+            architectures.put(
+                    entry.getKey(),
+                    new ArchitectureRules(packages.toArray(PackageLayer[]::new), reachability));
+        }
+        return new ImportEdgeChecker(architectures);
+    }
+
+    /**
+     * import 간선 일괄 검사
+     *
+     * @param architectureId 아키텍처 ID
+     * @param edges import 간선 목록
+     * @return 위반 간선과 검사/미해석 건수
+     */
+    public Report check(long architectureId, List<Edge> edges) {
+        ArchitectureRules rules = architectures.get(architectureId);
+        if (rules == null) {
+            return new Report(List.of(), 0, edges.size());
+        }
+        Map<String, Integer> layerByPackage = new HashMap<>();
+        List<EdgeViolation> violations = new ArrayList<>();
+        int checked = 0;
+        for (Edge edge : edges) {
+            int from = layerByPackage.computeIfAbsent(edge.fromPackage(), rules::layerOf);
+            int to = layerByPackage.computeIfAbsent(edge.toPackage(), rules::layerOf);
+            if (from == UNRESOLVED || to == UNRESOLVED) {
+                continue;
+            }
+            checked++;
+            Violation violation = rules.reachability().check(from, to);
+            if (violation != null) {
+                violations.add(
+                        new EdgeViolation(
+                                edge.fromPackage(),
+                                edge.toPackage(),
+                                rules.reachability().codeOf(from),
+                                rules.reachability().codeOf(to),
+                                violation.name()));
+            }
+        }
+        return new Report(violations, checked, edges.size() - checked);
+    }
+
+    /**
+     * import 간선
+     *
+     * @param fromPackage import하는 클래스의 패키지
+     * @param toPackage import되는 클래스의 패키지
+     */
+    public record Edge(String fromPackage, String toPackage) {}
+
+    /**
+     * 위반 간선
+     *
+     * @param fromPackage import하는 클래스의 패키지
+     * @param toPackage import되는 클래스의 패키지
+     * @param fromLayer from 패키지의 레이어 코드
+     * @param toLayer to 패키지의 레이어 코드
+     * @param violationType 위반 유형 (FORBIDDEN, UNDECLARED)
+     */
+    public record EdgeViolation(
+            String fromPackage,
+            String toPackage,
+            String fromLayer,
+            String toLayer,
+            String violationType) {}
+
+    /**
+     * 검사 결과
+     *
+     * @param violations 위반 간선 (요청 순서)
+     * @param checkedCount 양쪽 레이어가 해석되어 검사한 간선 수
+     * @param unresolvedCount 레이어로 해석되지 않아 검사하지 않은 간선 수
+     */
+    public record Report(List<EdgeViolation> violations, int checkedCount, int unresolvedCount) {}
+
+    private record PackageLayer(PackagePattern pattern, int layer) {}
+
+    private record ArchitectureRules(PackageLayer[] packages, LayerReachability reachability) {
+
+        int layerOf(String packageName) {
+            if (packageName == null || packageName.isBlank()) {
+                return UNRESOLVED;
+            }
+            String[] segments = packageName.strip().split("\\.");
+            for (PackageLayer candidate : packages) {
+                if (candidate.pattern().matches(segments, 0, segments.length)) {
+                    return candidate.layer();
+                }
+            }
+            return UNRESOLVED;
+        }
+    }
+}
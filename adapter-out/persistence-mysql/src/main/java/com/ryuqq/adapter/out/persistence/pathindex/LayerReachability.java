@@ -0,0 +1,143 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.LayerRuleRow;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LayerReachability - 아키텍처 하나의 레이어 의존성 규칙을 컴파일한 비트셋 행렬
+ *
+ * <p>레이어 코드마다 인덱스를 부여하고, 행 하나가 {@code long[]} 워드 몇 개인 행렬 세 개로 규칙을 표현합니다.
+ *
+ * <ul>
+ *   <li>reachable: ALLOWED/CONDITIONAL 규칙의 추이적 폐포 (A→B, B→C 허용이면 A→C도 허용)
+ *   <li>forbidden: FORBIDDEN 규칙 (직접 선언만, 추이적 폐포보다 우선)
+ *   <li>constrained: 규칙이 하나라도 선언된 from 레이어 (선언이 없는 레이어는 검사하지 않음)
+ * </ul>
+ *
+ * <p>CONDITIONAL 규칙의 조건은 서버에서 판단할 수 없으므로 허용으로 취급합니다.
+ *
+ * @author ryu-qqq
+ */
+final class LayerReachability {
+
+    /** 의존성 위반 유형 */
+    enum Violation {
+        /** FORBIDDEN 규칙으로 금지된 의존 */
+        FORBIDDEN,
+        /** 허용 규칙으로 도달할 수 없는 의존 */
+        UNDECLARED
+    }
+
+    private static final String ALLOWED = "ALLOWED";
+    private static final String CONDITIONAL = "CONDITIONAL";
+    private static final String FORBIDDEN = "FORBIDDEN";
+
+    private final Map<String, Integer> indexByCode;
+    private final String[] codes;
+    private final int words;
+    private final long[] reachable;
+    private final long[] forbidden;
+    private final long[] constrained;
+
+    private LayerReachability(Set<String> layerCodes, List<LayerRuleRow> rules) {
+        this.codes = layerCodes.toArray(String[]::new);
+        this.indexByCode = new HashMap<>(codes.length * 2);
+        for (int i = 0; i < codes.length; i++) {
+            indexByCode.put(codes[i], i);
+        }
+        this.words = (codes.length + Long.SIZE - 1) / Long.SIZE;
+        this.reachable = new long[codes.length * words];
+        this.forbidden = new long[codes.length * words];
+        this.constrained = new long[words];
+
+        for (LayerRuleRow rule : rules) {
+            int from = indexByCode.get(rule.fromLayer());
+            int to = indexByCode.get(rule.toLayer());
+            set(constrained, 0, from);
+            if (FORBIDDEN.equals(rule.dependencyType())) {
+                set(forbidden, from, to);
+            } else if (ALLOWED.equals(rule.dependencyType())
+                    || CONDITIONAL.equals(rule.dependencyType())) {
+                set(reachable, from, to);
+            }
+        }
+        closeTransitively();
+    }
+
+    /**
+     * 규칙과 레이어 코드로 행렬 생성
+     *
+     * @param layerCodes 아키텍처의 레이어 코드 (규칙에 없는 레이어 포함)
+     * @param rules 같은 아키텍처의 레이어 의존성 규칙
+     * @return 행렬
+     */
+    static LayerReachability of(Collection<String> layerCodes, List<LayerRuleRow> rules) {
+        Set<String> codes = new LinkedHashSet<>(layerCodes);
+        for (LayerRuleRow rule : rules) {
+            codes.add(rule.fromLayer());
+            codes.add(rule.toLayer());
+        }
+        return new LayerReachability(codes, rules);
+    }
+
+    /**
+     * 레이어 코드의 인덱스
+     *
+     * @param code 레이어 코드
+     * @return 인덱스 (없으면 -1)
+     */
+    int indexOf(String code) {
+        Integer index = code != null ? indexByCode.get(code) : null;
+        return index != null ? index : -1;
+    }
+
+    String codeOf(int index) {
+        return codes[index];
+    }
+
+    /**
+     * from 레이어 → to 레이어 의존 검사
+     *
+     * @param from from 레이어 인덱스
+     * @param to to 레이어 인덱스
+     * @return 위반 유형 (허용이면 null)
+     */
+    Violation check(int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        if (get(forbidden, from, to)) {
+            return Violation.FORBIDDEN;
+        }
+        if (!get(constrained, 0, from) || get(reachable, from, to)) {
+            return null;
+        }
+        return Violation.UNDECLARED;
+    }
+
+    /** Warshall 알고리즘 - k를 거쳐 갈 수 있으면 k의 행 전체를 OR */
+    private void closeTransitively() {
+        for (int k = 0; k < codes.length; k++) {
+            for (int i = 0; i < codes.length; i++) {
+                if (i != k && get(reachable, i, k)) {
+                    for (int w = 0; w < words; w++) {
+                        reachable[i * words + w] |= reachable[k * words + w];
+                    }
+                }
+            }
+        }
+    }
+
+    private void set(long[] matrix, int row, int column) {
+        matrix[row * words + column / Long.SIZE] |= 1L << (column % Long.SIZE);
+    }
+
+    private boolean get(long[] matrix, int row, int column) {
+        return (matrix[row * words + column / Long.SIZE] & (1L << (column % Long.SIZE))) != 0;
+    }
+}
@@ -0,0 +1,220 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ModulePathIndex - 파일 경로 → Module/PackageStructure/ClassType 불변 색인
+ *
+ * <p>저장소 상대 파일 경로를 세 단계로 해석합니다. 요청마다 DB를 조회하거나 패턴 문자열을 해석하지 않도록 적재 시 모두 컴파일해 둡니다.
+ *
+ * <ol>
+ *   <li><strong>Module</strong>: 아키텍처별 module_path 세그먼트 트라이에서 가장 긴 접두사 (중첩 모듈은 안쪽 모듈)
+ *   <li><strong>PackageStructure</strong>: 모듈 뒤 {@code src/<sourceSet>/java|kotlin/} 이후의 패키지 세그먼트를
+ *       {@link PackagePattern}과 비교하며, 리터럴 세그먼트가 많은 패턴을 먼저 비교합니다
+ *   <li><strong>ClassType</strong>: 파일명(확장자 제외)을 구조의 {@link ClassNamePattern}과 비교하며, 리터럴이 긴 패턴을 먼저
+ *       비교합니다
+ * </ol>
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 읽을 수 있습니다. 갱신은 새 색인을 만들어 교체합니다.
+ *
+ * @author ryu-qqq
+ */
+public final class ModulePathIndex {
+
+    private static final Set<String> SOURCE_LANGUAGES = Set.of("java", "kotlin");
+    private static final String SOURCE_ROOT = "src";
+
+    private final Map<Long, Node> roots;
+    private final int moduleCount;
+
+    private ModulePathIndex(Map<Long, Node> roots, int moduleCount) {
+        this.roots = roots;
+        this.moduleCount = moduleCount;
+    }
+
+    /**
+     * 조회 결과로 색인 생성
+     *
+     * <p>같은 아키텍처에 같은 module_path가 여러 건이면 id가 가장 작은 모듈이 일치합니다.
+     *
+     * @param modules 모듈 경로 목록
+     * @param structures 패키지 경로 패턴 목록
+     * @param templates 클래스 명명 패턴 목록
+     * @return 색인
+     */
+    public static ModulePathIndex of(
+            List<ModulePathRow> modules,
+            List<StructurePatternRow> structures,
+            List<StructureTemplateRow> templates) {
+        Map<Long, List<ClassNamePattern>> namingByStructure = new HashMap<>();
+        for (StructureTemplateRow template : templates) {
+            namingByStructure
+                    .computeIfAbsent(template.structureId(), id -> new ArrayList<>())
+                    .addAll(ClassNamePattern.compileAll(template));
+        }
+
+        Map<Long, List<Structure>> structuresByModule = new HashMap<>();
+        for (StructurePatternRow structure : structures) {
+            if (structure.pathPattern() == null || structure.pathPattern().isBlank()) {
+                continue;
+            }
+            ClassNamePattern[] naming =
+                    namingByStructure.getOrDefault(structure.structureId(), List.of()).stream()
+                            .sorted(ClassNamePattern.BY_SPECIFICITY)
+                            .toArray(ClassNamePattern[]::new);
+            structuresByModule
+                    .computeIfAbsent(structure.moduleId(), id -> new ArrayList<>())
+                    .add(new Structure(PackagePattern.compile(structure), naming));
+        }
+
+        Map<Long, Node> roots = new HashMap<>();
+        List<ModulePathRow> byId =
+                modules.stream().sorted(Comparator.comparingLong(ModulePathRow::moduleId)).toList();
+        for (ModulePathRow module : byId) {
+            Structure[] moduleStructures =
+                    structuresByModule.getOrDefault(module.moduleId(), List.of()).stream()
+                            .sorted(
+                                    Comparator.comparing(
+                                            Structure::pattern, PackagePattern.BY_SPECIFICITY))
+                            .toArray(Structure[]::new);
+            roots.computeIfAbsent(module.architectureId(), id -> new Node())
+                    .insert(
+                            segments(module.modulePath()),
+                            new ModuleEntry(
+                                    module.moduleId(), module.modulePath(), moduleStructures));
+        }
+        return new ModulePathIndex(roots, byId.size());
+    }
+
+    /**
+     * 파일 경로 해석
+     *
+     * @param architectureId 아키텍처 ID
+     * @param path 저장소 상대 파일 경로 ({@code \} 구분자, 앞쪽 {@code ./} 허용)
+     * @return 해석 결과 (일치하는 Module이 없으면 empty)
+     */
+    public Optional<Match> resolve(long architectureId, String path) {
+        Node node = roots.get(architectureId);
+        if (node == null || path == null) {
+            return Optional.empty();
+        }
+        String[] segments = segments(path);
+        ModuleEntry module = node.module;
+        int moduleEnd = 0;
+        // 마지막 세그먼트는 파일명이므로 모듈 경로가 될 수 없음
+        for (int i = 0; i < segments.length - 1; i++) {
+            node = node.children.get(segments[i]);
+            if (node == null) {
+                break;
+            }
+            if (node.module != null) {
+                module = node.module;
+                moduleEnd = i + 1;
+            }
+        }
+        return module == null ? Optional.empty() : Optional.of(module.resolve(segments, moduleEnd));
+    }
+
+    public int moduleCount() {
+        return moduleCount;
+    }
+
+    /**
+     * 경로 해석 결과
+     *
+     * @param moduleId 모듈 ID
+     * @param modulePath 일치한 모듈 경로
+     * @param structureId 패키지 구조 ID (nullable)
+     * @param pathPattern 일치한 패키지 경로 패턴 (nullable)
+     * @param classTypeId 클래스 타입 ID (nullable)
+     * @param classType 클래스 타입 코드 (nullable)
+     */
+    public record Match(
+            Long moduleId,
+            String modulePath,
+            Long structureId,
+            String pathPattern,
+            Long classTypeId,
+            String classType) {}
+
+    private static String[] segments(String path) {
+        String[] raw = path.replace('\\', '/').strip().split("/");
+        int count = 0;
+        for (String segment : raw) {
+            if (!segment.isEmpty() && !".".equals(segment)) {
+                raw[count++] = segment;
+            }
+        }
+        return count == raw.length ? raw : Arrays.copyOf(raw, count);
+    }
+
+    /** module_path 세그먼트 트라이 노드 (적재 중에만 변경) */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+        private ModuleEntry module;
+
+        void insert(String[] segments, ModuleEntry entry) {
+            Node node = this;
+            for (String segment : segments) {
+                node = node.children.computeIfAbsent(segment, key -> new Node());
+            }
+            if (node.module == null) {
+                node.module = entry;
+            }
+        }
+    }
+
+    private record Structure(PackagePattern pattern, ClassNamePattern[] naming) {
+
+        ClassNamePattern classTypeOf(String fileName) {
+            for (ClassNamePattern candidate : naming) {
+                if (candidate.matches(fileName)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+    }
+
+    private record ModuleEntry(Long moduleId, String modulePath, Structure[] structures) {
+
+        Match resolve(String[] segments, int moduleEnd) {
+            int packageStart = moduleEnd + 3;
+            int packageEnd = segments.length - 1;
+            if (packageStart > packageEnd
+                    || !SOURCE_ROOT.equals(segments[moduleEnd])
+                    || !SOURCE_LANGUAGES.contains(segments[moduleEnd + 2])) {
+                return new Match(moduleId, modulePath, null, null, null, null);
+            }
+            for (Structure structure : structures) {
+                if (structure.pattern().matches(segments, packageStart, packageEnd)) {
+                    ClassNamePattern naming = structure.classTypeOf(fileName(segments[packageEnd]));
+                    return new Match(
+                            moduleId,
+                            modulePath,
+                            structure.pattern().structureId(),
+                            structure.pattern().pathPattern(),
+                            naming != null ? naming.classTypeId() : null,
+                            naming != null ? naming.classType() : null);
+                }
+            }
+            return new Match(moduleId, modulePath, null, null, null, null);
+        }
+
+        private static String fileName(String segment) {
+            int extension = segment.lastIndexOf('.');
+            return extension > 0 ? segment.substring(0, extension) : segment;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.classtemplate.entity.ClassTemplateJpaEntity;
+import com.ryuqq.adapter.out.persistence.classtype.entity.ClassTypeJpaEntity;
+import com.ryuqq.adapter.out.persistence.layer.entity.LayerJpaEntity;
+import com.ryuqq.adapter.out.persistence.layerdependency.entity.LayerDependencyRuleJpaEntity;
+import com.ryuqq.adapter.out.persistence.module.entity.ModuleJpaEntity;
+import com.ryuqq.adapter.out.persistence.packagestructure.entity.PackageStructureJpaEntity;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Set;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * ModulePathIndexChangeListener - 경로 색인 관련 엔티티 변경 커밋 감지
+ *
+ * <p>Module/PackageStructure/ClassTemplate/LayerDependencyRule과, 모듈의 아키텍처·레이어나 클래스 타입 코드를 결정하는
+ * Layer/ClassType 엔티티의 생성, 수정(소프트 삭제 포함), 삭제 커밋을 감지하여 {@link ModulePathIndexProvider}를 무효화합니다. 롤백된
+ * 변경은 무시합니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ModulePathIndexChangeListener
+        implements PostCommitInsertEventListener,
+                PostCommitUpdateEventListener,
+                PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> TRACKED_ENTITIES =
+            Set.of(
+                    ModuleJpaEntity.class,
+                    PackageStructureJpaEntity.class,
+                    ClassTemplateJpaEntity.class,
+                    LayerDependencyRuleJpaEntity.class,
+                    LayerJpaEntity.class,
+                    ClassTypeJpaEntity.class);
+
+    private final transient ModulePathIndexProvider indexProvider;
+
+    public ModulePathIndexChangeListener(
+            ModulePathIndexProvider indexProvider, EntityManagerFactory entityManagerFactory) {
+        this.indexProvider = indexProvider;
+        EventListenerRegistry registry =
+                entityManagerFactory
+                        .unwrap(SessionFactoryImplementor.class)
+                        .getServiceRegistry()
+                        .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TRACKED_ENTITIES.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidateIfTracked(event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidateIfTracked(event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidateIfTracked(event.getEntity());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 색인에 반영할 것이 없음
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백된 변경은 색인에 반영할 것이 없음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // 롤백된 변경은 색인에 반영할 것이 없음
+    }
+
+    /**
+     * 영속성 컨텍스트를 거치지 않은 변경(JDBC 일괄 저장)의 커밋 후 호출
+     *
+     * @param entityType 변경된 테이블의 엔티티 타입
+     */
+    public void entityTypeChanged(Class<?> entityType) {
+        if (TRACKED_ENTITIES.contains(entityType)) {
+            indexProvider.invalidate();
+        }
+    }
+
+    private void invalidateIfTracked(Object entity) {
+        if (entity != null) {
+            entityTypeChanged(entity.getClass());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModuleLayerRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import com.ryuqq.adapter.out.persistence.pathindex.repository.ModulePathIndexQueryDslRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * ModulePathIndexProvider - 현재 {@link ModulePathIndex} / {@link ClassNameClassifier} / {@link
+ * ImportEdgeChecker} 보관 및 재적재
+ *
+ * <p><strong>갱신</strong> ({@link
+ * com.ryuqq.adapter.out.persistence.dictionary.ReferenceDictionaries}와 같은 방식):
+ *
+ * <ul>
+ *   <li>최초 조회 시 Module/PackageStructure/ClassTemplate/레이어 의존성 규칙을 한 번에 적재해 색인, 분류기, import 검사기를 함께
+ *       컴파일합니다
+ *   <li>관련 엔티티 변경이 커밋되면 {@link ModulePathIndexChangeListener}가 {@link #invalidate()}를 호출하고, 다음 조회에서
+ *       다시 적재합니다
+ *   <li>다른 노드의 변경은 {@code persistence.path-index.max-age}가 지나면 다시 적재합니다
+ *   <li>재적재는 한 스레드만 수행하며, 그동안 다른 스레드는 이전 색인을 사용합니다
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ModulePathIndexProvider {
+
+    private final ModulePathIndexQueryDslRepository repository;
+    private final long maxAgeNanos;
+    private final AtomicLong changeVersion = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile Snapshot snapshot;
+
+    public ModulePathIndexProvider(
+            ModulePathIndexQueryDslRepository repository,
+            @Value("${persistence.path-index.max-age:60s}") Duration maxAge) {
+        this.repository = repository;
+        this.maxAgeNanos = maxAge.toNanos();
+    }
+
+    public ModulePathIndex index() {
+        return fresh().index();
+    }
+
+    public ClassNameClassifier classifier() {
+        return fresh().classifier();
+    }
+
+    public ImportEdgeChecker importEdgeChecker() {
+        return fresh().importEdgeChecker();
+    }
+
+    /** 경로 관련 엔티티 변경 통지 - 다음 조회에서 다시 적재 */
+    public void invalidate() {
+        changeVersion.incrementAndGet();
+    }
+
+    private Snapshot fresh() {
+        Snapshot loaded = snapshot;
+        if (loaded != null && loaded.isFresh(changeVersion.get(), maxAgeNanos)) {
+            return loaded;
+        }
+        if (loaded == null) {
+            reloadLock.lock();
+        } else if (!reloadLock.tryLock()) {
+            return loaded;
+        }
+        try {
+            Snapshot latest = snapshot;
+            if (latest != null && latest.isFresh(changeVersion.get(), maxAgeNanos)) {
+                return latest;
+            }
+            // 적재 중 들어온 변경은 버전이 달라 다음 조회에서 다시 적재됨
+            long version = changeVersion.get();
+            List<ModulePathRow> modules = repository.findModulePaths();
+            List<StructurePatternRow> structures = repository.findStructurePatterns();
+            List<StructureTemplateRow> templates = repository.findStructureTemplates();
+            List<ModuleLayerRow> moduleLayers = repository.findModuleLayers();
+            Snapshot reloaded =
+                    new Snapshot(
+                            version,
+                            System.nanoTime(),
+                            ModulePathIndex.of(modules, structures, templates),
+                            ClassNameClassifier.of(modules, structures, templates),
+                            ImportEdgeChecker.of(
+                                    moduleLayers, structures, repository.findLayerRules()));
+            snapshot = reloaded;
+            return reloaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private record Snapshot(
+            long version,
+            long loadedAtNanos,
+            ModulePathIndex index,
+            ClassNameClassifier classifier,
+            ImportEdgeChecker importEdgeChecker) {
+
+        boolean isFresh(long currentVersion, long maxAgeNanos) {
+            return version == currentVersion && System.nanoTime() - loadedAtNanos < maxAgeNanos;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import java.util.Comparator;
+
+/**
+ * PackagePattern - 컴파일된 PackageStructure path_pattern
+ *
+ * <p>{@code .}으로 구분된 토큰 배열입니다. {@code {base_package}}는 1개 이상, 그 외 {@code {placeholder}}는 정확히 1개의
+ * 패키지 세그먼트와 일치하며, 나머지 토큰은 세그먼트와 정확히 일치해야 합니다.
+ *
+ * @param structureId 패키지 구조 ID
+ * @param moduleId 모듈 ID
+ * @param pathPattern 원본 경로 패턴
+ * @param literals 토큰별 리터럴 (placeholder는 null)
+ * @param multi 토큰별 다중 세그먼트 여부
+ * @param literalCount 리터럴 토큰 수 (클수록 구체적인 패턴)
+ * @author ryu-qqq
+ */
+record PackagePattern(
+        long structureId,
+        long moduleId,
+        String pathPattern,
+        String[] literals,
+        boolean[] multi,
+        int literalCount) {
+
+    /** 리터럴 토큰이 많은 패턴 우선, 같으면 토큰이 많은 패턴, 구조 ID 순 */
+    static final Comparator<PackagePattern> BY_SPECIFICITY =
+            Comparator.comparingInt(PackagePattern::literalCount)
+                    .thenComparingInt(PackagePattern::tokenCount)
+                    .reversed()
+                    .thenComparingLong(PackagePattern::structureId);
+
+    private static final String BASE_PACKAGE = "{base_package}";
+
+    static PackagePattern compile(StructurePatternRow row) {
+        String[] tokens = row.pathPattern().strip().split("\\.");
+        String[] literals = new String[tokens.length];
+        boolean[] multi = new boolean[tokens.length];
+        int literalCount = 0;
+        for (int i = 0; i < tokens.length; i++) {
+            boolean placeholder = tokens[i].startsWith("{") && tokens[i].endsWith("}");
+            multi[i] = BASE_PACKAGE.equals(tokens[i]);
+            if (!placeholder) {
+                literals[i] = tokens[i];
+                literalCount++;
+            }
+        }
+        return new PackagePattern(
+                row.structureId(),
+                row.moduleId(),
+                row.pathPattern(),
+                literals,
+                multi,
+                literalCount);
+    }
+
+    int tokenCount() {
+        return literals.length;
+    }
+
+    /**
+     * 패키지 세그먼트 구간 일치 여부
+     *
+     * @param segments 세그먼트 배열
+     * @param from 패키지 시작 인덱스 (포함)
+     * @param to 패키지 끝 인덱스 (제외)
+     * @return 일치 여부
+     */
+    boolean matches(String[] segments, int from, int to) {
+        return matches(0, segments, from, to);
+    }
+
+    private boolean matches(int token, String[] segments, int segment, int to) {
+        if (token == literals.length) {
+            return segment == to;
+        }
+        if (segment >= to) {
+            return false;
+        }
+        if (multi[token]) {
+            for (int end = segment + 1; end <= to; end++) {
+                if (matches(token + 1, segments, end, to)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (literals[token] != null && !literals[token].equals(segments[segment])) {
+            return false;
+        }
+        return matches(token + 1, segments, segment + 1, to);
+    }
+}
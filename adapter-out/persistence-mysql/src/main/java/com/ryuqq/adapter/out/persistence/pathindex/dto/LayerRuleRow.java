@@ -0,0 +1,15 @@
+package com.ryuqq.adapter.out.persistence.pathindex.dto;
+
+/**
+ * LayerRuleRow - 경로 색인 적재용 레이어 의존성 규칙 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param architectureId 아키텍처 ID
+ * @param fromLayer 의존하는 레이어 코드
+ * @param toLayer 의존받는 레이어 코드
+ * @param dependencyType 의존성 유형 (ALLOWED, FORBIDDEN, CONDITIONAL)
+ * @author ryu-qqq
+ */
+public record LayerRuleRow(
+        Long architectureId, String fromLayer, String toLayer, String dependencyType) {}
@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.pathindex.dto;
+
+/**
+ * ModuleLayerRow - 경로 색인 적재용 Module 레이어 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param moduleId 모듈 ID
+ * @param architectureId 모듈이 속한 레이어의 아키텍처 ID
+ * @param layerCode 모듈이 속한 레이어 코드 (예: ADAPTER_OUT)
+ * @author ryu-qqq
+ */
+public record ModuleLayerRow(Long moduleId, Long architectureId, String layerCode) {}
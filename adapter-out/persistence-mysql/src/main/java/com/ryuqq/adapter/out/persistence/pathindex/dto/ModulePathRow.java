@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.pathindex.dto;
+
+/**
+ * ModulePathRow - 경로 색인 적재용 Module 경로 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param moduleId 모듈 ID
+ * @param architectureId 모듈이 속한 레이어의 아키텍처 ID
+ * @param modulePath 저장소 상대 모듈 경로 (예: adapter-out/persistence-mysql)
+ * @author ryu-qqq
+ */
+public record ModulePathRow(Long moduleId, Long architectureId, String modulePath) {}
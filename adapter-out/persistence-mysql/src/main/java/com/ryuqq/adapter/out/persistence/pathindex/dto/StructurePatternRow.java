@@ -0,0 +1,13 @@
+package com.ryuqq.adapter.out.persistence.pathindex.dto;
+
+/**
+ * StructurePatternRow - 경로 색인 적재용 PackageStructure 경로 패턴 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param structureId 패키지 구조 ID
+ * @param moduleId 모듈 ID
+ * @param pathPattern 패키지 경로 패턴 (예: {base_package}.{domain}.aggregate)
+ * @author ryu-qqq
+ */
+public record StructurePatternRow(Long structureId, Long moduleId, String pathPattern) {}
@@ -0,0 +1,15 @@
+package com.ryuqq.adapter.out.persistence.pathindex.dto;
+
+/**
+ * StructureTemplateRow - 경로 색인 적재용 ClassTemplate 명명 패턴 DTO
+ *
+ * <p>QueryDSL Projection용 DTO입니다.
+ *
+ * @param structureId 패키지 구조 ID
+ * @param classTypeId 클래스 타입 ID
+ * @param classTypeCode 클래스 타입 코드
+ * @param namingPattern 클래스 명명 패턴 (예: {Domain}CommandAdapter, *Query | *Criteria)
+ * @author ryu-qqq
+ */
+public record StructureTemplateRow(
+        Long structureId, Long classTypeId, String classTypeCode, String namingPattern) {}
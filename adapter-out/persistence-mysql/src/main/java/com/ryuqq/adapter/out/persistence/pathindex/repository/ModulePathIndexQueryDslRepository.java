@@ -0,0 +1,140 @@
+package com.ryuqq.adapter.out.persistence.pathindex.repository;
+
+import static com.ryuqq.adapter.out.persistence.classtemplate.entity.QClassTemplateJpaEntity.classTemplateJpaEntity;
+import static com.ryuqq.adapter.out.persistence.classtype.entity.QClassTypeJpaEntity.classTypeJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layer.entity.QLayerJpaEntity.layerJpaEntity;
+import static com.ryuqq.adapter.out.persistence.layerdependency.entity.QLayerDependencyRuleJpaEntity.layerDependencyRuleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.module.entity.QModuleJpaEntity.moduleJpaEntity;
+import static com.ryuqq.adapter.out.persistence.packagestructure.entity.QPackageStructureJpaEntity.packageStructureJpaEntity;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.LayerRuleRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModuleLayerRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.List;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ModulePathIndexQueryDslRepository - 경로 색인 적재용 전체 조회
+ *
+ * <p>ModulePathIndex 적재용입니다. 삭제되지 않은 행만 조회하며, Module/PackageStructure/ClassTemplate/레이어 의존성 규칙은 수백
+ * 건 수준이므로 페이징하지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+@Repository
+public class ModulePathIndexQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public ModulePathIndexQueryDslRepository(JPAQueryFactory queryFactory) {
+        this.queryFactory = queryFactory;
+    }
+
+    /**
+     * 모듈 경로 조회 (module_path가 있는 모듈만)
+     *
+     * @return 모듈 ID/아키텍처 ID/모듈 경로 목록
+     */
+    public List<ModulePathRow> findModulePaths() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ModulePathRow.class,
+                                moduleJpaEntity.id,
+                                layerJpaEntity.architectureId,
+                                moduleJpaEntity.modulePath))
+                .from(moduleJpaEntity)
+                .join(layerJpaEntity)
+                .on(layerJpaEntity.id.eq(moduleJpaEntity.layerId))
+                .where(
+                        moduleJpaEntity.deletedAt.isNull(),
+                        layerJpaEntity.deletedAt.isNull(),
+                        moduleJpaEntity.modulePath.isNotNull())
+                .fetch();
+    }
+
+    /**
+     * 패키지 경로 패턴 조회
+     *
+     * @return 패키지 구조 ID/모듈 ID/경로 패턴 목록
+     */
+    public List<StructurePatternRow> findStructurePatterns() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                StructurePatternRow.class,
+                                packageStructureJpaEntity.id,
+                                packageStructureJpaEntity.moduleId,
+                                packageStructureJpaEntity.pathPattern))
+                .from(packageStructureJpaEntity)
+                .where(packageStructureJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * 클래스 명명 패턴 조회 (클래스 타입이 지정된 템플릿만)
+     *
+     * @return 패키지 구조 ID/클래스 타입/명명 패턴 목록
+     */
+    public List<StructureTemplateRow> findStructureTemplates() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                StructureTemplateRow.class,
+                                classTemplateJpaEntity.structureId,
+                                classTypeJpaEntity.id,
+                                classTypeJpaEntity.code,
+                                classTemplateJpaEntity.namingPattern))
+                .from(classTemplateJpaEntity)
+                .join(classTypeJpaEntity)
+                .on(classTypeJpaEntity.id.eq(classTemplateJpaEntity.classTypeId))
+                .where(
+                        classTemplateJpaEntity.deletedAt.isNull(),
+                        classTypeJpaEntity.deletedAt.isNull(),
+                        classTemplateJpaEntity.namingPattern.isNotNull())
+                .fetch();
+    }
+
+    /**
+     * 모듈별 레이어 코드 조회 (module_path가 없는 모듈 포함)
+     *
+     * @return 모듈 ID/아키텍처 ID/레이어 코드 목록
+     */
+    public List<ModuleLayerRow> findModuleLayers() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                ModuleLayerRow.class,
+                                moduleJpaEntity.id,
+                                layerJpaEntity.architectureId,
+                                layerJpaEntity.code))
+                .from(moduleJpaEntity)
+                .join(layerJpaEntity)
+                .on(layerJpaEntity.id.eq(moduleJpaEntity.layerId))
+                .where(moduleJpaEntity.deletedAt.isNull(), layerJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+
+    /**
+     * 레이어 의존성 규칙 조회
+     *
+     * @return 아키텍처 ID/from 레이어/to 레이어/의존성 유형 목록
+     */
+    public List<LayerRuleRow> findLayerRules() {
+        return queryFactory
+                .select(
+                        Projections.constructor(
+                                LayerRuleRow.class,
+                                layerDependencyRuleJpaEntity.architectureId,
+                                layerDependencyRuleJpaEntity.fromLayer,
+                                layerDependencyRuleJpaEntity.toLayer,
+                                layerDependencyRuleJpaEntity.dependencyType))
+                .from(layerDependencyRuleJpaEntity)
+                .where(layerDependencyRuleJpaEntity.deletedAt.isNull())
+                .fetch();
+    }
+}
@@ -0,0 +1,163 @@
+package com.ryuqq.adapter.out.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReplicaHealthMonitor - 읽기 복제본 상태 감시
+ *
+ * <p>주기적으로 각 복제본의 복제 지연을 측정하여 허용 지연({@code maxLag}) 이내인 복제본만 읽기 대상으로 둡니다. 측정에 실패하거나 지연이 허용치를 넘으면 다음
+ * 측정에서 회복될 때까지 제외되며, 사용 가능한 복제본이 없으면 읽기는 Primary로 돌아갑니다.
+ *
+ * <p>복제본 선택은 정상 복제본 사이의 라운드 로빈입니다.
+ *
+ * @author ryu-qqq
+ */
+public class ReplicaHealthMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaHealthMonitor.class);
+
+    private final List<Replica> replicas;
+    private final ReplicaLagProbe lagProbe;
+    private final Duration maxLag;
+    private final Duration checkInterval;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaHealthMonitor(
+            List<Replica> replicas,
+            ReplicaLagProbe lagProbe,
+            Duration maxLag,
+            Duration checkInterval) {
+        this.replicas = List.copyOf(replicas);
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+        this.checkInterval = checkInterval;
+    }
+
+    /** 최초 측정 후 주기 측정 시작 (최초 측정 전에는 모든 복제본을 제외) */
+    public void start() {
+        checkAll();
+        scheduler =
+                Executors.newSingleThreadScheduledExecutor(
+                        Thread.ofPlatform().name("replica-health").daemon().factory());
+        long intervalMillis = checkInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(
+                this::checkAll, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 다음 정상 복제본 선택
+     *
+     * @return 복제본 키 (정상 복제본이 없으면 empty)
+     */
+    public Optional<String> nextHealthyReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return Optional.empty();
+        }
+        int start = Math.floorMod(cursor.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return Optional.of(replica.key());
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    void checkAll() {
+        for (Replica replica : replicas) {
+            check(replica);
+        }
+    }
+
+    private void check(Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            Duration lag = lagProbe.measure(connection);
+            replica.lagMillis = lag.toMillis();
+            boolean healthy = lag.compareTo(maxLag) <= 0;
+            if (replica.healthy != healthy) {
+                log.warn(
+                        "Read replica {}: healthy={}, lag={}ms (max {}ms)",
+                        replica.key(),
+                        healthy,
+                        replica.lagMillis,
+                        maxLag.toMillis());
+            }
+            replica.healthy = healthy;
+        } catch (SQLException | RuntimeException e) {
+            if (replica.healthy) {
+                log.warn("Read replica {} excluded: {}", replica.key(), e.getMessage());
+            }
+            replica.healthy = false;
+            replica.lagMillis = -1L;
+        }
+    }
+
+    /** 주기 측정 중단 및 복제본 풀 종료 */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Failed to close read replica {}", replica.key(), e);
+                }
+            }
+        }
+    }
+
+    /** 읽기 복제본 */
+    public static final class Replica {
+
+        private final String key;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagMillis = -1L;
+
+        public Replica(String key, DataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+
+        public String key() {
+            return key;
+        }
+
+        public DataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        /**
+         * 마지막 측정 지연 (ms)
+         *
+         * @return 지연, 측정 실패 시 -1
+         */
+        public long lagMillis() {
+            return lagMillis;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ryuqq.adapter.out.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * ReplicaLagProbe - 읽기 복제본 복제 지연 측정
+ *
+ * @author ryu-qqq
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    /**
+     * MySQL 복제 지연 (SHOW REPLICA STATUS, MySQL 8.0.22+)
+     *
+     * <p>Seconds_Behind_Source가 NULL이면 복제가 중단된 것으로 보고 예외를 던집니다. 결과 행이 없으면 복제본이 아닌 서버이므로 지연 0으로
+     * 취급합니다.
+     */
+    ReplicaLagProbe MYSQL =
+            connection -> {
+                try (Statement statement = connection.createStatement();
+                        ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+                    if (!resultSet.next()) {
+                        return Duration.ZERO;
+                    }
+                    long seconds = resultSet.getLong("Seconds_Behind_Source");
+                    if (resultSet.wasNull()) {
+                        throw new SQLException("Replication is not running");
+                    }
+                    return Duration.ofSeconds(seconds);
+                }
+            };
+
+    /** 지연 측정 없이 연결 가능 여부만 확인 (로컬 임베디드 DB 등) */
+    ReplicaLagProbe NONE =
+            connection -> {
+                if (!connection.isValid(1)) {
+                    throw new SQLException("Replica connection is not valid");
+                }
+                return Duration.ZERO;
+            };
+
+    /**
+     * 복제 지연 측정
+     *
+     * @param connection 복제본 커넥션
+     * @return 복제 지연
+     * @throws SQLException 측정 실패 또는 복제 중단
+     */
+    Duration measure(Connection connection) throws SQLException;
+
+    /**
+     * 설정 값으로 구현 선택
+     *
+     * @param name mysql 또는 none
+     * @return ReplicaLagProbe
+     */
+    static ReplicaLagProbe of(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "mysql" -> MYSQL;
+            case "none" -> NONE;
+            default -> throw new IllegalArgumentException("Unknown replica lag probe: " + name);
+        };
+    }
+}
@@ -0,0 +1,49 @@
+package com.ryuqq.adapter.out.persistence.routing;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * ReplicaRoutingDataSource - 읽기 전용 커넥션의 대상 선택
+ *
+ * <p>{@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}의 read-only
+ * DataSource로 사용됩니다. 읽기 전용 트랜잭션의 커넥션만 이 DataSource를 거치며, 아래 순서로 대상을 고릅니다.
+ *
+ * <ol>
+ *   <li>{@link ReadConsistencyContext#isPrimaryRequired()} - read-your-writes 요청은 Primary
+ *   <li>정상(허용 지연 이내) 복제본 중 라운드 로빈
+ *   <li>정상 복제본이 없으면 Primary
+ * </ol>
+ *
+ * @author ryu-qqq
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY_KEY = "primary";
+
+    private final ReplicaHealthMonitor healthMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaHealthMonitor healthMonitor) {
+        this.healthMonitor = healthMonitor;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY_KEY, primary);
+        healthMonitor
+                .replicas()
+                .forEach(replica -> targets.put(replica.key(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (ReadConsistencyContext.isPrimaryRequired()) {
+            return PRIMARY_KEY;
+        }
+        return healthMonitor.nextHealthyReplica().orElse(PRIMARY_KEY);
+    }
+}
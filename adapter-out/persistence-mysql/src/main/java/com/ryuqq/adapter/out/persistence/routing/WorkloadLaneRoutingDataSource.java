@@ -0,0 +1,62 @@
+package com.ryuqq.adapter.out.persistence.routing;
+
+import com.ryuqq.application.common.bulkhead.WorkloadLane;
+import com.ryuqq.application.common.bulkhead.WorkloadLaneContext;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * WorkloadLaneRoutingDataSource - 워크로드 레인별 커넥션 풀 선택
+ *
+ * <p>{@link WorkloadLaneContext}에 배정된 레인의 전용 풀에서 커넥션을 얻습니다. 레인이 없거나 전용 풀이 없는 레인의 작업(스케줄러, 아웃박스 릴레이,
+ * Flyway 등)은 기본 풀을 사용합니다.
+ *
+ * <p>레인마다 풀이 분리되어 있으므로 관리자 대량 조회가 자기 풀을 모두 점유해도 MCP 조회는 자기 풀에서 커넥션을 얻을 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+public class WorkloadLaneRoutingDataSource extends AbstractRoutingDataSource
+        implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WorkloadLaneRoutingDataSource.class);
+
+    private final DataSource defaultPool;
+    private final Map<WorkloadLane, DataSource> lanePools;
+
+    public WorkloadLaneRoutingDataSource(
+            DataSource defaultPool, Map<WorkloadLane, DataSource> lanePools) {
+        this.defaultPool = defaultPool;
+        this.lanePools = Map.copyOf(lanePools);
+        setTargetDataSources(new HashMap<>(lanePools));
+        setDefaultTargetDataSource(defaultPool);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadLaneContext.current().orElse(null);
+    }
+
+    /** 기본 풀과 레인 풀 종료 */
+    @Override
+    public void close() {
+        for (DataSource lanePool : lanePools.values()) {
+            closeQuietly(lanePool);
+        }
+        closeQuietly(defaultPool);
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close pool {}", dataSource, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ryuqq.adapter.out.persistence.routing.config;
+
+import com.ryuqq.adapter.out.persistence.routing.ReplicaHealthMonitor;
+import com.ryuqq.adapter.out.persistence.routing.ReplicaHealthMonitor.Replica;
+import com.ryuqq.adapter.out.persistence.routing.ReplicaLagProbe;
+import com.ryuqq.adapter.out.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * ReadReplicaRoutingConfig - 읽기 복제본 라우팅 DataSource 설정
+ *
+ * <p>{@code persistence.replica.enabled=true}일 때만 적용됩니다. 비활성화 시 Spring Boot 기본 DataSource를 그대로
+ * 사용합니다.
+ *
+ * <ul>
+ *   <li>Primary 풀: {@code spring.datasource.*} (+ {@code spring.datasource.hikari.*}) 그대로 사용
+ *   <li>복제본 풀: {@code persistence.replica.urls} (쉼표 구분) 마다 read-only Hikari 풀 생성
+ *   <li>애플리케이션 DataSource: {@link LazyConnectionDataSourceProxy} - 커넥션을 첫 SQL 시점에 얻으므로 트랜잭션의
+ *       readOnly 여부를 보고 Primary / {@link ReplicaRoutingDataSource}를 고를 수 있음
+ * </ul>
+ *
+ * <p>워크로드 레인 풀({@link WorkloadLanePoolConfig})을 함께 사용하면 Primary 풀이 레인별 풀로 나뉜 뒤 이 설정에 연결됩니다.
+ *
+ * <p>따라서 {@code @Transactional(readOnly = true)}인 ReadManager 조회와 MCP 컨텍스트 조회는 복제본에서, 쓰기 트랜잭션과 트랜잭션
+ * 밖의 작업(Flyway 등)은 Primary에서 실행됩니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "persistence.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaRoutingConfig {
+
+    private static final String REPLICA_POOL_NAME_PREFIX = "HikariPool-Replica-";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaHealthMonitor replicaHealthMonitor(
+            DataSourceProperties dataSourceProperties,
+            @Value("${persistence.replica.urls}") List<String> urls,
+            @Value("${persistence.replica.username:}") String username,
+            @Value("${persistence.replica.password:}") String password,
+            @Value("${persistence.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${persistence.replica.lag-probe:mysql}") String lagProbe,
+            @Value("${persistence.replica.max-lag:2s}") Duration maxLag,
+            @Value("${persistence.replica.check-interval:1s}") Duration checkInterval,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig hikariConfig = new HikariConfig();
+            hikariConfig.setPoolName(REPLICA_POOL_NAME_PREFIX + i);
+            hikariConfig.setJdbcUrl(urls.get(i).trim());
+            hikariConfig.setUsername(
+                    username.isEmpty() ? dataSourceProperties.determineUsername() : username);
+            hikariConfig.setPassword(
+                    password.isEmpty() ? dataSourceProperties.determinePassword() : password);
+            hikariConfig.setMaximumPoolSize(maximumPoolSize);
+            hikariConfig.setReadOnly(true);
+            replicas.add(new Replica("replica-" + i, new HikariDataSource(hikariConfig)));
+        }
+
+        ReplicaHealthMonitor monitor =
+                new ReplicaHealthMonitor(
+                        replicas, ReplicaLagProbe.of(lagProbe), maxLag, checkInterval);
+        bindMetrics(monitor, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        monitor.start();
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReplicaHealthMonitor replicaHealthMonitor) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaHealthMonitor));
+        return proxy;
+    }
+
+    private static void bindMetrics(ReplicaHealthMonitor monitor, MeterRegistry meterRegistry) {
+        for (Replica replica : monitor.replicas()) {
+            Gauge.builder("persistence.replica.lag", replica, Replica::lagMillis)
+                    .tag("replica", replica.key())
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            Gauge.builder("persistence.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                    .tag("replica", replica.key())
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.ryuqq.adapter.out.persistence.routing.config;
+
+import com.ryuqq.adapter.out.persistence.routing.WorkloadLaneRoutingDataSource;
+import com.ryuqq.application.common.bulkhead.WorkloadLane;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * WorkloadLanePoolConfig - 워크로드 레인별 커넥션 풀 (벌크헤드) 설정
+ *
+ * <p>{@code persistence.bulkhead.enabled=true}일 때만 적용됩니다. 네이티브 이미지(AOT)에서도 런타임 값을 따르도록 조건을 후처리기 안에서
+ * 확인합니다. Primary Hikari 풀 빈({@code dataSource}, 읽기 복제본 라우팅 사용 시 {@code primaryDataSource})을 {@link
+ * WorkloadLaneRoutingDataSource}로 감싸고, 레인마다 같은 설정을 복사한 전용 풀을 만듭니다.
+ *
+ * <ul>
+ *   <li>{@code persistence.bulkhead.pools.<lane>.maximum-pool-size}: 레인 풀 크기 (0 또는 미설정이면 기본 풀 공유)
+ *   <li>{@code persistence.bulkhead.pools.<lane>.connection-timeout} (기본 3000ms): 레인 풀 커넥션 대기 한도
+ * </ul>
+ *
+ * <p>레인 풀은 풀 이름 {@code <기본 풀 이름>-<lane>}으로 Hikari 메트릭에 노출됩니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class WorkloadLanePoolConfig {
+
+    private static final Set<String> PRIMARY_POOL_BEAN_NAMES =
+            Set.of("dataSource", "primaryDataSource");
+    private static final String DEFAULT_POOL_NAME = "HikariPool";
+    private static final String ENABLED = "persistence.bulkhead.enabled";
+    private static final String PREFIX = "persistence.bulkhead.pools.";
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 3000L;
+
+    @Bean
+    public static BeanPostProcessor workloadLanePoolPostProcessor(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource primary
+                        && PRIMARY_POOL_BEAN_NAMES.contains(beanName)
+                        && environment.getProperty(ENABLED, Boolean.class, false)) {
+                    return new WorkloadLaneRoutingDataSource(
+                            primary, lanePools(primary, environment, meterRegistry));
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static Map<WorkloadLane, DataSource> lanePools(
+            HikariDataSource primary,
+            Environment environment,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<WorkloadLane, DataSource> pools = new EnumMap<>(WorkloadLane.class);
+        for (WorkloadLane lane : WorkloadLane.values()) {
+            String prefix = PREFIX + lane.key() + ".";
+            int size = environment.getProperty(prefix + "maximum-pool-size", Integer.class, 0);
+            if (size <= 0) {
+                continue;
+            }
+            HikariDataSource pool = new HikariDataSource();
+            primary.copyStateTo(pool);
+            pool.setPoolName(
+                    Objects.requireNonNullElse(primary.getPoolName(), DEFAULT_POOL_NAME)
+                            + "-"
+                            + lane.key());
+            pool.setMaximumPoolSize(size);
+            if (primary.getMinimumIdle() >= 0) {
+                pool.setMinimumIdle(Math.min(size, primary.getMinimumIdle()));
+            }
+            pool.setConnectionTimeout(
+                    environment.getProperty(
+                            prefix + "connection-timeout",
+                            Long.class,
+                            DEFAULT_CONNECTION_TIMEOUT_MILLIS));
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry != null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+            pools.put(lane, pool);
+        }
+        return pools;
+    }
+}
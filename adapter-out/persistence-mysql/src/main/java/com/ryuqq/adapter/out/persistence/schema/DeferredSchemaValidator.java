@@ -0,0 +1,93 @@
+package com.ryuqq.adapter.out.persistence.schema;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * DeferredSchemaValidator - 기동 후 스키마 검증
+ *
+ * <p>{@code persistence.schema-validation.mode=deferred}이면 기동 중에는 Flyway 체크섬 검증({@code
+ * validate-on-migrate})과 Hibernate 매핑 검증({@code ddl-auto: validate})을 끄고, {@link
+ * ApplicationReadyEvent} 이후 별도 스레드에서 같은 검증을 실행합니다. 대기 중인 마이그레이션 적용은 그대로 기동 중에 실행됩니다.
+ *
+ * <p>각 검증은 환경 설정이 기동 중에 실행하도록 지정한 경우에만 실행합니다. 체크섬 검증을 끈 환경(prod)에서는 기동 후에도 체크섬을 검증하지 않습니다.
+ *
+ * <p>검증에 실패하면 {@link ReadinessState#REFUSING_TRAFFIC}을 발행해 readiness 헬스 체크를 DOWN으로 바꿉니다. 프로세스는 종료하지
+ * 않으므로 로그와 헬스 체크로 원인을 확인할 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+public class DeferredSchemaValidator implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredSchemaValidator.class);
+
+    private final Flyway flyway;
+    private final boolean validateChecksums;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean validateMapping;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @param flyway Flyway (비활성화 시 null - 체크섬 검증 생략)
+     * @param validateChecksums Flyway 체크섬 검증 여부 ({@code spring.flyway.validate-on-migrate})
+     * @param entityManagerFactory 검증 대상 EntityManagerFactory
+     * @param validateMapping Hibernate 매핑 검증 여부 ({@code spring.jpa.hibernate.ddl-auto=validate})
+     * @param eventPublisher readiness 상태 발행
+     */
+    public DeferredSchemaValidator(
+            Flyway flyway,
+            boolean validateChecksums,
+            EntityManagerFactory entityManagerFactory,
+            boolean validateMapping,
+            ApplicationEventPublisher eventPublisher) {
+        this.flyway = flyway;
+        this.validateChecksums = validateChecksums;
+        this.entityManagerFactory = entityManagerFactory;
+        this.validateMapping = validateMapping;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!validateChecksums && !validateMapping) {
+            return;
+        }
+        Thread.ofPlatform().name("schema-validation").daemon().start(this::validate);
+    }
+
+    /**
+     * Flyway 체크섬 검증 후 Hibernate 매핑 검증 (설정으로 켠 검증만 실행)
+     *
+     * @return 검증 통과 여부
+     */
+    boolean validate() {
+        long startNanos = System.nanoTime();
+        try {
+            if (validateChecksums && flyway != null) {
+                flyway.validate();
+            }
+            if (validateMapping) {
+                entityManagerFactory
+                        .unwrap(SessionFactory.class)
+                        .getSchemaManager()
+                        .validateMappedObjects();
+            }
+        } catch (RuntimeException e) {
+            log.error("Deferred schema validation failed, refusing traffic", e);
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+            return false;
+        }
+        log.info(
+                "Deferred schema validation passed in {}ms",
+                (System.nanoTime() - startNanos) / 1_000_000L);
+        return true;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ryuqq.adapter.out.persistence.schema.config;
+
+import com.ryuqq.adapter.out.persistence.schema.DeferredSchemaValidator;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DeferredSchemaValidationConfig - 기동 후 스키마 검증 설정
+ *
+ * <p>{@code persistence.schema-validation.mode=deferred}일 때만 적용됩니다. 환경 프로필의 {@code
+ * spring.flyway.validate-on-migrate}와 {@code spring.jpa.hibernate.ddl-auto}를 그대로 읽어, 켜져 있는 검증만 기동
+ * 중에 끄고 {@link DeferredSchemaValidator}로 넘깁니다. 꺼져 있는 검증은 기동 후에도 실행하지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+@ConditionalOnProperty(
+        prefix = "persistence.schema-validation",
+        name = "mode",
+        havingValue = "deferred")
+public class DeferredSchemaValidationConfig {
+
+    private static final String DDL_AUTO_VALIDATE = "validate";
+
+    /** 체크섬 검증은 기동 후로 (대기 중인 마이그레이션 적용은 그대로 기동 중에 실행) */
+    @Bean
+    public FlywayConfigurationCustomizer deferredFlywayValidationCustomizer() {
+        return configuration -> configuration.validateOnMigrate(false);
+    }
+
+    /** 매핑 검증은 기동 후로 ({@code validate} 외의 값은 그대로 유지) */
+    @Bean
+    public HibernatePropertiesCustomizer deferredHibernateValidationCustomizer(
+            @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto) {
+        return properties -> {
+            if (DDL_AUTO_VALIDATE.equals(ddlAuto)) {
+                properties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+            }
+        };
+    }
+
+    @Bean
+    public DeferredSchemaValidator deferredSchemaValidator(
+            ObjectProvider<Flyway> flyway,
+            @Value("${spring.flyway.validate-on-migrate:true}") boolean validateOnMigrate,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${spring.jpa.hibernate.ddl-auto:none}") String ddlAuto,
+            ApplicationEventPublisher eventPublisher) {
+        return new DeferredSchemaValidator(
+                flyway.getIfAvailable(),
+                validateOnMigrate,
+                entityManagerFactory,
+                DDL_AUTO_VALIDATE.equals(ddlAuto),
+                eventPublisher);
+    }
+}
@@ -0,0 +1,60 @@
+-- ============================================================
+-- V3: feedback_queue 보관(archive) 테이블
+-- ============================================================
+-- 종료 상태(MERGED, LLM_REJECTED, HUMAN_REJECTED)로 보존 기간이 지난 피드백을
+-- feedback_queue 에서 이동하여 활성 테이블의 크기와 인덱스를 작게 유지합니다.
+--
+-- * 원본 ID를 그대로 유지합니다 (AUTO_INCREMENT 미사용).
+-- * created_at 기준 월 단위 RANGE COLUMNS 파티션을 사용합니다.
+--   파티션 키는 PK에 포함되어야 하므로 PK는 (id, created_at) 입니다.
+-- * 보관 기간이 지난 월 파티션은 DROP PARTITION 으로 즉시 제거할 수 있습니다.
+-- * 신규 월 파티션은 p_future 를 REORGANIZE PARTITION 하여 추가합니다.
+-- ============================================================
+
+CREATE TABLE `feedback_queue_archive` (
+  `id` bigint NOT NULL COMMENT '원본 feedback_queue ID',
+  `target_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '피드백 대상 타입',
+  `target_id` bigint DEFAULT NULL COMMENT '피드백 대상 ID',
+  `feedback_type` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '피드백 유형 (ADD, MODIFY, DELETE)',
+  `risk_level` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '위험도 레벨 (SAFE, MEDIUM)',
+  `payload` text COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '피드백 내용 (JSON)',
+  `status` varchar(30) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '처리 상태 (MERGED, LLM_REJECTED, HUMAN_REJECTED)',
+  `review_notes` varchar(1000) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '검토 노트',
+  `created_at` datetime(6) NOT NULL COMMENT '생성 일시 (파티션 키)',
+  `updated_at` datetime(6) NOT NULL COMMENT '수정 일시',
+  `archived_at` datetime(6) NOT NULL COMMENT '보관 일시',
+  PRIMARY KEY (`id`, `created_at`),
+  KEY `idx_feedback_queue_archive_status` (`status`),
+  KEY `idx_feedback_queue_archive_target` (`target_type`, `target_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='MCP 피드백 큐 보관'
+PARTITION BY RANGE COLUMNS (`created_at`) (
+  PARTITION p2025_01 VALUES LESS THAN ('2025-02-01'),
+  PARTITION p2025_02 VALUES LESS THAN ('2025-03-01'),
+  PARTITION p2025_03 VALUES LESS THAN ('2025-04-01'),
+  PARTITION p2025_04 VALUES LESS THAN ('2025-05-01'),
+  PARTITION p2025_05 VALUES LESS THAN ('2025-06-01'),
+  PARTITION p2025_06 VALUES LESS THAN ('2025-07-01'),
+  PARTITION p2025_07 VALUES LESS THAN ('2025-08-01'),
+  PARTITION p2025_08 VALUES LESS THAN ('2025-09-01'),
+  PARTITION p2025_09 VALUES LESS THAN ('2025-10-01'),
+  PARTITION p2025_10 VALUES LESS THAN ('2025-11-01'),
+  PARTITION p2025_11 VALUES LESS THAN ('2025-12-01'),
+  PARTITION p2025_12 VALUES LESS THAN ('2026-01-01'),
+  PARTITION p2026_01 VALUES LESS THAN ('2026-02-01'),
+  PARTITION p2026_02 VALUES LESS THAN ('2026-03-01'),
+  PARTITION p2026_03 VALUES LESS THAN ('2026-04-01'),
+  PARTITION p2026_04 VALUES LESS THAN ('2026-05-01'),
+  PARTITION p2026_05 VALUES LESS THAN ('2026-06-01'),
+  PARTITION p2026_06 VALUES LESS THAN ('2026-07-01'),
+  PARTITION p2026_07 VALUES LESS THAN ('2026-08-01'),
+  PARTITION p2026_08 VALUES LESS THAN ('2026-09-01'),
+  PARTITION p2026_09 VALUES LESS THAN ('2026-10-01'),
+  PARTITION p2026_10 VALUES LESS THAN ('2026-11-01'),
+  PARTITION p2026_11 VALUES LESS THAN ('2026-12-01'),
+  PARTITION p2026_12 VALUES LESS THAN ('2027-01-01'),
+  PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 보관 대상 스캔용 복합 인덱스 (status IN (...) AND updated_at < ?)
+ALTER TABLE `feedback_queue`
+  ADD KEY `idx_feedback_queue_status_updated_at` (`status`, `updated_at`);
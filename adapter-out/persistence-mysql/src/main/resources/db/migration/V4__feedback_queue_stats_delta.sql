@@ -0,0 +1,31 @@
+-- ============================================================
+-- V4: feedback_queue 통계 증감 기록(stats delta) 테이블
+-- ============================================================
+-- 상태/리스크/대상 타입별 건수를 feedback_queue GROUP BY 스캔 없이 제공하기 위한
+-- 추가 전용(append-only) 카운터 기록입니다.
+--
+-- * 상태 전이를 저장하는 트랜잭션에서 (이전 상태 -1, 현재 상태 +1) 을 INSERT 합니다.
+--   같은 카운터 행을 UPDATE 하지 않으므로 전이 트랜잭션끼리 행 락 경합이 없습니다.
+-- * 키별 카운터 = SUM(delta_count) GROUP BY (status, risk_level, target_type)
+-- * 보정 스케줄러가 주기적으로 실제 건수와 대조하고, 누적된 기록을
+--   키별 기준값 한 건으로 압축합니다.
+-- ============================================================
+
+CREATE TABLE `feedback_queue_stats_delta` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `status` varchar(30) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '처리 상태',
+  `risk_level` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '위험도 레벨',
+  `target_type` varchar(50) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '피드백 대상 타입',
+  `delta_count` bigint NOT NULL COMMENT '증감량 (음수 가능)',
+  `created_at` datetime(6) NOT NULL COMMENT '기록 일시',
+  `updated_at` datetime(6) NOT NULL COMMENT '수정 일시',
+  PRIMARY KEY (`id`),
+  KEY `idx_feedback_queue_stats_delta_key` (`status`, `risk_level`, `target_type`, `delta_count`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='MCP 피드백 큐 통계 증감 기록';
+
+-- 기존 데이터 기준값
+INSERT INTO `feedback_queue_stats_delta`
+  (`status`, `risk_level`, `target_type`, `delta_count`, `created_at`, `updated_at`)
+SELECT `status`, `risk_level`, `target_type`, COUNT(*), NOW(6), NOW(6)
+FROM `feedback_queue`
+GROUP BY `status`, `risk_level`, `target_type`;
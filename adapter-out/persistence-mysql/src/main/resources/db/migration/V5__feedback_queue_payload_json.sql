@@ -0,0 +1,56 @@
+-- ============================================================
+-- V5: feedback_queue payload JSON 타입 전환 + 필터용 생성 컬럼
+-- ============================================================
+-- payload 를 TEXT 에서 JSON 으로 전환하여 저장 시점에 형식을 검증하고,
+-- 자주 필터링되는 키를 VIRTUAL 생성 컬럼으로 추출해 인덱스를 부여합니다.
+--
+-- * payload_convention_id  : $.conventionId
+-- * payload_coding_rule_id : $.codingRuleId, 없으면 $.ruleId
+--                            (RuleExample / ChecklistItem 페이로드는 ruleId 키를 사용)
+-- * payload_structure_id   : $.structureId
+--
+-- * JSON_VALUE ... NULL ON ERROR 로 숫자가 아닌 값은 NULL 로 취급합니다 (MySQL 8.0.21+).
+-- * 기존 행의 payload 가 유효한 JSON 이 아니면 MODIFY 가 실패하므로 사전 점검이 필요합니다.
+--     SELECT id FROM feedback_queue WHERE JSON_VALID(payload) = 0;
+-- * 생성 컬럼은 애플리케이션에서 쓰지 않으며 (insertable/updatable = false) 조회 조건에만 사용합니다.
+-- ============================================================
+
+ALTER TABLE `feedback_queue`
+  MODIFY COLUMN `payload` json NOT NULL COMMENT '피드백 내용 (JSON)',
+  ADD COLUMN `payload_convention_id` bigint
+    GENERATED ALWAYS AS (
+      JSON_VALUE(`payload`, '$.conventionId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR)
+    ) VIRTUAL COMMENT 'payload.conventionId',
+  ADD COLUMN `payload_coding_rule_id` bigint
+    GENERATED ALWAYS AS (
+      COALESCE(
+        JSON_VALUE(`payload`, '$.codingRuleId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR),
+        JSON_VALUE(`payload`, '$.ruleId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR))
+    ) VIRTUAL COMMENT 'payload.codingRuleId (fallback: payload.ruleId)',
+  ADD COLUMN `payload_structure_id` bigint
+    GENERATED ALWAYS AS (
+      JSON_VALUE(`payload`, '$.structureId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR)
+    ) VIRTUAL COMMENT 'payload.structureId',
+  ADD KEY `idx_feedback_queue_payload_convention` (`payload_convention_id`, `status`),
+  ADD KEY `idx_feedback_queue_payload_coding_rule` (`payload_coding_rule_id`, `status`),
+  ADD KEY `idx_feedback_queue_payload_structure` (`payload_structure_id`, `status`);
+
+ALTER TABLE `feedback_queue_archive`
+  MODIFY COLUMN `payload` json NOT NULL COMMENT '피드백 내용 (JSON)',
+  ADD COLUMN `payload_convention_id` bigint
+    GENERATED ALWAYS AS (
+      JSON_VALUE(`payload`, '$.conventionId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR)
+    ) VIRTUAL COMMENT 'payload.conventionId',
+  ADD COLUMN `payload_coding_rule_id` bigint
+    GENERATED ALWAYS AS (
+      COALESCE(
+        JSON_VALUE(`payload`, '$.codingRuleId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR),
+        JSON_VALUE(`payload`, '$.ruleId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR))
+    ) VIRTUAL COMMENT 'payload.codingRuleId (fallback: payload.ruleId)',
+  ADD COLUMN `payload_structure_id` bigint
+    GENERATED ALWAYS AS (
+      JSON_VALUE(`payload`, '$.structureId' RETURNING SIGNED NULL ON EMPTY NULL ON ERROR)
+    ) VIRTUAL COMMENT 'payload.structureId',
+  ADD KEY `idx_feedback_queue_archive_payload_convention` (`payload_convention_id`),
+  ADD KEY `idx_feedback_queue_archive_payload_coding_rule` (`payload_coding_rule_id`),
+  ADD KEY `idx_feedback_queue_archive_payload_structure` (`payload_structure_id`);
@@ -0,0 +1,32 @@
+-- ============================================================
+-- V6: 도메인 이벤트 트랜잭션 아웃박스 테이블
+-- ============================================================
+-- 도메인 이벤트를 Aggregate 변경과 같은 트랜잭션에서 기록하여, 커밋 직후
+-- 프로세스가 종료되어도 이벤트가 유실되지 않도록 합니다.
+--
+-- * 릴레이는 (status, next_attempt_at, id) 인덱스로 전달 가능한 행을 ID 순서로 읽고,
+--   발행에 성공한 행은 배치 단위로 DELETE 합니다 (테이블은 미발행 행만 유지).
+-- * id 는 AUTO_INCREMENT 로 INSERT 순서를 따릅니다. 같은 aggregate_key 의 이벤트는
+--   Aggregate 행 락으로 직렬화된 트랜잭션에서 기록되므로 id 순서가 곧 발생 순서입니다.
+-- * 실패 시 attempts 증가 + next_attempt_at 백오프, 최대 횟수 도달 시 DEAD.
+--   DEAD 행은 자동 전달 대상에서 제외되며 운영자가 확인 후 처리합니다.
+-- ============================================================
+
+CREATE TABLE `domain_event_outbox` (
+  `id` bigint NOT NULL AUTO_INCREMENT,
+  `aggregate_key` varchar(150) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '순서 보장 단위 키',
+  `event_type` varchar(100) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이벤트 타입',
+  `event_class` varchar(255) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '이벤트 클래스 (FQN)',
+  `payload` json NOT NULL COMMENT '직렬화된 이벤트 (JSON)',
+  `status` varchar(20) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '상태 (PENDING, DEAD)',
+  `attempts` int NOT NULL DEFAULT 0 COMMENT '전달 시도 횟수',
+  `next_attempt_at` datetime(6) NOT NULL COMMENT '다음 전달 시도 일시',
+  `last_error` varchar(500) COLLATE utf8mb4_unicode_ci DEFAULT NULL COMMENT '마지막 실패 사유',
+  `occurred_at` datetime(6) NOT NULL COMMENT '이벤트 발생 일시',
+  `created_at` datetime(6) NOT NULL COMMENT '기록 일시',
+  `updated_at` datetime(6) NOT NULL COMMENT '수정 일시',
+  PRIMARY KEY (`id`),
+  KEY `idx_domain_event_outbox_due` (`status`, `next_attempt_at`, `id`),
+  KEY `idx_domain_event_outbox_key` (`aggregate_key`, `status`, `next_attempt_at`),
+  KEY `idx_domain_event_outbox_created` (`status`, `created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='도메인 이벤트 트랜잭션 아웃박스';
@@ -0,0 +1,25 @@
+-- ============================================================
+-- V7: 참조 데이터 2차 캐시 리전 버전 테이블
+-- ============================================================
+-- Hibernate 2차 캐시는 노드마다 독립된 인프로세스 캐시이므로, 한 노드의 변경을
+-- 다른 노드에 알리기 위해 리전별 버전을 DB에 둡니다.
+--
+-- * 참조 엔티티를 변경한 트랜잭션이 커밋 직전에 해당 리전의 version 을 올립니다
+--   (변경과 같은 트랜잭션 - 커밋되면 반드시 함께 반영).
+-- * 각 노드는 주기적으로 이 테이블을 읽어 version 이 바뀐 리전과 쿼리 캐시를 비웁니다.
+-- * region 값은 ReferenceCacheRegions 상수 / ehcache.xml alias 와 일치해야 합니다.
+-- ============================================================
+
+CREATE TABLE `reference_cache_version` (
+  `region` varchar(100) COLLATE utf8mb4_unicode_ci NOT NULL COMMENT '2차 캐시 리전 이름',
+  `version` bigint NOT NULL DEFAULT 0 COMMENT '리전 변경 버전',
+  PRIMARY KEY (`region`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='참조 데이터 2차 캐시 리전 버전';
+
+INSERT INTO `reference_cache_version` (`region`, `version`) VALUES
+  ('reference.layer', 0),
+  ('reference.class_type', 0),
+  ('reference.class_type_category', 0),
+  ('reference.architecture', 0),
+  ('reference.tech_stack', 0),
+  ('reference.layer_dependency_rule', 0);
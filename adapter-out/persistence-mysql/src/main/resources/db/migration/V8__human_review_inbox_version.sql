@@ -0,0 +1,20 @@
+-- ============================================================
+-- V8: Human 리뷰 인박스 변경 버전 테이블
+-- ============================================================
+-- 롱폴링 대기자는 노드마다 메모리에 있으므로, 한 노드의 인박스 변경을
+-- 다른 노드에 알리기 위해 단일 행 버전을 DB에 둡니다.
+--
+-- * 피드백이 Human 리뷰 대기에 진입하거나 벗어난 트랜잭션이 version 을 올립니다
+--   (변경과 같은 트랜잭션 - 커밋되면 반드시 함께 반영).
+-- * 대기자가 있는 노드는 짧은 주기로 이 행만 읽고, version 이 바뀌었을 때만
+--   인박스 목록을 재조회합니다.
+-- * 리뷰 대기 진입/이탈은 드문 전이이므로 단일 행 갱신 경합은 무시할 수준입니다.
+-- ============================================================
+
+CREATE TABLE `human_review_inbox_version` (
+  `id` tinyint NOT NULL COMMENT '단일 행 (항상 1)',
+  `version` bigint NOT NULL DEFAULT 0 COMMENT '인박스 변경 버전',
+  PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Human 리뷰 인박스 변경 버전';
+
+INSERT INTO `human_review_inbox_version` (`id`, `version`) VALUES (1, 0);
@@ -0,0 +1,117 @@
+package com.ryuqq.adapter.out.persistence.common.cache;
+
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import java.time.Duration;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * ReferenceCacheSynchronizer 단위 테스트
+ *
+ * <p>H2 인메모리 DB의 reference_cache_version 버전을 바꾸고, 2차 캐시 리전 비우기 호출을 확인합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ReferenceCacheSynchronizer 단위 테스트")
+class ReferenceCacheSynchronizerTest {
+
+    private static final String LAYER = ReferenceCacheRegions.LAYER;
+    private static final String CLASS_TYPE = ReferenceCacheRegions.CLASS_TYPE;
+
+    private JdbcTemplate jdbcTemplate;
+    private Cache cache;
+    private ReferenceCacheSynchronizer sut;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:reference-cache-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(
+                "CREATE TABLE reference_cache_version (region VARCHAR(100) PRIMARY KEY,"
+                        + " version BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO reference_cache_version VALUES (?, 0)", LAYER);
+        jdbcTemplate.update("INSERT INTO reference_cache_version VALUES (?, 0)", CLASS_TYPE);
+        cache = mock(Cache.class);
+        sut = new ReferenceCacheSynchronizer(dataSource, cache, Duration.ofMinutes(1));
+    }
+
+    private void bump(String region) {
+        jdbcTemplate.update(
+                "UPDATE reference_cache_version SET version = version + 1 WHERE region = ?",
+                region);
+    }
+
+    @Nested
+    @DisplayName("sync 메서드")
+    class Sync {
+
+        @Test
+        @DisplayName("다른 노드가 리전 버전을 올리면 해당 리전과 쿼리 캐시를 비움")
+        void sync_WhenVersionChanged_ShouldEvictRegionAndQueryCache() {
+            // given
+            sut.sync(false);
+            bump(LAYER);
+
+            // when
+            sut.sync(true);
+
+            // then
+            then(cache).should().evictRegion(LAYER);
+            then(cache).should(never()).evictRegion(CLASS_TYPE);
+            then(cache).should().evictDefaultQueryRegion();
+        }
+
+        @Test
+        @DisplayName("버전이 그대로면 아무것도 비우지 않음")
+        void sync_WhenUnchanged_ShouldNotEvict() {
+            // given
+            sut.sync(false);
+
+            // when
+            sut.sync(true);
+
+            // then
+            then(cache).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("기동 시 기준 버전은 비우지 않고 기록만 함")
+        void sync_OnStartup_ShouldOnlyRecordBaseline() {
+            // when
+            sut.sync(false);
+
+            // then
+            then(cache).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("기동 시 기준 버전을 얻지 못했으면 처음 본 리전을 비움")
+        void sync_WithoutBaseline_ShouldEvictUnseenRegions() {
+            // when
+            sut.sync(true);
+
+            // then
+            then(cache).should().evictRegion(LAYER);
+            then(cache).should().evictRegion(CLASS_TYPE);
+            then(cache).should().evictDefaultQueryRegion();
+        }
+    }
+}
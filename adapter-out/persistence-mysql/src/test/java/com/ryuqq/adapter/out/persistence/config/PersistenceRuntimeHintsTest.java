@@ -0,0 +1,72 @@
+package com.ryuqq.adapter.out.persistence.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.mcp.dto.ArchUnitTestRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.domain.codingrule.vo.CodingRuleIndexData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * PersistenceRuntimeHints 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("PersistenceRuntimeHints 단위 테스트")
+class PersistenceRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new PersistenceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("dto 패키지의 QueryDSL 프로젝션 Row에 public 생성자 힌트 등록")
+    void registerHints_ShouldRegisterProjectionConstructors() {
+        assertThat(
+                        RuntimeHintsPredicates.reflection()
+                                .onType(ArchUnitTestRow.class)
+                                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(
+                        RuntimeHintsPredicates.reflection()
+                                .onType(ModulePathRow.class)
+                                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+        assertThat(
+                        RuntimeHintsPredicates.reflection()
+                                .onType(CodingRuleIndexData.class)
+                                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("dto 패키지 밖의 클래스는 등록하지 않음")
+    void registerHints_ShouldSkipClassesOutsideDtoPackages() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(JpaConfig.class)).rejects(hints);
+    }
+
+    @Test
+    @DisplayName("JCache 프로바이더와 ehcache.xml 힌트 등록")
+    void registerHints_ShouldRegisterSecondLevelCache() {
+        assertThat(
+                        RuntimeHintsPredicates.reflection()
+                                .onType(
+                                        TypeReference.of(
+                                                "org.ehcache.jsr107.EhcacheCachingProvider")))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ryuqq.adapter.out.persistence.conventionset.adapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.adapter.out.persistence.conventionset.repository.ConventionSetExportAdminQueryDslRepository;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ConventionSetExportAdminQueryAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("query")
+@Tag("persistence-layer")
+@DisplayName("ConventionSetExport Admin Query Adapter 단위 테스트")
+class ConventionSetExportAdminQueryAdapterTest {
+
+    @Mock private ConventionSetExportAdminQueryDslRepository repository;
+
+    @InjectMocks private ConventionSetExportAdminQueryAdapter queryAdapter;
+
+    @Test
+    @DisplayName("streamRows() 호출 시 테이블에 맞는 Repository 메서드에 위임해야 한다")
+    void streamRows_ShouldDelegateByTable() {
+        // Given
+        Object[] row = {1L, 2L, "DOMAIN", "도메인", null, 1};
+        when(repository.streamLayers(2L)).thenReturn(Stream.<Object[]>of(row));
+
+        // When
+        List<Object[]> result;
+        try (Stream<Object[]> rows = queryAdapter.streamRows(ConventionSetTable.LAYER, 2L)) {
+            result = rows.toList();
+        }
+
+        // Then
+        assertThat(result).containsExactly(row);
+        verify(repository).streamLayers(2L);
+    }
+
+    @Test
+    @DisplayName("streamRows() 호출 시 하위 규칙 테이블도 기술 스택 ID로 위임해야 한다")
+    void streamRows_WithChecklistItem_ShouldDelegate() {
+        // Given
+        when(repository.streamChecklistItems(2L)).thenReturn(Stream.empty());
+
+        // When
+        long count = queryAdapter.streamRows(ConventionSetTable.CHECKLIST_ITEM, 2L).count();
+
+        // Then
+        assertThat(count).isZero();
+        verify(repository).streamChecklistItems(2L);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ryuqq.adapter.out.persistence.conventionset.jdbc;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheRegions;
+import com.ryuqq.adapter.out.persistence.common.cache.ReferenceCacheVersionListener;
+import com.ryuqq.adapter.out.persistence.dictionary.ReferenceDictionaryChangeListener;
+import com.ryuqq.adapter.out.persistence.layer.entity.LayerJpaEntity;
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndexChangeListener;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ConventionSetCacheInvalidator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ConventionSetCacheInvalidator 단위 테스트")
+class ConventionSetCacheInvalidatorTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private Cache cache;
+    private ReferenceDictionaryChangeListener dictionaryChangeListener;
+    private ModulePathIndexChangeListener pathIndexChangeListener;
+    private ConventionSetCacheInvalidator sut;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactoryImplementor sessionFactory =
+                mock(SessionFactoryImplementor.class, RETURNS_DEEP_STUBS);
+        given(sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled())
+                .willReturn(true);
+        EntityPersister persister = mock(EntityPersister.class, RETURNS_DEEP_STUBS);
+        given(persister.canWriteToCache()).willReturn(true);
+        given(persister.getCacheAccessStrategy().getRegion().getName())
+                .willReturn(ReferenceCacheRegions.LAYER);
+        given(sessionFactory.getMappingMetamodel().getEntityDescriptor(LayerJpaEntity.class))
+                .willReturn(persister);
+        cache = mock(Cache.class);
+        given(sessionFactory.getCache()).willReturn(cache);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        given(entityManagerFactory.unwrap(SessionFactoryImplementor.class))
+                .willReturn(sessionFactory);
+
+        jdbcTemplate = mock(JdbcTemplate.class);
+        dictionaryChangeListener = mock(ReferenceDictionaryChangeListener.class);
+        pathIndexChangeListener = mock(ModulePathIndexChangeListener.class);
+        sut =
+                new ConventionSetCacheInvalidator(
+                        entityManagerFactory,
+                        jdbcTemplate,
+                        dictionaryChangeListener,
+                        pathIndexChangeListener,
+                        true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    @DisplayName("rowsInserted 메서드")
+    class RowsInserted {
+
+        @Test
+        @DisplayName("트랜잭션 안에서는 리전 버전만 올리고, 로컬 무효화는 커밋 후 수행")
+        void rowsInserted_InTransaction_ShouldBumpVersionAndEvictAfterCommit() {
+            // given
+            TransactionSynchronizationManager.initSynchronization();
+
+            // when
+            sut.rowsInserted(ConventionSetTable.LAYER);
+
+            // then
+            then(jdbcTemplate)
+                    .should()
+                    .update(ReferenceCacheVersionListener.BUMP_SQL, ReferenceCacheRegions.LAYER);
+            then(cache).shouldHaveNoInteractions();
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            then(cache).should().evictRegion(ReferenceCacheRegions.LAYER);
+            then(cache).should().evictDefaultQueryRegion();
+            then(dictionaryChangeListener).should().entityTypeChanged(LayerJpaEntity.class);
+            then(pathIndexChangeListener).should().entityTypeChanged(LayerJpaEntity.class);
+        }
+
+        @Test
+        @DisplayName("캐시와 무관한 테이블은 아무것도 하지 않음")
+        void rowsInserted_ForUntrackedTable_ShouldDoNothing() {
+            // when
+            sut.rowsInserted(ConventionSetTable.CODING_RULE);
+
+            // then
+            then(jdbcTemplate).should(never()).update(anyString(), anyString());
+            then(cache).shouldHaveNoInteractions();
+            then(dictionaryChangeListener).shouldHaveNoInteractions();
+        }
+    }
+}
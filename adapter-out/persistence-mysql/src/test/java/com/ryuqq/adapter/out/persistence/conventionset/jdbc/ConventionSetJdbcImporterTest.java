@@ -0,0 +1,148 @@
+package com.ryuqq.adapter.out.persistence.conventionset.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * ConventionSetJdbcImporter 단위 테스트
+ *
+ * <p>H2 인메모리 DB에 layer 테이블만 만들어 IN 조회 분할과 배치 INSERT를 확인합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ConventionSetJdbcImporter 단위 테스트")
+class ConventionSetJdbcImporterTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private JdbcTemplate jdbcTemplate;
+    private ConventionSetCacheInvalidator cacheInvalidator;
+
+    private ConventionSetJdbcImporter sut;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate =
+                new JdbcTemplate(
+                        new DriverManagerDataSource(
+                                "jdbc:h2:mem:import-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                                "sa",
+                                ""));
+        jdbcTemplate.execute(
+                "CREATE TABLE layer (id BIGINT AUTO_INCREMENT PRIMARY KEY, architecture_id BIGINT,"
+                        + " code VARCHAR(50), name VARCHAR(100), description VARCHAR(255),"
+                        + " order_index INT, created_at TIMESTAMP, updated_at TIMESTAMP,"
+                        + " deleted_at TIMESTAMP)");
+        cacheInvalidator = mock(ConventionSetCacheInvalidator.class);
+        sut = new ConventionSetJdbcImporter(jdbcTemplate, cacheInvalidator);
+    }
+
+    /** id 값은 계획 단계의 임시 ID (저장 시 무시) */
+    private static List<Object[]> layers(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[] {-(i + 1L), 1L, "L" + i, "레이어 " + i, null, i});
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("배치 INSERT는 AUTO_INCREMENT가 발급한 ID를 행 순서대로 반환하고 created_at/updated_at 저장")
+    void insertAll_ShouldReturnGeneratedIdsInRowOrder() {
+        // given
+        jdbcTemplate.execute("ALTER TABLE layer ALTER COLUMN id RESTART WITH 100");
+
+        // when
+        List<Long> ids = sut.insertAll(ConventionSetTable.LAYER, layers(3), NOW);
+
+        // then
+        assertThat(ids).containsExactly(100L, 101L, 102L);
+        Map<String, Object> row =
+                jdbcTemplate.queryForMap("SELECT * FROM layer WHERE id = ?", 101L);
+        assertThat(row.get("CODE")).isEqualTo("L1");
+        assertThat(row.get("ORDER_INDEX")).isEqualTo(1);
+        assertThat(row.get("CREATED_AT")).isEqualTo(Timestamp.from(NOW));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM layer", Long.class))
+                .isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 후 저장한 테이블의 캐시 무효화를 알림")
+    void insertAll_ShouldNotifyCacheInvalidator() {
+        // when
+        sut.insertAll(ConventionSetTable.LAYER, layers(2), NOW);
+
+        // then
+        then(cacheInvalidator).should().rowsInserted(ConventionSetTable.LAYER);
+    }
+
+    @Test
+    @DisplayName("IN 조회는 MAX_IN_VALUES개씩 나눠 조회하고 삭제된 행은 제외")
+    void findExistingIds_ShouldPartitionAndSkipDeleted() {
+        // given
+        int count = ConventionSetJdbcImporter.MAX_IN_VALUES + 10;
+        sut.insertAll(ConventionSetTable.LAYER, layers(count), NOW);
+        jdbcTemplate.update("UPDATE layer SET deleted_at = updated_at WHERE id = 5");
+        List<Long> ids = LongStream.rangeClosed(1, count + 5).boxed().toList();
+
+        // when
+        Set<Long> existing = sut.findExistingIds(ConventionSetTable.LAYER, ids);
+
+        // then
+        assertThat(existing).hasSize(count - 1).doesNotContain(5L, count + 1L);
+    }
+
+    @Test
+    @DisplayName("선택 컬럼 순서대로 값을 담고 ID 순으로 반환")
+    void findRowsIn_ShouldReturnRequestedColumnsOrderedById() {
+        // given
+        List<Long> ids = sut.insertAll(ConventionSetTable.LAYER, layers(2), NOW);
+
+        // when
+        List<Object[]> rows =
+                sut.findRowsIn(
+                        ConventionSetTable.LAYER,
+                        List.of("id", "architecture_id", "code"),
+                        "architecture_id",
+                        Set.of(1L, 2L));
+
+        // then
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(ids.get(0), 1L, "L0");
+        assertThat(rows.get(1)).containsExactly(ids.get(1), 1L, "L1");
+    }
+
+    @Test
+    @DisplayName("테이블에 없는 컬럼은 SQL을 만들기 전에 거부")
+    void findRowsIn_WithUnknownColumn_ShouldReject() {
+        assertThatThrownBy(
+                        () ->
+                                sut.findRowsIn(
+                                        ConventionSetTable.LAYER,
+                                        List.of("id", "code; DROP TABLE layer"),
+                                        "architecture_id",
+                                        Set.of(1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,111 @@
+package com.ryuqq.adapter.out.persistence.dictionary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.dictionary.dto.ReferenceCodeRow;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CodeDictionary 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("CodeDictionary 단위 테스트")
+class CodeDictionaryTest {
+
+    private static final long HEXAGONAL = 1L;
+    private static final long LAYERED = 2L;
+
+    /** 두 아키텍처에 같은 레이어 코드(DOMAIN)가 있는 사전 */
+    private static CodeDictionary layers() {
+        return CodeDictionary.of(
+                List.of(
+                        new ReferenceCodeRow(30L, LAYERED, "DOMAIN"),
+                        new ReferenceCodeRow(12L, HEXAGONAL, "APPLICATION"),
+                        new ReferenceCodeRow(11L, HEXAGONAL, "DOMAIN"),
+                        new ReferenceCodeRow(13L, HEXAGONAL, "ADAPTER_OUT")));
+    }
+
+    @Nested
+    @DisplayName("codeOf 메서드")
+    class CodeOf {
+
+        @Test
+        @DisplayName("id로 코드를 찾고 없는 id는 null")
+        void codeOf_ShouldResolveById() {
+            // given
+            CodeDictionary sut = layers();
+
+            // when & then
+            assertThat(sut.codeOf(12L)).isEqualTo("APPLICATION");
+            assertThat(sut.codeOf(30L)).isEqualTo("DOMAIN");
+            assertThat(sut.codeOf(99L)).isNull();
+            assertThat(sut.size()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("idOf / idsOf / idsIn 메서드")
+    class IdLookup {
+
+        @Test
+        @DisplayName("같은 코드라도 범위별로 다른 id")
+        void idOf_ShouldResolveWithinScope() {
+            // given
+            CodeDictionary sut = layers();
+
+            // when & then
+            assertThat(sut.idOf(HEXAGONAL, "DOMAIN")).hasValue(11L);
+            assertThat(sut.idOf(LAYERED, "DOMAIN")).hasValue(30L);
+            assertThat(sut.idOf(LAYERED, "APPLICATION")).isEmpty();
+            assertThat(sut.idOf(99L, "DOMAIN")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("여러 코드 변환 시 없는 코드는 제외하고 요청 순서 유지")
+        void idsOf_ShouldSkipUnknownCodes() {
+            // given
+            CodeDictionary sut = layers();
+
+            // when
+            long[] ids = sut.idsOf(HEXAGONAL, List.of("ADAPTER_OUT", "UNKNOWN", "DOMAIN"));
+
+            // then
+            assertThat(ids).containsExactly(13L, 11L);
+        }
+
+        @Test
+        @DisplayName("범위의 전체 id 조회, 없는 범위는 빈 배열")
+        void idsIn_ShouldReturnAllIdsOfScope() {
+            // given
+            CodeDictionary sut = layers();
+
+            // when & then
+            assertThat(sut.idsIn(HEXAGONAL)).containsExactlyInAnyOrder(11L, 12L, 13L);
+            assertThat(sut.idsIn(LAYERED)).containsExactly(30L);
+            assertThat(sut.idsIn(99L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 범위의 중복 코드는 id가 작은 항목으로 변환")
+        void idOf_WithDuplicateCode_ShouldPickSmallestId() {
+            // given
+            CodeDictionary sut =
+                    CodeDictionary.of(
+                            List.of(
+                                    new ReferenceCodeRow(7L, HEXAGONAL, "DOMAIN"),
+                                    new ReferenceCodeRow(5L, HEXAGONAL, "DOMAIN"),
+                                    new ReferenceCodeRow(6L, HEXAGONAL, "DOMAIN")));
+
+            // when & then
+            assertThat(sut.idOf(HEXAGONAL, "DOMAIN")).hasValue(5L);
+        }
+    }
+}
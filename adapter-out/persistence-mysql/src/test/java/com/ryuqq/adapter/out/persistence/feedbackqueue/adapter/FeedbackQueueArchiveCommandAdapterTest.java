@@ -0,0 +1,61 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueArchiveJpaEntity;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueArchiveJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueArchiveJpaRepository;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FeedbackQueueArchiveCommandAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("command")
+@Tag("persistence-layer")
+@DisplayName("FeedbackQueueArchive Command Adapter 단위 테스트")
+class FeedbackQueueArchiveCommandAdapterTest {
+
+    @Mock private FeedbackQueueArchiveJpaRepository repository;
+
+    @Mock private FeedbackQueueArchiveJpaEntityMapper mapper;
+
+    @InjectMocks private FeedbackQueueArchiveCommandAdapter commandAdapter;
+
+    @Test
+    @DisplayName("persistAll() 호출 시 보관 일시와 함께 변환 후 saveAll 한 번으로 저장해야 한다")
+    void persistAll_ShouldMapAndSaveAllOnce() {
+        // Given
+        Instant archivedAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<FeedbackQueue> feedbackQueues =
+                List.of(mock(FeedbackQueue.class), mock(FeedbackQueue.class));
+        List<FeedbackQueueArchiveJpaEntity> entities =
+                List.of(
+                        mock(FeedbackQueueArchiveJpaEntity.class),
+                        mock(FeedbackQueueArchiveJpaEntity.class));
+
+        when(mapper.toEntities(feedbackQueues, archivedAt)).thenReturn(entities);
+
+        // When
+        commandAdapter.persistAll(feedbackQueues, archivedAt);
+
+        // Then
+        verify(mapper).toEntities(feedbackQueues, archivedAt);
+        verify(repository).saveAll(entities);
+    }
+}
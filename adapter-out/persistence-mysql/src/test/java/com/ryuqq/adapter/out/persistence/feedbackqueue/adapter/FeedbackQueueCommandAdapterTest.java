@@ -3,6 +3,7 @@ package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -11,10 +12,12 @@ import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueJpaEn
 import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueJpaRepository;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -82,4 +85,27 @@ class FeedbackQueueCommandAdapterTest {
         inOrder.verify(mapper).toEntity(feedbackQueue);
         inOrder.verify(repository).save(entity);
     }
+
+    @Test
+    @DisplayName("deleteArchived() 호출 시 deleteAllByIdInBatch로 일괄 삭제해야 한다")
+    void deleteArchived_ShouldDeleteInBatch() {
+        // Given
+        List<Long> ids = List.of(1L, 2L, 3L);
+
+        // When
+        commandAdapter.deleteArchived(ids);
+
+        // Then
+        verify(repository).deleteAllByIdInBatch(ids);
+    }
+
+    @Test
+    @DisplayName("deleteArchived() 호출 시 빈 목록이면 삭제하지 않아야 한다")
+    void deleteArchived_WithEmptyIds_ShouldNotDelete() {
+        // When
+        commandAdapter.deleteArchived(List.of());
+
+        // Then
+        verify(repository, never()).deleteAllByIdInBatch(ArgumentMatchers.<Long>anyIterable());
+    }
 }
@@ -0,0 +1,104 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.adapter;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.adapter.out.persistence.feedbackqueue.entity.FeedbackQueueStatsDeltaJpaEntity;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.mapper.FeedbackQueueStatsDeltaJpaEntityMapper;
+import com.ryuqq.adapter.out.persistence.feedbackqueue.repository.FeedbackQueueStatsDeltaJpaRepository;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FeedbackQueueStatsCommandAdapter 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("command")
+@Tag("persistence-layer")
+@DisplayName("FeedbackQueueStats Command Adapter 단위 테스트")
+class FeedbackQueueStatsCommandAdapterTest {
+
+    @Mock private FeedbackQueueStatsDeltaJpaRepository repository;
+
+    @Mock private FeedbackQueueStatsDeltaJpaEntityMapper mapper;
+
+    @InjectMocks private FeedbackQueueStatsCommandAdapter commandAdapter;
+
+    @Test
+    @DisplayName("persistAll() 호출 시 증감을 변환 후 saveAll 한 번으로 INSERT 해야 한다")
+    void persistAll_ShouldMapAndSaveAllOnce() {
+        // Given
+        Instant recordedAt = Instant.parse("2026-01-01T00:00:00Z");
+        List<FeedbackQueueCounterDelta> deltas =
+                List.of(
+                        FeedbackQueueCounterDelta.increment(
+                                FeedbackQueueCounterKey.of(
+                                        FeedbackStatus.PENDING,
+                                        RiskLevel.SAFE,
+                                        FeedbackTargetType.CODING_RULE)));
+        List<FeedbackQueueStatsDeltaJpaEntity> entities =
+                List.of(mock(FeedbackQueueStatsDeltaJpaEntity.class));
+
+        when(mapper.toEntities(deltas, recordedAt)).thenReturn(entities);
+
+        // When
+        commandAdapter.persistAll(deltas, recordedAt);
+
+        // Then
+        verify(repository).saveAll(entities);
+    }
+
+    @Test
+    @DisplayName("persistAll() 에 빈 목록이 주어지면 저장하지 않아야 한다")
+    void persistAll_WithEmptyDeltas_ShouldSkip() {
+        // When
+        commandAdapter.persistAll(List.of(), Instant.parse("2026-01-01T00:00:00Z"));
+
+        // Then
+        verify(mapper, never()).toEntities(anyList(), any());
+        verify(repository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("deleteAll() 호출 시 ID 기반 일괄 삭제해야 한다")
+    void deleteAll_ShouldDeleteByIdsInBatch() {
+        // Given
+        List<Long> deltaIds = List.of(1L, 2L);
+
+        // When
+        commandAdapter.deleteAll(deltaIds);
+
+        // Then
+        verify(repository).deleteAllByIdInBatch(deltaIds);
+    }
+
+    @Test
+    @DisplayName("deleteAll() 에 빈 목록이 주어지면 삭제하지 않아야 한다")
+    void deleteAll_WithEmptyIds_ShouldSkip() {
+        // When
+        commandAdapter.deleteAll(List.of());
+
+        // Then
+        verify(repository, never()).deleteAllByIdInBatch(anyList());
+    }
+}
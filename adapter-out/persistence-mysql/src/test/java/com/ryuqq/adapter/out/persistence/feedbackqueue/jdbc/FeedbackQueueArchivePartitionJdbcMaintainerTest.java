@@ -0,0 +1,73 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * FeedbackQueueArchivePartitionJdbcMaintainer 단위 테스트
+ *
+ * <p>파티션 DDL 문장과 비파티션 DB(H2)에서의 동작을 확인합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("FeedbackQueueArchivePartitionJdbcMaintainer 단위 테스트")
+class FeedbackQueueArchivePartitionJdbcMaintainerTest {
+
+    @Test
+    @DisplayName("p_future를 월 파티션들과 p_future로 재구성 (연말 경계 포함)")
+    void reorganizeFutureSql_ShouldSplitFutureIntoMonthlyPartitions() {
+        // when
+        String sql =
+                FeedbackQueueArchivePartitionJdbcMaintainer.reorganizeFutureSql(
+                        List.of(YearMonth.of(2026, 12), YearMonth.of(2027, 1)));
+
+        // then
+        assertThat(sql)
+                .isEqualTo(
+                        "ALTER TABLE feedback_queue_archive REORGANIZE PARTITION p_future INTO ("
+                                + "PARTITION p2026_12 VALUES LESS THAN ('2027-01-01'), "
+                                + "PARTITION p2027_01 VALUES LESS THAN ('2027-02-01'), "
+                                + "PARTITION p_future VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("만료 월 파티션을 한 문장으로 삭제")
+    void dropSql_ShouldDropMonthlyPartitions() {
+        // when
+        String sql =
+                FeedbackQueueArchivePartitionJdbcMaintainer.dropSql(
+                        List.of(YearMonth.of(2025, 1), YearMonth.of(2025, 2)));
+
+        // then
+        assertThat(sql)
+                .isEqualTo("ALTER TABLE feedback_queue_archive DROP PARTITION p2025_01, p2025_02");
+    }
+
+    @Test
+    @DisplayName("MySQL이 아니면 월 파티션이 없는 것으로 취급")
+    void findMonthlyPartitions_OnH2_ShouldReturnEmpty() {
+        // given
+        JdbcTemplate jdbcTemplate =
+                new JdbcTemplate(
+                        new DriverManagerDataSource(
+                                "jdbc:h2:mem:partition-" + UUID.randomUUID() + ";MODE=MySQL",
+                                "sa",
+                                ""));
+        FeedbackQueueArchivePartitionJdbcMaintainer sut =
+                new FeedbackQueueArchivePartitionJdbcMaintainer(jdbcTemplate);
+
+        // when & then
+        assertThat(sut.findMonthlyPartitions()).isEmpty();
+    }
+}
@@ -0,0 +1,74 @@
+package com.ryuqq.adapter.out.persistence.feedbackqueue.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * HumanReviewInboxVersionJdbcStore 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("HumanReviewInboxVersionJdbcStore 단위 테스트")
+class HumanReviewInboxVersionJdbcStoreTest {
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate =
+                new JdbcTemplate(
+                        new DriverManagerDataSource(
+                                "jdbc:h2:mem:inbox-version-" + UUID.randomUUID() + ";MODE=MySQL",
+                                "sa",
+                                ""));
+        jdbcTemplate.execute(
+                "CREATE TABLE human_review_inbox_version"
+                        + " (id TINYINT PRIMARY KEY, version BIGINT NOT NULL DEFAULT 0)");
+        jdbcTemplate.update("INSERT INTO human_review_inbox_version (id, version) VALUES (1, 0)");
+    }
+
+    @Test
+    @DisplayName("증가한 버전을 다른 인스턴스(노드)에서도 읽음")
+    void increment_ShouldBeVisibleToOtherInstances() {
+        // given
+        HumanReviewInboxVersionJdbcStore sut =
+                new HumanReviewInboxVersionJdbcStore(jdbcTemplate, true);
+        HumanReviewInboxVersionJdbcStore otherNode =
+                new HumanReviewInboxVersionJdbcStore(jdbcTemplate, true);
+        long before = otherNode.findVersion();
+
+        // when
+        sut.increment();
+
+        // then
+        assertThat(otherNode.findVersion()).isEqualTo(before + 1);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 테이블을 건드리지 않고 고정 버전 반환")
+    void increment_WhenDisabled_ShouldNotTouchTable() {
+        // given
+        HumanReviewInboxVersionJdbcStore sut =
+                new HumanReviewInboxVersionJdbcStore(jdbcTemplate, false);
+
+        // when
+        sut.increment();
+
+        // then
+        assertThat(sut.findVersion()).isZero();
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                HumanReviewInboxVersionJdbcStore.SELECT_SQL, Long.class))
+                .isZero();
+    }
+}
@@ -160,6 +160,22 @@ class FeedbackQueueJpaEntityMapperTest extends MapperTestSupport {
             assertThat(entity.getFeedbackType()).isEqualTo(FeedbackType.ADD);
             assertThat(entity.getStatus()).isEqualTo(FeedbackStatus.PENDING);
             assertThat(entity.getRiskLevel()).isEqualTo(RiskLevel.SAFE);
+            assertThat(entity.isNew()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공 - ID가 사전 할당된 신규 Domain은 신규 Entity로 변환 (persist 대상)")
+        void newDomainWithPreAssignedId() {
+            // Given
+            FeedbackQueue domain = FeedbackQueueFixture.pendingSafeFeedback();
+            domain.assignId(FeedbackQueueId.of(1_000L));
+
+            // When
+            FeedbackQueueJpaEntity entity = mapper.toEntity(domain);
+
+            // Then
+            assertThat(entity.getId()).isEqualTo(1_000L);
+            assertThat(entity.isNew()).isTrue();
         }
 
         @Test
@@ -189,6 +205,7 @@ class FeedbackQueueJpaEntityMapperTest extends MapperTestSupport {
             assertThat(entity.getTargetId()).isEqualTo(100L);
             assertThat(entity.getStatus()).isEqualTo(FeedbackStatus.LLM_APPROVED);
             assertThat(entity.getReviewNotes()).isEqualTo("Approved");
+            assertThat(entity.isNew()).isFalse();
         }
 
         @Test
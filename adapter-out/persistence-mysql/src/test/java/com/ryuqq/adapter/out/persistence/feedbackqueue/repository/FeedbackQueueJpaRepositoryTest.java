@@ -41,7 +41,7 @@ class FeedbackQueueJpaRepositoryTest extends RepositoryTestSupport {
             Instant now = Instant.now();
             FeedbackQueueJpaEntity entity =
                     FeedbackQueueJpaEntity.ofInstant(
-                            null,
+                            1L,
                             FeedbackTargetType.CODING_RULE,
                             100L,
                             FeedbackType.ADD,
@@ -66,6 +66,35 @@ class FeedbackQueueJpaRepositoryTest extends RepositoryTestSupport {
             assertThat(found.getFeedbackType()).isEqualTo(FeedbackType.ADD);
             assertThat(found.getStatus()).isEqualTo(FeedbackStatus.PENDING);
         }
+
+        @Test
+        @DisplayName("성공 - 사전 할당 ID 신규 엔티티는 해당 ID로 INSERT")
+        void successWithPreAssignedId() {
+            // Given
+            Instant now = Instant.now();
+            long preAssignedId = 9_007_199_254_740_991L;
+            FeedbackQueueJpaEntity entity =
+                    FeedbackQueueJpaEntity.ofNewInstant(
+                            preAssignedId,
+                            FeedbackTargetType.CODING_RULE,
+                            100L,
+                            FeedbackType.ADD,
+                            RiskLevel.MEDIUM,
+                            "{\"rule\": \"new-rule\"}",
+                            FeedbackStatus.PENDING,
+                            null,
+                            now,
+                            now);
+
+            // When
+            FeedbackQueueJpaEntity saved = feedbackQueueJpaRepository.save(entity);
+            flushAndClear();
+
+            // Then
+            assertThat(saved.getId()).isEqualTo(preAssignedId);
+            assertThat(saved.isNew()).isFalse();
+            assertThat(feedbackQueueJpaRepository.findById(preAssignedId)).isPresent();
+        }
     }
 
     @Nested
@@ -79,7 +108,7 @@ class FeedbackQueueJpaRepositoryTest extends RepositoryTestSupport {
             Instant now = Instant.now();
             FeedbackQueueJpaEntity entity =
                     FeedbackQueueJpaEntity.ofInstant(
-                            null,
+                            2L,
                             FeedbackTargetType.RULE_EXAMPLE,
                             null,
                             FeedbackType.ADD,
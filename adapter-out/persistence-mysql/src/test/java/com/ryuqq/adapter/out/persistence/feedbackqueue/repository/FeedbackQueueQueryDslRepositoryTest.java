@@ -40,7 +40,7 @@ class FeedbackQueueQueryDslRepositoryTest extends RepositoryTestSupport {
         // PENDING 상태 - SAFE
         FeedbackQueueJpaEntity feedback1 =
                 FeedbackQueueJpaEntity.ofInstant(
-                        null,
+                        1L,
                         FeedbackTargetType.RULE_EXAMPLE,
                         null,
                         FeedbackType.ADD,
@@ -54,7 +54,7 @@ class FeedbackQueueQueryDslRepositoryTest extends RepositoryTestSupport {
         // PENDING 상태 - MEDIUM
         FeedbackQueueJpaEntity feedback2 =
                 FeedbackQueueJpaEntity.ofInstant(
-                        null,
+                        2L,
                         FeedbackTargetType.CODING_RULE,
                         100L,
                         FeedbackType.ADD,
@@ -68,7 +68,7 @@ class FeedbackQueueQueryDslRepositoryTest extends RepositoryTestSupport {
         // LLM_APPROVED 상태 - SAFE (자동 병합 가능)
         FeedbackQueueJpaEntity feedback3 =
                 FeedbackQueueJpaEntity.ofInstant(
-                        null,
+                        3L,
                         FeedbackTargetType.CLASS_TEMPLATE,
                         50L,
                         FeedbackType.MODIFY,
@@ -82,7 +82,7 @@ class FeedbackQueueQueryDslRepositoryTest extends RepositoryTestSupport {
         // LLM_APPROVED 상태 - MEDIUM (사람 승인 필요)
         FeedbackQueueJpaEntity feedback4 =
                 FeedbackQueueJpaEntity.ofInstant(
-                        null,
+                        4L,
                         FeedbackTargetType.CODING_RULE,
                         200L,
                         FeedbackType.MODIFY,
@@ -96,7 +96,7 @@ class FeedbackQueueQueryDslRepositoryTest extends RepositoryTestSupport {
         // MERGED 상태
         FeedbackQueueJpaEntity feedback5 =
                 FeedbackQueueJpaEntity.ofInstant(
-                        null,
+                        5L,
                         FeedbackTargetType.RULE_EXAMPLE,
                         10L,
                         FeedbackType.DELETE,
@@ -0,0 +1,221 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.ryuqq.domain.common.vo.LockKey;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * MySqlNamedDistributedLock 단위 테스트
+ *
+ * <p>JDBC 호출 흐름(GET_LOCK / RELEASE_LOCK, 커넥션 반납/폐기)을 검증합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("MySqlNamedDistributedLock 단위 테스트")
+class MySqlNamedDistributedLockTest {
+
+    private static final LockKey KEY = () -> "lock:feedback:coding_rule:1";
+
+    @Mock private HikariDataSource lockDataSource;
+
+    @Mock private Connection connection;
+
+    @Mock private PreparedStatement statement;
+
+    @Mock private ResultSet resultSet;
+
+    private SimpleMeterRegistry meterRegistry;
+    private MySqlNamedDistributedLock sut;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        sut =
+                new MySqlNamedDistributedLock(
+                        lockDataSource,
+                        16,
+                        new DistributedLockMetrics(
+                                meterRegistry, MySqlNamedDistributedLock.IMPLEMENTATION));
+
+        when(lockDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+
+    @Nested
+    @DisplayName("tryLock / unlock")
+    class TryLockAndUnlock {
+
+        @Test
+        @DisplayName("GET_LOCK 성공 시 커넥션을 보유하고, unlock 시 RELEASE_LOCK 후 반납")
+        void tryLock_WhenGranted_ShouldHoldConnectionUntilUnlock() throws SQLException {
+            // given
+            when(resultSet.getInt(1)).thenReturn(1);
+
+            // when
+            boolean acquired = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(acquired).isTrue();
+            assertThat(sut.isHeldByCurrentThread(KEY)).isTrue();
+            verify(connection).prepareStatement("SELECT GET_LOCK(?, ?)");
+            verify(connection, never()).close();
+
+            sut.unlock(KEY);
+            verify(connection).prepareStatement("SELECT RELEASE_LOCK(?)");
+            verify(connection).close();
+            assertThat(sut.isHeldByCurrentThread(KEY)).isFalse();
+            assertThat(meterRegistry.get("distributed.lock.hold").timer().count()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("재획득은 DB를 다시 호출하지 않음")
+        void tryLock_Reentrant_ShouldNotCallDatabaseAgain() throws SQLException {
+            // given
+            when(resultSet.getInt(1)).thenReturn(1);
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // when
+            boolean reacquired = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+            sut.unlock(KEY);
+
+            // then
+            assertThat(reacquired).isTrue();
+            verify(lockDataSource).getConnection();
+            verify(connection, never()).close();
+        }
+
+        @Test
+        @DisplayName("GET_LOCK 타임아웃 시 커넥션을 반납하고 경합/타임아웃을 기록")
+        void tryLock_WhenTimedOut_ShouldReturnConnection() throws SQLException {
+            // given
+            when(resultSet.getInt(1)).thenReturn(0);
+
+            // when
+            boolean acquired = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(acquired).isFalse();
+            verify(connection).close();
+            assertThat(sut.isHeldByCurrentThread(KEY)).isFalse();
+            assertThat(meterRegistry.get("distributed.lock.contention").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(
+                            meterRegistry
+                                    .get("distributed.lock.wait")
+                                    .tag("result", "timeout")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("락 전용 풀 고갈 시 예외 대신 획득 실패로 처리하고 스트라이프를 해제")
+        void tryLock_WhenPoolExhausted_ShouldReturnFalse() throws SQLException {
+            // given
+            when(lockDataSource.getConnection())
+                    .thenThrow(new SQLTransientConnectionException("pool exhausted"))
+                    .thenReturn(connection);
+            when(resultSet.getInt(1)).thenReturn(1);
+
+            // when
+            boolean exhausted = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+            boolean retried = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(exhausted).isFalse();
+            assertThat(retried).isTrue();
+            assertThat(
+                            meterRegistry
+                                    .get("distributed.lock.wait")
+                                    .tag("result", "timeout")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(1L);
+            sut.unlock(KEY);
+        }
+
+        @Test
+        @DisplayName("RELEASE_LOCK 실패 시 락이 남은 커넥션을 풀에서 폐기")
+        void unlock_WhenReleaseFails_ShouldEvictConnection() throws SQLException {
+            // given
+            when(resultSet.getInt(1)).thenReturn(1);
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+            when(connection.prepareStatement("SELECT RELEASE_LOCK(?)"))
+                    .thenThrow(new SQLException("connection reset"));
+
+            // when & then
+            assertThatThrownBy(() -> sut.unlock(KEY))
+                    .isInstanceOf(DataAccessResourceFailureException.class);
+            verify(lockDataSource).evictConnection(connection);
+            assertThat(sut.isHeldByCurrentThread(KEY)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("poolSizeFor")
+    class PoolSizeFor {
+
+        @Test
+        @DisplayName("2의 거듭제곱으로 올린 스트라이프 수 + 1")
+        void poolSizeFor_ShouldCoverAllStripes() {
+            assertThat(MySqlNamedDistributedLock.poolSizeFor(64)).isEqualTo(65);
+            assertThat(MySqlNamedDistributedLock.poolSizeFor(48)).isEqualTo(65);
+        }
+    }
+
+    @Nested
+    @DisplayName("lockName")
+    class LockName {
+
+        @Test
+        @DisplayName("64자 이하 키는 그대로 사용")
+        void lockName_WithShortKey_ShouldUseKeyAsIs() {
+            assertThat(MySqlNamedDistributedLock.lockName(KEY)).isEqualTo(KEY.value());
+        }
+
+        @Test
+        @DisplayName("64자를 넘는 키는 64자 해시로 변환")
+        void lockName_WithLongKey_ShouldHash() {
+            // given
+            LockKey longKey = () -> "lock:feedback:" + "x".repeat(100);
+
+            // when
+            String name = MySqlNamedDistributedLock.lockName(longKey);
+
+            // then
+            assertThat(name).hasSize(64).matches("[0-9a-f]+");
+            assertThat(MySqlNamedDistributedLock.lockName(longKey)).isEqualTo(name);
+        }
+    }
+}
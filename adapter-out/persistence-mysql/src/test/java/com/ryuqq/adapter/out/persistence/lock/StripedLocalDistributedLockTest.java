@@ -0,0 +1,170 @@
+package com.ryuqq.adapter.out.persistence.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.domain.common.vo.LockKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * StripedLocalDistributedLock 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("StripedLocalDistributedLock 단위 테스트")
+class StripedLocalDistributedLockTest {
+
+    private static final LockKey KEY = () -> "lock:feedback:coding_rule:1";
+
+    private SimpleMeterRegistry meterRegistry;
+    private StripedLocalDistributedLock sut;
+    private ExecutorService otherThread;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut =
+                new StripedLocalDistributedLock(
+                        16,
+                        new DistributedLockMetrics(
+                                meterRegistry, StripedLocalDistributedLock.IMPLEMENTATION));
+        otherThread = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        otherThread.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("tryLock / unlock")
+    class TryLockAndUnlock {
+
+        @Test
+        @DisplayName("획득한 스레드만 보유자로 인식되고, 해제 후에는 잠겨 있지 않음")
+        void tryLock_ThenUnlock_ShouldTrackOwnership() throws Exception {
+            // when
+            boolean acquired = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(acquired).isTrue();
+            assertThat(sut.isHeldByCurrentThread(KEY)).isTrue();
+            assertThat(sut.isLocked(KEY)).isTrue();
+            assertThat(otherThread.submit(() -> sut.isHeldByCurrentThread(KEY)).get()).isFalse();
+
+            sut.unlock(KEY);
+            assertThat(sut.isLocked(KEY)).isFalse();
+        }
+
+        @Test
+        @DisplayName("같은 스레드의 재획득은 획득 횟수만큼 해제해야 풀림")
+        void tryLock_Reentrant_ShouldRequireMatchingUnlocks() {
+            // given
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // when
+            boolean reacquired = sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+            sut.unlock(KEY);
+
+            // then
+            assertThat(reacquired).isTrue();
+            assertThat(sut.isLocked(KEY)).isTrue();
+
+            sut.unlock(KEY);
+            assertThat(sut.isLocked(KEY)).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 스레드가 보유 중이면 대기 시간 후 실패하고 경합/타임아웃이 기록됨")
+        void tryLock_WhenHeldByOtherThread_ShouldTimeOut() throws Exception {
+            // given
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // when
+            boolean acquired =
+                    otherThread
+                            .submit(() -> sut.tryLock(KEY, 50, 1000, TimeUnit.MILLISECONDS))
+                            .get();
+
+            // then
+            assertThat(acquired).isFalse();
+            assertThat(meterRegistry.get("distributed.lock.contention").counter().count())
+                    .isEqualTo(1.0);
+            assertThat(
+                            meterRegistry
+                                    .get("distributed.lock.wait")
+                                    .tag("result", "timeout")
+                                    .tag("domain", "feedback")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("보유자가 해제하면 대기 중인 스레드가 획득")
+        void tryLock_WhenReleasedWhileWaiting_ShouldAcquire() throws Exception {
+            // given
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+            CountDownLatch waiting = new CountDownLatch(1);
+
+            // when
+            CompletableFuture<Boolean> waiter =
+                    CompletableFuture.supplyAsync(
+                            () -> {
+                                waiting.countDown();
+                                boolean acquired = sut.tryLock(KEY, 5, 10, TimeUnit.SECONDS);
+                                sut.unlock(KEY);
+                                return acquired;
+                            },
+                            otherThread);
+            waiting.await();
+            sut.unlock(KEY);
+
+            // then
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(meterRegistry.get("distributed.lock.hold").timer().count()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("보유자가 아닌 스레드의 unlock은 무시됨")
+        void unlock_ByNonOwner_ShouldBeIgnored() throws Exception {
+            // given
+            sut.tryLock(KEY, 1, 10, TimeUnit.SECONDS);
+
+            // when
+            otherThread.submit(() -> sut.unlock(KEY)).get();
+
+            // then
+            assertThat(sut.isLocked(KEY)).isTrue();
+            assertThat(sut.isHeldByCurrentThread(KEY)).isTrue();
+        }
+
+        @Test
+        @DisplayName("leaseTime을 넘겨 보유하면 초과 보유가 기록됨")
+        void unlock_AfterLease_ShouldRecordLeaseExceeded() throws Exception {
+            // given
+            sut.tryLock(KEY, 1, 1, TimeUnit.MILLISECONDS);
+            Thread.sleep(5);
+
+            // when
+            sut.unlock(KEY);
+
+            // then
+            assertThat(meterRegistry.get("distributed.lock.lease.exceeded").counter().count())
+                    .isEqualTo(1.0);
+        }
+    }
+}
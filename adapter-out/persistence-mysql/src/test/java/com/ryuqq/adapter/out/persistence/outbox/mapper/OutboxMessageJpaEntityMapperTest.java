@@ -0,0 +1,99 @@
+package com.ryuqq.adapter.out.persistence.outbox.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.common.MapperTestSupport;
+import com.ryuqq.adapter.out.persistence.outbox.entity.OutboxMessageJpaEntity;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OutboxMessageJpaEntityMapper 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("mapper")
+@Tag("persistence-layer")
+@DisplayName("OutboxMessageJpaEntityMapper 단위 테스트")
+class OutboxMessageJpaEntityMapperTest extends MapperTestSupport {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+
+    private OutboxMessageJpaEntityMapper mapper;
+
+    @BeforeEach
+    void setUp() {
+        mapper = new OutboxMessageJpaEntityMapper();
+    }
+
+    @Nested
+    @DisplayName("toEntity()")
+    class ToEntity {
+
+        @Test
+        @DisplayName("성공 - 신규 메시지는 ID 없이 변환 (AUTO_INCREMENT)")
+        void successForNew() {
+            // Given
+            OutboxMessage domain =
+                    OutboxMessage.forNew(
+                            "feedback-queue:1",
+                            "FeedbackAwaitingHumanReviewEvent",
+                            "com.example.FeedbackAwaitingHumanReviewEvent",
+                            "{\"feedbackQueueId\":{\"value\":1}}",
+                            NOW,
+                            NOW);
+
+            // When
+            OutboxMessageJpaEntity entity = mapper.toEntity(domain);
+
+            // Then
+            assertThat(entity.getId()).isNull();
+            assertThat(entity.getAggregateKey()).isEqualTo("feedback-queue:1");
+            assertThat(entity.getStatus()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(entity.getNextAttemptAt()).isEqualTo(NOW);
+        }
+    }
+
+    @Nested
+    @DisplayName("toDomain()")
+    class ToDomain {
+
+        @Test
+        @DisplayName("성공 - 실패 기록을 포함해 Entity를 Domain으로 변환")
+        void success() {
+            // Given
+            OutboxMessageJpaEntity entity =
+                    OutboxMessageJpaEntity.of(
+                            7L,
+                            "feedback-queue:1",
+                            "FeedbackAwaitingHumanReviewEvent",
+                            "com.example.FeedbackAwaitingHumanReviewEvent",
+                            "{}",
+                            OutboxStatus.PENDING,
+                            2,
+                            NOW.plusSeconds(2),
+                            "listener failed",
+                            NOW,
+                            NOW,
+                            NOW);
+
+            // When
+            OutboxMessage domain = mapper.toDomain(entity);
+
+            // Then
+            assertThat(domain.idValue()).isEqualTo(7L);
+            assertThat(domain.attempts()).isEqualTo(2);
+            assertThat(domain.lastError()).isEqualTo("listener failed");
+            assertThat(domain.isDue(NOW)).isFalse();
+            assertThat(domain.isDue(NOW.plusSeconds(2))).isTrue();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.pathindex.ClassNameClassifier.Classification;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ClassNameClassifier 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ClassNameClassifier 단위 테스트")
+class ClassNameClassifierTest {
+
+    private static final long HEXAGONAL = 1L;
+    private static final long LAYERED = 2L;
+
+    private static final long DOMAIN = 10L;
+    private static final long PERSISTENCE = 12L;
+
+    private static final String ORDER_AGGREGATE = "com.ryuqq.domain.order.aggregate.";
+
+    /** 같은 {Domain} 패턴을 쓰는 두 구조(aggregate, vo)와 | 대안 패턴을 포함한 분류기 */
+    private static ClassNameClassifier classifier() {
+        return ClassNameClassifier.of(
+                List.of(
+                        new ModulePathRow(DOMAIN, HEXAGONAL, "domain"),
+                        new ModulePathRow(PERSISTENCE, HEXAGONAL, "adapter-out/persistence-mysql"),
+                        new ModulePathRow(99L, LAYERED, "domain")),
+                List.of(
+                        new StructurePatternRow(101L, DOMAIN, "{base_package}.{domain}.aggregate"),
+                        new StructurePatternRow(103L, DOMAIN, "{base_package}.{domain}.vo"),
+                        new StructurePatternRow(
+                                200L, PERSISTENCE, "{base_package}.{domain}.adapter")),
+                List.of(
+                        new StructureTemplateRow(101L, 2L, "AGGREGATE", "{Domain}"),
+                        new StructureTemplateRow(101L, 39L, "UPDATE_DATA", "{Domain}UpdateData"),
+                        new StructureTemplateRow(103L, 5L, "VALUE_OBJECT", "{Domain}"),
+                        new StructureTemplateRow(
+                                200L, 24L, "COMMAND_ADAPTER", "{Entity}CommandAdapter"),
+                        new StructureTemplateRow(
+                                200L, 25L, "QUERY_ADAPTER", "*QueryAdapter | *ReadAdapter")));
+    }
+
+    @Nested
+    @DisplayName("classify 메서드")
+    class Classify {
+
+        @Test
+        @DisplayName("리터럴이 긴 명명 패턴이 우선하고 구조/모듈까지 분류")
+        void mostSpecificNaming_ShouldWin() {
+            // given
+            ClassNameClassifier sut = classifier();
+
+            // when
+            Classification aggregate = sut.classify(HEXAGONAL, ORDER_AGGREGATE + "Order");
+            Classification updateData =
+                    sut.classify(HEXAGONAL, ORDER_AGGREGATE + "OrderUpdateData");
+
+            // then
+            assertThat(aggregate.classType()).isEqualTo("AGGREGATE");
+            assertThat(aggregate.structureId()).isEqualTo(101L);
+            assertThat(aggregate.moduleId()).isEqualTo(DOMAIN);
+            assertThat(updateData.classTypeId()).isEqualTo(39L);
+            assertThat(updateData.pathPattern()).isEqualTo("{base_package}.{domain}.aggregate");
+        }
+
+        @Test
+        @DisplayName("같은 명명 패턴은 패키지 경로로 구분")
+        void sameNaming_ShouldBeDisambiguatedByPackage() {
+            // given
+            ClassNameClassifier sut = classifier();
+
+            // when
+            Classification vo = sut.classify(HEXAGONAL, "com.ryuqq.domain.order.vo.Money");
+            Classification service =
+                    sut.classify(HEXAGONAL, "com.ryuqq.domain.order.service.OrderService");
+
+            // then
+            assertThat(vo.classType()).isEqualTo("VALUE_OBJECT");
+            assertThat(vo.structureId()).isEqualTo(103L);
+            assertThat(service.isClassified()).isFalse();
+            assertThat(service.className()).endsWith("OrderService");
+        }
+
+        @Test
+        @DisplayName("| 대안 패턴과 중첩 클래스는 바깥 클래스명으로 분류")
+        void nestedClass_ShouldUseOuterName() {
+            // given
+            ClassNameClassifier sut = classifier();
+            String adapterPackage = "com.ryuqq.adapter.out.order.adapter.";
+
+            // when
+            Classification read = sut.classify(HEXAGONAL, adapterPackage + "OrderReadAdapter");
+            Classification nested =
+                    sut.classify(HEXAGONAL, adapterPackage + "OrderCommandAdapter$Builder");
+
+            // then
+            assertThat(read.classType()).isEqualTo("QUERY_ADAPTER");
+            assertThat(read.moduleId()).isEqualTo(PERSISTENCE);
+            assertThat(nested.classType()).isEqualTo("COMMAND_ADAPTER");
+            assertThat(nested.structureId()).isEqualTo(200L);
+        }
+
+        @Test
+        @DisplayName("패키지가 없는 단순 클래스명은 클래스 타입만 분류")
+        void simpleName_ShouldClassifyTypeOnly() {
+            // given
+            ClassNameClassifier sut = classifier();
+
+            // when
+            Classification adapter = sut.classify(HEXAGONAL, "OrderCommandAdapter");
+
+            // then
+            assertThat(adapter.classType()).isEqualTo("COMMAND_ADAPTER");
+            assertThat(adapter.structureId()).isNull();
+            assertThat(adapter.moduleId()).isNull();
+        }
+
+        @Test
+        @DisplayName("템플릿이 없는 아키텍처와 빈 클래스명은 미분류")
+        void unknownArchitecture_ShouldBeUnclassified() {
+            // given
+            ClassNameClassifier sut = classifier();
+
+            // when & then
+            assertThat(sut.classify(LAYERED, ORDER_AGGREGATE + "Order").isClassified()).isFalse();
+            assertThat(sut.classify(3L, ORDER_AGGREGATE + "Order").isClassified()).isFalse();
+            assertThat(sut.classify(HEXAGONAL, " ").isClassified()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("classifyAll 메서드")
+    class ClassifyAll {
+
+        @Test
+        @DisplayName("병렬 분류 기준 이상이어도 요청 순서를 유지")
+        void largeInput_ShouldPreserveOrder() {
+            // given
+            ClassNameClassifier sut = classifier();
+            List<String> classNames =
+                    IntStream.range(0, ClassNameClassifier.PARALLEL_THRESHOLD * 2)
+                            .mapToObj(
+                                    i ->
+                                            i % 2 == 0
+                                                    ? ORDER_AGGREGATE + "Order" + i
+                                                    : ORDER_AGGREGATE + "Order" + i + "UpdateData")
+                            .toList();
+
+            // when
+            List<Classification> result = sut.classifyAll(HEXAGONAL, classNames);
+
+            // then
+            assertThat(result).extracting(Classification::className).isEqualTo(classNames);
+            assertThat(result.get(0).classTypeId()).isEqualTo(2L);
+            assertThat(result.get(1).classTypeId()).isEqualTo(39L);
+            assertThat(result).allMatch(Classification::isClassified);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker.Edge;
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker.EdgeViolation;
+import com.ryuqq.adapter.out.persistence.pathindex.ImportEdgeChecker.Report;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.LayerRuleRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModuleLayerRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ImportEdgeChecker 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ImportEdgeChecker 단위 테스트")
+class ImportEdgeCheckerTest {
+
+    private static final long HEXAGONAL = 1L;
+
+    private static final String AGGREGATE = "com.ryuqq.domain.order.aggregate";
+    private static final String PORT_IN = "com.ryuqq.application.order.port.in";
+    private static final String CONTROLLER = "com.ryuqq.adapter.in.rest.order.controller";
+    private static final String ENTITY = "com.ryuqq.adapter.out.persistence.order.entity";
+    private static final String BOOT = "com.ryuqq.bootstrap.config";
+
+    /** 시드 데이터와 같은 규칙 (ADAPTER_IN → DOMAIN은 APPLICATION을 거쳐서만 허용) */
+    private static ImportEdgeChecker checker() {
+        return ImportEdgeChecker.of(
+                List.of(
+                        new ModuleLayerRow(10L, HEXAGONAL, "DOMAIN"),
+                        new ModuleLayerRow(20L, HEXAGONAL, "APPLICATION"),
+                        new ModuleLayerRow(30L, HEXAGONAL, "ADAPTER_OUT"),
+                        new ModuleLayerRow(40L, HEXAGONAL, "ADAPTER_IN"),
+                        new ModuleLayerRow(50L, HEXAGONAL, "BOOTSTRAP")),
+                List.of(
+                        new StructurePatternRow(
+                                1L, 10L, "{base_package}.domain.{domain}.aggregate"),
+                        new StructurePatternRow(
+                                2L, 20L, "{base_package}.application.{domain}.port.in"),
+                        new StructurePatternRow(
+                                3L, 30L, "{base_package}.persistence.{domain}.entity"),
+                        new StructurePatternRow(4L, 40L, "{base_package}.rest.{domain}.controller"),
+                        new StructurePatternRow(5L, 50L, "{base_package}.bootstrap.config")),
+                List.of(
+                        new LayerRuleRow(HEXAGONAL, "APPLICATION", "DOMAIN", "ALLOWED"),
+                        new LayerRuleRow(HEXAGONAL, "ADAPTER_OUT", "DOMAIN", "ALLOWED"),
+                        new LayerRuleRow(HEXAGONAL, "ADAPTER_IN", "APPLICATION", "ALLOWED"),
+                        new LayerRuleRow(HEXAGONAL, "DOMAIN", "APPLICATION", "FORBIDDEN"),
+                        new LayerRuleRow(HEXAGONAL, "ADAPTER_IN", "ADAPTER_OUT", "FORBIDDEN")));
+    }
+
+    @Nested
+    @DisplayName("check 메서드")
+    class Check {
+
+        @Test
+        @DisplayName("직접 허용과 추이적 허용 간선은 위반이 아님")
+        void allowedEdges_ShouldPass() {
+            // given
+            ImportEdgeChecker sut = checker();
+
+            // when
+            Report report =
+                    sut.check(
+                            HEXAGONAL,
+                            List.of(
+                                    new Edge(PORT_IN, AGGREGATE),
+                                    new Edge(CONTROLLER, PORT_IN),
+                                    new Edge(CONTROLLER, AGGREGATE),
+                                    new Edge(AGGREGATE, AGGREGATE)));
+
+            // then
+            assertThat(report.violations()).isEmpty();
+            assertThat(report.checkedCount()).isEqualTo(4);
+            assertThat(report.unresolvedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("FORBIDDEN 규칙과 허용 경로가 없는 간선을 구분해 보고")
+        void violations_ShouldReportType() {
+            // given
+            ImportEdgeChecker sut = checker();
+
+            // when
+            Report report =
+                    sut.check(
+                            HEXAGONAL,
+                            List.of(
+                                    new Edge(AGGREGATE, PORT_IN),
+                                    new Edge(ENTITY, PORT_IN),
+                                    new Edge(CONTROLLER, ENTITY)));
+
+            // then
+            assertThat(report.violations())
+                    .extracting(EdgeViolation::violationType)
+                    .containsExactly("FORBIDDEN", "UNDECLARED", "FORBIDDEN");
+            assertThat(report.violations().get(0).fromLayer()).isEqualTo("DOMAIN");
+            assertThat(report.violations().get(0).toLayer()).isEqualTo("APPLICATION");
+        }
+
+        @Test
+        @DisplayName("규칙이 없는 레이어는 검사하지 않고 해석되지 않는 패키지는 미해석으로 셈")
+        void unconstrainedAndUnresolved_ShouldBeSkipped() {
+            // given
+            ImportEdgeChecker sut = checker();
+
+            // when
+            Report report =
+                    sut.check(
+                            HEXAGONAL,
+                            List.of(
+                                    new Edge(BOOT, CONTROLLER),
+                                    new Edge(AGGREGATE, "java.util"),
+                                    new Edge("org.example.unknown", PORT_IN)));
+            Report unknownArchitecture = sut.check(9L, List.of(new Edge(AGGREGATE, PORT_IN)));
+
+            // then
+            assertThat(report.violations()).isEmpty();
+            assertThat(report.checkedCount()).isEqualTo(1);
+            assertThat(report.unresolvedCount()).isEqualTo(2);
+            assertThat(unknownArchitecture.unresolvedCount()).isEqualTo(1);
+        }
+    }
+}
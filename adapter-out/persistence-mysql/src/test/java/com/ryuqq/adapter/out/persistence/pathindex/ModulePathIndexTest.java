@@ -0,0 +1,200 @@
+package com.ryuqq.adapter.out.persistence.pathindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.pathindex.ModulePathIndex.Match;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.ModulePathRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructurePatternRow;
+import com.ryuqq.adapter.out.persistence.pathindex.dto.StructureTemplateRow;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ModulePathIndex 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ModulePathIndex 단위 테스트")
+class ModulePathIndexTest {
+
+    private static final long HEXAGONAL = 1L;
+    private static final long LAYERED = 2L;
+
+    private static final long DOMAIN = 10L;
+    private static final long ADAPTER_OUT = 11L;
+    private static final long PERSISTENCE = 12L;
+
+    private static final String ORDER_AGGREGATE =
+            "domain/src/main/java/com/ryuqq/domain/order/aggregate/";
+
+    /** 중첩 모듈(adapter-out ⊃ adapter-out/persistence-mysql)과 다른 아키텍처의 같은 경로를 포함한 색인 */
+    private static ModulePathIndex index() {
+        return ModulePathIndex.of(
+                List.of(
+                        new ModulePathRow(DOMAIN, HEXAGONAL, "domain"),
+                        new ModulePathRow(ADAPTER_OUT, HEXAGONAL, "adapter-out"),
+                        new ModulePathRow(PERSISTENCE, HEXAGONAL, "adapter-out/persistence-mysql"),
+                        new ModulePathRow(99L, LAYERED, "domain")),
+                List.of(
+                        new StructurePatternRow(100L, DOMAIN, "{base_package}.{domain}"),
+                        new StructurePatternRow(101L, DOMAIN, "{base_package}.{domain}.aggregate"),
+                        new StructurePatternRow(102L, DOMAIN, "{base_package}.common.vo"),
+                        new StructurePatternRow(
+                                200L, PERSISTENCE, "{base_package}.{domain}.adapter")),
+                List.of(
+                        new StructureTemplateRow(101L, 2L, "AGGREGATE", "{Domain}"),
+                        new StructureTemplateRow(101L, 39L, "UPDATE_DATA", "{Domain}UpdateData"),
+                        new StructureTemplateRow(
+                                200L, 24L, "COMMAND_ADAPTER", "{Entity}CommandAdapter"),
+                        new StructureTemplateRow(
+                                200L, 25L, "QUERY_ADAPTER", "*QueryAdapter | *ReadAdapter")));
+    }
+
+    @Nested
+    @DisplayName("Module 해석")
+    class ModuleResolution {
+
+        @Test
+        @DisplayName("중첩 모듈은 가장 긴 module_path가 일치")
+        void nestedModule_ShouldMatchLongestPrefix() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when
+            Match inner =
+                    sut.resolve(HEXAGONAL, "adapter-out/persistence-mysql/build.gradle")
+                            .orElseThrow();
+            Match outer = sut.resolve(HEXAGONAL, "adapter-out/README.md").orElseThrow();
+
+            // then
+            assertThat(inner.moduleId()).isEqualTo(PERSISTENCE);
+            assertThat(inner.structureId()).isNull();
+            assertThat(outer.moduleId()).isEqualTo(ADAPTER_OUT);
+            assertThat(sut.moduleCount()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("같은 경로라도 아키텍처별로 다른 모듈")
+        void samePath_ShouldResolveWithinArchitecture() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when & then
+            assertThat(sut.resolve(LAYERED, ORDER_AGGREGATE + "Order.java"))
+                    .map(Match::moduleId)
+                    .contains(99L);
+            assertThat(sut.resolve(3L, ORDER_AGGREGATE + "Order.java")).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Windows 구분자와 ./ 접두사를 허용하고 모르는 경로는 empty")
+        void normalizedPath_ShouldResolve() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when & then
+            assertThat(sut.resolve(HEXAGONAL, ".\\domain\\build.gradle"))
+                    .map(Match::moduleId)
+                    .contains(DOMAIN);
+            assertThat(sut.resolve(HEXAGONAL, "docs/README.md")).isEmpty();
+            assertThat(sut.resolve(HEXAGONAL, "domain")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("PackageStructure / ClassType 해석")
+    class StructureResolution {
+
+        @Test
+        @DisplayName("리터럴이 많은 패턴이 우선하고 리터럴이 긴 명명 패턴으로 클래스 타입 추론")
+        void mostSpecificPattern_ShouldWin() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when
+            Match aggregate = sut.resolve(HEXAGONAL, ORDER_AGGREGATE + "Order.java").orElseThrow();
+            Match updateData =
+                    sut.resolve(HEXAGONAL, ORDER_AGGREGATE + "OrderUpdateData.java").orElseThrow();
+            Match domainRoot =
+                    sut.resolve(HEXAGONAL, "domain/src/main/java/com/ryuqq/domain/order/Order.java")
+                            .orElseThrow();
+
+            // then
+            assertThat(aggregate.structureId()).isEqualTo(101L);
+            assertThat(aggregate.pathPattern()).isEqualTo("{base_package}.{domain}.aggregate");
+            assertThat(aggregate.classType()).isEqualTo("AGGREGATE");
+            assertThat(updateData.classTypeId()).isEqualTo(39L);
+            assertThat(domainRoot.structureId()).isEqualTo(100L);
+            assertThat(domainRoot.classType()).isNull();
+        }
+
+        @Test
+        @DisplayName("{base_package}는 여러 세그먼트, 리터럴 세그먼트는 정확히 일치")
+        void basePackage_ShouldSpanMultipleSegments() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when
+            Match vo =
+                    sut.resolve(
+                                    HEXAGONAL,
+                                    "domain/src/main/java/com/ryuqq/domain/common/vo/Money.java")
+                            .orElseThrow();
+
+            // then
+            assertThat(vo.structureId()).isEqualTo(102L);
+            assertThat(vo.classTypeId()).isNull();
+        }
+
+        @Test
+        @DisplayName("| 대안과 * 패턴으로 클래스 타입 추론")
+        void alternativePattern_ShouldInferClassType() {
+            // given
+            ModulePathIndex sut = index();
+            String adapterPackage =
+                    "adapter-out/persistence-mysql/src/main/java/com/ryuqq/out/order/adapter/";
+
+            // when
+            Match command =
+                    sut.resolve(HEXAGONAL, adapterPackage + "OrderCommandAdapter.java")
+                            .orElseThrow();
+            Match read =
+                    sut.resolve(HEXAGONAL, adapterPackage + "OrderReadAdapter.java").orElseThrow();
+            Match unknown =
+                    sut.resolve(HEXAGONAL, adapterPackage + "OrderHelper.java").orElseThrow();
+
+            // then
+            assertThat(command.moduleId()).isEqualTo(PERSISTENCE);
+            assertThat(command.structureId()).isEqualTo(200L);
+            assertThat(command.classType()).isEqualTo("COMMAND_ADAPTER");
+            assertThat(read.classType()).isEqualTo("QUERY_ADAPTER");
+            assertThat(unknown.structureId()).isEqualTo(200L);
+            assertThat(unknown.classTypeId()).isNull();
+        }
+
+        @Test
+        @DisplayName("src/<sourceSet>/java 아래가 아니면 모듈만 해석")
+        void outsideSourceRoot_ShouldResolveModuleOnly() {
+            // given
+            ModulePathIndex sut = index();
+
+            // when
+            Match resource =
+                    sut.resolve(HEXAGONAL, "domain/src/main/resources/application.yml")
+                            .orElseThrow();
+            String testSource = ORDER_AGGREGATE.replace("/main/", "/test/") + "Order.java";
+            Match test = sut.resolve(HEXAGONAL, testSource).orElseThrow();
+
+            // then
+            assertThat(resource.moduleId()).isEqualTo(DOMAIN);
+            assertThat(resource.structureId()).isNull();
+            assertThat(test.structureId()).isEqualTo(101L);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.ryuqq.adapter.out.persistence.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.adapter.out.persistence.routing.ReplicaHealthMonitor.Replica;
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * ReplicaRoutingDataSource 단위 테스트
+ *
+ * <p>H2 인메모리 DB 두 개(Primary / Replica)에 각자 이름을 기록해 두고, 조회 결과로 라우팅 대상을 확인합니다.
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("ReplicaRoutingDataSource 단위 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String WHICH_NODE = "SELECT name FROM node";
+    private static final ReplicaLagProbe FAILING_PROBE =
+            connection -> {
+                throw new SQLException("replication stopped");
+            };
+
+    private ReplicaHealthMonitor monitor;
+
+    @AfterEach
+    void tearDown() {
+        if (monitor != null) {
+            monitor.close();
+        }
+    }
+
+    private static DataSource h2(String name) {
+        DataSource dataSource =
+                new DriverManagerDataSource(
+                        "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                        "sa",
+                        "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    private TransactionTemplate routing(ReplicaLagProbe lagProbe, JdbcTemplate[] holder) {
+        DataSource primary = h2("primary");
+        monitor =
+                new ReplicaHealthMonitor(
+                        List.of(new Replica("replica-0", h2("replica"))),
+                        lagProbe,
+                        Duration.ofSeconds(2),
+                        Duration.ofSeconds(1));
+        monitor.checkAll();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(primary, monitor));
+        holder[0] = new JdbcTemplate(dataSource);
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    private static String readOnly(TransactionTemplate template, JdbcTemplate jdbcTemplate) {
+        template.setReadOnly(true);
+        return template.execute(status -> jdbcTemplate.queryForObject(WHICH_NODE, String.class));
+    }
+
+    @Nested
+    @DisplayName("라우팅 대상")
+    class Routing {
+
+        @Test
+        @DisplayName("쓰기 트랜잭션은 Primary")
+        void readWriteTransaction_ShouldUsePrimary() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            TransactionTemplate template = routing(ReplicaLagProbe.NONE, jdbc);
+
+            // when
+            String node =
+                    template.execute(status -> jdbc[0].queryForObject(WHICH_NODE, String.class));
+
+            // then
+            assertThat(node).isEqualTo("primary");
+        }
+
+        @Test
+        @DisplayName("읽기 전용 트랜잭션은 정상 복제본")
+        void readOnlyTransaction_ShouldUseReplica() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            TransactionTemplate template = routing(ReplicaLagProbe.NONE, jdbc);
+
+            // when
+            String node = readOnly(template, jdbc[0]);
+
+            // then
+            assertThat(node).isEqualTo("replica");
+        }
+
+        @Test
+        @DisplayName("트랜잭션 밖의 조회는 Primary")
+        void withoutTransaction_ShouldUsePrimary() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            routing(ReplicaLagProbe.NONE, jdbc);
+
+            // when
+            String node = jdbc[0].queryForObject(WHICH_NODE, String.class);
+
+            // then
+            assertThat(node).isEqualTo("primary");
+        }
+    }
+
+    @Nested
+    @DisplayName("Primary 대체")
+    class Fallback {
+
+        @Test
+        @DisplayName("read-your-writes 범위 안의 읽기 전용 트랜잭션은 Primary")
+        void readOnly_WhenPrimaryRequired_ShouldUsePrimary() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            TransactionTemplate template = routing(ReplicaLagProbe.NONE, jdbc);
+
+            // when
+            String node;
+            try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+                node = readOnly(template, jdbc[0]);
+            }
+
+            // then
+            assertThat(node).isEqualTo("primary");
+            assertThat(ReadConsistencyContext.isPrimaryRequired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("지연 측정에 실패한 복제본은 제외되고 Primary")
+        void readOnly_WhenReplicaUnhealthy_ShouldFallBackToPrimary() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            TransactionTemplate template = routing(FAILING_PROBE, jdbc);
+
+            // when
+            String node = readOnly(template, jdbc[0]);
+
+            // then
+            assertThat(node).isEqualTo("primary");
+            assertThat(monitor.replicas().get(0).isHealthy()).isFalse();
+        }
+
+        @Test
+        @DisplayName("허용치를 넘는 지연의 복제본은 제외되고 Primary")
+        void readOnly_WhenReplicaLagging_ShouldFallBackToPrimary() {
+            // given
+            JdbcTemplate[] jdbc = new JdbcTemplate[1];
+            TransactionTemplate template = routing(connection -> Duration.ofSeconds(30), jdbc);
+
+            // when
+            String node = readOnly(template, jdbc[0]);
+
+            // then
+            assertThat(node).isEqualTo("primary");
+            assertThat(monitor.replicas().get(0).lagMillis()).isEqualTo(30_000L);
+        }
+    }
+}
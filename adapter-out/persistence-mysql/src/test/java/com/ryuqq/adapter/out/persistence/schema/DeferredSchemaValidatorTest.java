@@ -0,0 +1,131 @@
+package com.ryuqq.adapter.out.persistence.schema;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.hibernate.SessionFactory;
+import org.hibernate.relational.SchemaManager;
+import org.hibernate.tool.schema.spi.SchemaManagementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+
+/**
+ * DeferredSchemaValidator 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("persistence-layer")
+@DisplayName("DeferredSchemaValidator 단위 테스트")
+class DeferredSchemaValidatorTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private Flyway flyway;
+    private SchemaManager schemaManager;
+    private EntityManagerFactory entityManagerFactory;
+    private DeferredSchemaValidator sut;
+
+    @BeforeEach
+    void setUp() {
+        flyway = mock(Flyway.class);
+        schemaManager = mock(SchemaManager.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        given(sessionFactory.getSchemaManager()).willReturn(schemaManager);
+        entityManagerFactory = mock(EntityManagerFactory.class);
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(sessionFactory);
+        sut = new DeferredSchemaValidator(flyway, true, entityManagerFactory, true, events::add);
+    }
+
+    @Test
+    @DisplayName("Flyway와 Hibernate 검증을 모두 통과하면 readiness를 바꾸지 않음")
+    void validate_WhenSchemaMatches_ShouldKeepReadiness() {
+        // when
+        boolean result = sut.validate();
+
+        // then
+        assertThat(result).isTrue();
+        verify(flyway).validate();
+        verify(schemaManager).validateMappedObjects();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Flyway 체크섬 검증 실패 시 REFUSING_TRAFFIC 발행")
+    void validate_WhenFlywayFails_ShouldRefuseTraffic() {
+        // given
+        willThrow(new FlywayException("checksum mismatch")).given(flyway).validate();
+
+        // when
+        boolean result = sut.validate();
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(events)
+                .singleElement()
+                .isInstanceOfSatisfying(
+                        AvailabilityChangeEvent.class,
+                        event ->
+                                assertThat(event.getState())
+                                        .isEqualTo(ReadinessState.REFUSING_TRAFFIC));
+    }
+
+    @Test
+    @DisplayName("Hibernate 매핑 검증 실패 시 REFUSING_TRAFFIC 발행")
+    void validate_WhenMappingMismatch_ShouldRefuseTraffic() {
+        // given
+        willThrow(new SchemaManagementException("missing column"))
+                .given(schemaManager)
+                .validateMappedObjects();
+
+        // when
+        boolean result = sut.validate();
+
+        // then
+        assertThat(result).isFalse();
+        assertThat(events).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("체크섬 검증을 끈 환경(validate-on-migrate: false)에서는 Flyway 검증을 건너뜀")
+    void validate_WhenChecksumValidationDisabled_ShouldSkipFlyway() {
+        // given
+        sut = new DeferredSchemaValidator(flyway, false, entityManagerFactory, true, events::add);
+
+        // when
+        boolean result = sut.validate();
+
+        // then
+        assertThat(result).isTrue();
+        then(flyway).shouldHaveNoInteractions();
+        then(schemaManager).should().validateMappedObjects();
+    }
+
+    @Test
+    @DisplayName("ddl-auto가 validate가 아니면 Hibernate 매핑 검증을 건너뜀")
+    void validate_WhenMappingValidationDisabled_ShouldSkipHibernate() {
+        // given
+        sut = new DeferredSchemaValidator(flyway, true, entityManagerFactory, false, events::add);
+
+        // when
+        boolean result = sut.validate();
+
+        // then
+        assertThat(result).isTrue();
+        then(flyway).should().validate();
+        then(schemaManager).shouldHaveNoInteractions();
+    }
+}
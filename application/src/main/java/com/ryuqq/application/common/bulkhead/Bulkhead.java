@@ -0,0 +1,136 @@
+package com.ryuqq.application.common.bulkhead;
+
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bulkhead - 레인 하나의 동시 실행 한도
+ *
+ * <p>동시에 {@code maxConcurrent}개까지 실행하고, 그 이상은 최대 {@code maxQueue}개까지 도착 순서대로 {@code maxWait} 동안
+ * 기다립니다. 대기열이 가득 찼거나 대기 시간을 넘기면 즉시 {@link BulkheadFullException}으로 거절합니다 (fast-fail). 요청 기한({@link
+ * RequestDeadline})이 더 짧으면 기한까지만 기다립니다.
+ *
+ * <pre>{@code
+ * try (Bulkhead.Permit ignored = bulkhead.acquire()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author ryu-qqq
+ */
+public class Bulkhead {
+
+    private final WorkloadLane lane;
+    private final int maxConcurrent;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final BulkheadMetrics metrics;
+
+    public Bulkhead(
+            WorkloadLane lane,
+            int maxConcurrent,
+            int maxQueue,
+            Duration maxWait,
+            BulkheadMetrics metrics) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("maxConcurrent must be positive: " + maxConcurrent);
+        }
+        if (maxQueue < 0) {
+            throw new IllegalArgumentException("maxQueue must not be negative: " + maxQueue);
+        }
+        this.lane = lane;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.metrics = metrics;
+        metrics.bind(lane, this::activeCount, queued::get);
+    }
+
+    /**
+     * 실행 슬롯 획득
+     *
+     * @return 닫으면 슬롯을 반납하는 허가
+     * @throws BulkheadFullException 대기열이 가득 찼거나 대기 시간을 넘긴 경우
+     */
+    public Permit acquire() {
+        long start = System.nanoTime();
+        try {
+            if (permits.tryAcquire(0, TimeUnit.NANOSECONDS)) {
+                return granted(start);
+            }
+            if (queued.incrementAndGet() > maxQueue) {
+                queued.decrementAndGet();
+                throw reject("queue-full");
+            }
+            try {
+                if (!permits.tryAcquire(waitNanos(), TimeUnit.NANOSECONDS)) {
+                    throw reject("timeout");
+                }
+            } finally {
+                queued.decrementAndGet();
+            }
+            return granted(start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("interrupted");
+        }
+    }
+
+    private long waitNanos() {
+        return RequestDeadline.remaining()
+                .map(remaining -> Math.min(remaining.toNanos(), maxWaitNanos))
+                .orElse(maxWaitNanos);
+    }
+
+    private Permit granted(long start) {
+        metrics.recordWait(lane, System.nanoTime() - start);
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                permits.release();
+            }
+        };
+    }
+
+    private BulkheadFullException reject(String reason) {
+        metrics.recordRejected(lane, reason);
+        return new BulkheadFullException(
+                lane,
+                "Workload lane "
+                        + lane.key()
+                        + " is saturated ("
+                        + reason
+                        + ", max-concurrent="
+                        + maxConcurrent
+                        + ", max-queue="
+                        + maxQueue
+                        + ")");
+    }
+
+    public WorkloadLane lane() {
+        return lane;
+    }
+
+    public int activeCount() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int queuedCount() {
+        return queued.get();
+    }
+
+    /** 획득한 실행 슬롯 - 여러 번 닫아도 한 번만 반납 */
+    @FunctionalInterface
+    public interface Permit extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.application.common.bulkhead;
+
+/**
+ * BulkheadFullException - 레인 포화로 요청을 거절
+ *
+ * <p>동시 실행 한도와 대기열이 모두 찼거나 대기 시간을 넘긴 경우 발생합니다. 클라이언트는 잠시 후 재시도해야 합니다.
+ *
+ * @author ryu-qqq
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final transient WorkloadLane lane;
+
+    public BulkheadFullException(WorkloadLane lane, String message) {
+        super(message);
+        this.lane = lane;
+    }
+
+    public WorkloadLane lane() {
+        return lane;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryuqq.application.common.bulkhead;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BulkheadMetrics - 레인별 벌크헤드 메트릭 기록
+ *
+ * <ul>
+ *   <li>{@code bulkhead.active} (Gauge) - 실행 중인 요청 수, lane 태그
+ *   <li>{@code bulkhead.queued} (Gauge) - 실행 슬롯을 기다리는 요청 수, lane 태그
+ *   <li>{@code bulkhead.wait} (Timer) - 슬롯 획득까지 대기 시간, lane 태그
+ *   <li>{@code bulkhead.rejected} (Counter) - 거절 횟수, lane/reason 태그
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class BulkheadMetrics {
+
+    private static final String ACTIVE = "bulkhead.active";
+    private static final String QUEUED = "bulkhead.queued";
+    private static final String WAIT = "bulkhead.wait";
+    private static final String REJECTED = "bulkhead.rejected";
+
+    private final MeterRegistry meterRegistry;
+
+    public BulkheadMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void bind(WorkloadLane lane, Supplier<Number> active, Supplier<Number> queued) {
+        Gauge.builder(ACTIVE, active).tag("lane", lane.key()).register(meterRegistry);
+        Gauge.builder(QUEUED, queued).tag("lane", lane.key()).register(meterRegistry);
+    }
+
+    void recordWait(WorkloadLane lane, long waitNanos) {
+        Timer.builder(WAIT)
+                .tag("lane", lane.key())
+                .register(meterRegistry)
+                .record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordRejected(WorkloadLane lane, String reason) {
+        Counter.builder(REJECTED)
+                .tag("lane", lane.key())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+}
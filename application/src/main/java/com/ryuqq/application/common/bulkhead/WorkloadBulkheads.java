@@ -0,0 +1,33 @@
+package com.ryuqq.application.common.bulkhead;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * WorkloadBulkheads - 레인별 {@link Bulkhead} 모음
+ *
+ * @author ryu-qqq
+ */
+public class WorkloadBulkheads {
+
+    private final Map<WorkloadLane, Bulkhead> bulkheads;
+
+    public WorkloadBulkheads(Map<WorkloadLane, Bulkhead> bulkheads) {
+        for (WorkloadLane lane : WorkloadLane.values()) {
+            if (!bulkheads.containsKey(lane)) {
+                throw new IllegalArgumentException("Missing bulkhead for lane " + lane.key());
+            }
+        }
+        this.bulkheads = new EnumMap<>(bulkheads);
+    }
+
+    /**
+     * 레인의 벌크헤드
+     *
+     * @param lane 워크로드 레인
+     * @return 해당 레인의 벌크헤드
+     */
+    public Bulkhead of(WorkloadLane lane) {
+        return bulkheads.get(lane);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ryuqq.application.common.bulkhead;
+
+/**
+ * WorkloadLane - 서로 격리할 워크로드 구분
+ *
+ * <p>레인마다 동시 실행 한도와 커넥션 풀을 따로 두어, 한 워크로드의 폭주가 다른 워크로드를 굶기지 않도록 합니다.
+ *
+ * @author ryu-qqq
+ */
+public enum WorkloadLane {
+
+    /** 에이전트의 MCP 조회 - 지연 시간 민감 */
+    MCP_READ("mcp-read"),
+
+    /** 관리자 화면 조회/검색 */
+    ADMIN_QUERY("admin-query"),
+
+    /** 생성/수정/삭제/머지 등 변경 요청 */
+    COMMAND("command");
+
+    private final String key;
+
+    WorkloadLane(String key) {
+        this.key = key;
+    }
+
+    /**
+     * 설정 키 및 메트릭 태그 값
+     *
+     * @return 레인 키 (예: mcp-read)
+     */
+    public String key() {
+        return key;
+    }
+}
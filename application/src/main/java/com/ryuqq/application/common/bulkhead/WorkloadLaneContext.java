@@ -0,0 +1,61 @@
+package com.ryuqq.application.common.bulkhead;
+
+import java.util.Optional;
+
+/**
+ * WorkloadLaneContext - 현재 요청이 속한 워크로드 레인
+ *
+ * <p>요청 진입 시 레인을 지정하면 영속성 계층이 이를 보고 레인 전용 커넥션 풀을 선택합니다. 레인이 없는 작업(스케줄러, 아웃박스 릴레이, Flyway 등)은 기본 풀을
+ * 사용합니다.
+ *
+ * <pre>{@code
+ * try (WorkloadLaneContext.Scope ignored = WorkloadLaneContext.enter(WorkloadLane.MCP_READ)) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>요청 스레드에 묶인 값이므로 비동기 리스너 등 다른 스레드로 전파되지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public final class WorkloadLaneContext {
+
+    private static final ThreadLocal<WorkloadLane> CURRENT = new ThreadLocal<>();
+
+    private WorkloadLaneContext() {}
+
+    /**
+     * 현재 스레드를 레인에 배정
+     *
+     * @param lane 워크로드 레인
+     * @return 닫으면 이전 레인으로 복원되는 범위
+     */
+    public static Scope enter(WorkloadLane lane) {
+        WorkloadLane previous = CURRENT.get();
+        CURRENT.set(lane);
+        return () -> {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드의 레인
+     *
+     * @return 레인 (배정되지 않았으면 empty)
+     */
+    public static Optional<WorkloadLane> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    /** {@link #enter(WorkloadLane)} 범위 */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -1,5 +1,7 @@
 package com.ryuqq.application.common.component;
 
+import com.ryuqq.application.outbox.factory.command.OutboxMessageFactory;
+import com.ryuqq.application.outbox.manager.OutboxPersistenceManager;
 import com.ryuqq.domain.common.event.DomainEvent;
 import java.util.List;
 import org.slf4j.Logger;
@@ -19,9 +21,15 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
  * <ul>
  *   <li>커밋 후 발행: 트랜잭션 성공 시에만 Event 발행
  *   <li>롤백 시 미발행: 트랜잭션 실패 시 Event 발행 안 함
+ *   <li>유실 방지: {@link DomainEvent}는 쓰기 트랜잭션 안에서 아웃박스 테이블에 함께 기록되고, 커밋 후 릴레이가 발행
  *   <li>Virtual Thread 안전: ThreadLocal 대신 TransactionSynchronization 사용
  * </ul>
  *
+ * <p>아웃박스를 거친 Event는 릴레이 주기만큼 늦게, 최소 1회(at-least-once) 발행되므로 리스너는 멱등이어야 합니다.
+ *
+ * <p>발행은 리스너를 발행 스레드에서 동기 호출합니다. 비용이 큰 리스너는 {@link
+ * com.ryuqq.application.common.event.AsyncEventListener}로 선언하여 발행 스레드와 분리합니다.
+ *
  * <p><strong>사용법</strong>:
  *
  * <pre>{@code
@@ -38,15 +46,22 @@ public class TransactionEventRegistry {
     private static final Logger log = LoggerFactory.getLogger(TransactionEventRegistry.class);
 
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxPersistenceManager outboxPersistenceManager;
+    private final OutboxMessageFactory outboxMessageFactory;
 
-    public TransactionEventRegistry(ApplicationEventPublisher eventPublisher) {
+    public TransactionEventRegistry(
+            ApplicationEventPublisher eventPublisher,
+            OutboxPersistenceManager outboxPersistenceManager,
+            OutboxMessageFactory outboxMessageFactory) {
         this.eventPublisher = eventPublisher;
+        this.outboxPersistenceManager = outboxPersistenceManager;
+        this.outboxMessageFactory = outboxMessageFactory;
     }
 
     /**
      * 단일 Event를 커밋 후 발행하도록 등록합니다.
      *
-     * <p>트랜잭션 커밋 후 Event가 발행됩니다. 롤백 시에는 발행되지 않습니다.
+     * <p>쓰기 트랜잭션 안에서는 같은 트랜잭션으로 아웃박스에 기록되어 커밋 후 릴레이가 발행합니다. 롤백 시에는 기록도 함께 롤백됩니다.
      *
      * <p>트랜잭션 컨텍스트가 없는 경우 즉시 발행합니다 (Fallback).
      *
@@ -59,6 +74,12 @@ public class TransactionEventRegistry {
             return;
         }
 
+        if (isWriteTransactionActive()) {
+            log.debug("Event 아웃박스 기록 (커밋 후 릴레이 발행 예정): eventType={}", event.eventType());
+            outboxPersistenceManager.append(List.of(outboxMessageFactory.create(event)));
+            return;
+        }
+
         log.debug("Event 등록 (커밋 후 발행 예정): eventType={}", event.getClass().getSimpleName());
 
         TransactionSynchronizationManager.registerSynchronization(
@@ -76,7 +97,8 @@ public class TransactionEventRegistry {
     /**
      * 여러 Event를 커밋 후 발행하도록 등록합니다.
      *
-     * <p>각 Event별로 TransactionSynchronization을 등록합니다.
+     * <p>쓰기 트랜잭션 안에서는 한 번의 배치로 아웃박스에 기록합니다. 그 외에는 각 Event별로 {@link
+     * #registerForPublish(DomainEvent)}를 적용합니다.
      *
      * @param events 발행할 Domain Event 목록
      */
@@ -85,10 +107,22 @@ public class TransactionEventRegistry {
             return;
         }
 
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && isWriteTransactionActive()) {
+            log.debug("Event 일괄 아웃박스 기록 (커밋 후 릴레이 발행 예정): count={}", events.size());
+            outboxPersistenceManager.append(outboxMessageFactory.createAll(events));
+            return;
+        }
+
         log.debug("Event 일괄 등록 (커밋 후 발행 예정): count={}", events.size());
         events.forEach(this::registerForPublish);
     }
 
+    private static boolean isWriteTransactionActive() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
     /**
      * Event를 즉시 발행합니다.
      *
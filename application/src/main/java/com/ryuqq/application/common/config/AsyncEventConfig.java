@@ -0,0 +1,59 @@
+package com.ryuqq.application.common.config;
+
+import com.ryuqq.application.common.event.AsyncEventDispatcher;
+import com.ryuqq.application.common.event.AsyncEventListenerFactory;
+import com.ryuqq.application.common.event.AsyncEventMetrics;
+import com.ryuqq.application.common.event.AsyncEventRejectionPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * AsyncEventConfig - 비동기 이벤트 리스너 설정
+ *
+ * <p>{@code @AsyncEventListener} 리스너를 실행할 디스패처를 등록합니다. 리스너 팩토리는 다른 빈보다 먼저 조회되므로 static 빈으로 등록하고
+ * 디스패처는 지연 조회합니다.
+ *
+ * <ul>
+ *   <li>{@code events.async.capacity} (기본 1000): 대기 + 실행 중 최대 작업 수
+ *   <li>{@code events.async.rejection-policy} (기본 BLOCK): 용량 초과 시 정책
+ *   <li>{@code events.async.block-timeout} (기본 2s): BLOCK 정책의 최대 대기 시간
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class AsyncEventConfig {
+
+    private static final String THREAD_NAME_PREFIX = "async-event-";
+
+    @Bean
+    public AsyncEventDispatcher asyncEventDispatcher(
+            @Value("${events.async.capacity:1000}") int capacity,
+            @Value("${events.async.rejection-policy:BLOCK}")
+                    AsyncEventRejectionPolicy rejectionPolicy,
+            @Value("${events.async.block-timeout:2s}") Duration blockTimeout,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        Executor executor =
+                Executors.newThreadPerTaskExecutor(
+                        Thread.ofVirtual().name(THREAD_NAME_PREFIX, 0).factory());
+        return new AsyncEventDispatcher(
+                executor,
+                capacity,
+                rejectionPolicy,
+                blockTimeout,
+                new AsyncEventMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)));
+    }
+
+    @Bean
+    public static AsyncEventListenerFactory asyncEventListenerFactory(
+            ObjectProvider<AsyncEventDispatcher> asyncEventDispatcher) {
+        return new AsyncEventListenerFactory(asyncEventDispatcher::getObject);
+    }
+}
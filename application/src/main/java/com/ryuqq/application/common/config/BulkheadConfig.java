@@ -0,0 +1,63 @@
+package com.ryuqq.application.common.config;
+
+import com.ryuqq.application.common.bulkhead.Bulkhead;
+import com.ryuqq.application.common.bulkhead.BulkheadMetrics;
+import com.ryuqq.application.common.bulkhead.WorkloadBulkheads;
+import com.ryuqq.application.common.bulkhead.WorkloadLane;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * BulkheadConfig - 워크로드 레인별 동시 실행 한도 설정
+ *
+ * <p>레인마다 {@code bulkhead.lanes.<lane>.*} 값을 읽어 {@link Bulkhead}를 만듭니다. lane은 {@link
+ * WorkloadLane#key()} (mcp-read, admin-query, command)입니다.
+ *
+ * <ul>
+ *   <li>{@code max-concurrent} (기본 16): 동시 실행 한도
+ *   <li>{@code max-queue} (기본 32): 슬롯을 기다릴 수 있는 최대 요청 수 (0이면 대기 없이 거절)
+ *   <li>{@code max-wait} (기본 500ms): 슬롯 대기 최대 시간
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class BulkheadConfig {
+
+    private static final String PREFIX = "bulkhead.lanes.";
+    private static final int DEFAULT_MAX_CONCURRENT = 16;
+    private static final int DEFAULT_MAX_QUEUE = 32;
+    private static final Duration DEFAULT_MAX_WAIT = Duration.ofMillis(500);
+
+    @Bean
+    public WorkloadBulkheads workloadBulkheads(
+            Environment environment, ObjectProvider<MeterRegistry> meterRegistry) {
+        BulkheadMetrics metrics =
+                new BulkheadMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        Map<WorkloadLane, Bulkhead> bulkheads = new EnumMap<>(WorkloadLane.class);
+        for (WorkloadLane lane : WorkloadLane.values()) {
+            String prefix = PREFIX + lane.key() + ".";
+            bulkheads.put(
+                    lane,
+                    new Bulkhead(
+                            lane,
+                            environment.getProperty(
+                                    prefix + "max-concurrent",
+                                    Integer.class,
+                                    DEFAULT_MAX_CONCURRENT),
+                            environment.getProperty(
+                                    prefix + "max-queue", Integer.class, DEFAULT_MAX_QUEUE),
+                            environment.getProperty(
+                                    prefix + "max-wait", Duration.class, DEFAULT_MAX_WAIT),
+                            metrics));
+        }
+        return new WorkloadBulkheads(bulkheads);
+    }
+}
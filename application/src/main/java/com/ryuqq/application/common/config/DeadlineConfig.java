@@ -0,0 +1,22 @@
+package com.ryuqq.application.common.config;
+
+import com.ryuqq.application.common.deadline.DeadlineMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DeadlineConfig - 요청 기한 메트릭 설정
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class DeadlineConfig {
+
+    @Bean
+    public DeadlineMetrics deadlineMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new DeadlineMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.application.common.config;
+
+import com.ryuqq.application.common.singleflight.SingleFlightMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SingleFlightConfig - 요청 병합 메트릭 설정
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class SingleFlightConfig {
+
+    @Bean
+    public SingleFlightMetrics singleFlightMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new SingleFlightMetrics(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+}
@@ -0,0 +1,60 @@
+package com.ryuqq.application.common.consistency;
+
+/**
+ * ReadConsistencyContext - 현재 요청의 읽기 일관성 요구
+ *
+ * <p>읽기 전용 트랜잭션은 기본적으로 읽기 복제본으로 라우팅될 수 있습니다. 방금 쓰기를 한 클라이언트처럼 복제 지연을 허용할 수 없는 요청은 {@link
+ * #requirePrimary()} 범위 안에서 실행하여 Primary에서 읽습니다 (read-your-writes).
+ *
+ * <pre>{@code
+ * try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+ *     chain.doFilter(request, response);
+ * }
+ * }</pre>
+ *
+ * <p>릴레이, 보관, 머지처럼 락을 잡고 직전 실행이 쓴 상태를 다시 읽는 작업도 같은 이유로 이 범위 안에서 실행합니다.
+ *
+ * <p>요청 스레드에 묶인 값이므로 비동기 리스너 등 다른 스레드로 전파되지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public final class ReadConsistencyContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadConsistencyContext() {}
+
+    /**
+     * 현재 스레드의 읽기를 Primary로 고정
+     *
+     * @return 닫으면 이전 상태로 복원되는 범위
+     */
+    public static Scope requirePrimary() {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        return () -> {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드가 Primary 읽기를 요구하는지 여부
+     *
+     * @return Primary 읽기가 필요하면 true
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /** {@link #requirePrimary()} 범위 */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.application.common.deadline;
+
+/**
+ * DeadlineExceededException - 요청 처리 기한 경과로 작업 중단
+ *
+ * <p>클라이언트는 이미 응답을 기다리지 않으므로 남은 작업을 실행하지 않고 중단합니다.
+ *
+ * @author ryu-qqq
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ryuqq.application.common.deadline;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DeadlineMetrics - 요청 기한 경과 메트릭 기록
+ *
+ * <ul>
+ *   <li>{@code request.deadline.expired} (Counter) - 기한을 넘긴 요청 수, lane/outcome 태그
+ *       <ul>
+ *         <li>outcome=cancelled: 기한 경과로 중단되어 실패 응답
+ *         <li>outcome=completed: 기한을 넘겼지만 끝까지 실행되어 응답 (이미 클라이언트가 포기했을 수 있음)
+ *       </ul>
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class DeadlineMetrics {
+
+    private static final String EXPIRED = "request.deadline.expired";
+
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 기한을 넘긴 요청 기록
+     *
+     * @param lane 워크로드 레인 키
+     * @param cancelled 기한 경과로 중단되었으면 true
+     */
+    public void recordExpired(String lane, boolean cancelled) {
+        Counter.builder(EXPIRED)
+                .tag("lane", lane)
+                .tag("outcome", cancelled ? "cancelled" : "completed")
+                .register(meterRegistry)
+                .increment();
+    }
+}
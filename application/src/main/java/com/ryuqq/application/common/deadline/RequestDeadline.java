@@ -0,0 +1,94 @@
+package com.ryuqq.application.common.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * RequestDeadline - 현재 요청의 처리 기한
+ *
+ * <p>요청 진입 시 기한을 정하면 같은 스레드에서 실행되는 UseCase, 벌크헤드 대기, QueryDSL 쿼리가 남은 시간을 참조합니다. 클라이언트가 이미 포기한 요청을
+ * 끝까지 실행하며 커넥션을 붙잡지 않도록 하기 위함입니다.
+ *
+ * <pre>{@code
+ * try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ofSeconds(3))) {
+ *     ...
+ *     RequestDeadline.checkNotExpired();  // 긴 작업 단계 사이
+ * }
+ * }</pre>
+ *
+ * <p>기한은 {@link System#nanoTime()} 기준의 상대 시간이므로 시계 변경에 영향받지 않습니다. 요청 스레드에 묶인 값이므로 비동기 리스너 등 다른 스레드로
+ * 전파되지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public final class RequestDeadline {
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private RequestDeadline() {}
+
+    /**
+     * 현재 스레드에 기한 설정
+     *
+     * <p>이미 더 이른 기한이 있으면 그 기한을 유지합니다.
+     *
+     * @param timeout 지금부터 허용할 처리 시간
+     * @return 닫으면 이전 기한으로 복원되는 범위
+     */
+    public static Scope start(Duration timeout) {
+        Long previous = DEADLINE_NANOS.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        if (previous == null || deadline - previous < 0) {
+            DEADLINE_NANOS.set(deadline);
+        }
+        return () -> {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        };
+    }
+
+    /**
+     * 남은 시간
+     *
+     * @return 남은 시간 (기한이 없으면 empty, 지났으면 {@link Duration#ZERO})
+     */
+    public static Optional<Duration> remaining() {
+        Long deadline = DEADLINE_NANOS.get();
+        if (deadline == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Duration.ofNanos(Math.max(0L, deadline - System.nanoTime())));
+    }
+
+    /**
+     * 기한 경과 여부
+     *
+     * @return 기한이 있고 지났으면 true
+     */
+    public static boolean isExpired() {
+        Long deadline = DEADLINE_NANOS.get();
+        return deadline != null && deadline - System.nanoTime() <= 0;
+    }
+
+    /**
+     * 기한이 지났으면 작업 중단
+     *
+     * @throws DeadlineExceededException 기한이 지난 경우
+     */
+    public static void checkNotExpired() {
+        if (isExpired()) {
+            throw new DeadlineExceededException("Request deadline exceeded");
+        }
+    }
+
+    /** {@link #start(Duration)} 범위 */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
@@ -0,0 +1,164 @@
+package com.ryuqq.application.common.event;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * AsyncEventDispatcher - 키별 순차 실행 + 용량 제한 비동기 디스패처
+ *
+ * <p>{@link AsyncEventListener} 리스너 호출을 Virtual Thread에서 실행합니다.
+ *
+ * <ul>
+ *   <li>키(리스너 + 이벤트 타입)마다 레인을 두고, 레인 안의 작업은 제출 순서대로 하나씩 실행
+ *   <li>레인끼리는 독립적으로 병렬 실행 (느린 리스너가 다른 리스너를 막지 않음)
+ *   <li>대기 + 실행 중인 작업 수는 capacity로 제한하며, 초과 시 {@link AsyncEventRejectionPolicy}를 적용
+ * </ul>
+ *
+ * <p>레인은 작업이 없을 때 스레드를 점유하지 않습니다. 레인 수는 리스너 메서드 x 이벤트 타입 수로 제한되므로 제거하지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public class AsyncEventDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncEventDispatcher.class);
+
+    private final Executor executor;
+    private final int capacity;
+    private final Semaphore permits;
+    private final AsyncEventRejectionPolicy rejectionPolicy;
+    private final Duration blockTimeout;
+    private final AsyncEventMetrics metrics;
+    private final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    public AsyncEventDispatcher(
+            Executor executor,
+            int capacity,
+            AsyncEventRejectionPolicy rejectionPolicy,
+            Duration blockTimeout,
+            AsyncEventMetrics metrics) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.executor = executor;
+        this.capacity = capacity;
+        this.permits = new Semaphore(capacity);
+        this.rejectionPolicy = rejectionPolicy;
+        this.blockTimeout = blockTimeout;
+        this.metrics = metrics;
+        metrics.bindQueueDepth(this::queueDepth);
+    }
+
+    /**
+     * 작업 제출
+     *
+     * @param laneKey 순서 보장 단위 키 (같은 키의 작업은 제출 순서대로 실행)
+     * @param listenerId 메트릭/로그용 리스너 ID
+     * @param task 실행할 작업
+     * @throws RejectedExecutionException 용량 초과 시 정책이 ABORT이거나 BLOCK 대기 시간을 넘긴 경우
+     */
+    public void dispatch(String laneKey, String listenerId, Runnable task) {
+        if (!permits.tryAcquire() && !acquireOnReject(listenerId, task)) {
+            return;
+        }
+
+        Lane lane = lanes.computeIfAbsent(laneKey, key -> new Lane());
+        lane.tasks.add(new Submitted(listenerId, task, System.nanoTime()));
+        schedule(lane);
+    }
+
+    /**
+     * 대기 + 실행 중인 작업 수
+     *
+     * @return 현재 작업 수
+     */
+    public int queueDepth() {
+        return capacity - permits.availablePermits();
+    }
+
+    private boolean acquireOnReject(String listenerId, Runnable task) {
+        metrics.recordRejected(rejectionPolicy);
+        switch (rejectionPolicy) {
+            case BLOCK -> {
+                if (tryAcquireWithin(blockTimeout)) {
+                    return true;
+                }
+                throw new RejectedExecutionException(
+                        "Async event queue full after " + blockTimeout + ": " + listenerId);
+            }
+            case CALLER_RUNS -> {
+                run(listenerId, task);
+                return false;
+            }
+            case ABORT ->
+                    throw new RejectedExecutionException(
+                            "Async event queue full (capacity=" + capacity + "): " + listenerId);
+            case DISCARD -> {
+                log.warn("비동기 이벤트 대기열 초과, 이벤트 버림: listener={}", listenerId);
+                return false;
+            }
+            default -> throw new IllegalStateException("Unknown policy: " + rejectionPolicy);
+        }
+    }
+
+    private boolean tryAcquireWithin(Duration timeout) {
+        try {
+            return permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void schedule(Lane lane) {
+        if (lane.running.compareAndSet(false, true)) {
+            executor.execute(() -> drain(lane));
+        }
+    }
+
+    private void drain(Lane lane) {
+        Submitted submitted;
+        while ((submitted = lane.tasks.poll()) != null) {
+            try {
+                metrics.recordQueueWait(System.nanoTime() - submitted.submittedNanos());
+                run(submitted.listenerId(), submitted.task());
+            } finally {
+                permits.release();
+            }
+        }
+        lane.running.set(false);
+        // drain 종료와 dispatch 사이에 들어온 작업 처리
+        if (!lane.tasks.isEmpty()) {
+            schedule(lane);
+        }
+    }
+
+    private void run(String listenerId, Runnable task) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            task.run();
+            success = true;
+        } catch (RuntimeException e) {
+            log.error("비동기 이벤트 리스너 실패: listener={}", listenerId, e);
+        } finally {
+            metrics.recordListener(listenerId, System.nanoTime() - start, success);
+        }
+    }
+
+    private record Submitted(String listenerId, Runnable task, long submittedNanos) {}
+
+    private static final class Lane {
+        private final Queue<Submitted> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean();
+    }
+}
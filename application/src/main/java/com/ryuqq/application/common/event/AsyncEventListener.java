@@ -0,0 +1,54 @@
+package com.ryuqq.application.common.event;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AliasFor;
+
+/**
+ * 비동기 이벤트 리스너 선언
+ *
+ * <p>{@link EventListener} 대신 사용하면 발행 스레드(커밋한 요청 스레드, 아웃박스 릴레이 등)에서 리스너를 실행하지 않고 {@link
+ * AsyncEventDispatcher}의 Virtual Thread에서 실행합니다.
+ *
+ * <p><strong>보장</strong>:
+ *
+ * <ul>
+ *   <li>같은 리스너에 전달되는 같은 타입의 이벤트는 발행 순서대로 하나씩 실행
+ *   <li>대기 중인 이벤트 수는 설정한 용량으로 제한되며, 초과 시 {@link AsyncEventRejectionPolicy}를 따름
+ *   <li>리스너 예외는 발행자에게 전파되지 않고 로그/메트릭으로만 기록 (아웃박스 재시도 대상이 아님)
+ * </ul>
+ *
+ * <p>따라서 커밋 후 로컬 신호처럼 유실되어도 되는 이벤트에만 사용합니다. 아웃박스로 릴레이되는 {@code DomainEvent}는 {@link EventListener}로
+ * 받아야 하며, 등록 시점에 거부됩니다 ({@link AsyncEventListenerFactory}).
+ *
+ * <pre>{@code
+ * @AsyncEventListener
+ * public void onInboxChanged(HumanReviewInboxChangedEvent event) {
+ *     humanReviewInbox.signal();
+ * }
+ * }</pre>
+ *
+ * @author ryu-qqq
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@EventListener
+public @interface AsyncEventListener {
+
+    /** {@link EventListener#classes()} 별칭 */
+    @AliasFor(annotation = EventListener.class, attribute = "classes")
+    Class<?>[] value() default {};
+
+    /** {@link EventListener#classes()} 별칭 */
+    @AliasFor(annotation = EventListener.class, attribute = "classes")
+    Class<?>[] classes() default {};
+
+    /** {@link EventListener#condition()} 별칭 (SpEL) */
+    @AliasFor(annotation = EventListener.class, attribute = "condition")
+    String condition() default "";
+}
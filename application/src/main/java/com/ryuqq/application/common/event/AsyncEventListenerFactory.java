@@ -0,0 +1,69 @@
+package com.ryuqq.application.common.event;
+
+import com.ryuqq.domain.common.event.DomainEvent;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.EventListenerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * {@link AsyncEventListener} 메서드용 리스너 팩토리
+ *
+ * <p>기본 팩토리(LOWEST_PRECEDENCE)와 트랜잭션 리스너 팩토리(50)보다 먼저 평가되어, {@link AsyncEventListener}가 붙은 메서드만 비동기
+ * 어댑터로 등록합니다.
+ *
+ * <p>{@link DomainEvent}는 아웃박스 릴레이가 발행하고 리스너가 반환하면 메시지를 삭제하므로 비동기 리스너로 받을 수 없습니다. 비동기 리스너는 실패가
+ * 발행자에게 전파되지 않아 재시도되지 않기 때문입니다 (at-most-once). 이런 메서드는 등록 시점에 거부합니다.
+ *
+ * <p>팩토리는 빈 후처리 단계에서 일찍 조회되므로 디스패처(및 MeterRegistry)는 첫 이벤트 수신 시점에 지연 조회합니다.
+ *
+ * @author ryu-qqq
+ */
+public class AsyncEventListenerFactory implements EventListenerFactory, Ordered {
+
+    private static final int ORDER = 40;
+
+    private final Supplier<AsyncEventDispatcher> dispatcher;
+
+    public AsyncEventListenerFactory(Supplier<AsyncEventDispatcher> dispatcher) {
+        this.dispatcher = SingletonSupplier.of(dispatcher);
+    }
+
+    @Override
+    public boolean supportsMethod(Method method) {
+        return AnnotatedElementUtils.hasAnnotation(method, AsyncEventListener.class);
+    }
+
+    @Override
+    public ApplicationListener<?> createApplicationListener(
+            String beanName, Class<?> type, Method method) {
+        for (Class<?> eventType : eventTypes(method)) {
+            if (DomainEvent.class.isAssignableFrom(eventType)) {
+                throw new IllegalStateException(
+                        "@AsyncEventListener cannot receive outbox-relayed DomainEvent "
+                                + eventType.getName()
+                                + " (use @EventListener): "
+                                + method);
+            }
+        }
+        return new AsyncEventListenerMethodAdapter(beanName, type, method, dispatcher);
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    private static Class<?>[] eventTypes(Method method) {
+        AnnotationAttributes attributes =
+                AnnotatedElementUtils.findMergedAnnotationAttributes(
+                        method, AsyncEventListener.class, false, false);
+        Class<?>[] classes =
+                attributes == null ? new Class<?>[0] : attributes.getClassArray("classes");
+        return classes.length > 0 ? classes : method.getParameterTypes();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.application.common.event;
+
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.ApplicationListenerMethodAdapter;
+
+/**
+ * {@link AsyncEventListener} 메서드 어댑터
+ *
+ * <p>이벤트 수신 시 조건 평가와 메서드 호출({@link #processEvent(ApplicationEvent)})을 {@link AsyncEventDispatcher}에
+ * 위임합니다. 레인 키는 리스너 ID + 이벤트 타입이므로 같은 리스너의 같은 타입 이벤트는 순서대로 처리됩니다.
+ *
+ * @author ryu-qqq
+ */
+class AsyncEventListenerMethodAdapter extends ApplicationListenerMethodAdapter {
+
+    private final Supplier<AsyncEventDispatcher> dispatcher;
+
+    AsyncEventListenerMethodAdapter(
+            String beanName,
+            Class<?> targetClass,
+            Method method,
+            Supplier<AsyncEventDispatcher> dispatcher) {
+        super(beanName, targetClass, method);
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        String listenerId = getListenerId();
+        String laneKey = listenerId + "|" + eventTypeOf(event);
+        dispatcher.get().dispatch(laneKey, listenerId, () -> processEvent(event));
+    }
+
+    private static String eventTypeOf(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent<?> payloadEvent) {
+            return payloadEvent.getPayload().getClass().getName();
+        }
+        return event.getClass().getName();
+    }
+}
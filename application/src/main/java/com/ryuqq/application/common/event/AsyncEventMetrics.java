@@ -0,0 +1,58 @@
+package com.ryuqq.application.common.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AsyncEventMetrics - 비동기 이벤트 디스패처 메트릭 기록
+ *
+ * <ul>
+ *   <li>{@code events.async.queue.depth} (Gauge) - 대기 + 실행 중인 이벤트 수
+ *   <li>{@code events.async.queue.wait} (Timer) - 제출부터 리스너 실행 시작까지 대기 시간
+ *   <li>{@code events.async.listener} (Timer) - 리스너 실행 시간, listener/outcome 태그
+ *   <li>{@code events.async.rejected} (Counter) - 용량 초과 횟수, policy 태그
+ * </ul>
+ *
+ * <p>listener 태그는 리스너 ID(클래스.메서드)이므로 카디널리티는 리스너 메서드 수로 제한됩니다.
+ *
+ * @author ryu-qqq
+ */
+public class AsyncEventMetrics {
+
+    private static final String QUEUE_DEPTH = "events.async.queue.depth";
+    private static final String QUEUE_WAIT = "events.async.queue.wait";
+    private static final String LISTENER = "events.async.listener";
+    private static final String REJECTED = "events.async.rejected";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer queueWaitTimer;
+
+    public AsyncEventMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.queueWaitTimer = meterRegistry.timer(QUEUE_WAIT);
+    }
+
+    void bindQueueDepth(Supplier<Number> depth) {
+        Gauge.builder(QUEUE_DEPTH, depth).register(meterRegistry);
+    }
+
+    void recordQueueWait(long waitNanos) {
+        queueWaitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordListener(String listenerId, long elapsedNanos, boolean success) {
+        Timer.builder(LISTENER)
+                .tag("listener", listenerId)
+                .tag("outcome", success ? "success" : "failure")
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordRejected(AsyncEventRejectionPolicy policy) {
+        Counter.builder(REJECTED).tag("policy", policy.name()).register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,21 @@
+package com.ryuqq.application.common.event;
+
+/**
+ * 비동기 이벤트 대기열이 가득 찼을 때의 처리 정책
+ *
+ * @author ryu-qqq
+ */
+public enum AsyncEventRejectionPolicy {
+
+    /** 설정한 시간까지 발행 스레드를 대기시킨 뒤, 그래도 자리가 없으면 {@link #ABORT}와 같이 처리 (순서 보장 유지) */
+    BLOCK,
+
+    /** 발행 스레드에서 바로 실행 (역압 효과는 가장 크지만 대기 중인 같은 타입 이벤트보다 먼저 실행될 수 있음) */
+    CALLER_RUNS,
+
+    /** {@link java.util.concurrent.RejectedExecutionException} 발생 - 아웃박스 릴레이에서는 재시도로 이어짐 */
+    ABORT,
+
+    /** 경고 로그와 메트릭만 남기고 버림 */
+    DISCARD
+}
@@ -6,7 +6,12 @@ import java.util.concurrent.TimeUnit;
 /**
  * 분산락 포트 (출력 포트)
  *
- * <p>Redisson 기반 분산락 추상화입니다.
+ * <p>분산락 추상화입니다. 구현은 persistence 어댑터에서 {@code persistence.lock.mode}로 선택합니다.
+ *
+ * <ul>
+ *   <li>mysql: MySQL 네임드 락 (GET_LOCK/RELEASE_LOCK) - 다중 노드
+ *   <li>local: JVM 내 lock striping - 단일 노드/테스트
+ * </ul>
  *
  * <p><strong>사용 예시:</strong>
  *
@@ -3,7 +3,9 @@ package com.ryuqq.application.common.port.out;
 /**
  * ID 생성 Port (Outbound)
  *
- * <p>도메인 Aggregate ID 생성을 위한 Port입니다. UUIDv7 기반의 시간 순서가 보장되는 고유 ID를 생성합니다.
+ * <p>도메인 Aggregate ID 생성을 위한 Port입니다. 시간 순서가 보장되는 고유 ID를 생성합니다.
+ *
+ * <p>영속화 전에 ID를 미리 할당하면 IDENTITY 전략의 행 단위 INSERT 대신 JDBC 배치 INSERT를 사용할 수 있습니다.
  *
  * <p>구현체는 Adapter Layer에서 제공합니다.
  *
@@ -20,4 +22,13 @@ public interface IdGeneratorPort {
      * @return 생성된 ID 문자열
      */
     String generate();
+
+    /**
+     * 새 Long ID 생성
+     *
+     * <p>시간 순서가 보장되는 양수 Long ID를 생성합니다. JavaScript 안전 정수 범위(2^53 - 1)를 넘지 않습니다.
+     *
+     * @return 생성된 ID
+     */
+    long generateLong();
 }
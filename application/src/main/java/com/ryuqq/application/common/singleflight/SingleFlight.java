@@ -0,0 +1,131 @@
+package com.ryuqq.application.common.singleflight;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlight - 동일 키 동시 요청 병합 (request coalescing)
+ *
+ * <p>같은 키의 계산이 진행 중이면 새 요청은 계산을 다시 하지 않고 진행 중인 결과를 함께 받습니다. 결과를 저장하지 않으므로 캐시가 아니며, 계산이 끝난 뒤 들어온 요청은
+ * 새로 계산합니다.
+ *
+ * <ul>
+ *   <li>leader: 계산을 직접 실행한 요청
+ *   <li>follower: 진행 중인 계산의 결과를 공유받은 요청 - 자신의 {@link RequestDeadline}까지만 기다림
+ *   <li>leader가 자신의 기한 경과로 실패하면, 기한이 남은 follower는 새로 계산을 시도
+ * </ul>
+ *
+ * <p>read-your-writes 요청({@link ReadConsistencyContext#isPrimaryRequired()})은 자신의 쓰기 이전에 시작된 계산을
+ * 공유받으면 안 되므로 병합하지 않고 직접 계산합니다.
+ *
+ * <p>키는 equals/hashCode가 값 기반인 Query Record를 사용하고, 결과는 여러 요청이 공유하므로 불변이어야 합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 결과 타입
+ * @author ryu-qqq
+ */
+public class SingleFlight<K, V> {
+
+    private final String name;
+    private final SingleFlightMetrics metrics;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public SingleFlight(String name, SingleFlightMetrics metrics) {
+        this.name = name;
+        this.metrics = metrics;
+        metrics.bindInFlight(name, inFlight::size);
+    }
+
+    /**
+     * 키에 대한 계산 실행 또는 진행 중인 계산 결과 공유
+     *
+     * @param key 요청 키
+     * @param loader 계산 로직
+     * @return 계산 결과
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (ReadConsistencyContext.isPrimaryRequired()) {
+            return loader.get();
+        }
+        while (true) {
+            CompletableFuture<V> call = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+            if (existing == null) {
+                metrics.recordLeader(name);
+                return lead(key, call, loader);
+            }
+            metrics.recordFollower(name);
+            try {
+                return await(existing);
+            } catch (DeadlineExceededException e) {
+                if (RequestDeadline.isExpired()) {
+                    throw e;
+                }
+                // leader의 기한이 더 짧아 실패 - 남은 기한으로 다시 시도
+            }
+        }
+    }
+
+    private V lead(K key, CompletableFuture<V> call, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(sharedFailure(e));
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * follower에게 전달할 leader 실패
+     *
+     * <p>leader의 기한이 지난 뒤의 실패(statement timeout으로 취소된 쿼리 등)는 leader 기한 때문이므로, 기한이 남은 follower가 새로
+     * 계산하도록 {@link DeadlineExceededException}으로 바꿔 전달합니다.
+     */
+    private Throwable sharedFailure(Throwable failure) {
+        if (!(failure instanceof RuntimeException)
+                || failure instanceof DeadlineExceededException
+                || !RequestDeadline.isExpired()) {
+            return failure;
+        }
+        return new DeadlineExceededException(
+                "Leader request deadline exceeded while computing " + name, failure);
+    }
+
+    private V await(CompletableFuture<V> call) {
+        Optional<Duration> remaining = RequestDeadline.remaining();
+        try {
+            if (remaining.isEmpty()) {
+                return call.get();
+            }
+            return call.get(remaining.get().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new DeadlineExceededException(
+                    "Request deadline exceeded while waiting for in-flight " + name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for in-flight " + name, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.ryuqq.application.common.singleflight;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.Supplier;
+
+/**
+ * SingleFlightMetrics - 요청 병합 메트릭 기록
+ *
+ * <ul>
+ *   <li>{@code singleflight.calls} (Counter) - 요청 수, name/role(leader, follower) 태그
+ *   <li>{@code singleflight.inflight} (Gauge) - 진행 중인 계산 수, name 태그
+ * </ul>
+ *
+ * <p>병합 비율은 {@code follower / (leader + follower)}이며, DB까지 간 요청 비율은 그 나머지입니다.
+ *
+ * @author ryu-qqq
+ */
+public class SingleFlightMetrics {
+
+    private static final String CALLS = "singleflight.calls";
+    private static final String IN_FLIGHT = "singleflight.inflight";
+
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlightMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void bindInFlight(String name, Supplier<Number> inFlight) {
+        Gauge.builder(IN_FLIGHT, inFlight).tag("name", name).register(meterRegistry);
+    }
+
+    void recordLeader(String name) {
+        record(name, "leader");
+    }
+
+    void recordFollower(String name) {
+        record(name, "follower");
+    }
+
+    private void record(String name, String role) {
+        Counter.builder(CALLS)
+                .tag("name", name)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ryuqq.application.common.template;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CompiledTemplate - 한 번 해석해 둔 템플릿 명령 목록
+ *
+ * <p>원문을 {@code 리터럴 0, 변수 0, 리터럴 1, 변수 1, ..., 리터럴 n} 순서의 명령 목록으로 나눠 둡니다. 렌더링은 배열을 한 번 순회하며 {@link
+ * Appendable}에 이어 쓰므로, 원문을 다시 스캔하거나 중간 문자열을 만들지 않습니다.
+ *
+ * <p>값이 주어지지 않은 변수는 자리표시자 원문을 그대로 출력합니다 (ClassTemplate의 {@code {id}} 같은 Spring 경로 변수 보존).
+ *
+ * <p>생성 후 변경되지 않으므로 여러 스레드가 잠금 없이 렌더링할 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+public final class CompiledTemplate {
+
+    private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+    private final String[] literals;
+    private final String[] names;
+    private final String[] placeholders;
+    private final List<String> variableNames;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] names, String[] placeholders) {
+        this.literals = literals;
+        this.names = names;
+        this.placeholders = placeholders;
+        this.variableNames = List.copyOf(new LinkedHashSet<>(List.of(names)));
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * 템플릿 원문 해석
+     *
+     * @param source 템플릿 원문 (null이면 빈 템플릿)
+     * @param syntax 자리표시자 문법
+     * @return 명령 목록
+     */
+    public static CompiledTemplate compile(String source, TemplateSyntax syntax) {
+        String text = source != null ? source : "";
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int literalStart = 0;
+        int open = text.indexOf(syntax.open());
+        while (open >= 0) {
+            int end = syntax.placeholderEnd(text, open);
+            if (end < 0) {
+                open = text.indexOf(syntax.open(), open + 1);
+                continue;
+            }
+            String placeholder = text.substring(open, end);
+            literals.add(text.substring(literalStart, open));
+            names.add(syntax.nameOf(placeholder));
+            placeholders.add(placeholder);
+            literalStart = end;
+            open = text.indexOf(syntax.open(), end);
+        }
+        literals.add(text.substring(literalStart));
+        return new CompiledTemplate(
+                literals.toArray(String[]::new),
+                names.toArray(String[]::new),
+                placeholders.toArray(String[]::new));
+    }
+
+    /**
+     * 출력 대상에 렌더링
+     *
+     * @param out 출력 대상
+     * @param variables 변수 이름 → 값
+     * @throws IOException 출력 대상 쓰기 실패
+     */
+    public void renderTo(Appendable out, Map<String, String> variables) throws IOException {
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            String value = variables.get(names[i]);
+            out.append(value != null ? value : placeholders[i]);
+        }
+        out.append(literals[names.length]);
+    }
+
+    /**
+     * 문자열로 렌더링
+     *
+     * @param variables 변수 이름 → 값
+     * @return 렌더링 결과
+     */
+    public String render(Map<String, String> variables) {
+        StringBuilder out =
+                new StringBuilder(literalLength + names.length * ESTIMATED_VALUE_LENGTH);
+        try {
+            renderTo(out, variables);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
+    }
+
+    /**
+     * 값이 주어지지 않은 변수 이름
+     *
+     * @param variables 변수 이름 → 값
+     * @return 누락된 변수 이름 (처음 등장한 순서, 중복 제거)
+     */
+    public List<String> missingVariables(Map<String, String> variables) {
+        if (variables.keySet().containsAll(variableNames)) {
+            return List.of();
+        }
+        Set<String> missing = new LinkedHashSet<>(variableNames);
+        missing.removeAll(variables.keySet());
+        return List.copyOf(missing);
+    }
+
+    /**
+     * 템플릿이 참조하는 변수 이름
+     *
+     * @return 변수 이름 (처음 등장한 순서, 중복 제거)
+     */
+    public List<String> variableNames() {
+        return variableNames;
+    }
+}
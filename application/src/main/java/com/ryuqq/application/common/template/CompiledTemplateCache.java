@@ -0,0 +1,70 @@
+package com.ryuqq.application.common.template;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * CompiledTemplateCache - (키, updated_at) 기준 컴파일 템플릿 캐시
+ *
+ * <p>템플릿 행이 수정되면 updated_at이 바뀌므로, 저장된 버전과 조회한 버전이 다르면 캐시 미스로 보고 다시 컴파일합니다. 별도의 무효화 이벤트가 필요 없습니다.
+ *
+ * <ul>
+ *   <li>키 하나에 최신 버전 하나만 보관하므로 항목 수는 템플릿 행 수를 넘지 않습니다
+ *   <li>같은 키를 동시에 컴파일하면 둘 다 컴파일하되, 더 오래된 버전이 더 새 버전을 덮어쓰지 않습니다
+ * </ul>
+ *
+ * @param <K> 키 타입 (equals/hashCode가 값 기반이어야 함)
+ * @author ryu-qqq
+ */
+public class CompiledTemplateCache<K> {
+
+    private final ConcurrentMap<K, Entry> templates = new ConcurrentHashMap<>();
+
+    /**
+     * 버전이 일치하는 컴파일 템플릿 조회
+     *
+     * @param key 템플릿 키
+     * @param version 템플릿 updated_at
+     * @return 컴파일 템플릿 (없거나 버전이 다르면 empty)
+     */
+    public Optional<CompiledTemplate> get(K key, Instant version) {
+        Entry entry = templates.get(key);
+        if (entry == null || !Objects.equals(entry.version(), version)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.template());
+    }
+
+    /**
+     * 템플릿 원문을 컴파일해 저장
+     *
+     * @param key 템플릿 키
+     * @param version 템플릿 updated_at
+     * @param source 템플릿 원문
+     * @param syntax 자리표시자 문법
+     * @return 컴파일 템플릿
+     */
+    public CompiledTemplate compile(K key, Instant version, String source, TemplateSyntax syntax) {
+        CompiledTemplate template = CompiledTemplate.compile(source, syntax);
+        templates.merge(key, new Entry(version, template), CompiledTemplateCache::newer);
+        return template;
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    private static Entry newer(Entry cached, Entry compiled) {
+        if (cached.version() != null
+                && compiled.version() != null
+                && compiled.version().isBefore(cached.version())) {
+            return cached;
+        }
+        return compiled;
+    }
+
+    private record Entry(Instant version, CompiledTemplate template) {}
+}
@@ -0,0 +1,78 @@
+package com.ryuqq.application.common.template;
+
+/**
+ * TemplateSyntax - 템플릿 자리표시자 문법
+ *
+ * <ul>
+ *   <li>SINGLE_BRACE: {@code {Domain}} - ClassTemplate template_code (이름은 식별자 문자만)
+ *   <li>DOUBLE_BRACE: {@code {{ tech_stack.framework_type }}} - ConfigFileTemplate content (이름에 점과
+ *       하이픈 허용, 괄호 안 공백 허용)
+ * </ul>
+ *
+ * <p>문법에 맞지 않는 중괄호(Java 블록, 배열 초기화 등)는 리터럴로 남습니다.
+ *
+ * @author ryu-qqq
+ */
+public enum TemplateSyntax {
+    SINGLE_BRACE("{", "}", false),
+    DOUBLE_BRACE("{{", "}}", true);
+
+    private final String open;
+    private final String close;
+    private final boolean relaxed;
+
+    TemplateSyntax(String open, String close, boolean relaxed) {
+        this.open = open;
+        this.close = close;
+        this.relaxed = relaxed;
+    }
+
+    String open() {
+        return open;
+    }
+
+    /**
+     * 자리표시자 끝 위치
+     *
+     * @param source 템플릿 원문
+     * @param start 여는 괄호 위치
+     * @return 닫는 괄호 다음 위치 (자리표시자가 아니면 -1)
+     */
+    int placeholderEnd(String source, int start) {
+        int i = skipSpaces(source, start + open.length());
+        if (i >= source.length() || !isNameStart(source.charAt(i))) {
+            return -1;
+        }
+        i++;
+        while (i < source.length() && isNamePart(source.charAt(i))) {
+            i++;
+        }
+        i = skipSpaces(source, i);
+        return source.startsWith(close, i) ? i + close.length() : -1;
+    }
+
+    /**
+     * 자리표시자의 변수 이름
+     *
+     * @param placeholder 괄호를 포함한 자리표시자
+     * @return 변수 이름
+     */
+    String nameOf(String placeholder) {
+        return placeholder.substring(open.length(), placeholder.length() - close.length()).strip();
+    }
+
+    private int skipSpaces(String source, int i) {
+        while (relaxed && i < source.length() && source.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean isNameStart(char c) {
+        return Character.isLetter(c) || c == '_';
+    }
+
+    private boolean isNamePart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || (relaxed && (c == '.' || c == '-'));
+    }
+}
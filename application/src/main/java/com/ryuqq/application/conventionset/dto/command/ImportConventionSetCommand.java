@@ -0,0 +1,36 @@
+package com.ryuqq.application.conventionset.dto.command;
+
+import java.util.List;
+
+/**
+ * ImportConventionSetCommand - 컨벤션 세트 가져오기 커맨드
+ *
+ * <p>내보내기 스트림을 읽은 그대로 담습니다. 형식/컬럼/참조 검증은 가져오기 전에 문서 전체를 대상으로 한 번에 수행합니다.
+ *
+ * @param format 형식 이름
+ * @param formatVersion 형식 버전
+ * @param sections 테이블 구역 목록 (문서 순서)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ImportConventionSetCommand(String format, int formatVersion, List<Section> sections) {
+
+    public ImportConventionSetCommand {
+        sections = sections == null ? List.of() : List.copyOf(sections);
+    }
+
+    /**
+     * 테이블 구역
+     *
+     * @param table 테이블명
+     * @param columns 컬럼명 (행 값 순서)
+     * @param rows 행 값 배열 목록
+     */
+    public record Section(String table, List<String> columns, List<Object[]> rows) {
+
+        public Section {
+            columns = columns == null ? List.of() : List.copyOf(columns);
+            rows = rows == null ? List.of() : List.copyOf(rows);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ryuqq.application.conventionset.dto.query;
+
+/**
+ * ExportConventionSetQuery - 컨벤션 세트 내보내기 쿼리
+ *
+ * @param techStackId 내보낼 기술 스택 ID
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ExportConventionSetQuery(Long techStackId) {}
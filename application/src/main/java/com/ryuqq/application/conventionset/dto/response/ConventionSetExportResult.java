@@ -0,0 +1,50 @@
+package com.ryuqq.application.conventionset.dto.response;
+
+import com.ryuqq.application.conventionset.format.ConventionSetRowWriter;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * ConventionSetExportResult - 컨벤션 세트 내보내기 결과
+ *
+ * <p>행은 미리 조회하지 않고 {@link #writeRows(ConventionSetRowWriter)} 호출 시 DB 커서에서 읽는 대로 출력 대상에 씁니다. 행 수와
+ * 관계없이 결과 전체를 메모리에 모으지 않습니다.
+ *
+ * @param techStackId 기술 스택 ID
+ * @param formatVersion 형식 버전
+ * @param exportedAt 내보내기 시각
+ * @param rows 행 공급자
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ConventionSetExportResult(
+        Long techStackId, int formatVersion, Instant exportedAt, RowSource rows) {
+
+    /**
+     * 모든 테이블의 행을 출력 대상에 쓰기
+     *
+     * @param writer 출력 대상
+     * @return 테이블별 행 수 (테이블 순서)
+     * @throws IOException 출력 실패
+     */
+    public Map<ConventionSetTable, Long> writeRows(ConventionSetRowWriter writer)
+            throws IOException {
+        return rows.writeTo(writer);
+    }
+
+    /** 행 공급자 */
+    @FunctionalInterface
+    public interface RowSource {
+
+        /**
+         * 모든 테이블의 행을 출력 대상에 쓰기
+         *
+         * @param writer 출력 대상
+         * @return 테이블별 행 수 (테이블 순서)
+         * @throws IOException 출력 실패
+         */
+        Map<ConventionSetTable, Long> writeTo(ConventionSetRowWriter writer) throws IOException;
+    }
+}
@@ -0,0 +1,97 @@
+package com.ryuqq.application.conventionset.dto.response;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ConventionSetImportResult - 컨벤션 세트 가져오기 결과
+ *
+ * <p>검증과 계획까지 끝난 상태입니다. 행 저장은 {@link #insertRows(ProgressListener)} 호출 시 청크 단위로 수행하며, 청크가 커밋될 때마다
+ * 진행 상황을 알립니다.
+ *
+ * @param formatVersion 형식 버전
+ * @param importedAt created_at / updated_at 값
+ * @param tables 테이블별 요약 (부모 우선 순서)
+ * @param execution 행 저장 실행기
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ConventionSetImportResult(
+        int formatVersion, Instant importedAt, List<TableSummary> tables, Execution execution) {
+
+    public ConventionSetImportResult {
+        tables = List.copyOf(tables);
+    }
+
+    /**
+     * 계획된 행 저장
+     *
+     * @param listener 청크 커밋 알림
+     * @return 저장한 행 수
+     * @throws IOException 진행 상황 출력 실패 (이후 청크는 저장하지 않음)
+     */
+    public long insertRows(ProgressListener listener) throws IOException {
+        return execution.run(listener);
+    }
+
+    public long insertCount() {
+        long count = 0;
+        for (TableSummary table : tables) {
+            count += table.insertCount();
+        }
+        return count;
+    }
+
+    public long skippedCount() {
+        long count = 0;
+        for (TableSummary table : tables) {
+            count += table.skippedCount();
+        }
+        return count;
+    }
+
+    /**
+     * 테이블 요약
+     *
+     * @param table 테이블
+     * @param rowCount 문서의 행 수
+     * @param skippedCount 이미 있어 건너뛸 행 수
+     */
+    public record TableSummary(ConventionSetTable table, int rowCount, int skippedCount) {
+
+        public int insertCount() {
+            return rowCount - skippedCount;
+        }
+    }
+
+    /** 청크 커밋 알림 */
+    @FunctionalInterface
+    public interface ProgressListener {
+
+        /**
+         * 청크 하나가 커밋됨
+         *
+         * @param table 테이블
+         * @param inserted 이 테이블에서 지금까지 저장한 행 수
+         * @param total 이 테이블의 저장 대상 행 수
+         * @throws IOException 출력 실패
+         */
+        void chunkCommitted(ConventionSetTable table, int inserted, int total) throws IOException;
+    }
+
+    /** 행 저장 실행기 */
+    @FunctionalInterface
+    public interface Execution {
+
+        /**
+         * 계획된 행 저장
+         *
+         * @param listener 청크 커밋 알림
+         * @return 저장한 행 수
+         * @throws IOException 진행 상황 출력 실패
+         */
+        long run(ProgressListener listener) throws IOException;
+    }
+}
@@ -0,0 +1,310 @@
+package com.ryuqq.application.conventionset.format;
+
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ConventionSetBundle - 컨벤션 세트 바이너리 번들 읽기
+ *
+ * <p>{@link ConventionSetBundleFormat} 레이아웃의 버퍼(주로 메모리 매핑 파일)를 복사하지 않고 읽습니다. 열 때는 헤더와 디렉터리만 검사하므로
+ * 번들 크기와 관계없이 상수 시간이고, 행은 조회할 때 필요한 컬럼만 디코딩합니다.
+ *
+ * <ul>
+ *   <li>ID 조회는 테이블 인덱스의 이진 탐색입니다 ({@link Table#indexOf(long)})
+ *   <li>버퍼의 position/limit을 쓰지 않는 절대 위치 읽기만 사용하므로 여러 스레드가 동시에 읽을 수 있습니다
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public final class ConventionSetBundle {
+
+    private final long techStackId;
+    private final Instant exportedAt;
+    private final Map<ConventionSetTable, Table> tables;
+
+    private ConventionSetBundle(
+            long techStackId, Instant exportedAt, Map<ConventionSetTable, Table> tables) {
+        this.techStackId = techStackId;
+        this.exportedAt = exportedAt;
+        this.tables = tables;
+    }
+
+    /**
+     * 번들 열기
+     *
+     * @param source 번들 전체를 담은 버퍼 (position 0부터 capacity까지)
+     * @return 번들
+     * @throws ConventionSetInvalidDocumentException 시그니처/버전이 다르거나 디렉터리가 버퍼 범위를 벗어난 경우
+     */
+    public static ConventionSetBundle open(ByteBuffer source) {
+        ByteBuffer buffer = source.duplicate();
+        int capacity = buffer.capacity();
+        if (capacity < ConventionSetBundleFormat.HEADER_BYTES
+                || buffer.getInt(0) != ConventionSetBundleFormat.MAGIC) {
+            throw new ConventionSetInvalidDocumentException("not a convention set bundle");
+        }
+        int version = buffer.getInt(4);
+        int setVersion = buffer.getInt(8);
+        if (version != ConventionSetBundleFormat.VERSION
+                || setVersion != ConventionSetFormat.VERSION) {
+            throw new ConventionSetInvalidDocumentException(
+                    "unsupported bundle version " + version + "/" + setVersion);
+        }
+        int tableCount = buffer.getInt(12);
+        long directoryEnd =
+                ConventionSetBundleFormat.HEADER_BYTES
+                        + (long) ConventionSetBundleFormat.DIRECTORY_ENTRY_BYTES * tableCount;
+        if (tableCount < 0
+                || tableCount > ConventionSetTable.values().length
+                || directoryEnd > capacity) {
+            throw new ConventionSetInvalidDocumentException("corrupt bundle directory");
+        }
+
+        Map<ConventionSetTable, Table> tables = new EnumMap<>(ConventionSetTable.class);
+        for (int i = 0; i < tableCount; i++) {
+            int entry =
+                    ConventionSetBundleFormat.HEADER_BYTES
+                            + ConventionSetBundleFormat.DIRECTORY_ENTRY_BYTES * i;
+            Table table =
+                    Table.of(
+                            buffer,
+                            buffer.getInt(entry),
+                            buffer.getInt(entry + 4),
+                            buffer.getInt(entry + 8),
+                            buffer.getInt(entry + 12),
+                            directoryEnd);
+            tables.put(table.table, table);
+        }
+        return new ConventionSetBundle(
+                buffer.getLong(16), Instant.ofEpochMilli(buffer.getLong(24)), tables);
+    }
+
+    public long techStackId() {
+        return techStackId;
+    }
+
+    public Instant exportedAt() {
+        return exportedAt;
+    }
+
+    /**
+     * 테이블 조회
+     *
+     * @param table 테이블
+     * @return 테이블 (번들에 없으면 빈 테이블)
+     */
+    public Table table(ConventionSetTable table) {
+        Table found = tables.get(table);
+        return found != null ? found : new Table(null, table, 0, 0, 0);
+    }
+
+    /** 번들 안의 테이블 하나 (ID 오름차순 행) */
+    public static final class Table {
+
+        private final ByteBuffer buffer;
+        private final ConventionSetTable table;
+        private final int size;
+        private final int indexOffset;
+        private final int dataOffset;
+
+        private Table(
+                ByteBuffer buffer,
+                ConventionSetTable table,
+                int size,
+                int indexOffset,
+                int dataOffset) {
+            this.buffer = buffer;
+            this.table = table;
+            this.size = size;
+            this.indexOffset = indexOffset;
+            this.dataOffset = dataOffset;
+        }
+
+        private static Table of(
+                ByteBuffer buffer,
+                int ordinal,
+                int size,
+                int indexOffset,
+                int dataOffset,
+                long directoryEnd) {
+            ConventionSetTable[] values = ConventionSetTable.values();
+            long indexEnd = indexOffset + (long) ConventionSetBundleFormat.INDEX_ENTRY_BYTES * size;
+            if (ordinal < 0
+                    || ordinal >= values.length
+                    || size < 0
+                    || indexOffset < directoryEnd
+                    || indexEnd > dataOffset
+                    || dataOffset > buffer.capacity()) {
+                throw new ConventionSetInvalidDocumentException("corrupt bundle directory");
+            }
+            return new Table(buffer, values[ordinal], size, indexOffset, dataOffset);
+        }
+
+        public ConventionSetTable table() {
+            return table;
+        }
+
+        /**
+         * 행 수
+         *
+         * @return 행 수
+         */
+        public int size() {
+            return size;
+        }
+
+        /**
+         * 행의 ID
+         *
+         * @param row 행 번호 (0부터, ID 오름차순)
+         * @return ID
+         */
+        public long id(int row) {
+            return buffer.getLong(indexOffset + Long.BYTES * row);
+        }
+
+        /**
+         * ID로 행 번호 찾기 (이진 탐색)
+         *
+         * @param id ID
+         * @return 행 번호 (없으면 -1)
+         */
+        public int indexOf(long id) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                long midId = id(mid);
+                if (midId < id) {
+                    low = mid + 1;
+                } else if (midId > id) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * 컬럼 번호
+         *
+         * @param name DB 컬럼명
+         * @return {@link ConventionSetTable#columns()} 안의 위치
+         * @throws IllegalArgumentException 테이블에 없는 컬럼
+         */
+        public int column(String name) {
+            int column = table.columns().indexOf(name);
+            if (column < 0) {
+                throw new IllegalArgumentException(table.tableName() + " has no column " + name);
+            }
+            return column;
+        }
+
+        /**
+         * 컬럼 값
+         *
+         * @param row 행 번호
+         * @param column 컬럼 번호
+         * @return Long, Boolean, String 또는 null
+         */
+        public Object value(int row, int column) {
+            int position = rowStart(row);
+            for (int i = 0; i < column; i++) {
+                position = skip(position);
+            }
+            return read(position);
+        }
+
+        /**
+         * 정수 컬럼 값
+         *
+         * @param row 행 번호
+         * @param column 컬럼 번호
+         * @return 값 (null 가능)
+         */
+        public Long getLong(int row, int column) {
+            Object value = value(row, column);
+            if (value == null || value instanceof Long) {
+                return (Long) value;
+            }
+            throw new ConventionSetInvalidDocumentException(
+                    table.columns().get(column) + " is not a number");
+        }
+
+        /**
+         * 문자열 컬럼 값
+         *
+         * @param row 행 번호
+         * @param column 컬럼 번호
+         * @return 값 (null 가능, 문자열이 아니면 문자열 표현)
+         */
+        public String getString(int row, int column) {
+            Object value = value(row, column);
+            return value != null ? value.toString() : null;
+        }
+
+        /**
+         * 불리언 컬럼 값 (TINYINT 0/1 포함)
+         *
+         * @param row 행 번호
+         * @param column 컬럼 번호
+         * @return 값 (null이면 false)
+         */
+        public boolean getBoolean(int row, int column) {
+            Object value = value(row, column);
+            if (value instanceof Long number) {
+                return number != 0L;
+            }
+            return Boolean.TRUE.equals(value);
+        }
+
+        private int rowStart(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException(row);
+            }
+            int offsets = indexOffset + Long.BYTES * size;
+            return dataOffset + buffer.getInt(offsets + Integer.BYTES * row);
+        }
+
+        private int skip(int position) {
+            byte tag = buffer.get(position);
+            return switch (tag) {
+                case ConventionSetBundleFormat.TAG_NULL,
+                        ConventionSetBundleFormat.TAG_FALSE,
+                        ConventionSetBundleFormat.TAG_TRUE ->
+                        position + 1;
+                case ConventionSetBundleFormat.TAG_LONG -> position + 1 + Long.BYTES;
+                case ConventionSetBundleFormat.TAG_STRING ->
+                        position + 1 + Integer.BYTES + buffer.getInt(position + 1);
+                default -> throw unknownTag(tag);
+            };
+        }
+
+        private Object read(int position) {
+            byte tag = buffer.get(position);
+            return switch (tag) {
+                case ConventionSetBundleFormat.TAG_NULL -> null;
+                case ConventionSetBundleFormat.TAG_FALSE -> Boolean.FALSE;
+                case ConventionSetBundleFormat.TAG_TRUE -> Boolean.TRUE;
+                case ConventionSetBundleFormat.TAG_LONG -> buffer.getLong(position + 1);
+                case ConventionSetBundleFormat.TAG_STRING -> {
+                    byte[] bytes = new byte[buffer.getInt(position + 1)];
+                    buffer.get(position + 1 + Integer.BYTES, bytes);
+                    yield new String(bytes, StandardCharsets.UTF_8);
+                }
+                default -> throw unknownTag(tag);
+            };
+        }
+
+        private ConventionSetInvalidDocumentException unknownTag(byte tag) {
+            return new ConventionSetInvalidDocumentException(
+                    "unknown value tag " + tag + " in " + table.tableName());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.ryuqq.application.conventionset.format;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ConventionSetBundleBuilder - 컨벤션 세트 행을 바이너리 번들로 조립
+ *
+ * <p>내보내기 행을 {@link ConventionSetRowWriter}로 받아 테이블별로 인코딩해 두고, {@link #writeTo(OutputStream, long,
+ * Instant)}에서 {@link ConventionSetBundleFormat} 레이아웃으로 씁니다. 인덱스가 데이터보다 앞에 오고 그 오프셋을 헤더에 미리 적어야 하므로,
+ * NDJSON 내보내기와 달리 인코딩된 행 전체를 메모리에 모은 뒤 한 번에 씁니다 (번들 크기만큼의 힙 사용).
+ *
+ * <p>행 배열은 호출 중에 바로 인코딩하므로 보관하지 않습니다. 각 행의 첫 컬럼은 ID여야 하며, ID 순으로 들어오지 않은 테이블은 쓰기 전에 정렬합니다.
+ *
+ * <p>스레드 안전하지 않습니다. 번들 하나당 인스턴스 하나를 사용합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public final class ConventionSetBundleBuilder implements ConventionSetRowWriter {
+
+    private static final int INITIAL_ROWS = 64;
+
+    private final Map<ConventionSetTable, TableBuffer> tables =
+            new EnumMap<>(ConventionSetTable.class);
+    private TableBuffer current;
+
+    @Override
+    public void table(ConventionSetTable table) {
+        current = tables.computeIfAbsent(table, TableBuffer::new);
+    }
+
+    @Override
+    public void row(Object[] values) throws IOException {
+        if (current == null) {
+            throw new IllegalStateException("row() called before table()");
+        }
+        current.add(values);
+    }
+
+    /**
+     * 번들 쓰기
+     *
+     * <p>출력 스트림은 닫지 않습니다.
+     *
+     * @param out 출력 스트림
+     * @param techStackId 기술 스택 ID
+     * @param exportedAt 내보내기 시각
+     * @throws IOException 출력 스트림 쓰기 실패
+     * @throws IllegalStateException 번들이 2GB를 넘는 경우
+     */
+    public void writeTo(OutputStream out, long techStackId, Instant exportedAt)
+            throws IOException {
+        DataOutputStream output = new DataOutputStream(out);
+        output.writeInt(ConventionSetBundleFormat.MAGIC);
+        output.writeInt(ConventionSetBundleFormat.VERSION);
+        output.writeInt(ConventionSetFormat.VERSION);
+        output.writeInt(tables.size());
+        output.writeLong(techStackId);
+        output.writeLong(exportedAt.toEpochMilli());
+
+        long position =
+                ConventionSetBundleFormat.HEADER_BYTES
+                        + (long) ConventionSetBundleFormat.DIRECTORY_ENTRY_BYTES * tables.size();
+        for (TableBuffer table : tables.values()) {
+            long indexOffset = position;
+            long dataOffset =
+                    indexOffset + (long) ConventionSetBundleFormat.INDEX_ENTRY_BYTES * table.size;
+            position = dataOffset + table.data.size();
+            output.writeInt(table.table.ordinal());
+            output.writeInt(table.size);
+            output.writeInt(offset(indexOffset));
+            output.writeInt(offset(dataOffset));
+        }
+        offset(position);
+
+        for (TableBuffer table : tables.values()) {
+            table.writeTo(output);
+        }
+        output.flush();
+    }
+
+    private static int offset(long position) {
+        if (position > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Convention set bundle exceeds 2GB");
+        }
+        return (int) position;
+    }
+
+    private static final class TableBuffer {
+
+        private final ConventionSetTable table;
+        private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        private final DataOutputStream output = new DataOutputStream(data);
+        private long[] ids = new long[INITIAL_ROWS];
+        private int[] offsets = new int[INITIAL_ROWS];
+        private int size;
+        private boolean sorted = true;
+
+        private TableBuffer(ConventionSetTable table) {
+            this.table = table;
+        }
+
+        private void add(Object[] values) throws IOException {
+            if (values.length != table.columns().size()) {
+                throw new IllegalArgumentException(
+                        table.tableName()
+                                + " row has "
+                                + values.length
+                                + " values, expected "
+                                + table.columns().size());
+            }
+            long id = ((Number) values[0]).longValue();
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                offsets = Arrays.copyOf(offsets, size * 2);
+            }
+            if (size > 0 && id <= ids[size - 1]) {
+                sorted = false;
+            }
+            ids[size] = id;
+            offsets[size] = data.size();
+            size++;
+            for (Object value : values) {
+                writeValue(value);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                output.writeByte(ConventionSetBundleFormat.TAG_NULL);
+            } else if (value instanceof Boolean bool) {
+                output.writeByte(
+                        bool
+                                ? ConventionSetBundleFormat.TAG_TRUE
+                                : ConventionSetBundleFormat.TAG_FALSE);
+            } else if (value instanceof Number number) {
+                output.writeByte(ConventionSetBundleFormat.TAG_LONG);
+                output.writeLong(number.longValue());
+            } else {
+                String text =
+                        value instanceof Enum<?> constant ? constant.name() : value.toString();
+                byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+                output.writeByte(ConventionSetBundleFormat.TAG_STRING);
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+        }
+
+        private void writeTo(DataOutputStream out) throws IOException {
+            Integer[] order = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = i;
+            }
+            if (!sorted) {
+                Arrays.sort(order, Comparator.comparingLong(i -> ids[i]));
+            }
+            for (int i : order) {
+                out.writeLong(ids[i]);
+            }
+            for (int i : order) {
+                out.writeInt(offsets[i]);
+            }
+            data.writeTo(out);
+        }
+    }
+}
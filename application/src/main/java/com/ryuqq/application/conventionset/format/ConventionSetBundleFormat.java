@@ -0,0 +1,50 @@
+package com.ryuqq.application.conventionset.format;
+
+/**
+ * ConventionSetBundleFormat - 컨벤션 세트 바이너리 번들 레이아웃
+ *
+ * <p>번들은 메모리 매핑한 채로 읽도록 설계된 고정 레이아웃입니다. 모든 정수는 빅 엔디언이고 오프셋은 파일 시작 기준 바이트 위치입니다.
+ *
+ * <pre>{@code
+ * header    (32)  magic:int, version:int, setVersion:int, tableCount:int,
+ *                 techStackId:long, exportedAt:long (epoch ms)
+ * directory (16 × tableCount)
+ *                 table:int (ConventionSetTable 순번), rowCount:int, indexOffset:int, dataOffset:int
+ * index     (12 × rowCount, 테이블마다)
+ *                 id:long × rowCount (오름차순), rowOffset:int × rowCount (dataOffset 기준)
+ * data      (테이블마다)
+ *                 행마다 컬럼 순서대로 tag:byte [+ 값]
+ * }</pre>
+ *
+ * <ul>
+ *   <li>값 태그: NULL, FALSE, TRUE, LONG(8바이트), STRING(길이:int + UTF-8)
+ *   <li>테이블 순번은 {@link ConventionSetFormat#VERSION}이 같을 때만 유효하므로, 읽을 때 두 버전이 모두 일치해야 합니다
+ *   <li>오프셋이 int이므로 번들 하나는 2GB를 넘을 수 없습니다 (ByteBuffer 인덱스 범위)
+ * </ul>
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public final class ConventionSetBundleFormat {
+
+    /** 파일 시그니처 ("CSBN") */
+    public static final int MAGIC = 0x4353424E;
+
+    /** 번들 레이아웃 버전 (헤더/디렉터리/값 인코딩이 바뀌면 증가) */
+    public static final int VERSION = 1;
+
+    /** 파일 확장자 */
+    public static final String EXTENSION = ".bundle";
+
+    static final int HEADER_BYTES = 32;
+    static final int DIRECTORY_ENTRY_BYTES = 16;
+    static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES;
+
+    static final byte TAG_NULL = 0;
+    static final byte TAG_FALSE = 1;
+    static final byte TAG_TRUE = 2;
+    static final byte TAG_LONG = 3;
+    static final byte TAG_STRING = 4;
+
+    private ConventionSetBundleFormat() {}
+}
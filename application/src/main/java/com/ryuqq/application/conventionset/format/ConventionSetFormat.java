@@ -0,0 +1,18 @@
+package com.ryuqq.application.conventionset.format;
+
+/**
+ * ConventionSetFormat - 컨벤션 세트 스트림 형식 식별자
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public final class ConventionSetFormat {
+
+    /** 형식 이름 (헤더의 format 값) */
+    public static final String NAME = "convention-set";
+
+    /** 형식 버전 (테이블/컬럼 구성이 바뀌면 증가) */
+    public static final int VERSION = 1;
+
+    private ConventionSetFormat() {}
+}
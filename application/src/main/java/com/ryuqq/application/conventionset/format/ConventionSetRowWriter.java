@@ -0,0 +1,31 @@
+package com.ryuqq.application.conventionset.format;
+
+import java.io.IOException;
+
+/**
+ * ConventionSetRowWriter - 컨벤션 세트 행 출력 대상
+ *
+ * <p>테이블마다 {@link #table(ConventionSetTable)}을 한 번 호출한 뒤 그 테이블의 행을 {@link #row(Object[])}로 하나씩
+ * 전달합니다. 행 배열은 호출이 끝난 뒤 보관하지 않아야 합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ConventionSetRowWriter {
+
+    /**
+     * 테이블 시작
+     *
+     * @param table 테이블 (행이 없어도 호출)
+     * @throws IOException 출력 실패
+     */
+    void table(ConventionSetTable table) throws IOException;
+
+    /**
+     * 행 출력
+     *
+     * @param values {@link ConventionSetTable#columns()} 순서의 컬럼 값
+     * @throws IOException 출력 실패
+     */
+    void row(Object[] values) throws IOException;
+}
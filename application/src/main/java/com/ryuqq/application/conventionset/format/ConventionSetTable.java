@@ -0,0 +1,250 @@
+package com.ryuqq.application.conventionset.format;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ConventionSetTable - 컨벤션 세트 내보내기 대상 테이블과 컬럼 순서
+ *
+ * <p>내보내기 스트림의 형식 계약입니다. 상수 순서가 테이블 출력 순서이며, 부모 테이블이 항상 자식 테이블보다 먼저 나옵니다. 컬럼은 DB 컬럼명이고 행 배열의 값 순서와
+ * 같습니다.
+ *
+ * <ul>
+ *   <li>삭제되지 않은 행만 포함하고 감사 컬럼(created_at, updated_at, deleted_at)은 제외합니다
+ *   <li>컬럼을 추가/삭제하거나 순서를 바꾸면 {@link ConventionSetFormat#VERSION}을 올립니다
+ * </ul>
+ *
+ * <p>가져오기는 {@link #references()}로 부모 ID를 다시 매핑하고, {@link #naturalKey()}로 이미 있는 행을 찾습니다. 자연 키는 DB
+ * 유니크 키가 있으면 그대로 따르고(coding_rule.code, archunit_test.code는 전역 유니크), 없으면 부모 아래에서 행을 구분하는 컬럼입니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public enum ConventionSetTable {
+    TECH_STACK(
+            "tech_stack",
+            "id",
+            "name",
+            "status",
+            "language_type",
+            "language_version",
+            "language_features",
+            "framework_type",
+            "framework_version",
+            "framework_modules",
+            "platform_type",
+            "runtime_environment",
+            "build_tool_type",
+            "build_config_file",
+            "reference_links"),
+    ARCHITECTURE(
+            "architecture",
+            "id",
+            "tech_stack_id",
+            "name",
+            "pattern_type",
+            "pattern_description",
+            "pattern_principles",
+            "reference_links"),
+    LAYER("layer", "id", "architecture_id", "code", "name", "description", "order_index"),
+    LAYER_DEPENDENCY_RULE(
+            "layer_dependency_rule",
+            "id",
+            "architecture_id",
+            "from_layer",
+            "to_layer",
+            "dependency_type",
+            "condition_description"),
+    CLASS_TYPE_CATEGORY(
+            "class_type_category",
+            "id",
+            "architecture_id",
+            "code",
+            "name",
+            "description",
+            "order_index"),
+    CLASS_TYPE("class_type", "id", "category_id", "code", "name", "description", "order_index"),
+    MODULE(
+            "module",
+            "id",
+            "layer_id",
+            "parent_module_id",
+            "name",
+            "description",
+            "module_path",
+            "build_identifier"),
+    PACKAGE_STRUCTURE("package_structure", "id", "module_id", "path_pattern", "description"),
+    PACKAGE_PURPOSE("package_purpose", "id", "structure_id", "code", "name", "description"),
+    CLASS_TEMPLATE(
+            "class_template",
+            "id",
+            "structure_id",
+            "class_type_id",
+            "template_code",
+            "naming_pattern",
+            "required_annotations",
+            "forbidden_annotations",
+            "required_interfaces",
+            "forbidden_inheritance",
+            "required_methods",
+            "description"),
+    ARCHUNIT_TEST(
+            "archunit_test",
+            "id",
+            "structure_id",
+            "code",
+            "name",
+            "description",
+            "test_class_name",
+            "test_method_name",
+            "test_code",
+            "severity"),
+    RESOURCE_TEMPLATE(
+            "resource_template",
+            "id",
+            "module_id",
+            "category",
+            "file_path",
+            "file_type",
+            "description",
+            "template_content",
+            "required"),
+    CONVENTION("convention", "id", "module_id", "version", "description", "is_active"),
+    CODING_RULE(
+            "coding_rule",
+            "id",
+            "convention_id",
+            "code",
+            "name",
+            "severity",
+            "category",
+            "description",
+            "rationale",
+            "auto_fixable",
+            "applies_to"),
+    RULE_EXAMPLE(
+            "rule_example",
+            "id",
+            "rule_id",
+            "example_type",
+            "code",
+            "language",
+            "explanation",
+            "highlight_lines",
+            "source",
+            "feedback_id"),
+    ZERO_TOLERANCE_RULE(
+            "zero_tolerance_rule",
+            "id",
+            "rule_id",
+            "type",
+            "detection_pattern",
+            "detection_type",
+            "auto_reject_pr",
+            "error_message"),
+    CHECKLIST_ITEM(
+            "checklist_item",
+            "id",
+            "rule_id",
+            "sequence_order",
+            "check_description",
+            "check_type",
+            "automation_tool",
+            "automation_rule_id",
+            "is_critical",
+            "source",
+            "feedback_id"),
+    CONFIG_FILE_TEMPLATE(
+            "config_file_template",
+            "id",
+            "tech_stack_id",
+            "architecture_id",
+            "tool_type",
+            "file_path",
+            "file_name",
+            "content",
+            "category",
+            "description",
+            "variables",
+            "display_order",
+            "is_required"),
+    ONBOARDING_CONTEXT(
+            "onboarding_context",
+            "id",
+            "tech_stack_id",
+            "architecture_id",
+            "context_type",
+            "title",
+            "content",
+            "priority");
+
+    private final String tableName;
+    private final List<String> columns;
+
+    ConventionSetTable(String tableName, String... columns) {
+        this.tableName = tableName;
+        this.columns = List.of(columns);
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * 부모 참조 컬럼
+     *
+     * @return 컬럼명 → 참조 테이블 (자기 참조 포함)
+     */
+    public Map<String, ConventionSetTable> references() {
+        return switch (this) {
+            case TECH_STACK -> Map.of();
+            case ARCHITECTURE -> Map.of("tech_stack_id", TECH_STACK);
+            case LAYER, LAYER_DEPENDENCY_RULE, CLASS_TYPE_CATEGORY ->
+                    Map.of("architecture_id", ARCHITECTURE);
+            case CLASS_TYPE -> Map.of("category_id", CLASS_TYPE_CATEGORY);
+            case MODULE -> Map.of("layer_id", LAYER, "parent_module_id", MODULE);
+            case PACKAGE_STRUCTURE, RESOURCE_TEMPLATE, CONVENTION -> Map.of("module_id", MODULE);
+            case PACKAGE_PURPOSE, ARCHUNIT_TEST -> Map.of("structure_id", PACKAGE_STRUCTURE);
+            case CLASS_TEMPLATE ->
+                    Map.of("structure_id", PACKAGE_STRUCTURE, "class_type_id", CLASS_TYPE);
+            case CODING_RULE -> Map.of("convention_id", CONVENTION);
+            case RULE_EXAMPLE, ZERO_TOLERANCE_RULE, CHECKLIST_ITEM ->
+                    Map.of("rule_id", CODING_RULE);
+            case CONFIG_FILE_TEMPLATE, ONBOARDING_CONTEXT ->
+                    Map.of("tech_stack_id", TECH_STACK, "architecture_id", ARCHITECTURE);
+        };
+    }
+
+    /**
+     * 자연 키 컬럼
+     *
+     * <p>첫 컬럼으로 기존 행을 IN 조회하므로, 부모 아래에서 구분되는 키는 부모 참조 컬럼을 맨 앞에 둡니다.
+     *
+     * @return 자연 키 컬럼 (조회 컬럼 우선)
+     */
+    public List<String> naturalKey() {
+        return switch (this) {
+            case TECH_STACK -> List.of("name");
+            case ARCHITECTURE -> List.of("tech_stack_id", "name");
+            case LAYER, CLASS_TYPE_CATEGORY -> List.of("architecture_id", "code");
+            case LAYER_DEPENDENCY_RULE -> List.of("architecture_id", "from_layer", "to_layer");
+            case CLASS_TYPE -> List.of("category_id", "code");
+            case MODULE -> List.of("layer_id", "name");
+            case PACKAGE_STRUCTURE -> List.of("module_id", "path_pattern");
+            case PACKAGE_PURPOSE -> List.of("structure_id", "code");
+            case CLASS_TEMPLATE -> List.of("structure_id", "template_code");
+            case ARCHUNIT_TEST, CODING_RULE -> List.of("code");
+            case RESOURCE_TEMPLATE -> List.of("module_id", "file_path");
+            case CONVENTION -> List.of("module_id", "version");
+            case RULE_EXAMPLE -> List.of("rule_id", "example_type", "code");
+            case ZERO_TOLERANCE_RULE -> List.of("rule_id");
+            case CHECKLIST_ITEM -> List.of("rule_id", "sequence_order");
+            case CONFIG_FILE_TEMPLATE -> List.of("tech_stack_id", "tool_type", "file_path");
+            case ONBOARDING_CONTEXT -> List.of("tech_stack_id", "context_type", "title");
+        };
+    }
+}
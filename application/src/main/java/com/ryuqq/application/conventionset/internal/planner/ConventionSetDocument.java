@@ -0,0 +1,221 @@
+package com.ryuqq.application.conventionset.internal.planner;
+
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand.Section;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * ConventionSetDocument - 메모리에서 검증을 마친 가져오기 문서
+ *
+ * <p>DB를 조회하기 전에 문서 전체를 검사하므로, 형식 오류가 있으면 한 행도 저장하지 않고 실패합니다.
+ *
+ * <ul>
+ *   <li>형식 이름/버전, 테이블명, 컬럼 목록이 {@link ConventionSetTable}과 정확히 일치
+ *   <li>값은 문자열/숫자/불리언/null만 허용하고, ID와 부모 참조 컬럼은 정수로 정규화
+ *   <li>테이블 안에서 ID와 자연 키가 중복되지 않음
+ * </ul>
+ *
+ * <p>자연 키 비교는 DB 콜레이션(대소문자 무시)에 맞춰 문자열을 소문자로 바꿔 비교합니다.
+ *
+ * @author ryu-qqq
+ */
+public final class ConventionSetDocument {
+
+    private final Map<ConventionSetTable, List<Object[]>> rows;
+    private final Map<ConventionSetTable, Set<Long>> ids;
+
+    private ConventionSetDocument(
+            Map<ConventionSetTable, List<Object[]>> rows, Map<ConventionSetTable, Set<Long>> ids) {
+        this.rows = rows;
+        this.ids = ids;
+    }
+
+    /**
+     * 커맨드를 검증해 문서 생성
+     *
+     * @param command 가져오기 커맨드
+     * @return 검증된 문서
+     * @throws ConventionSetInvalidDocumentException 형식 오류
+     */
+    public static ConventionSetDocument of(ImportConventionSetCommand command) {
+        if (!ConventionSetFormat.NAME.equals(command.format())) {
+            throw invalid("format must be " + ConventionSetFormat.NAME);
+        }
+        if (command.formatVersion() != ConventionSetFormat.VERSION) {
+            throw invalid("unsupported format version " + command.formatVersion());
+        }
+        Map<ConventionSetTable, List<Object[]>> rows = new EnumMap<>(ConventionSetTable.class);
+        Map<ConventionSetTable, Set<Long>> ids = new EnumMap<>(ConventionSetTable.class);
+        for (Section section : command.sections()) {
+            ConventionSetTable table = tableOf(section.table());
+            if (rows.containsKey(table)) {
+                throw invalid("duplicate section " + section.table());
+            }
+            if (!table.columns().equals(section.columns())) {
+                throw invalid("columns of " + section.table() + " must be " + table.columns());
+            }
+            int[] keyIndexes = indexesOf(table, table.naturalKey());
+            List<Object[]> tableRows = new ArrayList<>(section.rows().size());
+            Set<Long> tableIds = new HashSet<>();
+            Set<List<Object>> keys = new HashSet<>();
+            for (Object[] row : section.rows()) {
+                Object[] values = normalized(table, row);
+                if (!tableIds.add((Long) values[0])) {
+                    throw invalid("duplicate id " + values[0] + " in " + section.table());
+                }
+                List<Object> key = keyOf(values, keyIndexes);
+                if (key.contains(null)) {
+                    throw invalid(
+                            "null natural key " + table.naturalKey() + " in " + section.table());
+                }
+                if (!keys.add(key)) {
+                    throw invalid("duplicate key " + key + " in " + section.table());
+                }
+                tableRows.add(values);
+            }
+            rows.put(table, tableRows);
+            ids.put(table, tableIds);
+        }
+        return new ConventionSetDocument(rows, ids);
+    }
+
+    /**
+     * 문서에 있는 테이블
+     *
+     * @return 테이블 (부모 우선 순서)
+     */
+    public Set<ConventionSetTable> tables() {
+        return Collections.unmodifiableSet(rows.keySet());
+    }
+
+    /**
+     * 테이블 행
+     *
+     * @param table 테이블
+     * @return 정규화된 행 값 배열 (문서 순서)
+     */
+    public List<Object[]> rows(ConventionSetTable table) {
+        return rows.getOrDefault(table, List.of());
+    }
+
+    public int rowCount() {
+        int count = 0;
+        for (List<Object[]> tableRows : rows.values()) {
+            count += tableRows.size();
+        }
+        return count;
+    }
+
+    /**
+     * 문서 밖 부모 참조
+     *
+     * <p>참조 값이 문서의 부모 테이블 ID에 없으면 이미 DB에 있는 행을 가리키는 것으로 봅니다. 존재 여부는 테이블마다 IN 조회 한 번으로 확인합니다.
+     *
+     * @return 참조 테이블 → 문서 밖 ID
+     */
+    public Map<ConventionSetTable, Set<Long>> externalReferences() {
+        Map<ConventionSetTable, Set<Long>> external = new EnumMap<>(ConventionSetTable.class);
+        for (Map.Entry<ConventionSetTable, List<Object[]>> entry : rows.entrySet()) {
+            ConventionSetTable table = entry.getKey();
+            for (Map.Entry<String, ConventionSetTable> reference : table.references().entrySet()) {
+                ConventionSetTable target = reference.getValue();
+                int index = table.columns().indexOf(reference.getKey());
+                Set<Long> documentIds = ids.getOrDefault(target, Set.of());
+                for (Object[] row : entry.getValue()) {
+                    Long id = (Long) row[index];
+                    if (id != null && !documentIds.contains(id)) {
+                        external.computeIfAbsent(target, key -> new TreeSet<>()).add(id);
+                    }
+                }
+            }
+        }
+        return external;
+    }
+
+    static int[] indexesOf(ConventionSetTable table, List<String> columns) {
+        int[] indexes = new int[columns.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = table.columns().indexOf(columns.get(i));
+        }
+        return indexes;
+    }
+
+    static List<Object> keyOf(Object[] values, int[] indexes) {
+        Object[] key = new Object[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            key[i] = keyValue(values[indexes[i]]);
+        }
+        return Arrays.asList(key);
+    }
+
+    static Long toLong(Object value) {
+        if (value == null || value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        throw invalid("expected an integer id but was " + value);
+    }
+
+    private static Object keyValue(Object value) {
+        if (value instanceof String text) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        if (value instanceof Number) {
+            return toLong(value);
+        }
+        return value;
+    }
+
+    private static Object[] normalized(ConventionSetTable table, Object[] row) {
+        List<String> columns = table.columns();
+        if (row == null || row.length != columns.size()) {
+            throw invalid(
+                    "row of " + table.tableName() + " must have " + columns.size() + " values");
+        }
+        Object[] values = row.clone();
+        for (Object value : values) {
+            if (value != null
+                    && !(value instanceof String)
+                    && !(value instanceof Number)
+                    && !(value instanceof Boolean)) {
+                throw invalid("unsupported value in " + table.tableName() + ": " + value);
+            }
+        }
+        values[0] = toLong(values[0]);
+        if (values[0] == null || (Long) values[0] <= 0) {
+            throw invalid("non-positive id in " + table.tableName());
+        }
+        for (String reference : table.references().keySet()) {
+            int index = columns.indexOf(reference);
+            values[index] = toLong(values[index]);
+        }
+        return values;
+    }
+
+    private static ConventionSetTable tableOf(String tableName) {
+        for (ConventionSetTable table : ConventionSetTable.values()) {
+            if (table.tableName().equals(tableName)) {
+                return table;
+            }
+        }
+        throw invalid("unknown table " + tableName);
+    }
+
+    private static ConventionSetInvalidDocumentException invalid(String reason) {
+        return new ConventionSetInvalidDocumentException(reason);
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryuqq.application.conventionset.internal.planner;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ConventionSetImportPlan - 컨벤션 세트 가져오기 계획
+ *
+ * <p>임시 ID와 다시 매핑한 부모 ID가 채워진 INSERT 대상 행을 부모 우선 순서로 담습니다. 자연 키가 같은 기존 행은 INSERT 대상에서 빠지고 기존 ID로
+ * 매핑됩니다.
+ *
+ * <p>새 행의 ID와 새 부모를 가리키는 참조는 음수 임시 ID입니다({@link #isTemporaryId(Long)}). 저장 시 테이블 AUTO_INCREMENT가
+ * 발급한 ID로 바꿉니다.
+ *
+ * @param importedAt created_at / updated_at 값
+ * @param tables 테이블별 계획 (부모 우선 순서)
+ * @author ryu-qqq
+ */
+public record ConventionSetImportPlan(Instant importedAt, List<TablePlan> tables) {
+
+    public ConventionSetImportPlan {
+        tables = List.copyOf(tables);
+    }
+
+    /**
+     * 저장 시 발급 ID로 바꿔야 하는 임시 ID인지 여부
+     *
+     * @param id ID (nullable)
+     * @return 임시 ID 여부
+     */
+    public static boolean isTemporaryId(Long id) {
+        return id != null && id < 0;
+    }
+
+    /**
+     * 테이블 계획
+     *
+     * @param table 테이블
+     * @param rowCount 문서의 행 수
+     * @param inserts INSERT 대상 행 ({@link ConventionSetTable#columns()} 순서, 문서 순서 - 자기 참조 테이블은 부모 행
+     *     우선)
+     */
+    public record TablePlan(ConventionSetTable table, int rowCount, List<Object[]> inserts) {
+
+        public TablePlan {
+            inserts = List.copyOf(inserts);
+        }
+
+        public int skippedCount() {
+            return rowCount - inserts.size();
+        }
+    }
+}
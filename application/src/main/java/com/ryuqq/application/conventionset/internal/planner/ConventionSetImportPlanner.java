@@ -0,0 +1,242 @@
+package com.ryuqq.application.conventionset.internal.planner;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan.TablePlan;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportReadManager;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetRowConflictException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetImportPlanner - 컨벤션 세트 가져오기 계획 수립
+ *
+ * <p>테이블을 부모 우선 순서로 처리하며, 테이블마다 다음을 수행합니다.
+ *
+ * <ol>
+ *   <li>부모 참조를 이미 처리한 부모 테이블의 ID 매핑으로 바꿈 (문서 밖 부모는 ID 그대로)
+ *   <li>자연 키 첫 컬럼 값 집합으로 기존 행을 IN 조회 1회 - 이번 계획에서 새로 만든 부모 아래에는 기존 행이 있을 수 없으므로 조회에서 제외
+ *   <li>자연 키가 같은 기존 행이 있으면 기존 ID로 매핑하고 건너뜀, 없으면 음수 임시 ID 할당
+ *   <li>자기 참조(module.parent_module_id)를 같은 테이블 매핑으로 바꾸고, 부모 행이 자식 행보다 먼저 오도록 정렬
+ * </ol>
+ *
+ * <p>실제 ID는 저장 시점에 테이블의 AUTO_INCREMENT가 발급합니다. JPA로 만든 행과 같은 ID 체계를 유지하기 위해 별도 ID 생성기를 쓰지 않습니다.
+ *
+ * <p>이미 있는 행을 건너뛰므로, 중간 청크에서 실패한 가져오기는 같은 문서를 다시 보내면 커밋된 행 다음부터 이어집니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class ConventionSetImportPlanner {
+
+    private final ConventionSetImportReadManager conventionSetImportReadManager;
+    private final TimeProvider timeProvider;
+
+    public ConventionSetImportPlanner(
+            ConventionSetImportReadManager conventionSetImportReadManager,
+            TimeProvider timeProvider) {
+        this.conventionSetImportReadManager = conventionSetImportReadManager;
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 가져오기 계획 수립
+     *
+     * @param document 검증된 문서 (문서 밖 부모 존재 확인 완료)
+     * @return 가져오기 계획
+     * @throws ConventionSetRowConflictException 같은 키의 기존 행이 다른 부모를 참조하는 경우
+     * @throws ConventionSetInvalidDocumentException 새 행의 자기 참조가 순환하는 경우
+     */
+    public ConventionSetImportPlan plan(ConventionSetDocument document) {
+        IdMapping mapping = new IdMapping();
+        List<TablePlan> tables = new ArrayList<>(document.tables().size());
+        for (ConventionSetTable table : document.tables()) {
+            tables.add(planTable(table, document.rows(table), mapping));
+        }
+        return new ConventionSetImportPlan(timeProvider.now(), tables);
+    }
+
+    private TablePlan planTable(
+            ConventionSetTable table, List<Object[]> source, IdMapping mapping) {
+        List<String> columns = table.columns();
+        List<Object[]> resolved = new ArrayList<>(source.size());
+        for (Object[] row : source) {
+            Object[] values = row.clone();
+            for (Map.Entry<String, ConventionSetTable> reference : table.references().entrySet()) {
+                if (reference.getValue() != table) {
+                    int index = columns.indexOf(reference.getKey());
+                    values[index] = mapping.resolve(reference.getValue(), (Long) values[index]);
+                }
+            }
+            resolved.add(values);
+        }
+
+        List<String> lookupColumns = lookupColumns(table);
+        Map<List<Object>, Object[]> existing =
+                findExisting(table, resolved, lookupColumns, mapping);
+        int[] keyIndexes = ConventionSetDocument.indexesOf(table, table.naturalKey());
+        List<Match> matches = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>(resolved.size());
+        for (Object[] values : resolved) {
+            Object[] match = existing.get(ConventionSetDocument.keyOf(values, keyIndexes));
+            Long sourceId = (Long) values[0];
+            if (match != null) {
+                mapping.matched(table, sourceId, ConventionSetDocument.toLong(match[0]));
+                matches.add(new Match(values, match));
+            } else {
+                values[0] = mapping.generated(table, sourceId);
+                inserts.add(values);
+            }
+        }
+
+        int selfIndex = -1;
+        for (Map.Entry<String, ConventionSetTable> reference : table.references().entrySet()) {
+            if (reference.getValue() == table) {
+                selfIndex = columns.indexOf(reference.getKey());
+                for (Object[] values : resolved) {
+                    values[selfIndex] = mapping.resolve(table, (Long) values[selfIndex]);
+                }
+            }
+        }
+        for (Match match : matches) {
+            verifySameParents(table, match.values(), match.existing(), lookupColumns);
+        }
+        List<Object[]> ordered = selfIndex < 0 ? inserts : parentsFirst(table, inserts, selfIndex);
+        return new TablePlan(table, source.size(), ordered);
+    }
+
+    /** 저장 시 자식 행이 부모 행의 발급 ID를 참조할 수 있도록 부모 행을 먼저 배치 */
+    private static List<Object[]> parentsFirst(
+            ConventionSetTable table, List<Object[]> inserts, int selfIndex) {
+        Map<Long, Object[]> byId = new HashMap<>();
+        for (Object[] values : inserts) {
+            byId.put((Long) values[0], values);
+        }
+        List<Object[]> ordered = new ArrayList<>(inserts.size());
+        Set<Long> placed = new HashSet<>();
+        for (Object[] values : inserts) {
+            List<Object[]> chain = new ArrayList<>();
+            Set<Long> visiting = new HashSet<>();
+            Object[] current = values;
+            while (current != null && !placed.contains((Long) current[0])) {
+                if (!visiting.add((Long) current[0])) {
+                    throw new ConventionSetInvalidDocumentException(
+                            "cyclic " + table.tableName() + " parent reference");
+                }
+                chain.add(current);
+                current = byId.get((Long) current[selfIndex]);
+            }
+            for (int i = chain.size() - 1; i >= 0; i--) {
+                placed.add((Long) chain.get(i)[0]);
+                ordered.add(chain.get(i));
+            }
+        }
+        return ordered;
+    }
+
+    private Map<List<Object>, Object[]> findExisting(
+            ConventionSetTable table,
+            List<Object[]> resolved,
+            List<String> lookupColumns,
+            IdMapping mapping) {
+        String lookupColumn = table.naturalKey().get(0);
+        ConventionSetTable lookupParent = table.references().get(lookupColumn);
+        int lookupIndex = table.columns().indexOf(lookupColumn);
+        Set<Object> values = new LinkedHashSet<>();
+        for (Object[] row : resolved) {
+            Object value = row[lookupIndex];
+            if (lookupParent == null || !mapping.isGenerated(lookupParent, (Long) value)) {
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            return Map.of();
+        }
+
+        int[] keyIndexes = new int[table.naturalKey().size()];
+        for (int i = 0; i < keyIndexes.length; i++) {
+            keyIndexes[i] = i + 1;
+        }
+        Map<List<Object>, Object[]> existing = new HashMap<>();
+        for (Object[] row :
+                conventionSetImportReadManager.findRowsIn(
+                        table, lookupColumns, lookupColumn, values)) {
+            existing.putIfAbsent(ConventionSetDocument.keyOf(row, keyIndexes), row);
+        }
+        return existing;
+    }
+
+    private static void verifySameParents(
+            ConventionSetTable table,
+            Object[] values,
+            Object[] existing,
+            List<String> lookupColumns) {
+        for (String reference : table.references().keySet()) {
+            Object expected = values[table.columns().indexOf(reference)];
+            Object actual =
+                    ConventionSetDocument.toLong(existing[lookupColumns.indexOf(reference)]);
+            if (!Objects.equals(expected, actual)) {
+                int[] keyIndexes = ConventionSetDocument.indexesOf(table, table.naturalKey());
+                throw new ConventionSetRowConflictException(
+                        table.tableName(),
+                        ConventionSetDocument.keyOf(values, keyIndexes).toString());
+            }
+        }
+    }
+
+    /** id, 자연 키, 자연 키에 없는 부모 참조 순서 */
+    private static List<String> lookupColumns(ConventionSetTable table) {
+        Set<String> columns = new LinkedHashSet<>();
+        columns.add("id");
+        columns.addAll(table.naturalKey());
+        columns.addAll(table.references().keySet());
+        return List.copyOf(columns);
+    }
+
+    /** 문서 행과 자연 키가 같은 기존 행 */
+    private record Match(Object[] values, Object[] existing) {}
+
+    /** 테이블별 문서 ID → 저장 ID 매핑 (새 행은 음수 임시 ID) */
+    private static final class IdMapping {
+
+        private long lastTemporaryId;
+
+        private final Map<ConventionSetTable, Map<Long, Long>> targetIds =
+                new EnumMap<>(ConventionSetTable.class);
+        private final Map<ConventionSetTable, Set<Long>> generatedIds =
+                new EnumMap<>(ConventionSetTable.class);
+
+        void matched(ConventionSetTable table, Long sourceId, Long existingId) {
+            targetIds.computeIfAbsent(table, key -> new HashMap<>()).put(sourceId, existingId);
+        }
+
+        long generated(ConventionSetTable table, Long sourceId) {
+            long id = --lastTemporaryId;
+            targetIds.computeIfAbsent(table, key -> new HashMap<>()).put(sourceId, id);
+            generatedIds.computeIfAbsent(table, key -> new HashSet<>()).add(id);
+            return id;
+        }
+
+        boolean isGenerated(ConventionSetTable table, Long id) {
+            return generatedIds.getOrDefault(table, Set.of()).contains(id);
+        }
+
+        /** 문서에 없는 ID는 이미 DB에 있는 부모이므로 그대로 둡니다. */
+        Long resolve(ConventionSetTable table, Long sourceId) {
+            if (sourceId == null) {
+                return null;
+            }
+            Long targetId = targetIds.getOrDefault(table, Map.of()).get(sourceId);
+            return targetId != null ? targetId : sourceId;
+        }
+    }
+}
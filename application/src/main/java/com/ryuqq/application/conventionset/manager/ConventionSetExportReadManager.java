@@ -0,0 +1,75 @@
+package com.ryuqq.application.conventionset.manager;
+
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import com.ryuqq.application.conventionset.format.ConventionSetRowWriter;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetExportAdminQueryPort;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ConventionSetExportReadManager - 컨벤션 세트 내보내기 전용 ReadManager
+ *
+ * <p>모든 테이블을 읽기 전용 트랜잭션 하나에서 순서대로 읽습니다. InnoDB REPEATABLE READ에서는 첫 조회 시점의 스냅샷을 끝까지 보므로, 내보내는 도중 다른
+ * 요청이 행을 바꿔도 부모/자식 관계가 어긋나지 않습니다.
+ *
+ * <p>행은 클라이언트가 받는 속도로 쓰이므로 커서, 커넥션, 스냅샷도 그동안 유지됩니다. 테이블을 열 때와 {@value #DEADLINE_CHECK_INTERVAL}행마다
+ * 요청 기한({@link RequestDeadline}, ADMIN_QUERY 레인 기본값)을 확인해, 느린 클라이언트가 이를 기한 넘게 붙잡지 않도록 중단합니다.
+ *
+ * <p>MGR-001: Manager 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetExportReadManager {
+
+    static final int DEADLINE_CHECK_INTERVAL = 1_000;
+
+    private final ConventionSetExportAdminQueryPort conventionSetExportAdminQueryPort;
+
+    public ConventionSetExportReadManager(
+            ConventionSetExportAdminQueryPort conventionSetExportAdminQueryPort) {
+        this.conventionSetExportAdminQueryPort = conventionSetExportAdminQueryPort;
+    }
+
+    /**
+     * 기술 스택에 속한 모든 테이블 행을 출력 대상에 쓰기
+     *
+     * <p>테이블 하나의 커서를 닫은 뒤 다음 테이블을 엽니다.
+     *
+     * @param techStackId 기술 스택 ID
+     * @param writer 출력 대상
+     * @return 테이블별 행 수 (테이블 순서)
+     * @throws IOException 출력 실패
+     * @throws com.ryuqq.application.common.deadline.DeadlineExceededException 요청 기한 경과
+     */
+    @Transactional(readOnly = true)
+    public Map<ConventionSetTable, Long> export(Long techStackId, ConventionSetRowWriter writer)
+            throws IOException {
+        Map<ConventionSetTable, Long> counts = new EnumMap<>(ConventionSetTable.class);
+        for (ConventionSetTable table : ConventionSetTable.values()) {
+            RequestDeadline.checkNotExpired();
+            writer.table(table);
+            long count = 0;
+            try (Stream<Object[]> rows =
+                    conventionSetExportAdminQueryPort.streamRows(table, techStackId)) {
+                Iterator<Object[]> iterator = rows.iterator();
+                while (iterator.hasNext()) {
+                    writer.row(iterator.next());
+                    count++;
+                    if (count % DEADLINE_CHECK_INTERVAL == 0) {
+                        RequestDeadline.checkNotExpired();
+                    }
+                }
+            }
+            counts.put(table, count);
+        }
+        return counts;
+    }
+}
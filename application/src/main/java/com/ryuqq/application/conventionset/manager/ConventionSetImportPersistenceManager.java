@@ -0,0 +1,44 @@
+package com.ryuqq.application.conventionset.manager;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetImportCommandPort;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ConventionSetImportPersistenceManager - 컨벤션 세트 가져오기 영속성 관리자
+ *
+ * <p>호출 한 번이 트랜잭션 하나입니다. 가져오기 전체를 하나의 트랜잭션으로 묶지 않고 청크마다 커밋하므로, 언두 로그와 락 보유 시간이 청크 크기를 넘지 않습니다.
+ *
+ * <p>C-004: @Transactional은 Manager에서만 메서드 단위로 사용합니다.
+ *
+ * <p>C-005: Port를 직접 노출하지 않고 Manager로 래핑합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetImportPersistenceManager {
+
+    private final ConventionSetImportCommandPort conventionSetImportCommandPort;
+
+    public ConventionSetImportPersistenceManager(
+            ConventionSetImportCommandPort conventionSetImportCommandPort) {
+        this.conventionSetImportCommandPort = conventionSetImportCommandPort;
+    }
+
+    /**
+     * 청크 저장 (트랜잭션 1개)
+     *
+     * @param table 테이블
+     * @param rows 컬럼 값 배열 (id 값은 무시, 참조는 저장 ID로 변환 완료)
+     * @param now created_at / updated_at 값
+     * @return 발급된 ID (rows 순서)
+     */
+    @Transactional
+    public List<Long> insertChunk(ConventionSetTable table, List<Object[]> rows, Instant now) {
+        return conventionSetImportCommandPort.insertAll(table, rows, now);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ryuqq.application.conventionset.manager;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetImportQueryPort;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ConventionSetImportReadManager - 컨벤션 세트 가져오기 조회 관리자
+ *
+ * <p>C-004: @Transactional(readOnly=true)은 Manager에서만 메서드 단위로 사용합니다.
+ *
+ * <p>C-005: Port를 직접 노출하지 않고 Manager로 래핑합니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetImportReadManager {
+
+    private final ConventionSetImportQueryPort conventionSetImportQueryPort;
+
+    public ConventionSetImportReadManager(
+            ConventionSetImportQueryPort conventionSetImportQueryPort) {
+        this.conventionSetImportQueryPort = conventionSetImportQueryPort;
+    }
+
+    /**
+     * 존재하는 ID 조회
+     *
+     * @param table 테이블
+     * @param ids 확인할 ID 집합
+     * @return 그중 존재하는 ID
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> findExistingIds(ConventionSetTable table, Collection<Long> ids) {
+        return conventionSetImportQueryPort.findExistingIds(table, ids);
+    }
+
+    /**
+     * 컬럼 값 집합으로 행 조회
+     *
+     * @param table 테이블
+     * @param columns 조회할 컬럼
+     * @param column 조건 컬럼
+     * @param values 조건 값 집합
+     * @return columns 순서의 컬럼 값 배열
+     */
+    @Transactional(readOnly = true)
+    public List<Object[]> findRowsIn(
+            ConventionSetTable table, List<String> columns, String column, Collection<?> values) {
+        return conventionSetImportQueryPort.findRowsIn(table, columns, column, values);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ryuqq.application.conventionset.port.in;
+
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+
+/**
+ * ExportConventionSetUseCase - 컨벤션 세트 내보내기 UseCase
+ *
+ * <p>기술 스택 하나와 그 아래 아키텍처/레이어/모듈/패키지 구조/템플릿/컨벤션/규칙 전체를 환경 간 이동용 스트림으로 내보냅니다. 기술 스택 존재 확인은 이 단계에서
+ * 끝나므로, 응답 스트리밍을 시작한 뒤에는 NotFound가 발생하지 않습니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ExportConventionSetUseCase {
+
+    /**
+     * 컨벤션 세트 내보내기
+     *
+     * @param query 내보내기 쿼리
+     * @return 내보내기 결과 (행은 쓰기 시점에 조회)
+     */
+    ConventionSetExportResult execute(ExportConventionSetQuery query);
+}
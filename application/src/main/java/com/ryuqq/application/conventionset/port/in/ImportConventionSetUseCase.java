@@ -0,0 +1,26 @@
+package com.ryuqq.application.conventionset.port.in;
+
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+
+/**
+ * ImportConventionSetUseCase - 컨벤션 세트 가져오기 UseCase
+ *
+ * <p>내보내기 스트림과 같은 형식의 문서를 가져옵니다. 형식 오류, 없는 부모, 키 충돌은 이 단계에서 모두 검출되므로 행 저장을 시작한 뒤에는 검증 예외가 발생하지
+ * 않습니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ImportConventionSetUseCase {
+
+    /**
+     * 컨벤션 세트 가져오기
+     *
+     * @param command 가져오기 커맨드
+     * @return 가져오기 결과 (행은 저장 시점에 청크 단위로 커밋)
+     */
+    ConventionSetImportResult execute(ImportConventionSetCommand command);
+}
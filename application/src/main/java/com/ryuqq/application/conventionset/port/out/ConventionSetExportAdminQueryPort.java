@@ -0,0 +1,26 @@
+package com.ryuqq.application.conventionset.port.out;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.util.stream.Stream;
+
+/**
+ * ConventionSetExportAdminQueryPort - 컨벤션 세트 내보내기 Query Port
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ConventionSetExportAdminQueryPort {
+
+    /**
+     * 기술 스택에 속한 테이블 행 스트리밍
+     *
+     * <p>서버 측 커서로 읽으므로 반환된 스트림은 트랜잭션 안에서 소비하고 반드시 닫아야 합니다. 같은 커넥션에서 다음 쿼리를 실행하기 전에 닫아야 합니다.
+     *
+     * @param table 테이블
+     * @param techStackId 기술 스택 ID
+     * @return {@link ConventionSetTable#columns()} 순서의 컬럼 값 배열 (ID 순)
+     */
+    Stream<Object[]> streamRows(ConventionSetTable table, Long techStackId);
+}
@@ -0,0 +1,29 @@
+package com.ryuqq.application.conventionset.port.out;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * ConventionSetImportCommandPort - 컨벤션 세트 가져오기 Command Port
+ *
+ * <p>행을 JDBC 배치 INSERT로 저장하고, 테이블 AUTO_INCREMENT가 발급한 ID를 배치 한 번에 돌려받습니다. JPA IDENTITY 저장처럼 행마다
+ * INSERT를 보내지 않습니다.
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ConventionSetImportCommandPort {
+
+    /**
+     * 행 일괄 저장
+     *
+     * @param table 테이블
+     * @param rows {@link ConventionSetTable#columns()} 순서의 컬럼 값 배열 (id 값은 무시, 참조는 저장 ID로 변환 완료)
+     * @param now created_at / updated_at 값
+     * @return 발급된 ID (rows 순서)
+     */
+    List<Long> insertAll(ConventionSetTable table, List<Object[]> rows, Instant now);
+}
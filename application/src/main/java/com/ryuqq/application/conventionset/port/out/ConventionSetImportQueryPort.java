@@ -0,0 +1,40 @@
+package com.ryuqq.application.conventionset.port.out;
+
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ConventionSetImportQueryPort - 컨벤션 세트 가져오기 Query Port
+ *
+ * <p>행 단위 exists 조회 대신 값 집합을 IN 조건으로 한 번에 조회합니다. 삭제된 행은 조회하지 않습니다.
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ConventionSetImportQueryPort {
+
+    /**
+     * 존재하는 ID 조회
+     *
+     * @param table 테이블
+     * @param ids 확인할 ID 집합
+     * @return 그중 존재하는 ID
+     */
+    Set<Long> findExistingIds(ConventionSetTable table, Collection<Long> ids);
+
+    /**
+     * 컬럼 값 집합으로 행 조회
+     *
+     * @param table 테이블
+     * @param columns 조회할 컬럼 ({@link ConventionSetTable#columns()} 중)
+     * @param column 조건 컬럼
+     * @param values 조건 값 집합
+     * @return columns 순서의 컬럼 값 배열
+     */
+    List<Object[]> findRowsIn(
+            ConventionSetTable table, List<String> columns, String column, Collection<?> values);
+}
@@ -0,0 +1,53 @@
+package com.ryuqq.application.conventionset.service;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.manager.ConventionSetExportReadManager;
+import com.ryuqq.application.conventionset.port.in.ExportConventionSetUseCase;
+import com.ryuqq.application.techstack.validator.TechStackValidator;
+import com.ryuqq.domain.techstack.id.TechStackId;
+import org.springframework.stereotype.Service;
+
+/**
+ * ExportConventionSetService - 컨벤션 세트 내보내기 서비스
+ *
+ * <p>ExportConventionSetUseCase를 구현합니다.
+ *
+ * <p>기술 스택 존재만 확인하고, 행 조회는 결과를 쓰는 시점까지 미룹니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ExportConventionSetService implements ExportConventionSetUseCase {
+
+    private final TechStackValidator techStackValidator;
+    private final ConventionSetExportReadManager conventionSetExportReadManager;
+    private final TimeProvider timeProvider;
+
+    public ExportConventionSetService(
+            TechStackValidator techStackValidator,
+            ConventionSetExportReadManager conventionSetExportReadManager,
+            TimeProvider timeProvider) {
+        this.techStackValidator = techStackValidator;
+        this.conventionSetExportReadManager = conventionSetExportReadManager;
+        this.timeProvider = timeProvider;
+    }
+
+    @Override
+    public ConventionSetExportResult execute(ExportConventionSetQuery query) {
+        Long techStackId = query.techStackId();
+        techStackValidator.findExistingOrThrow(TechStackId.of(techStackId));
+        return new ConventionSetExportResult(
+                techStackId,
+                ConventionSetFormat.VERSION,
+                timeProvider.now(),
+                writer -> conventionSetExportReadManager.export(techStackId, writer));
+    }
+}
@@ -0,0 +1,179 @@
+package com.ryuqq.application.conventionset.service;
+
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.ProgressListener;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult.TableSummary;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetDocument;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan.TablePlan;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlanner;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportPersistenceManager;
+import com.ryuqq.application.conventionset.port.in.ImportConventionSetUseCase;
+import com.ryuqq.application.conventionset.validator.ConventionSetImportValidator;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * ImportConventionSetService - 컨벤션 세트 가져오기 서비스
+ *
+ * <p>ImportConventionSetUseCase를 구현합니다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>문서 전체 메모리 검증 + 문서 밖 부모 IN 조회 (ConventionSetImportValidator)
+ *   <li>기존 행 IN 조회, 임시 ID 할당/재매핑 (ConventionSetImportPlanner)
+ *   <li>부모 우선 순서로 최대 {@value #CHUNK_SIZE}행씩 JDBC 배치 INSERT, 청크마다 커밋
+ * </ol>
+ *
+ * <p>청크를 저장하기 전에 임시 ID 참조를 앞서 저장한 행의 발급 ID로 바꿉니다. 자기 참조 테이블에서 같은 청크의 행을 부모로 가리키는 행이 나오면, 부모의 ID를 먼저
+ * 받도록 그 앞에서 청크를 나눕니다.
+ *
+ * <p>청크마다 저장 전에 요청 기한({@link RequestDeadline})을 확인해, 기한이 지나면 다음 청크를 시작하지 않습니다.
+ *
+ * <p>청크가 실패하면 그 청크만 롤백되고 앞서 커밋된 청크는 남습니다. 같은 문서를 다시 보내면 커밋된 행은 자연 키로 찾아 건너뛰므로 이어서 진행됩니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ImportConventionSetService implements ImportConventionSetUseCase {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private final ConventionSetImportValidator conventionSetImportValidator;
+    private final ConventionSetImportPlanner conventionSetImportPlanner;
+    private final ConventionSetImportPersistenceManager conventionSetImportPersistenceManager;
+
+    public ImportConventionSetService(
+            ConventionSetImportValidator conventionSetImportValidator,
+            ConventionSetImportPlanner conventionSetImportPlanner,
+            ConventionSetImportPersistenceManager conventionSetImportPersistenceManager) {
+        this.conventionSetImportValidator = conventionSetImportValidator;
+        this.conventionSetImportPlanner = conventionSetImportPlanner;
+        this.conventionSetImportPersistenceManager = conventionSetImportPersistenceManager;
+    }
+
+    @Override
+    public ConventionSetImportResult execute(ImportConventionSetCommand command) {
+        ConventionSetDocument document = conventionSetImportValidator.validate(command);
+        ConventionSetImportPlan plan = conventionSetImportPlanner.plan(document);
+
+        List<TableSummary> tables = new ArrayList<>(plan.tables().size());
+        for (TablePlan table : plan.tables()) {
+            tables.add(new TableSummary(table.table(), table.rowCount(), table.skippedCount()));
+        }
+        return new ConventionSetImportResult(
+                ConventionSetFormat.VERSION,
+                plan.importedAt(),
+                tables,
+                listener -> insert(plan, listener));
+    }
+
+    private long insert(ConventionSetImportPlan plan, ProgressListener listener)
+            throws IOException {
+        Map<Long, Long> storedIds = new HashMap<>();
+        long inserted = 0;
+        for (TablePlan table : plan.tables()) {
+            List<Object[]> rows = table.inserts();
+            List<Integer> referenceIndexes = referenceIndexes(table.table());
+            List<Object[]> chunk = new ArrayList<>(Math.min(CHUNK_SIZE, rows.size()));
+            Set<Long> chunkIds = new HashSet<>();
+            int tableInserted = 0;
+            for (Object[] row : rows) {
+                if (chunk.size() == CHUNK_SIZE || referencesAny(row, referenceIndexes, chunkIds)) {
+                    tableInserted +=
+                            insertChunk(
+                                    table.table(),
+                                    chunk,
+                                    referenceIndexes,
+                                    storedIds,
+                                    plan.importedAt());
+                    listener.chunkCommitted(table.table(), tableInserted, rows.size());
+                    chunk.clear();
+                    chunkIds.clear();
+                }
+                chunk.add(row);
+                chunkIds.add((Long) row[0]);
+            }
+            if (!chunk.isEmpty()) {
+                tableInserted +=
+                        insertChunk(
+                                table.table(),
+                                chunk,
+                                referenceIndexes,
+                                storedIds,
+                                plan.importedAt());
+                listener.chunkCommitted(table.table(), tableInserted, rows.size());
+            }
+            inserted += tableInserted;
+        }
+        return inserted;
+    }
+
+    private int insertChunk(
+            ConventionSetTable table,
+            List<Object[]> chunk,
+            List<Integer> referenceIndexes,
+            Map<Long, Long> storedIds,
+            Instant now) {
+        RequestDeadline.checkNotExpired();
+        List<Object[]> resolved = new ArrayList<>(chunk.size());
+        for (Object[] row : chunk) {
+            Object[] values = row.clone();
+            for (int index : referenceIndexes) {
+                Long reference = (Long) values[index];
+                if (ConventionSetImportPlan.isTemporaryId(reference)) {
+                    values[index] = storedId(storedIds, reference);
+                }
+            }
+            resolved.add(values);
+        }
+        List<Long> ids = conventionSetImportPersistenceManager.insertChunk(table, resolved, now);
+        for (int i = 0; i < chunk.size(); i++) {
+            storedIds.put((Long) chunk.get(i)[0], ids.get(i));
+        }
+        return chunk.size();
+    }
+
+    private static Long storedId(Map<Long, Long> storedIds, Long temporaryId) {
+        Long id = storedIds.get(temporaryId);
+        if (id == null) {
+            throw new IllegalStateException("Parent row not stored yet: " + temporaryId);
+        }
+        return id;
+    }
+
+    private static List<Integer> referenceIndexes(ConventionSetTable table) {
+        List<Integer> indexes = new ArrayList<>();
+        for (String column : table.references().keySet()) {
+            indexes.add(table.columns().indexOf(column));
+        }
+        return indexes;
+    }
+
+    private static boolean referencesAny(
+            Object[] row, List<Integer> referenceIndexes, Set<Long> ids) {
+        for (int index : referenceIndexes) {
+            if (ids.contains((Long) row[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
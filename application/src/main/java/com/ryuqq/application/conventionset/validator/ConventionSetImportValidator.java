@@ -0,0 +1,59 @@
+package com.ryuqq.application.conventionset.validator;
+
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetDocument;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportReadManager;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetParentNotFoundException;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * ConventionSetImportValidator - 컨벤션 세트 가져오기 검증기
+ *
+ * <p>문서 형식을 메모리에서 먼저 검증한 뒤, 문서 밖 부모 참조를 부모 테이블마다 IN 조회 한 번으로 확인합니다. 행마다 부모 존재를 조회하지 않습니다.
+ *
+ * <p>VAL-001: Validator는 @Component 어노테이션 사용.
+ *
+ * <p>VAL-003: Validator는 ReadManager만 의존.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class ConventionSetImportValidator {
+
+    private final ConventionSetImportReadManager conventionSetImportReadManager;
+
+    public ConventionSetImportValidator(
+            ConventionSetImportReadManager conventionSetImportReadManager) {
+        this.conventionSetImportReadManager = conventionSetImportReadManager;
+    }
+
+    /**
+     * 가져오기 문서 검증
+     *
+     * @param command 가져오기 커맨드
+     * @return 검증된 문서
+     * @throws ConventionSetInvalidDocumentException 형식 오류
+     * @throws ConventionSetParentNotFoundException 문서 밖 부모가 없는 경우
+     */
+    public ConventionSetDocument validate(ImportConventionSetCommand command) {
+        ConventionSetDocument document = ConventionSetDocument.of(command);
+        for (Map.Entry<ConventionSetTable, Set<Long>> entry :
+                document.externalReferences().entrySet()) {
+            Set<Long> missing = new TreeSet<>(entry.getValue());
+            missing.removeAll(
+                    conventionSetImportReadManager.findExistingIds(
+                            entry.getKey(), entry.getValue()));
+            if (!missing.isEmpty()) {
+                throw new ConventionSetParentNotFoundException(
+                        entry.getKey().tableName(), missing);
+            }
+        }
+        return document;
+    }
+}
@@ -0,0 +1,107 @@
+package com.ryuqq.application.feedbackqueue.assembler;
+
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueAgePercentileResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatusAgeResult;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsAssembler - 피드백 큐 통계 응답 조립기
+ *
+ * <p>ASM-001: Assembler는 Domain -> Application DTO 변환만 담당.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsAssembler {
+
+    /**
+     * 카운터와 백분위 조회 결과를 통계 결과로 변환
+     *
+     * @param counters 키별 카운터
+     * @param updatedAtByProbe 백분위 조회 조건별 updated_at
+     * @param percentiles 요청 백분위 목록
+     * @param now 집계 시각
+     * @return FeedbackQueueStatsResult
+     */
+    public FeedbackQueueStatsResult toResult(
+            List<FeedbackQueueCounter> counters,
+            Map<FeedbackQueueAgeProbe, Instant> updatedAtByProbe,
+            List<Double> percentiles,
+            Instant now) {
+        Map<String, Long> byStatus =
+                countBy(counters, FeedbackStatus.values(), FeedbackQueueCounter::status);
+        long total = byStatus.values().stream().mapToLong(Long::longValue).sum();
+
+        return new FeedbackQueueStatsResult(
+                total,
+                byStatus,
+                countBy(counters, RiskLevel.values(), FeedbackQueueCounter::riskLevel),
+                countBy(counters, FeedbackTargetType.values(), FeedbackQueueCounter::targetType),
+                toAgeResults(updatedAtByProbe, percentiles, now),
+                now);
+    }
+
+    private <E extends Enum<E>> Map<String, Long> countBy(
+            List<FeedbackQueueCounter> counters,
+            E[] values,
+            Function<FeedbackQueueCounter, E> classifier) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (E value : values) {
+            result.put(value.name(), 0L);
+        }
+        for (FeedbackQueueCounter counter : counters) {
+            result.merge(classifier.apply(counter).name(), counter.count(), Long::sum);
+        }
+        return result;
+    }
+
+    private List<FeedbackQueueStatusAgeResult> toAgeResults(
+            Map<FeedbackQueueAgeProbe, Instant> updatedAtByProbe,
+            List<Double> percentiles,
+            Instant now) {
+        Map<FeedbackStatus, List<FeedbackQueueAgeProbe>> probesByStatus = new LinkedHashMap<>();
+        for (FeedbackQueueAgeProbe probe : updatedAtByProbe.keySet()) {
+            probesByStatus.computeIfAbsent(probe.status(), status -> new ArrayList<>()).add(probe);
+        }
+
+        List<FeedbackQueueStatusAgeResult> results = new ArrayList<>();
+        for (Map.Entry<FeedbackStatus, List<FeedbackQueueAgeProbe>> entry :
+                probesByStatus.entrySet()) {
+            Long maxAgeSeconds = null;
+            long count = 0;
+            List<FeedbackQueueAgePercentileResult> percentileResults = new ArrayList<>();
+            for (FeedbackQueueAgeProbe probe : entry.getValue()) {
+                long ageSeconds = ageSeconds(updatedAtByProbe.get(probe), now);
+                count = probe.count();
+                if (probe.isMax()) {
+                    maxAgeSeconds = ageSeconds;
+                }
+                if (percentiles.contains(probe.percentile())) {
+                    percentileResults.add(
+                            new FeedbackQueueAgePercentileResult(probe.percentile(), ageSeconds));
+                }
+            }
+            results.add(
+                    new FeedbackQueueStatusAgeResult(
+                            entry.getKey().name(), count, maxAgeSeconds, percentileResults));
+        }
+        return results;
+    }
+
+    private long ageSeconds(Instant updatedAt, Instant now) {
+        return Math.max(0L, Duration.between(updatedAt, now).getSeconds());
+    }
+}
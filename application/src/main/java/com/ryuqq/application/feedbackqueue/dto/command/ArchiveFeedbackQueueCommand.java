@@ -0,0 +1,47 @@
+package com.ryuqq.application.feedbackqueue.dto.command;
+
+/**
+ * ArchiveFeedbackQueueCommand - 종료 피드백 보관(archive) 커맨드
+ *
+ * <p>보존 기간이 지난 종료 상태(MERGED, LLM_REJECTED, HUMAN_REJECTED) 피드백을 보관 테이블로 이동할 때 사용합니다.
+ *
+ * @param retentionDays 보존 기간 (일) - 마지막 상태 변경 후 이 기간이 지난 피드백이 대상
+ * @param batchSize 배치당 이동 건수
+ * @param maxBatches 1회 실행당 최대 배치 수 (장시간 실행 방지)
+ * @param partitionLeadMonths 현재 월 이후로 미리 만들어 둘 보관 월 파티션 수
+ * @param partitionRetentionMonths 현재 월을 포함해 유지할 보관 월 파티션 수 (0이면 삭제하지 않음)
+ * @param lockLeaseSeconds 보관 작업 락 유지 시간 (초)
+ * @author ryu-qqq
+ */
+public record ArchiveFeedbackQueueCommand(
+        int retentionDays,
+        int batchSize,
+        int maxBatches,
+        int partitionLeadMonths,
+        int partitionRetentionMonths,
+        long lockLeaseSeconds) {
+
+    public ArchiveFeedbackQueueCommand {
+        if (retentionDays < 1) {
+            throw new IllegalArgumentException("retentionDays must be positive: " + retentionDays);
+        }
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("maxBatches must be positive: " + maxBatches);
+        }
+        if (partitionLeadMonths < 1) {
+            throw new IllegalArgumentException(
+                    "partitionLeadMonths must be positive: " + partitionLeadMonths);
+        }
+        if (partitionRetentionMonths < 0) {
+            throw new IllegalArgumentException(
+                    "partitionRetentionMonths must not be negative: " + partitionRetentionMonths);
+        }
+        if (lockLeaseSeconds < 1) {
+            throw new IllegalArgumentException(
+                    "lockLeaseSeconds must be positive: " + lockLeaseSeconds);
+        }
+    }
+}
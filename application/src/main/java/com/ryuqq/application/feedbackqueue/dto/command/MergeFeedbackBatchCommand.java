@@ -0,0 +1,19 @@
+package com.ryuqq.application.feedbackqueue.dto.command;
+
+import java.util.List;
+
+/**
+ * MergeFeedbackBatchCommand - 피드백 일괄 머지 커맨드
+ *
+ * <p>승인된 피드백 여러 건을 한 번에 대상 테이블에 반영할 때 사용합니다. 동일 대상(targetType, targetId)에 대한 MODIFY 피드백은 하나로
+ * 병합(coalesce)되어 대상 엔티티를 한 번만 조회/저장합니다.
+ *
+ * @param feedbackIds 피드백 ID 목록
+ * @author ryu-qqq
+ */
+public record MergeFeedbackBatchCommand(List<Long> feedbackIds) {
+
+    public MergeFeedbackBatchCommand {
+        feedbackIds = feedbackIds == null ? List.of() : List.copyOf(feedbackIds);
+    }
+}
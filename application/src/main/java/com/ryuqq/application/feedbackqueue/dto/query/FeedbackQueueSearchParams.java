@@ -20,6 +20,10 @@ import java.util.List;
  * @param feedbackTypes 피드백 타입 필터 목록 (nullable)
  * @param riskLevels 리스크 레벨 필터 목록 (nullable)
  * @param actions 처리 액션 필터 목록 (nullable)
+ * @param includeArchived 보관 테이블 포함 조회 여부 (nullable, 기본 false)
+ * @param conventionId 페이로드 컨벤션 ID 필터 (nullable)
+ * @param codingRuleId 페이로드 코딩 규칙 ID 필터 (nullable)
+ * @param structureId 페이로드 패키지 구조 ID 필터 (nullable)
  * @author ryu-qqq
  * @since 1.0.0
  */
@@ -29,7 +33,11 @@ public record FeedbackQueueSearchParams(
         List<String> targetTypes,
         List<String> feedbackTypes,
         List<String> riskLevels,
-        List<String> actions) {
+        List<String> actions,
+        Boolean includeArchived,
+        Long conventionId,
+        Long codingRuleId,
+        Long structureId) {
 
     public static FeedbackQueueSearchParams of(
             CommonCursorParams cursorParams,
@@ -38,8 +46,52 @@ public record FeedbackQueueSearchParams(
             List<String> feedbackTypes,
             List<String> riskLevels,
             List<String> actions) {
+        return of(cursorParams, statuses, targetTypes, feedbackTypes, riskLevels, actions, false);
+    }
+
+    public static FeedbackQueueSearchParams of(
+            CommonCursorParams cursorParams,
+            List<String> statuses,
+            List<String> targetTypes,
+            List<String> feedbackTypes,
+            List<String> riskLevels,
+            List<String> actions,
+            Boolean includeArchived) {
+        return of(
+                cursorParams,
+                statuses,
+                targetTypes,
+                feedbackTypes,
+                riskLevels,
+                actions,
+                includeArchived,
+                null,
+                null,
+                null);
+    }
+
+    public static FeedbackQueueSearchParams of(
+            CommonCursorParams cursorParams,
+            List<String> statuses,
+            List<String> targetTypes,
+            List<String> feedbackTypes,
+            List<String> riskLevels,
+            List<String> actions,
+            Boolean includeArchived,
+            Long conventionId,
+            Long codingRuleId,
+            Long structureId) {
         return new FeedbackQueueSearchParams(
-                cursorParams, statuses, targetTypes, feedbackTypes, riskLevels, actions);
+                cursorParams,
+                statuses,
+                targetTypes,
+                feedbackTypes,
+                riskLevels,
+                actions,
+                includeArchived,
+                conventionId,
+                codingRuleId,
+                structureId);
     }
 
     // Delegate Methods
@@ -79,4 +131,12 @@ public record FeedbackQueueSearchParams(
     public boolean hasActions() {
         return actions != null && !actions.isEmpty();
     }
+
+    public boolean hasPayloadFilter() {
+        return conventionId != null || codingRuleId != null || structureId != null;
+    }
+
+    public boolean includesArchived() {
+        return Boolean.TRUE.equals(includeArchived);
+    }
 }
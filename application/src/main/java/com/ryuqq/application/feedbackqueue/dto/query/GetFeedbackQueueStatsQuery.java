@@ -0,0 +1,35 @@
+package com.ryuqq.application.feedbackqueue.dto.query;
+
+import java.util.List;
+
+/**
+ * GetFeedbackQueueStatsQuery - 피드백 큐 통계 조회 쿼리
+ *
+ * @param percentiles 대기 시간 백분위 목록 (0 초과 1 이하, 비어 있으면 기본값 0.5/0.9/0.99)
+ * @author ryu-qqq
+ */
+public record GetFeedbackQueueStatsQuery(List<Double> percentiles) {
+
+    private static final List<Double> DEFAULT_PERCENTILES = List.of(0.5, 0.9, 0.99);
+
+    public GetFeedbackQueueStatsQuery {
+        if (percentiles == null || percentiles.isEmpty()) {
+            percentiles = DEFAULT_PERCENTILES;
+        }
+        for (Double percentile : percentiles) {
+            if (percentile == null || percentile <= 0.0 || percentile > 1.0) {
+                throw new IllegalArgumentException(
+                        "percentile must be in (0, 1]: " + percentile);
+            }
+        }
+        percentiles = percentiles.stream().distinct().sorted().toList();
+    }
+
+    public static GetFeedbackQueueStatsQuery of(List<Double> percentiles) {
+        return new GetFeedbackQueueStatsQuery(percentiles);
+    }
+
+    public static GetFeedbackQueueStatsQuery defaults() {
+        return new GetFeedbackQueueStatsQuery(DEFAULT_PERCENTILES);
+    }
+}
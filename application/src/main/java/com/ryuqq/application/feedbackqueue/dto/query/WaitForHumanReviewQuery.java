@@ -0,0 +1,46 @@
+package com.ryuqq.application.feedbackqueue.dto.query;
+
+import java.time.Duration;
+
+/**
+ * WaitForHumanReviewQuery - Human 리뷰 인박스 롱폴링 쿼리
+ *
+ * <p>cursor는 이전 응답에서 받은 인박스 버전입니다. null이면 대기 없이 현재 인박스를 즉시 반환합니다. 버전은 인박스 내용에서 계산되므로 어느 노드에 보내도 같은
+ * 의미를 가집니다.
+ *
+ * @param cursor 마지막으로 본 인박스 버전 (nullable)
+ * @param size 인박스 조회 크기
+ * @param waitTimeout 최대 대기 시간
+ * @author ryu-qqq
+ */
+public record WaitForHumanReviewQuery(Long cursor, int size, Duration waitTimeout) {
+
+    public static final int MAX_SIZE = 100;
+    public static final Duration MAX_WAIT_TIMEOUT = Duration.ofSeconds(60);
+
+    public WaitForHumanReviewQuery {
+        if (size <= 0 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be in [1, " + MAX_SIZE + "]: " + size);
+        }
+        if (waitTimeout == null
+                || waitTimeout.isNegative()
+                || waitTimeout.isZero()
+                || waitTimeout.compareTo(MAX_WAIT_TIMEOUT) > 0) {
+            throw new IllegalArgumentException(
+                    "waitTimeout must be in (0, " + MAX_WAIT_TIMEOUT + "]: " + waitTimeout);
+        }
+    }
+
+    public static WaitForHumanReviewQuery of(Long cursor, int size, Duration waitTimeout) {
+        return new WaitForHumanReviewQuery(cursor, size, waitTimeout);
+    }
+
+    /**
+     * 최초 요청 여부 확인
+     *
+     * @return cursor가 null이면 true
+     */
+    public boolean isInitial() {
+        return cursor == null;
+    }
+}
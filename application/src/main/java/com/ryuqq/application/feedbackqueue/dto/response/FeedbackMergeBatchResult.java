@@ -0,0 +1,26 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+import java.util.List;
+
+/**
+ * FeedbackMergeBatchResult - 피드백 일괄 머지 결과
+ *
+ * @param items 피드백별 머지 결과 (처리 순서)
+ * @param groupCount 대상 엔티티 기준 머지 그룹 수 (= 대상 저장 횟수)
+ * @author ryu-qqq
+ */
+public record FeedbackMergeBatchResult(List<FeedbackMergeItemResult> items, int groupCount) {
+
+    public FeedbackMergeBatchResult {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    /**
+     * 머지된 피드백 수
+     *
+     * @return 피드백 수
+     */
+    public int mergedCount() {
+        return items.size();
+    }
+}
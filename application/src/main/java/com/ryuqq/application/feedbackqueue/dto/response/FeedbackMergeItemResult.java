@@ -0,0 +1,14 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+/**
+ * FeedbackMergeItemResult - 일괄 머지 개별 피드백 결과
+ *
+ * <p>병합(coalesce) 처리되더라도 피드백 단위의 감사 이력을 남기기 위해 항목별로 결과를 유지합니다.
+ *
+ * @param feedback 머지된 피드백 정보
+ * @param mergedTargetId 반영된 대상 엔티티 ID
+ * @param groupSize 함께 병합된 피드백 수 (단건 처리 시 1)
+ * @author ryu-qqq
+ */
+public record FeedbackMergeItemResult(
+        FeedbackQueueResult feedback, Long mergedTargetId, int groupSize) {}
@@ -0,0 +1,10 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+/**
+ * FeedbackQueueAgePercentileResult - 대기 시간 백분위 값
+ *
+ * @param percentile 백분위 (0 초과 1 이하)
+ * @param ageSeconds 대기 시간 (초, 마지막 상태 변경 기준)
+ * @author ryu-qqq
+ */
+public record FeedbackQueueAgePercentileResult(double percentile, long ageSeconds) {}
@@ -0,0 +1,29 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+import java.time.Instant;
+
+/**
+ * FeedbackQueueArchiveResult - 피드백 보관 실행 결과
+ *
+ * @param archivedCount 보관 테이블로 이동된 피드백 수
+ * @param batchCount 실행된 배치 수
+ * @param cutoff 보관 기준 시각 (이 시각 이전에 종료된 피드백이 대상, 건너뛴 경우 null)
+ * @param hasRemaining 최대 배치 수에 도달하여 남은 대상이 있을 수 있으면 true
+ * @param addedPartitionCount 추가된 보관 월 파티션 수
+ * @param droppedPartitionCount 삭제된 보관 월 파티션 수
+ * @param skipped 다른 노드가 보관 락을 보유하여 실행하지 않았으면 true
+ * @author ryu-qqq
+ */
+public record FeedbackQueueArchiveResult(
+        int archivedCount,
+        int batchCount,
+        Instant cutoff,
+        boolean hasRemaining,
+        int addedPartitionCount,
+        int droppedPartitionCount,
+        boolean skipped) {
+
+    public static FeedbackQueueArchiveResult skippedResult() {
+        return new FeedbackQueueArchiveResult(0, 0, null, false, 0, 0, true);
+    }
+}
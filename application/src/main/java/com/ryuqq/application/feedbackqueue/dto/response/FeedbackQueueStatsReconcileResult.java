@@ -0,0 +1,20 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+import java.time.Instant;
+
+/**
+ * FeedbackQueueStatsReconcileResult - 피드백 큐 통계 보정 결과
+ *
+ * @param compactedDeltaCount 압축(기준값으로 대체)된 증감 기록 수
+ * @param driftedKeyCount 카운터와 실제 건수가 달랐던 키 수 (0이면 정상)
+ * @param reconciledAt 보정 시각 (건너뛴 경우 null)
+ * @param skipped 다른 노드가 보정 락을 보유하여 실행하지 않았으면 true
+ * @author ryu-qqq
+ */
+public record FeedbackQueueStatsReconcileResult(
+        int compactedDeltaCount, int driftedKeyCount, Instant reconciledAt, boolean skipped) {
+
+    public static FeedbackQueueStatsReconcileResult skippedResult() {
+        return new FeedbackQueueStatsReconcileResult(0, 0, null, true);
+    }
+}
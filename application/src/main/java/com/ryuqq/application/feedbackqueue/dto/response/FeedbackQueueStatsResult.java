@@ -0,0 +1,26 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * FeedbackQueueStatsResult - 피드백 큐 통계 결과
+ *
+ * <p>건수는 상태 전이와 같은 트랜잭션에서 갱신되는 카운터 기준이며, 대기 시간은 처리 중(비종료) 상태만 집계합니다.
+ *
+ * @param total 활성 피드백 전체 건수
+ * @param byStatus 상태별 건수
+ * @param byRiskLevel 리스크 수준별 건수
+ * @param byTargetType 대상 타입별 건수
+ * @param ages 처리 중 상태별 대기 시간 통계
+ * @param generatedAt 집계 시각
+ * @author ryu-qqq
+ */
+public record FeedbackQueueStatsResult(
+        long total,
+        Map<String, Long> byStatus,
+        Map<String, Long> byRiskLevel,
+        Map<String, Long> byTargetType,
+        List<FeedbackQueueStatusAgeResult> ages,
+        Instant generatedAt) {}
@@ -0,0 +1,18 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+import java.util.List;
+
+/**
+ * FeedbackQueueStatusAgeResult - 상태별 대기 시간 통계
+ *
+ * @param status 처리 상태
+ * @param count 상태별 건수
+ * @param maxAgeSeconds 최대 대기 시간 (초, 조회 불가 시 null)
+ * @param percentiles 백분위별 대기 시간
+ * @author ryu-qqq
+ */
+public record FeedbackQueueStatusAgeResult(
+        String status,
+        long count,
+        Long maxAgeSeconds,
+        List<FeedbackQueueAgePercentileResult> percentiles) {}
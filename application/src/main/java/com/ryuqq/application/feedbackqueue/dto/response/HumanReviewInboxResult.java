@@ -0,0 +1,23 @@
+package com.ryuqq.application.feedbackqueue.dto.response;
+
+/**
+ * HumanReviewInboxResult - Human 리뷰 인박스 롱폴링 결과
+ *
+ * <p>changed가 false이면 대기 시간 내 새 항목이 없었다는 뜻이며, feedbacks는 비어 있습니다. 클라이언트는 cursor를 그대로 다음 요청에 전달합니다.
+ *
+ * @param cursor 현재 인박스 버전 (다음 요청의 cursor)
+ * @param changed 인박스 변경 여부
+ * @param feedbacks Human 승인 대기 피드백 목록
+ * @author ryu-qqq
+ */
+public record HumanReviewInboxResult(
+        long cursor, boolean changed, FeedbackQueueSliceResult feedbacks) {
+
+    public static HumanReviewInboxResult changed(long cursor, FeedbackQueueSliceResult feedbacks) {
+        return new HumanReviewInboxResult(cursor, true, feedbacks);
+    }
+
+    public static HumanReviewInboxResult unchanged(long cursor) {
+        return new HumanReviewInboxResult(cursor, false, FeedbackQueueSliceResult.empty());
+    }
+}
@@ -1,8 +1,10 @@
 package com.ryuqq.application.feedbackqueue.factory.command;
 
+import com.ryuqq.application.common.port.out.IdGeneratorPort;
 import com.ryuqq.application.common.time.TimeProvider;
 import com.ryuqq.application.feedbackqueue.dto.command.CreateFeedbackCommand;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackPayload;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
@@ -19,15 +21,19 @@ import org.springframework.stereotype.Component;
  *
  * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지, Factory에서 처리.
  *
+ * <p>ID는 생성 시점에 {@link IdGeneratorPort}로 미리 할당합니다. 영속화 시 IDENTITY 조회 없이 배치 INSERT가 가능합니다.
+ *
  * @author ryu-qqq
  */
 @Component
 public class FeedbackQueueCommandFactory {
 
     private final TimeProvider timeProvider;
+    private final IdGeneratorPort idGeneratorPort;
 
-    public FeedbackQueueCommandFactory(TimeProvider timeProvider) {
+    public FeedbackQueueCommandFactory(TimeProvider timeProvider, IdGeneratorPort idGeneratorPort) {
         this.timeProvider = timeProvider;
+        this.idGeneratorPort = idGeneratorPort;
     }
 
     /**
@@ -42,7 +48,9 @@ public class FeedbackQueueCommandFactory {
         FeedbackType feedbackType = FeedbackType.valueOf(command.feedbackType());
         FeedbackPayload payload = FeedbackPayload.of(command.payload());
 
-        return FeedbackQueue.forNew(targetType, command.targetId(), feedbackType, payload, now);
+        FeedbackQueue feedbackQueue =
+                FeedbackQueue.forNew(targetType, command.targetId(), feedbackType, payload, now);
+        return withAssignedId(feedbackQueue);
     }
 
     /**
@@ -60,8 +68,15 @@ public class FeedbackQueueCommandFactory {
         FeedbackType feedbackType = FeedbackType.valueOf(command.feedbackType());
         FeedbackPayload payload = FeedbackPayload.of(command.payload());
 
-        return FeedbackQueue.forNew(
-                targetType, command.targetId(), feedbackType, payload, riskLevel, now);
+        FeedbackQueue feedbackQueue =
+                FeedbackQueue.forNew(
+                        targetType, command.targetId(), feedbackType, payload, riskLevel, now);
+        return withAssignedId(feedbackQueue);
+    }
+
+    private FeedbackQueue withAssignedId(FeedbackQueue feedbackQueue) {
+        feedbackQueue.assignId(FeedbackQueueId.of(idGeneratorPort.generateLong()));
+        return feedbackQueue;
     }
 
     /**
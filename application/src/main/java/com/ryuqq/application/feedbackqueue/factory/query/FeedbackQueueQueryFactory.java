@@ -5,6 +5,7 @@ import com.ryuqq.application.feedbackqueue.dto.query.GetAwaitingHumanReviewQuery
 import com.ryuqq.application.feedbackqueue.dto.query.GetPendingFeedbacksQuery;
 import com.ryuqq.domain.common.vo.CursorPageRequest;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackPayloadFilter;
 import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackAction;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
@@ -108,8 +109,20 @@ public class FeedbackQueueQueryFactory {
                         ? searchParams.actions().stream().map(FeedbackAction::valueOf).toList()
                         : null;
 
+        FeedbackPayloadFilter payloadFilter =
+                FeedbackPayloadFilter.of(
+                        searchParams.conventionId(),
+                        searchParams.codingRuleId(),
+                        searchParams.structureId());
+
         return FeedbackQueueSliceCriteria.of(
-                targetTypes, statuses, feedbackTypes, riskLevels, actions, cursorPageRequest);
+                targetTypes,
+                statuses,
+                feedbackTypes,
+                riskLevels,
+                actions,
+                payloadFilter,
+                cursorPageRequest);
     }
 
     /**
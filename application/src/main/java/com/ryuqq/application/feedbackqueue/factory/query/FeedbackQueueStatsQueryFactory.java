@@ -0,0 +1,77 @@
+package com.ryuqq.application.feedbackqueue.factory.query;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsQueryFactory - 피드백 큐 통계 쿼리 팩토리
+ *
+ * <p>카운터로부터 상태별 대기 시간 백분위 조회 조건을 생성합니다.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지, Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsQueryFactory {
+
+    private final TimeProvider timeProvider;
+
+    public FeedbackQueueStatsQueryFactory(TimeProvider timeProvider) {
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * 처리 중 상태별 백분위 조회 조건 생성
+     *
+     * <p>종료 상태는 대기 시간 의미가 없으므로 제외하며, 최대 대기 시간을 위해 p = 1.0 조건을 항상 포함합니다.
+     *
+     * @param counters 키별 카운터
+     * @param query 조회 쿼리
+     * @return 백분위 조회 조건 목록 (상태 선언 순서, 백분위 오름차순)
+     */
+    public List<FeedbackQueueAgeProbe> toAgeProbes(
+            List<FeedbackQueueCounter> counters, GetFeedbackQueueStatsQuery query) {
+        List<Double> percentiles = new ArrayList<>(query.percentiles());
+        if (!percentiles.contains(FeedbackQueueAgeProbe.MAX_PERCENTILE)) {
+            percentiles.add(FeedbackQueueAgeProbe.MAX_PERCENTILE);
+        }
+
+        List<FeedbackQueueAgeProbe> probes = new ArrayList<>();
+        for (Map.Entry<FeedbackStatus, Long> entry : countByStatus(counters).entrySet()) {
+            if (entry.getKey().isTerminal() || entry.getValue() <= 0) {
+                continue;
+            }
+            for (double percentile : percentiles) {
+                probes.add(FeedbackQueueAgeProbe.of(entry.getKey(), entry.getValue(), percentile));
+            }
+        }
+        return probes;
+    }
+
+    /**
+     * 현재 시간 반환 (대기 시간 계산 기준)
+     *
+     * @return 현재 Instant
+     */
+    public Instant now() {
+        return timeProvider.now();
+    }
+
+    private Map<FeedbackStatus, Long> countByStatus(List<FeedbackQueueCounter> counters) {
+        Map<FeedbackStatus, Long> countByStatus = new EnumMap<>(FeedbackStatus.class);
+        for (FeedbackQueueCounter counter : counters) {
+            countByStatus.merge(counter.status(), counter.count(), Long::sum);
+        }
+        return countByStatus;
+    }
+}
@@ -0,0 +1,258 @@
+package com.ryuqq.application.feedbackqueue.internal.inbox;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.feedbackqueue.dto.query.GetAwaitingHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
+import com.ryuqq.application.feedbackqueue.manager.HumanReviewInboxVersionReadManager;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * HumanReviewInbox - Human 리뷰 인박스 스냅샷과 롱폴링 대기자 관리
+ *
+ * <p>인박스 버전은 조회한 목록 내용에서 계산합니다({@link HumanReviewInboxSnapshot}). JVM 카운터가 아니므로 로드밸런서 뒤의 어느 노드에서도
+ * 같은 cursor가 같은 상태를 가리킵니다.
+ *
+ * <ul>
+ *   <li>대기자는 스레드를 점유하지 않는 {@link CompletableFuture}로만 보관합니다.
+ *   <li>인박스 조회는 노드 단위로 하나만 실행되며, 실행 중에 들어온 재조회 요청은 다음 한 번의 조회로 합쳐집니다. 대기자 수와 무관하게 버전당 한 번만 조회합니다.
+ *   <li>같은 노드의 커밋은 {@link #signal()}로 즉시 재조회를 요청합니다.
+ *   <li>다른 노드의 커밋은 인박스 변경 버전 행으로 전달됩니다. 대기자가 있는 동안 버전 확인 주기마다 단일 행만 읽고, 버전이 바뀌었을 때만 재조회합니다.
+ *   <li>버전 행을 놓치는 경우(조회 실패, 버전 동기화 비활성화)에 대비해 마지막 조회 후 재확인 주기가 지나면 한 번 재조회합니다.
+ *   <li>조회와 대기자 깨우기는 가상 스레드에서 실행되어, 커밋한 요청 스레드를 붙잡지 않습니다.
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class HumanReviewInbox {
+
+    private static final Logger log = LoggerFactory.getLogger(HumanReviewInbox.class);
+
+    /** 모든 요청 크기를 한 번의 조회로 처리하도록 최대 크기로 조회 */
+    private static final GetAwaitingHumanReviewQuery INBOX_QUERY =
+            GetAwaitingHumanReviewQuery.firstPage(WaitForHumanReviewQuery.MAX_SIZE);
+
+    private static final long UNKNOWN_VERSION = Long.MIN_VALUE;
+
+    private final FeedbackQueueQueryFactory feedbackQueueQueryFactory;
+    private final FeedbackQueueReadManager feedbackQueueReadManager;
+    private final HumanReviewInboxVersionReadManager versionReadManager;
+    private final Duration versionPollInterval;
+    private final Duration recheckInterval;
+
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean recheckScheduled = new AtomicBoolean();
+    private final Executor wakeUpExecutor =
+            Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("human-review-inbox-", 0).factory());
+
+    private volatile HumanReviewInboxSnapshot snapshot;
+
+    /** 마지막 조회 직전에 읽은 인박스 변경 버전 (읽지 못했으면 {@link #UNKNOWN_VERSION}) */
+    private volatile long loadedVersion = UNKNOWN_VERSION;
+
+    private volatile long loadedAtNanos = System.nanoTime();
+
+    // guarded by this
+    private CompletableFuture<HumanReviewInboxSnapshot> running;
+    private CompletableFuture<HumanReviewInboxSnapshot> next;
+
+    public HumanReviewInbox(
+            FeedbackQueueQueryFactory feedbackQueueQueryFactory,
+            FeedbackQueueReadManager feedbackQueueReadManager,
+            HumanReviewInboxVersionReadManager versionReadManager,
+            @Value("${feedback-queue.human-review-inbox.version-poll-interval:500ms}")
+                    Duration versionPollInterval,
+            @Value("${feedback-queue.human-review-inbox.recheck-interval:30s}")
+                    Duration recheckInterval) {
+        this.feedbackQueueQueryFactory = feedbackQueueQueryFactory;
+        this.feedbackQueueReadManager = feedbackQueueReadManager;
+        this.versionReadManager = versionReadManager;
+        this.versionPollInterval = versionPollInterval;
+        this.recheckInterval = recheckInterval;
+    }
+
+    /**
+     * 인박스 재조회
+     *
+     * <p>호출 시점 이후에 시작된 조회 결과로 완료됩니다. 조회가 이미 진행 중이면 그 다음 조회 한 번을 다른 호출자와 공유합니다.
+     *
+     * @return 최신 인박스 스냅샷
+     */
+    public CompletableFuture<HumanReviewInboxSnapshot> refresh() {
+        synchronized (this) {
+            if (running != null) {
+                if (next == null) {
+                    next = new CompletableFuture<>();
+                }
+                return next;
+            }
+            CompletableFuture<HumanReviewInboxSnapshot> load = new CompletableFuture<>();
+            running = load;
+            wakeUpExecutor.execute(() -> runLoads(load));
+            return load;
+        }
+    }
+
+    /**
+     * 인박스 버전 변경 대기
+     *
+     * <p>seenVersion이 최신 조회 버전과 다르면 즉시 완료됩니다. 시간 내 변경이 없으면 버전이 seenVersion인 스냅샷으로 완료됩니다.
+     *
+     * @param seenVersion 클라이언트가 마지막으로 본 버전
+     * @param timeout 최대 대기 시간
+     * @return 변경된 스냅샷 (타임아웃 시 seenVersion 버전의 스냅샷)
+     */
+    public CompletableFuture<HumanReviewInboxSnapshot> awaitChange(
+            long seenVersion, Duration timeout) {
+        HumanReviewInboxSnapshot current = snapshot;
+        if (current != null && current.version() == seenVersion) {
+            return register(seenVersion, current, timeout);
+        }
+
+        // 이 노드의 스냅샷이 없거나 다른 노드보다 뒤처졌을 수 있으므로 재조회 후 비교
+        return refresh()
+                .thenCompose(
+                        fresh ->
+                                fresh.version() == seenVersion
+                                        ? register(seenVersion, fresh, timeout)
+                                        : CompletableFuture.completedFuture(fresh));
+    }
+
+    /**
+     * 인박스 변경 알림
+     *
+     * <p>이 노드에서 커밋된 변경을 반영하도록 재조회를 요청합니다. 내용이 바뀐 경우에만 대기자가 깨어납니다.
+     */
+    public void signal() {
+        refresh();
+    }
+
+    /**
+     * 현재 대기 중인 롱폴링 요청 수
+     *
+     * @return 대기자 수
+     */
+    public int waitingCount() {
+        return waiters.size();
+    }
+
+    private CompletableFuture<HumanReviewInboxSnapshot> register(
+            long seenVersion, HumanReviewInboxSnapshot unchanged, Duration timeout) {
+        Waiter waiter = new Waiter(seenVersion, new CompletableFuture<>());
+        waiters.add(waiter);
+        waiter.future().whenComplete((changed, error) -> waiters.remove(waiter));
+        waiter.future().completeOnTimeout(unchanged, timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+        // 등록 직전에 새 스냅샷이 반영되었을 수 있으므로 등록 후 다시 확인
+        HumanReviewInboxSnapshot afterRegister = snapshot;
+        if (afterRegister.version() != seenVersion) {
+            waiter.future().complete(afterRegister);
+        }
+        scheduleRecheck();
+        return waiter.future();
+    }
+
+    private void runLoads(CompletableFuture<HumanReviewInboxSnapshot> first) {
+        CompletableFuture<HumanReviewInboxSnapshot> load = first;
+        while (load != null) {
+            try {
+                // 조회 전에 읽어 두어야 조회 도중 커밋된 변경이 다음 버전 확인에서 드러남
+                long version = readVersion();
+                HumanReviewInboxSnapshot loaded = HumanReviewInboxSnapshot.of(loadInbox());
+                loadedVersion = version;
+                loadedAtNanos = System.nanoTime();
+                publish(loaded);
+                load.complete(loaded);
+            } catch (RuntimeException e) {
+                log.warn("Human 리뷰 인박스 조회 실패: {}", e.getMessage());
+                load.completeExceptionally(e);
+            }
+            synchronized (this) {
+                running = next;
+                next = null;
+                load = running;
+            }
+        }
+    }
+
+    private List<FeedbackQueue> loadInbox() {
+        FeedbackQueueSliceCriteria criteria =
+                feedbackQueueQueryFactory.toSliceCriteria(INBOX_QUERY);
+        // 커밋 직후 신호로 조회하므로 복제본이 아직 변경을 받지 못했을 수 있음 - 노드당 1회 조회라 Primary로 고정
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return feedbackQueueReadManager.findBySliceCriteria(criteria);
+        }
+    }
+
+    private void publish(HumanReviewInboxSnapshot loaded) {
+        snapshot = loaded;
+        for (Waiter waiter : waiters) {
+            if (waiter.seenVersion() != loaded.version()) {
+                waiter.future().completeAsync(() -> loaded, wakeUpExecutor);
+            }
+        }
+    }
+
+    private void scheduleRecheck() {
+        if (!recheckScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Executor delayed =
+                CompletableFuture.delayedExecutor(
+                        versionPollInterval.toMillis(), TimeUnit.MILLISECONDS, wakeUpExecutor);
+        delayed.execute(this::recheck);
+    }
+
+    private void recheck() {
+        recheckScheduled.set(false);
+        if (waiters.isEmpty()) {
+            return;
+        }
+        boolean stale = System.nanoTime() - loadedAtNanos >= recheckInterval.toNanos();
+        if (!stale && !versionChanged()) {
+            scheduleRecheck();
+            return;
+        }
+        refresh()
+                .whenComplete(
+                        (loaded, error) -> {
+                            if (!waiters.isEmpty()) {
+                                scheduleRecheck();
+                            }
+                        });
+    }
+
+    private boolean versionChanged() {
+        long current = readVersion();
+        return current != UNKNOWN_VERSION && current != loadedVersion;
+    }
+
+    private long readVersion() {
+        // 다른 노드가 방금 올린 버전을 복제 지연 없이 보도록 Primary에서 읽음 (단일 행 PK 조회)
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return versionReadManager.findVersion();
+        } catch (RuntimeException e) {
+            log.warn("Human 리뷰 인박스 버전 조회 실패: {}", e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private record Waiter(long seenVersion, CompletableFuture<HumanReviewInboxSnapshot> future) {}
+}
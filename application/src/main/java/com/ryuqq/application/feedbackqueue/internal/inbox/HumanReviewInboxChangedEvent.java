@@ -0,0 +1,18 @@
+package com.ryuqq.application.feedbackqueue.internal.inbox;
+
+/**
+ * HumanReviewInboxChangedEvent - Human 리뷰 인박스 변경 로컬 신호
+ *
+ * <p>커밋한 노드 안에서만 발행되는 신호입니다. 아웃박스를 거치지 않으므로 릴레이 락을 가진 노드가 아니어도, 릴레이 주기를 기다리지 않고 같은 노드의 롱폴링 대기자를
+ * 깨웁니다. 다른 노드의 대기자는 {@link HumanReviewInbox}의 재확인 주기에 변경을 반영합니다.
+ *
+ * @author ryu-qqq
+ */
+public record HumanReviewInboxChangedEvent() {
+
+    private static final HumanReviewInboxChangedEvent INSTANCE = new HumanReviewInboxChangedEvent();
+
+    public static HumanReviewInboxChangedEvent instance() {
+        return INSTANCE;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ryuqq.application.feedbackqueue.internal.inbox;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * HumanReviewInboxSnapshot - Human 리뷰 인박스 조회 스냅샷
+ *
+ * <p>한 번 조회한 인박스 목록과, 그 목록 내용에서 계산한 버전을 함께 보관합니다. 버전은 항목의 ID와 수정 시각만으로 계산되므로 같은 DB 상태를 읽은 노드는 모두 같은
+ * 버전을 얻습니다. 클라이언트는 어느 노드로 요청하든 같은 cursor로 대기할 수 있습니다.
+ *
+ * @param version 인박스 버전 (0 이상)
+ * @param feedbackQueues 조회된 Human 승인 대기 피드백 목록
+ * @author ryu-qqq
+ */
+public record HumanReviewInboxSnapshot(long version, List<FeedbackQueue> feedbackQueues) {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    public HumanReviewInboxSnapshot {
+        feedbackQueues = List.copyOf(feedbackQueues);
+    }
+
+    /**
+     * 조회 결과로 스냅샷 생성
+     *
+     * @param feedbackQueues 조회된 Human 승인 대기 피드백 목록
+     * @return 내용 기반 버전이 계산된 스냅샷
+     */
+    public static HumanReviewInboxSnapshot of(List<FeedbackQueue> feedbackQueues) {
+        return new HumanReviewInboxSnapshot(versionOf(feedbackQueues), feedbackQueues);
+    }
+
+    private static long versionOf(List<FeedbackQueue> feedbackQueues) {
+        long hash = FNV_OFFSET_BASIS;
+        for (FeedbackQueue feedbackQueue : feedbackQueues) {
+            Instant updatedAt = feedbackQueue.updatedAt();
+            hash = mix(hash, feedbackQueue.idValue());
+            hash = mix(hash, updatedAt.getEpochSecond());
+            hash = mix(hash, updatedAt.getNano());
+        }
+        // cursor는 0 이상만 허용되므로 부호 비트를 제거
+        return hash & Long.MAX_VALUE;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
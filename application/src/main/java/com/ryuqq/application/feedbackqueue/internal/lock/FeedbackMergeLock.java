@@ -0,0 +1,61 @@
+package com.ryuqq.application.feedbackqueue.internal.lock;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.exception.FeedbackMergeLockTimeoutException;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackMergeLockKey;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackMergeLock - 피드백 머지 대상 엔티티 단위 직렬화
+ *
+ * <p>같은 대상 엔티티(targetType, targetId)를 향한 머지를 {@link DistributedLockPort}로 노드 간에 직렬화합니다. DB 행 경합에
+ * 맡기지 않고 머지 전체(재검증 → 전략 실행 → 상태 저장)를 하나의 임계 구역으로 묶습니다.
+ *
+ * <p>락은 트랜잭션 밖에서 획득/해제되어야 합니다. 임계 구역 안의 각 Manager 트랜잭션이 커밋된 뒤에 락이 풀리므로, 다음 머지는 항상 커밋된 대상 상태를 읽습니다.
+ * 임계 구역 안의 읽기는 Primary로 고정하여, 복제 지연 때문에 앞선 머지 이전 상태로 재검증하지 않도록 합니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackMergeLock {
+
+    private static final long WAIT_SECONDS = 10L;
+    private static final long LEASE_SECONDS = 30L;
+
+    private final DistributedLockPort distributedLockPort;
+
+    public FeedbackMergeLock(DistributedLockPort distributedLockPort) {
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    /**
+     * 대상 엔티티 락을 보유한 채로 작업 실행
+     *
+     * @param feedbackQueue 머지할 피드백 (대상 엔티티 식별용)
+     * @param action 임계 구역에서 실행할 작업
+     * @param <T> 작업 결과 타입
+     * @return 작업 결과
+     * @throws FeedbackMergeLockTimeoutException 대기 시간 내에 락을 얻지 못한 경우
+     */
+    public <T> T executeExclusively(FeedbackQueue feedbackQueue, Supplier<T> action) {
+        FeedbackMergeLockKey lockKey =
+                FeedbackMergeLockKey.of(feedbackQueue.targetType(), feedbackQueue.targetId());
+
+        boolean acquired =
+                distributedLockPort.tryLock(
+                        lockKey, WAIT_SECONDS, LEASE_SECONDS, TimeUnit.SECONDS);
+        if (!acquired) {
+            throw new FeedbackMergeLockTimeoutException(lockKey);
+        }
+
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return action.get();
+        } finally {
+            distributedLockPort.unlock(lockKey);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.ryuqq.application.feedbackqueue.internal.planner;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.util.List;
+
+/**
+ * FeedbackMergeGroup - 하나의 대상 엔티티로 함께 머지되는 피드백 묶음
+ *
+ * <p>MODIFY 피드백은 (targetType, targetId)가 같으면 하나의 그룹으로 묶이며, 그 외 피드백은 단건 그룹입니다. 그룹 내 피드백은 생성
+ * 순서(createdAt, id)로 정렬되어 있어 순서대로 적용하면 마지막 수정이 최종 상태가 됩니다.
+ *
+ * @param targetType 대상 타입
+ * @param feedbackQueues 적용 순서로 정렬된 피드백 목록
+ * @author ryu-qqq
+ */
+public record FeedbackMergeGroup(
+        FeedbackTargetType targetType, List<FeedbackQueue> feedbackQueues) {
+
+    public FeedbackMergeGroup {
+        feedbackQueues = List.copyOf(feedbackQueues);
+    }
+
+    /**
+     * 그룹 대표 피드백 (가장 먼저 생성된 피드백)
+     *
+     * @return 대표 피드백
+     */
+    public FeedbackQueue head() {
+        return feedbackQueues.get(0);
+    }
+
+    /**
+     * 병합 대상 여부 (2건 이상)
+     *
+     * @return 병합이 필요하면 true
+     */
+    public boolean isCoalesced() {
+        return feedbackQueues.size() > 1;
+    }
+
+    /**
+     * 적용 순서대로 정렬된 피드백 ID 목록
+     *
+     * @return 피드백 ID 목록
+     */
+    public List<Long> feedbackIds() {
+        return feedbackQueues.stream().map(FeedbackQueue::idValue).toList();
+    }
+
+    public int size() {
+        return feedbackQueues.size();
+    }
+}
@@ -0,0 +1,64 @@
+package com.ryuqq.application.feedbackqueue.internal.planner;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackMergePlanner - 피드백 일괄 머지 계획 수립
+ *
+ * <p>머지할 피드백 목록을 대상 엔티티 기준 그룹으로 나눕니다.
+ *
+ * <ul>
+ *   <li>MODIFY + targetId 존재: (targetType, targetId) 단위로 묶어 한 번의 로드/저장으로 처리
+ *   <li>ADD / DELETE: 단건 그룹 (ADD는 대상이 아직 없고, DELETE는 병합 의미가 없음)
+ * </ul>
+ *
+ * <p>전체 피드백은 생성 순서(createdAt, id)로 정렬한 뒤 그룹화하므로, 그룹 순서와 그룹 내 적용 순서 모두 피드백 생성 순서를 따릅니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackMergePlanner {
+
+    private static final Comparator<FeedbackQueue> CREATION_ORDER =
+            Comparator.comparing(FeedbackQueue::createdAt)
+                    .thenComparing(FeedbackQueue::idValue);
+
+    /**
+     * 머지 그룹 계획 수립
+     *
+     * @param feedbackQueues 머지할 피드백 목록 (검증 완료)
+     * @return 처리 순서대로 정렬된 머지 그룹 목록
+     */
+    public List<FeedbackMergeGroup> plan(List<FeedbackQueue> feedbackQueues) {
+        List<FeedbackQueue> ordered = new ArrayList<>(feedbackQueues);
+        ordered.sort(CREATION_ORDER);
+
+        Map<Object, List<FeedbackQueue>> grouped = new LinkedHashMap<>();
+        for (FeedbackQueue feedbackQueue : ordered) {
+            grouped.computeIfAbsent(groupKey(feedbackQueue), key -> new ArrayList<>())
+                    .add(feedbackQueue);
+        }
+
+        List<FeedbackMergeGroup> groups = new ArrayList<>(grouped.size());
+        for (List<FeedbackQueue> members : grouped.values()) {
+            groups.add(new FeedbackMergeGroup(members.get(0).targetType(), members));
+        }
+        return groups;
+    }
+
+    private Object groupKey(FeedbackQueue feedbackQueue) {
+        if (feedbackQueue.feedbackType().isModify() && feedbackQueue.targetId() != null) {
+            return new TargetKey(feedbackQueue.targetType(), feedbackQueue.targetId());
+        }
+        return feedbackQueue.idValue();
+    }
+
+    private record TargetKey(FeedbackTargetType targetType, Long targetId) {}
+}
@@ -2,6 +2,7 @@ package com.ryuqq.application.feedbackqueue.internal.strategy;
 
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.util.List;
 
 /**
  * FeedbackMergeStrategy - 피드백 머지 전략 인터페이스
@@ -38,4 +39,21 @@ public interface FeedbackMergeStrategy {
      * @return 저장된 대상 엔티티의 ID
      */
     Long merge(FeedbackQueue feedbackQueue);
+
+    /**
+     * 동일 대상에 대한 MODIFY 피드백 병합 머지
+     *
+     * <p>같은 (targetType, targetId)를 가리키는 MODIFY 피드백들을 생성 순서대로 적용합니다. 기본 구현은 피드백별로 {@link
+     * #merge(FeedbackQueue)}를 호출하며, 대상 엔티티를 한 번만 로드/저장할 수 있는 전략은 이 메서드를 재정의합니다.
+     *
+     * @param feedbackQueues 적용 순서로 정렬된 피드백 목록 (1건 이상)
+     * @return 저장된 대상 엔티티의 ID
+     */
+    default Long mergeCoalesced(List<FeedbackQueue> feedbackQueues) {
+        Long mergedTargetId = null;
+        for (FeedbackQueue feedbackQueue : feedbackQueues) {
+            mergedTargetId = merge(feedbackQueue);
+        }
+        return mergedTargetId;
+    }
 }
@@ -16,6 +16,8 @@ import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
 import com.ryuqq.domain.packagestructure.id.PackageStructureId;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
@@ -81,6 +83,46 @@ public class ClassTemplateMergeStrategy implements FeedbackMergeStrategy {
         throw new IllegalArgumentException("Unsupported feedback type: " + feedbackType);
     }
 
+    /**
+     * 동일 ClassTemplate에 대한 MODIFY 피드백 병합 머지
+     *
+     * <p>ClassTemplate를 한 번만 조회한 뒤 피드백 순서대로 수정 내용을 적용하고 한 번만 영속화합니다.
+     *
+     * @param feedbackQueues 적용 순서로 정렬된 MODIFY 피드백 목록
+     * @return 저장된 ClassTemplate ID
+     */
+    @Override
+    public Long mergeCoalesced(List<FeedbackQueue> feedbackQueues) {
+        if (feedbackQueues.size() == 1 || !feedbackQueues.get(0).feedbackType().isModify()) {
+            return FeedbackMergeStrategy.super.mergeCoalesced(feedbackQueues);
+        }
+
+        List<UpdateClassTemplateCommand> commands =
+                feedbackQueues.stream().map(fq -> parseUpdateCommand(fq.payloadValue())).toList();
+
+        // ClassTemplate 존재 검증 및 1회 조회
+        ClassTemplateId classTemplateId = ClassTemplateId.of(commands.get(0).classTemplateId());
+        for (UpdateClassTemplateCommand command : commands) {
+            if (!classTemplateId.value().equals(command.classTemplateId())) {
+                throw new IllegalArgumentException(
+                        "Coalesced feedbacks must target the same ClassTemplate: "
+                                + classTemplateId.value()
+                                + " != "
+                                + command.classTemplateId());
+            }
+        }
+        ClassTemplate classTemplate = classTemplateValidator.findExistingOrThrow(classTemplateId);
+
+        // 순서대로 업데이트 적용 후 1회 영속화
+        Instant now = timeProvider.now();
+        for (UpdateClassTemplateCommand command : commands) {
+            classTemplate.update(classTemplateCommandFactory.toUpdateData(command), now);
+        }
+        ClassTemplateId savedId = classTemplatePersistenceManager.persist(classTemplate);
+
+        return savedId.value();
+    }
+
     private Long handleAdd(FeedbackQueue feedbackQueue) {
         CreateClassTemplateCommand command = parseCreateCommand(feedbackQueue.payloadValue());
 
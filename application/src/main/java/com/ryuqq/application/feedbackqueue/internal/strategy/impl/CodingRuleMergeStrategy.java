@@ -16,6 +16,8 @@ import com.ryuqq.domain.convention.id.ConventionId;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import java.time.Instant;
+import java.util.List;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
@@ -81,6 +83,46 @@ public class CodingRuleMergeStrategy implements FeedbackMergeStrategy {
         throw new IllegalArgumentException("Unsupported feedback type: " + feedbackType);
     }
 
+    /**
+     * 동일 CodingRule에 대한 MODIFY 피드백 병합 머지
+     *
+     * <p>CodingRule를 한 번만 조회한 뒤 피드백 순서대로 수정 내용을 적용하고 한 번만 영속화합니다.
+     *
+     * @param feedbackQueues 적용 순서로 정렬된 MODIFY 피드백 목록
+     * @return 저장된 CodingRule ID
+     */
+    @Override
+    public Long mergeCoalesced(List<FeedbackQueue> feedbackQueues) {
+        if (feedbackQueues.size() == 1 || !feedbackQueues.get(0).feedbackType().isModify()) {
+            return FeedbackMergeStrategy.super.mergeCoalesced(feedbackQueues);
+        }
+
+        List<UpdateCodingRuleCommand> commands =
+                feedbackQueues.stream().map(fq -> parseUpdateCommand(fq.payloadValue())).toList();
+
+        // CodingRule 존재 검증 및 1회 조회
+        CodingRuleId codingRuleId = CodingRuleId.of(commands.get(0).codingRuleId());
+        for (UpdateCodingRuleCommand command : commands) {
+            if (!codingRuleId.value().equals(command.codingRuleId())) {
+                throw new IllegalArgumentException(
+                        "Coalesced feedbacks must target the same CodingRule: "
+                                + codingRuleId.value()
+                                + " != "
+                                + command.codingRuleId());
+            }
+        }
+        CodingRule codingRule = codingRuleValidator.findExistingOrThrow(codingRuleId);
+
+        // 순서대로 업데이트 적용 후 1회 영속화
+        Instant now = timeProvider.now();
+        for (UpdateCodingRuleCommand command : commands) {
+            codingRule.update(codingRuleCommandFactory.createUpdateData(command), now);
+        }
+        CodingRuleId savedId = codingRulePersistenceManager.persist(codingRule);
+
+        return savedId.value();
+    }
+
     private Long handleAdd(FeedbackQueue feedbackQueue) {
         CreateCodingRuleCommand command = parseCreateCommand(feedbackQueue.payloadValue());
 
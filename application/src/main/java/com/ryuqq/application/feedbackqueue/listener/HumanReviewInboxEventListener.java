@@ -0,0 +1,48 @@
+package com.ryuqq.application.feedbackqueue.listener;
+
+import com.ryuqq.application.common.event.AsyncEventListener;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInbox;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInboxChangedEvent;
+import com.ryuqq.domain.feedbackqueue.event.FeedbackAwaitingHumanReviewEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * HumanReviewInboxEventListener - Human 리뷰 인박스 알림 리스너
+ *
+ * <p>두 이벤트 모두 TransactionEventRegistry를 통해 커밋 후에만 발행되므로, 롱폴링 대기자는 커밋된 변경만 보게 됩니다.
+ *
+ * <ul>
+ *   <li>{@link HumanReviewInboxChangedEvent}: 커밋한 노드에서 커밋 직후 발행되는 로컬 신호
+ *   <li>{@link FeedbackAwaitingHumanReviewEvent}: 아웃박스 릴레이가 릴레이 락을 가진 노드에서 발행
+ * </ul>
+ *
+ * <p>알림은 인박스 재조회 요청만 수행하며, 같은 변경으로 두 번 알림이 와도 내용이 같으면 대기자를 깨우지 않습니다. 재조회 자체는 인박스의 가상 스레드에서 실행되므로
+ * 리스너는 발행 스레드를 오래 붙잡지 않습니다.
+ *
+ * <ul>
+ *   <li>로컬 신호는 비동기 리스너로 등록합니다 (유실되어도 재확인 주기에 반영)
+ *   <li>아웃박스 이벤트는 동기 리스너로 등록합니다. 릴레이는 리스너가 반환한 뒤에 메시지를 삭제하므로, 리스너가 실패하면 메시지가 남아 재시도됩니다
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class HumanReviewInboxEventListener {
+
+    private final HumanReviewInbox humanReviewInbox;
+
+    public HumanReviewInboxEventListener(HumanReviewInbox humanReviewInbox) {
+        this.humanReviewInbox = humanReviewInbox;
+    }
+
+    @AsyncEventListener
+    public void onInboxChanged(HumanReviewInboxChangedEvent event) {
+        humanReviewInbox.signal();
+    }
+
+    @EventListener
+    public void onAwaitingHumanReview(FeedbackAwaitingHumanReviewEvent event) {
+        humanReviewInbox.signal();
+    }
+}
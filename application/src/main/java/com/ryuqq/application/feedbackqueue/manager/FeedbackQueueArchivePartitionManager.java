@@ -0,0 +1,70 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchivePartitionPort;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchivePartitionManager - 피드백 보관 테이블 파티션 관리자
+ *
+ * <p>월 파티션이 앞으로 필요한 월까지 만들어져 있도록 {@code p_future}를 분할하고, 보관 기간이 지난 월 파티션을 삭제합니다. 파티션이 모자라면 이후 보관
+ * 데이터가 모두 {@code p_future}에 쌓여 월 단위 삭제가 불가능해집니다.
+ *
+ * <p>파티션 테이블이 아니면(H2 등) 아무 작업도 하지 않습니다.
+ *
+ * <p>파티션 DDL은 MySQL에서 암묵적 커밋을 일으키므로 이 관리자는 트랜잭션을 열지 않습니다 (MNG-001 예외).
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchivePartitionManager {
+
+    private final FeedbackQueueArchivePartitionPort feedbackQueueArchivePartitionPort;
+
+    public FeedbackQueueArchivePartitionManager(
+            FeedbackQueueArchivePartitionPort feedbackQueueArchivePartitionPort) {
+        this.feedbackQueueArchivePartitionPort = feedbackQueueArchivePartitionPort;
+    }
+
+    /**
+     * 지정한 월까지 월 파티션 추가
+     *
+     * @param through 마지막으로 있어야 할 월 (포함)
+     * @return 추가된 파티션 수
+     */
+    public int addThrough(YearMonth through) {
+        List<YearMonth> existing = feedbackQueueArchivePartitionPort.findMonthlyPartitions();
+        if (existing.isEmpty()) {
+            return 0;
+        }
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = existing.get(existing.size() - 1).plusMonths(1);
+                !month.isAfter(through);
+                month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        if (!months.isEmpty()) {
+            feedbackQueueArchivePartitionPort.addMonthlyPartitions(months);
+        }
+        return months.size();
+    }
+
+    /**
+     * 지정한 월 이전의 월 파티션 삭제
+     *
+     * @param oldestKept 유지할 가장 오래된 월 (이 월은 삭제하지 않음)
+     * @return 삭제된 파티션 수
+     */
+    public int dropBefore(YearMonth oldestKept) {
+        List<YearMonth> expired =
+                feedbackQueueArchivePartitionPort.findMonthlyPartitions().stream()
+                        .filter(month -> month.isBefore(oldestKept))
+                        .toList();
+        if (!expired.isEmpty()) {
+            feedbackQueueArchivePartitionPort.dropMonthlyPartitions(expired);
+        }
+        return expired.size();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchiveCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * FeedbackQueueArchivePersistenceManager - 피드백 보관 영속화 관리자
+ *
+ * <p>보관 테이블 기록과 활성 테이블 제거를 하나의 트랜잭션으로 묶어, 배치 단위 이동(move)이 원자적으로 수행되도록 합니다. 활성 테이블에서 빠지는 건수만큼 통계
+ * 카운터도 같은 트랜잭션에서 차감합니다.
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchivePersistenceManager {
+
+    private final FeedbackQueueArchiveCommandPort feedbackQueueArchiveCommandPort;
+    private final FeedbackQueueCommandPort feedbackQueueCommandPort;
+    private final FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort;
+
+    public FeedbackQueueArchivePersistenceManager(
+            FeedbackQueueArchiveCommandPort feedbackQueueArchiveCommandPort,
+            FeedbackQueueCommandPort feedbackQueueCommandPort,
+            FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort) {
+        this.feedbackQueueArchiveCommandPort = feedbackQueueArchiveCommandPort;
+        this.feedbackQueueCommandPort = feedbackQueueCommandPort;
+        this.feedbackQueueStatsCommandPort = feedbackQueueStatsCommandPort;
+    }
+
+    /**
+     * 피드백 배치 보관 (보관 테이블 INSERT → 활성 테이블 DELETE)
+     *
+     * @param feedbackQueues 보관할 피드백 목록
+     * @param archivedAt 보관 시각
+     */
+    @Transactional
+    public void archive(List<FeedbackQueue> feedbackQueues, Instant archivedAt) {
+        if (feedbackQueues.isEmpty()) {
+            return;
+        }
+        feedbackQueueArchiveCommandPort.persistAll(feedbackQueues, archivedAt);
+        feedbackQueueCommandPort.deleteArchived(
+                feedbackQueues.stream().map(FeedbackQueue::idValue).toList());
+        feedbackQueueStatsCommandPort.persistAll(
+                FeedbackQueueCounterDelta.combine(
+                        feedbackQueues.stream().map(FeedbackQueue::removalCounterDelta).toList()),
+                archivedAt);
+    }
+}
@@ -0,0 +1,37 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchiveQueryPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * FeedbackQueueArchiveReadManager - 피드백 보관 테이블 조회 관리자
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueArchiveReadManager {
+
+    private final FeedbackQueueArchiveQueryPort feedbackQueueArchiveQueryPort;
+
+    public FeedbackQueueArchiveReadManager(
+            FeedbackQueueArchiveQueryPort feedbackQueueArchiveQueryPort) {
+        this.feedbackQueueArchiveQueryPort = feedbackQueueArchiveQueryPort;
+    }
+
+    /**
+     * SliceCriteria 기반 보관 피드백 조회
+     *
+     * @param criteria 슬라이스 조회 조건
+     * @return 보관된 피드백 목록 (ID 내림차순)
+     */
+    @Transactional(readOnly = true)
+    public List<FeedbackQueue> findBySliceCriteria(FeedbackQueueSliceCriteria criteria) {
+        return feedbackQueueArchiveQueryPort.findBySliceCriteria(criteria);
+    }
+}
@@ -1,15 +1,27 @@
 package com.ryuqq.application.feedbackqueue.manager;
 
+import com.ryuqq.application.common.component.TransactionEventRegistry;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInboxChangedEvent;
 import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.HumanReviewInboxVersionPort;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.event.FeedbackAwaitingHumanReviewEvent;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * FeedbackQueuePersistenceManager - 피드백 큐 영속화 관리자
  *
- * <p>피드백 큐 저장 트랜잭션을 관리합니다.
+ * <p>피드백 큐 저장 트랜잭션을 관리합니다. 상태 변화에 따른 통계 카운터 증감도 같은 트랜잭션에서 기록하여, 카운터가 커밋된 상태 전이와 항상 일치하도록 합니다.
+ *
+ * <p>Human 리뷰 대기 상태로 진입한 피드백은 {@link FeedbackAwaitingHumanReviewEvent}를 아웃박스에 기록하고, 커밋 후 같은 노드에서
+ * {@link HumanReviewInboxChangedEvent}를 바로 발행하여 리뷰 인박스 롱폴링 대기자를 릴레이 지연 없이 깨웁니다.
+ *
+ * <p>Human 리뷰 대기에 진입하거나 벗어난 피드백이 있으면 같은 트랜잭션에서 인박스 변경 버전을 한 번 올립니다. 다른 노드는 이 버전만 확인하여 인박스를 재조회합니다.
  *
  * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
  *
@@ -19,9 +31,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class FeedbackQueuePersistenceManager {
 
     private final FeedbackQueueCommandPort feedbackQueueCommandPort;
+    private final FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort;
+    private final HumanReviewInboxVersionPort humanReviewInboxVersionPort;
+    private final TransactionEventRegistry transactionEventRegistry;
 
-    public FeedbackQueuePersistenceManager(FeedbackQueueCommandPort feedbackQueueCommandPort) {
+    public FeedbackQueuePersistenceManager(
+            FeedbackQueueCommandPort feedbackQueueCommandPort,
+            FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort,
+            HumanReviewInboxVersionPort humanReviewInboxVersionPort,
+            TransactionEventRegistry transactionEventRegistry) {
         this.feedbackQueueCommandPort = feedbackQueueCommandPort;
+        this.feedbackQueueStatsCommandPort = feedbackQueueStatsCommandPort;
+        this.humanReviewInboxVersionPort = humanReviewInboxVersionPort;
+        this.transactionEventRegistry = transactionEventRegistry;
     }
 
     /**
@@ -32,6 +54,59 @@ public class FeedbackQueuePersistenceManager {
      */
     @Transactional
     public FeedbackQueueId persist(FeedbackQueue feedbackQueue) {
-        return feedbackQueueCommandPort.persist(feedbackQueue);
+        FeedbackQueueId id = feedbackQueueCommandPort.persist(feedbackQueue);
+        feedbackQueueStatsCommandPort.persistAll(
+                feedbackQueue.statusCounterDeltas(), feedbackQueue.updatedAt());
+        registerHumanReviewEvent(feedbackQueue);
+        notifyInboxChanged(List.of(feedbackQueue));
+        feedbackQueue.markStatusPersisted();
+        return id;
+    }
+
+    /**
+     * 피드백 큐 일괄 영속화
+     *
+     * <p>머지 완료된 피드백들의 상태 변경을 하나의 트랜잭션에서 반영합니다.
+     *
+     * @param feedbackQueues 영속화할 피드백 큐 목록
+     */
+    @Transactional
+    public void persistAll(List<FeedbackQueue> feedbackQueues) {
+        if (feedbackQueues.isEmpty()) {
+            return;
+        }
+        feedbackQueueCommandPort.persistAll(feedbackQueues);
+        List<FeedbackQueueCounterDelta> deltas =
+                feedbackQueues.stream()
+                        .flatMap(feedbackQueue -> feedbackQueue.statusCounterDeltas().stream())
+                        .toList();
+        feedbackQueueStatsCommandPort.persistAll(
+                FeedbackQueueCounterDelta.combine(deltas), feedbackQueues.get(0).updatedAt());
+        feedbackQueues.forEach(this::registerHumanReviewEvent);
+        notifyInboxChanged(feedbackQueues);
+        feedbackQueues.forEach(FeedbackQueue::markStatusPersisted);
+    }
+
+    private void registerHumanReviewEvent(FeedbackQueue feedbackQueue) {
+        if (feedbackQueue.enteredHumanReview()) {
+            transactionEventRegistry.registerForPublish(
+                    FeedbackAwaitingHumanReviewEvent.from(
+                            feedbackQueue, feedbackQueue.updatedAt()));
+        }
+    }
+
+    private void notifyInboxChanged(List<FeedbackQueue> feedbackQueues) {
+        boolean changed =
+                feedbackQueues.stream()
+                        .anyMatch(
+                                feedbackQueue ->
+                                        feedbackQueue.enteredHumanReview()
+                                                || feedbackQueue.leftHumanReview());
+        if (!changed) {
+            return;
+        }
+        // 다른 노드는 버전 행으로, 커밋한 노드의 대기자는 로컬 신호로 즉시 깨움
+        humanReviewInboxVersionPort.increment();
+        transactionEventRegistry.registerObjectForPublish(HumanReviewInboxChangedEvent.instance());
     }
 }
@@ -7,6 +7,7 @@ import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
 import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.time.Instant;
 import java.util.List;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,6 +60,20 @@ public class FeedbackQueueReadManager {
                 .orElseThrow(() -> new FeedbackQueueNotFoundException(feedbackId));
     }
 
+    /**
+     * ID 목록으로 피드백 큐 일괄 조회
+     *
+     * @param feedbackIds 피드백 ID 목록
+     * @return 피드백 큐 목록 (존재하는 항목만, 순서 미보장)
+     */
+    @Transactional(readOnly = true)
+    public List<FeedbackQueue> findByIds(List<Long> feedbackIds) {
+        if (feedbackIds.isEmpty()) {
+            return List.of();
+        }
+        return feedbackQueueQueryPort.findByIds(feedbackIds);
+    }
+
     /**
      * ID로 피드백 큐 존재 여부 확인 후 반환
      *
@@ -160,6 +175,20 @@ public class FeedbackQueueReadManager {
         return feedbackQueueQueryPort.findByTarget(targetType, targetId);
     }
 
+    /**
+     * 보관 대상 피드백 조회
+     *
+     * @param statuses 대상 상태 목록 (종료 상태)
+     * @param updatedBefore 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 보관 대상 피드백 목록 (ID 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public List<FeedbackQueue> findArchivable(
+            List<FeedbackStatus> statuses, Instant updatedBefore, int limit) {
+        return feedbackQueueQueryPort.findArchivable(statuses, updatedBefore, limit);
+    }
+
     /**
      * 피드백 큐 존재 여부 확인
      *
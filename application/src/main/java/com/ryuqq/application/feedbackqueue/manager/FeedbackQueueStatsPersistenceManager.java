@@ -0,0 +1,65 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsQueryPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * FeedbackQueueStatsPersistenceManager - 피드백 큐 통계 보정 관리자
+ *
+ * <p>증감 기록 ID, 카운터 합계, 실제 건수를 하나의 REPEATABLE READ 스냅샷에서 읽은 뒤, 읽은 증감 기록만 삭제하고 실제 건수를 기준값으로 기록합니다.
+ * 스냅샷 이후 다른 트랜잭션이 커밋한 증감 기록은 삭제 대상에 포함되지 않으므로 기준값 위에 그대로 더해져 결과가 정확하게 유지됩니다.
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsPersistenceManager {
+
+    private final FeedbackQueueStatsQueryPort feedbackQueueStatsQueryPort;
+    private final FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort;
+
+    public FeedbackQueueStatsPersistenceManager(
+            FeedbackQueueStatsQueryPort feedbackQueueStatsQueryPort,
+            FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort) {
+        this.feedbackQueueStatsQueryPort = feedbackQueueStatsQueryPort;
+        this.feedbackQueueStatsCommandPort = feedbackQueueStatsCommandPort;
+    }
+
+    /**
+     * 카운터 보정 및 증감 기록 압축
+     *
+     * @param now 보정 시각
+     * @return 보정 결과
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public FeedbackQueueStatsReconcileResult reconcile(Instant now) {
+        List<Long> deltaIds = feedbackQueueStatsQueryPort.findDeltaIds();
+        List<FeedbackQueueCounter> recorded = feedbackQueueStatsQueryPort.sumCounters();
+        List<FeedbackQueueCounter> actual = feedbackQueueStatsQueryPort.countActual();
+
+        List<FeedbackQueueCounterDelta> drift = new ArrayList<>();
+        actual.forEach(counter -> drift.add(toDelta(counter, 1)));
+        recorded.forEach(counter -> drift.add(toDelta(counter, -1)));
+        int driftedKeyCount = FeedbackQueueCounterDelta.combine(drift).size();
+
+        feedbackQueueStatsCommandPort.deleteAll(deltaIds);
+        feedbackQueueStatsCommandPort.persistAll(
+                actual.stream().map(counter -> toDelta(counter, 1)).toList(), now);
+
+        return new FeedbackQueueStatsReconcileResult(deltaIds.size(), driftedKeyCount, now, false);
+    }
+
+    private FeedbackQueueCounterDelta toDelta(FeedbackQueueCounter counter, int sign) {
+        return new FeedbackQueueCounterDelta(counter.key(), sign * counter.count());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsQueryPort;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * FeedbackQueueStatsReadManager - 피드백 큐 통계 조회 관리자
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class FeedbackQueueStatsReadManager {
+
+    private final FeedbackQueueStatsQueryPort feedbackQueueStatsQueryPort;
+
+    public FeedbackQueueStatsReadManager(
+            FeedbackQueueStatsQueryPort feedbackQueueStatsQueryPort) {
+        this.feedbackQueueStatsQueryPort = feedbackQueueStatsQueryPort;
+    }
+
+    /**
+     * 키별 카운터 조회
+     *
+     * @return 키별 카운터
+     */
+    @Transactional(readOnly = true)
+    public List<FeedbackQueueCounter> findCounters() {
+        return feedbackQueueStatsQueryPort.sumCounters();
+    }
+
+    /**
+     * 백분위 위치별 마지막 상태 변경 시각 조회
+     *
+     * <p>각 조회는 (status, updated_at) 인덱스의 단건 seek 입니다. 카운터 조회 이후 건수가 줄어 해당 위치에 행이 없으면 결과에서 제외됩니다.
+     *
+     * @param probes 백분위 조회 조건 목록
+     * @return 조회 조건별 updated_at (입력 순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public Map<FeedbackQueueAgeProbe, Instant> findUpdatedAtByProbe(
+            List<FeedbackQueueAgeProbe> probes) {
+        Map<FeedbackQueueAgeProbe, Instant> result = new LinkedHashMap<>();
+        for (FeedbackQueueAgeProbe probe : probes) {
+            feedbackQueueStatsQueryPort
+                    .findUpdatedAtAt(probe)
+                    .ifPresent(updatedAt -> result.put(probe, updatedAt));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,33 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import com.ryuqq.application.feedbackqueue.port.out.HumanReviewInboxVersionPort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * HumanReviewInboxVersionReadManager - Human 리뷰 인박스 변경 버전 조회 관리자
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class HumanReviewInboxVersionReadManager {
+
+    private final HumanReviewInboxVersionPort humanReviewInboxVersionPort;
+
+    public HumanReviewInboxVersionReadManager(
+            HumanReviewInboxVersionPort humanReviewInboxVersionPort) {
+        this.humanReviewInboxVersionPort = humanReviewInboxVersionPort;
+    }
+
+    /**
+     * 현재 인박스 변경 버전 조회
+     *
+     * @return 인박스 변경 버전
+     */
+    @Transactional(readOnly = true)
+    public long findVersion() {
+        return humanReviewInboxVersionPort.findVersion();
+    }
+}
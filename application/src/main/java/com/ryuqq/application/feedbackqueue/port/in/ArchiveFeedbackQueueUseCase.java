@@ -0,0 +1,22 @@
+package com.ryuqq.application.feedbackqueue.port.in;
+
+import com.ryuqq.application.feedbackqueue.dto.command.ArchiveFeedbackQueueCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueArchiveResult;
+
+/**
+ * ArchiveFeedbackQueueUseCase - 종료 피드백 보관 UseCase
+ *
+ * <p>보존 기간이 지난 종료 상태 피드백을 월 단위 파티션 보관 테이블로 배치 이동합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface ArchiveFeedbackQueueUseCase {
+
+    /**
+     * 종료 피드백 보관 실행
+     *
+     * @param command 보관 커맨드
+     * @return 보관 실행 결과
+     */
+    FeedbackQueueArchiveResult execute(ArchiveFeedbackQueueCommand command);
+}
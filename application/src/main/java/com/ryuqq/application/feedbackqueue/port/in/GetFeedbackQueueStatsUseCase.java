@@ -0,0 +1,22 @@
+package com.ryuqq.application.feedbackqueue.port.in;
+
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+
+/**
+ * GetFeedbackQueueStatsUseCase - 피드백 큐 통계 조회 UseCase
+ *
+ * <p>상태/리스크/대상 타입별 건수와 처리 중 상태별 대기 시간 백분위를 조회합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface GetFeedbackQueueStatsUseCase {
+
+    /**
+     * 피드백 큐 통계 조회
+     *
+     * @param query 조회 쿼리
+     * @return 통계 결과
+     */
+    FeedbackQueueStatsResult execute(GetFeedbackQueueStatsQuery query);
+}
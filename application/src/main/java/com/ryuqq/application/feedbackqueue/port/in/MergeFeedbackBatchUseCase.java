@@ -0,0 +1,22 @@
+package com.ryuqq.application.feedbackqueue.port.in;
+
+import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackBatchCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
+
+/**
+ * MergeFeedbackBatchUseCase - 피드백 일괄 머지 UseCase
+ *
+ * <p>승인된 피드백 여러 건을 대상 테이블에 반영합니다. 동일 대상에 대한 MODIFY 피드백은 병합되어 대상 엔티티를 한 번만 저장합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface MergeFeedbackBatchUseCase {
+
+    /**
+     * 피드백 일괄 머지
+     *
+     * @param command 일괄 머지 커맨드
+     * @return 피드백별 머지 결과
+     */
+    FeedbackMergeBatchResult execute(MergeFeedbackBatchCommand command);
+}
@@ -0,0 +1,20 @@
+package com.ryuqq.application.feedbackqueue.port.in;
+
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+
+/**
+ * ReconcileFeedbackQueueStatsUseCase - 피드백 큐 통계 보정 UseCase
+ *
+ * <p>카운터를 실제 건수로 보정하고 누적된 증감 기록을 압축합니다. 스케줄러에서 주기적으로 호출합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface ReconcileFeedbackQueueStatsUseCase {
+
+    /**
+     * 통계 보정 실행
+     *
+     * @return 보정 결과
+     */
+    FeedbackQueueStatsReconcileResult execute();
+}
@@ -0,0 +1,23 @@
+package com.ryuqq.application.feedbackqueue.port.in;
+
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * WaitForHumanReviewUseCase - Human 리뷰 인박스 롱폴링 UseCase
+ *
+ * <p>새 Human 승인 대기 피드백이 생길 때까지 응답을 보류합니다. 대기 중에는 스레드를 점유하지 않도록 비동기 결과를 반환합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface WaitForHumanReviewUseCase {
+
+    /**
+     * Human 리뷰 인박스 변경 대기
+     *
+     * @param query 롱폴링 쿼리
+     * @return 인박스 결과 (변경 시 즉시, 아니면 대기 시간 경과 후 완료)
+     */
+    CompletableFuture<HumanReviewInboxResult> execute(WaitForHumanReviewQuery query);
+}
@@ -0,0 +1,24 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * FeedbackQueueArchiveCommandPort - 피드백 보관 테이블 명령 포트
+ *
+ * <p>종료된 피드백을 보관 테이블(feedback_queue_archive)에 기록하는 아웃바운드 포트입니다. 보관 테이블은 추가 전용(append-only)이며 원본 ID를
+ * 그대로 유지합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueArchiveCommandPort {
+
+    /**
+     * 피드백 일괄 보관
+     *
+     * @param feedbackQueues 보관할 피드백 목록 (종료 상태)
+     * @param archivedAt 보관 시각
+     */
+    void persistAll(List<FeedbackQueue> feedbackQueues, Instant archivedAt);
+}
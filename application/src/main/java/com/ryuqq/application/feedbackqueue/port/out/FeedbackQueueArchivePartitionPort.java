@@ -0,0 +1,38 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * FeedbackQueueArchivePartitionPort - 피드백 보관 테이블 파티션 관리 포트
+ *
+ * <p>보관 테이블(feedback_queue_archive)은 created_at 기준 월 단위 파티션과 마지막 {@code p_future} 파티션으로 구성됩니다. 신규 월
+ * 파티션 추가({@code p_future} 분할)와 만료 월 파티션 삭제를 담당합니다.
+ *
+ * <p>파티션 DDL은 암묵적 커밋을 일으키므로 트랜잭션 밖에서 호출해야 합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueArchivePartitionPort {
+
+    /**
+     * 월 파티션 목록 조회
+     *
+     * @return 월 파티션 목록 (오름차순). 파티션 테이블이 아니면(H2 등) 빈 목록
+     */
+    List<YearMonth> findMonthlyPartitions();
+
+    /**
+     * 월 파티션 추가 ({@code p_future} 앞에 순서대로 추가)
+     *
+     * @param months 추가할 월 (오름차순, 마지막 월 파티션 다음 달부터 연속)
+     */
+    void addMonthlyPartitions(List<YearMonth> months);
+
+    /**
+     * 월 파티션 삭제 (파티션의 보관 데이터도 함께 삭제)
+     *
+     * @param months 삭제할 월
+     */
+    void dropMonthlyPartitions(List<YearMonth> months);
+}
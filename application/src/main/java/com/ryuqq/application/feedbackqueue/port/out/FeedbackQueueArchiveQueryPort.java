@@ -0,0 +1,32 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FeedbackQueueArchiveQueryPort - 피드백 보관 테이블 조회 포트
+ *
+ * <p>보관 테이블은 원본 ID를 유지하므로 활성 테이블과 동일한 ID 커서로 조회할 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueArchiveQueryPort {
+
+    /**
+     * ID로 보관된 피드백 조회
+     *
+     * @param id 피드백 ID
+     * @return 보관된 피드백 Optional
+     */
+    Optional<FeedbackQueue> findById(Long id);
+
+    /**
+     * SliceCriteria 기반 보관 피드백 조회
+     *
+     * @param criteria 슬라이스 조회 조건
+     * @return 보관된 피드백 목록 (ID 내림차순)
+     */
+    List<FeedbackQueue> findBySliceCriteria(FeedbackQueueSliceCriteria criteria);
+}
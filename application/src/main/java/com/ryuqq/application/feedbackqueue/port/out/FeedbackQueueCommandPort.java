@@ -2,6 +2,7 @@ package com.ryuqq.application.feedbackqueue.port.out;
 
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import java.util.List;
 
 /**
  * FeedbackQueueCommandPort - 피드백 큐 명령 포트
@@ -10,7 +11,8 @@ import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
  *
  * <p>CPRT-002: CommandPort는 persist(Domain) 메서드 제공
  *
- * <p>Hard delete 금지 정책에 따라 delete 메서드는 제공하지 않습니다. 피드백 거절은 ProcessFeedbackUseCase의 REJECT 액션을 사용합니다.
+ * <p>Hard delete 금지 정책에 따라 일반 delete 메서드는 제공하지 않습니다. 피드백 거절은 ProcessFeedbackUseCase의 REJECT 액션을
+ * 사용합니다. 유일한 예외는 보관 테이블로 이동(archive)이 끝난 행을 제거하는 {@link #deleteArchived(List)}입니다.
  *
  * @author ryu-qqq
  */
@@ -23,4 +25,22 @@ public interface FeedbackQueueCommandPort {
      * @return 영속화된 FeedbackQueue ID
      */
     FeedbackQueueId persist(FeedbackQueue feedbackQueue);
+
+    /**
+     * 피드백 큐 일괄 영속화 (생성/수정)
+     *
+     * <p>단일 JDBC 배치로 flush 될 수 있도록 한 번에 저장합니다.
+     *
+     * @param feedbackQueues 영속화할 FeedbackQueue 목록
+     */
+    void persistAll(List<FeedbackQueue> feedbackQueues);
+
+    /**
+     * 보관 완료된 피드백 제거
+     *
+     * <p>보관 테이블에 기록된 피드백을 활성 테이블에서 단일 DELETE ... IN 문으로 제거합니다. 반드시 보관 기록과 같은 트랜잭션에서 호출해야 합니다.
+     *
+     * @param feedbackIds 보관 완료된 피드백 ID 목록
+     */
+    void deleteArchived(List<Long> feedbackIds);
 }
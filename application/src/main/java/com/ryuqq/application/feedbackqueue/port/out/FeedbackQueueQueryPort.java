@@ -6,6 +6,7 @@ import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,6 +37,16 @@ public interface FeedbackQueueQueryPort {
      */
     Optional<FeedbackQueue> findById(Long id);
 
+    /**
+     * ID 목록으로 피드백 큐 일괄 조회
+     *
+     * <p>IN 조건 단일 쿼리로 조회하며, 결과 순서는 보장하지 않습니다.
+     *
+     * @param ids 피드백 큐 ID 목록
+     * @return 피드백 큐 목록 (존재하는 항목만)
+     */
+    List<FeedbackQueue> findByIds(List<Long> ids);
+
     /**
      * 상태별 피드백 큐 목록 조회
      *
@@ -114,6 +125,19 @@ public interface FeedbackQueueQueryPort {
      */
     List<FeedbackQueue> findBySliceCriteria(FeedbackQueueSliceCriteria criteria);
 
+    /**
+     * 보관 대상 피드백 조회
+     *
+     * <p>지정한 상태이면서 마지막 상태 변경(updatedAt)이 기준 시각 이전인 피드백을 ID 오름차순으로 조회합니다.
+     *
+     * @param statuses 대상 상태 목록 (종료 상태)
+     * @param updatedBefore 기준 시각
+     * @param limit 최대 조회 건수
+     * @return 보관 대상 피드백 목록
+     */
+    List<FeedbackQueue> findArchivable(
+            List<FeedbackStatus> statuses, Instant updatedBefore, int limit);
+
     /**
      * 피드백 큐 존재 여부 확인
      *
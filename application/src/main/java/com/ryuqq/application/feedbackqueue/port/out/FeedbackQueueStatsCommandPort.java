@@ -0,0 +1,33 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * FeedbackQueueStatsCommandPort - 피드백 큐 통계 카운터 명령 포트
+ *
+ * <p>카운터는 추가 전용 증감 기록(delta)으로 저장됩니다. 상태 전이마다 같은 카운터 행을 UPDATE 하면 같은 상태로 몰리는 전이가 모두 한 행의 락에서
+ * 직렬화되므로, 전이 트랜잭션은 INSERT 만 수행하고 합산은 조회 시점과 보정 작업에서 처리합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueStatsCommandPort {
+
+    /**
+     * 카운터 증감 기록
+     *
+     * <p>반드시 상태 전이를 영속화하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param deltas 증감 목록 (빈 목록이면 무시)
+     * @param recordedAt 기록 시각
+     */
+    void persistAll(List<FeedbackQueueCounterDelta> deltas, Instant recordedAt);
+
+    /**
+     * 압축된 증감 기록 제거
+     *
+     * @param deltaIds 제거할 증감 기록 ID 목록
+     */
+    void deleteAll(List<Long> deltaIds);
+}
@@ -0,0 +1,44 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * FeedbackQueueStatsQueryPort - 피드백 큐 통계 조회 포트
+ *
+ * @author ryu-qqq
+ */
+public interface FeedbackQueueStatsQueryPort {
+
+    /**
+     * 카운터 조회 (키별 증감 기록 합산)
+     *
+     * @return 키별 카운터 (0 이하는 제외)
+     */
+    List<FeedbackQueueCounter> sumCounters();
+
+    /**
+     * 현재 보이는 증감 기록 ID 조회 (보정 시 압축 대상)
+     *
+     * @return 증감 기록 ID 목록
+     */
+    List<Long> findDeltaIds();
+
+    /**
+     * 활성 피드백의 실제 건수 집계 (보정용)
+     *
+     * @return 키별 실제 건수
+     */
+    List<FeedbackQueueCounter> countActual();
+
+    /**
+     * 백분위 위치의 마지막 상태 변경 시각 조회
+     *
+     * @param probe 백분위 조회 조건
+     * @return updated_at (해당 위치에 행이 없으면 empty)
+     */
+    Optional<Instant> findUpdatedAtAt(FeedbackQueueAgeProbe probe);
+}
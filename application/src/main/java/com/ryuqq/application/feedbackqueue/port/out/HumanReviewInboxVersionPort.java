@@ -0,0 +1,21 @@
+package com.ryuqq.application.feedbackqueue.port.out;
+
+/**
+ * HumanReviewInboxVersionPort - Human 리뷰 인박스 변경 버전 포트
+ *
+ * <p>인박스 변경을 다른 노드에 알리기 위한 단일 버전 값입니다. 목록 재조회 대신 이 값만 읽어 변경 여부를 판단합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface HumanReviewInboxVersionPort {
+
+    /** 버전 증가 (인박스를 바꾼 트랜잭션 안에서 호출) */
+    void increment();
+
+    /**
+     * 현재 버전 조회
+     *
+     * @return 인박스 변경 버전
+     */
+    long findVersion();
+}
@@ -0,0 +1,136 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.feedbackqueue.dto.command.ArchiveFeedbackQueueCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueArchiveResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchivePartitionManager;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchivePersistenceManager;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
+import com.ryuqq.application.feedbackqueue.port.in.ArchiveFeedbackQueueUseCase;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueArchiveLockKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+/**
+ * ArchiveFeedbackQueueService - 종료 피드백 보관 서비스
+ *
+ * <p>보존 기간이 지난 종료 상태 피드백을 보관 테이블로 배치 이동합니다. 활성 테이블(feedback_queue)에는 처리 중인 피드백만 남아 상태/리스크 인덱스와 커서
+ * 조회 범위가 일정하게 유지됩니다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>보관 락 획득 (대기 없음) - 실패 시 다른 노드가 보관 중이므로 건너뜀
+ *   <li>이후 읽기는 Primary로 고정 (복제 지연으로 이동한 배치를 다시 읽지 않도록)
+ *   <li>보관 월 파티션 유지보수 (앞으로 필요한 월 추가, 보관 기간이 지난 월 삭제)
+ *   <li>기준 시각 계산 (now - retentionDays)
+ *   <li>보관 대상 배치 조회 (종료 상태 + updatedAt &lt; 기준 시각, ID 오름차순)
+ *   <li>배치 단위 이동 (보관 INSERT + 활성 DELETE, 배치별 트랜잭션)
+ *   <li>대상이 없거나 최대 배치 수에 도달할 때까지 반복
+ * </ol>
+ *
+ * <p>월 계산은 UTC 기준입니다. 파티션을 1개월 이상 앞서 만들어 두므로 DB 시간대와의 몇 시간 차이는 영향이 없습니다.
+ *
+ * <p>배치별로 트랜잭션이 분리되므로 중간에 실패해도 이미 이동한 배치는 유지되며, 다음 실행에서 남은 대상부터 이어서 처리합니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지 → Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class ArchiveFeedbackQueueService implements ArchiveFeedbackQueueUseCase {
+
+    private final FeedbackQueueReadManager feedbackQueueReadManager;
+    private final FeedbackQueueArchivePersistenceManager feedbackQueueArchivePersistenceManager;
+    private final FeedbackQueueArchivePartitionManager feedbackQueueArchivePartitionManager;
+    private final FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+    private final DistributedLockPort distributedLockPort;
+
+    public ArchiveFeedbackQueueService(
+            FeedbackQueueReadManager feedbackQueueReadManager,
+            FeedbackQueueArchivePersistenceManager feedbackQueueArchivePersistenceManager,
+            FeedbackQueueArchivePartitionManager feedbackQueueArchivePartitionManager,
+            FeedbackQueueCommandFactory feedbackQueueCommandFactory,
+            DistributedLockPort distributedLockPort) {
+        this.feedbackQueueReadManager = feedbackQueueReadManager;
+        this.feedbackQueueArchivePersistenceManager = feedbackQueueArchivePersistenceManager;
+        this.feedbackQueueArchivePartitionManager = feedbackQueueArchivePartitionManager;
+        this.feedbackQueueCommandFactory = feedbackQueueCommandFactory;
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    @Override
+    public FeedbackQueueArchiveResult execute(ArchiveFeedbackQueueCommand command) {
+        FeedbackQueueArchiveLockKey lockKey = FeedbackQueueArchiveLockKey.of();
+        boolean acquired =
+                distributedLockPort.tryLock(
+                        lockKey, 0L, command.lockLeaseSeconds(), TimeUnit.SECONDS);
+        if (!acquired) {
+            return FeedbackQueueArchiveResult.skippedResult();
+        }
+
+        // 복제본은 이미 이동한 배치를 다시 돌려줄 수 있으므로 보관 읽기는 Primary로 고정
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return archive(command);
+        } finally {
+            distributedLockPort.unlock(lockKey);
+        }
+    }
+
+    private FeedbackQueueArchiveResult archive(ArchiveFeedbackQueueCommand command) {
+        Instant now = feedbackQueueCommandFactory.now();
+        YearMonth currentMonth = YearMonth.from(now.atZone(ZoneOffset.UTC));
+        int addedPartitionCount =
+                feedbackQueueArchivePartitionManager.addThrough(
+                        currentMonth.plusMonths(command.partitionLeadMonths()));
+        int droppedPartitionCount =
+                command.partitionRetentionMonths() == 0
+                        ? 0
+                        : feedbackQueueArchivePartitionManager.dropBefore(
+                                currentMonth.minusMonths(command.partitionRetentionMonths() - 1L));
+
+        Instant cutoff = now.minus(Duration.ofDays(command.retentionDays()));
+        List<FeedbackStatus> terminalStatuses = FeedbackStatus.terminalStatuses();
+
+        int archivedCount = 0;
+        int batchCount = 0;
+        boolean hasRemaining = false;
+        while (batchCount < command.maxBatches()) {
+            List<FeedbackQueue> batch =
+                    feedbackQueueReadManager.findArchivable(
+                            terminalStatuses, cutoff, command.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            feedbackQueueArchivePersistenceManager.archive(batch, now);
+            archivedCount += batch.size();
+            batchCount++;
+
+            if (batch.size() < command.batchSize()) {
+                break;
+            }
+            hasRemaining = batchCount == command.maxBatches();
+        }
+
+        return new FeedbackQueueArchiveResult(
+                archivedCount,
+                batchCount,
+                cutoff,
+                hasRemaining,
+                addedPartitionCount,
+                droppedPartitionCount,
+                false);
+    }
+}
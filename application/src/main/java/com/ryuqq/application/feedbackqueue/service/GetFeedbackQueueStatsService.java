@@ -0,0 +1,55 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueStatsAssembler;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueStatsQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueStatsReadManager;
+import com.ryuqq.application.feedbackqueue.port.in.GetFeedbackQueueStatsUseCase;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.springframework.stereotype.Service;
+
+/**
+ * GetFeedbackQueueStatsService - 피드백 큐 통계 조회 서비스
+ *
+ * <p>건수는 상태 전이와 함께 갱신되는 카운터에서 읽으므로 feedback_queue 를 GROUP BY 로 스캔하지 않습니다. 대기 시간 백분위는 카운터의 상태별 건수로
+ * offset 을 계산한 뒤 (status, updated_at) 인덱스에서 백분위당 한 건만 읽습니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지 → Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class GetFeedbackQueueStatsService implements GetFeedbackQueueStatsUseCase {
+
+    private final FeedbackQueueStatsQueryFactory feedbackQueueStatsQueryFactory;
+    private final FeedbackQueueStatsReadManager feedbackQueueStatsReadManager;
+    private final FeedbackQueueStatsAssembler feedbackQueueStatsAssembler;
+
+    public GetFeedbackQueueStatsService(
+            FeedbackQueueStatsQueryFactory feedbackQueueStatsQueryFactory,
+            FeedbackQueueStatsReadManager feedbackQueueStatsReadManager,
+            FeedbackQueueStatsAssembler feedbackQueueStatsAssembler) {
+        this.feedbackQueueStatsQueryFactory = feedbackQueueStatsQueryFactory;
+        this.feedbackQueueStatsReadManager = feedbackQueueStatsReadManager;
+        this.feedbackQueueStatsAssembler = feedbackQueueStatsAssembler;
+    }
+
+    @Override
+    public FeedbackQueueStatsResult execute(GetFeedbackQueueStatsQuery query) {
+        Instant now = feedbackQueueStatsQueryFactory.now();
+        List<FeedbackQueueCounter> counters = feedbackQueueStatsReadManager.findCounters();
+        List<FeedbackQueueAgeProbe> probes =
+                feedbackQueueStatsQueryFactory.toAgeProbes(counters, query);
+        Map<FeedbackQueueAgeProbe, Instant> updatedAtByProbe =
+                feedbackQueueStatsReadManager.findUpdatedAtByProbe(probes);
+        return feedbackQueueStatsAssembler.toResult(
+                counters, updatedAtByProbe, query.percentiles(), now);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
+import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackBatchCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeItemResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.internal.lock.FeedbackMergeLock;
+import com.ryuqq.application.feedbackqueue.internal.planner.FeedbackMergeGroup;
+import com.ryuqq.application.feedbackqueue.internal.planner.FeedbackMergePlanner;
+import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategyResolver;
+import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMergeValidatorResolver;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueuePersistenceManager;
+import com.ryuqq.application.feedbackqueue.port.in.MergeFeedbackBatchUseCase;
+import com.ryuqq.application.feedbackqueue.validator.FeedbackQueueValidator;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * MergeFeedbackBatchService - 피드백 일괄 머지 서비스
+ *
+ * <p>여러 피드백을 한 번에 머지합니다. 동일 대상(targetType, targetId)을 수정하는 MODIFY 피드백은 하나의 그룹으로 병합되어 대상 엔티티를 한 번만
+ * 조회/저장합니다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>피드백 일괄 조회 및 머지 가능 상태 검증 (IN 쿼리 1회)
+ *   <li>대상 엔티티 기준 머지 그룹 계획 (FeedbackMergePlanner)
+ *   <li>그룹별 대상 엔티티 락 획득 (FeedbackMergeLock) - 단건 머지와 같은 락
+ *   <li>락 안에서 그룹 피드백 재조회 및 검증 - 먼저 끝난 머지가 있으면 상태 검증에서 거절
+ *   <li>그룹별 병합 시점 재검증 (MergeValidator) - 그룹 대표 피드백 기준
+ *   <li>그룹별 머지 전략 실행 (대상 엔티티 1회 로드 → 순서대로 적용 → 1회 저장)
+ *   <li>피드백 상태 MERGED로 변경 및 그룹 단위 영속화 후 락 해제
+ * </ol>
+ *
+ * <p>그룹은 각자 락 안에서 커밋되므로, 중간 그룹에서 실패하더라도 앞선 그룹은 이미 MERGED로 저장되어 재시도 시 중복 반영되지 않습니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지 → Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class MergeFeedbackBatchService implements MergeFeedbackBatchUseCase {
+
+    private final FeedbackQueueValidator feedbackQueueValidator;
+    private final FeedbackQueuePersistenceManager feedbackQueuePersistenceManager;
+    private final FeedbackQueueAssembler feedbackQueueAssembler;
+    private final FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+    private final FeedbackMergePlanner feedbackMergePlanner;
+    private final FeedbackMergeStrategyResolver feedbackMergeStrategyResolver;
+    private final FeedbackMergeValidatorResolver feedbackMergeValidatorResolver;
+    private final FeedbackMergeLock feedbackMergeLock;
+
+    public MergeFeedbackBatchService(
+            FeedbackQueueValidator feedbackQueueValidator,
+            FeedbackQueuePersistenceManager feedbackQueuePersistenceManager,
+            FeedbackQueueAssembler feedbackQueueAssembler,
+            FeedbackQueueCommandFactory feedbackQueueCommandFactory,
+            FeedbackMergePlanner feedbackMergePlanner,
+            FeedbackMergeStrategyResolver feedbackMergeStrategyResolver,
+            FeedbackMergeValidatorResolver feedbackMergeValidatorResolver,
+            FeedbackMergeLock feedbackMergeLock) {
+        this.feedbackQueueValidator = feedbackQueueValidator;
+        this.feedbackQueuePersistenceManager = feedbackQueuePersistenceManager;
+        this.feedbackQueueAssembler = feedbackQueueAssembler;
+        this.feedbackQueueCommandFactory = feedbackQueueCommandFactory;
+        this.feedbackMergePlanner = feedbackMergePlanner;
+        this.feedbackMergeStrategyResolver = feedbackMergeStrategyResolver;
+        this.feedbackMergeValidatorResolver = feedbackMergeValidatorResolver;
+        this.feedbackMergeLock = feedbackMergeLock;
+    }
+
+    @Override
+    public FeedbackMergeBatchResult execute(MergeFeedbackBatchCommand command) {
+        List<FeedbackQueue> feedbackQueues =
+                feedbackQueueValidator.getAndValidateForMergeAll(command.feedbackIds());
+        List<FeedbackMergeGroup> groups = feedbackMergePlanner.plan(feedbackQueues);
+
+        List<FeedbackMergeItemResult> items = new ArrayList<>(feedbackQueues.size());
+        for (FeedbackMergeGroup group : groups) {
+            // 같은 대상 엔티티를 향한 머지는 단건 머지와 같은 락으로 노드 간에 직렬화
+            items.addAll(
+                    feedbackMergeLock.executeExclusively(
+                            group.head(), () -> mergeGroupExclusively(group)));
+        }
+
+        return new FeedbackMergeBatchResult(items, groups.size());
+    }
+
+    private List<FeedbackMergeItemResult> mergeGroupExclusively(FeedbackMergeGroup planned) {
+        // 락 대기 중 다른 머지가 끝났을 수 있으므로 커밋된 상태로 다시 검증
+        FeedbackMergeGroup group =
+                new FeedbackMergeGroup(
+                        planned.targetType(),
+                        feedbackQueueValidator.getAndValidateForMergeAll(planned.feedbackIds()));
+
+        // 병합 시점 재검증: 그룹 대표 피드백 기준 부모/대상 엔티티 존재 확인
+        feedbackMergeValidatorResolver.resolve(group.targetType()).validate(group.head());
+
+        Long mergedTargetId =
+                feedbackMergeStrategyResolver
+                        .resolve(group.targetType())
+                        .mergeCoalesced(group.feedbackQueues());
+
+        Instant now = feedbackQueueCommandFactory.now();
+        List<FeedbackMergeItemResult> items = new ArrayList<>(group.size());
+        for (FeedbackQueue feedbackQueue : group.feedbackQueues()) {
+            feedbackQueue.merge(now);
+            items.add(
+                    new FeedbackMergeItemResult(
+                            feedbackQueueAssembler.toResult(feedbackQueue),
+                            mergedTargetId,
+                            group.size()));
+        }
+
+        // 락 해제 전에 커밋하여 다음 머지가 MERGED 상태를 읽도록 함
+        feedbackQueuePersistenceManager.persistAll(group.feedbackQueues());
+        return items;
+    }
+}
@@ -4,6 +4,7 @@ import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
 import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.internal.lock.FeedbackMergeLock;
 import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategy;
 import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategyResolver;
 import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMergeValidator;
@@ -22,12 +23,13 @@ import org.springframework.stereotype.Service;
  * <p>처리 흐름:
  *
  * <ol>
- *   <li>피드백 검증 및 조회
+ *   <li>피드백 조회 후 대상 엔티티 락 획득 (FeedbackMergeLock)
+ *   <li>락 안에서 피드백 재조회 및 검증 - 먼저 끝난 머지가 있으면 상태 검증에서 거절
  *   <li>병합 시점 재검증 (MergeValidator) - 부모/대상 엔티티 존재 확인
  *   <li>타겟 타입별 머지 전략 조회
  *   <li>전략 실행 (대상 엔티티 생성/수정/삭제)
  *   <li>피드백 상태 MERGED로 변경
- *   <li>영속화
+ *   <li>영속화 후 락 해제
  * </ol>
  *
  * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
@@ -45,6 +47,7 @@ public class MergeFeedbackService implements MergeFeedbackUseCase {
     private final FeedbackQueueCommandFactory feedbackQueueCommandFactory;
     private final FeedbackMergeStrategyResolver feedbackMergeStrategyResolver;
     private final FeedbackMergeValidatorResolver feedbackMergeValidatorResolver;
+    private final FeedbackMergeLock feedbackMergeLock;
 
     public MergeFeedbackService(
             FeedbackQueueValidator feedbackQueueValidator,
@@ -52,20 +55,31 @@ public class MergeFeedbackService implements MergeFeedbackUseCase {
             FeedbackQueueAssembler feedbackQueueAssembler,
             FeedbackQueueCommandFactory feedbackQueueCommandFactory,
             FeedbackMergeStrategyResolver feedbackMergeStrategyResolver,
-            FeedbackMergeValidatorResolver feedbackMergeValidatorResolver) {
+            FeedbackMergeValidatorResolver feedbackMergeValidatorResolver,
+            FeedbackMergeLock feedbackMergeLock) {
         this.feedbackQueueValidator = feedbackQueueValidator;
         this.feedbackQueuePersistenceManager = feedbackQueuePersistenceManager;
         this.feedbackQueueAssembler = feedbackQueueAssembler;
         this.feedbackQueueCommandFactory = feedbackQueueCommandFactory;
         this.feedbackMergeStrategyResolver = feedbackMergeStrategyResolver;
         this.feedbackMergeValidatorResolver = feedbackMergeValidatorResolver;
+        this.feedbackMergeLock = feedbackMergeLock;
     }
 
     @Override
     public FeedbackQueueResult execute(MergeFeedbackCommand command) {
-        FeedbackQueue feedbackQueue =
+        FeedbackQueue candidate =
                 feedbackQueueValidator.getAndValidateForMerge(command.feedbackId());
 
+        // 같은 대상 엔티티를 향한 머지는 노드 간에 직렬화
+        return feedbackMergeLock.executeExclusively(
+                candidate, () -> mergeExclusively(command.feedbackId()));
+    }
+
+    private FeedbackQueueResult mergeExclusively(Long feedbackId) {
+        // 락 대기 중 다른 머지가 끝났을 수 있으므로 커밋된 상태로 다시 검증
+        FeedbackQueue feedbackQueue = feedbackQueueValidator.getAndValidateForMerge(feedbackId);
+
         // 병합 시점 재검증: 부모/대상 엔티티 존재 확인 (실패 시 예외)
         FeedbackMergeValidator mergeValidator =
                 feedbackMergeValidatorResolver.resolve(feedbackQueue.targetType());
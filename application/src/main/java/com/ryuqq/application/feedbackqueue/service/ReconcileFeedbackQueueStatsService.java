@@ -0,0 +1,62 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueStatsPersistenceManager;
+import com.ryuqq.application.feedbackqueue.port.in.ReconcileFeedbackQueueStatsUseCase;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueStatsReconcileLockKey;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+/**
+ * ReconcileFeedbackQueueStatsService - 피드백 큐 통계 보정 서비스
+ *
+ * <p>카운터를 실제 건수와 대조해 보정하고, 누적된 증감 기록을 키별 기준값 한 건으로 압축합니다. 정상 상태에서는 drift 가 0 이며, 0 이 아니면 카운터를 거치지
+ * 않은 쓰기 경로가 있다는 신호입니다.
+ *
+ * <p>보정은 보정 락(대기 없음)을 얻은 노드에서만 실행됩니다. 락 없이 두 노드가 동시에 보정하면 같은 증감 기록을 지우고 기준값을 두 번 기록해 카운터가 두 배가 됩니다.
+ * 보정 중 읽기는 복제 지연 없이 실제 건수와 대조하도록 Primary로 고정합니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지 → Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class ReconcileFeedbackQueueStatsService implements ReconcileFeedbackQueueStatsUseCase {
+
+    private static final long LOCK_LEASE_SECONDS = 60L;
+
+    private final FeedbackQueueStatsPersistenceManager feedbackQueueStatsPersistenceManager;
+    private final FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+    private final DistributedLockPort distributedLockPort;
+
+    public ReconcileFeedbackQueueStatsService(
+            FeedbackQueueStatsPersistenceManager feedbackQueueStatsPersistenceManager,
+            FeedbackQueueCommandFactory feedbackQueueCommandFactory,
+            DistributedLockPort distributedLockPort) {
+        this.feedbackQueueStatsPersistenceManager = feedbackQueueStatsPersistenceManager;
+        this.feedbackQueueCommandFactory = feedbackQueueCommandFactory;
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    @Override
+    public FeedbackQueueStatsReconcileResult execute() {
+        FeedbackQueueStatsReconcileLockKey lockKey = FeedbackQueueStatsReconcileLockKey.of();
+        boolean acquired =
+                distributedLockPort.tryLock(lockKey, 0L, LOCK_LEASE_SECONDS, TimeUnit.SECONDS);
+        if (!acquired) {
+            return FeedbackQueueStatsReconcileResult.skippedResult();
+        }
+
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return feedbackQueueStatsPersistenceManager.reconcile(
+                    feedbackQueueCommandFactory.now());
+        } finally {
+            distributedLockPort.unlock(lockKey);
+        }
+    }
+}
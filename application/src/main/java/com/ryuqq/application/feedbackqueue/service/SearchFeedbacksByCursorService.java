@@ -4,10 +4,13 @@ import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
 import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchiveReadManager;
 import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
 import com.ryuqq.application.feedbackqueue.port.in.SearchFeedbacksByCursorUseCase;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
 import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import org.springframework.stereotype.Service;
 
@@ -16,6 +19,9 @@ import org.springframework.stereotype.Service;
  *
  * <p>FeedbackQueue 목록을 커서 기반으로 복합 조건(상태/대상 타입/피드백 타입/리스크/액션)으로 조회합니다.
  *
+ * <p>includeArchived 옵션이 켜지면 보관 테이블(feedback_queue_archive)도 같은 조건으로 조회한 뒤 ID 내림차순으로 병합합니다. 보관 테이블은
+ * 원본 ID를 유지하므로 동일한 ID 커서가 두 테이블에 그대로 적용됩니다.
+ *
  * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
  *
  * @author ryu-qqq
@@ -26,14 +32,17 @@ public class SearchFeedbacksByCursorService implements SearchFeedbacksByCursorUs
 
     private final FeedbackQueueQueryFactory queryFactory;
     private final FeedbackQueueReadManager readManager;
+    private final FeedbackQueueArchiveReadManager archiveReadManager;
     private final FeedbackQueueAssembler assembler;
 
     public SearchFeedbacksByCursorService(
             FeedbackQueueQueryFactory queryFactory,
             FeedbackQueueReadManager readManager,
+            FeedbackQueueArchiveReadManager archiveReadManager,
             FeedbackQueueAssembler assembler) {
         this.queryFactory = queryFactory;
         this.readManager = readManager;
+        this.archiveReadManager = archiveReadManager;
         this.assembler = assembler;
     }
 
@@ -41,6 +50,22 @@ public class SearchFeedbacksByCursorService implements SearchFeedbacksByCursorUs
     public FeedbackQueueSliceResult execute(FeedbackQueueSearchParams searchParams) {
         FeedbackQueueSliceCriteria criteria = queryFactory.createSliceCriteria(searchParams);
         List<FeedbackQueue> feedbackQueues = readManager.findBySliceCriteria(criteria);
+        if (searchParams.includesArchived()) {
+            feedbackQueues =
+                    mergeByIdDesc(
+                            feedbackQueues,
+                            archiveReadManager.findBySliceCriteria(criteria),
+                            criteria.fetchSize());
+        }
         return assembler.toSliceResult(feedbackQueues, criteria.size());
     }
+
+    private List<FeedbackQueue> mergeByIdDesc(
+            List<FeedbackQueue> active, List<FeedbackQueue> archived, int fetchSize) {
+        List<FeedbackQueue> merged = new ArrayList<>(active.size() + archived.size());
+        merged.addAll(active);
+        merged.addAll(archived);
+        merged.sort(Comparator.comparing(FeedbackQueue::idValue).reversed());
+        return merged.size() > fetchSize ? merged.subList(0, fetchSize) : merged;
+    }
 }
@@ -0,0 +1,63 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInbox;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInboxSnapshot;
+import com.ryuqq.application.feedbackqueue.port.in.WaitForHumanReviewUseCase;
+import java.util.concurrent.CompletableFuture;
+import org.springframework.stereotype.Service;
+
+/**
+ * WaitForHumanReviewService - Human 리뷰 인박스 롱폴링 서비스
+ *
+ * <p>클라이언트가 마지막으로 본 인박스 버전(cursor)이 현재 버전과 같으면 인박스 내용이 바뀔 때까지 응답을 보류하고, 바뀌면 {@link
+ * HumanReviewInbox}가 조회해 둔 스냅샷에서 요청 크기만큼 잘라 반환합니다. 대기자별로 DB를 조회하지 않으며, 대기 시간 내 변경이 없으면 unchanged
+ * 결과를 반환합니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class WaitForHumanReviewService implements WaitForHumanReviewUseCase {
+
+    private final HumanReviewInbox humanReviewInbox;
+    private final FeedbackQueueAssembler feedbackQueueAssembler;
+
+    public WaitForHumanReviewService(
+            HumanReviewInbox humanReviewInbox, FeedbackQueueAssembler feedbackQueueAssembler) {
+        this.humanReviewInbox = humanReviewInbox;
+        this.feedbackQueueAssembler = feedbackQueueAssembler;
+    }
+
+    @Override
+    public CompletableFuture<HumanReviewInboxResult> execute(WaitForHumanReviewQuery query) {
+        if (query.isInitial()) {
+            return humanReviewInbox
+                    .refresh()
+                    .thenApply(
+                            snapshot ->
+                                    HumanReviewInboxResult.changed(
+                                            snapshot.version(), toSliceResult(snapshot, query)));
+        }
+
+        long seen = query.cursor();
+        return humanReviewInbox
+                .awaitChange(seen, query.waitTimeout())
+                .thenApply(
+                        snapshot ->
+                                snapshot.version() == seen
+                                        ? HumanReviewInboxResult.unchanged(seen)
+                                        : HumanReviewInboxResult.changed(
+                                                snapshot.version(),
+                                                toSliceResult(snapshot, query)));
+    }
+
+    private FeedbackQueueSliceResult toSliceResult(
+            HumanReviewInboxSnapshot snapshot, WaitForHumanReviewQuery query) {
+        return feedbackQueueAssembler.toSliceResult(snapshot.feedbackQueues(), query.size());
+    }
+}
@@ -8,6 +8,12 @@ import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackAction;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.springframework.stereotype.Component;
 
 /**
@@ -70,6 +76,34 @@ public class FeedbackQueueValidator {
         return feedbackQueue;
     }
 
+    /**
+     * 일괄 머지를 위한 조회 및 검증
+     *
+     * <p>IN 조건 단일 쿼리로 조회한 뒤 모든 항목의 머지 가능 상태를 검증합니다. 중복 ID는 한 번만 처리하며, 반환 순서는 요청 ID 순서를 따릅니다.
+     *
+     * @param feedbackIds 피드백 ID 목록
+     * @return 검증된 피드백 큐 목록
+     * @throws FeedbackQueueNotFoundException 존재하지 않는 피드백이 하나라도 있으면
+     * @throws InvalidFeedbackStatusTransitionException 머지 불가 상태인 피드백이 하나라도 있으면
+     */
+    public List<FeedbackQueue> getAndValidateForMergeAll(List<Long> feedbackIds) {
+        List<Long> distinctIds = new ArrayList<>(new LinkedHashSet<>(feedbackIds));
+        Map<Long, FeedbackQueue> loaded =
+                feedbackQueueReadManager.findByIds(distinctIds).stream()
+                        .collect(Collectors.toMap(FeedbackQueue::idValue, Function.identity()));
+
+        List<FeedbackQueue> result = new ArrayList<>(distinctIds.size());
+        for (Long feedbackId : distinctIds) {
+            FeedbackQueue feedbackQueue = loaded.get(feedbackId);
+            if (feedbackQueue == null) {
+                throw new FeedbackQueueNotFoundException(feedbackId);
+            }
+            validateCanMerge(feedbackQueue);
+            result.add(feedbackQueue);
+        }
+        return result;
+    }
+
     /**
      * 피드백 큐 존재 여부 검증
      *
@@ -0,0 +1,18 @@
+package com.ryuqq.application.mcp.dto.query;
+
+import java.util.List;
+
+/**
+ * ClassifyClassNamesQuery - 클래스명 일괄 분류 쿼리
+ *
+ * <p>완전한 클래스명(예: {@code com.ryuqq.domain.order.aggregate.Order})을 ClassType/PackageStructure로
+ * 분류합니다.
+ *
+ * <p>CDTO-001: Record 필수.
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param classNames 완전한 클래스명 목록 (필수)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ClassifyClassNamesQuery(Long architectureId, List<String> classNames) {}
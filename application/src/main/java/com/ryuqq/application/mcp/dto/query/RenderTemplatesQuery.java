@@ -0,0 +1,55 @@
+package com.ryuqq.application.mcp.dto.query;
+
+import com.ryuqq.application.common.template.TemplateSyntax;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RenderTemplatesQuery - 템플릿 일괄 렌더링 쿼리
+ *
+ * <p>ClassTemplate template_code, ConfigFileTemplate content, ResourceTemplate template_content를
+ * 요청한 변수로 치환합니다. 한 요청에 여러 항목을 담아 기능 하나에 필요한 클래스/설정 파일을 한 번에 생성할 수 있습니다.
+ *
+ * <p>CDTO-001: Record 필수.
+ *
+ * @param items 렌더링 항목 목록 (필수, 요청 순서대로 결과 반환)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record RenderTemplatesQuery(List<RenderItem> items) {
+
+    /**
+     * 렌더링 항목
+     *
+     * @param templateType 템플릿 종류
+     * @param templateId 템플릿 ID
+     * @param variables 변수 이름 → 값 (예: Domain → Order, domain → order)
+     */
+    public record RenderItem(
+            TemplateType templateType, Long templateId, Map<String, String> variables) {
+
+        public RenderItem {
+            variables = variables != null ? Map.copyOf(variables) : Map.of();
+        }
+    }
+
+    /** 템플릿 종류와 자리표시자 문법 */
+    public enum TemplateType {
+        /** ClassTemplate template_code - {@code {Domain}} */
+        CLASS(TemplateSyntax.SINGLE_BRACE),
+        /** ConfigFileTemplate content - {@code {{project_name}}} */
+        CONFIG_FILE(TemplateSyntax.DOUBLE_BRACE),
+        /** ResourceTemplate template_content - {@code {profile}} */
+        RESOURCE(TemplateSyntax.SINGLE_BRACE);
+
+        private final TemplateSyntax syntax;
+
+        TemplateType(TemplateSyntax syntax) {
+            this.syntax = syntax;
+        }
+
+        public TemplateSyntax syntax() {
+            return syntax;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ryuqq.application.mcp.dto.query;
+
+import java.util.List;
+
+/**
+ * ResolvePathsQuery - 파일 경로 → Module/PackageStructure 해석 쿼리
+ *
+ * <p>저장소 루트 기준 상대 경로(예: {@code domain/src/main/java/com/ryuqq/domain/order/aggregate/Order.java})를
+ * 해석합니다.
+ *
+ * <p>CDTO-001: Record 필수.
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param paths 저장소 상대 파일 경로 목록 (필수)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ResolvePathsQuery(Long architectureId, List<String> paths) {}
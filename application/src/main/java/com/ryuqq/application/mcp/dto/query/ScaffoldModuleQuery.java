@@ -0,0 +1,26 @@
+package com.ryuqq.application.mcp.dto.query;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ScaffoldModuleQuery - 모듈 스캐폴드 쿼리
+ *
+ * <p>모듈의 ResourceTemplate, 패키지 구조별 ClassTemplate, (선택한 도구의) ConfigFileTemplate을 렌더링한 파일 트리를 만듭니다.
+ *
+ * <p>DTO-001: Record 필수.
+ *
+ * @param moduleId 모듈 ID
+ * @param variables 변수 이름 → 값 (경로와 본문에 공통 적용)
+ * @param toolTypes 설정 파일 도구 타입 목록 (비어 있으면 설정 파일 제외)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldModuleQuery(
+        Long moduleId, Map<String, String> variables, List<String> toolTypes) {
+
+    public ScaffoldModuleQuery {
+        variables = variables != null ? Map.copyOf(variables) : Map.of();
+        toolTypes = toolTypes != null ? List.copyOf(toolTypes) : List.of();
+    }
+}
@@ -0,0 +1,26 @@
+package com.ryuqq.application.mcp.dto.query;
+
+import java.util.List;
+
+/**
+ * ValidateImportEdgesQuery - import 간선 레이어 의존성 검사 쿼리
+ *
+ * <p>저장소의 import 그래프를 (fromPackage, toPackage) 간선 목록으로 받아 레이어 의존성 규칙 위반을 찾습니다.
+ *
+ * <p>CDTO-001: Record 필수.
+ *
+ * @param architectureId 아키텍처 ID (필수)
+ * @param edges import 간선 목록 (필수)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ValidateImportEdgesQuery(Long architectureId, List<ImportEdge> edges) {
+
+    /**
+     * import 간선
+     *
+     * @param fromPackage import하는 클래스의 패키지 (예: com.ryuqq.domain.order.aggregate)
+     * @param toPackage import되는 클래스의 패키지
+     */
+    public record ImportEdge(String fromPackage, String toPackage) {}
+}
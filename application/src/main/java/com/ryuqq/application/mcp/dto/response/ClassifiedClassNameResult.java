@@ -0,0 +1,38 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ClassifiedClassNameResult - 클래스명 분류 결과
+ *
+ * <p>일치하는 naming_pattern이 없으면 className 외 모든 값이 null입니다. 패키지가 없는 단순 클래스명은 클래스 타입만 채워집니다.
+ *
+ * @param className 요청한 클래스명
+ * @param classTypeId 클래스 타입 ID (nullable)
+ * @param classType 클래스 타입 코드 (nullable)
+ * @param structureId 패키지 구조 ID (nullable)
+ * @param pathPattern 일치한 패키지 경로 패턴 (nullable)
+ * @param moduleId 모듈 ID (nullable)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ClassifiedClassNameResult(
+        String className,
+        Long classTypeId,
+        String classType,
+        Long structureId,
+        String pathPattern,
+        Long moduleId) {
+
+    /**
+     * 분류되지 않은 클래스명
+     *
+     * @param className 요청한 클래스명
+     * @return 미분류 결과
+     */
+    public static ClassifiedClassNameResult unclassified(String className) {
+        return new ClassifiedClassNameResult(className, null, null, null, null, null);
+    }
+
+    public boolean isClassified() {
+        return classTypeId != null;
+    }
+}
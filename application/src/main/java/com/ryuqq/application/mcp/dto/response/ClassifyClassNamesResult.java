@@ -0,0 +1,14 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * ClassifyClassNamesResult - 클래스명 일괄 분류 결과
+ *
+ * @param classes 클래스명별 분류 결과 (요청 순서)
+ * @param classifiedCount 클래스 타입이 분류된 클래스명 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ClassifyClassNamesResult(
+        List<ClassifiedClassNameResult> classes, int classifiedCount) {}
@@ -0,0 +1,25 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import java.util.Map;
+
+/**
+ * CompiledTemplatesResult - 컴파일된 템플릿 조회 결과
+ *
+ * @param templates 템플릿 ID → 컴파일 템플릿
+ * @param compiledCount 이번 조회에서 새로 컴파일한 템플릿 수 (나머지는 캐시 사용)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record CompiledTemplatesResult(Map<Long, CompiledTemplate> templates, int compiledCount) {
+
+    /**
+     * 템플릿 하나 조회
+     *
+     * @param templateId 템플릿 ID
+     * @return 컴파일 템플릿
+     */
+    public CompiledTemplate get(Long templateId) {
+        return templates.get(templateId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ImportEdgeViolationResult - 레이어 의존성 규칙을 위반한 import 간선
+ *
+ * @param fromPackage import하는 클래스의 패키지
+ * @param toPackage import되는 클래스의 패키지
+ * @param fromLayer from 패키지의 레이어 코드
+ * @param toLayer to 패키지의 레이어 코드
+ * @param violationType 위반 유형 (FORBIDDEN: 금지 규칙, UNDECLARED: 허용 규칙으로 도달 불가)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ImportEdgeViolationResult(
+        String fromPackage,
+        String toPackage,
+        String fromLayer,
+        String toLayer,
+        String violationType) {}
@@ -0,0 +1,16 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * ModuleScaffoldResult - 모듈 스캐폴드 파일 트리
+ *
+ * @param moduleId 모듈 ID
+ * @param modulePath 저장소 루트 기준 모듈 경로
+ * @param files 파일 목록 (설정 파일, 리소스, 클래스 순서)
+ * @param skippedCount 경로를 만들 수 없거나 중복이라 제외한 템플릿 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ModuleScaffoldResult(
+        Long moduleId, String modulePath, List<ScaffoldFileResult> files, int skippedCount) {}
@@ -0,0 +1,13 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * RenderTemplatesResult - 템플릿 일괄 렌더링 결과
+ *
+ * @param templates 렌더링 결과 (요청 순서)
+ * @param compiledCount 이번 요청에서 새로 컴파일한 템플릿 수 (나머지는 캐시 사용)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record RenderTemplatesResult(List<RenderedTemplateResult> templates, int compiledCount) {}
@@ -0,0 +1,16 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * RenderedTemplateResult - 템플릿 렌더링 결과 항목
+ *
+ * @param templateType 템플릿 종류 (CLASS, CONFIG_FILE, RESOURCE)
+ * @param templateId 템플릿 ID
+ * @param content 렌더링 결과 (값이 없는 자리표시자는 원문 유지)
+ * @param missingVariables 템플릿이 참조하지만 값이 주어지지 않은 변수 이름
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record RenderedTemplateResult(
+        String templateType, Long templateId, String content, List<String> missingVariables) {}
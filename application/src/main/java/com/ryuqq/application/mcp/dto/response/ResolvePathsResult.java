@@ -0,0 +1,13 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * ResolvePathsResult - 파일 경로 일괄 해석 결과
+ *
+ * @param paths 경로별 해석 결과 (요청 순서)
+ * @param resolvedCount Module까지 해석된 경로 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ResolvePathsResult(List<ResolvedPathResult> paths, int resolvedCount) {}
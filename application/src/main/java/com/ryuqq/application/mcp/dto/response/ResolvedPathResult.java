@@ -0,0 +1,40 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ResolvedPathResult - 파일 경로 해석 결과
+ *
+ * <p>일치하는 Module이 없으면 path 외 모든 값이 null이고, Module만 일치하면 structure/classType 값이 null입니다.
+ *
+ * @param path 요청한 파일 경로
+ * @param moduleId 모듈 ID (nullable)
+ * @param modulePath 일치한 모듈 경로 (nullable)
+ * @param structureId 패키지 구조 ID (nullable)
+ * @param pathPattern 일치한 패키지 경로 패턴 (nullable)
+ * @param classTypeId 파일명으로 추론한 클래스 타입 ID (nullable)
+ * @param classType 파일명으로 추론한 클래스 타입 코드 (nullable)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ResolvedPathResult(
+        String path,
+        Long moduleId,
+        String modulePath,
+        Long structureId,
+        String pathPattern,
+        Long classTypeId,
+        String classType) {
+
+    /**
+     * 일치하는 Module이 없는 경로
+     *
+     * @param path 요청한 파일 경로
+     * @return 미해석 결과
+     */
+    public static ResolvedPathResult unresolved(String path) {
+        return new ResolvedPathResult(path, null, null, null, null, null, null);
+    }
+
+    public boolean isResolved() {
+        return moduleId != null;
+    }
+}
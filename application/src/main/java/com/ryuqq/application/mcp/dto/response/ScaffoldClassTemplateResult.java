@@ -0,0 +1,13 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ScaffoldClassTemplateResult - 스캐폴드용 ClassTemplate 위치 정보 (template_code 제외)
+ *
+ * @param templateId 템플릿 ID
+ * @param pathPattern 패키지 경로 패턴 (예: {base_package}.{domain}.aggregate)
+ * @param namingPattern 클래스명 패턴 (예: {Domain}Controller, nullable)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldClassTemplateResult(
+        Long templateId, String pathPattern, String namingPattern) {}
@@ -0,0 +1,37 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * ScaffoldFileResult - 스캐폴드 파일 한 개
+ *
+ * <p>본문은 미리 렌더링하지 않고 {@link #writeTo(Appendable)} 호출 시 출력 대상에 바로 씁니다. 파일 수나 본문 크기와 관계없이 렌더링 결과 전체를
+ * 메모리에 모으지 않습니다.
+ *
+ * @param path 저장소 루트 기준 파일 경로
+ * @param templateType 템플릿 종류 (CLASS, CONFIG_FILE, RESOURCE)
+ * @param templateId 템플릿 ID
+ * @param template 컴파일 템플릿
+ * @param variables 변수 이름 → 값
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldFileResult(
+        String path,
+        String templateType,
+        Long templateId,
+        CompiledTemplate template,
+        Map<String, String> variables) {
+
+    /**
+     * 본문을 출력 대상에 렌더링
+     *
+     * @param out 출력 대상
+     * @throws IOException 출력 대상 쓰기 실패
+     */
+    public void writeTo(Appendable out) throws IOException {
+        template.renderTo(out, variables);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ScaffoldFileTemplateResult - 스캐폴드용 파일 템플릿 위치 정보 (본문 제외)
+ *
+ * <p>ResourceTemplate은 모듈 기준 상대 경로, ConfigFileTemplate은 저장소 루트 기준 경로입니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param filePath 파일 경로 (파일명 포함)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldFileTemplateResult(Long templateId, String filePath) {}
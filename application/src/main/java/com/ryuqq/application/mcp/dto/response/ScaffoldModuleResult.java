@@ -0,0 +1,14 @@
+package com.ryuqq.application.mcp.dto.response;
+
+/**
+ * ScaffoldModuleResult - 스캐폴드 대상 모듈
+ *
+ * @param moduleId 모듈 ID
+ * @param modulePath 저장소 루트 기준 모듈 경로 (예: adapter-in/rest-api)
+ * @param architectureId 아키텍처 ID
+ * @param techStackId 기술 스택 ID
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ScaffoldModuleResult(
+        Long moduleId, String modulePath, Long architectureId, Long techStackId) {}
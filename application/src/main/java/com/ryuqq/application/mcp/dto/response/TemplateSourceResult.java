@@ -0,0 +1,14 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.time.Instant;
+
+/**
+ * TemplateSourceResult - 템플릿 원문
+ *
+ * @param templateId 템플릿 ID
+ * @param updatedAt 템플릿 수정 일시
+ * @param source 템플릿 원문 (template_code 또는 content)
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record TemplateSourceResult(Long templateId, Instant updatedAt, String source) {}
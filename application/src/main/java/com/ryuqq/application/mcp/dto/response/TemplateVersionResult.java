@@ -0,0 +1,15 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.time.Instant;
+
+/**
+ * TemplateVersionResult - 템플릿 버전 (원문 제외)
+ *
+ * <p>컴파일 캐시 적중 여부를 판단하는 용도이며, 원문 컬럼(TEXT)은 조회하지 않습니다.
+ *
+ * @param templateId 템플릿 ID
+ * @param updatedAt 템플릿 수정 일시
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record TemplateVersionResult(Long templateId, Instant updatedAt) {}
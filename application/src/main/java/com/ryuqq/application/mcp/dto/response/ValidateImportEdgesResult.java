@@ -0,0 +1,26 @@
+package com.ryuqq.application.mcp.dto.response;
+
+import java.util.List;
+
+/**
+ * ValidateImportEdgesResult - import 간선 레이어 의존성 검사 결과
+ *
+ * @param violations 위반 간선 (요청 순서)
+ * @param checkedCount 양쪽 패키지가 레이어로 해석되어 검사한 간선 수
+ * @param unresolvedCount 레이어로 해석되지 않아 검사하지 않은 간선 수
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public record ValidateImportEdgesResult(
+        List<ImportEdgeViolationResult> violations, int checkedCount, int unresolvedCount) {
+
+    /**
+     * 검사하지 않은 결과
+     *
+     * @param edgeCount 요청 간선 수
+     * @return 모든 간선이 미해석인 결과
+     */
+    public static ValidateImportEdgesResult unchecked(int edgeCount) {
+        return new ValidateImportEdgesResult(List.of(), 0, edgeCount);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.application.mcp.manager;
+
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery.ImportEdge;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
+import com.ryuqq.application.mcp.port.out.McpImportEdgeQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * McpImportEdgeReadManager - import 간선 레이어 의존성 검사 전용 ReadManager
+ *
+ * <p>MGR-001: Manager 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpImportEdgeReadManager {
+
+    private final McpImportEdgeQueryPort mcpImportEdgeQueryPort;
+
+    public McpImportEdgeReadManager(McpImportEdgeQueryPort mcpImportEdgeQueryPort) {
+        this.mcpImportEdgeQueryPort = mcpImportEdgeQueryPort;
+    }
+
+    /**
+     * 레이어 의존성 규칙 위반 간선 조회
+     *
+     * <p>행렬이 비어 있거나 오래된 경우에만 적재 쿼리가 실행됩니다.
+     *
+     * @param architectureId 아키텍처 ID
+     * @param edges import 간선 목록
+     * @return 위반 간선과 검사 건수
+     */
+    @Transactional(readOnly = true)
+    public ValidateImportEdgesResult findViolations(Long architectureId, List<ImportEdge> edges) {
+        if (architectureId == null || edges.isEmpty()) {
+            return ValidateImportEdgesResult.unchecked(edges.size());
+        }
+        return mcpImportEdgeQueryPort.findViolations(architectureId, edges);
+    }
+}
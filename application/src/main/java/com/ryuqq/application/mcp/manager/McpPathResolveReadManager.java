@@ -0,0 +1,58 @@
+package com.ryuqq.application.mcp.manager;
+
+import com.ryuqq.application.mcp.dto.response.ClassifiedClassNameResult;
+import com.ryuqq.application.mcp.dto.response.ResolvedPathResult;
+import com.ryuqq.application.mcp.port.out.McpPathResolveQueryPort;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * McpPathResolveReadManager - 파일 경로 해석 / 클래스명 분류 전용 ReadManager
+ *
+ * <p>MGR-001: Manager 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpPathResolveReadManager {
+
+    private final McpPathResolveQueryPort mcpPathResolveQueryPort;
+
+    public McpPathResolveReadManager(McpPathResolveQueryPort mcpPathResolveQueryPort) {
+        this.mcpPathResolveQueryPort = mcpPathResolveQueryPort;
+    }
+
+    /**
+     * 파일 경로 일괄 해석
+     *
+     * <p>색인이 비어 있거나 오래된 경우에만 적재 쿼리가 실행됩니다.
+     *
+     * @param architectureId 아키텍처 ID
+     * @param paths 저장소 상대 파일 경로 목록
+     * @return 경로별 해석 결과 (요청 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<ResolvedPathResult> resolve(Long architectureId, List<String> paths) {
+        if (architectureId == null || paths.isEmpty()) {
+            return paths.stream().map(ResolvedPathResult::unresolved).toList();
+        }
+        return mcpPathResolveQueryPort.findByPaths(architectureId, paths);
+    }
+
+    /**
+     * 클래스명 일괄 분류
+     *
+     * @param architectureId 아키텍처 ID
+     * @param classNames 완전한 클래스명 목록
+     * @return 클래스명별 분류 결과 (요청 순서)
+     */
+    @Transactional(readOnly = true)
+    public List<ClassifiedClassNameResult> classify(Long architectureId, List<String> classNames) {
+        if (architectureId == null || classNames.isEmpty()) {
+            return classNames.stream().map(ClassifiedClassNameResult::unclassified).toList();
+        }
+        return mcpPathResolveQueryPort.findByClassNames(architectureId, classNames);
+    }
+}
@@ -0,0 +1,81 @@
+package com.ryuqq.application.mcp.manager;
+
+import com.ryuqq.application.mcp.dto.response.ScaffoldClassTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldModuleResult;
+import com.ryuqq.application.mcp.port.out.McpScaffoldQueryPort;
+import com.ryuqq.domain.module.exception.ModuleNotFoundException;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * McpScaffoldReadManager - 모듈 스캐폴드용 템플릿 위치 조회 전용 ReadManager
+ *
+ * <p>MGR-001: Manager 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpScaffoldReadManager {
+
+    private final McpScaffoldQueryPort mcpScaffoldQueryPort;
+
+    public McpScaffoldReadManager(McpScaffoldQueryPort mcpScaffoldQueryPort) {
+        this.mcpScaffoldQueryPort = mcpScaffoldQueryPort;
+    }
+
+    /**
+     * 모듈 조회 (존재 필수)
+     *
+     * @param moduleId 모듈 ID
+     * @return 모듈 정보
+     * @throws ModuleNotFoundException 모듈이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public ScaffoldModuleResult getModule(Long moduleId) {
+        return mcpScaffoldQueryPort
+                .findModule(moduleId)
+                .orElseThrow(() -> new ModuleNotFoundException(moduleId));
+    }
+
+    /**
+     * 모듈 ClassTemplate 위치 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return ClassTemplate 위치 정보
+     */
+    @Transactional(readOnly = true)
+    public List<ScaffoldClassTemplateResult> findClassTemplates(Long moduleId) {
+        return mcpScaffoldQueryPort.findClassTemplates(moduleId);
+    }
+
+    /**
+     * 모듈 ResourceTemplate 위치 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return ResourceTemplate 위치 정보
+     */
+    @Transactional(readOnly = true)
+    public List<ScaffoldFileTemplateResult> findResourceTemplates(Long moduleId) {
+        return mcpScaffoldQueryPort.findResourceTemplates(moduleId);
+    }
+
+    /**
+     * 설정 파일 템플릿 위치 조회
+     *
+     * @param module 모듈 정보 (기술 스택/아키텍처)
+     * @param toolTypes 도구 타입 목록 (비어 있으면 조회하지 않음)
+     * @return ConfigFileTemplate 위치 정보
+     */
+    @Transactional(readOnly = true)
+    public List<ScaffoldFileTemplateResult> findConfigFileTemplates(
+            ScaffoldModuleResult module, List<String> toolTypes) {
+        if (toolTypes.isEmpty()) {
+            return List.of();
+        }
+        return mcpScaffoldQueryPort.findConfigFileTemplates(
+                module.techStackId(), module.architectureId(), toolTypes);
+    }
+}
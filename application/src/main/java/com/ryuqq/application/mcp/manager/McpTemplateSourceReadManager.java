@@ -0,0 +1,118 @@
+package com.ryuqq.application.mcp.manager;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.common.template.CompiledTemplateCache;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.response.CompiledTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.TemplateSourceResult;
+import com.ryuqq.application.mcp.dto.response.TemplateVersionResult;
+import com.ryuqq.application.mcp.port.out.McpTemplateSourceQueryPort;
+import com.ryuqq.domain.classtemplate.exception.ClassTemplateNotFoundException;
+import com.ryuqq.domain.common.exception.DomainException;
+import com.ryuqq.domain.configfiletemplate.exception.ConfigFileTemplateNotFoundException;
+import com.ryuqq.domain.resourcetemplate.exception.ResourceTemplateNotFoundException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * McpTemplateSourceReadManager - 컴파일된 템플릿 조회 전용 ReadManager
+ *
+ * <p>템플릿은 (종류, ID) 키와 updated_at 버전으로 컴파일 캐시에 보관합니다. 조회마다 버전만 읽고, 캐시에 없거나 수정된 템플릿만 원문을 읽어 다시
+ * 컴파일합니다.
+ *
+ * <p>요청한 템플릿이 하나라도 없으면 템플릿 종류에 맞는 NotFound 예외를 던집니다.
+ *
+ * <p>MGR-001: Manager 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Component
+public class McpTemplateSourceReadManager {
+
+    private final McpTemplateSourceQueryPort mcpTemplateSourceQueryPort;
+    private final CompiledTemplateCache<TemplateKey> cache = new CompiledTemplateCache<>();
+
+    public McpTemplateSourceReadManager(McpTemplateSourceQueryPort mcpTemplateSourceQueryPort) {
+        this.mcpTemplateSourceQueryPort = mcpTemplateSourceQueryPort;
+    }
+
+    /**
+     * 컴파일된 템플릿 조회 (존재 필수)
+     *
+     * @param templateType 템플릿 종류
+     * @param templateIds 템플릿 ID 목록
+     * @return 템플릿 ID → 컴파일 템플릿, 새로 컴파일한 수
+     * @throws ClassTemplateNotFoundException CLASS 템플릿이 존재하지 않는 경우
+     * @throws ConfigFileTemplateNotFoundException CONFIG_FILE 템플릿이 존재하지 않는 경우
+     * @throws ResourceTemplateNotFoundException RESOURCE 템플릿이 존재하지 않는 경우
+     */
+    @Transactional(readOnly = true)
+    public CompiledTemplatesResult getCompiled(
+            TemplateType templateType, Collection<Long> templateIds) {
+        Map<Long, Instant> versions = new HashMap<>();
+        for (TemplateVersionResult version :
+                mcpTemplateSourceQueryPort.findVersions(templateType, templateIds)) {
+            versions.put(version.templateId(), version.updatedAt());
+        }
+        requireAll(templateType, templateIds, versions.keySet());
+
+        Map<Long, CompiledTemplate> templates = new HashMap<>();
+        List<Long> stale = new ArrayList<>();
+        for (Long id : templateIds) {
+            Optional<CompiledTemplate> cached =
+                    cache.get(new TemplateKey(templateType, id), versions.get(id));
+            if (cached.isPresent()) {
+                templates.put(id, cached.get());
+            } else {
+                stale.add(id);
+            }
+        }
+        if (stale.isEmpty()) {
+            return new CompiledTemplatesResult(templates, 0);
+        }
+
+        Set<Long> found = new HashSet<>();
+        for (TemplateSourceResult source :
+                mcpTemplateSourceQueryPort.findSources(templateType, stale)) {
+            found.add(source.templateId());
+            templates.put(
+                    source.templateId(),
+                    cache.compile(
+                            new TemplateKey(templateType, source.templateId()),
+                            source.updatedAt(),
+                            source.source(),
+                            templateType.syntax()));
+        }
+        requireAll(templateType, stale, found);
+        return new CompiledTemplatesResult(templates, stale.size());
+    }
+
+    private static void requireAll(
+            TemplateType templateType, Collection<Long> requested, Set<Long> found) {
+        for (Long id : requested) {
+            if (!found.contains(id)) {
+                throw notFound(templateType, id);
+            }
+        }
+    }
+
+    private static DomainException notFound(TemplateType templateType, Long id) {
+        return switch (templateType) {
+            case CLASS -> new ClassTemplateNotFoundException(id);
+            case CONFIG_FILE -> new ConfigFileTemplateNotFoundException(id);
+            case RESOURCE -> new ResourceTemplateNotFoundException(id);
+        };
+    }
+
+    private record TemplateKey(TemplateType type, Long id) {}
+}
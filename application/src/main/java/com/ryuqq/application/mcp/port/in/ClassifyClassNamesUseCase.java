@@ -0,0 +1,25 @@
+package com.ryuqq.application.mcp.port.in;
+
+import com.ryuqq.application.mcp.dto.query.ClassifyClassNamesQuery;
+import com.ryuqq.application.mcp.dto.response.ClassifyClassNamesResult;
+
+/**
+ * ClassifyClassNamesUseCase - 클래스명 일괄 분류 UseCase
+ *
+ * <p>PR diff나 저장소 전체에서 뽑은 클래스명을 ClassTemplate naming_pattern으로 ClassType/PackageStructure에 분류합니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ClassifyClassNamesUseCase {
+
+    /**
+     * 클래스명 일괄 분류
+     *
+     * @param query 클래스명 분류 쿼리
+     * @return 클래스명별 분류 결과
+     */
+    ClassifyClassNamesResult execute(ClassifyClassNamesQuery query);
+}
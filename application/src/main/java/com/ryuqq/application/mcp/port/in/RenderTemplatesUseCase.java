@@ -0,0 +1,25 @@
+package com.ryuqq.application.mcp.port.in;
+
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery;
+import com.ryuqq.application.mcp.dto.response.RenderTemplatesResult;
+
+/**
+ * RenderTemplatesUseCase - 템플릿 일괄 렌더링 UseCase
+ *
+ * <p>클라이언트마다 자리표시자 치환을 다르게 구현하지 않도록 서버에서 ClassTemplate/ConfigFileTemplate을 렌더링합니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface RenderTemplatesUseCase {
+
+    /**
+     * 템플릿 일괄 렌더링
+     *
+     * @param query 템플릿 렌더링 쿼리
+     * @return 렌더링 결과 (요청 순서)
+     */
+    RenderTemplatesResult execute(RenderTemplatesQuery query);
+}
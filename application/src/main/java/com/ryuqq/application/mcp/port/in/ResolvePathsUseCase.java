@@ -0,0 +1,26 @@
+package com.ryuqq.application.mcp.port.in;
+
+import com.ryuqq.application.mcp.dto.query.ResolvePathsQuery;
+import com.ryuqq.application.mcp.dto.response.ResolvePathsResult;
+
+/**
+ * ResolvePathsUseCase - 파일 경로 → Module/PackageStructure 해석 UseCase
+ *
+ * <p>파일을 수정하려는 에이전트가 moduleId를 모르는 상태에서 Module Context를 조회할 수 있도록 경로로 Module, PackageStructure, 클래스
+ * 타입을 찾습니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ResolvePathsUseCase {
+
+    /**
+     * 파일 경로 일괄 해석
+     *
+     * @param query 경로 해석 쿼리
+     * @return 경로별 해석 결과
+     */
+    ResolvePathsResult execute(ResolvePathsQuery query);
+}
@@ -0,0 +1,26 @@
+package com.ryuqq.application.mcp.port.in;
+
+import com.ryuqq.application.mcp.dto.query.ScaffoldModuleQuery;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
+
+/**
+ * ScaffoldModuleUseCase - 모듈 스캐폴드 UseCase
+ *
+ * <p>모듈 하나의 ResourceTemplate, ClassTemplate, ConfigFileTemplate을 렌더링할 파일 트리를 만듭니다. 템플릿 조회와 존재 확인은 이
+ * 단계에서 끝나므로, 응답 스트리밍을 시작한 뒤에는 NotFound가 발생하지 않습니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ScaffoldModuleUseCase {
+
+    /**
+     * 모듈 스캐폴드 파일 트리 생성
+     *
+     * @param query 모듈 스캐폴드 쿼리
+     * @return 파일 트리 (본문은 쓰기 시점에 렌더링)
+     */
+    ModuleScaffoldResult execute(ScaffoldModuleQuery query);
+}
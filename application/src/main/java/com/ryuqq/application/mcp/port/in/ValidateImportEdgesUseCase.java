@@ -0,0 +1,25 @@
+package com.ryuqq.application.mcp.port.in;
+
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
+
+/**
+ * ValidateImportEdgesUseCase - import 간선 레이어 의존성 검사 UseCase
+ *
+ * <p>클라이언트마다 LayerDependencyRule 허용/금지 판단을 다시 구현하지 않도록 서버에서 import 그래프 전체를 검사합니다.
+ *
+ * <p>UC-001: UseCase는 Interface로 정의.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface ValidateImportEdgesUseCase {
+
+    /**
+     * import 간선 일괄 검사
+     *
+     * @param query import 간선 검사 쿼리
+     * @return 위반 간선과 검사 건수
+     */
+    ValidateImportEdgesResult execute(ValidateImportEdgesQuery query);
+}
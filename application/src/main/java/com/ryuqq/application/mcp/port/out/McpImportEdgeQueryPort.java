@@ -0,0 +1,28 @@
+package com.ryuqq.application.mcp.port.out;
+
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery.ImportEdge;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
+import java.util.List;
+
+/**
+ * McpImportEdgeQueryPort - import 간선 레이어 의존성 검사 Query Port
+ *
+ * <p>PackageStructure 경로 패턴(path_pattern)으로 패키지를 레이어에 대응시키고, LayerDependencyRule을 추이적 폐포까지 컴파일한 행렬로
+ * 간선을 검사합니다. 구현체는 요청마다 DB를 조회하지 않고 메모리에 컴파일해 둔 행렬을 사용합니다.
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface McpImportEdgeQueryPort {
+
+    /**
+     * 레이어 의존성 규칙 위반 간선 조회
+     *
+     * @param architectureId 아키텍처 ID
+     * @param edges import 간선 목록
+     * @return 위반 간선과 검사 건수
+     */
+    ValidateImportEdgesResult findViolations(Long architectureId, List<ImportEdge> edges);
+}
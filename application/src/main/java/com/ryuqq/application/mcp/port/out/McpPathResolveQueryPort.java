@@ -0,0 +1,37 @@
+package com.ryuqq.application.mcp.port.out;
+
+import com.ryuqq.application.mcp.dto.response.ClassifiedClassNameResult;
+import com.ryuqq.application.mcp.dto.response.ResolvedPathResult;
+import java.util.List;
+
+/**
+ * McpPathResolveQueryPort - 파일 경로 해석 전용 Port
+ *
+ * <p>Module 경로(module_path), PackageStructure 경로 패턴(path_pattern), ClassTemplate 명명
+ * 패턴(naming_pattern)으로 파일 경로와 클래스명을 해석합니다. 구현체는 요청마다 DB를 조회하지 않고 메모리에 컴파일해 둔 색인을 사용합니다.
+ *
+ * <p>PORT-001: Port 인터페이스 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface McpPathResolveQueryPort {
+
+    /**
+     * 파일 경로 일괄 해석
+     *
+     * @param architectureId 아키텍처 ID
+     * @param paths 저장소 상대 파일 경로 목록
+     * @return 경로별 해석 결과 (요청 순서, 해석 실패 시 {@link ResolvedPathResult#unresolved(String)})
+     */
+    List<ResolvedPathResult> findByPaths(Long architectureId, List<String> paths);
+
+    /**
+     * 클래스명 일괄 분류
+     *
+     * @param architectureId 아키텍처 ID
+     * @param classNames 완전한 클래스명 목록
+     * @return 클래스명별 분류 결과 (요청 순서, 미분류 시 {@link ClassifiedClassNameResult#unclassified(String)})
+     */
+    List<ClassifiedClassNameResult> findByClassNames(Long architectureId, List<String> classNames);
+}
@@ -0,0 +1,57 @@
+package com.ryuqq.application.mcp.port.out;
+
+import com.ryuqq.application.mcp.dto.response.ScaffoldClassTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldModuleResult;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * McpScaffoldQueryPort - 모듈 스캐폴드용 템플릿 위치 Query Port
+ *
+ * <p>파일 경로를 만드는 데 필요한 컬럼만 조회하며, 템플릿 본문은 {@link McpTemplateSourceQueryPort}로 따로 조회합니다.
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface McpScaffoldQueryPort {
+
+    /**
+     * 모듈 조회 (레이어/아키텍처를 거쳐 기술 스택까지)
+     *
+     * @param moduleId 모듈 ID
+     * @return 모듈 정보 (없으면 empty)
+     */
+    Optional<ScaffoldModuleResult> findModule(Long moduleId);
+
+    /**
+     * 모듈 패키지 구조별 ClassTemplate 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return ClassTemplate 위치 정보 (패키지 구조 ID, 템플릿 ID 순)
+     */
+    List<ScaffoldClassTemplateResult> findClassTemplates(Long moduleId);
+
+    /**
+     * 모듈 ResourceTemplate 조회
+     *
+     * @param moduleId 모듈 ID
+     * @return ResourceTemplate 위치 정보 (템플릿 ID 순)
+     */
+    List<ScaffoldFileTemplateResult> findResourceTemplates(Long moduleId);
+
+    /**
+     * 설정 파일 템플릿 조회
+     *
+     * <p>아키텍처 전용 템플릿과 기술 스택 공통 템플릿(architecture_id NULL)을 함께 조회합니다.
+     *
+     * @param techStackId 기술 스택 ID
+     * @param architectureId 아키텍처 ID
+     * @param toolTypes 도구 타입 목록
+     * @return ConfigFileTemplate 위치 정보 (display_order, ID 순)
+     */
+    List<ScaffoldFileTemplateResult> findConfigFileTemplates(
+            Long techStackId, Long architectureId, List<String> toolTypes);
+}
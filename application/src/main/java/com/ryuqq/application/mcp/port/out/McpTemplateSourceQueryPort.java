@@ -0,0 +1,39 @@
+package com.ryuqq.application.mcp.port.out;
+
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.response.TemplateSourceResult;
+import com.ryuqq.application.mcp.dto.response.TemplateVersionResult;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * McpTemplateSourceQueryPort - 템플릿 렌더링용 원문/버전 Query Port
+ *
+ * <p>버전(updated_at)만 먼저 조회하고, 컴파일 캐시에 없는 템플릿만 원문을 조회합니다.
+ *
+ * <p>PORT-001: Port 명명 규칙 준수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public interface McpTemplateSourceQueryPort {
+
+    /**
+     * 템플릿 버전 조회 (삭제되지 않은 템플릿만)
+     *
+     * @param templateType 템플릿 종류
+     * @param templateIds 템플릿 ID 목록
+     * @return 템플릿 ID와 수정 일시 (없는 ID는 제외)
+     */
+    List<TemplateVersionResult> findVersions(
+            TemplateType templateType, Collection<Long> templateIds);
+
+    /**
+     * 템플릿 원문 조회 (삭제되지 않은 템플릿만)
+     *
+     * @param templateType 템플릿 종류
+     * @param templateIds 템플릿 ID 목록
+     * @return 템플릿 ID, 수정 일시, 원문 (없는 ID는 제외)
+     */
+    List<TemplateSourceResult> findSources(TemplateType templateType, Collection<Long> templateIds);
+}
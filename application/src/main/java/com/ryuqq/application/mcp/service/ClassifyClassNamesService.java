@@ -0,0 +1,40 @@
+package com.ryuqq.application.mcp.service;
+
+import com.ryuqq.application.mcp.dto.query.ClassifyClassNamesQuery;
+import com.ryuqq.application.mcp.dto.response.ClassifiedClassNameResult;
+import com.ryuqq.application.mcp.dto.response.ClassifyClassNamesResult;
+import com.ryuqq.application.mcp.manager.McpPathResolveReadManager;
+import com.ryuqq.application.mcp.port.in.ClassifyClassNamesUseCase;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * ClassifyClassNamesService - 클래스명 일괄 분류 서비스
+ *
+ * <p>ClassifyClassNamesUseCase를 구현합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ClassifyClassNamesService implements ClassifyClassNamesUseCase {
+
+    private final McpPathResolveReadManager mcpPathResolveReadManager;
+
+    public ClassifyClassNamesService(McpPathResolveReadManager mcpPathResolveReadManager) {
+        this.mcpPathResolveReadManager = mcpPathResolveReadManager;
+    }
+
+    @Override
+    public ClassifyClassNamesResult execute(ClassifyClassNamesQuery query) {
+        List<ClassifiedClassNameResult> classes =
+                mcpPathResolveReadManager.classify(query.architectureId(), query.classNames());
+        int classifiedCount =
+                (int) classes.stream().filter(ClassifiedClassNameResult::isClassified).count();
+        return new ClassifyClassNamesResult(classes, classifiedCount);
+    }
+}
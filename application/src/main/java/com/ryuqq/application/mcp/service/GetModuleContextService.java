@@ -1,5 +1,7 @@
 package com.ryuqq.application.mcp.service;
 
+import com.ryuqq.application.common.singleflight.SingleFlight;
+import com.ryuqq.application.common.singleflight.SingleFlightMetrics;
 import com.ryuqq.application.mcp.assembler.McpContextAssembler;
 import com.ryuqq.application.mcp.dto.context.CodingRuleWithDetailsDto;
 import com.ryuqq.application.mcp.dto.context.ModuleWithLayerAndConventionDto;
@@ -23,6 +25,8 @@ import org.springframework.stereotype.Service;
  *
  * <p>Assembler 패턴을 사용하여 조회된 DTO를 응답 Result로 변환합니다.
  *
+ * <p>동시에 들어온 동일 Query는 {@link SingleFlight}로 병합하여 한 번만 조회합니다.
+ *
  * <p>SVC-001: @Service 어노테이션 필수.
  *
  * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
@@ -35,15 +39,23 @@ public class GetModuleContextService implements GetModuleContextUseCase {
 
     private final McpContextReadManager mcpContextReadManager;
     private final McpContextAssembler mcpContextAssembler;
+    private final SingleFlight<ModuleContextQuery, ModuleContextResult> singleFlight;
 
     public GetModuleContextService(
-            McpContextReadManager mcpContextReadManager, McpContextAssembler mcpContextAssembler) {
+            McpContextReadManager mcpContextReadManager,
+            McpContextAssembler mcpContextAssembler,
+            SingleFlightMetrics singleFlightMetrics) {
         this.mcpContextReadManager = mcpContextReadManager;
         this.mcpContextAssembler = mcpContextAssembler;
+        this.singleFlight = new SingleFlight<>("module-context", singleFlightMetrics);
     }
 
     @Override
     public ModuleContextResult execute(ModuleContextQuery query) {
+        return singleFlight.execute(query, () -> load(query));
+    }
+
+    private ModuleContextResult load(ModuleContextQuery query) {
         // Query 1: Module + Layer + Convention (Active) 조회
         ModuleWithLayerAndConventionDto moduleDto =
                 mcpContextReadManager.getModuleWithLayerAndConvention(query.moduleId());
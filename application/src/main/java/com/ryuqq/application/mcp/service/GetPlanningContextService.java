@@ -1,5 +1,7 @@
 package com.ryuqq.application.mcp.service;
 
+import com.ryuqq.application.common.singleflight.SingleFlight;
+import com.ryuqq.application.common.singleflight.SingleFlightMetrics;
 import com.ryuqq.application.mcp.assembler.McpContextAssembler;
 import com.ryuqq.application.mcp.dto.context.PlanningLayerModuleStructureDto;
 import com.ryuqq.application.mcp.dto.context.PlanningTechStackArchitectureDto;
@@ -17,6 +19,8 @@ import org.springframework.stereotype.Service;
  *
  * <p>N+1 문제 해결: 60+ 쿼리 → 2 쿼리로 최적화.
  *
+ * <p>동시에 들어온 동일 Query는 {@link SingleFlight}로 병합하여 한 번만 조회합니다.
+ *
  * <p>SVC-001: @Service 어노테이션 필수.
  *
  * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
@@ -29,15 +33,23 @@ public class GetPlanningContextService implements GetPlanningContextUseCase {
 
     private final McpContextReadManager readManager;
     private final McpContextAssembler assembler;
+    private final SingleFlight<PlanningContextQuery, PlanningContextResult> singleFlight;
 
     public GetPlanningContextService(
-            McpContextReadManager readManager, McpContextAssembler assembler) {
+            McpContextReadManager readManager,
+            McpContextAssembler assembler,
+            SingleFlightMetrics singleFlightMetrics) {
         this.readManager = readManager;
         this.assembler = assembler;
+        this.singleFlight = new SingleFlight<>("planning-context", singleFlightMetrics);
     }
 
     @Override
     public PlanningContextResult execute(PlanningContextQuery query) {
+        return singleFlight.execute(query, () -> load(query));
+    }
+
+    private PlanningContextResult load(PlanningContextQuery query) {
         // Query 1: TechStack + Architecture 조회 (1 쿼리)
         PlanningTechStackArchitectureDto techStackDto =
                 readManager.getTechStackWithArchitecture(query.techStackId());
@@ -1,5 +1,7 @@
 package com.ryuqq.application.mcp.service;
 
+import com.ryuqq.application.common.singleflight.SingleFlight;
+import com.ryuqq.application.common.singleflight.SingleFlightMetrics;
 import com.ryuqq.application.mcp.assembler.ValidationContextAssembler;
 import com.ryuqq.application.mcp.dto.context.ValidationChecklistDto;
 import com.ryuqq.application.mcp.dto.context.ValidationZeroToleranceDto;
@@ -17,6 +19,8 @@ import org.springframework.stereotype.Service;
  *
  * <p>N+1 문제 해결을 위해 McpContextReadManager의 최적화된 쿼리를 사용합니다.
  *
+ * <p>동시에 들어온 동일 Query는 {@link SingleFlight}로 병합하여 한 번만 조회합니다.
+ *
  * <p>SVC-001: @Service 어노테이션 필수.
  *
  * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
@@ -29,16 +33,23 @@ public class GetValidationContextService implements GetValidationContextUseCase
 
     private final McpContextReadManager mcpContextReadManager;
     private final ValidationContextAssembler validationContextAssembler;
+    private final SingleFlight<ValidationContextQuery, ValidationContextResult> singleFlight;
 
     public GetValidationContextService(
             McpContextReadManager mcpContextReadManager,
-            ValidationContextAssembler validationContextAssembler) {
+            ValidationContextAssembler validationContextAssembler,
+            SingleFlightMetrics singleFlightMetrics) {
         this.mcpContextReadManager = mcpContextReadManager;
         this.validationContextAssembler = validationContextAssembler;
+        this.singleFlight = new SingleFlight<>("validation-context", singleFlightMetrics);
     }
 
     @Override
     public ValidationContextResult execute(ValidationContextQuery query) {
+        return singleFlight.execute(query, () -> load(query));
+    }
+
+    private ValidationContextResult load(ValidationContextQuery query) {
         Long techStackId = query.techStackId();
         Long architectureId = query.architectureId();
 
@@ -0,0 +1,73 @@
+package com.ryuqq.application.mcp.service;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.RenderItem;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.response.CompiledTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.RenderTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.RenderedTemplateResult;
+import com.ryuqq.application.mcp.manager.McpTemplateSourceReadManager;
+import com.ryuqq.application.mcp.port.in.RenderTemplatesUseCase;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * RenderTemplatesService - 템플릿 일괄 렌더링 서비스
+ *
+ * <p>RenderTemplatesUseCase를 구현합니다.
+ *
+ * <p>템플릿 종류별로 중복을 제거한 ID를 한 번에 조회하므로, 같은 템플릿을 여러 항목이 참조해도 조회/컴파일은 한 번입니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class RenderTemplatesService implements RenderTemplatesUseCase {
+
+    private final McpTemplateSourceReadManager mcpTemplateSourceReadManager;
+
+    public RenderTemplatesService(McpTemplateSourceReadManager mcpTemplateSourceReadManager) {
+        this.mcpTemplateSourceReadManager = mcpTemplateSourceReadManager;
+    }
+
+    @Override
+    public RenderTemplatesResult execute(RenderTemplatesQuery query) {
+        Map<TemplateType, Set<Long>> idsByType = new EnumMap<>(TemplateType.class);
+        for (RenderItem item : query.items()) {
+            idsByType
+                    .computeIfAbsent(item.templateType(), type -> new LinkedHashSet<>())
+                    .add(item.templateId());
+        }
+        Map<TemplateType, CompiledTemplatesResult> compiled = new EnumMap<>(TemplateType.class);
+        int compiledCount = 0;
+        for (Map.Entry<TemplateType, Set<Long>> entry : idsByType.entrySet()) {
+            CompiledTemplatesResult result =
+                    mcpTemplateSourceReadManager.getCompiled(entry.getKey(), entry.getValue());
+            compiled.put(entry.getKey(), result);
+            compiledCount += result.compiledCount();
+        }
+
+        List<RenderedTemplateResult> rendered = new ArrayList<>(query.items().size());
+        for (RenderItem item : query.items()) {
+            CompiledTemplate template =
+                    compiled.get(item.templateType()).get(item.templateId());
+            rendered.add(
+                    new RenderedTemplateResult(
+                            item.templateType().name(),
+                            item.templateId(),
+                            template.render(item.variables()),
+                            template.missingVariables(item.variables())));
+        }
+        return new RenderTemplatesResult(rendered, compiledCount);
+    }
+}
@@ -0,0 +1,39 @@
+package com.ryuqq.application.mcp.service;
+
+import com.ryuqq.application.mcp.dto.query.ResolvePathsQuery;
+import com.ryuqq.application.mcp.dto.response.ResolvePathsResult;
+import com.ryuqq.application.mcp.dto.response.ResolvedPathResult;
+import com.ryuqq.application.mcp.manager.McpPathResolveReadManager;
+import com.ryuqq.application.mcp.port.in.ResolvePathsUseCase;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * ResolvePathsService - 파일 경로 해석 서비스
+ *
+ * <p>ResolvePathsUseCase를 구현합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ResolvePathsService implements ResolvePathsUseCase {
+
+    private final McpPathResolveReadManager mcpPathResolveReadManager;
+
+    public ResolvePathsService(McpPathResolveReadManager mcpPathResolveReadManager) {
+        this.mcpPathResolveReadManager = mcpPathResolveReadManager;
+    }
+
+    @Override
+    public ResolvePathsResult execute(ResolvePathsQuery query) {
+        List<ResolvedPathResult> paths =
+                mcpPathResolveReadManager.resolve(query.architectureId(), query.paths());
+        int resolvedCount = (int) paths.stream().filter(ResolvedPathResult::isResolved).count();
+        return new ResolvePathsResult(paths, resolvedCount);
+    }
+}
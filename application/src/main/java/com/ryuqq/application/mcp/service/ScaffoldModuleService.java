@@ -0,0 +1,201 @@
+package com.ryuqq.application.mcp.service;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.common.template.TemplateSyntax;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.query.ScaffoldModuleQuery;
+import com.ryuqq.application.mcp.dto.response.CompiledTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldClassTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldModuleResult;
+import com.ryuqq.application.mcp.manager.McpScaffoldReadManager;
+import com.ryuqq.application.mcp.manager.McpTemplateSourceReadManager;
+import com.ryuqq.application.mcp.port.in.ScaffoldModuleUseCase;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Service;
+
+/**
+ * ScaffoldModuleService - 모듈 스캐폴드 서비스
+ *
+ * <p>ScaffoldModuleUseCase를 구현합니다.
+ *
+ * <p>파일 경로 규칙:
+ *
+ * <ul>
+ *   <li>ConfigFileTemplate: 저장소 루트 기준 file_path
+ *   <li>ResourceTemplate: {@code module_path/file_path}
+ *   <li>ClassTemplate: {@code module_path/src/main/java/<path_pattern>/<naming_pattern>.java}
+ * </ul>
+ *
+ * <p>경로에 값이 없는 변수가 남거나, 클래스명이 Java 식별자가 아니거나({@code *QueryAdapter}, 대안 패턴 등), 저장소 밖을 가리키는 경로는
+ * 제외합니다. 같은 경로는 먼저 나온 템플릿만 사용합니다.
+ *
+ * <p>템플릿은 종류별로 한 번에 조회/컴파일하고, 본문 렌더링은 응답을 쓸 때 파일 단위로 수행합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ScaffoldModuleService implements ScaffoldModuleUseCase {
+
+    private static final String JAVA_SOURCE_ROOT = "src/main/java";
+    private static final Pattern JAVA_IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+    private static final Pattern JAVA_PACKAGE =
+            Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*(\\.[A-Za-z_$][A-Za-z0-9_$]*)*");
+
+    private final McpScaffoldReadManager mcpScaffoldReadManager;
+    private final McpTemplateSourceReadManager mcpTemplateSourceReadManager;
+
+    public ScaffoldModuleService(
+            McpScaffoldReadManager mcpScaffoldReadManager,
+            McpTemplateSourceReadManager mcpTemplateSourceReadManager) {
+        this.mcpScaffoldReadManager = mcpScaffoldReadManager;
+        this.mcpTemplateSourceReadManager = mcpTemplateSourceReadManager;
+    }
+
+    @Override
+    public ModuleScaffoldResult execute(ScaffoldModuleQuery query) {
+        ScaffoldModuleResult module = mcpScaffoldReadManager.getModule(query.moduleId());
+        Map<String, String> variables = query.variables();
+        FilePlan plan = new FilePlan();
+
+        for (ScaffoldFileTemplateResult config :
+                mcpScaffoldReadManager.findConfigFileTemplates(module, query.toolTypes())) {
+            String filePath = renderPath(config.filePath(), TemplateSyntax.DOUBLE_BRACE, variables);
+            plan.add(TemplateType.CONFIG_FILE, config.templateId(), normalize(filePath));
+        }
+        for (ScaffoldFileTemplateResult resource :
+                mcpScaffoldReadManager.findResourceTemplates(module.moduleId())) {
+            String filePath =
+                    renderPath(resource.filePath(), TemplateSyntax.SINGLE_BRACE, variables);
+            plan.add(
+                    TemplateType.RESOURCE,
+                    resource.templateId(),
+                    filePath != null ? normalize(module.modulePath() + "/" + filePath) : null);
+        }
+        for (ScaffoldClassTemplateResult classTemplate :
+                mcpScaffoldReadManager.findClassTemplates(module.moduleId())) {
+            plan.add(
+                    TemplateType.CLASS,
+                    classTemplate.templateId(),
+                    classFilePath(module.modulePath(), classTemplate, variables));
+        }
+
+        Map<TemplateType, CompiledTemplatesResult> compiled = new EnumMap<>(TemplateType.class);
+        for (Map.Entry<TemplateType, Set<Long>> entry : plan.idsByType.entrySet()) {
+            compiled.put(
+                    entry.getKey(),
+                    mcpTemplateSourceReadManager.getCompiled(entry.getKey(), entry.getValue()));
+        }
+
+        List<ScaffoldFileResult> files = new ArrayList<>(plan.entries.size());
+        for (PlannedFile entry : plan.entries) {
+            files.add(
+                    new ScaffoldFileResult(
+                            entry.path(),
+                            entry.templateType().name(),
+                            entry.templateId(),
+                            compiled.get(entry.templateType()).get(entry.templateId()),
+                            variables));
+        }
+        return new ModuleScaffoldResult(
+                module.moduleId(), module.modulePath(), files, plan.skippedCount);
+    }
+
+    private static String classFilePath(
+            String modulePath,
+            ScaffoldClassTemplateResult classTemplate,
+            Map<String, String> variables) {
+        String packageName =
+                renderPath(classTemplate.pathPattern(), TemplateSyntax.SINGLE_BRACE, variables);
+        String className =
+                renderPath(classTemplate.namingPattern(), TemplateSyntax.SINGLE_BRACE, variables);
+        if (packageName == null
+                || className == null
+                || !JAVA_PACKAGE.matcher(packageName).matches()
+                || !JAVA_IDENTIFIER.matcher(className).matches()) {
+            return null;
+        }
+        return normalize(
+                modulePath
+                        + "/"
+                        + JAVA_SOURCE_ROOT
+                        + "/"
+                        + packageName.replace('.', '/')
+                        + "/"
+                        + className
+                        + ".java");
+    }
+
+    /**
+     * 경로 패턴 렌더링
+     *
+     * @return 렌더링 결과 (패턴이 비어 있거나 값이 없는 변수가 있으면 null)
+     */
+    private static String renderPath(
+            String pattern, TemplateSyntax syntax, Map<String, String> variables) {
+        if (pattern == null || pattern.isBlank()) {
+            return null;
+        }
+        CompiledTemplate template = CompiledTemplate.compile(pattern.strip(), syntax);
+        if (!template.missingVariables(variables).isEmpty()) {
+            return null;
+        }
+        return template.render(variables);
+    }
+
+    /**
+     * 저장소 루트 기준 상대 경로로 정규화
+     *
+     * @return 정규화한 경로 (절대 경로이거나 상위 디렉토리를 가리키면 null)
+     */
+    private static String normalize(String path) {
+        if (path == null || path.startsWith("/") || path.indexOf('\\') >= 0) {
+            return null;
+        }
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split("/")) {
+            if (segment.equals("..") || segment.indexOf(':') >= 0) {
+                return null;
+            }
+            if (!segment.isEmpty() && !segment.equals(".")) {
+                segments.add(segment);
+            }
+        }
+        return segments.isEmpty() ? null : String.join("/", segments);
+    }
+
+    private record PlannedFile(String path, TemplateType templateType, Long templateId) {}
+
+    private static final class FilePlan {
+
+        private final List<PlannedFile> entries = new ArrayList<>();
+        private final Set<String> paths = new HashSet<>();
+        private final Map<TemplateType, Set<Long>> idsByType = new EnumMap<>(TemplateType.class);
+        private int skippedCount;
+
+        private void add(TemplateType templateType, Long templateId, String path) {
+            if (path == null || !paths.add(path)) {
+                skippedCount++;
+                return;
+            }
+            entries.add(new PlannedFile(path, templateType, templateId));
+            idsByType
+                    .computeIfAbsent(templateType, type -> new LinkedHashSet<>())
+                    .add(templateId);
+        }
+    }
+}
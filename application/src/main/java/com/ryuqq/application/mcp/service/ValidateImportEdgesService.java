@@ -0,0 +1,34 @@
+package com.ryuqq.application.mcp.service;
+
+import com.ryuqq.application.mcp.dto.query.ValidateImportEdgesQuery;
+import com.ryuqq.application.mcp.dto.response.ValidateImportEdgesResult;
+import com.ryuqq.application.mcp.manager.McpImportEdgeReadManager;
+import com.ryuqq.application.mcp.port.in.ValidateImportEdgesUseCase;
+import org.springframework.stereotype.Service;
+
+/**
+ * ValidateImportEdgesService - import 간선 레이어 의존성 검사 서비스
+ *
+ * <p>ValidateImportEdgesUseCase를 구현합니다.
+ *
+ * <p>SVC-001: @Service 어노테이션 필수.
+ *
+ * <p>SVC-002: UseCase(Port-In) 인터페이스 구현 필수.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@Service
+public class ValidateImportEdgesService implements ValidateImportEdgesUseCase {
+
+    private final McpImportEdgeReadManager mcpImportEdgeReadManager;
+
+    public ValidateImportEdgesService(McpImportEdgeReadManager mcpImportEdgeReadManager) {
+        this.mcpImportEdgeReadManager = mcpImportEdgeReadManager;
+    }
+
+    @Override
+    public ValidateImportEdgesResult execute(ValidateImportEdgesQuery query) {
+        return mcpImportEdgeReadManager.findViolations(query.architectureId(), query.edges());
+    }
+}
@@ -0,0 +1,25 @@
+package com.ryuqq.application.outbox.dto.command;
+
+/**
+ * RelayOutboxCommand - 아웃박스 릴레이 커맨드
+ *
+ * @param batchSize 배치당 조회 건수
+ * @param maxBatches 1회 실행당 최대 배치 수 (릴레이 락 점유 시간 제한)
+ * @param lockLeaseSeconds 릴레이 락 유지 시간 (초)
+ * @author ryu-qqq
+ */
+public record RelayOutboxCommand(int batchSize, int maxBatches, long lockLeaseSeconds) {
+
+    public RelayOutboxCommand {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        if (maxBatches < 1) {
+            throw new IllegalArgumentException("maxBatches must be positive: " + maxBatches);
+        }
+        if (lockLeaseSeconds < 1) {
+            throw new IllegalArgumentException(
+                    "lockLeaseSeconds must be positive: " + lockLeaseSeconds);
+        }
+    }
+}
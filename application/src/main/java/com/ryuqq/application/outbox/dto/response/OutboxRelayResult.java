@@ -0,0 +1,27 @@
+package com.ryuqq.application.outbox.dto.response;
+
+import java.time.Duration;
+
+/**
+ * OutboxRelayResult - 아웃박스 릴레이 실행 결과
+ *
+ * @param publishedCount 발행 완료(삭제)된 메시지 수
+ * @param failedCount 발행 실패로 재시도 예약된 메시지 수
+ * @param deadCount 최대 시도 횟수에 도달해 DEAD가 된 메시지 수
+ * @param batchCount 실행된 배치 수
+ * @param skipped 다른 노드가 릴레이 락을 보유하여 실행하지 않았으면 true
+ * @param lag 가장 오래된 미발행 메시지의 대기 시간 (없으면 {@link Duration#ZERO})
+ * @author ryu-qqq
+ */
+public record OutboxRelayResult(
+        int publishedCount,
+        int failedCount,
+        int deadCount,
+        int batchCount,
+        boolean skipped,
+        Duration lag) {
+
+    public static OutboxRelayResult skippedResult() {
+        return new OutboxRelayResult(0, 0, 0, 0, true, Duration.ZERO);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ryuqq.application.outbox.factory.command;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.outbox.internal.serializer.OutboxEventSerializer;
+import com.ryuqq.domain.common.event.DomainEvent;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxMessageFactory - 아웃박스 메시지 팩토리
+ *
+ * <p>FCT-001: Factory는 도메인 객체 생성만 담당.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지, Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxMessageFactory {
+
+    private final TimeProvider timeProvider;
+    private final OutboxEventSerializer outboxEventSerializer;
+
+    public OutboxMessageFactory(
+            TimeProvider timeProvider, OutboxEventSerializer outboxEventSerializer) {
+        this.timeProvider = timeProvider;
+        this.outboxEventSerializer = outboxEventSerializer;
+    }
+
+    /**
+     * 도메인 이벤트로부터 아웃박스 메시지 생성
+     *
+     * @param event 도메인 이벤트
+     * @return 새로운 OutboxMessage 인스턴스
+     */
+    public OutboxMessage create(DomainEvent event) {
+        return create(event, timeProvider.now());
+    }
+
+    /**
+     * 여러 도메인 이벤트로부터 아웃박스 메시지 생성 (같은 기록 시각 사용)
+     *
+     * @param events 도메인 이벤트 목록
+     * @return 새로운 OutboxMessage 목록 (입력 순서 유지)
+     */
+    public List<OutboxMessage> createAll(List<? extends DomainEvent> events) {
+        Instant now = timeProvider.now();
+        return events.stream().map(event -> create(event, now)).toList();
+    }
+
+    /**
+     * 현재 시각 반환
+     *
+     * @return 현재 Instant
+     */
+    public Instant now() {
+        return timeProvider.now();
+    }
+
+    private OutboxMessage create(DomainEvent event, Instant now) {
+        return OutboxMessage.forNew(
+                event.aggregateKey(),
+                event.eventType(),
+                event.getClass().getName(),
+                outboxEventSerializer.serialize(event),
+                event.occurredAt(),
+                now);
+    }
+}
@@ -0,0 +1,43 @@
+package com.ryuqq.application.outbox.internal.serializer;
+
+import com.ryuqq.domain.common.event.DomainEvent;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * OutboxEventRuntimeHints - 아웃박스 이벤트 네이티브 이미지 힌트
+ *
+ * <p>{@link OutboxEventSerializer}는 도메인 이벤트 Record를 Jackson으로 기록하고, 기록된 클래스 이름으로 {@code
+ * Class.forName} 후 복원합니다. 네이티브 이미지에서는 두 경로 모두 이벤트마다 리플렉션 메타데이터가 필요하므로, AOT 처리 시점에 {@code
+ * com.ryuqq.domain} 아래 {@link DomainEvent} 구현체를 찾아 Jackson 바인딩 힌트(생성자, 컴포넌트 접근자, 중첩 VO)를 등록합니다.
+ *
+ * <p>JVM 실행에서는 사용되지 않습니다.
+ *
+ * @author ryu-qqq
+ */
+public class OutboxEventRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final String DOMAIN_PACKAGE = "com.ryuqq.domain";
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar =
+            new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner =
+                new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter(new AssignableTypeFilter(DomainEvent.class));
+        for (BeanDefinition candidate : scanner.findCandidateComponents(DOMAIN_PACKAGE)) {
+            bindingRegistrar.registerReflectionHints(
+                    hints.reflection(),
+                    ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ryuqq.application.outbox.internal.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ryuqq.domain.common.event.DomainEvent;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxEventSerializer - 아웃박스 이벤트 직렬화기
+ *
+ * <p>도메인 이벤트(Record)를 JSON으로 기록하고, 기록된 클래스 이름으로 복원합니다. Application 공용 ObjectMapper 설정과 독립적으로
+ * Instant를 ISO-8601 문자열로 기록하도록 전용 ObjectMapper를 사용합니다.
+ *
+ * <p>VO의 파생 접근자(예: {@code isNew()})가 JSON에 함께 기록될 수 있으므로 복원 시 알 수 없는 속성은 무시합니다.
+ *
+ * <p>네이티브 이미지용 리플렉션 힌트는 {@link OutboxEventRuntimeHints}가 등록합니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+@ImportRuntimeHints(OutboxEventRuntimeHints.class)
+public class OutboxEventSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventSerializer() {
+        this.objectMapper =
+                new ObjectMapper()
+                        .registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 이벤트 직렬화
+     *
+     * @param event 도메인 이벤트
+     * @return JSON 문자열
+     * @throws IllegalStateException 직렬화할 수 없는 이벤트인 경우
+     */
+    public String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Failed to serialize domain event: " + event.eventType(), e);
+        }
+    }
+
+    /**
+     * 이벤트 복원
+     *
+     * @param eventClass 이벤트 클래스 이름 (FQN)
+     * @param payload JSON 문자열
+     * @return 복원된 도메인 이벤트
+     * @throws IllegalStateException 클래스를 찾을 수 없거나 DomainEvent가 아니거나 JSON이 올바르지 않은 경우
+     */
+    public DomainEvent deserialize(String eventClass, String payload) {
+        Class<? extends DomainEvent> type = resolve(eventClass);
+        try {
+            return objectMapper.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize domain event: " + eventClass, e);
+        }
+    }
+
+    private Class<? extends DomainEvent> resolve(String eventClass) {
+        Class<?> type;
+        try {
+            type = Class.forName(eventClass, false, DomainEvent.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Unknown domain event class: " + eventClass, e);
+        }
+        if (!DomainEvent.class.isAssignableFrom(type)) {
+            throw new IllegalStateException("Not a domain event class: " + eventClass);
+        }
+        return type.asSubclass(DomainEvent.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ryuqq.application.outbox.manager;
+
+import com.ryuqq.application.outbox.port.out.OutboxCommandPort;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OutboxPersistenceManager - 트랜잭션 아웃박스 영속화 관리자
+ *
+ * <p>신규 메시지 기록은 {@link Propagation#MANDATORY}로 호출자의 트랜잭션에 반드시 참여합니다. 별도 트랜잭션으로 기록되면 Aggregate 커밋과
+ * 이벤트 기록의 원자성이 깨지기 때문입니다.
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxPersistenceManager {
+
+    private final OutboxCommandPort outboxCommandPort;
+
+    public OutboxPersistenceManager(OutboxCommandPort outboxCommandPort) {
+        this.outboxCommandPort = outboxCommandPort;
+    }
+
+    /**
+     * 신규 메시지 기록 (호출자 트랜잭션 참여 필수)
+     *
+     * @param messages 기록할 메시지 목록
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(List<OutboxMessage> messages) {
+        outboxCommandPort.persistAll(messages);
+    }
+
+    /**
+     * 릴레이 배치 결과 반영 (전달 완료 삭제 + 실패 기록)
+     *
+     * @param publishedIds 전달 완료 메시지 ID 목록
+     * @param failedMessages 실패가 기록된 메시지 목록
+     */
+    @Transactional
+    public void complete(List<Long> publishedIds, List<OutboxMessage> failedMessages) {
+        outboxCommandPort.deleteAll(publishedIds);
+        outboxCommandPort.persistAll(failedMessages);
+    }
+}
@@ -0,0 +1,46 @@
+package com.ryuqq.application.outbox.manager;
+
+import com.ryuqq.application.outbox.port.out.OutboxQueryPort;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * OutboxReadManager - 트랜잭션 아웃박스 조회 관리자
+ *
+ * <p>MNG-001: Manager는 @Transactional을 메서드에 적용.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class OutboxReadManager {
+
+    private final OutboxQueryPort outboxQueryPort;
+
+    public OutboxReadManager(OutboxQueryPort outboxQueryPort) {
+        this.outboxQueryPort = outboxQueryPort;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxMessage> findDue(Instant now, int limit) {
+        return outboxQueryPort.findDue(now, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Long> findDeferredHeadIds(Collection<String> aggregateKeys, Instant now) {
+        if (aggregateKeys.isEmpty()) {
+            return Map.of();
+        }
+        return outboxQueryPort.findDeferredHeadIds(aggregateKeys, now);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> findOldestPendingCreatedAt() {
+        return outboxQueryPort.findOldestPendingCreatedAt();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.application.outbox.port.in;
+
+import com.ryuqq.application.outbox.dto.command.RelayOutboxCommand;
+import com.ryuqq.application.outbox.dto.response.OutboxRelayResult;
+
+/**
+ * RelayOutboxUseCase - 트랜잭션 아웃박스 릴레이 UseCase
+ *
+ * <p>커밋된 아웃박스 메시지를 배치 단위로 읽어 도메인 이벤트로 발행합니다.
+ *
+ * @author ryu-qqq
+ */
+public interface RelayOutboxUseCase {
+
+    /**
+     * 아웃박스 릴레이 실행
+     *
+     * @param command 릴레이 커맨드
+     * @return 릴레이 실행 결과
+     */
+    OutboxRelayResult execute(RelayOutboxCommand command);
+}
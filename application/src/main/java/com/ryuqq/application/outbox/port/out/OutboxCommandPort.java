@@ -0,0 +1,28 @@
+package com.ryuqq.application.outbox.port.out;
+
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.util.List;
+
+/**
+ * OutboxCommandPort - 트랜잭션 아웃박스 명령 포트
+ *
+ * @author ryu-qqq
+ */
+public interface OutboxCommandPort {
+
+    /**
+     * 아웃박스 메시지 저장 (신규 INSERT 또는 실패 기록 UPDATE)
+     *
+     * <p>신규 메시지는 반드시 이벤트를 발생시킨 Aggregate를 영속화하는 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param messages 저장할 메시지 목록 (빈 목록이면 무시)
+     */
+    void persistAll(List<OutboxMessage> messages);
+
+    /**
+     * 전달 완료 메시지 제거
+     *
+     * @param messageIds 제거할 메시지 ID 목록 (빈 목록이면 무시)
+     */
+    void deleteAll(List<Long> messageIds);
+}
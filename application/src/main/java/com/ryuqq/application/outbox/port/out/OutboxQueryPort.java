@@ -0,0 +1,44 @@
+package com.ryuqq.application.outbox.port.out;
+
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * OutboxQueryPort - 트랜잭션 아웃박스 조회 포트
+ *
+ * @author ryu-qqq
+ */
+public interface OutboxQueryPort {
+
+    /**
+     * 전달 가능한 메시지 조회 (PENDING + next_attempt_at &lt;= now, ID 오름차순)
+     *
+     * @param now 기준 시각
+     * @param limit 최대 건수
+     * @return 메시지 목록
+     */
+    List<OutboxMessage> findDue(Instant now, int limit);
+
+    /**
+     * 키별 재시도 대기 중인 가장 앞선 메시지 ID 조회
+     *
+     * <p>PENDING 이지만 next_attempt_at &gt; now 인 메시지 중 키별 최소 ID 입니다. 이 ID보다 뒤에 기록된 같은 키의 메시지는 순서 보장을
+     * 위해 전달하지 않습니다.
+     *
+     * @param aggregateKeys 대상 키 목록
+     * @param now 기준 시각
+     * @return 키별 최소 ID (재시도 대기 메시지가 없는 키는 제외)
+     */
+    Map<String, Long> findDeferredHeadIds(Collection<String> aggregateKeys, Instant now);
+
+    /**
+     * 가장 오래된 PENDING 메시지의 생성 시각 조회 (릴레이 지연 측정용)
+     *
+     * @return 생성 시각 (PENDING 메시지가 없으면 empty)
+     */
+    Optional<Instant> findOldestPendingCreatedAt();
+}
@@ -0,0 +1,190 @@
+package com.ryuqq.application.outbox.service;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.outbox.dto.command.RelayOutboxCommand;
+import com.ryuqq.application.outbox.dto.response.OutboxRelayResult;
+import com.ryuqq.application.outbox.factory.command.OutboxMessageFactory;
+import com.ryuqq.application.outbox.internal.serializer.OutboxEventSerializer;
+import com.ryuqq.application.outbox.manager.OutboxPersistenceManager;
+import com.ryuqq.application.outbox.manager.OutboxReadManager;
+import com.ryuqq.application.outbox.port.in.RelayOutboxUseCase;
+import com.ryuqq.domain.common.event.DomainEvent;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import com.ryuqq.domain.outbox.vo.OutboxRelayLockKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * RelayOutboxService - 트랜잭션 아웃박스 릴레이 서비스
+ *
+ * <p>커밋된 아웃박스 메시지를 ID 오름차순 배치로 읽어 도메인 이벤트로 발행하고, 발행된 메시지를 배치 단위로 삭제합니다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>릴레이 락 획득 (대기 없음) - 실패 시 다른 노드가 릴레이 중이므로 건너뜀
+ *   <li>이후 읽기는 Primary로 고정 (복제 지연으로 발행/삭제된 메시지를 다시 읽지 않도록)
+ *   <li>전달 가능 배치 조회 (PENDING + 재시도 시각 도래, ID 오름차순)
+ *   <li>같은 키에 재시도 대기 중인 앞선 메시지가 있으면 해당 키의 뒤 메시지는 보류
+ *   <li>메시지별 발행 - 실패 시 백오프 기록 후 같은 배치의 같은 키 메시지 보류
+ *   <li>배치 결과 반영 (발행 완료 삭제 + 실패 기록, 배치별 트랜잭션)
+ *   <li>진행이 없거나 마지막 배치이거나 최대 배치 수에 도달할 때까지 반복
+ * </ol>
+ *
+ * <p><strong>전달 보장:</strong> 메시지는 {@code publishEvent}가 반환한 뒤, 즉 모든 리스너가 발행 스레드에서 처리를 마친 뒤에 삭제합니다.
+ * 리스너가 실패하면 백오프 후 다시 발행하고, 발행 후 삭제 전에 장애가 나도 다음 실행에서 다시 발행됩니다 (at-least-once). 이 보장은 리스너가 동기({@code
+ * EventListener})일 때만 성립하므로 {@code DomainEvent}에 대한 비동기 리스너({@code AsyncEventListener})는 등록 시점에
+ * 거부됩니다. 리스너는 멱등이어야 합니다. 단일 릴레이(락)와 키별 보류 규칙으로 같은 aggregateKey의 이벤트는 기록 순서대로 전달됩니다.
+ *
+ * <p>SVC-001: Service는 @Transactional 사용 금지, Manager에서 처리.
+ *
+ * <p>SVC-004: Service에서 TimeProvider 직접 의존 금지 → Factory에서 처리.
+ *
+ * @author ryu-qqq
+ */
+@Service
+public class RelayOutboxService implements RelayOutboxUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(RelayOutboxService.class);
+
+    private final OutboxReadManager outboxReadManager;
+    private final OutboxPersistenceManager outboxPersistenceManager;
+    private final OutboxMessageFactory outboxMessageFactory;
+    private final OutboxEventSerializer outboxEventSerializer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DistributedLockPort distributedLockPort;
+
+    public RelayOutboxService(
+            OutboxReadManager outboxReadManager,
+            OutboxPersistenceManager outboxPersistenceManager,
+            OutboxMessageFactory outboxMessageFactory,
+            OutboxEventSerializer outboxEventSerializer,
+            ApplicationEventPublisher eventPublisher,
+            DistributedLockPort distributedLockPort) {
+        this.outboxReadManager = outboxReadManager;
+        this.outboxPersistenceManager = outboxPersistenceManager;
+        this.outboxMessageFactory = outboxMessageFactory;
+        this.outboxEventSerializer = outboxEventSerializer;
+        this.eventPublisher = eventPublisher;
+        this.distributedLockPort = distributedLockPort;
+    }
+
+    @Override
+    public OutboxRelayResult execute(RelayOutboxCommand command) {
+        OutboxRelayLockKey lockKey = OutboxRelayLockKey.of();
+        boolean acquired =
+                distributedLockPort.tryLock(
+                        lockKey, 0L, command.lockLeaseSeconds(), TimeUnit.SECONDS);
+        if (!acquired) {
+            return OutboxRelayResult.skippedResult();
+        }
+
+        // 복제본은 이미 삭제된 메시지를 돌려줄 수 있으므로 릴레이 읽기는 Primary로 고정
+        try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+            return relay(command);
+        } finally {
+            distributedLockPort.unlock(lockKey);
+        }
+    }
+
+    private OutboxRelayResult relay(RelayOutboxCommand command) {
+        int publishedCount = 0;
+        int failedCount = 0;
+        int deadCount = 0;
+        int batchCount = 0;
+
+        while (batchCount < command.maxBatches()) {
+            Instant now = outboxMessageFactory.now();
+            List<OutboxMessage> batch = outboxReadManager.findDue(now, command.batchSize());
+            if (batch.isEmpty()) {
+                break;
+            }
+
+            Set<String> keys =
+                    batch.stream().map(OutboxMessage::aggregateKey).collect(Collectors.toSet());
+            Map<String, Long> deferredHeads = outboxReadManager.findDeferredHeadIds(keys, now);
+            Set<String> blockedKeys = new HashSet<>();
+            List<Long> publishedIds = new ArrayList<>();
+            List<OutboxMessage> failedMessages = new ArrayList<>();
+
+            for (OutboxMessage message : batch) {
+                if (isBlocked(message, deferredHeads, blockedKeys)) {
+                    continue;
+                }
+                try {
+                    publish(message);
+                    publishedIds.add(message.idValue());
+                } catch (RuntimeException e) {
+                    message.recordFailure(describe(e), now);
+                    failedMessages.add(message);
+                    blockedKeys.add(message.aggregateKey());
+                    log.warn(
+                            "Outbox 이벤트 발행 실패: id={}, eventType={}, attempts={}, dead={}",
+                            message.idValue(),
+                            message.eventType(),
+                            message.attempts(),
+                            message.isDead(),
+                            e);
+                }
+            }
+
+            outboxPersistenceManager.complete(publishedIds, failedMessages);
+            batchCount++;
+            publishedCount += publishedIds.size();
+            for (OutboxMessage failed : failedMessages) {
+                if (failed.isDead()) {
+                    deadCount++;
+                } else {
+                    failedCount++;
+                }
+            }
+
+            boolean progressed = !publishedIds.isEmpty() || !failedMessages.isEmpty();
+            if (!progressed || batch.size() < command.batchSize()) {
+                break;
+            }
+        }
+
+        Duration lag =
+                outboxReadManager
+                        .findOldestPendingCreatedAt()
+                        .map(oldest -> Duration.between(oldest, outboxMessageFactory.now()))
+                        .filter(duration -> !duration.isNegative())
+                        .orElse(Duration.ZERO);
+
+        return new OutboxRelayResult(
+                publishedCount, failedCount, deadCount, batchCount, false, lag);
+    }
+
+    private boolean isBlocked(
+            OutboxMessage message, Map<String, Long> deferredHeads, Set<String> blockedKeys) {
+        if (blockedKeys.contains(message.aggregateKey())) {
+            return true;
+        }
+        Long deferredHeadId = deferredHeads.get(message.aggregateKey());
+        return deferredHeadId != null && deferredHeadId < message.idValue();
+    }
+
+    private void publish(OutboxMessage message) {
+        DomainEvent event =
+                outboxEventSerializer.deserialize(message.eventClass(), message.payload());
+        eventPublisher.publishEvent(event);
+    }
+
+    private static String describe(RuntimeException e) {
+        String detail = e.getMessage();
+        return detail == null ? e.getClass().getName() : e.getClass().getName() + ": " + detail;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ryuqq.application.common.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Bulkhead 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("Bulkhead 단위 테스트")
+class BulkheadTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private Bulkhead bulkhead(int maxConcurrent, int maxQueue, Duration maxWait) {
+        return new Bulkhead(
+                WorkloadLane.ADMIN_QUERY,
+                maxConcurrent,
+                maxQueue,
+                maxWait,
+                new BulkheadMetrics(meterRegistry));
+    }
+
+    private double rejected(String reason) {
+        return meterRegistry
+                .counter("bulkhead.rejected", "lane", "admin-query", "reason", reason)
+                .count();
+    }
+
+    @Nested
+    @DisplayName("acquire 메서드")
+    class Acquire {
+
+        @Test
+        @DisplayName("한도 이내면 즉시 허가하고 반납 후 다시 사용 가능")
+        void acquire_WithinLimit_ShouldGrantAndRelease() {
+            // given
+            Bulkhead sut = bulkhead(1, 0, Duration.ZERO);
+
+            // when
+            Bulkhead.Permit permit = sut.acquire();
+
+            // then
+            assertThat(sut.activeCount()).isEqualTo(1);
+            permit.close();
+            permit.close();
+            assertThat(sut.activeCount()).isZero();
+            sut.acquire().close();
+        }
+
+        @Test
+        @DisplayName("한도와 대기열이 모두 차면 즉시 거절")
+        void acquire_WhenQueueFull_ShouldFailFast() {
+            // given
+            Bulkhead sut = bulkhead(1, 0, Duration.ofSeconds(10));
+            Bulkhead.Permit held = sut.acquire();
+
+            // when & then
+            long start = System.nanoTime();
+            assertThatThrownBy(sut::acquire)
+                    .isInstanceOf(BulkheadFullException.class)
+                    .satisfies(
+                            e ->
+                                    assertThat(((BulkheadFullException) e).lane())
+                                            .isEqualTo(WorkloadLane.ADMIN_QUERY));
+            assertThat(Duration.ofNanos(System.nanoTime() - start))
+                    .isLessThan(Duration.ofSeconds(1));
+            assertThat(rejected("queue-full")).isEqualTo(1.0);
+            held.close();
+        }
+
+        @Test
+        @DisplayName("대기 시간을 넘기면 거절하고 대기열에서 빠짐")
+        void acquire_WhenWaitExpires_ShouldReject() {
+            // given
+            Bulkhead sut = bulkhead(1, 1, Duration.ofMillis(50));
+            Bulkhead.Permit held = sut.acquire();
+
+            // when & then
+            assertThatThrownBy(sut::acquire).isInstanceOf(BulkheadFullException.class);
+            assertThat(sut.queuedCount()).isZero();
+            assertThat(rejected("timeout")).isEqualTo(1.0);
+            held.close();
+        }
+
+        @Test
+        @DisplayName("대기 중 슬롯이 반납되면 대기하던 요청이 실행")
+        void acquire_WhenReleasedWhileQueued_ShouldGrantWaiter() throws Exception {
+            // given
+            Bulkhead sut = bulkhead(1, 1, Duration.ofSeconds(5));
+            Bulkhead.Permit held = sut.acquire();
+            CountDownLatch acquired = new CountDownLatch(1);
+
+            // when
+            Future<?> waiter =
+                    executor.submit(
+                            () -> {
+                                try (Bulkhead.Permit ignored = sut.acquire()) {
+                                    acquired.countDown();
+                                }
+                            });
+            while (sut.queuedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            held.close();
+
+            // then
+            assertThat(acquired.await(5, TimeUnit.SECONDS)).isTrue();
+            waiter.get(5, TimeUnit.SECONDS);
+            assertThat(sut.activeCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 실행 한도가 1 미만이면 예외")
+    void create_WithNonPositiveMaxConcurrent_ShouldThrow() {
+        assertThatThrownBy(() -> bulkhead(0, 0, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
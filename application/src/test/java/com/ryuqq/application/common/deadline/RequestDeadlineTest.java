@@ -0,0 +1,81 @@
+package com.ryuqq.application.common.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * RequestDeadline 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("RequestDeadline 단위 테스트")
+class RequestDeadlineTest {
+
+    @Nested
+    @DisplayName("start 메서드")
+    class Start {
+
+        @Test
+        @DisplayName("기한이 없으면 남은 시간이 없고 만료되지 않음")
+        void withoutDeadline_ShouldBeUnbounded() {
+            assertThat(RequestDeadline.remaining()).isEmpty();
+            assertThat(RequestDeadline.isExpired()).isFalse();
+            assertThatCode(RequestDeadline::checkNotExpired).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("범위를 닫으면 기한이 해제됨")
+        void close_ShouldClearDeadline() {
+            // given
+            RequestDeadline.Scope scope = RequestDeadline.start(Duration.ofSeconds(5));
+
+            // when
+            Duration remaining = RequestDeadline.remaining().orElseThrow();
+            scope.close();
+
+            // then
+            assertThat(remaining).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5));
+            assertThat(RequestDeadline.remaining()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("안쪽 범위가 더 길어도 바깥의 더 이른 기한을 유지")
+        void nestedLongerDeadline_ShouldKeepEarlierOne() {
+            try (RequestDeadline.Scope outer = RequestDeadline.start(Duration.ofSeconds(1))) {
+                // when
+                try (RequestDeadline.Scope inner = RequestDeadline.start(Duration.ofMinutes(1))) {
+                    // then
+                    assertThat(RequestDeadline.remaining().orElseThrow())
+                            .isLessThanOrEqualTo(Duration.ofSeconds(1));
+                }
+                assertThat(RequestDeadline.remaining()).isPresent();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("checkNotExpired 메서드")
+    class CheckNotExpired {
+
+        @Test
+        @DisplayName("기한이 지나면 예외로 중단하고 남은 시간은 0")
+        void afterDeadline_ShouldThrow() {
+            try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+                // when & then
+                assertThat(RequestDeadline.isExpired()).isTrue();
+                assertThat(RequestDeadline.remaining()).contains(Duration.ZERO);
+                assertThatThrownBy(RequestDeadline::checkNotExpired)
+                        .isInstanceOf(DeadlineExceededException.class);
+            }
+        }
+    }
+}
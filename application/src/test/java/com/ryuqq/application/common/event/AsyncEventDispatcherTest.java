@@ -0,0 +1,211 @@
+package com.ryuqq.application.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AsyncEventDispatcher 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("AsyncEventDispatcher 단위 테스트")
+class AsyncEventDispatcherTest {
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private AsyncEventDispatcher dispatcher(int capacity, AsyncEventRejectionPolicy policy) {
+        return new AsyncEventDispatcher(
+                executor,
+                capacity,
+                policy,
+                Duration.ofMillis(50),
+                new AsyncEventMetrics(meterRegistry));
+    }
+
+    @Nested
+    @DisplayName("dispatch 메서드")
+    class Dispatch {
+
+        @Test
+        @DisplayName("같은 레인의 작업은 제출 순서대로 실행")
+        void dispatch_SameLane_ShouldPreserveOrder() throws InterruptedException {
+            // given
+            AsyncEventDispatcher sut = dispatcher(1_000, AsyncEventRejectionPolicy.BLOCK);
+            List<Integer> executed = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(500);
+
+            // when
+            IntStream.range(0, 500)
+                    .forEach(
+                            i ->
+                                    sut.dispatch(
+                                            "lane",
+                                            "listener",
+                                            () -> {
+                                                executed.add(i);
+                                                done.countDown();
+                                            }));
+
+            // then
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executed)
+                    .containsExactlyElementsOf(IntStream.range(0, 500).boxed().toList());
+        }
+
+        @Test
+        @DisplayName("느린 레인이 다른 레인을 막지 않음")
+        void dispatch_SlowLane_ShouldNotBlockOtherLanes() throws InterruptedException {
+            // given
+            AsyncEventDispatcher sut = dispatcher(10, AsyncEventRejectionPolicy.BLOCK);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch otherDone = new CountDownLatch(1);
+            sut.dispatch("slow", "slow-listener", () -> await(release));
+
+            // when
+            sut.dispatch("fast", "fast-listener", otherDone::countDown);
+
+            // then
+            assertThat(otherDone.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("리스너 예외는 발행자에게 전파되지 않고 다음 작업은 계속 실행")
+        void dispatch_WhenListenerFails_ShouldContinueLane() throws InterruptedException {
+            // given
+            AsyncEventDispatcher sut = dispatcher(10, AsyncEventRejectionPolicy.BLOCK);
+            CountDownLatch next = new CountDownLatch(1);
+
+            // when
+            sut.dispatch(
+                    "lane",
+                    "listener",
+                    () -> {
+                        throw new IllegalStateException("boom");
+                    });
+            sut.dispatch("lane", "listener", next::countDown);
+
+            // then
+            assertThat(next.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(
+                            meterRegistry
+                                    .get("events.async.listener")
+                                    .tag("outcome", "failure")
+                                    .timer()
+                                    .count())
+                    .isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("용량 초과 정책")
+    class Rejection {
+
+        @Test
+        @DisplayName("ABORT - 용량 초과 시 예외")
+        void abort_WhenFull_ShouldThrow() {
+            // given
+            AsyncEventDispatcher sut = dispatcher(1, AsyncEventRejectionPolicy.ABORT);
+            CountDownLatch release = new CountDownLatch(1);
+            sut.dispatch("lane", "listener", () -> await(release));
+
+            // when & then
+            assertThatThrownBy(() -> sut.dispatch("lane", "listener", () -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(sut.queueDepth()).isEqualTo(1);
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("BLOCK - 대기 시간 안에 자리가 나지 않으면 예외")
+        void block_WhenStillFullAfterTimeout_ShouldThrow() {
+            // given
+            AsyncEventDispatcher sut = dispatcher(1, AsyncEventRejectionPolicy.BLOCK);
+            CountDownLatch release = new CountDownLatch(1);
+            sut.dispatch("lane", "listener", () -> await(release));
+
+            // when & then
+            assertThatThrownBy(() -> sut.dispatch("lane", "listener", () -> {}))
+                    .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("CALLER_RUNS - 용량 초과 시 발행 스레드에서 실행")
+        void callerRuns_WhenFull_ShouldRunInCaller() {
+            // given
+            AsyncEventDispatcher sut = dispatcher(1, AsyncEventRejectionPolicy.CALLER_RUNS);
+            CountDownLatch release = new CountDownLatch(1);
+            sut.dispatch("lane", "listener", () -> await(release));
+            Thread caller = Thread.currentThread();
+            AtomicBoolean ranInCaller = new AtomicBoolean();
+
+            // when
+            sut.dispatch(
+                    "lane", "listener", () -> ranInCaller.set(Thread.currentThread() == caller));
+
+            // then
+            assertThat(ranInCaller).isTrue();
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("DISCARD - 용량 초과 시 버리고 메트릭 기록")
+        void discard_WhenFull_ShouldDropAndCount() {
+            // given
+            AsyncEventDispatcher sut = dispatcher(1, AsyncEventRejectionPolicy.DISCARD);
+            CountDownLatch release = new CountDownLatch(1);
+            sut.dispatch("lane", "listener", () -> await(release));
+            AtomicBoolean ran = new AtomicBoolean();
+
+            // when
+            sut.dispatch("lane", "listener", () -> ran.set(true));
+
+            // then
+            assertThat(ran).isFalse();
+            assertThat(meterRegistry.get("events.async.rejected").counter().count())
+                    .isEqualTo(1.0);
+            release.countDown();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
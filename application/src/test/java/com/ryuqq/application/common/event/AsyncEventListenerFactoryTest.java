@@ -0,0 +1,95 @@
+package com.ryuqq.application.common.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.domain.common.event.DomainEvent;
+import java.lang.reflect.Method;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * AsyncEventListenerFactory 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("AsyncEventListenerFactory 단위 테스트")
+class AsyncEventListenerFactoryTest {
+
+    private final AsyncEventListenerFactory sut =
+            new AsyncEventListenerFactory(
+                    () -> {
+                        throw new AssertionError("dispatcher must be resolved lazily");
+                    });
+
+    private record LocalSignal() {}
+
+    private record RelayedEvent(Instant occurredAt) implements DomainEvent {}
+
+    static class Listeners {
+
+        @AsyncEventListener
+        void onLocalSignal(LocalSignal event) {}
+
+        @AsyncEventListener
+        void onRelayedEvent(RelayedEvent event) {}
+
+        @AsyncEventListener(RelayedEvent.class)
+        void onRelayedEventWithoutPayload() {}
+    }
+
+    private static Method method(String name, Class<?>... parameterTypes) throws Exception {
+        return Listeners.class.getDeclaredMethod(name, parameterTypes);
+    }
+
+    @Nested
+    @DisplayName("createApplicationListener 메서드")
+    class CreateApplicationListener {
+
+        @Test
+        @DisplayName("로컬 신호 이벤트는 비동기 어댑터로 등록")
+        void createApplicationListener_ForLocalSignal_ShouldCreateAsyncAdapter()
+                throws Exception {
+            // when & then
+            assertThat(
+                            sut.createApplicationListener(
+                                    "listeners",
+                                    Listeners.class,
+                                    method("onLocalSignal", LocalSignal.class)))
+                    .isInstanceOf(AsyncEventListenerMethodAdapter.class);
+        }
+
+        @Test
+        @DisplayName("아웃박스로 릴레이되는 DomainEvent는 비동기 리스너로 등록할 수 없음")
+        void createApplicationListener_ForDomainEvent_ShouldReject() throws Exception {
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    sut.createApplicationListener(
+                                            "listeners",
+                                            Listeners.class,
+                                            method("onRelayedEvent", RelayedEvent.class)))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining(RelayedEvent.class.getName());
+        }
+
+        @Test
+        @DisplayName("classes 속성으로 지정한 DomainEvent도 거부")
+        void createApplicationListener_ForDomainEventClassesAttribute_ShouldReject()
+                throws Exception {
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    sut.createApplicationListener(
+                                            "listeners",
+                                            Listeners.class,
+                                            method("onRelayedEventWithoutPayload")))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+}
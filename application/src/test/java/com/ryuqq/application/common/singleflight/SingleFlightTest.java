@@ -0,0 +1,228 @@
+package com.ryuqq.application.common.singleflight;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * SingleFlight 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("SingleFlight 단위 테스트")
+class SingleFlightTest {
+
+    private static final String NAME = "planning-context";
+
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String, String> sut;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+        sut = new SingleFlight<>(NAME, new SingleFlightMetrics(meterRegistry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private double calls(String role) {
+        return meterRegistry.counter("singleflight.calls", "name", NAME, "role", role).count();
+    }
+
+    /** leader가 계산 중인 동안 같은 키로 follower 요청을 보내고 결과를 모음 */
+    private List<Future<String>> runConcurrently(
+            String key, int followers, CountDownLatch release, AtomicInteger loads)
+            throws InterruptedException {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(
+                executor.submit(
+                        () ->
+                                sut.execute(
+                                        key,
+                                        () -> {
+                                            loads.incrementAndGet();
+                                            leaderStarted.countDown();
+                                            await(release);
+                                            return "context:" + key;
+                                        })));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        for (int i = 0; i < followers; i++) {
+            results.add(
+                    executor.submit(
+                            () ->
+                                    sut.execute(
+                                            key,
+                                            () -> {
+                                                loads.incrementAndGet();
+                                                return "unexpected";
+                                            })));
+        }
+        while (calls("follower") < followers) {
+            Thread.onSpinWait();
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("동시에 들어온 같은 키 요청은 한 번만 계산하고 결과를 공유")
+        void concurrentSameKey_ShouldLoadOnce() throws Exception {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+
+            // when
+            List<Future<String>> results = runConcurrently("ts-1", 9, release, loads);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("context:ts-1");
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(calls("leader")).isEqualTo(1.0);
+            assertThat(calls("follower")).isEqualTo(9.0);
+        }
+
+        @Test
+        @DisplayName("계산이 끝난 뒤의 요청은 새로 계산 (결과를 저장하지 않음)")
+        void sequentialCalls_ShouldLoadEachTime() {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+
+            // when
+            sut.execute("ts-1", () -> "v" + loads.incrementAndGet());
+            String second = sut.execute("ts-1", () -> "v" + loads.incrementAndGet());
+
+            // then
+            assertThat(second).isEqualTo("v2");
+            assertThat(calls("follower")).isZero();
+        }
+
+        @Test
+        @DisplayName("leader의 예외는 follower에게도 전달되고 다음 요청은 다시 계산")
+        void leaderFailure_ShouldPropagateToFollowers() throws Exception {
+            // given
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> leader =
+                    executor.submit(
+                            () ->
+                                    sut.execute(
+                                            "ts-1",
+                                            () -> {
+                                                leaderStarted.countDown();
+                                                await(release);
+                                                throw new IllegalArgumentException("not found");
+                                            }));
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> sut.execute("ts-1", () -> "x"));
+            while (calls("follower") < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(sut.execute("ts-1", () -> "recovered")).isEqualTo("recovered");
+        }
+
+        @Test
+        @DisplayName("leader가 기한 경과 후 실패하면 기한이 남은 follower는 원인 예외 대신 새로 계산")
+        void leaderFailureAfterDeadline_ShouldLetFollowerRetry() throws Exception {
+            // given
+            CountDownLatch leaderStarted = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<String> leader =
+                    executor.submit(
+                            () -> {
+                                try (RequestDeadline.Scope ignored =
+                                        RequestDeadline.start(Duration.ofMillis(1))) {
+                                    return sut.execute(
+                                            "ts-1",
+                                            () -> {
+                                                leaderStarted.countDown();
+                                                await(release);
+                                                // statement timeout으로 취소된 쿼리
+                                                throw new IllegalStateException("query timeout");
+                                            });
+                                }
+                            });
+            assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> follower = executor.submit(() -> sut.execute("ts-1", () -> "fresh"));
+            while (calls("follower") < 1) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            release.countDown();
+
+            // then
+            assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("fresh");
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("read-your-writes 요청은 진행 중인 계산을 공유하지 않음")
+        void primaryRequired_ShouldBypassCoalescing() throws Exception {
+            // given
+            AtomicInteger loads = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            List<Future<String>> results = runConcurrently("ts-1", 0, release, loads);
+
+            // when
+            String result;
+            try (ReadConsistencyContext.Scope ignored = ReadConsistencyContext.requirePrimary()) {
+                result = sut.execute("ts-1", () -> "fresh:" + loads.incrementAndGet());
+            }
+            release.countDown();
+
+            // then
+            assertThat(result).isEqualTo("fresh:2");
+            assertThat(results.get(0).get(5, TimeUnit.SECONDS)).isEqualTo("context:ts-1");
+        }
+    }
+}
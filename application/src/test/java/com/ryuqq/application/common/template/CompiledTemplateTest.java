@@ -0,0 +1,164 @@
+package com.ryuqq.application.common.template;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * CompiledTemplate / CompiledTemplateCache 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("CompiledTemplate 단위 테스트")
+class CompiledTemplateTest {
+
+    private static final String CONTROLLER =
+            """
+            package {base_package}.{domain}.controller;
+
+            public class {Domain}Controller {
+                @GetMapping("/{id}")
+                public {Domain}Response get(@PathVariable Long id) {
+                    return new {Domain}Response();
+                }
+            }
+            """;
+
+    private static CompiledTemplate controller() {
+        return CompiledTemplate.compile(CONTROLLER, TemplateSyntax.SINGLE_BRACE);
+    }
+
+    @Nested
+    @DisplayName("SINGLE_BRACE 문법")
+    class SingleBrace {
+
+        @Test
+        @DisplayName("값이 있는 변수만 치환하고 Java 블록과 값이 없는 변수는 원문 유지")
+        void render_ShouldSubstituteSuppliedVariablesOnly() {
+            // given
+            CompiledTemplate sut = controller();
+            Map<String, String> variables =
+                    Map.of("base_package", "com.ryuqq", "domain", "order", "Domain", "Order");
+
+            // when
+            String rendered = sut.render(variables);
+
+            // then
+            assertThat(rendered)
+                    .startsWith("package com.ryuqq.order.controller;")
+                    .contains("public class OrderController {")
+                    .contains("@GetMapping(\"/{id}\")")
+                    .contains("return new OrderResponse();");
+            assertThat(sut.variableNames())
+                    .containsExactly("base_package", "domain", "Domain", "id");
+            assertThat(sut.missingVariables(variables)).containsExactly("id");
+        }
+
+        @Test
+        @DisplayName("Appendable로 렌더링한 결과는 문자열 렌더링과 같음")
+        void renderTo_ShouldMatchRender() throws Exception {
+            // given
+            CompiledTemplate sut = controller();
+            Map<String, String> variables = Map.of("Domain", "Order");
+            StringWriter out = new StringWriter();
+
+            // when
+            sut.renderTo(out, variables);
+
+            // then
+            assertThat(out.toString()).isEqualTo(sut.render(variables));
+        }
+
+        @Test
+        @DisplayName("자리표시자가 없거나 원문이 null이면 그대로 출력")
+        void noPlaceholder_ShouldRenderAsIs() {
+            // given
+            String arrayInit = "int[] a = {1, 2};";
+
+            // when
+            CompiledTemplate literal =
+                    CompiledTemplate.compile(arrayInit, TemplateSyntax.SINGLE_BRACE);
+            CompiledTemplate empty = CompiledTemplate.compile(null, TemplateSyntax.SINGLE_BRACE);
+
+            // then
+            assertThat(literal.render(Map.of())).isEqualTo(arrayInit);
+            assertThat(literal.variableNames()).isEmpty();
+            assertThat(empty.render(Map.of())).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("DOUBLE_BRACE 문법")
+    class DoubleBrace {
+
+        @Test
+        @DisplayName("점 경로 이름과 괄호 안 공백 허용, 단일 중괄호는 리터럴")
+        void render_ShouldSupportDottedNames() {
+            // given
+            CompiledTemplate sut =
+                    CompiledTemplate.compile(
+                            "# {{project_name}} ({{ tech_stack.framework_type }}) {Domain}",
+                            TemplateSyntax.DOUBLE_BRACE);
+
+            // when
+            String rendered =
+                    sut.render(
+                            Map.of(
+                                    "project_name", "order-api",
+                                    "tech_stack.framework_type", "SPRING_BOOT"));
+
+            // then
+            assertThat(rendered).isEqualTo("# order-api (SPRING_BOOT) {Domain}");
+            assertThat(sut.variableNames())
+                    .containsExactly("project_name", "tech_stack.framework_type");
+        }
+    }
+
+    @Nested
+    @DisplayName("CompiledTemplateCache")
+    class Cache {
+
+        private final Instant v1 = Instant.parse("2026-01-01T00:00:00Z");
+        private final Instant v2 = Instant.parse("2026-01-02T00:00:00Z");
+
+        @Test
+        @DisplayName("같은 버전이면 적중, updated_at이 바뀌면 미스")
+        void get_ShouldMatchVersion() {
+            // given
+            CompiledTemplateCache<Long> sut = new CompiledTemplateCache<>();
+            CompiledTemplate compiled =
+                    sut.compile(1L, v1, "{Domain}", TemplateSyntax.SINGLE_BRACE);
+
+            // when & then
+            assertThat(sut.get(1L, v1)).containsSame(compiled);
+            assertThat(sut.get(1L, v2)).isEmpty();
+            assertThat(sut.get(2L, v1)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("오래된 버전 컴파일은 새 버전을 덮어쓰지 않음")
+        void compile_ShouldKeepNewerVersion() {
+            // given
+            CompiledTemplateCache<Long> sut = new CompiledTemplateCache<>();
+            sut.compile(1L, v2, "new {Domain}", TemplateSyntax.SINGLE_BRACE);
+
+            // when
+            sut.compile(1L, v1, "old {Domain}", TemplateSyntax.SINGLE_BRACE);
+
+            // then
+            assertThat(sut.get(1L, v2))
+                    .map(template -> template.render(Map.of("Domain", "Order")))
+                    .contains("new Order");
+            assertThat(sut.get(1L, v1)).isEmpty();
+            assertThat(sut.size()).isEqualTo(1);
+        }
+    }
+}
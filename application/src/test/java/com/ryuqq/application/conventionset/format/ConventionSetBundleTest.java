@@ -0,0 +1,132 @@
+package com.ryuqq.application.conventionset.format;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.application.conventionset.format.ConventionSetBundle.Table;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ConventionSetBundleBuilder / ConventionSetBundle 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("ConventionSetBundle 단위 테스트")
+class ConventionSetBundleTest {
+
+    private static final Instant EXPORTED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    private enum Severity {
+        BLOCKER
+    }
+
+    private static byte[] build() throws Exception {
+        ConventionSetBundleBuilder builder = new ConventionSetBundleBuilder();
+        builder.table(ConventionSetTable.LAYER);
+        builder.row(new Object[] {30L, 1L, "DOMAIN", "도메인 레이어", null, 1});
+        builder.row(new Object[] {10L, 1L, "APPLICATION", "애플리케이션 레이어", "설명", 2});
+        builder.row(new Object[] {20L, 1L, "ADAPTER_OUT", "어댑터", null, 3});
+        builder.table(ConventionSetTable.CONVENTION);
+        builder.row(new Object[] {5L, 100L, "1.0.0", null, true});
+        builder.table(ConventionSetTable.CODING_RULE);
+        builder.row(
+                new Object[] {
+                    7L, 5L, "DOM-001", "Lombok 금지", Severity.BLOCKER, "ANNOTATION", "", null,
+                    false, "AGGREGATE,VO"
+                });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        builder.writeTo(out, 1L, EXPORTED_AT);
+        return out.toByteArray();
+    }
+
+    @Test
+    @DisplayName("행을 ID 순으로 정렬해 쓰고 ID 이진 탐색으로 컬럼 값을 읽음")
+    void roundTrip_ShouldIndexRowsById() throws Exception {
+        // given
+        ConventionSetBundle sut = ConventionSetBundle.open(ByteBuffer.wrap(build()));
+
+        // when
+        Table layers = sut.table(ConventionSetTable.LAYER);
+        int row = layers.indexOf(20L);
+
+        // then
+        assertThat(sut.techStackId()).isEqualTo(1L);
+        assertThat(sut.exportedAt()).isEqualTo(EXPORTED_AT);
+        assertThat(layers.size()).isEqualTo(3);
+        assertThat(layers.id(0)).isEqualTo(10L);
+        assertThat(layers.id(2)).isEqualTo(30L);
+        assertThat(row).isEqualTo(1);
+        assertThat(layers.getString(row, layers.column("code"))).isEqualTo("ADAPTER_OUT");
+        assertThat(layers.getString(row, layers.column("description"))).isNull();
+        assertThat(layers.getLong(row, layers.column("order_index"))).isEqualTo(3L);
+        assertThat(layers.getString(0, layers.column("name"))).isEqualTo("애플리케이션 레이어");
+        assertThat(layers.indexOf(15L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("불리언/열거형 값을 보존하고 번들에 없는 테이블은 빈 테이블")
+    void roundTrip_ShouldKeepValueTypes() throws Exception {
+        // given
+        ConventionSetBundle sut = ConventionSetBundle.open(ByteBuffer.wrap(build()));
+
+        // when
+        Table conventions = sut.table(ConventionSetTable.CONVENTION);
+        Table rules = sut.table(ConventionSetTable.CODING_RULE);
+        Table modules = sut.table(ConventionSetTable.MODULE);
+
+        // then
+        assertThat(conventions.getBoolean(0, conventions.column("is_active"))).isTrue();
+        assertThat(rules.getString(0, rules.column("severity"))).isEqualTo("BLOCKER");
+        assertThat(rules.getBoolean(0, rules.column("auto_fixable"))).isFalse();
+        assertThat(rules.value(0, rules.column("description"))).isEqualTo("");
+        assertThat(rules.value(0, rules.column("rationale"))).isNull();
+        assertThat(rules.getString(0, rules.column("applies_to"))).isEqualTo("AGGREGATE,VO");
+        assertThat(modules.size()).isZero();
+        assertThat(modules.indexOf(1L)).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("시그니처가 다르면 ConventionSetInvalidDocumentException")
+    void open_WithWrongMagic_ShouldThrow() throws Exception {
+        // given
+        byte[] bytes = build();
+        bytes[0] = 0;
+
+        // when & then
+        assertThatThrownBy(() -> ConventionSetBundle.open(ByteBuffer.wrap(bytes)))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+
+    @Test
+    @DisplayName("형식 버전이 다르면 ConventionSetInvalidDocumentException")
+    void open_WithOtherVersion_ShouldThrow() throws Exception {
+        // given
+        ByteBuffer buffer = ByteBuffer.wrap(build());
+        buffer.putInt(8, ConventionSetFormat.VERSION + 1);
+
+        // when & then
+        assertThatThrownBy(() -> ConventionSetBundle.open(buffer))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class)
+                .hasMessageContaining("unsupported bundle version");
+    }
+
+    @Test
+    @DisplayName("디렉터리 오프셋이 버퍼를 벗어나면 ConventionSetInvalidDocumentException")
+    void open_WithTruncatedBuffer_ShouldThrow() throws Exception {
+        // given
+        byte[] bytes = build();
+        ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, 40).slice();
+
+        // when & then
+        assertThatThrownBy(() -> ConventionSetBundle.open(truncated))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+}
@@ -0,0 +1,203 @@
+package com.ryuqq.application.conventionset.internal.planner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand.Section;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan.TablePlan;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportReadManager;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetRowConflictException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ConventionSetImportPlanner 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("ConventionSetImportPlanner 단위 테스트")
+class ConventionSetImportPlannerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final List<String> LAYER_LOOKUP = List.of("id", "architecture_id", "code");
+
+    private static final List<String> MODULE_LOOKUP =
+            List.of("id", "layer_id", "name", "parent_module_id");
+
+    @Mock private ConventionSetImportReadManager conventionSetImportReadManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    private ConventionSetImportPlanner sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConventionSetImportPlanner(conventionSetImportReadManager, timeProvider);
+    }
+
+    private static Section section(ConventionSetTable table, Object[]... rows) {
+        return new Section(table.tableName(), table.columns(), List.of(rows));
+    }
+
+    private static ConventionSetDocument document(Section... sections) {
+        return ConventionSetDocument.of(
+                new ImportConventionSetCommand(
+                        ConventionSetFormat.NAME, ConventionSetFormat.VERSION, List.of(sections)));
+    }
+
+    @Test
+    @DisplayName("자연 키가 같은 기존 행은 건너뛰고, 자식 참조는 기존 ID와 음수 임시 ID로 재매핑")
+    void plan_ShouldSkipExistingRowsAndRemapReferences() {
+        // given
+        ConventionSetDocument document =
+                document(
+                        section(
+                                ConventionSetTable.LAYER,
+                                new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1},
+                                new Object[] {11L, 1L, "APPLICATION", "응용", null, 2}),
+                        section(
+                                ConventionSetTable.MODULE,
+                                new Object[] {20L, 10L, null, "domain", null, "domain", ":d"},
+                                new Object[] {21L, 11L, null, "app", null, "app", ":a"},
+                                new Object[] {22L, 11L, 21L, "app-sub", null, "sub", ":s"}));
+        given(timeProvider.now()).willReturn(NOW);
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.LAYER,
+                                LAYER_LOOKUP,
+                                "architecture_id",
+                                Set.of(1L)))
+                .willReturn(List.<Object[]>of(new Object[] {500L, 1L, "domain"}));
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.MODULE, MODULE_LOOKUP, "layer_id", Set.of(500L)))
+                .willReturn(List.of());
+
+        // when
+        ConventionSetImportPlan plan = sut.plan(document);
+
+        // then
+        assertThat(plan.importedAt()).isEqualTo(NOW);
+        TablePlan layers = plan.tables().get(0);
+        assertThat(layers.table()).isEqualTo(ConventionSetTable.LAYER);
+        assertThat(layers.skippedCount()).isEqualTo(1);
+        assertThat(layers.inserts()).hasSize(1);
+        assertThat(layers.inserts().get(0)).startsWith(-1L, 1L, "APPLICATION");
+
+        TablePlan modules = plan.tables().get(1);
+        assertThat(modules.skippedCount()).isZero();
+        assertThat(modules.inserts())
+                .extracting(row -> List.of(row[0], row[1]))
+                .containsExactly(List.of(-2L, 500L), List.of(-3L, -1L), List.of(-4L, -1L));
+        assertThat(modules.inserts().get(2)[2]).isEqualTo(-3L);
+        assertThat(modules.inserts().get(0)[2]).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 문서를 다시 보내면 전부 기존 행으로 매칭되어 저장할 행이 없음")
+    void plan_WithAlreadyImportedDocument_ShouldInsertNothing() {
+        // given
+        ConventionSetDocument document =
+                document(
+                        section(
+                                ConventionSetTable.LAYER,
+                                new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1}));
+        given(timeProvider.now()).willReturn(NOW);
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.LAYER,
+                                LAYER_LOOKUP,
+                                "architecture_id",
+                                Set.of(1L)))
+                .willReturn(List.<Object[]>of(new Object[] {500L, 1L, "DOMAIN"}));
+
+        // when
+        ConventionSetImportPlan plan = sut.plan(document);
+
+        // then
+        assertThat(plan.tables().get(0).inserts()).isEmpty();
+        assertThat(plan.tables().get(0).skippedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자식 모듈이 부모보다 먼저 나와도 부모 행을 먼저 저장하도록 정렬")
+    void plan_WithChildBeforeParent_ShouldOrderParentsFirst() {
+        // given
+        ConventionSetDocument document =
+                document(
+                        section(
+                                ConventionSetTable.MODULE,
+                                new Object[] {22L, 500L, 21L, "app-sub", null, "sub", ":s"},
+                                new Object[] {21L, 500L, null, "app", null, "app", ":a"}));
+        given(timeProvider.now()).willReturn(NOW);
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.MODULE, MODULE_LOOKUP, "layer_id", Set.of(500L)))
+                .willReturn(List.of());
+
+        // when
+        ConventionSetImportPlan plan = sut.plan(document);
+
+        // then
+        assertThat(plan.tables().get(0).inserts())
+                .extracting(row -> List.of(row[0], String.valueOf(row[2])))
+                .containsExactly(List.of(-2L, "null"), List.of(-1L, "-2"));
+    }
+
+    @Test
+    @DisplayName("새 모듈끼리 부모 참조가 순환하면 잘못된 문서")
+    void plan_WithCyclicParents_ShouldThrowInvalidDocument() {
+        // given
+        ConventionSetDocument document =
+                document(
+                        section(
+                                ConventionSetTable.MODULE,
+                                new Object[] {20L, 500L, 21L, "a", null, "a", ":a"},
+                                new Object[] {21L, 500L, 20L, "b", null, "b", ":b"}));
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.MODULE, MODULE_LOOKUP, "layer_id", Set.of(500L)))
+                .willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> sut.plan(document))
+                .isInstanceOf(ConventionSetInvalidDocumentException.class);
+    }
+
+    @Test
+    @DisplayName("같은 자연 키의 기존 행이 다른 부모를 참조하면 충돌")
+    void plan_WithDifferentExistingParent_ShouldThrowConflict() {
+        // given
+        ConventionSetDocument document =
+                document(
+                        section(
+                                ConventionSetTable.MODULE,
+                                new Object[] {20L, 500L, null, "domain", null, "domain", ":d"}));
+        given(
+                        conventionSetImportReadManager.findRowsIn(
+                                ConventionSetTable.MODULE, MODULE_LOOKUP, "layer_id", Set.of(500L)))
+                .willReturn(List.<Object[]>of(new Object[] {30L, 500L, "domain", 99L}));
+
+        // when & then
+        assertThatThrownBy(() -> sut.plan(document))
+                .isInstanceOf(ConventionSetRowConflictException.class);
+    }
+}
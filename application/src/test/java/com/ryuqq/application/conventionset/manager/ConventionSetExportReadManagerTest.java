@@ -0,0 +1,150 @@
+package com.ryuqq.application.conventionset.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import com.ryuqq.application.conventionset.format.ConventionSetRowWriter;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.port.out.ConventionSetExportAdminQueryPort;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ConventionSetExportReadManager 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("manager")
+@Tag("application-layer")
+@DisplayName("ConventionSetExportReadManager 단위 테스트")
+class ConventionSetExportReadManagerTest {
+
+    @Mock private ConventionSetExportAdminQueryPort conventionSetExportAdminQueryPort;
+
+    private ConventionSetExportReadManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConventionSetExportReadManager(conventionSetExportAdminQueryPort);
+    }
+
+    /** 호출 순서를 기록하는 출력 대상 */
+    private static class RecordingWriter implements ConventionSetRowWriter {
+
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void table(ConventionSetTable table) {
+            events.add(table.tableName());
+        }
+
+        @Override
+        public void row(Object[] values) {
+            events.add("row:" + values[0]);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 테이블을 정의 순서대로 출력하고 테이블별 행 수 반환")
+    void export_ShouldWriteEveryTableInOrder() throws Exception {
+        // given
+        given(conventionSetExportAdminQueryPort.streamRows(any(), eq(1L)))
+                .willAnswer(invocation -> Stream.empty());
+        given(conventionSetExportAdminQueryPort.streamRows(ConventionSetTable.LAYER, 1L))
+                .willReturn(Stream.of(new Object[] {10L}, new Object[] {11L}));
+        RecordingWriter writer = new RecordingWriter();
+
+        // when
+        Map<ConventionSetTable, Long> counts = sut.export(1L, writer);
+
+        // then
+        assertThat(counts.keySet()).containsExactly(ConventionSetTable.values());
+        assertThat(counts.get(ConventionSetTable.LAYER)).isEqualTo(2L);
+        assertThat(counts.get(ConventionSetTable.TECH_STACK)).isZero();
+        assertThat(writer.events).startsWith("tech_stack", "architecture", "layer", "row:10");
+        assertThat(writer.events.indexOf("row:11"))
+                .isEqualTo(writer.events.indexOf("layer_dependency_rule") - 1);
+        assertThat(writer.events).hasSize(ConventionSetTable.values().length + 2);
+    }
+
+    @Test
+    @DisplayName("출력 실패 시에도 열린 스트림을 닫고 예외 전파")
+    void export_WhenWriterFails_ShouldCloseStream() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        given(conventionSetExportAdminQueryPort.streamRows(ConventionSetTable.TECH_STACK, 1L))
+                .willReturn(
+                        Stream.<Object[]>of(new Object[] {1L}).onClose(() -> closed.set(true)));
+        ConventionSetRowWriter failing =
+                new ConventionSetRowWriter() {
+                    @Override
+                    public void table(ConventionSetTable table) {}
+
+                    @Override
+                    public void row(Object[] values) throws IOException {
+                        throw new IOException("client aborted");
+                    }
+                };
+
+        // when & then
+        assertThatThrownBy(() -> sut.export(1L, failing))
+                .isInstanceOf(IOException.class)
+                .hasMessage("client aborted");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("스트리밍 도중 요청 기한이 지나면 다음 확인 지점에서 중단하고 커서를 닫음")
+    void export_WhenDeadlineExpiresWhileStreaming_ShouldStopAndCloseStream() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        int interval = ConventionSetExportReadManager.DEADLINE_CHECK_INTERVAL;
+        given(conventionSetExportAdminQueryPort.streamRows(ConventionSetTable.TECH_STACK, 1L))
+                .willReturn(
+                        LongStream.range(0, interval * 3L)
+                                .mapToObj(id -> new Object[] {id})
+                                .onClose(() -> closed.set(true)));
+        List<RequestDeadline.Scope> expired = new ArrayList<>();
+        RecordingWriter writer =
+                new RecordingWriter() {
+                    @Override
+                    public void row(Object[] values) {
+                        super.row(values);
+                        if (expired.isEmpty()) {
+                            // 느린 클라이언트가 첫 행을 받는 동안 기한 경과
+                            expired.add(RequestDeadline.start(Duration.ZERO));
+                        }
+                    }
+                };
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> sut.export(1L, writer))
+                    .isInstanceOf(DeadlineExceededException.class);
+        } finally {
+            expired.forEach(RequestDeadline.Scope::close);
+        }
+        assertThat(closed).isTrue();
+        assertThat(writer.events).hasSize(1 + interval);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ryuqq.application.conventionset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.conventionset.dto.query.ExportConventionSetQuery;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetExportResult;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetRowWriter;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.manager.ConventionSetExportReadManager;
+import com.ryuqq.application.techstack.validator.TechStackValidator;
+import com.ryuqq.domain.techstack.exception.TechStackNotFoundException;
+import com.ryuqq.domain.techstack.id.TechStackId;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ExportConventionSetService 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("ExportConventionSetService 단위 테스트")
+class ExportConventionSetServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private TechStackValidator techStackValidator;
+
+    @Mock private ConventionSetExportReadManager conventionSetExportReadManager;
+
+    @Mock private TimeProvider timeProvider;
+
+    @Mock private ConventionSetRowWriter writer;
+
+    private ExportConventionSetService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new ExportConventionSetService(
+                        techStackValidator, conventionSetExportReadManager, timeProvider);
+    }
+
+    @Test
+    @DisplayName("존재 확인만 하고 행 조회는 writeRows 호출 시점까지 미룸")
+    void execute_ShouldDeferRowsUntilWrite() throws Exception {
+        // given
+        given(timeProvider.now()).willReturn(NOW);
+        given(conventionSetExportReadManager.export(1L, writer))
+                .willReturn(Map.of(ConventionSetTable.TECH_STACK, 1L));
+
+        // when
+        ConventionSetExportResult result = sut.execute(new ExportConventionSetQuery(1L));
+
+        // then
+        then(techStackValidator).should().findExistingOrThrow(TechStackId.of(1L));
+        then(conventionSetExportReadManager).shouldHaveNoInteractions();
+        assertThat(result.techStackId()).isEqualTo(1L);
+        assertThat(result.formatVersion()).isEqualTo(ConventionSetFormat.VERSION);
+        assertThat(result.exportedAt()).isEqualTo(NOW);
+
+        assertThat(result.writeRows(writer)).containsEntry(ConventionSetTable.TECH_STACK, 1L);
+        then(conventionSetExportReadManager).should().export(1L, writer);
+    }
+
+    @Test
+    @DisplayName("기술 스택이 없으면 스트리밍 전에 TechStackNotFoundException")
+    void execute_WhenTechStackMissing_ShouldThrow() throws Exception {
+        // given
+        given(techStackValidator.findExistingOrThrow(any()))
+                .willThrow(new TechStackNotFoundException(9L));
+
+        // when & then
+        assertThatThrownBy(() -> sut.execute(new ExportConventionSetQuery(9L)))
+                .isInstanceOf(TechStackNotFoundException.class);
+        then(conventionSetExportReadManager).shouldHaveNoInteractions();
+    }
+}
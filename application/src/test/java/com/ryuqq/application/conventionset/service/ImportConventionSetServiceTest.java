@@ -0,0 +1,253 @@
+package com.ryuqq.application.conventionset.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.application.common.deadline.DeadlineExceededException;
+import com.ryuqq.application.common.deadline.RequestDeadline;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.response.ConventionSetImportResult;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetDocument;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlan.TablePlan;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetImportPlanner;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportPersistenceManager;
+import com.ryuqq.application.conventionset.validator.ConventionSetImportValidator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ImportConventionSetService 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("ImportConventionSetService 단위 테스트")
+class ImportConventionSetServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private ConventionSetImportValidator conventionSetImportValidator;
+
+    @Mock private ConventionSetImportPlanner conventionSetImportPlanner;
+
+    @Mock private ConventionSetImportPersistenceManager conventionSetImportPersistenceManager;
+
+    private final ImportConventionSetCommand command =
+            new ImportConventionSetCommand(
+                    ConventionSetFormat.NAME, ConventionSetFormat.VERSION, List.of());
+
+    private final ConventionSetDocument document = ConventionSetDocument.of(command);
+
+    private ImportConventionSetService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new ImportConventionSetService(
+                        conventionSetImportValidator,
+                        conventionSetImportPlanner,
+                        conventionSetImportPersistenceManager);
+    }
+
+    /** 부모 참조가 없는 행 (id는 계획 단계의 음수 임시 ID) */
+    private static List<Object[]> rows(ConventionSetTable table, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Object[] row = new Object[table.columns().size()];
+            row[0] = -(i + 1L);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static Object[] module(long id, long layerId, Long parentId) {
+        Object[] row = new Object[ConventionSetTable.MODULE.columns().size()];
+        row[0] = id;
+        row[ConventionSetTable.MODULE.columns().indexOf("layer_id")] = layerId;
+        row[ConventionSetTable.MODULE.columns().indexOf("parent_module_id")] = parentId;
+        return row;
+    }
+
+    /** 저장한 행 수만큼 1부터 증가하는 ID를 발급한 것처럼 응답 */
+    private void givenGeneratedIds() {
+        AtomicLong lastId = new AtomicLong();
+        willAnswer(
+                        invocation -> {
+                            List<Object[]> chunk = invocation.getArgument(1);
+                            long from = lastId.getAndAdd(chunk.size()) + 1;
+                            return LongStream.range(from, from + chunk.size()).boxed().toList();
+                        })
+                .given(conventionSetImportPersistenceManager)
+                .insertChunk(any(), anyList(), any());
+    }
+
+    private void givenPlan(TablePlan... tables) {
+        given(conventionSetImportValidator.validate(command)).willReturn(document);
+        given(conventionSetImportPlanner.plan(document))
+                .willReturn(new ConventionSetImportPlan(NOW, List.of(tables)));
+    }
+
+    @Test
+    @DisplayName("계획까지만 수행하고 저장은 insertRows 호출 시점까지 미룸")
+    void execute_ShouldDeferInsertsUntilInsertRows() {
+        // given
+        givenPlan(new TablePlan(ConventionSetTable.LAYER, 3, rows(ConventionSetTable.LAYER, 2)));
+
+        // when
+        ConventionSetImportResult result = sut.execute(command);
+
+        // then
+        assertThat(result.importedAt()).isEqualTo(NOW);
+        assertThat(result.insertCount()).isEqualTo(2L);
+        assertThat(result.skippedCount()).isEqualTo(1L);
+        then(conventionSetImportPersistenceManager).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("부모 우선 순서로 CHUNK_SIZE행씩 커밋하고 청크마다 진행 상황 알림")
+    void insertRows_ShouldCommitInChunksAndReportProgress() throws Exception {
+        // given
+        int layerRows = ImportConventionSetService.CHUNK_SIZE * 2 + 500;
+        givenPlan(
+                new TablePlan(
+                        ConventionSetTable.ARCHITECTURE,
+                        1,
+                        rows(ConventionSetTable.ARCHITECTURE, 1)),
+                new TablePlan(
+                        ConventionSetTable.LAYER,
+                        layerRows,
+                        rows(ConventionSetTable.LAYER, layerRows)),
+                new TablePlan(ConventionSetTable.MODULE, 4, List.of()));
+        givenGeneratedIds();
+        List<String> progress = new ArrayList<>();
+
+        // when
+        long inserted =
+                sut.execute(command)
+                        .insertRows(
+                                (table, tableInserted, total) ->
+                                        progress.add(
+                                                table.tableName()
+                                                        + " "
+                                                        + tableInserted
+                                                        + "/"
+                                                        + total));
+
+        // then
+        assertThat(inserted).isEqualTo(1L + layerRows);
+        assertThat(progress)
+                .containsExactly(
+                        "architecture 1/1",
+                        "layer 1000/2500",
+                        "layer 2000/2500",
+                        "layer 2500/2500");
+        then(conventionSetImportPersistenceManager)
+                .should(times(3))
+                .insertChunk(eq(ConventionSetTable.LAYER), anyList(), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("청크 저장이 실패하면 이후 청크는 저장하지 않고 진행 알림도 멈춤")
+    void insertRows_WhenChunkFails_ShouldStop() {
+        // given
+        givenPlan(
+                new TablePlan(
+                        ConventionSetTable.LAYER, 2_000, rows(ConventionSetTable.LAYER, 2_000)));
+        willThrow(new IllegalStateException("duplicate key"))
+                .given(conventionSetImportPersistenceManager)
+                .insertChunk(eq(ConventionSetTable.LAYER), anyList(), any());
+        List<Integer> progress = new ArrayList<>();
+
+        // when & then
+        assertThatThrownBy(
+                        () ->
+                                sut.execute(command)
+                                        .insertRows(
+                                                (table, tableInserted, total) ->
+                                                        progress.add(tableInserted)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(progress).isEmpty();
+        then(conventionSetImportPersistenceManager)
+                .should(times(1))
+                .insertChunk(any(), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("임시 ID 참조는 먼저 저장한 부모의 발급 ID로 바꾸고, 같은 청크의 행을 참조하면 청크를 나눔")
+    @SuppressWarnings("unchecked")
+    void insertRows_ShouldReplaceTemporaryReferencesWithGeneratedIds() throws Exception {
+        // given
+        givenPlan(
+                new TablePlan(ConventionSetTable.LAYER, 1, rows(ConventionSetTable.LAYER, 1)),
+                new TablePlan(
+                        ConventionSetTable.MODULE,
+                        3,
+                        List.of(
+                                module(-2L, -1L, null),
+                                module(-3L, -1L, -2L),
+                                module(-4L, 500L, null))));
+        givenGeneratedIds();
+        List<Integer> progress = new ArrayList<>();
+
+        // when
+        long inserted =
+                sut.execute(command)
+                        .insertRows((table, tableInserted, total) -> progress.add(tableInserted));
+
+        // then
+        assertThat(inserted).isEqualTo(4L);
+        assertThat(progress).containsExactly(1, 1, 3);
+        ArgumentCaptor<List<Object[]>> chunks = ArgumentCaptor.forClass(List.class);
+        then(conventionSetImportPersistenceManager)
+                .should(times(2))
+                .insertChunk(eq(ConventionSetTable.MODULE), chunks.capture(), eq(NOW));
+        assertThat(chunks.getAllValues().get(0)).extracting(row -> row[1]).containsExactly(1L);
+        assertThat(chunks.getAllValues().get(1))
+                .extracting(row -> row[1])
+                .containsExactly(1L, 500L);
+        assertThat(chunks.getAllValues().get(1))
+                .extracting(row -> row[2])
+                .containsExactly(2L, null);
+    }
+
+    @Test
+    @DisplayName("요청 기한이 지났으면 다음 청크를 시작하지 않음")
+    void insertRows_WhenDeadlineExpired_ShouldNotStartChunk() {
+        // given
+        givenPlan(new TablePlan(ConventionSetTable.LAYER, 2, rows(ConventionSetTable.LAYER, 2)));
+        ConventionSetImportResult result = sut.execute(command);
+
+        // when & then
+        try (RequestDeadline.Scope ignored = RequestDeadline.start(Duration.ZERO)) {
+            assertThatThrownBy(() -> result.insertRows((table, tableInserted, total) -> {}))
+                    .isInstanceOf(DeadlineExceededException.class);
+        }
+        then(conventionSetImportPersistenceManager).shouldHaveNoInteractions();
+    }
+}
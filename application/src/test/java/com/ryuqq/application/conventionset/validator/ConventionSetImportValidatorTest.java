@@ -0,0 +1,157 @@
+package com.ryuqq.application.conventionset.validator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand;
+import com.ryuqq.application.conventionset.dto.command.ImportConventionSetCommand.Section;
+import com.ryuqq.application.conventionset.format.ConventionSetFormat;
+import com.ryuqq.application.conventionset.format.ConventionSetTable;
+import com.ryuqq.application.conventionset.internal.planner.ConventionSetDocument;
+import com.ryuqq.application.conventionset.manager.ConventionSetImportReadManager;
+import com.ryuqq.domain.conventionset.exception.ConventionSetInvalidDocumentException;
+import com.ryuqq.domain.conventionset.exception.ConventionSetParentNotFoundException;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ConventionSetImportValidator 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("ConventionSetImportValidator 단위 테스트")
+class ConventionSetImportValidatorTest {
+
+    @Mock private ConventionSetImportReadManager conventionSetImportReadManager;
+
+    private ConventionSetImportValidator sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ConventionSetImportValidator(conventionSetImportReadManager);
+    }
+
+    private static ImportConventionSetCommand command(Section... sections) {
+        return new ImportConventionSetCommand(
+                ConventionSetFormat.NAME, ConventionSetFormat.VERSION, List.of(sections));
+    }
+
+    private static Section layers(Object[]... rows) {
+        return new Section("layer", ConventionSetTable.LAYER.columns(), List.of(rows));
+    }
+
+    @Nested
+    @DisplayName("문서 검증")
+    class Document {
+
+        @Test
+        @DisplayName("ID와 참조 컬럼은 Long으로 정규화하고 문서 밖 부모는 테이블당 한 번 조회")
+        void validate_ShouldNormalizeAndCheckExternalParentsOnce() {
+            // given
+            ImportConventionSetCommand command =
+                    command(
+                            layers(
+                                    new Object[] {10, 1, "DOMAIN", "도메인", null, 1},
+                                    new Object[] {11, 2, "DOMAIN", "도메인", null, 1}));
+            given(
+                            conventionSetImportReadManager.findExistingIds(
+                                    ConventionSetTable.ARCHITECTURE, Set.of(1L, 2L)))
+                    .willReturn(Set.of(1L, 2L));
+
+            // when
+            ConventionSetDocument document = sut.validate(command);
+
+            // then
+            assertThat(document.rowCount()).isEqualTo(2);
+            assertThat(document.rows(ConventionSetTable.LAYER).get(0)).startsWith(10L, 1L);
+            then(conventionSetImportReadManager).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("형식 버전, 컬럼, 행 길이, ID/자연 키 중복이 맞지 않으면 거부")
+        void validate_WithMalformedDocument_ShouldReject() {
+            // given
+            ImportConventionSetCommand wrongVersion =
+                    new ImportConventionSetCommand(ConventionSetFormat.NAME, 99, List.of());
+            ImportConventionSetCommand wrongColumns =
+                    command(new Section("layer", List.of("id"), List.<Object[]>of()));
+            ImportConventionSetCommand shortRow = command(layers(new Object[] {10L, 1L}));
+            ImportConventionSetCommand duplicateId =
+                    command(
+                            layers(
+                                    new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1},
+                                    new Object[] {10L, 1L, "APPLICATION", "응용", null, 2}));
+            ImportConventionSetCommand duplicateKey =
+                    command(
+                            layers(
+                                    new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1},
+                                    new Object[] {11L, 1L, "domain", "도메인", null, 2}));
+
+            // when & then
+            for (ImportConventionSetCommand command :
+                    List.of(wrongVersion, wrongColumns, shortRow, duplicateId, duplicateKey)) {
+                assertThatThrownBy(() -> sut.validate(command))
+                        .isInstanceOf(ConventionSetInvalidDocumentException.class);
+            }
+            then(conventionSetImportReadManager).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("문서 밖 부모")
+    class ExternalParents {
+
+        @Test
+        @DisplayName("문서 안 부모는 조회하지 않음")
+        void validate_WithParentInDocument_ShouldNotQuery() {
+            // given
+            Object[] architecture = {1L, 7L, "hex", "HEXAGONAL", null, null, null};
+            ImportConventionSetCommand command =
+                    command(
+                            new Section(
+                                    "architecture",
+                                    ConventionSetTable.ARCHITECTURE.columns(),
+                                    List.<Object[]>of(architecture)),
+                            layers(new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1}));
+            given(
+                            conventionSetImportReadManager.findExistingIds(
+                                    ConventionSetTable.TECH_STACK, Set.of(7L)))
+                    .willReturn(Set.of(7L));
+
+            // when
+            sut.validate(command);
+
+            // then
+            then(conventionSetImportReadManager).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("DB에 없는 부모가 있으면 ParentNotFound")
+        void validate_WithMissingParent_ShouldThrow() {
+            // given
+            ImportConventionSetCommand command =
+                    command(layers(new Object[] {10L, 1L, "DOMAIN", "도메인", null, 1}));
+            given(
+                            conventionSetImportReadManager.findExistingIds(
+                                    ConventionSetTable.ARCHITECTURE, Set.of(1L)))
+                    .willReturn(Set.of());
+
+            // when & then
+            assertThatThrownBy(() -> sut.validate(command))
+                    .isInstanceOf(ConventionSetParentNotFoundException.class);
+        }
+    }
+}
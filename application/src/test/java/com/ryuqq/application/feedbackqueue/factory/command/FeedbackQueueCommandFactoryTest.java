@@ -3,6 +3,7 @@ package com.ryuqq.application.feedbackqueue.factory.command;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.ryuqq.application.common.port.out.IdGeneratorPort;
 import com.ryuqq.application.common.time.TimeProvider;
 import com.ryuqq.application.feedbackqueue.dto.command.CreateFeedbackCommand;
 import com.ryuqq.application.feedbackqueue.fixture.CreateFeedbackCommandFixture;
@@ -34,13 +35,16 @@ class FeedbackQueueCommandFactoryTest {
 
     @Mock private TimeProvider timeProvider;
 
+    @Mock private IdGeneratorPort idGeneratorPort;
+
     private FeedbackQueueCommandFactory sut;
 
     private static final Instant FIXED_TIME = Instant.parse("2024-01-15T10:00:00Z");
+    private static final long GENERATED_ID = 123_456_789L;
 
     @BeforeEach
     void setUp() {
-        sut = new FeedbackQueueCommandFactory(timeProvider);
+        sut = new FeedbackQueueCommandFactory(timeProvider, idGeneratorPort);
     }
 
     @Nested
@@ -53,6 +57,7 @@ class FeedbackQueueCommandFactoryTest {
             // given
             CreateFeedbackCommand command = CreateFeedbackCommandFixture.defaultCommand();
             given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
 
             // when
             FeedbackQueue result = sut.create(command);
@@ -64,12 +69,29 @@ class FeedbackQueueCommandFactoryTest {
             assertThat(result.payload().value()).isEqualTo(command.payload());
         }
 
+        @Test
+        @DisplayName("성공 - 생성 시점에 ID가 사전 할당되고 신규 엔티티로 유지됨")
+        void create_ShouldPreAssignGeneratedId() {
+            // given
+            CreateFeedbackCommand command = CreateFeedbackCommandFixture.defaultCommand();
+            given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
+
+            // when
+            FeedbackQueue result = sut.create(command);
+
+            // then
+            assertThat(result.idValue()).isEqualTo(GENERATED_ID);
+            assertThat(result.isNew()).isTrue();
+        }
+
         @Test
         @DisplayName("성공 - RULE_EXAMPLE ADD 피드백 생성")
         void create_WithRuleExampleAddCommand_ShouldReturnFeedbackQueue() {
             // given
             CreateFeedbackCommand command = CreateFeedbackCommandFixture.ruleExampleAddCommand();
             given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
 
             // when
             FeedbackQueue result = sut.create(command);
@@ -86,6 +108,7 @@ class FeedbackQueueCommandFactoryTest {
             // given
             CreateFeedbackCommand command = CreateFeedbackCommandFixture.classTemplateAddCommand();
             given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
 
             // when
             FeedbackQueue result = sut.create(command);
@@ -107,6 +130,7 @@ class FeedbackQueueCommandFactoryTest {
             CreateFeedbackCommand command = CreateFeedbackCommandFixture.defaultCommand();
             RiskLevel riskLevel = RiskLevel.HIGH;
             given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
 
             // when
             FeedbackQueue result = sut.create(command, riskLevel);
@@ -123,6 +147,7 @@ class FeedbackQueueCommandFactoryTest {
             CreateFeedbackCommand command = CreateFeedbackCommandFixture.codingRuleAddCommand();
             RiskLevel riskLevel = RiskLevel.SAFE;
             given(timeProvider.now()).willReturn(FIXED_TIME);
+            given(idGeneratorPort.generateLong()).willReturn(GENERATED_ID);
 
             // when
             FeedbackQueue result = sut.create(command, riskLevel);
@@ -198,6 +198,40 @@ class FeedbackQueueQueryFactoryTest {
             assertThat(result.riskLevels())
                     .containsExactlyInAnyOrder(RiskLevel.SAFE, RiskLevel.MEDIUM);
         }
+
+        @Test
+        @DisplayName("성공 - 페이로드 필터 포함 Criteria 생성")
+        void createSliceCriteria_WithPayloadFilter_ShouldReturnCriteriaWithPayloadFilter() {
+            // given
+            CommonCursorParams cursorParams = CommonCursorParams.first(20);
+            FeedbackQueueSearchParams searchParams =
+                    FeedbackQueueSearchParams.of(
+                            cursorParams, null, null, null, null, null, null, 1L, null, 3L);
+
+            // when
+            FeedbackQueueSliceCriteria result = sut.createSliceCriteria(searchParams);
+
+            // then
+            assertThat(result.hasPayloadFilter()).isTrue();
+            assertThat(result.payloadFilter().conventionId()).isEqualTo(1L);
+            assertThat(result.payloadFilter().codingRuleId()).isNull();
+            assertThat(result.payloadFilter().structureId()).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("성공 - 페이로드 필터 미지정 시 빈 필터")
+        void createSliceCriteria_WithoutPayloadFilter_ShouldReturnEmptyPayloadFilter() {
+            // given
+            CommonCursorParams cursorParams = CommonCursorParams.first(20);
+            FeedbackQueueSearchParams searchParams =
+                    FeedbackQueueSearchParams.of(cursorParams, null, null, null, null, null);
+
+            // when
+            FeedbackQueueSliceCriteria result = sut.createSliceCriteria(searchParams);
+
+            // then
+            assertThat(result.hasPayloadFilter()).isFalse();
+        }
     }
 
     @Nested
@@ -0,0 +1,271 @@
+package com.ryuqq.application.feedbackqueue.internal.inbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.application.feedbackqueue.dto.query.GetAwaitingHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
+import com.ryuqq.application.feedbackqueue.manager.HumanReviewInboxVersionReadManager;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * HumanReviewInbox 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("HumanReviewInbox 단위 테스트")
+class HumanReviewInboxTest {
+
+    private static final Duration LONG_WAIT = Duration.ofSeconds(30);
+    private static final Duration LONG_RECHECK = Duration.ofMinutes(1);
+    private static final Duration SHORT_INTERVAL = Duration.ofMillis(50);
+    private static final Instant UPDATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock private FeedbackQueueQueryFactory feedbackQueueQueryFactory;
+
+    @Mock private FeedbackQueueReadManager feedbackQueueReadManager;
+
+    @Mock private HumanReviewInboxVersionReadManager versionReadManager;
+
+    @Mock private FeedbackQueueSliceCriteria criteria;
+
+    private final FeedbackQueue first = feedback(1L);
+    private final FeedbackQueue second = feedback(2L);
+
+    private HumanReviewInbox sut;
+
+    @BeforeEach
+    void setUp() {
+        given(feedbackQueueQueryFactory.toSliceCriteria(any(GetAwaitingHumanReviewQuery.class)))
+                .willReturn(criteria);
+        sut = newInbox(LONG_RECHECK, LONG_RECHECK);
+    }
+
+    @Nested
+    @DisplayName("refresh 메서드")
+    class Refresh {
+
+        @Test
+        @DisplayName("같은 인박스 내용이면 다른 인스턴스(노드)에서도 같은 버전")
+        void refresh_WithSameContent_ShouldProduceSameVersionAcrossInstances()
+                throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first));
+            HumanReviewInbox otherNode = newInbox(LONG_RECHECK, LONG_RECHECK);
+
+            // when
+            long version = sut.refresh().get(5, TimeUnit.SECONDS).version();
+            long otherVersion = otherNode.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // then
+            assertThat(version).isEqualTo(otherVersion).isNotNegative();
+        }
+
+        @Test
+        @DisplayName("인박스 내용이 바뀌면 버전이 바뀜")
+        void refresh_WithChangedContent_ShouldChangeVersion() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first), List.of(first, second));
+
+            // when
+            long before = sut.refresh().get(5, TimeUnit.SECONDS).version();
+            long after = sut.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // then
+            assertThat(after).isNotEqualTo(before);
+        }
+    }
+
+    @Nested
+    @DisplayName("awaitChange 메서드")
+    class AwaitChange {
+
+        @Test
+        @DisplayName("본 버전이 최신 버전과 다르면 재조회한 스냅샷으로 즉시 완료")
+        void awaitChange_WithStaleVersion_ShouldCompleteWithFreshSnapshot() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first));
+            long seen = HumanReviewInboxSnapshot.of(List.of()).version();
+
+            // when
+            HumanReviewInboxSnapshot result =
+                    sut.awaitChange(seen, LONG_WAIT).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result.version()).isNotEqualTo(seen);
+            assertThat(result.feedbackQueues()).hasSize(1);
+            assertThat(sut.waitingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("signal 후 내용이 바뀌면 대기자가 새 스냅샷으로 깨어남")
+        void awaitChange_WhenSignaledWithNewContent_ShouldComplete() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(), List.of(first));
+            long seen = sut.refresh().get(5, TimeUnit.SECONDS).version();
+            CompletableFuture<HumanReviewInboxSnapshot> result = sut.awaitChange(seen, LONG_WAIT);
+            assertThat(result).isNotDone();
+            assertThat(sut.waitingCount()).isEqualTo(1);
+
+            // when
+            sut.signal();
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).version()).isNotEqualTo(seen);
+            assertThat(sut.waitingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("여러 대기자가 있어도 알림당 한 번만 조회")
+        void awaitChange_WithManyWaiters_ShouldLoadOncePerSignal() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(), List.of(first));
+            long seen = sut.refresh().get(5, TimeUnit.SECONDS).version();
+            CompletableFuture<HumanReviewInboxSnapshot> waiter1 = sut.awaitChange(seen, LONG_WAIT);
+            CompletableFuture<HumanReviewInboxSnapshot> waiter2 = sut.awaitChange(seen, LONG_WAIT);
+            CompletableFuture<HumanReviewInboxSnapshot> waiter3 = sut.awaitChange(seen, LONG_WAIT);
+
+            // when
+            sut.signal();
+
+            // then
+            HumanReviewInboxSnapshot woken = waiter1.get(5, TimeUnit.SECONDS);
+            assertThat(waiter2.get(5, TimeUnit.SECONDS)).isSameAs(woken);
+            assertThat(waiter3.get(5, TimeUnit.SECONDS)).isSameAs(woken);
+            then(feedbackQueueReadManager).should(times(2)).findBySliceCriteria(criteria);
+        }
+
+        @Test
+        @DisplayName("signal이 와도 내용이 같으면 계속 대기")
+        void awaitChange_WhenSignaledWithSameContent_ShouldKeepWaiting() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first));
+            long seen = sut.refresh().get(5, TimeUnit.SECONDS).version();
+            CompletableFuture<HumanReviewInboxSnapshot> result = sut.awaitChange(seen, LONG_WAIT);
+
+            // when
+            sut.refresh().get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(result).isNotDone();
+            assertThat(sut.waitingCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("다른 노드가 인박스 버전을 올리면 버전 확인 주기에 재조회하여 대기자가 깨어남")
+        void awaitChange_WhenVersionBumpedOnOtherNode_ShouldCompleteOnVersionPoll()
+                throws Exception {
+            // given
+            HumanReviewInbox inbox = newInbox(SHORT_INTERVAL, LONG_RECHECK);
+            given(versionReadManager.findVersion()).willReturn(0L, 1L);
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(), List.of(first));
+            long seen = inbox.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // when
+            CompletableFuture<HumanReviewInboxSnapshot> result = inbox.awaitChange(seen, LONG_WAIT);
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).version()).isNotEqualTo(seen);
+        }
+
+        @Test
+        @DisplayName("인박스 버전이 그대로면 목록을 재조회하지 않음")
+        void awaitChange_WhenVersionUnchanged_ShouldNotReloadInbox() throws Exception {
+            // given
+            HumanReviewInbox inbox = newInbox(SHORT_INTERVAL, LONG_RECHECK);
+            given(versionReadManager.findVersion()).willReturn(7L);
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first));
+            long seen = inbox.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // when
+            CompletableFuture<HumanReviewInboxSnapshot> result =
+                    inbox.awaitChange(seen, Duration.ofMillis(300));
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).version()).isEqualTo(seen);
+            then(versionReadManager).should(atLeast(3)).findVersion();
+            then(feedbackQueueReadManager).should(times(1)).findBySliceCriteria(criteria);
+        }
+
+        @Test
+        @DisplayName("버전 변경이 없어도 재확인 주기가 지나면 재조회하여 대기자가 깨어남")
+        void awaitChange_WhenChangedOnOtherNode_ShouldCompleteOnRecheck() throws Exception {
+            // given
+            HumanReviewInbox inbox = newInbox(SHORT_INTERVAL, SHORT_INTERVAL);
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(), List.of(first));
+            long seen = inbox.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // when
+            CompletableFuture<HumanReviewInboxSnapshot> result = inbox.awaitChange(seen, LONG_WAIT);
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).version()).isNotEqualTo(seen);
+        }
+
+        @Test
+        @DisplayName("대기 시간 내 변경이 없으면 본 버전으로 완료되고 대기자에서 제거")
+        void awaitChange_WhenTimedOut_ShouldCompleteWithSeenVersion() throws Exception {
+            // given
+            given(feedbackQueueReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(first));
+            long seen = sut.refresh().get(5, TimeUnit.SECONDS).version();
+
+            // when
+            CompletableFuture<HumanReviewInboxSnapshot> result =
+                    sut.awaitChange(seen, Duration.ofMillis(50));
+
+            // then
+            assertThat(result.get(5, TimeUnit.SECONDS).version()).isEqualTo(seen);
+            assertThat(sut.waitingCount()).isZero();
+        }
+    }
+
+    private HumanReviewInbox newInbox(Duration versionPollInterval, Duration recheckInterval) {
+        return new HumanReviewInbox(
+                feedbackQueueQueryFactory,
+                feedbackQueueReadManager,
+                versionReadManager,
+                versionPollInterval,
+                recheckInterval);
+    }
+
+    private static FeedbackQueue feedback(Long id) {
+        FeedbackQueue feedbackQueue = mock(FeedbackQueue.class);
+        lenient().when(feedbackQueue.idValue()).thenReturn(id);
+        lenient().when(feedbackQueue.updatedAt()).thenReturn(UPDATED_AT);
+        return feedbackQueue;
+    }
+}
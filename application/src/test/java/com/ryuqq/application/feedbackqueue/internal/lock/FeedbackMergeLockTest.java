@@ -0,0 +1,132 @@
+package com.ryuqq.application.feedbackqueue.internal.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.exception.FeedbackMergeLockTimeoutException;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackMergeLockKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FeedbackMergeLock 단위 테스트
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("FeedbackMergeLock 단위 테스트")
+class FeedbackMergeLockTest {
+
+    private static final Long TARGET_ID = 10L;
+
+    @Mock private DistributedLockPort distributedLockPort;
+
+    private FeedbackMergeLock sut;
+
+    private FeedbackQueue feedbackQueue;
+    private FeedbackMergeLockKey lockKey;
+
+    @BeforeEach
+    void setUp() {
+        sut = new FeedbackMergeLock(distributedLockPort);
+        feedbackQueue = FeedbackQueueFixture.pendingModifyFeedback(TARGET_ID);
+        lockKey = FeedbackMergeLockKey.of(FeedbackTargetType.CLASS_TEMPLATE, TARGET_ID);
+    }
+
+    @Nested
+    @DisplayName("executeExclusively 메서드")
+    class ExecuteExclusively {
+
+        @Test
+        @DisplayName("대상 엔티티 락을 잡고 작업을 실행한 뒤 해제")
+        void executeExclusively_WhenAcquired_ShouldRunActionAndUnlock() {
+            // given
+            given(distributedLockPort.tryLock(lockKey, 10L, 30L, TimeUnit.SECONDS))
+                    .willReturn(true);
+
+            // when
+            String result = sut.executeExclusively(feedbackQueue, () -> "merged");
+
+            // then
+            assertThat(result).isEqualTo("merged");
+            assertThat(lockKey.value()).isEqualTo("lock:feedback:class_template:10");
+            then(distributedLockPort).should().unlock(lockKey);
+        }
+
+        @Test
+        @DisplayName("작업이 실패해도 락을 해제")
+        void executeExclusively_WhenActionFails_ShouldUnlock() {
+            // given
+            given(distributedLockPort.tryLock(lockKey, 10L, 30L, TimeUnit.SECONDS))
+                    .willReturn(true);
+            IllegalStateException failure = new IllegalStateException("merge failed");
+
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    sut.executeExclusively(
+                                            feedbackQueue,
+                                            () -> {
+                                                throw failure;
+                                            }))
+                    .isSameAs(failure);
+            then(distributedLockPort).should().unlock(lockKey);
+        }
+
+        @Test
+        @DisplayName("락 획득 실패 시 작업을 실행하지 않고 예외")
+        void executeExclusively_WhenNotAcquired_ShouldThrow() {
+            // given
+            given(distributedLockPort.tryLock(lockKey, 10L, 30L, TimeUnit.SECONDS))
+                    .willReturn(false);
+            AtomicBoolean executed = new AtomicBoolean();
+
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    sut.executeExclusively(
+                                            feedbackQueue, () -> executed.getAndSet(true)))
+                    .isInstanceOf(FeedbackMergeLockTimeoutException.class);
+            assertThat(executed).isFalse();
+            then(distributedLockPort).should(never()).unlock(lockKey);
+        }
+
+        @Test
+        @DisplayName("ADD 피드백은 타겟 타입 단위 키로 직렬화")
+        void executeExclusively_WithAddFeedback_ShouldLockPerTargetType() {
+            // given
+            FeedbackQueue addFeedback = FeedbackQueueFixture.pendingSafeFeedback();
+            FeedbackMergeLockKey newTargetKey =
+                    FeedbackMergeLockKey.of(FeedbackTargetType.RULE_EXAMPLE, null);
+            given(distributedLockPort.tryLock(eq(newTargetKey), anyLong(), anyLong(), any()))
+                    .willReturn(true);
+
+            // when
+            sut.executeExclusively(addFeedback, () -> null);
+
+            // then
+            assertThat(newTargetKey.value()).isEqualTo("lock:feedback:rule_example:new");
+            then(distributedLockPort).should().unlock(newTargetKey);
+        }
+    }
+}
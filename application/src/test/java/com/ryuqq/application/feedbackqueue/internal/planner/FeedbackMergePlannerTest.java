@@ -0,0 +1,103 @@
+package com.ryuqq.application.feedbackqueue.internal.planner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * FeedbackMergePlanner 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("FeedbackMergePlanner 단위 테스트")
+class FeedbackMergePlannerTest {
+
+    private final FeedbackMergePlanner sut = new FeedbackMergePlanner();
+
+    @Nested
+    @DisplayName("plan 메서드")
+    class Plan {
+
+        @Test
+        @DisplayName("동일 대상 MODIFY 피드백은 하나의 그룹으로 병합")
+        void plan_WithSameTargetModifies_ShouldCoalesce() {
+            // given
+            FeedbackQueue first = modify(1L, FeedbackTargetType.CODING_RULE, 100L);
+            FeedbackQueue second = modify(2L, FeedbackTargetType.CODING_RULE, 100L);
+            FeedbackQueue other = modify(3L, FeedbackTargetType.CODING_RULE, 200L);
+
+            // when
+            List<FeedbackMergeGroup> groups = sut.plan(List.of(second, other, first));
+
+            // then
+            assertThat(groups).hasSize(2);
+            assertThat(groups.get(0).feedbackQueues()).containsExactly(first, second);
+            assertThat(groups.get(0).isCoalesced()).isTrue();
+            assertThat(groups.get(1).feedbackQueues()).containsExactly(other);
+        }
+
+        @Test
+        @DisplayName("대상 타입이 다르면 같은 targetId여도 별도 그룹")
+        void plan_WithDifferentTargetTypes_ShouldNotCoalesce() {
+            // given
+            FeedbackQueue codingRule = modify(1L, FeedbackTargetType.CODING_RULE, 100L);
+            FeedbackQueue classTemplate = modify(2L, FeedbackTargetType.CLASS_TEMPLATE, 100L);
+
+            // when
+            List<FeedbackMergeGroup> groups = sut.plan(List.of(codingRule, classTemplate));
+
+            // then
+            assertThat(groups).hasSize(2);
+            assertThat(groups).noneMatch(FeedbackMergeGroup::isCoalesced);
+        }
+
+        @Test
+        @DisplayName("ADD / DELETE 피드백은 단건 그룹")
+        void plan_WithAddAndDelete_ShouldKeepSingletons() {
+            // given
+            FeedbackQueue add1 = feedback(1L, FeedbackType.ADD, null);
+            FeedbackQueue add2 = feedback(2L, FeedbackType.ADD, null);
+            FeedbackQueue delete1 = feedback(3L, FeedbackType.DELETE, 100L);
+            FeedbackQueue delete2 = feedback(4L, FeedbackType.DELETE, 100L);
+
+            // when
+            List<FeedbackMergeGroup> groups = sut.plan(List.of(add1, add2, delete1, delete2));
+
+            // then
+            assertThat(groups).hasSize(4);
+            assertThat(groups).allMatch(group -> group.size() == 1);
+        }
+    }
+
+    private static FeedbackQueue modify(Long id, FeedbackTargetType targetType, Long targetId) {
+        return FeedbackQueueFixture.reconstitutedFeedback(
+                id,
+                targetType,
+                targetId,
+                FeedbackType.MODIFY,
+                FeedbackStatus.LLM_APPROVED,
+                RiskLevel.SAFE);
+    }
+
+    private static FeedbackQueue feedback(Long id, FeedbackType feedbackType, Long targetId) {
+        return FeedbackQueueFixture.reconstitutedFeedback(
+                id,
+                FeedbackTargetType.CODING_RULE,
+                targetId,
+                feedbackType,
+                FeedbackStatus.LLM_APPROVED,
+                RiskLevel.SAFE);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueArchivePartitionPort;
+import java.time.YearMonth;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FeedbackQueueArchivePartitionManager 단위 테스트
+ *
+ * <p>보관 월 파티션 추가/삭제 대상 계산을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("manager")
+@Tag("application-layer")
+@DisplayName("FeedbackQueueArchivePartitionManager 단위 테스트")
+class FeedbackQueueArchivePartitionManagerTest {
+
+    private static final List<YearMonth> EXISTING =
+            List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11), YearMonth.of(2026, 12));
+
+    @Mock private FeedbackQueueArchivePartitionPort feedbackQueueArchivePartitionPort;
+
+    private FeedbackQueueArchivePartitionManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new FeedbackQueueArchivePartitionManager(feedbackQueueArchivePartitionPort);
+    }
+
+    @Nested
+    @DisplayName("addThrough 메서드")
+    class AddThrough {
+
+        @Test
+        @DisplayName("마지막 월 파티션 다음 달부터 지정한 월까지 연속으로 추가 (연도 경계 포함)")
+        void addThrough_ShouldAddMissingMonthsAfterLastPartition() {
+            // given
+            given(feedbackQueueArchivePartitionPort.findMonthlyPartitions()).willReturn(EXISTING);
+
+            // when
+            int added = sut.addThrough(YearMonth.of(2027, 2));
+
+            // then
+            assertThat(added).isEqualTo(2);
+            then(feedbackQueueArchivePartitionPort)
+                    .should()
+                    .addMonthlyPartitions(List.of(YearMonth.of(2027, 1), YearMonth.of(2027, 2)));
+        }
+
+        @Test
+        @DisplayName("이미 지정한 월까지 있으면 추가하지 않음")
+        void addThrough_WhenAlreadyCovered_ShouldNotAdd() {
+            // given
+            given(feedbackQueueArchivePartitionPort.findMonthlyPartitions()).willReturn(EXISTING);
+
+            // when
+            int added = sut.addThrough(YearMonth.of(2026, 12));
+
+            // then
+            assertThat(added).isZero();
+            then(feedbackQueueArchivePartitionPort).should(never()).addMonthlyPartitions(any());
+        }
+
+        @Test
+        @DisplayName("파티션 테이블이 아니면 아무 작업도 하지 않음")
+        void addThrough_WhenNotPartitioned_ShouldNotAdd() {
+            // given
+            given(feedbackQueueArchivePartitionPort.findMonthlyPartitions()).willReturn(List.of());
+
+            // when
+            int added = sut.addThrough(YearMonth.of(2027, 2));
+
+            // then
+            assertThat(added).isZero();
+            then(feedbackQueueArchivePartitionPort).should(never()).addMonthlyPartitions(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("dropBefore 메서드")
+    class DropBefore {
+
+        @Test
+        @DisplayName("유지할 가장 오래된 월 이전의 파티션만 삭제")
+        void dropBefore_ShouldDropOnlyOlderMonths() {
+            // given
+            given(feedbackQueueArchivePartitionPort.findMonthlyPartitions()).willReturn(EXISTING);
+
+            // when
+            int dropped = sut.dropBefore(YearMonth.of(2026, 12));
+
+            // then
+            assertThat(dropped).isEqualTo(2);
+            then(feedbackQueueArchivePartitionPort)
+                    .should()
+                    .dropMonthlyPartitions(List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+        }
+    }
+}
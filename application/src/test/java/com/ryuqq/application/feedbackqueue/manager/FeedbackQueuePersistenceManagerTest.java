@@ -1,12 +1,28 @@
 package com.ryuqq.application.feedbackqueue.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
+import com.ryuqq.application.common.component.TransactionEventRegistry;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInboxChangedEvent;
 import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.application.feedbackqueue.port.out.HumanReviewInboxVersionPort;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.event.FeedbackAwaitingHumanReviewEvent;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.ReviewNotes;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,13 +48,24 @@ class FeedbackQueuePersistenceManagerTest {
 
     @Mock private FeedbackQueueCommandPort feedbackQueueCommandPort;
 
+    @Mock private FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort;
+
+    @Mock private HumanReviewInboxVersionPort humanReviewInboxVersionPort;
+
+    @Mock private TransactionEventRegistry transactionEventRegistry;
+
     @Mock private FeedbackQueue feedbackQueue;
 
     private FeedbackQueuePersistenceManager sut;
 
     @BeforeEach
     void setUp() {
-        sut = new FeedbackQueuePersistenceManager(feedbackQueueCommandPort);
+        sut =
+                new FeedbackQueuePersistenceManager(
+                        feedbackQueueCommandPort,
+                        feedbackQueueStatsCommandPort,
+                        humanReviewInboxVersionPort,
+                        transactionEventRegistry);
     }
 
     @Nested
@@ -59,5 +86,178 @@ class FeedbackQueuePersistenceManagerTest {
             assertThat(result).isEqualTo(expectedId);
             then(feedbackQueueCommandPort).should().persist(feedbackQueue);
         }
+
+        @Test
+        @DisplayName("성공 - 상태 전이 시 이전 상태 -1 / 현재 상태 +1 카운터 증감 기록")
+        void persist_WithStatusTransition_ShouldRecordCounterDeltas() {
+            // given
+            FeedbackQueue pending = pendingFeedback();
+            Instant now = FeedbackQueueFixture.defaultNow().plusSeconds(60);
+            pending.llmApprove(ReviewNotes.of("ok"), now);
+            given(feedbackQueueCommandPort.persist(pending)).willReturn(FeedbackQueueId.of(10L));
+
+            // when
+            sut.persist(pending);
+
+            // then
+            then(feedbackQueueStatsCommandPort)
+                    .should()
+                    .persistAll(
+                            List.of(
+                                    FeedbackQueueCounterDelta.decrement(
+                                            keyOf(FeedbackStatus.PENDING)),
+                                    FeedbackQueueCounterDelta.increment(
+                                            keyOf(FeedbackStatus.LLM_APPROVED))),
+                            now);
+            assertThat(pending.statusCounterDeltas()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공 - MEDIUM 피드백이 Human 리뷰 대기에 진입하면 아웃박스 이벤트와 로컬 신호 등록")
+        void persist_WhenEnteredHumanReview_ShouldRegisterEvent() {
+            // given
+            FeedbackQueue pending = pendingFeedback(RiskLevel.MEDIUM);
+            pending.llmApprove(
+                    ReviewNotes.of("ok"), FeedbackQueueFixture.defaultNow().plusSeconds(60));
+            given(feedbackQueueCommandPort.persist(pending)).willReturn(FeedbackQueueId.of(10L));
+
+            // when
+            sut.persist(pending);
+
+            // then
+            then(transactionEventRegistry)
+                    .should()
+                    .registerForPublish(any(FeedbackAwaitingHumanReviewEvent.class));
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(HumanReviewInboxChangedEvent.instance());
+            then(humanReviewInboxVersionPort).should().increment();
+            assertThat(pending.enteredHumanReview()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - Human 리뷰 대기에서 벗어나면 인박스 버전을 올리고 로컬 신호 등록")
+        void persist_WhenLeftHumanReview_ShouldIncrementInboxVersion() {
+            // given
+            FeedbackQueue awaiting =
+                    FeedbackQueueFixture.reconstitutedFeedback(
+                            10L,
+                            FeedbackTargetType.CODING_RULE,
+                            100L,
+                            FeedbackType.MODIFY,
+                            FeedbackStatus.LLM_APPROVED,
+                            RiskLevel.MEDIUM);
+            awaiting.humanApprove(
+                    ReviewNotes.of("ok"), FeedbackQueueFixture.defaultNow().plusSeconds(60));
+            given(feedbackQueueCommandPort.persist(awaiting)).willReturn(FeedbackQueueId.of(10L));
+
+            // when
+            sut.persist(awaiting);
+
+            // then
+            then(humanReviewInboxVersionPort).should().increment();
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(HumanReviewInboxChangedEvent.instance());
+            then(transactionEventRegistry).shouldHaveNoMoreInteractions();
+        }
+
+        @Test
+        @DisplayName("SAFE 피드백의 LLM 승인은 Human 리뷰 이벤트를 등록하지 않음")
+        void persist_WhenSafeLlmApproved_ShouldNotRegisterEvent() {
+            // given
+            FeedbackQueue pending = pendingFeedback();
+            pending.llmApprove(
+                    ReviewNotes.of("ok"), FeedbackQueueFixture.defaultNow().plusSeconds(60));
+            given(feedbackQueueCommandPort.persist(pending)).willReturn(FeedbackQueueId.of(10L));
+
+            // when
+            sut.persist(pending);
+
+            // then
+            then(transactionEventRegistry).shouldHaveNoInteractions();
+            then(humanReviewInboxVersionPort).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("persistAll 메서드")
+    class PersistAll {
+
+        @Test
+        @DisplayName("성공 - 같은 전이의 증감을 키별로 합산하여 기록")
+        void persistAll_WithSameTransition_ShouldCombineCounterDeltas() {
+            // given
+            Instant now = FeedbackQueueFixture.defaultNow().plusSeconds(60);
+            FeedbackQueue first = pendingFeedback();
+            FeedbackQueue second = pendingFeedback();
+            first.llmApprove(ReviewNotes.of("ok"), now);
+            second.llmApprove(ReviewNotes.of("ok"), now);
+
+            // when
+            sut.persistAll(List.of(first, second));
+
+            // then
+            then(feedbackQueueCommandPort).should().persistAll(List.of(first, second));
+            then(feedbackQueueStatsCommandPort)
+                    .should()
+                    .persistAll(
+                            List.of(
+                                    new FeedbackQueueCounterDelta(
+                                            keyOf(FeedbackStatus.PENDING), -2L),
+                                    new FeedbackQueueCounterDelta(
+                                            keyOf(FeedbackStatus.LLM_APPROVED), 2L)),
+                            now);
+        }
+
+        @Test
+        @DisplayName("빈 목록이면 아무것도 기록하지 않음")
+        void persistAll_WithEmptyList_ShouldDoNothing() {
+            // when
+            sut.persistAll(List.of());
+
+            // then
+            then(feedbackQueueCommandPort).shouldHaveNoInteractions();
+            then(feedbackQueueStatsCommandPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("여러 피드백이 Human 리뷰 대기에 진입해도 인박스 버전은 한 번만 증가")
+        void persistAll_WithManyEnteringHumanReview_ShouldIncrementInboxVersionOnce() {
+            // given
+            Instant now = FeedbackQueueFixture.defaultNow().plusSeconds(60);
+            FeedbackQueue first = pendingFeedback(RiskLevel.MEDIUM);
+            FeedbackQueue second = pendingFeedback(RiskLevel.MEDIUM);
+            first.llmApprove(ReviewNotes.of("ok"), now);
+            second.llmApprove(ReviewNotes.of("ok"), now);
+
+            // when
+            sut.persistAll(List.of(first, second));
+
+            // then
+            then(humanReviewInboxVersionPort).should().increment();
+            then(transactionEventRegistry)
+                    .should()
+                    .registerObjectForPublish(HumanReviewInboxChangedEvent.instance());
+        }
+    }
+
+    private static FeedbackQueue pendingFeedback() {
+        return pendingFeedback(RiskLevel.SAFE);
+    }
+
+    private static FeedbackQueue pendingFeedback(RiskLevel riskLevel) {
+        return FeedbackQueueFixture.reconstitutedFeedback(
+                10L,
+                FeedbackTargetType.CODING_RULE,
+                100L,
+                FeedbackType.MODIFY,
+                FeedbackStatus.PENDING,
+                riskLevel);
+    }
+
+    private static FeedbackQueueCounterKey keyOf(FeedbackStatus status) {
+        return FeedbackQueueCounterKey.of(
+                status, RiskLevel.SAFE, FeedbackTargetType.CODING_RULE);
     }
 }
@@ -0,0 +1,118 @@
+package com.ryuqq.application.feedbackqueue.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsQueryPort;
+import com.ryuqq.application.feedbackqueue.port.out.FeedbackQueueStatsCommandPort;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * FeedbackQueueStatsPersistenceManager 단위 테스트
+ *
+ * <p>카운터 보정과 증감 기록 압축 로직을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("manager")
+@Tag("application-layer")
+@DisplayName("FeedbackQueueStatsPersistenceManager 단위 테스트")
+class FeedbackQueueStatsPersistenceManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    private static final FeedbackQueueCounterKey PENDING_KEY =
+            FeedbackQueueCounterKey.of(
+                    FeedbackStatus.PENDING, RiskLevel.SAFE, FeedbackTargetType.CODING_RULE);
+
+    private static final FeedbackQueueCounterKey MERGED_KEY =
+            FeedbackQueueCounterKey.of(
+                    FeedbackStatus.MERGED, RiskLevel.SAFE, FeedbackTargetType.CODING_RULE);
+
+    @Mock private FeedbackQueueStatsQueryPort feedbackQueueStatsQueryPort;
+
+    @Mock private FeedbackQueueStatsCommandPort feedbackQueueStatsCommandPort;
+
+    private FeedbackQueueStatsPersistenceManager sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new FeedbackQueueStatsPersistenceManager(
+                        feedbackQueueStatsQueryPort, feedbackQueueStatsCommandPort);
+    }
+
+    @Nested
+    @DisplayName("reconcile 메서드")
+    class Reconcile {
+
+        @Test
+        @DisplayName("성공 - 읽은 증감 기록만 삭제하고 실제 건수를 기준값으로 기록")
+        void reconcile_ShouldReplaceReadDeltasWithActualBaseline() {
+            // given
+            List<Long> deltaIds = List.of(1L, 2L, 3L);
+            given(feedbackQueueStatsQueryPort.findDeltaIds()).willReturn(deltaIds);
+            given(feedbackQueueStatsQueryPort.sumCounters())
+                    .willReturn(List.of(FeedbackQueueCounter.of(PENDING_KEY, 2)));
+            given(feedbackQueueStatsQueryPort.countActual())
+                    .willReturn(List.of(FeedbackQueueCounter.of(PENDING_KEY, 2)));
+
+            // when
+            FeedbackQueueStatsReconcileResult result = sut.reconcile(NOW);
+
+            // then
+            assertThat(result.compactedDeltaCount()).isEqualTo(3);
+            assertThat(result.driftedKeyCount()).isZero();
+            assertThat(result.reconciledAt()).isEqualTo(NOW);
+
+            InOrder inOrder = Mockito.inOrder(feedbackQueueStatsCommandPort);
+            inOrder.verify(feedbackQueueStatsCommandPort).deleteAll(deltaIds);
+            inOrder.verify(feedbackQueueStatsCommandPort)
+                    .persistAll(List.of(new FeedbackQueueCounterDelta(PENDING_KEY, 2L)), NOW);
+        }
+
+        @Test
+        @DisplayName("성공 - 카운터와 실제 건수가 다른 키 수를 drift 로 집계")
+        void reconcile_WithDrift_ShouldCountDriftedKeys() {
+            // given
+            given(feedbackQueueStatsQueryPort.findDeltaIds()).willReturn(List.of(1L));
+            given(feedbackQueueStatsQueryPort.sumCounters())
+                    .willReturn(
+                            List.of(
+                                    FeedbackQueueCounter.of(PENDING_KEY, 3),
+                                    FeedbackQueueCounter.of(MERGED_KEY, 1)));
+            given(feedbackQueueStatsQueryPort.countActual())
+                    .willReturn(List.of(FeedbackQueueCounter.of(PENDING_KEY, 2)));
+
+            // when
+            FeedbackQueueStatsReconcileResult result = sut.reconcile(NOW);
+
+            // then
+            assertThat(result.driftedKeyCount()).isEqualTo(2);
+            then(feedbackQueueStatsCommandPort)
+                    .should()
+                    .persistAll(List.of(new FeedbackQueueCounterDelta(PENDING_KEY, 2L)), NOW);
+        }
+    }
+}
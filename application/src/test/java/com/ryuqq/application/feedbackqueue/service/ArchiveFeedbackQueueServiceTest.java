@@ -0,0 +1,243 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.feedbackqueue.dto.command.ArchiveFeedbackQueueCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueArchiveResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchivePartitionManager;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchivePersistenceManager;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueArchiveLockKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ArchiveFeedbackQueueService 단위 테스트
+ *
+ * <p>보관 락, 월 파티션 유지보수, 종료 피드백 배치 보관 흐름을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("ArchiveFeedbackQueueService 단위 테스트")
+class ArchiveFeedbackQueueServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Mock private FeedbackQueueReadManager feedbackQueueReadManager;
+
+    @Mock private FeedbackQueueArchivePersistenceManager feedbackQueueArchivePersistenceManager;
+
+    @Mock private FeedbackQueueArchivePartitionManager feedbackQueueArchivePartitionManager;
+
+    @Mock private FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+
+    @Mock private DistributedLockPort distributedLockPort;
+
+    private ArchiveFeedbackQueueService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new ArchiveFeedbackQueueService(
+                        feedbackQueueReadManager,
+                        feedbackQueueArchivePersistenceManager,
+                        feedbackQueueArchivePartitionManager,
+                        feedbackQueueCommandFactory,
+                        distributedLockPort);
+    }
+
+    private static ArchiveFeedbackQueueCommand command(int batchSize, int maxBatches) {
+        return new ArchiveFeedbackQueueCommand(30, batchSize, maxBatches, 3, 24, 600L);
+    }
+
+    private void givenLockAcquired() {
+        given(
+                        distributedLockPort.tryLock(
+                                any(FeedbackQueueArchiveLockKey.class),
+                                eq(0L),
+                                anyLong(),
+                                eq(TimeUnit.SECONDS)))
+                .willReturn(true);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 대상이 배치 크기보다 적으면 한 번만 이동")
+        void execute_WithPartialBatch_ShouldArchiveOnce() {
+            // given
+            ArchiveFeedbackQueueCommand command = command(2, 10);
+            Instant cutoff = NOW.minus(Duration.ofDays(30));
+            List<FeedbackQueue> batch = List.of(FeedbackQueueFixture.mergedSafeFeedback());
+
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(
+                            feedbackQueueReadManager.findArchivable(
+                                    FeedbackStatus.terminalStatuses(), cutoff, 2))
+                    .willReturn(batch);
+
+            // when
+            FeedbackQueueArchiveResult result = sut.execute(command);
+
+            // then
+            assertThat(result.archivedCount()).isEqualTo(1);
+            assertThat(result.batchCount()).isEqualTo(1);
+            assertThat(result.cutoff()).isEqualTo(cutoff);
+            assertThat(result.hasRemaining()).isFalse();
+            then(feedbackQueueArchivePersistenceManager).should().archive(batch, NOW);
+        }
+
+        @Test
+        @DisplayName("성공 - 최대 배치 수에 도달하면 중단하고 남은 대상 표시")
+        void execute_WhenMaxBatchesReached_ShouldStopWithRemaining() {
+            // given
+            ArchiveFeedbackQueueCommand command = command(1, 2);
+            List<FeedbackQueue> fullBatch = List.of(FeedbackQueueFixture.mergedSafeFeedback());
+
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueReadManager.findArchivable(any(), any(), anyInt()))
+                    .willReturn(fullBatch);
+
+            // when
+            FeedbackQueueArchiveResult result = sut.execute(command);
+
+            // then
+            assertThat(result.archivedCount()).isEqualTo(2);
+            assertThat(result.batchCount()).isEqualTo(2);
+            assertThat(result.hasRemaining()).isTrue();
+            then(feedbackQueueArchivePersistenceManager).should(times(2)).archive(fullBatch, NOW);
+        }
+
+        @Test
+        @DisplayName("보관 대상 조회는 복제본이 아닌 Primary에서 실행")
+        void execute_ShouldReadArchivableFromPrimary() {
+            // given
+            ArchiveFeedbackQueueCommand command = command(100, 10);
+            AtomicBoolean readFromPrimary = new AtomicBoolean();
+
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueReadManager.findArchivable(any(), any(), anyInt()))
+                    .willAnswer(
+                            invocation -> {
+                                readFromPrimary.set(ReadConsistencyContext.isPrimaryRequired());
+                                return List.of();
+                            });
+
+            // when
+            sut.execute(command);
+
+            // then
+            assertThat(readFromPrimary).isTrue();
+            assertThat(ReadConsistencyContext.isPrimaryRequired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("성공 - 대상이 없으면 이동하지 않음")
+        void execute_WhenNothingToArchive_ShouldSkip() {
+            // given
+            ArchiveFeedbackQueueCommand command = command(100, 10);
+
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueReadManager.findArchivable(any(), any(), anyInt()))
+                    .willReturn(List.of());
+
+            // when
+            FeedbackQueueArchiveResult result = sut.execute(command);
+
+            // then
+            assertThat(result.archivedCount()).isZero();
+            then(feedbackQueueArchivePersistenceManager).should(never()).archive(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공 - 보관 전에 앞선 월 파티션을 만들고 보관 기간이 지난 월 파티션을 삭제")
+        void execute_ShouldMaintainPartitionsBeforeArchiving() {
+            // given
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueArchivePartitionManager.addThrough(YearMonth.of(2025, 9)))
+                    .willReturn(2);
+            given(feedbackQueueArchivePartitionManager.dropBefore(YearMonth.of(2023, 7)))
+                    .willReturn(1);
+            given(feedbackQueueReadManager.findArchivable(any(), any(), anyInt()))
+                    .willReturn(List.of());
+
+            // when
+            FeedbackQueueArchiveResult result = sut.execute(command(100, 10));
+
+            // then
+            assertThat(result.addedPartitionCount()).isEqualTo(2);
+            assertThat(result.droppedPartitionCount()).isEqualTo(1);
+            then(distributedLockPort).should().unlock(any(FeedbackQueueArchiveLockKey.class));
+        }
+
+        @Test
+        @DisplayName("성공 - 파티션 유지 월 수가 0이면 파티션을 삭제하지 않음")
+        void execute_WithZeroPartitionRetention_ShouldNotDropPartitions() {
+            // given
+            givenLockAcquired();
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueReadManager.findArchivable(any(), any(), anyInt()))
+                    .willReturn(List.of());
+
+            // when
+            sut.execute(new ArchiveFeedbackQueueCommand(30, 100, 10, 3, 0, 600L));
+
+            // then
+            then(feedbackQueueArchivePartitionManager).should(never()).dropBefore(any());
+        }
+
+        @Test
+        @DisplayName("건너뜀 - 다른 노드가 보관 락을 보유하면 아무 작업도 하지 않음")
+        void execute_WhenLockNotAcquired_ShouldSkip() {
+            // given
+            given(distributedLockPort.tryLock(any(), anyLong(), anyLong(), any()))
+                    .willReturn(false);
+
+            // when
+            FeedbackQueueArchiveResult result = sut.execute(command(100, 10));
+
+            // then
+            assertThat(result.skipped()).isTrue();
+            then(feedbackQueueArchivePartitionManager).shouldHaveNoInteractions();
+            then(feedbackQueueReadManager).shouldHaveNoInteractions();
+            then(distributedLockPort).should(never()).unlock(any());
+        }
+    }
+}
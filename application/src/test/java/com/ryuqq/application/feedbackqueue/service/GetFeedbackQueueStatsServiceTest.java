@@ -0,0 +1,197 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+
+import com.ryuqq.application.common.time.TimeProvider;
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueStatsAssembler;
+import com.ryuqq.application.feedbackqueue.dto.query.GetFeedbackQueueStatsQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueAgePercentileResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsResult;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatusAgeResult;
+import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueStatsQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueStatsReadManager;
+import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueAgeProbe;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounter;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * GetFeedbackQueueStatsService 단위 테스트
+ *
+ * <p>카운터 기반 건수 집계와 백분위 offset 계산을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("GetFeedbackQueueStatsService 단위 테스트")
+class GetFeedbackQueueStatsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Mock private TimeProvider timeProvider;
+
+    @Mock private FeedbackQueueStatsReadManager feedbackQueueStatsReadManager;
+
+    @Captor private ArgumentCaptor<List<FeedbackQueueAgeProbe>> probesCaptor;
+
+    private GetFeedbackQueueStatsService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new GetFeedbackQueueStatsService(
+                        new FeedbackQueueStatsQueryFactory(timeProvider),
+                        feedbackQueueStatsReadManager,
+                        new FeedbackQueueStatsAssembler());
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 카운터 합산으로 차원별 건수 집계")
+        void execute_WithCounters_ShouldAggregateByDimension() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(feedbackQueueStatsReadManager.findCounters())
+                    .willReturn(
+                            List.of(
+                                    counter(
+                                            FeedbackStatus.PENDING,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.CODING_RULE,
+                                            3),
+                                    counter(
+                                            FeedbackStatus.PENDING,
+                                            RiskLevel.MEDIUM,
+                                            FeedbackTargetType.RULE_EXAMPLE,
+                                            2),
+                                    counter(
+                                            FeedbackStatus.MERGED,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.CODING_RULE,
+                                            5)));
+            given(feedbackQueueStatsReadManager.findUpdatedAtByProbe(anyList()))
+                    .willReturn(Map.of());
+
+            // when
+            FeedbackQueueStatsResult result = sut.execute(GetFeedbackQueueStatsQuery.defaults());
+
+            // then
+            assertThat(result.total()).isEqualTo(10L);
+            assertThat(result.byStatus())
+                    .containsEntry("PENDING", 5L)
+                    .containsEntry("MERGED", 5L)
+                    .containsEntry("LLM_APPROVED", 0L);
+            assertThat(result.byRiskLevel())
+                    .containsEntry("SAFE", 8L)
+                    .containsEntry("MEDIUM", 2L);
+            assertThat(result.byTargetType())
+                    .containsEntry("CODING_RULE", 8L)
+                    .containsEntry("RULE_EXAMPLE", 2L);
+            assertThat(result.generatedAt()).isEqualTo(NOW);
+        }
+
+        @Test
+        @DisplayName("성공 - 처리 중 상태만 백분위 offset 조회, 종료 상태 제외")
+        void execute_WithPendingCounter_ShouldProbeOffsetsForActiveStatusOnly() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(feedbackQueueStatsReadManager.findCounters())
+                    .willReturn(
+                            List.of(
+                                    counter(
+                                            FeedbackStatus.PENDING,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.CODING_RULE,
+                                            10),
+                                    counter(
+                                            FeedbackStatus.MERGED,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.CODING_RULE,
+                                            7)));
+            given(feedbackQueueStatsReadManager.findUpdatedAtByProbe(probesCaptor.capture()))
+                    .willReturn(Map.of());
+
+            // when
+            sut.execute(GetFeedbackQueueStatsQuery.of(List.of(0.5, 0.9)));
+
+            // then
+            assertThat(probesCaptor.getValue())
+                    .extracting(
+                            FeedbackQueueAgeProbe::status,
+                            FeedbackQueueAgeProbe::percentile,
+                            FeedbackQueueAgeProbe::offset)
+                    .containsExactly(
+                            tuple(FeedbackStatus.PENDING, 0.5, 5L),
+                            tuple(FeedbackStatus.PENDING, 0.9, 1L),
+                            tuple(FeedbackStatus.PENDING, 1.0, 0L));
+        }
+
+        @Test
+        @DisplayName("성공 - 조회된 updated_at 으로 대기 시간 계산")
+        void execute_WithProbeResults_ShouldComputeAgeSeconds() {
+            // given
+            given(timeProvider.now()).willReturn(NOW);
+            given(feedbackQueueStatsReadManager.findCounters())
+                    .willReturn(
+                            List.of(
+                                    counter(
+                                            FeedbackStatus.PENDING,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.CODING_RULE,
+                                            4)));
+            Map<FeedbackQueueAgeProbe, Instant> updatedAtByProbe = new LinkedHashMap<>();
+            updatedAtByProbe.put(
+                    FeedbackQueueAgeProbe.of(FeedbackStatus.PENDING, 4, 0.5),
+                    NOW.minusSeconds(60));
+            updatedAtByProbe.put(
+                    FeedbackQueueAgeProbe.of(FeedbackStatus.PENDING, 4, 1.0),
+                    NOW.minusSeconds(600));
+            given(feedbackQueueStatsReadManager.findUpdatedAtByProbe(anyList()))
+                    .willReturn(updatedAtByProbe);
+
+            // when
+            FeedbackQueueStatsResult result =
+                    sut.execute(GetFeedbackQueueStatsQuery.of(List.of(0.5)));
+
+            // then
+            assertThat(result.ages()).hasSize(1);
+            FeedbackQueueStatusAgeResult age = result.ages().get(0);
+            assertThat(age.status()).isEqualTo("PENDING");
+            assertThat(age.count()).isEqualTo(4L);
+            assertThat(age.maxAgeSeconds()).isEqualTo(600L);
+            assertThat(age.percentiles())
+                    .containsExactly(new FeedbackQueueAgePercentileResult(0.5, 60L));
+        }
+    }
+
+    private static FeedbackQueueCounter counter(
+            FeedbackStatus status, RiskLevel riskLevel, FeedbackTargetType targetType, long count) {
+        return FeedbackQueueCounter.of(
+                FeedbackQueueCounterKey.of(status, riskLevel, targetType), count);
+    }
+}
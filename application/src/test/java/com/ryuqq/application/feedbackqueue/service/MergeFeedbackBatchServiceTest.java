@@ -0,0 +1,232 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
+import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackBatchCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackMergeBatchResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.fixture.FeedbackQueueResultFixture;
+import com.ryuqq.application.feedbackqueue.internal.lock.FeedbackMergeLock;
+import com.ryuqq.application.feedbackqueue.internal.planner.FeedbackMergePlanner;
+import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategy;
+import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategyResolver;
+import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMergeValidator;
+import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMergeValidatorResolver;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueuePersistenceManager;
+import com.ryuqq.application.feedbackqueue.validator.FeedbackQueueValidator;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.exception.FeedbackMergeLockTimeoutException;
+import com.ryuqq.domain.feedbackqueue.exception.InvalidFeedbackStatusTransitionException;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackMergeLockKey;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * MergeFeedbackBatchService 단위 테스트
+ *
+ * <p>동일 대상 MODIFY 피드백 병합, 대상별 락 안의 재검증 및 그룹 단위 영속화 오케스트레이션을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("MergeFeedbackBatchService 단위 테스트")
+class MergeFeedbackBatchServiceTest {
+
+    @Mock private FeedbackQueueValidator feedbackQueueValidator;
+
+    @Mock private FeedbackQueuePersistenceManager feedbackQueuePersistenceManager;
+
+    @Mock private FeedbackQueueAssembler feedbackQueueAssembler;
+
+    @Mock private FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+
+    @Mock private FeedbackMergeStrategyResolver feedbackMergeStrategyResolver;
+
+    @Mock private FeedbackMergeValidatorResolver feedbackMergeValidatorResolver;
+
+    @Mock private FeedbackMergeStrategy mergeStrategy;
+
+    @Mock private FeedbackMergeValidator mergeValidator;
+
+    @Mock private FeedbackMergeLock feedbackMergeLock;
+
+    private MergeFeedbackBatchService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new MergeFeedbackBatchService(
+                        feedbackQueueValidator,
+                        feedbackQueuePersistenceManager,
+                        feedbackQueueAssembler,
+                        feedbackQueueCommandFactory,
+                        new FeedbackMergePlanner(),
+                        feedbackMergeStrategyResolver,
+                        feedbackMergeValidatorResolver,
+                        feedbackMergeLock);
+    }
+
+    private void givenLockRunsAction() {
+        given(feedbackMergeLock.executeExclusively(any(), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 동일 대상 MODIFY 피드백은 한 번의 전략 호출로 병합")
+        void execute_WithSameTargetModifies_ShouldMergeOncePerTarget() {
+            // given
+            FeedbackQueue first = modify(1L, 100L);
+            FeedbackQueue second = modify(2L, 100L);
+            FeedbackQueue other = modify(3L, 200L);
+            MergeFeedbackBatchCommand command = new MergeFeedbackBatchCommand(List.of(1L, 2L, 3L));
+
+            given(feedbackQueueValidator.getAndValidateForMergeAll(command.feedbackIds()))
+                    .willReturn(List.of(first, second, other));
+            givenLockRunsAction();
+            given(feedbackQueueValidator.getAndValidateForMergeAll(List.of(1L, 2L)))
+                    .willReturn(List.of(first, second));
+            given(feedbackQueueValidator.getAndValidateForMergeAll(List.of(3L)))
+                    .willReturn(List.of(other));
+            given(feedbackMergeValidatorResolver.resolve(FeedbackTargetType.CODING_RULE))
+                    .willReturn(mergeValidator);
+            given(feedbackMergeStrategyResolver.resolve(FeedbackTargetType.CODING_RULE))
+                    .willReturn(mergeStrategy);
+            given(mergeStrategy.mergeCoalesced(List.of(first, second))).willReturn(100L);
+            given(mergeStrategy.mergeCoalesced(List.of(other))).willReturn(200L);
+            given(feedbackQueueCommandFactory.now()).willReturn(Instant.now());
+            given(feedbackQueueAssembler.toResult(any()))
+                    .willReturn(FeedbackQueueResultFixture.defaultResult());
+
+            // when
+            FeedbackMergeBatchResult result = sut.execute(command);
+
+            // then
+            assertThat(result.groupCount()).isEqualTo(2);
+            assertThat(result.mergedCount()).isEqualTo(3);
+            assertThat(result.items().get(0).mergedTargetId()).isEqualTo(100L);
+            assertThat(result.items().get(0).groupSize()).isEqualTo(2);
+            assertThat(result.items().get(2).mergedTargetId()).isEqualTo(200L);
+            assertThat(first.status()).isEqualTo(FeedbackStatus.MERGED);
+            assertThat(second.status()).isEqualTo(FeedbackStatus.MERGED);
+            then(mergeValidator).should(times(2)).validate(any());
+            then(feedbackMergeLock).should(times(2)).executeExclusively(any(), any());
+            then(feedbackQueuePersistenceManager).should().persistAll(List.of(first, second));
+            then(feedbackQueuePersistenceManager).should().persistAll(List.of(other));
+        }
+
+        @Test
+        @DisplayName("실패 - 전략 실패 시 이미 반영된 피드백만 MERGED로 저장 후 예외 전파")
+        void execute_WhenStrategyFails_ShouldPersistAlreadyMerged() {
+            // given
+            FeedbackQueue first = modify(1L, 100L);
+            FeedbackQueue failing = modify(2L, 200L);
+            MergeFeedbackBatchCommand command = new MergeFeedbackBatchCommand(List.of(1L, 2L));
+
+            given(feedbackQueueValidator.getAndValidateForMergeAll(command.feedbackIds()))
+                    .willReturn(List.of(first, failing));
+            givenLockRunsAction();
+            given(feedbackQueueValidator.getAndValidateForMergeAll(List.of(1L)))
+                    .willReturn(List.of(first));
+            given(feedbackQueueValidator.getAndValidateForMergeAll(List.of(2L)))
+                    .willReturn(List.of(failing));
+            given(feedbackMergeValidatorResolver.resolve(FeedbackTargetType.CODING_RULE))
+                    .willReturn(mergeValidator);
+            given(feedbackMergeStrategyResolver.resolve(FeedbackTargetType.CODING_RULE))
+                    .willReturn(mergeStrategy);
+            given(mergeStrategy.mergeCoalesced(List.of(first))).willReturn(100L);
+            given(mergeStrategy.mergeCoalesced(List.of(failing)))
+                    .willThrow(new IllegalArgumentException("invalid payload"));
+            given(feedbackQueueCommandFactory.now()).willReturn(Instant.now());
+            given(feedbackQueueAssembler.toResult(any()))
+                    .willReturn(FeedbackQueueResultFixture.defaultResult());
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(failing.status()).isEqualTo(FeedbackStatus.LLM_APPROVED);
+            then(feedbackQueuePersistenceManager).should().persistAll(List.of(first));
+            then(feedbackQueuePersistenceManager).should(never()).persistAll(List.of(failing));
+        }
+
+        @Test
+        @DisplayName("실패 - 락 대기 중 다른 머지가 끝난 그룹은 재검증에서 거절")
+        void execute_WhenMergedWhileWaitingForLock_ShouldRejectGroup() {
+            // given
+            FeedbackQueue feedbackQueue = modify(1L, 100L);
+            MergeFeedbackBatchCommand command = new MergeFeedbackBatchCommand(List.of(1L));
+            InvalidFeedbackStatusTransitionException alreadyMerged =
+                    new InvalidFeedbackStatusTransitionException(
+                            1L, FeedbackStatus.MERGED, "merge");
+
+            given(feedbackQueueValidator.getAndValidateForMergeAll(command.feedbackIds()))
+                    .willReturn(List.of(feedbackQueue))
+                    .willThrow(alreadyMerged);
+            givenLockRunsAction();
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command)).isSameAs(alreadyMerged);
+            then(feedbackMergeStrategyResolver).shouldHaveNoInteractions();
+            then(feedbackQueuePersistenceManager).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("실패 - 대상 엔티티 락 획득 실패 시 머지하지 않음")
+        void execute_WhenTargetLocked_ShouldNotMerge() {
+            // given
+            FeedbackQueue feedbackQueue = modify(1L, 100L);
+            MergeFeedbackBatchCommand command = new MergeFeedbackBatchCommand(List.of(1L));
+            FeedbackMergeLockTimeoutException lockTimeout =
+                    new FeedbackMergeLockTimeoutException(
+                            FeedbackMergeLockKey.of(FeedbackTargetType.CODING_RULE, 100L));
+
+            given(feedbackQueueValidator.getAndValidateForMergeAll(command.feedbackIds()))
+                    .willReturn(List.of(feedbackQueue));
+            given(feedbackMergeLock.executeExclusively(eq(feedbackQueue), any()))
+                    .willThrow(lockTimeout);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command)).isSameAs(lockTimeout);
+            then(feedbackMergeStrategyResolver).shouldHaveNoInteractions();
+            then(feedbackQueuePersistenceManager).shouldHaveNoInteractions();
+        }
+    }
+
+    private static FeedbackQueue modify(Long id, Long targetId) {
+        return FeedbackQueueFixture.reconstitutedFeedback(
+                id,
+                FeedbackTargetType.CODING_RULE,
+                targetId,
+                FeedbackType.MODIFY,
+                FeedbackStatus.LLM_APPROVED,
+                RiskLevel.SAFE);
+    }
+}
@@ -1,9 +1,13 @@
 package com.ryuqq.application.feedbackqueue.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.times;
 
 import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
 import com.ryuqq.application.feedbackqueue.dto.command.MergeFeedbackCommand;
@@ -11,6 +15,7 @@ import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueResult;
 import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
 import com.ryuqq.application.feedbackqueue.fixture.FeedbackQueueResultFixture;
 import com.ryuqq.application.feedbackqueue.fixture.MergeFeedbackCommandFixture;
+import com.ryuqq.application.feedbackqueue.internal.lock.FeedbackMergeLock;
 import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategy;
 import com.ryuqq.application.feedbackqueue.internal.strategy.FeedbackMergeStrategyResolver;
 import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMergeValidator;
@@ -18,8 +23,11 @@ import com.ryuqq.application.feedbackqueue.internal.validator.merge.FeedbackMerg
 import com.ryuqq.application.feedbackqueue.manager.FeedbackQueuePersistenceManager;
 import com.ryuqq.application.feedbackqueue.validator.FeedbackQueueValidator;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.exception.FeedbackMergeLockTimeoutException;
 import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackMergeLockKey;
 import java.time.Instant;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -59,6 +67,8 @@ class MergeFeedbackServiceTest {
 
     @Mock private FeedbackMergeValidator mergeValidator;
 
+    @Mock private FeedbackMergeLock feedbackMergeLock;
+
     private MergeFeedbackService sut;
 
     @BeforeEach
@@ -70,7 +80,13 @@ class MergeFeedbackServiceTest {
                         feedbackQueueAssembler,
                         feedbackQueueCommandFactory,
                         feedbackMergeStrategyResolver,
-                        feedbackMergeValidatorResolver);
+                        feedbackMergeValidatorResolver,
+                        feedbackMergeLock);
+    }
+
+    private void givenLockRunsAction(FeedbackQueue feedbackQueue) {
+        given(feedbackMergeLock.executeExclusively(eq(feedbackQueue), any()))
+                .willAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
     }
 
     @Nested
@@ -89,6 +105,7 @@ class MergeFeedbackServiceTest {
 
             given(feedbackQueueValidator.getAndValidateForMerge(feedbackId))
                     .willReturn(feedbackQueue);
+            givenLockRunsAction(feedbackQueue);
             given(feedbackMergeValidatorResolver.resolve(feedbackQueue.targetType()))
                     .willReturn(mergeValidator);
             willDoNothing().given(mergeValidator).validate(feedbackQueue);
@@ -103,7 +120,8 @@ class MergeFeedbackServiceTest {
 
             // then
             assertThat(result).isEqualTo(expectedResult);
-            then(feedbackQueueValidator).should().getAndValidateForMerge(feedbackId);
+            then(feedbackQueueValidator).should(times(2)).getAndValidateForMerge(feedbackId);
+            then(feedbackMergeLock).should().executeExclusively(eq(feedbackQueue), any());
             then(feedbackMergeValidatorResolver).should().resolve(feedbackQueue.targetType());
             then(mergeValidator).should().validate(feedbackQueue);
             then(feedbackMergeStrategyResolver).should().resolve(feedbackQueue.targetType());
@@ -124,6 +142,7 @@ class MergeFeedbackServiceTest {
 
             given(feedbackQueueValidator.getAndValidateForMerge(feedbackId))
                     .willReturn(feedbackQueue);
+            givenLockRunsAction(feedbackQueue);
             given(feedbackMergeValidatorResolver.resolve(feedbackQueue.targetType()))
                     .willReturn(mergeValidator);
             willDoNothing().given(mergeValidator).validate(feedbackQueue);
@@ -140,5 +159,29 @@ class MergeFeedbackServiceTest {
             assertThat(result).isEqualTo(expectedResult);
             then(feedbackQueuePersistenceManager).should().persist(feedbackQueue);
         }
+
+        @Test
+        @DisplayName("실패 - 대상 엔티티 락 획득 실패 시 머지하지 않음")
+        void execute_WhenTargetLocked_ShouldNotMerge() {
+            // given
+            Long feedbackId = 3L;
+            MergeFeedbackCommand command = MergeFeedbackCommandFixture.withFeedbackId(feedbackId);
+            FeedbackQueue feedbackQueue = FeedbackQueueFixture.llmApprovedSafeFeedback();
+            FeedbackMergeLockTimeoutException lockTimeout =
+                    new FeedbackMergeLockTimeoutException(
+                            FeedbackMergeLockKey.of(
+                                    feedbackQueue.targetType(), feedbackQueue.targetId()));
+
+            given(feedbackQueueValidator.getAndValidateForMerge(feedbackId))
+                    .willReturn(feedbackQueue);
+            given(feedbackMergeLock.executeExclusively(eq(feedbackQueue), any()))
+                    .willThrow(lockTimeout);
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(command)).isSameAs(lockTimeout);
+            then(feedbackQueueValidator).should(times(1)).getAndValidateForMerge(feedbackId);
+            then(feedbackMergeStrategyResolver).shouldHaveNoInteractions();
+            then(feedbackQueuePersistenceManager).shouldHaveNoInteractions();
+        }
     }
 }
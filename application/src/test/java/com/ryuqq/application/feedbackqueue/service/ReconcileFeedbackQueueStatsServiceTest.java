@@ -0,0 +1,106 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+import com.ryuqq.application.feedbackqueue.factory.command.FeedbackQueueCommandFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueStatsPersistenceManager;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueStatsReconcileLockKey;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ReconcileFeedbackQueueStatsService 단위 테스트
+ *
+ * <p>보정 락을 얻은 노드에서만 보정이 실행되는지 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("ReconcileFeedbackQueueStatsService 단위 테스트")
+class ReconcileFeedbackQueueStatsServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T00:00:00Z");
+
+    @Mock private FeedbackQueueStatsPersistenceManager feedbackQueueStatsPersistenceManager;
+
+    @Mock private FeedbackQueueCommandFactory feedbackQueueCommandFactory;
+
+    @Mock private DistributedLockPort distributedLockPort;
+
+    private ReconcileFeedbackQueueStatsService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new ReconcileFeedbackQueueStatsService(
+                        feedbackQueueStatsPersistenceManager,
+                        feedbackQueueCommandFactory,
+                        distributedLockPort);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 보정 락을 얻으면 보정 후 락 해제")
+        void execute_WhenLockAcquired_ShouldReconcileAndUnlock() {
+            // given
+            FeedbackQueueStatsReconcileResult expected =
+                    new FeedbackQueueStatsReconcileResult(3, 0, NOW, false);
+            given(
+                            distributedLockPort.tryLock(
+                                    any(FeedbackQueueStatsReconcileLockKey.class),
+                                    eq(0L),
+                                    anyLong(),
+                                    eq(TimeUnit.SECONDS)))
+                    .willReturn(true);
+            given(feedbackQueueCommandFactory.now()).willReturn(NOW);
+            given(feedbackQueueStatsPersistenceManager.reconcile(NOW)).willReturn(expected);
+
+            // when
+            FeedbackQueueStatsReconcileResult result = sut.execute();
+
+            // then
+            assertThat(result).isEqualTo(expected);
+            then(distributedLockPort)
+                    .should()
+                    .unlock(any(FeedbackQueueStatsReconcileLockKey.class));
+        }
+
+        @Test
+        @DisplayName("건너뜀 - 다른 노드가 보정 중이면 보정하지 않음")
+        void execute_WhenLockNotAcquired_ShouldSkip() {
+            // given
+            given(distributedLockPort.tryLock(any(), anyLong(), anyLong(), any()))
+                    .willReturn(false);
+
+            // when
+            FeedbackQueueStatsReconcileResult result = sut.execute();
+
+            // then
+            assertThat(result.skipped()).isTrue();
+            then(feedbackQueueStatsPersistenceManager).should(never()).reconcile(any());
+            then(distributedLockPort).should(never()).unlock(any());
+        }
+    }
+}
@@ -9,9 +9,15 @@ import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
 import com.ryuqq.application.feedbackqueue.dto.query.FeedbackQueueSearchParams;
 import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
 import com.ryuqq.application.feedbackqueue.factory.query.FeedbackQueueQueryFactory;
+import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueArchiveReadManager;
 import com.ryuqq.application.feedbackqueue.manager.FeedbackQueueReadManager;
 import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
 import com.ryuqq.domain.feedbackqueue.query.FeedbackQueueSliceCriteria;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
+import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +46,8 @@ class SearchFeedbacksByCursorServiceTest {
 
     @Mock private FeedbackQueueReadManager readManager;
 
+    @Mock private FeedbackQueueArchiveReadManager archiveReadManager;
+
     @Mock private FeedbackQueueAssembler assembler;
 
     @Mock private FeedbackQueueSliceCriteria criteria;
@@ -52,7 +60,8 @@ class SearchFeedbacksByCursorServiceTest {
 
     @BeforeEach
     void setUp() {
-        sut = new SearchFeedbacksByCursorService(queryFactory, readManager, assembler);
+        sut = new SearchFeedbacksByCursorService(
+                        queryFactory, readManager, archiveReadManager, assembler);
     }
 
     @Nested
@@ -104,6 +113,44 @@ class SearchFeedbacksByCursorServiceTest {
             then(readManager).should().findBySliceCriteria(criteria);
             then(assembler).should().toSliceResult(emptyList, 20);
         }
+
+        @Test
+        @DisplayName("성공 - includeArchived 시 보관 테이블 결과를 ID 내림차순으로 병합")
+        void execute_WithIncludeArchived_ShouldMergeArchivedByIdDesc() {
+            // given
+            CommonCursorParams cursorParams = CommonCursorParams.of(null, 2);
+            FeedbackQueueSearchParams searchParams =
+                    FeedbackQueueSearchParams.of(cursorParams, null, null, null, null, null, true);
+            FeedbackQueue active = FeedbackQueueFixture.mergedSafeFeedback();
+            FeedbackQueue archived1 = archived(5L);
+            FeedbackQueue archived2 = archived(3L);
+
+            given(queryFactory.createSliceCriteria(searchParams)).willReturn(criteria);
+            given(readManager.findBySliceCriteria(criteria)).willReturn(List.of(active));
+            given(archiveReadManager.findBySliceCriteria(criteria))
+                    .willReturn(List.of(archived1, archived2));
+            given(criteria.fetchSize()).willReturn(3);
+            given(criteria.size()).willReturn(2);
+            given(assembler.toSliceResult(List.of(archived1, archived2, active), 2))
+                    .willReturn(sliceResult);
+
+            // when
+            FeedbackQueueSliceResult result = sut.execute(searchParams);
+
+            // then
+            assertThat(result).isEqualTo(sliceResult);
+            then(archiveReadManager).should().findBySliceCriteria(criteria);
+        }
+    }
+
+    private FeedbackQueue archived(Long id) {
+        return FeedbackQueueFixture.reconstitutedFeedback(
+                id,
+                FeedbackTargetType.CODING_RULE,
+                null,
+                FeedbackType.ADD,
+                FeedbackStatus.MERGED,
+                RiskLevel.SAFE);
     }
 
     private FeedbackQueueSearchParams createDefaultSearchParams() {
@@ -0,0 +1,122 @@
+package com.ryuqq.application.feedbackqueue.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+import com.ryuqq.application.feedbackqueue.assembler.FeedbackQueueAssembler;
+import com.ryuqq.application.feedbackqueue.dto.query.WaitForHumanReviewQuery;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueSliceResult;
+import com.ryuqq.application.feedbackqueue.dto.response.HumanReviewInboxResult;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInbox;
+import com.ryuqq.application.feedbackqueue.internal.inbox.HumanReviewInboxSnapshot;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * WaitForHumanReviewService 단위 테스트
+ *
+ * <p>Human 리뷰 인박스 롱폴링의 즉시 반환 / 변경 반환 / 타임아웃 흐름을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("WaitForHumanReviewService 단위 테스트")
+class WaitForHumanReviewServiceTest {
+
+    @Mock private HumanReviewInbox humanReviewInbox;
+
+    @Mock private FeedbackQueueAssembler feedbackQueueAssembler;
+
+    @Mock private FeedbackQueue feedbackQueue;
+
+    @Mock private FeedbackQueueSliceResult sliceResult;
+
+    private WaitForHumanReviewService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new WaitForHumanReviewService(humanReviewInbox, feedbackQueueAssembler);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("최초 요청 - 대기 없이 재조회한 인박스와 버전 반환")
+        void execute_WithoutCursor_ShouldReturnInboxImmediately() {
+            // given
+            HumanReviewInboxSnapshot snapshot =
+                    new HumanReviewInboxSnapshot(7L, List.of(feedbackQueue));
+            given(humanReviewInbox.refresh())
+                    .willReturn(CompletableFuture.completedFuture(snapshot));
+            given(feedbackQueueAssembler.toSliceResult(snapshot.feedbackQueues(), 20))
+                    .willReturn(sliceResult);
+            WaitForHumanReviewQuery query =
+                    WaitForHumanReviewQuery.of(null, 20, Duration.ofSeconds(30));
+
+            // when
+            CompletableFuture<HumanReviewInboxResult> result = sut.execute(query);
+
+            // then
+            assertThat(result)
+                    .isCompletedWithValue(HumanReviewInboxResult.changed(7L, sliceResult));
+        }
+
+        @Test
+        @DisplayName("인박스가 바뀌면 공유 스냅샷을 요청 크기로 잘라 반환")
+        void execute_WhenChanged_ShouldReturnSnapshotSlice() throws Exception {
+            // given
+            HumanReviewInboxSnapshot snapshot =
+                    new HumanReviewInboxSnapshot(8L, List.of(feedbackQueue));
+            given(humanReviewInbox.awaitChange(7L, Duration.ofSeconds(30)))
+                    .willReturn(CompletableFuture.completedFuture(snapshot));
+            given(feedbackQueueAssembler.toSliceResult(snapshot.feedbackQueues(), 20))
+                    .willReturn(sliceResult);
+            WaitForHumanReviewQuery query =
+                    WaitForHumanReviewQuery.of(7L, 20, Duration.ofSeconds(30));
+
+            // when
+            HumanReviewInboxResult inbox = sut.execute(query).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(inbox.changed()).isTrue();
+            assertThat(inbox.cursor()).isEqualTo(8L);
+            assertThat(inbox.feedbacks()).isEqualTo(sliceResult);
+        }
+
+        @Test
+        @DisplayName("대기 시간 내 변경이 없으면 unchanged 반환")
+        void execute_WhenTimedOut_ShouldReturnUnchanged() throws Exception {
+            // given
+            HumanReviewInboxSnapshot snapshot =
+                    new HumanReviewInboxSnapshot(7L, List.of(feedbackQueue));
+            given(humanReviewInbox.awaitChange(7L, Duration.ofMillis(50)))
+                    .willReturn(CompletableFuture.completedFuture(snapshot));
+            WaitForHumanReviewQuery query =
+                    WaitForHumanReviewQuery.of(7L, 20, Duration.ofMillis(50));
+
+            // when
+            HumanReviewInboxResult inbox = sut.execute(query).get(5, TimeUnit.SECONDS);
+
+            // then
+            assertThat(inbox).isEqualTo(HumanReviewInboxResult.unchanged(7L));
+            then(feedbackQueueAssembler).shouldHaveNoInteractions();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.ryuqq.application.mcp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.ryuqq.application.common.template.CompiledTemplate;
+import com.ryuqq.application.common.template.TemplateSyntax;
+import com.ryuqq.application.mcp.dto.query.RenderTemplatesQuery.TemplateType;
+import com.ryuqq.application.mcp.dto.query.ScaffoldModuleQuery;
+import com.ryuqq.application.mcp.dto.response.CompiledTemplatesResult;
+import com.ryuqq.application.mcp.dto.response.ModuleScaffoldResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldClassTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldFileTemplateResult;
+import com.ryuqq.application.mcp.dto.response.ScaffoldModuleResult;
+import com.ryuqq.application.mcp.manager.McpScaffoldReadManager;
+import com.ryuqq.application.mcp.manager.McpTemplateSourceReadManager;
+import com.ryuqq.domain.module.exception.ModuleNotFoundException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * ScaffoldModuleService 단위 테스트
+ *
+ * <p>템플릿 종류별 파일 경로 규칙과 제외 규칙을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("ScaffoldModuleService 단위 테스트")
+class ScaffoldModuleServiceTest {
+
+    private static final ScaffoldModuleResult MODULE =
+            new ScaffoldModuleResult(10L, "adapter-in/rest-api", 2L, 1L);
+
+    private static final Map<String, String> VARIABLES =
+            Map.of("base_package", "com.ryuqq", "domain", "order", "Domain", "Order");
+
+    @Mock private McpScaffoldReadManager mcpScaffoldReadManager;
+
+    @Mock private McpTemplateSourceReadManager mcpTemplateSourceReadManager;
+
+    private ScaffoldModuleService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ScaffoldModuleService(mcpScaffoldReadManager, mcpTemplateSourceReadManager);
+    }
+
+    private static final TemplateSyntax SINGLE_BRACE = TemplateSyntax.SINGLE_BRACE;
+
+    private static CompiledTemplatesResult compiled(
+            Long id, String source, TemplateSyntax syntax) {
+        return new CompiledTemplatesResult(Map.of(id, CompiledTemplate.compile(source, syntax)), 1);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 설정 파일, 리소스, 클래스 순서로 경로를 만들고 본문은 쓰기 시점에 렌더링")
+        void execute_ShouldPlanFilesInOrder() throws Exception {
+            // given
+            ScaffoldModuleQuery query = new ScaffoldModuleQuery(10L, VARIABLES, List.of("CLAUDE"));
+            given(mcpScaffoldReadManager.getModule(10L)).willReturn(MODULE);
+            given(mcpScaffoldReadManager.findConfigFileTemplates(MODULE, List.of("CLAUDE")))
+                    .willReturn(List.of(new ScaffoldFileTemplateResult(3L, ".claude/CLAUDE.md")));
+            given(mcpScaffoldReadManager.findResourceTemplates(10L))
+                    .willReturn(
+                            List.of(
+                                    new ScaffoldFileTemplateResult(
+                                            2L, "src/main/resources/rest-api.yml")));
+            given(mcpScaffoldReadManager.findClassTemplates(10L))
+                    .willReturn(
+                            List.of(
+                                    new ScaffoldClassTemplateResult(
+                                            1L,
+                                            "{base_package}.{domain}.controller",
+                                            "{Domain}Controller")));
+            given(mcpTemplateSourceReadManager.getCompiled(TemplateType.CONFIG_FILE, Set.of(3L)))
+                    .willReturn(compiled(3L, "# {{project_name}}", TemplateSyntax.DOUBLE_BRACE));
+            given(mcpTemplateSourceReadManager.getCompiled(TemplateType.RESOURCE, Set.of(2L)))
+                    .willReturn(compiled(2L, "server: {Domain}", TemplateSyntax.SINGLE_BRACE));
+            given(mcpTemplateSourceReadManager.getCompiled(TemplateType.CLASS, Set.of(1L)))
+                    .willReturn(compiled(1L, "class {Domain}Controller {}", SINGLE_BRACE));
+
+            // when
+            ModuleScaffoldResult result = sut.execute(query);
+
+            // then
+            assertThat(result.files())
+                    .extracting(ScaffoldFileResult::path)
+                    .containsExactly(
+                            ".claude/CLAUDE.md",
+                            "adapter-in/rest-api/src/main/resources/rest-api.yml",
+                            "adapter-in/rest-api/src/main/java/com/ryuqq/order/controller/"
+                                    + "OrderController.java");
+            assertThat(result.skippedCount()).isZero();
+
+            StringWriter out = new StringWriter();
+            result.files().get(2).writeTo(out);
+            assertThat(out).hasToString("class OrderController {}");
+        }
+
+        @Test
+        @DisplayName("성공 - 식별자가 아닌 클래스명, 값이 없는 변수, 저장소 밖 경로, 중복 경로는 제외")
+        void execute_ShouldSkipUnresolvablePaths() {
+            // given
+            ScaffoldModuleQuery query = new ScaffoldModuleQuery(10L, VARIABLES, null);
+            given(mcpScaffoldReadManager.getModule(10L)).willReturn(MODULE);
+            given(mcpScaffoldReadManager.findConfigFileTemplates(MODULE, List.of()))
+                    .willReturn(List.of());
+            given(mcpScaffoldReadManager.findResourceTemplates(10L))
+                    .willReturn(
+                            List.of(
+                                    new ScaffoldFileTemplateResult(4L, "../../etc/passwd"),
+                                    new ScaffoldFileTemplateResult(
+                                            5L, "application-{profile}.yml")));
+            given(mcpScaffoldReadManager.findClassTemplates(10L))
+                    .willReturn(
+                            List.of(
+                                    new ScaffoldClassTemplateResult(
+                                            1L, "{base_package}.{domain}", "{Domain}Controller"),
+                                    new ScaffoldClassTemplateResult(
+                                            6L, "{base_package}.{domain}", "{Domain}Controller"),
+                                    new ScaffoldClassTemplateResult(
+                                            7L, "{base_package}.{domain}", "*QueryAdapter"),
+                                    new ScaffoldClassTemplateResult(
+                                            8L, "{base_package}.{domain}", null)));
+            given(mcpTemplateSourceReadManager.getCompiled(TemplateType.CLASS, Set.of(1L)))
+                    .willReturn(compiled(1L, "class {Domain}Controller {}", SINGLE_BRACE));
+
+            // when
+            ModuleScaffoldResult result = sut.execute(query);
+
+            // then
+            assertThat(result.files())
+                    .extracting(ScaffoldFileResult::templateId)
+                    .containsExactly(1L);
+            assertThat(result.skippedCount()).isEqualTo(5);
+            then(mcpTemplateSourceReadManager)
+                    .should(never())
+                    .getCompiled(eq(TemplateType.RESOURCE), any());
+        }
+
+        @Test
+        @DisplayName("실패 - 모듈이 없으면 템플릿을 조회하지 않음")
+        void execute_WithUnknownModule_ShouldThrow() {
+            // given
+            given(mcpScaffoldReadManager.getModule(99L))
+                    .willThrow(new ModuleNotFoundException(99L));
+
+            // when & then
+            assertThatThrownBy(() -> sut.execute(new ScaffoldModuleQuery(99L, null, null)))
+                    .isInstanceOf(ModuleNotFoundException.class);
+            then(mcpTemplateSourceReadManager).shouldHaveNoInteractions();
+        }
+    }
+}
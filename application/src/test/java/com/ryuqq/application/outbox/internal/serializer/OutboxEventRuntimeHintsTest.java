@@ -0,0 +1,39 @@
+package com.ryuqq.application.outbox.internal.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ryuqq.domain.feedbackqueue.event.FeedbackAwaitingHumanReviewEvent;
+import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+/**
+ * OutboxEventRuntimeHints 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("OutboxEventRuntimeHints 단위 테스트")
+class OutboxEventRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    @DisplayName("도메인 이벤트 Record와 중첩 VO에 리플렉션 힌트 등록")
+    void registerHints_ShouldRegisterDomainEventsAndNestedTypes() {
+        // when
+        new OutboxEventRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // then
+        assertThat(
+                        RuntimeHintsPredicates.reflection()
+                                .onType(FeedbackAwaitingHumanReviewEvent.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(FeedbackQueueId.class))
+                .accepts(hints);
+    }
+}
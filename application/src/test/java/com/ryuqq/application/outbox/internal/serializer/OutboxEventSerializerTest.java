@@ -0,0 +1,69 @@
+package com.ryuqq.application.outbox.internal.serializer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.domain.common.event.DomainEvent;
+import com.ryuqq.domain.feedbackqueue.event.FeedbackAwaitingHumanReviewEvent;
+import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * OutboxEventSerializer 단위 테스트
+ *
+ * @author development-team
+ */
+@Tag("unit")
+@Tag("application-layer")
+@DisplayName("OutboxEventSerializer 단위 테스트")
+class OutboxEventSerializerTest {
+
+    private final OutboxEventSerializer sut = new OutboxEventSerializer();
+
+    @Nested
+    @DisplayName("serialize / deserialize")
+    class RoundTrip {
+
+        @Test
+        @DisplayName("성공 - 도메인 이벤트를 기록 후 같은 값으로 복원")
+        void roundTrip_ShouldRestoreEqualEvent() {
+            // given
+            FeedbackAwaitingHumanReviewEvent event =
+                    new FeedbackAwaitingHumanReviewEvent(
+                            FeedbackQueueId.of(42L),
+                            FeedbackTargetType.CODING_RULE,
+                            Instant.parse("2026-01-20T10:00:00.123456Z"));
+
+            // when
+            String payload = sut.serialize(event);
+            DomainEvent restored = sut.deserialize(event.getClass().getName(), payload);
+
+            // then
+            assertThat(restored).isEqualTo(event);
+            assertThat(restored.aggregateKey()).isEqualTo("feedback-queue:42");
+        }
+
+        @Test
+        @DisplayName("실패 - DomainEvent가 아닌 클래스는 복원 거부")
+        void deserialize_WithNonDomainEventClass_ShouldThrow() {
+            // when & then
+            assertThatThrownBy(() -> sut.deserialize(String.class.getName(), "\"x\""))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Not a domain event class");
+        }
+
+        @Test
+        @DisplayName("실패 - 존재하지 않는 클래스는 복원 거부")
+        void deserialize_WithUnknownClass_ShouldThrow() {
+            // when & then
+            assertThatThrownBy(() -> sut.deserialize("com.example.MissingEvent", "{}"))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Unknown domain event class");
+        }
+    }
+}
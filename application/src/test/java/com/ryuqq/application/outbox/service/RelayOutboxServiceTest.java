@@ -0,0 +1,235 @@
+package com.ryuqq.application.outbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.ryuqq.application.common.consistency.ReadConsistencyContext;
+import com.ryuqq.application.common.port.out.DistributedLockPort;
+import com.ryuqq.application.outbox.dto.command.RelayOutboxCommand;
+import com.ryuqq.application.outbox.dto.response.OutboxRelayResult;
+import com.ryuqq.application.outbox.factory.command.OutboxMessageFactory;
+import com.ryuqq.application.outbox.internal.serializer.OutboxEventSerializer;
+import com.ryuqq.application.outbox.manager.OutboxPersistenceManager;
+import com.ryuqq.application.outbox.manager.OutboxReadManager;
+import com.ryuqq.domain.common.event.DomainEvent;
+import com.ryuqq.domain.outbox.aggregate.OutboxMessage;
+import com.ryuqq.domain.outbox.id.OutboxMessageId;
+import com.ryuqq.domain.outbox.vo.OutboxRelayLockKey;
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * RelayOutboxService 단위 테스트
+ *
+ * <p>아웃박스 배치 발행, 키별 순서 보장, 실패 백오프 흐름을 검증합니다.
+ *
+ * @author development-team
+ */
+@ExtendWith(MockitoExtension.class)
+@Tag("unit")
+@Tag("service")
+@Tag("application-layer")
+@DisplayName("RelayOutboxService 단위 테스트")
+class RelayOutboxServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+    private static final RelayOutboxCommand COMMAND = new RelayOutboxCommand(10, 5, 30L);
+
+    @Mock private OutboxReadManager outboxReadManager;
+
+    @Mock private OutboxPersistenceManager outboxPersistenceManager;
+
+    @Mock private OutboxMessageFactory outboxMessageFactory;
+
+    @Mock private OutboxEventSerializer outboxEventSerializer;
+
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @Mock private DistributedLockPort distributedLockPort;
+
+    @Mock private DomainEvent event;
+
+    private RelayOutboxService sut;
+
+    @BeforeEach
+    void setUp() {
+        sut =
+                new RelayOutboxService(
+                        outboxReadManager,
+                        outboxPersistenceManager,
+                        outboxMessageFactory,
+                        outboxEventSerializer,
+                        eventPublisher,
+                        distributedLockPort);
+    }
+
+    private static OutboxMessage message(long id, String aggregateKey) {
+        return OutboxMessage.reconstitute(
+                OutboxMessageId.of(id),
+                aggregateKey,
+                "TestEvent",
+                "com.example.TestEvent",
+                "{\"id\":" + id + "}",
+                OutboxStatus.PENDING,
+                0,
+                NOW.minusSeconds(5),
+                null,
+                NOW.minusSeconds(5),
+                NOW.minusSeconds(5),
+                NOW.minusSeconds(5));
+    }
+
+    private void givenLockAcquired() {
+        given(
+                        distributedLockPort.tryLock(
+                                any(OutboxRelayLockKey.class),
+                                eq(0L),
+                                eq(30L),
+                                eq(TimeUnit.SECONDS)))
+                .willReturn(true);
+        given(outboxMessageFactory.now()).willReturn(NOW);
+    }
+
+    @Nested
+    @DisplayName("execute 메서드")
+    class Execute {
+
+        @Test
+        @DisplayName("성공 - 배치를 ID 순서로 발행하고 발행된 메시지를 삭제")
+        void execute_ShouldPublishBatchInOrderAndDelete() {
+            // given
+            givenLockAcquired();
+            List<OutboxMessage> batch = List.of(message(1L, "a"), message(2L, "b"));
+            given(outboxReadManager.findDue(NOW, 10)).willReturn(batch);
+            given(outboxReadManager.findDeferredHeadIds(Set.of("a", "b"), NOW))
+                    .willReturn(Map.of());
+            given(outboxEventSerializer.deserialize(any(), any())).willReturn(event);
+            given(outboxReadManager.findOldestPendingCreatedAt()).willReturn(Optional.empty());
+
+            // when
+            OutboxRelayResult result = sut.execute(COMMAND);
+
+            // then
+            assertThat(result.publishedCount()).isEqualTo(2);
+            assertThat(result.batchCount()).isEqualTo(1);
+            assertThat(result.skipped()).isFalse();
+            assertThat(result.lag()).isEqualTo(Duration.ZERO);
+            then(eventPublisher).should(times(2)).publishEvent(event);
+            then(outboxPersistenceManager).should().complete(List.of(1L, 2L), List.of());
+            then(distributedLockPort).should().unlock(any(OutboxRelayLockKey.class));
+        }
+
+        @Test
+        @DisplayName("실패 - 발행 실패 시 백오프 기록 후 같은 키의 뒤 메시지는 보류")
+        void execute_WhenPublishFails_ShouldBlockSameKey() {
+            // given
+            givenLockAcquired();
+            OutboxMessage first = message(1L, "a");
+            OutboxMessage second = message(2L, "a");
+            OutboxMessage other = message(3L, "b");
+            given(outboxReadManager.findDue(NOW, 10)).willReturn(List.of(first, second, other));
+            given(outboxReadManager.findDeferredHeadIds(Set.of("a", "b"), NOW))
+                    .willReturn(Map.of());
+            given(outboxEventSerializer.deserialize(any(), any())).willReturn(event);
+            willThrow(new IllegalStateException("listener failed"))
+                    .willDoNothing()
+                    .given(eventPublisher)
+                    .publishEvent(event);
+            given(outboxReadManager.findOldestPendingCreatedAt())
+                    .willReturn(Optional.of(NOW.minusSeconds(5)));
+
+            // when
+            OutboxRelayResult result = sut.execute(COMMAND);
+
+            // then
+            assertThat(result.publishedCount()).isEqualTo(1);
+            assertThat(result.failedCount()).isEqualTo(1);
+            assertThat(result.lag()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(first.attempts()).isEqualTo(1);
+            assertThat(second.attempts()).isZero();
+            then(outboxPersistenceManager).should().complete(List.of(3L), List.of(first));
+        }
+
+        @Test
+        @DisplayName("재시도 대기 중인 앞선 메시지가 있으면 같은 키의 뒤 메시지는 보류")
+        void execute_WithDeferredHead_ShouldSkipLaterMessagesOfSameKey() {
+            // given
+            givenLockAcquired();
+            given(outboxReadManager.findDue(NOW, 10)).willReturn(List.of(message(5L, "a")));
+            given(outboxReadManager.findDeferredHeadIds(Set.of("a"), NOW))
+                    .willReturn(Map.of("a", 4L));
+            given(outboxReadManager.findOldestPendingCreatedAt())
+                    .willReturn(Optional.of(NOW.minusSeconds(5)));
+
+            // when
+            OutboxRelayResult result = sut.execute(COMMAND);
+
+            // then
+            assertThat(result.publishedCount()).isZero();
+            then(eventPublisher).should(never()).publishEvent(any());
+            then(outboxPersistenceManager).should().complete(List.of(), List.of());
+        }
+
+        @Test
+        @DisplayName("전달 대상 조회는 복제본이 아닌 Primary에서 실행")
+        void execute_ShouldReadDueMessagesFromPrimary() {
+            // given
+            givenLockAcquired();
+            AtomicBoolean readFromPrimary = new AtomicBoolean();
+            given(outboxReadManager.findDue(NOW, 10))
+                    .willAnswer(
+                            invocation -> {
+                                readFromPrimary.set(ReadConsistencyContext.isPrimaryRequired());
+                                return List.of();
+                            });
+            given(outboxReadManager.findOldestPendingCreatedAt()).willReturn(Optional.empty());
+
+            // when
+            sut.execute(COMMAND);
+
+            // then
+            assertThat(readFromPrimary).isTrue();
+            assertThat(ReadConsistencyContext.isPrimaryRequired()).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 노드가 릴레이 락을 보유하면 건너뜀")
+        void execute_WhenLockNotAcquired_ShouldSkip() {
+            // given
+            given(distributedLockPort.tryLock(any(), anyLong(), anyLong(), any()))
+                    .willReturn(false);
+
+            // when
+            OutboxRelayResult result = sut.execute(COMMAND);
+
+            // then
+            assertThat(result.skipped()).isTrue();
+            then(outboxReadManager).should(never()).findDue(any(), anyInt());
+            then(distributedLockPort).should(never()).unlock(any());
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.ryuqq.bootstrap;
 
+import com.ryuqq.bootstrap.bundle.McpBundleWebApiApplication;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+import org.springframework.core.env.StandardEnvironment;
 
 /**
  * Spring Standards Web API Application
@@ -40,8 +45,27 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
  *
  * # Profile 지정
  * ./gradlew :bootstrap:bootstrap-web-api:bootRun --args='--spring.profiles.active=dev'
+ *
+ * # 번들 모드 (MySQL 없이 MCP Context 조회만 서빙)
+ * ./gradlew :bootstrap:bootstrap-web-api:bootRun --args='--spring.profiles.active=bundle'
+ *
+ * # 기동 최적화 (관리자 API 지연 초기화, 스키마 검증을 기동 후로)
+ * SPRING_PROFILES_ACTIVE=local,fast-startup ./gradlew :bootstrap:bootstrap-web-api:bootRun
+ *
+ * # 네이티브 이미지 (GraalVM JDK 필요, 경로는 bootstrap/bootstrap-web-api 기준)
+ * ./gradlew -Pnative :bootstrap:bootstrap-web-api:nativeCompile
+ * build/native/nativeCompile/spring-standards-web-api --spring.profiles.active=native,prod
  * }</pre>
  *
+ * <p>{@code bundle} 프로필이면 {@link McpBundleWebApiApplication}을 기본 소스로 사용합니다. 프로필은 컨텍스트를 만들기 전에 결정해야
+ * 하므로 커맨드 라인 인자, 시스템 프로퍼티, 환경 변수({@code SPRING_PROFILES_ACTIVE})만 봅니다.
+ *
+ * <p>네이티브 이미지는 빌드 시점에 이 클래스와 {@code native} 프로필로 AOT 처리한 빈 구성만 담고 있으므로 {@code bundle} 프로필로 기동하면 바로
+ * 실패시킵니다.
+ *
+ * <p>기동 단계는 {@link BufferingApplicationStartup}으로 기록합니다. ready 시점에 {@code StartupPhaseReporter}가
+ * 단계별 소요 시간을 로그로 남기며, {@code /actuator/startup}으로도 조회할 수 있습니다.
+ *
  * @author windsurf
  * @since 1.0.0
  */
@@ -57,12 +81,28 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 @ConfigurationPropertiesScan(basePackages = {"com.ryuqq.adapter.in.rest.config.properties"})
 public class SpringStandardsWebApiApplication {
 
+    private static final String BUNDLE_PROFILE = "bundle";
+
+    /** 기동 단계 기록 용량 (빈 약 1,000개 × 빈당 단계 수 + 여유) */
+    private static final int STARTUP_STEP_CAPACITY = 10_000;
+
     /**
      * 애플리케이션 진입점
      *
      * @param args 커맨드 라인 인자
      */
     public static void main(String[] args) {
-        SpringApplication.run(SpringStandardsWebApiApplication.class, args);
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new SimpleCommandLinePropertySource(args));
+        boolean bundle = environment.matchesProfiles(BUNDLE_PROFILE);
+        if (bundle && NativeDetector.inNativeImage()) {
+            throw new IllegalStateException(
+                    "The bundle profile is not available in the native image; use the JVM build");
+        }
+        Class<?> source =
+                bundle ? McpBundleWebApiApplication.class : SpringStandardsWebApiApplication.class;
+        SpringApplication application = new SpringApplication(source);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
@@ -0,0 +1,64 @@
+package com.ryuqq.bootstrap.bundle;
+
+import com.ryuqq.application.mcp.port.in.ClassifyClassNamesUseCase;
+import com.ryuqq.application.mcp.port.in.GetConfigFilesForMcpUseCase;
+import com.ryuqq.application.mcp.port.in.GetOnboardingForMcpUseCase;
+import com.ryuqq.application.mcp.port.in.RenderTemplatesUseCase;
+import com.ryuqq.application.mcp.port.in.ResolvePathsUseCase;
+import com.ryuqq.application.mcp.port.in.ScaffoldModuleUseCase;
+import com.ryuqq.application.mcp.port.in.ValidateImportEdgesUseCase;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * BundleModeUseCaseConfig - 번들 모드에서 서빙하지 않는 MCP UseCase
+ *
+ * <p>번들은 {@code McpContextQueryPort}만 구현합니다. {@code McpQueryController}의 나머지 UseCase는 별도 조회 포트(설정
+ * 파일, 온보딩, 경로/템플릿 등)를 쓰므로, 번들 모드에서는 {@link IllegalStateException}을 던져 409로 응답합니다.
+ *
+ * <p>{@link McpBundleWebApiApplication}이 {@code @Import}로만 등록합니다. 전체 모드 스캔에 걸리지 않도록 {@code
+ * @Configuration}을 붙이지 않습니다.
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+public class BundleModeUseCaseConfig {
+
+    @Bean
+    public GetConfigFilesForMcpUseCase getConfigFilesForMcpUseCase() {
+        return query -> unavailable("config-files");
+    }
+
+    @Bean
+    public GetOnboardingForMcpUseCase getOnboardingForMcpUseCase() {
+        return query -> unavailable("onboarding");
+    }
+
+    @Bean
+    public ResolvePathsUseCase resolvePathsUseCase() {
+        return query -> unavailable("resolve-paths");
+    }
+
+    @Bean
+    public ClassifyClassNamesUseCase classifyClassNamesUseCase() {
+        return query -> unavailable("classify-class-names");
+    }
+
+    @Bean
+    public ValidateImportEdgesUseCase validateImportEdgesUseCase() {
+        return query -> unavailable("validate-imports");
+    }
+
+    @Bean
+    public RenderTemplatesUseCase renderTemplatesUseCase() {
+        return query -> unavailable("render-templates");
+    }
+
+    @Bean
+    public ScaffoldModuleUseCase scaffoldModuleUseCase() {
+        return query -> unavailable("scaffold");
+    }
+
+    private static <T> T unavailable(String operation) {
+        throw new IllegalStateException(operation + " is not available in bundle mode");
+    }
+}
@@ -0,0 +1,114 @@
+package com.ryuqq.bootstrap.bundle;
+
+import com.ryuqq.adapter.in.rest.common.bulkhead.WorkloadLaneInterceptor;
+import com.ryuqq.adapter.in.rest.common.controller.GlobalExceptionHandler;
+import com.ryuqq.adapter.in.rest.common.deadline.RequestDeadlineInterceptor;
+import com.ryuqq.adapter.in.rest.common.error.ErrorMapperRegistry;
+import com.ryuqq.adapter.in.rest.common.filter.ReadYourWritesFilter;
+import com.ryuqq.adapter.in.rest.config.JacksonConfig;
+import com.ryuqq.adapter.in.rest.config.OpenApiConfig;
+import com.ryuqq.adapter.in.rest.config.SecurityConfig;
+import com.ryuqq.adapter.in.rest.config.WebMvcConfig;
+import com.ryuqq.adapter.in.rest.mcp.controller.query.McpQueryController;
+import com.ryuqq.adapter.in.rest.mcp.error.McpErrorMapper;
+import com.ryuqq.adapter.in.rest.mcp.mapper.McpQueryApiMapper;
+import com.ryuqq.adapter.in.rest.mcp.stream.ModuleScaffoldZipWriter;
+import com.ryuqq.adapter.in.rest.module.error.ModuleErrorMapper;
+import com.ryuqq.adapter.in.rest.techstack.error.ConventionSetErrorMapper;
+import com.ryuqq.adapter.in.rest.techstack.error.TechStackErrorMapper;
+import com.ryuqq.adapter.out.bundle.adapter.McpContextBundleQueryAdapter;
+import com.ryuqq.adapter.out.bundle.config.ConventionBundleConfig;
+import com.ryuqq.application.common.config.ApplicationJsonConfig;
+import com.ryuqq.application.common.config.BulkheadConfig;
+import com.ryuqq.application.common.config.DeadlineConfig;
+import com.ryuqq.application.common.config.SingleFlightConfig;
+import com.ryuqq.application.mcp.assembler.McpContextAssembler;
+import com.ryuqq.application.mcp.assembler.ValidationContextAssembler;
+import com.ryuqq.application.mcp.manager.McpContextReadManager;
+import com.ryuqq.application.mcp.service.GetModuleContextService;
+import com.ryuqq.application.mcp.service.GetPlanningContextService;
+import com.ryuqq.application.mcp.service.GetValidationContextService;
+import com.ryuqq.bootstrap.config.ClockConfig;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * MCP Bundle Web API Application - 번들 기반 읽기 전용 서빙 모드
+ *
+ * <p>{@code bundle} 프로필로 실행하면 {@code SpringStandardsWebApiApplication}이 이 클래스를 기본 소스로 사용합니다. 컨벤션 세트
+ * 번들 파일을 메모리 매핑해 {@code McpContextQueryPort}를 서빙하므로 MySQL 없이 CI 에이전트 옆에서 띄울 수 있습니다.
+ *
+ * <p><strong>전체 모드와의 차이:</strong>
+ *
+ * <ul>
+ *   <li>컴포넌트 스캔 없이 MCP 조회에 필요한 빈만 {@link Import}합니다
+ *   <li>DataSource/JPA/Flyway 자동 설정을 제외합니다 (커넥션 풀 없음)
+ *   <li>Context 조회(module/planning/validation) 외 MCP 엔드포인트는 409를 반환합니다 ({@link
+ *       BundleModeUseCaseConfig})
+ *   <li>트랜잭션 매니저가 없으므로 {@code @Transactional}은 적용되지 않습니다 (읽기 전용 매핑)
+ * </ul>
+ *
+ * <p>{@code @SpringBootConfiguration}을 붙이지 않습니다. 전체 모드가 {@code com.ryuqq.bootstrap}을 스캔할 때 이 클래스가
+ * 함께 등록되면 두 {@code McpContextQueryPort} 구현이 충돌합니다.
+ *
+ * <pre>{@code
+ * CONVENTION_BUNDLE_PATH=./convention-set-1.bundle \
+ *   java -jar spring-standards-web-api.jar --spring.profiles.active=bundle
+ * }</pre>
+ *
+ * @author ryu-qqq
+ * @since 1.0.0
+ */
+@EnableAutoConfiguration(
+        exclude = {
+            DataSourceAutoConfiguration.class,
+            DataSourceTransactionManagerAutoConfiguration.class,
+            JdbcTemplateAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class,
+            FlywayAutoConfiguration.class
+        })
+@Import({
+    // Adapter-In (MCP 조회)
+    McpQueryController.class,
+    McpQueryApiMapper.class,
+    ModuleScaffoldZipWriter.class,
+    // Adapter-In (공통)
+    WebMvcConfig.class,
+    RequestDeadlineInterceptor.class,
+    WorkloadLaneInterceptor.class,
+    ReadYourWritesFilter.class,
+    GlobalExceptionHandler.class,
+    ErrorMapperRegistry.class,
+    McpErrorMapper.class,
+    ModuleErrorMapper.class,
+    TechStackErrorMapper.class,
+    ConventionSetErrorMapper.class,
+    SecurityConfig.class,
+    JacksonConfig.class,
+    OpenApiConfig.class,
+    // Application (Context 조회)
+    GetModuleContextService.class,
+    GetPlanningContextService.class,
+    GetValidationContextService.class,
+    McpContextReadManager.class,
+    McpContextAssembler.class,
+    ValidationContextAssembler.class,
+    SingleFlightConfig.class,
+    DeadlineConfig.class,
+    BulkheadConfig.class,
+    ApplicationJsonConfig.class,
+    BundleModeUseCaseConfig.class,
+    // Adapter-Out (번들)
+    ConventionBundleConfig.class,
+    McpContextBundleQueryAdapter.class,
+    // Bootstrap
+    ClockConfig.class
+})
+public class McpBundleWebApiApplication {}
@@ -0,0 +1,37 @@
+package com.ryuqq.bootstrap.config;
+
+import java.util.List;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 지연 초기화 제외 설정
+ *
+ * <p>{@code fast-startup} 프로필은 {@code spring.main.lazy-initialization=true}로 관리자 API(템플릿 CRUD 컨트롤러와
+ * 그 UseCase/Adapter)를 첫 요청 시점에 생성합니다. 다만 아래 빈은 기동 중에 생성합니다.
+ *
+ * <ul>
+ *   <li>MCP 조회 경로({@code com.ryuqq.adapter.in.rest.mcp}) - 트래픽 대부분이므로 첫 요청 지연을 두지 않음. 의존하는
+ *       Service/Manager/QueryAdapter와 EntityManagerFactory(및 Flyway 마이그레이션)도 함께 생성됨
+ *   <li>Bootstrap 빈 - 스케줄러는 생성되어야 {@code @Scheduled}가 등록됨
+ * </ul>
+ *
+ * <p>지연 초기화를 켜지 않으면 이 필터는 아무 효과가 없습니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    private static final List<String> EAGER_PACKAGES =
+            List.of("com.ryuqq.adapter.in.rest.mcp.", "com.ryuqq.bootstrap.");
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInitializationFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                beanType != null
+                        && EAGER_PACKAGES.stream()
+                                .anyMatch(prefix -> beanType.getName().startsWith(prefix));
+    }
+}
@@ -0,0 +1,16 @@
+package com.ryuqq.bootstrap.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ *
+ * <p>Bootstrap Layer에서 @Scheduled 작업을 활성화합니다. 개별 작업은 {@code com.ryuqq.bootstrap.scheduler} 패키지에
+ * 위치하며 UseCase만 호출합니다.
+ *
+ * @author ryu-qqq
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,77 @@
+package com.ryuqq.bootstrap.scheduler;
+
+import com.ryuqq.application.feedbackqueue.dto.command.ArchiveFeedbackQueueCommand;
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueArchiveResult;
+import com.ryuqq.application.feedbackqueue.port.in.ArchiveFeedbackQueueUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueArchiveScheduler - 피드백 큐 보관 스케줄러
+ *
+ * <p>주기적으로 종료 상태 피드백을 보관 테이블로 이동합니다. 배치 단위 트랜잭션으로 처리되므로 한 번의 실행이 길어지더라도 활성 테이블의 락 보유 시간은 배치 하나로
+ * 제한됩니다.
+ *
+ * <p>보관 락으로 클러스터 전체에서 한 노드만 실행되며, 락을 얻지 못한 노드는 즉시 건너뜁니다. 실행할 때마다 보관 테이블의 월 파티션을 미리 만들고 보관 기간이 지난 월
+ * 파티션을 삭제합니다.
+ *
+ * <p>{@code feedback-queue.archive.enabled=false}로 비활성화할 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "feedback-queue.archive",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class FeedbackQueueArchiveScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(FeedbackQueueArchiveScheduler.class);
+
+    private final ArchiveFeedbackQueueUseCase archiveFeedbackQueueUseCase;
+    private final ArchiveFeedbackQueueCommand command;
+
+    public FeedbackQueueArchiveScheduler(
+            ArchiveFeedbackQueueUseCase archiveFeedbackQueueUseCase,
+            @Value("${feedback-queue.archive.retention-days:30}") int retentionDays,
+            @Value("${feedback-queue.archive.batch-size:500}") int batchSize,
+            @Value("${feedback-queue.archive.max-batches:100}") int maxBatches,
+            @Value("${feedback-queue.archive.partition-lead-months:3}") int partitionLeadMonths,
+            @Value("${feedback-queue.archive.partition-retention-months:24}")
+                    int partitionRetentionMonths,
+            @Value("${feedback-queue.archive.lock-lease-seconds:600}") long lockLeaseSeconds) {
+        this.archiveFeedbackQueueUseCase = archiveFeedbackQueueUseCase;
+        this.command =
+                new ArchiveFeedbackQueueCommand(
+                        retentionDays,
+                        batchSize,
+                        maxBatches,
+                        partitionLeadMonths,
+                        partitionRetentionMonths,
+                        lockLeaseSeconds);
+    }
+
+    /** 보관 작업 실행 (기본: 매일 03:30) */
+    @Scheduled(cron = "${feedback-queue.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        FeedbackQueueArchiveResult result = archiveFeedbackQueueUseCase.execute(command);
+        if (result.skipped()) {
+            log.debug("Feedback queue archive skipped: another node holds the archive lock");
+            return;
+        }
+        log.info(
+                "Feedback queue archived: count={}, batches={}, cutoff={}, hasRemaining={},"
+                        + " partitionsAdded={}, partitionsDropped={}",
+                result.archivedCount(),
+                result.batchCount(),
+                result.cutoff(),
+                result.hasRemaining(),
+                result.addedPartitionCount(),
+                result.droppedPartitionCount());
+    }
+}
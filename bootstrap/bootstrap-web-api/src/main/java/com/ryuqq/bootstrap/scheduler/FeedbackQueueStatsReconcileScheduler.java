@@ -0,0 +1,56 @@
+package com.ryuqq.bootstrap.scheduler;
+
+import com.ryuqq.application.feedbackqueue.dto.response.FeedbackQueueStatsReconcileResult;
+import com.ryuqq.application.feedbackqueue.port.in.ReconcileFeedbackQueueStatsUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * FeedbackQueueStatsReconcileScheduler - 피드백 큐 통계 보정 스케줄러
+ *
+ * <p>주기적으로 통계 카운터를 실제 건수로 보정하고 증감 기록을 압축합니다. drift 가 발생하면 카운터를 거치지 않은 쓰기 경로가 있다는 뜻이므로 경고 로그를 남깁니다.
+ *
+ * <p>보정 락으로 클러스터 전체에서 한 노드만 실행되며, 락을 얻지 못한 노드는 즉시 건너뜁니다.
+ *
+ * <p>{@code feedback-queue.stats.reconcile-enabled=false}로 비활성화할 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "feedback-queue.stats",
+        name = "reconcile-enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class FeedbackQueueStatsReconcileScheduler {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(FeedbackQueueStatsReconcileScheduler.class);
+
+    private final ReconcileFeedbackQueueStatsUseCase reconcileFeedbackQueueStatsUseCase;
+
+    public FeedbackQueueStatsReconcileScheduler(
+            ReconcileFeedbackQueueStatsUseCase reconcileFeedbackQueueStatsUseCase) {
+        this.reconcileFeedbackQueueStatsUseCase = reconcileFeedbackQueueStatsUseCase;
+    }
+
+    /** 통계 보정 실행 (기본: 10분마다) */
+    @Scheduled(cron = "${feedback-queue.stats.reconcile-cron:0 */10 * * * *}")
+    public void reconcile() {
+        FeedbackQueueStatsReconcileResult result = reconcileFeedbackQueueStatsUseCase.execute();
+        if (result.skipped()) {
+            return;
+        }
+        if (result.driftedKeyCount() > 0) {
+            log.warn(
+                    "Feedback queue stats drift corrected: driftedKeys={}, compacted={}",
+                    result.driftedKeyCount(),
+                    result.compactedDeltaCount());
+            return;
+        }
+        log.debug("Feedback queue stats reconciled: compacted={}", result.compactedDeltaCount());
+    }
+}
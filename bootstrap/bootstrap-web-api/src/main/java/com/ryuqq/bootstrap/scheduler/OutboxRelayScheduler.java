@@ -0,0 +1,100 @@
+package com.ryuqq.bootstrap.scheduler;
+
+import com.ryuqq.application.outbox.dto.command.RelayOutboxCommand;
+import com.ryuqq.application.outbox.dto.response.OutboxRelayResult;
+import com.ryuqq.application.outbox.port.in.RelayOutboxUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * OutboxRelayScheduler - 도메인 이벤트 아웃박스 릴레이 스케줄러
+ *
+ * <p>짧은 주기로 아웃박스를 비웁니다. 릴레이 락으로 클러스터 전체에서 한 노드만 실행되며, 락을 얻지 못한 노드는 즉시 건너뜁니다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code outbox.relay.published} / {@code outbox.relay.failed} / {@code outbox.relay.dead} -
+ *       처리량 카운터
+ *   <li>{@code outbox.relay.run} - 1회 실행 시간
+ *   <li>{@code outbox.relay.lag} - 가장 오래된 미발행 메시지의 대기 시간 (초)
+ * </ul>
+ *
+ * <p>{@code outbox.relay.enabled=false}로 비활성화할 수 있습니다. 비활성화하면 이벤트는 아웃박스에 쌓이기만 합니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+@ConditionalOnProperty(
+        prefix = "outbox.relay",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true)
+public class OutboxRelayScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelayScheduler.class);
+
+    private final RelayOutboxUseCase relayOutboxUseCase;
+    private final RelayOutboxCommand command;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer runTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelayScheduler(
+            RelayOutboxUseCase relayOutboxUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${outbox.relay.batch-size:200}") int batchSize,
+            @Value("${outbox.relay.max-batches:20}") int maxBatches,
+            @Value("${outbox.relay.lock-lease-seconds:30}") long lockLeaseSeconds) {
+        this.relayOutboxUseCase = relayOutboxUseCase;
+        this.command = new RelayOutboxCommand(batchSize, maxBatches, lockLeaseSeconds);
+        this.publishedCounter = meterRegistry.counter("outbox.relay.published");
+        this.failedCounter = meterRegistry.counter("outbox.relay.failed");
+        this.deadCounter = meterRegistry.counter("outbox.relay.dead");
+        this.runTimer = meterRegistry.timer("outbox.relay.run");
+        Gauge.builder("outbox.relay.lag", lagSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .description("Age of the oldest unpublished outbox message")
+                .register(meterRegistry);
+    }
+
+    /** 릴레이 실행 (기본: 이전 실행 종료 250ms 후) */
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:250}")
+    public void relay() {
+        OutboxRelayResult result = runTimer.record(() -> relayOutboxUseCase.execute(command));
+        if (result.skipped()) {
+            return;
+        }
+
+        publishedCounter.increment(result.publishedCount());
+        failedCounter.increment(result.failedCount());
+        deadCounter.increment(result.deadCount());
+        lagSeconds.set(result.lag().toSeconds());
+
+        if (result.failedCount() > 0 || result.deadCount() > 0) {
+            log.warn(
+                    "Outbox relayed with failures: published={}, failed={}, dead={}, lag={}",
+                    result.publishedCount(),
+                    result.failedCount(),
+                    result.deadCount(),
+                    result.lag());
+        } else if (result.publishedCount() > 0) {
+            log.debug(
+                    "Outbox relayed: published={}, batches={}, lag={}",
+                    result.publishedCount(),
+                    result.batchCount(),
+                    result.lag());
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.ryuqq.bootstrap.startup;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+/**
+ * StartupPhaseReporter - 기동 단계별 소요 시간 리포트
+ *
+ * <p>{@link BufferingApplicationStartup}이 기록한 기동 단계를 ready 시점에 한 번 로그로 남깁니다.
+ *
+ * <ul>
+ *   <li>JVM 시작 → main: JVM 부팅과 main 클래스 로딩 (AppCDS 효과가 보이는 구간)
+ *   <li>단계별 합계: 같은 이름의 단계가 중첩되면 바깥 단계만 합산 (예: {@code spring.context.refresh}, {@code
+ *       spring.boot.application.environment-prepared})
+ *   <li>느린 빈: {@code spring.beans.instantiate}의 자기 시간(의존 빈 생성 시간 제외) 상위 {@value #TOP_BEANS}개
+ * </ul>
+ *
+ * <p>전체 타임라인은 {@code /actuator/startup}에서 조회할 수 있습니다. 기록 용량을 넘긴 단계는 버려지므로 리포트가 일부 단계를 빠뜨릴 수 있습니다.
+ *
+ * @author ryu-qqq
+ */
+@Component
+public class StartupPhaseReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupPhaseReporter.class);
+
+    private static final int TOP_BEANS = 10;
+    private static final String BEAN_INSTANTIATE = "spring.beans.instantiate";
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup()
+                instanceof BufferingApplicationStartup startup) {
+            log.info(
+                    report(
+                            startup.getBufferedTimeline(),
+                            ManagementFactory.getRuntimeMXBean().getStartTime(),
+                            event.getTimeTaken()));
+        }
+    }
+
+    static String report(StartupTimeline timeline, long jvmStartMillis, Duration timeTaken) {
+        List<TimelineEvent> events = timeline.getEvents();
+        Map<Long, TimelineEvent> byId = new HashMap<>();
+        for (TimelineEvent event : events) {
+            byId.put(event.getStartupStep().getId(), event);
+        }
+
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        Map<Long, Long> childBeanMillis = new HashMap<>();
+        for (TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (!hasAncestorNamed(step, step.getName(), byId)) {
+                phaseMillis.merge(step.getName(), event.getDuration().toMillis(), Long::sum);
+            }
+            TimelineEvent parent = byId.get(step.getParentId());
+            if (BEAN_INSTANTIATE.equals(step.getName())
+                    && parent != null
+                    && BEAN_INSTANTIATE.equals(parent.getStartupStep().getName())) {
+                childBeanMillis.merge(
+                        step.getParentId(), event.getDuration().toMillis(), Long::sum);
+            }
+        }
+
+        StringBuilder text = new StringBuilder("Startup report\n");
+        text.append(
+                String.format(
+                        "  %-56s %7d ms%n",
+                        "jvm.start -> main",
+                        timeline.getStartTime().toEpochMilli() - jvmStartMillis));
+        text.append(String.format("  %-56s %7d ms%n", "ready", timeTaken.toMillis()));
+        text.append("  phases (outermost step per name):\n");
+        phaseMillis.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+                .forEach(
+                        phase ->
+                                text.append(
+                                        String.format(
+                                                "    %-54s %7d ms%n",
+                                                phase.getKey(),
+                                                phase.getValue())));
+        text.append("  slowest beans (self time):\n");
+        events.stream()
+                .filter(event -> BEAN_INSTANTIATE.equals(event.getStartupStep().getName()))
+                .map(
+                        event ->
+                                Map.entry(
+                                        beanName(event.getStartupStep()),
+                                        event.getDuration().toMillis()
+                                                - childBeanMillis.getOrDefault(
+                                                        event.getStartupStep().getId(), 0L)))
+                .sorted(Map.Entry.comparingByValue(Comparator.reverseOrder()))
+                .limit(TOP_BEANS)
+                .forEach(
+                        bean ->
+                                text.append(
+                                        String.format(
+                                                "    %-54s %7d ms%n",
+                                                bean.getKey(),
+                                                bean.getValue())));
+        return text.toString();
+    }
+
+    private static boolean hasAncestorNamed(
+            StartupStep step, String name, Map<Long, TimelineEvent> byId) {
+        TimelineEvent ancestor = byId.get(step.getParentId());
+        while (ancestor != null) {
+            if (name.equals(ancestor.getStartupStep().getName())) {
+                return true;
+            }
+            ancestor = byId.get(ancestor.getStartupStep().getParentId());
+        }
+        return false;
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return Objects.requireNonNullElse(tag.getValue(), "?");
+            }
+        }
+        return "?";
+    }
+}
@@ -0,0 +1,356 @@
+package com.ryuqq.bootstrap.smoke;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * 네이티브 이미지 MCP 엔드포인트 스모크 테스트
+ *
+ * <p>{@code nativeCompile}로 만든 바이너리를 {@code native,h2} 프로필로 띄운 뒤 HTTP로만 검증합니다. 락 모드만 로컬로 바꾸고 벌크헤드
+ * 레인 풀은 native 프로필 값 그대로 H2 위에서 사용합니다. AOT 힌트가 빠진 경로(QueryDSL 프로젝션 생성자, Jackson Record 바인딩,
+ * Hibernate 매핑)는 JVM 테스트에서 드러나지 않으므로 바이너리에서 직접 호출합니다.
+ *
+ * <ol>
+ *   <li>컨벤션 세트 가져오기로 H2에 최소 데이터를 적재 (가져오기 경로도 함께 검증)
+ *   <li>planning-context 응답에서 기술 스택/아키텍처/모듈 ID를 읽음
+ *   <li>MCP 엔드포인트를 모두 호출해 200 응답과 본문 구조 확인
+ * </ol>
+ *
+ * <p>기동 시간(프로세스 시작 → health UP)과 RSS({@code /proc/{pid}/status}의 VmRSS)를 출력합니다.
+ *
+ * <p>실행: {@code ./gradlew -Pnative :bootstrap:bootstrap-web-api:nativeSmokeTest} ({@code
+ * native.binary} 시스템 프로퍼티가 없으면 건너뜀)
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("native-smoke")
+@EnabledIfSystemProperty(named = "native.binary", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("네이티브 이미지 MCP 엔드포인트 스모크 테스트")
+class McpNativeSmokeTest {
+
+    private static final String TECH_STACK_IMPORT = "/api/v1/templates/tech-stacks/import";
+    private static final String MCP = "/api/v1/templates/mcp";
+    private static final String HEALTH = "/actuator/health";
+    private static final String SEED = "/smoke/convention-set.ndjson";
+    private static final String ORDER_SOURCE_PATH =
+            "domain/src/main/java/com/ryuqq/order/aggregate/Order.java";
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client =
+            HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+    private Process process;
+    private Path logFile;
+    private String baseUrl;
+    private long techStackId;
+    private long architectureId;
+    private long moduleId;
+    private long configFileId;
+
+    @BeforeAll
+    void startBinaryAndSeed() throws Exception {
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        logFile = Files.createTempFile("native-smoke-", ".log");
+
+        long startNanos = System.nanoTime();
+        process =
+                new ProcessBuilder(
+                                System.getProperty("native.binary"),
+                                "--spring.profiles.active=native,h2",
+                                // H2에는 GET_LOCK이 없으므로 native 프로필의 MySQL 네임드 락 대신 로컬 락 사용
+                                "--persistence.lock.mode=local",
+                                "--server.port=" + port,
+                                "--logging.level.com.ryuqq=INFO")
+                        .redirectErrorStream(true)
+                        .redirectOutput(logFile.toFile())
+                        .start();
+        awaitHealthy();
+        System.out.printf(
+                "Native smoke: ready in %d ms, RSS %s%n",
+                (System.nanoTime() - startNanos) / 1_000_000L, rss());
+
+        seed();
+        discoverIds();
+    }
+
+    @AfterAll
+    void stopBinary() throws Exception {
+        if (process == null) {
+            return;
+        }
+        System.out.printf("Native smoke: RSS after MCP calls %s%n", rss());
+        process.destroy();
+        process.waitFor();
+    }
+
+    @Test
+    @DisplayName("GET planning-context - 레이어별 모듈과 패키지")
+    void planningContext() throws Exception {
+        JsonNode data = getData(MCP + "/planning-context?layers=DOMAIN&layers=APPLICATION");
+
+        assertThat(data.path("techStack").path("id").asLong()).isEqualTo(techStackId);
+        assertThat(data.path("layers")).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("GET module/{moduleId}/context - 실행/규칙 컨텍스트")
+    void moduleContext() throws Exception {
+        JsonNode data = getData(MCP + "/module/" + moduleId + "/context");
+
+        assertThat(data.path("module").path("id").asLong()).isEqualTo(moduleId);
+        assertThat(data.path("executionContext").isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST module/{moduleId}/scaffold - ZIP 스트리밍")
+    void moduleScaffold() throws Exception {
+        HttpResponse<byte[]> response =
+                postJson(
+                        MCP + "/module/" + moduleId + "/scaffold",
+                        Map.of(
+                                "variables",
+                                Map.of(
+                                        "base_package", "com.ryuqq",
+                                        "domain", "order",
+                                        "Domain", "Order"),
+                                "toolTypes",
+                                List.of("CLAUDE")));
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/zip");
+        assertThat(new String(response.body(), 0, 2, StandardCharsets.ISO_8859_1)).isEqualTo("PK");
+    }
+
+    @Test
+    @DisplayName("POST resolve-paths - 파일 경로 해석")
+    void resolvePaths() throws Exception {
+        JsonNode data =
+                postJsonData(
+                        MCP + "/resolve-paths",
+                        Map.of(
+                                "architectureId",
+                                architectureId,
+                                "paths",
+                                List.of(ORDER_SOURCE_PATH)));
+
+        assertThat(data.isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST classify-class-names - 클래스명 분류")
+    void classifyClassNames() throws Exception {
+        JsonNode data =
+                postJsonData(
+                        MCP + "/classify-class-names",
+                        Map.of(
+                                "architectureId",
+                                architectureId,
+                                "classNames",
+                                List.of("com.ryuqq.order.aggregate.Order")));
+
+        assertThat(data.isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST validate-imports - 레이어 의존성 검사")
+    void validateImports() throws Exception {
+        JsonNode data =
+                postJsonData(
+                        MCP + "/validate-imports",
+                        Map.of(
+                                "architectureId",
+                                architectureId,
+                                "edges",
+                                List.of(
+                                        Map.of(
+                                                "fromPackage", "com.ryuqq.order.aggregate",
+                                                "toPackage", "com.ryuqq.order.service"))));
+
+        assertThat(data.isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST render-templates - 설정 파일 템플릿 렌더링")
+    void renderTemplates() throws Exception {
+        JsonNode data =
+                postJsonData(
+                        MCP + "/render-templates",
+                        Map.of(
+                                "items",
+                                List.of(
+                                        Map.of(
+                                                "templateType", "CONFIG_FILE",
+                                                "templateId", configFileId,
+                                                "variables", Map.of("project_name", "smoke")))));
+
+        assertThat(data.toString()).contains("# smoke");
+    }
+
+    @Test
+    @DisplayName("GET validation-context - Zero-Tolerance와 Checklist")
+    void validationContext() throws Exception {
+        JsonNode data =
+                getData(
+                        MCP
+                                + "/validation-context?techStackId="
+                                + techStackId
+                                + "&architectureId="
+                                + architectureId
+                                + "&layers=DOMAIN");
+
+        assertThat(data.isObject()).isTrue();
+    }
+
+    @Test
+    @DisplayName("GET config-files - 설정 파일 템플릿 목록")
+    void configFiles() throws Exception {
+        JsonNode data = getData(MCP + "/config-files?techStackId=" + techStackId);
+
+        assertThat(data.path("totalCount").asInt()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("GET onboarding - 온보딩 컨텍스트 목록")
+    void onboarding() throws Exception {
+        JsonNode data = getData(MCP + "/onboarding?techStackId=" + techStackId);
+
+        assertThat(data.isObject()).isTrue();
+    }
+
+    private void seed() throws Exception {
+        byte[] document;
+        try (InputStream in = getClass().getResourceAsStream(SEED)) {
+            assertThat(in).as(SEED).isNotNull();
+            document = in.readAllBytes();
+        }
+        HttpResponse<String> response =
+                client.send(
+                        request(TECH_STACK_IMPORT)
+                                .header("Content-Type", "application/x-ndjson")
+                                .POST(HttpRequest.BodyPublishers.ofByteArray(document))
+                                .build(),
+                        HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+        assertThat(response.body()).contains("{\"end\":true");
+    }
+
+    private void discoverIds() throws Exception {
+        JsonNode planning = getData(MCP + "/planning-context?layers=DOMAIN");
+        techStackId = planning.path("techStack").path("id").asLong();
+        architectureId = planning.path("architecture").path("id").asLong();
+        moduleId = planning.path("layers").path(0).path("modules").path(0).path("id").asLong();
+        JsonNode configFiles = getData(MCP + "/config-files?techStackId=" + techStackId);
+        configFileId = configFiles.path("configFiles").path(0).path("id").asLong();
+
+        assertThat(List.of(techStackId, architectureId, moduleId, configFileId))
+                .as("seeded ids from planning-context / config-files")
+                .allMatch(id -> id > 0);
+    }
+
+    private JsonNode getData(String path) throws Exception {
+        HttpResponse<String> response =
+                client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+        return data(path, response.statusCode(), response.body());
+    }
+
+    private JsonNode postJsonData(String path, Object body) throws Exception {
+        HttpResponse<byte[]> response = postJson(path, body);
+        return data(
+                path, response.statusCode(), new String(response.body(), StandardCharsets.UTF_8));
+    }
+
+    private HttpResponse<byte[]> postJson(String path, Object body) throws Exception {
+        return client.send(
+                request(path)
+                        .header("Content-Type", "application/json")
+                        .POST(
+                                HttpRequest.BodyPublishers.ofByteArray(
+                                        objectMapper.writeValueAsBytes(body)))
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private JsonNode data(String path, int status, String body) throws IOException {
+        assertThat(status).as(path + " -> " + body).isEqualTo(200);
+        JsonNode data = objectMapper.readTree(body).path("data");
+        assertThat(data.isMissingNode() || data.isNull()).as(path + " data").isFalse();
+        return data;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(10));
+    }
+
+    private void awaitHealthy() throws Exception {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("native binary exited with " + process.exitValue() + "\n" + logTail());
+            }
+            try {
+                HttpResponse<String> response =
+                        client.send(
+                                request(HEALTH).GET().build(),
+                                HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // 포트를 열기 전 - 다시 시도
+            }
+            Thread.sleep(20);
+        }
+        fail("native binary not healthy within " + STARTUP_TIMEOUT + "\n" + logTail());
+    }
+
+    private String rss() throws IOException {
+        Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+        if (!Files.isReadable(status)) {
+            return "n/a";
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> line.substring("VmRSS:".length()).trim())
+                .findFirst()
+                .orElse("n/a");
+    }
+
+    private String logTail() throws IOException {
+        List<String> lines = Files.readAllLines(logFile);
+        return String.join("\n", lines.subList(Math.max(0, lines.size() - 50), lines.size()));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
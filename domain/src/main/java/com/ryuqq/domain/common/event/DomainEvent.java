@@ -63,4 +63,18 @@ public interface DomainEvent {
     default String eventType() {
         return this.getClass().getSimpleName();
     }
+
+    /**
+     * 순서 보장 단위 키
+     *
+     * <p>트랜잭션 아웃박스 릴레이는 같은 키를 가진 이벤트를 기록 순서대로 전달합니다. 특정 Aggregate에 속한 이벤트는 {@code {aggregate}:{id}}
+     * 형식으로 재정의합니다.
+     *
+     * <p>기본 구현은 이벤트 타입을 반환합니다 (같은 타입끼리 순서 보장).
+     *
+     * @return 순서 보장 단위 키
+     */
+    default String aggregateKey() {
+        return eventType();
+    }
 }
@@ -0,0 +1,39 @@
+package com.ryuqq.domain.conventionset.exception;
+
+import com.ryuqq.domain.common.exception.ErrorCode;
+
+/**
+ * ConventionSetErrorCode - 컨벤션 세트 가져오기 에러 코드
+ *
+ * @author ryu-qqq
+ */
+public enum ConventionSetErrorCode implements ErrorCode {
+    CONVENTION_SET_INVALID_DOCUMENT("CONVENTION_SET-001", 400, "Invalid convention set document"),
+    CONVENTION_SET_PARENT_NOT_FOUND("CONVENTION_SET-002", 404, "Referenced parent row not found"),
+    CONVENTION_SET_ROW_CONFLICT("CONVENTION_SET-003", 409, "Row conflicts with an existing row");
+
+    private final String code;
+    private final int httpStatus;
+    private final String message;
+
+    ConventionSetErrorCode(String code, int httpStatus, String message) {
+        this.code = code;
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public int getHttpStatus() {
+        return httpStatus;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ryuqq.domain.conventionset.exception;
+
+import com.ryuqq.domain.common.exception.DomainException;
+import java.util.Map;
+
+/**
+ * ConventionSetInvalidDocumentException - 컨벤션 세트 문서 형식 오류 예외
+ *
+ * @author ryu-qqq
+ */
+public class ConventionSetInvalidDocumentException extends DomainException {
+
+    public ConventionSetInvalidDocumentException(String reason) {
+        super(
+                ConventionSetErrorCode.CONVENTION_SET_INVALID_DOCUMENT,
+                String.format("Invalid convention set document: %s", reason),
+                Map.of("reason", reason));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ryuqq.domain.conventionset.exception;
+
+import com.ryuqq.domain.common.exception.DomainException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ConventionSetParentNotFoundException - 문서 밖 부모 행 없음 예외
+ *
+ * @author ryu-qqq
+ */
+public class ConventionSetParentNotFoundException extends DomainException {
+
+    public ConventionSetParentNotFoundException(String table, Collection<Long> ids) {
+        super(
+                ConventionSetErrorCode.CONVENTION_SET_PARENT_NOT_FOUND,
+                String.format("Referenced %s rows not found: %s", table, ids),
+                Map.of("table", table, "ids", List.copyOf(ids)));
+    }
+}
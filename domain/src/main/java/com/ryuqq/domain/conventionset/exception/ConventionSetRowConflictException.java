@@ -0,0 +1,19 @@
+package com.ryuqq.domain.conventionset.exception;
+
+import com.ryuqq.domain.common.exception.DomainException;
+import java.util.Map;
+
+/**
+ * ConventionSetRowConflictException - 같은 키의 기존 행과 부모가 다른 경우의 예외
+ *
+ * @author ryu-qqq
+ */
+public class ConventionSetRowConflictException extends DomainException {
+
+    public ConventionSetRowConflictException(String table, String key) {
+        super(
+                ConventionSetErrorCode.CONVENTION_SET_ROW_CONFLICT,
+                String.format("%s row with key %s already exists under another parent", table, key),
+                Map.of("table", table, "key", key));
+    }
+}
@@ -3,12 +3,15 @@ package com.ryuqq.domain.feedbackqueue.aggregate;
 import com.ryuqq.domain.feedbackqueue.exception.InvalidFeedbackStatusTransitionException;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackPayload;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
 import com.ryuqq.domain.feedbackqueue.vo.ReviewNotes;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
 import java.time.Instant;
+import java.util.List;
 
 /**
  * FeedbackQueue - 피드백 큐 Aggregate Root
@@ -39,6 +42,9 @@ public class FeedbackQueue {
     private final RiskLevel riskLevel;
     private ReviewNotes reviewNotes;
 
+    // 마지막으로 영속화된 상태 (신규 생성이면 null) - 통계 카운터 증감 계산용
+    private FeedbackStatus persistedStatus;
+
     // Audit
     private final Instant createdAt;
     private Instant updatedAt;
@@ -62,6 +68,7 @@ public class FeedbackQueue {
             FeedbackStatus status,
             RiskLevel riskLevel,
             ReviewNotes reviewNotes,
+            FeedbackStatus persistedStatus,
             Instant createdAt,
             Instant updatedAt) {
         this.id = id;
@@ -72,6 +79,7 @@ public class FeedbackQueue {
         this.status = status;
         this.riskLevel = riskLevel;
         this.reviewNotes = reviewNotes;
+        this.persistedStatus = persistedStatus;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
@@ -125,6 +133,7 @@ public class FeedbackQueue {
                 FeedbackStatus.PENDING,
                 riskLevel,
                 ReviewNotes.empty(),
+                null,
                 now,
                 now);
     }
@@ -164,6 +173,7 @@ public class FeedbackQueue {
                 status,
                 riskLevel,
                 reviewNotes,
+                status,
                 createdAt,
                 updatedAt);
     }
@@ -304,14 +314,17 @@ public class FeedbackQueue {
     /**
      * 신규 엔티티 여부 확인
      *
-     * @return ID가 null이면 true
+     * <p>ID는 생성 시점에 미리 할당될 수 있으므로 ID 존재 여부가 아닌 영속화 여부로 판단합니다. {@link #markStatusPersisted()} 호출 전까지
+     * true입니다.
+     *
+     * @return 아직 영속화되지 않았으면 true
      */
     public boolean isNew() {
-        return id.isNew();
+        return persistedStatus == null;
     }
 
     /**
-     * ID 할당 (영속화 후 호출)
+     * ID 할당 (생성 시 사전 할당 또는 영속화 후 호출)
      *
      * @param id 할당할 ID
      */
@@ -340,6 +353,30 @@ public class FeedbackQueue {
         return status == FeedbackStatus.LLM_APPROVED && riskLevel.requiresHumanApproval();
     }
 
+    /**
+     * 마지막 영속화 이후 Human 리뷰 대기 상태로 진입했는지 확인
+     *
+     * <p>영속화 시점에 Human 리뷰 대기 이벤트 발행 여부를 판단하는 데 사용합니다.
+     *
+     * @return 이번 변경으로 LLM_APPROVED + MEDIUM 상태가 되었으면 true
+     */
+    public boolean enteredHumanReview() {
+        return persistedStatus != status && requiresHumanReview();
+    }
+
+    /**
+     * 마지막 영속화 이후 Human 리뷰 대기 상태에서 벗어났는지 확인
+     *
+     * <p>영속화 시점에 Human 리뷰 인박스 변경 알림 여부를 판단하는 데 사용합니다.
+     *
+     * @return 영속화된 LLM_APPROVED + MEDIUM 상태에서 다른 상태로 바뀌었으면 true
+     */
+    public boolean leftHumanReview() {
+        return persistedStatus == FeedbackStatus.LLM_APPROVED
+                && persistedStatus != status
+                && riskLevel.requiresHumanApproval();
+    }
+
     /**
      * 종료 상태인지 확인
      *
@@ -349,6 +386,50 @@ public class FeedbackQueue {
         return status.isTerminal();
     }
 
+    // === 통계 카운터 ===
+
+    /**
+     * 마지막 영속화 이후 상태 변화에 따른 카운터 증감
+     *
+     * <p>신규 생성이면 현재 상태 +1, 상태가 바뀌었으면 이전 상태 -1 / 현재 상태 +1, 변화가 없으면 빈 목록입니다.
+     *
+     * @return 카운터 증감 목록
+     */
+    public List<FeedbackQueueCounterDelta> statusCounterDeltas() {
+        if (persistedStatus == status) {
+            return List.of();
+        }
+        FeedbackQueueCounterDelta increment =
+                FeedbackQueueCounterDelta.increment(counterKeyOf(status));
+        if (persistedStatus == null) {
+            return List.of(increment);
+        }
+        return List.of(
+                FeedbackQueueCounterDelta.decrement(counterKeyOf(persistedStatus)), increment);
+    }
+
+    /**
+     * 활성 테이블에서 제거(보관)될 때의 카운터 증감
+     *
+     * @return 현재 상태 -1
+     */
+    public FeedbackQueueCounterDelta removalCounterDelta() {
+        return FeedbackQueueCounterDelta.decrement(counterKeyOf(status));
+    }
+
+    /**
+     * 현재 상태를 영속화된 상태로 표시
+     *
+     * <p>영속화 직후 호출하여 같은 인스턴스를 다시 저장할 때 증감이 중복 반영되지 않도록 합니다.
+     */
+    public void markStatusPersisted() {
+        this.persistedStatus = status;
+    }
+
+    private FeedbackQueueCounterKey counterKeyOf(FeedbackStatus counterStatus) {
+        return FeedbackQueueCounterKey.of(counterStatus, riskLevel, targetType);
+    }
+
     // === Getters ===
 
     public FeedbackQueueId id() {
@@ -0,0 +1,35 @@
+package com.ryuqq.domain.feedbackqueue.event;
+
+import com.ryuqq.domain.common.event.DomainEvent;
+import com.ryuqq.domain.feedbackqueue.aggregate.FeedbackQueue;
+import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
+import java.time.Instant;
+
+/**
+ * FeedbackAwaitingHumanReviewEvent - Human 리뷰 대기 진입 이벤트
+ *
+ * <p>MEDIUM 리스크 피드백이 LLM_APPROVED 상태에 도달하여 사람의 승인을 기다리게 되었을 때 발행됩니다.
+ *
+ * @param feedbackQueueId 피드백 큐 ID
+ * @param targetType 피드백 대상 타입
+ * @param occurredAt 이벤트 발생 시각
+ * @author ryu-qqq
+ */
+public record FeedbackAwaitingHumanReviewEvent(
+        FeedbackQueueId feedbackQueueId, FeedbackTargetType targetType, Instant occurredAt)
+        implements DomainEvent {
+
+    private static final String AGGREGATE_KEY_PREFIX = "feedback-queue:";
+
+    public static FeedbackAwaitingHumanReviewEvent from(
+            FeedbackQueue feedbackQueue, Instant occurredAt) {
+        return new FeedbackAwaitingHumanReviewEvent(
+                feedbackQueue.id(), feedbackQueue.targetType(), occurredAt);
+    }
+
+    @Override
+    public String aggregateKey() {
+        return AGGREGATE_KEY_PREFIX + feedbackQueueId.value();
+    }
+}
@@ -0,0 +1,22 @@
+package com.ryuqq.domain.feedbackqueue.exception;
+
+import com.ryuqq.domain.common.exception.DomainException;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackMergeLockKey;
+import java.util.Map;
+
+/**
+ * FeedbackMergeLockTimeoutException - 피드백 머지 대상 락 획득 실패 예외
+ *
+ * <p>같은 대상 엔티티에 대한 다른 머지가 진행 중이어서 대기 시간 내에 락을 얻지 못한 경우 발생합니다.
+ *
+ * @author ryu-qqq
+ */
+public class FeedbackMergeLockTimeoutException extends DomainException {
+
+    public FeedbackMergeLockTimeoutException(FeedbackMergeLockKey lockKey) {
+        super(
+                FeedbackQueueErrorCode.MERGE_LOCK_TIMEOUT,
+                String.format("Merge target is locked by another merge: %s", lockKey.value()),
+                Map.of("lockKey", lockKey.value()));
+    }
+}
@@ -11,7 +11,8 @@ public enum FeedbackQueueErrorCode implements ErrorCode {
     FEEDBACK_QUEUE_NOT_FOUND("FEEDBACK_QUEUE-001", 404, "FeedbackQueue not found"),
     INVALID_STATUS_TRANSITION("FEEDBACK_QUEUE-002", 400, "Invalid feedback status transition"),
     INVALID_PAYLOAD("FEEDBACK_QUEUE-003", 400, "Invalid feedback payload"),
-    MERGE_VALIDATION_FAILED("FEEDBACK_QUEUE-004", 400, "Feedback merge validation failed");
+    MERGE_VALIDATION_FAILED("FEEDBACK_QUEUE-004", 400, "Feedback merge validation failed"),
+    MERGE_LOCK_TIMEOUT("FEEDBACK_QUEUE-005", 409, "Feedback merge target is locked");
 
     private final String code;
     private final int httpStatus;
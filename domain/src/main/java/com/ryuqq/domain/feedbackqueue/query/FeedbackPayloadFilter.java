@@ -0,0 +1,53 @@
+package com.ryuqq.domain.feedbackqueue.query;
+
+/**
+ * FeedbackPayloadFilter - 피드백 페이로드 참조 ID 필터
+ *
+ * <p>페이로드(JSON) 안의 참조 ID로 피드백을 필터링합니다. 각 ID는 DB의 생성 컬럼(generated column)에 대응하므로 페이로드를 애플리케이션에서 파싱하지
+ * 않고 인덱스로 조회됩니다.
+ *
+ * <ul>
+ *   <li>conventionId: {@code $.conventionId}
+ *   <li>codingRuleId: {@code $.codingRuleId}, 없으면 {@code $.ruleId} (RuleExample, ChecklistItem)
+ *   <li>structureId: {@code $.structureId}
+ * </ul>
+ *
+ * @param conventionId 컨벤션 ID (nullable)
+ * @param codingRuleId 코딩 규칙 ID (nullable)
+ * @param structureId 패키지 구조 ID (nullable)
+ * @author ryu-qqq
+ */
+public record FeedbackPayloadFilter(Long conventionId, Long codingRuleId, Long structureId) {
+
+    private static final FeedbackPayloadFilter NONE = new FeedbackPayloadFilter(null, null, null);
+
+    /**
+     * 필터 없음
+     *
+     * @return 빈 FeedbackPayloadFilter
+     */
+    public static FeedbackPayloadFilter none() {
+        return NONE;
+    }
+
+    /**
+     * 필터 생성
+     *
+     * @param conventionId 컨벤션 ID (nullable)
+     * @param codingRuleId 코딩 규칙 ID (nullable)
+     * @param structureId 패키지 구조 ID (nullable)
+     * @return FeedbackPayloadFilter
+     */
+    public static FeedbackPayloadFilter of(Long conventionId, Long codingRuleId, Long structureId) {
+        return new FeedbackPayloadFilter(conventionId, codingRuleId, structureId);
+    }
+
+    /**
+     * 필터 조건 존재 여부
+     *
+     * @return 하나 이상의 ID가 지정되었으면 true
+     */
+    public boolean hasAny() {
+        return conventionId != null || codingRuleId != null || structureId != null;
+    }
+}
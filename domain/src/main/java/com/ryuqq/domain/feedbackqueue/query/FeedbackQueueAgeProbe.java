@@ -0,0 +1,63 @@
+package com.ryuqq.domain.feedbackqueue.query;
+
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
+
+/**
+ * FeedbackQueueAgeProbe - 상태별 대기 시간 백분위 조회 조건
+ *
+ * <p>상태별 건수(count)를 알고 있으면, (status, updated_at) 인덱스를 updated_at 오름차순(가장 오래된 순)으로 offset 만큼 건너뛴 한
+ * 건의 updated_at 으로 백분위 대기 시간을 구할 수 있습니다. 테이블 전체를 정렬/스캔하지 않습니다.
+ *
+ * <p>p 백분위 = 전체의 p 비율이 그 값보다 짧게(또는 같게) 대기 중인 대기 시간이므로, 가장 오래된 순 offset = count - ceil(p * count)
+ * 입니다. p = 1.0 은 최대 대기 시간(offset 0)입니다.
+ *
+ * @param status 처리 상태
+ * @param count 상태별 건수
+ * @param percentile 백분위 (0 초과 1 이하)
+ * @param offset updated_at 오름차순 offset
+ * @author ryu-qqq
+ */
+public record FeedbackQueueAgeProbe(
+        FeedbackStatus status, long count, double percentile, long offset) {
+
+    /** 최대 대기 시간에 해당하는 백분위 */
+    public static final double MAX_PERCENTILE = 1.0;
+
+    private static final double EPSILON = 1e-9;
+
+    public FeedbackQueueAgeProbe {
+        if (status == null) {
+            throw new IllegalArgumentException("status must not be null");
+        }
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        if (percentile <= 0.0 || percentile > 1.0) {
+            throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+        }
+    }
+
+    /**
+     * 백분위 조회 조건 생성
+     *
+     * @param status 처리 상태
+     * @param count 상태별 건수 (양수)
+     * @param percentile 백분위 (0 초과 1 이하)
+     * @return FeedbackQueueAgeProbe
+     */
+    public static FeedbackQueueAgeProbe of(FeedbackStatus status, long count, double percentile) {
+        // 0.9 * 10 = 9.000000000000002 와 같은 부동소수 오차로 한 칸 밀리지 않도록 보정
+        long youngerOrEqual = Math.max(1L, (long) Math.ceil(percentile * count - EPSILON));
+        long offset = Math.min(count - 1, count - youngerOrEqual);
+        return new FeedbackQueueAgeProbe(status, count, percentile, offset);
+    }
+
+    /**
+     * 최대 대기 시간 조회 조건 여부
+     *
+     * @return p = 1.0 이면 true
+     */
+    public boolean isMax() {
+        return percentile == MAX_PERCENTILE;
+    }
+}
@@ -25,6 +25,7 @@ import java.util.List;
  * @param feedbackTypes 필터링할 피드백 타입 목록 (optional)
  * @param riskLevels 필터링할 리스크 레벨 목록 (optional)
  * @param actions 필터링할 처리 액션 목록 (optional)
+ * @param payloadFilter 페이로드 참조 ID 필터 (null이면 필터 없음)
  * @param cursorPageRequest 커서 기반 페이징 요청
  * @author ryu-qqq
  * @since 1.0.0
@@ -35,12 +36,16 @@ public record FeedbackQueueSliceCriteria(
         List<FeedbackType> feedbackTypes,
         List<RiskLevel> riskLevels,
         List<FeedbackAction> actions,
+        FeedbackPayloadFilter payloadFilter,
         CursorPageRequest<Long> cursorPageRequest) {
 
     public FeedbackQueueSliceCriteria {
         if (cursorPageRequest == null) {
             throw new IllegalArgumentException("cursorPageRequest must not be null");
         }
+        if (payloadFilter == null) {
+            payloadFilter = FeedbackPayloadFilter.none();
+        }
     }
 
     /**
@@ -51,7 +56,7 @@ public record FeedbackQueueSliceCriteria(
      */
     public static FeedbackQueueSliceCriteria first(int size) {
         return new FeedbackQueueSliceCriteria(
-                null, null, null, null, null, CursorPageRequest.first(size));
+                null, null, null, null, null, null, CursorPageRequest.first(size));
     }
 
     /**
@@ -63,7 +68,7 @@ public record FeedbackQueueSliceCriteria(
      */
     public static FeedbackQueueSliceCriteria byStatus(FeedbackStatus status, int size) {
         return new FeedbackQueueSliceCriteria(
-                null, List.of(status), null, null, null, CursorPageRequest.first(size));
+                null, List.of(status), null, null, null, null, CursorPageRequest.first(size));
     }
 
     /**
@@ -75,7 +80,7 @@ public record FeedbackQueueSliceCriteria(
      */
     public static FeedbackQueueSliceCriteria byTargetType(FeedbackTargetType targetType, int size) {
         return new FeedbackQueueSliceCriteria(
-                List.of(targetType), null, null, null, null, CursorPageRequest.first(size));
+                List.of(targetType), null, null, null, null, null, CursorPageRequest.first(size));
     }
 
     /**
@@ -87,7 +92,13 @@ public record FeedbackQueueSliceCriteria(
      */
     public static FeedbackQueueSliceCriteria afterId(Long cursorId, int size) {
         return new FeedbackQueueSliceCriteria(
-                null, null, null, null, null, CursorPageRequest.afterId(cursorId, size));
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                CursorPageRequest.afterId(cursorId, size));
     }
 
     /**
@@ -105,8 +116,44 @@ public record FeedbackQueueSliceCriteria(
             List<RiskLevel> riskLevels,
             List<FeedbackAction> actions,
             CursorPageRequest<Long> cursorPageRequest) {
+        return of(
+                targetTypes,
+                statuses,
+                feedbackTypes,
+                riskLevels,
+                actions,
+                FeedbackPayloadFilter.none(),
+                cursorPageRequest);
+    }
+
+    /**
+     * 전체 조건 + 페이로드 참조 ID 필터로 슬라이스 조건 생성
+     *
+     * @param targetTypes 대상 타입 목록 (nullable)
+     * @param statuses 상태 목록 (nullable)
+     * @param feedbackTypes 피드백 타입 목록 (nullable)
+     * @param riskLevels 리스크 레벨 목록 (nullable)
+     * @param actions 처리 액션 목록 (nullable)
+     * @param payloadFilter 페이로드 참조 ID 필터 (nullable)
+     * @param cursorPageRequest 커서 기반 페이징 요청
+     * @return FeedbackQueueSliceCriteria
+     */
+    public static FeedbackQueueSliceCriteria of(
+            List<FeedbackTargetType> targetTypes,
+            List<FeedbackStatus> statuses,
+            List<FeedbackType> feedbackTypes,
+            List<RiskLevel> riskLevels,
+            List<FeedbackAction> actions,
+            FeedbackPayloadFilter payloadFilter,
+            CursorPageRequest<Long> cursorPageRequest) {
         return new FeedbackQueueSliceCriteria(
-                targetTypes, statuses, feedbackTypes, riskLevels, actions, cursorPageRequest);
+                targetTypes,
+                statuses,
+                feedbackTypes,
+                riskLevels,
+                actions,
+                payloadFilter,
+                cursorPageRequest);
     }
 
     /**
@@ -139,6 +186,10 @@ public record FeedbackQueueSliceCriteria(
         return actions != null && !actions.isEmpty();
     }
 
+    public boolean hasPayloadFilter() {
+        return payloadFilter.hasAny();
+    }
+
     /**
      * 첫 페이지 요청인지 확인
      *
@@ -0,0 +1,43 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+import com.ryuqq.domain.common.vo.LockKey;
+import java.util.Locale;
+
+/**
+ * FeedbackMergeLockKey - 피드백 머지 대상 엔티티 락 키
+ *
+ * <p>동일 대상 엔티티(targetType, targetId)에 대한 머지를 노드 간에 직렬화하기 위한 락 키입니다.
+ *
+ * <p>ADD 피드백은 targetId가 없으므로 타겟 타입 단위({@code new})로 직렬화합니다.
+ *
+ * <p>형식: {@code lock:feedback:{targetType}:{targetId|new}}
+ *
+ * @param targetType 대상 타입
+ * @param targetId 대상 ID (ADD인 경우 null)
+ * @author ryu-qqq
+ */
+public record FeedbackMergeLockKey(FeedbackTargetType targetType, Long targetId)
+        implements LockKey {
+
+    private static final String PREFIX = "lock:feedback:";
+    private static final String NEW_TARGET = "new";
+
+    public FeedbackMergeLockKey {
+        if (targetType == null) {
+            throw new IllegalArgumentException("targetType must not be null");
+        }
+        if (targetId != null && targetId <= 0) {
+            throw new IllegalArgumentException("targetId must be positive");
+        }
+    }
+
+    public static FeedbackMergeLockKey of(FeedbackTargetType targetType, Long targetId) {
+        return new FeedbackMergeLockKey(targetType, targetId);
+    }
+
+    @Override
+    public String value() {
+        String target = targetId == null ? NEW_TARGET : String.valueOf(targetId);
+        return PREFIX + targetType.name().toLowerCase(Locale.ROOT) + ":" + target;
+    }
+}
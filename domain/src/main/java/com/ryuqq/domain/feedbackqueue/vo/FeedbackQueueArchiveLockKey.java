@@ -0,0 +1,27 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+import com.ryuqq.domain.common.vo.LockKey;
+
+/**
+ * FeedbackQueueArchiveLockKey - 피드백 보관 작업 락 키
+ *
+ * <p>보관 스케줄러는 모든 노드에서 같은 시각에 실행됩니다. 같은 배치를 여러 노드가 동시에 이동하거나 파티션 DDL이 겹치지 않도록 클러스터 전체에서 한 노드만 실행하도록
+ * 직렬화합니다.
+ *
+ * <p>형식: {@code lock:feedback-queue:archive}
+ *
+ * @author ryu-qqq
+ */
+public record FeedbackQueueArchiveLockKey() implements LockKey {
+
+    private static final String KEY = "lock:feedback-queue:archive";
+
+    public static FeedbackQueueArchiveLockKey of() {
+        return new FeedbackQueueArchiveLockKey();
+    }
+
+    @Override
+    public String value() {
+        return KEY;
+    }
+}
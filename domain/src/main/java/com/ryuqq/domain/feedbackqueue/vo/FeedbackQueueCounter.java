@@ -0,0 +1,33 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+/**
+ * FeedbackQueueCounter - 피드백 큐 통계 카운터 Value Object
+ *
+ * @param key 카운터 키
+ * @param count 건수
+ * @author ryu-qqq
+ */
+public record FeedbackQueueCounter(FeedbackQueueCounterKey key, long count) {
+
+    public FeedbackQueueCounter {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+    }
+
+    public static FeedbackQueueCounter of(FeedbackQueueCounterKey key, long count) {
+        return new FeedbackQueueCounter(key, count);
+    }
+
+    public FeedbackStatus status() {
+        return key.status();
+    }
+
+    public RiskLevel riskLevel() {
+        return key.riskLevel();
+    }
+
+    public FeedbackTargetType targetType() {
+        return key.targetType();
+    }
+}
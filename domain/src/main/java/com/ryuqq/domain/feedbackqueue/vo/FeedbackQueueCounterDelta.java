@@ -0,0 +1,52 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * FeedbackQueueCounterDelta - 피드백 큐 통계 카운터 증감 Value Object
+ *
+ * @param key 카운터 키
+ * @param delta 증감량 (음수 가능)
+ * @author ryu-qqq
+ */
+public record FeedbackQueueCounterDelta(FeedbackQueueCounterKey key, long delta) {
+
+    public FeedbackQueueCounterDelta {
+        if (key == null) {
+            throw new IllegalArgumentException("key must not be null");
+        }
+    }
+
+    public static FeedbackQueueCounterDelta increment(FeedbackQueueCounterKey key) {
+        return new FeedbackQueueCounterDelta(key, 1L);
+    }
+
+    public static FeedbackQueueCounterDelta decrement(FeedbackQueueCounterKey key) {
+        return new FeedbackQueueCounterDelta(key, -1L);
+    }
+
+    /**
+     * 같은 키의 증감을 합산
+     *
+     * <p>합이 0인 키는 제외하며, 결과는 {@link FeedbackQueueCounterKey#ORDER} 순서로 정렬됩니다. 배치 머지처럼 여러 건이 같은 전이를
+     * 거치는 경우 증감 기록이 키 개수만큼으로 줄어듭니다.
+     *
+     * @param deltas 증감 목록
+     * @return 합산된 증감 목록
+     */
+    public static List<FeedbackQueueCounterDelta> combine(
+            Collection<FeedbackQueueCounterDelta> deltas) {
+        Map<FeedbackQueueCounterKey, Long> sums =
+                new TreeMap<>(FeedbackQueueCounterKey.ORDER);
+        for (FeedbackQueueCounterDelta each : deltas) {
+            sums.merge(each.key(), each.delta(), Long::sum);
+        }
+        return sums.entrySet().stream()
+                .filter(entry -> entry.getValue() != 0L)
+                .map(entry -> new FeedbackQueueCounterDelta(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
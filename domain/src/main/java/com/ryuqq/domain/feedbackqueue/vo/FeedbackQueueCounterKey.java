@@ -0,0 +1,35 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+import java.util.Comparator;
+
+/**
+ * FeedbackQueueCounterKey - 피드백 큐 통계 카운터 키 Value Object
+ *
+ * <p>상태/리스크/대상 타입 조합 하나가 카운터 하나에 대응합니다.
+ *
+ * @param status 처리 상태
+ * @param riskLevel 리스크 수준
+ * @param targetType 피드백 대상 타입
+ * @author ryu-qqq
+ */
+public record FeedbackQueueCounterKey(
+        FeedbackStatus status, RiskLevel riskLevel, FeedbackTargetType targetType) {
+
+    /** 키 정렬 순서 (enum 선언 순서) */
+    public static final Comparator<FeedbackQueueCounterKey> ORDER =
+            Comparator.comparing(FeedbackQueueCounterKey::status)
+                    .thenComparing(FeedbackQueueCounterKey::riskLevel)
+                    .thenComparing(FeedbackQueueCounterKey::targetType);
+
+    public FeedbackQueueCounterKey {
+        if (status == null || riskLevel == null || targetType == null) {
+            throw new IllegalArgumentException(
+                    "status, riskLevel and targetType must not be null");
+        }
+    }
+
+    public static FeedbackQueueCounterKey of(
+            FeedbackStatus status, RiskLevel riskLevel, FeedbackTargetType targetType) {
+        return new FeedbackQueueCounterKey(status, riskLevel, targetType);
+    }
+}
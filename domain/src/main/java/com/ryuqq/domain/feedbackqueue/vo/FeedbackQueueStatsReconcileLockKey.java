@@ -0,0 +1,27 @@
+package com.ryuqq.domain.feedbackqueue.vo;
+
+import com.ryuqq.domain.common.vo.LockKey;
+
+/**
+ * FeedbackQueueStatsReconcileLockKey - 피드백 큐 통계 보정 락 키
+ *
+ * <p>보정은 증감 기록을 지우고 실제 건수 기준값을 새로 기록합니다. 두 노드가 동시에 보정하면 같은 증감 기록을 지운 뒤 기준값을 두 번 기록해 카운터가 두 배가 되므로,
+ * 클러스터 전체에서 한 노드만 실행하도록 직렬화합니다.
+ *
+ * <p>형식: {@code lock:feedback-queue:stats-reconcile}
+ *
+ * @author ryu-qqq
+ */
+public record FeedbackQueueStatsReconcileLockKey() implements LockKey {
+
+    private static final String KEY = "lock:feedback-queue:stats-reconcile";
+
+    public static FeedbackQueueStatsReconcileLockKey of() {
+        return new FeedbackQueueStatsReconcileLockKey();
+    }
+
+    @Override
+    public String value() {
+        return KEY;
+    }
+}
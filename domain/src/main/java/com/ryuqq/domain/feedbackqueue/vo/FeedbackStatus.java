@@ -1,5 +1,8 @@
 package com.ryuqq.domain.feedbackqueue.vo;
 
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * FeedbackStatus - 피드백 상태 Value Object
  *
@@ -47,6 +50,17 @@ public enum FeedbackStatus {
         return terminal;
     }
 
+    /**
+     * 종료 상태 목록 반환
+     *
+     * <p>보관(archive) 대상 선정 등 종료 상태 전체를 조건으로 사용할 때 활용합니다.
+     *
+     * @return 종료 상태 목록 (LLM_REJECTED, HUMAN_REJECTED, MERGED)
+     */
+    public static List<FeedbackStatus> terminalStatuses() {
+        return Arrays.stream(values()).filter(FeedbackStatus::isTerminal).toList();
+    }
+
     /**
      * LLM 승인이 가능한 상태인지 확인
      *
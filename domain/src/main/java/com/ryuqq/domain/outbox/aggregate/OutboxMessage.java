@@ -0,0 +1,280 @@
+package com.ryuqq.domain.outbox.aggregate;
+
+import com.ryuqq.domain.outbox.id.OutboxMessageId;
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * OutboxMessage - 트랜잭션 아웃박스 메시지 Aggregate Root
+ *
+ * <p>도메인 이벤트를 발생시킨 Aggregate와 같은 트랜잭션에서 기록되어, 커밋된 변경에 대한 이벤트가 프로세스 장애로 유실되지 않도록 합니다. 릴레이가 ID 오름차순으로
+ * 읽어 전달하며, 전달에 성공한 메시지는 삭제됩니다 (at-least-once).
+ *
+ * <p><strong>재시도 규칙:</strong>
+ *
+ * <ul>
+ *   <li>전달 실패 시 attempts 증가, 지수 백오프(1s, 2s, 4s ... 최대 5분) 후 재시도
+ *   <li>{@value #MAX_ATTEMPTS}회 실패 시 DEAD - 자동 전달 중단
+ *   <li>같은 aggregateKey의 뒤 메시지는 앞 메시지가 전달되거나 DEAD가 될 때까지 전달되지 않음
+ * </ul>
+ *
+ * @author ryu-qqq
+ */
+public class OutboxMessage {
+
+    public static final int MAX_ATTEMPTS = 10;
+    public static final int MAX_ERROR_LENGTH = 500;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private OutboxMessageId id;
+    private final String aggregateKey;
+    private final String eventType;
+    private final String eventClass;
+    private final String payload;
+    private OutboxStatus status;
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+    private final Instant occurredAt;
+
+    // Audit
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    /** 프레임워크 호환용 기본 생성자 */
+    protected OutboxMessage() {
+        this.aggregateKey = null;
+        this.eventType = null;
+        this.eventClass = null;
+        this.payload = null;
+        this.occurredAt = null;
+        this.createdAt = null;
+    }
+
+    private OutboxMessage(
+            OutboxMessageId id,
+            String aggregateKey,
+            String eventType,
+            String eventClass,
+            String payload,
+            OutboxStatus status,
+            int attempts,
+            Instant nextAttemptAt,
+            String lastError,
+            Instant occurredAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        this.id = id;
+        this.aggregateKey = aggregateKey;
+        this.eventType = eventType;
+        this.eventClass = eventClass;
+        this.payload = payload;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+        this.occurredAt = occurredAt;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    /**
+     * 신규 생성용 팩토리 메서드
+     *
+     * @param aggregateKey 순서 보장 단위 키 (예: feedback-queue:42)
+     * @param eventType 이벤트 타입 (로깅/메트릭용)
+     * @param eventClass 이벤트 클래스 이름 (역직렬화용)
+     * @param payload 직렬화된 이벤트 (JSON)
+     * @param occurredAt 이벤트 발생 시각
+     * @param now 현재 시각
+     * @return 새로운 OutboxMessage 인스턴스
+     */
+    public static OutboxMessage forNew(
+            String aggregateKey,
+            String eventType,
+            String eventClass,
+            String payload,
+            Instant occurredAt,
+            Instant now) {
+        requireText(aggregateKey, "aggregateKey");
+        requireText(eventType, "eventType");
+        requireText(eventClass, "eventClass");
+        requireText(payload, "payload");
+        return new OutboxMessage(
+                OutboxMessageId.forNew(),
+                aggregateKey,
+                eventType,
+                eventClass,
+                payload,
+                OutboxStatus.PENDING,
+                0,
+                now,
+                null,
+                occurredAt,
+                now,
+                now);
+    }
+
+    /**
+     * 영속성에서 복원용 팩토리 메서드
+     *
+     * @param id 아웃박스 메시지 ID
+     * @param aggregateKey 순서 보장 단위 키
+     * @param eventType 이벤트 타입
+     * @param eventClass 이벤트 클래스 이름
+     * @param payload 직렬화된 이벤트 (JSON)
+     * @param status 현재 상태
+     * @param attempts 전달 시도 횟수
+     * @param nextAttemptAt 다음 전달 시도 시각
+     * @param lastError 마지막 실패 사유
+     * @param occurredAt 이벤트 발생 시각
+     * @param createdAt 생성 시각
+     * @param updatedAt 수정 시각
+     * @return 복원된 OutboxMessage 인스턴스
+     */
+    public static OutboxMessage reconstitute(
+            OutboxMessageId id,
+            String aggregateKey,
+            String eventType,
+            String eventClass,
+            String payload,
+            OutboxStatus status,
+            int attempts,
+            Instant nextAttemptAt,
+            String lastError,
+            Instant occurredAt,
+            Instant createdAt,
+            Instant updatedAt) {
+        return new OutboxMessage(
+                id,
+                aggregateKey,
+                eventType,
+                eventClass,
+                payload,
+                status,
+                attempts,
+                nextAttemptAt,
+                lastError,
+                occurredAt,
+                createdAt,
+                updatedAt);
+    }
+
+    private static void requireText(String value, String name) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(name + " must not be blank");
+        }
+    }
+
+    // === 비즈니스 메서드 ===
+
+    /**
+     * 전달 실패 기록
+     *
+     * <p>재시도 횟수를 늘리고 다음 시도 시각을 백오프만큼 미룹니다. 최대 횟수에 도달하면 DEAD로 전환합니다.
+     *
+     * @param error 실패 사유
+     * @param now 현재 시각
+     */
+    public void recordFailure(String error, Instant now) {
+        if (status == OutboxStatus.DEAD) {
+            throw new IllegalStateException("Outbox message is already dead: " + idValue());
+        }
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.updatedAt = now;
+        if (attempts >= MAX_ATTEMPTS) {
+            this.status = OutboxStatus.DEAD;
+            return;
+        }
+        this.nextAttemptAt = now.plus(backoff(attempts));
+    }
+
+    static Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 20);
+        Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << exponent);
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    // === 쿼리 메서드 ===
+
+    /**
+     * 전달 가능 여부 (PENDING + 재시도 시각 도래)
+     *
+     * @param now 현재 시각
+     * @return 지금 전달할 수 있으면 true
+     */
+    public boolean isDue(Instant now) {
+        return status == OutboxStatus.PENDING && !nextAttemptAt.isAfter(now);
+    }
+
+    public boolean isDead() {
+        return status == OutboxStatus.DEAD;
+    }
+
+    public boolean isNew() {
+        return id.isNew();
+    }
+
+    public OutboxMessageId id() {
+        return id;
+    }
+
+    public Long idValue() {
+        return id.value();
+    }
+
+    public String aggregateKey() {
+        return aggregateKey;
+    }
+
+    public String eventType() {
+        return eventType;
+    }
+
+    public String eventClass() {
+        return eventClass;
+    }
+
+    public String payload() {
+        return payload;
+    }
+
+    public OutboxStatus status() {
+        return status;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    public Instant nextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String lastError() {
+        return lastError;
+    }
+
+    public Instant occurredAt() {
+        return occurredAt;
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public Instant updatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.ryuqq.domain.outbox.id;
+
+/**
+ * OutboxMessageId - 아웃박스 메시지 식별자 Value Object
+ *
+ * <p>Long 타입 ID로 forNew()/isNew() 패턴 적용. ID 오름차순이 릴레이 전달 순서입니다.
+ *
+ * @author ryu-qqq
+ */
+public record OutboxMessageId(Long value) {
+
+    /** 신규 엔티티용 ID 생성 (null 값) */
+    public static OutboxMessageId forNew() {
+        return new OutboxMessageId(null);
+    }
+
+    /** 기존 엔티티용 ID 생성 */
+    public static OutboxMessageId of(Long value) {
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "OutboxMessageId value must not be null for existing entity");
+        }
+        return new OutboxMessageId(value);
+    }
+
+    /** 신규 엔티티 여부 확인 */
+    public boolean isNew() {
+        return value == null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.ryuqq.domain.outbox.vo;
+
+import com.ryuqq.domain.common.vo.LockKey;
+
+/**
+ * OutboxRelayLockKey - 아웃박스 릴레이 락 키
+ *
+ * <p>릴레이는 ID 순서대로 전달해야 집계(aggregate)별 순서가 보장되므로, 노드 간에 하나의 릴레이만 동작하도록 직렬화합니다.
+ *
+ * <p>형식: {@code lock:outbox:relay}
+ *
+ * @author ryu-qqq
+ */
+public record OutboxRelayLockKey() implements LockKey {
+
+    private static final String KEY = "lock:outbox:relay";
+
+    public static OutboxRelayLockKey of() {
+        return new OutboxRelayLockKey();
+    }
+
+    @Override
+    public String value() {
+        return KEY;
+    }
+}
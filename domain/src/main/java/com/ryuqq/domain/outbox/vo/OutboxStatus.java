@@ -0,0 +1,17 @@
+package com.ryuqq.domain.outbox.vo;
+
+/**
+ * OutboxStatus - 아웃박스 메시지 상태
+ *
+ * <p>전달에 성공한 메시지는 행이 삭제되므로 PUBLISHED 상태는 없습니다.
+ *
+ * @author ryu-qqq
+ */
+public enum OutboxStatus {
+
+    /** 전달 대기 (재시도 대기 포함) */
+    PENDING,
+
+    /** 최대 재시도 초과 - 자동 전달 중단, 수동 확인 필요 */
+    DEAD
+}
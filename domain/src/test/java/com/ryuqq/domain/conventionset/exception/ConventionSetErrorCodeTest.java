@@ -0,0 +1,58 @@
+package com.ryuqq.domain.conventionset.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * ConventionSetErrorCode / 예외 단위 테스트
+ *
+ * @author development-team
+ * @since 1.0.0
+ */
+@Tag("unit")
+@Tag("domain")
+@Tag("exception")
+@DisplayName("ConventionSetErrorCode 단위 테스트")
+class ConventionSetErrorCodeTest {
+
+    @ParameterizedTest
+    @EnumSource(ConventionSetErrorCode.class)
+    @DisplayName("에러 코드는 CONVENTION_SET-{3자리 숫자} 형식이고 메시지가 있어야 한다")
+    void errorCode_ShouldFollowNamingConvention(ConventionSetErrorCode errorCode) {
+        assertThat(errorCode.getCode()).matches("^CONVENTION_SET-\\d{3}$");
+        assertThat(errorCode.getMessage()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("문서 오류 400, 부모 없음 404, 행 충돌 409")
+    void httpStatus_ShouldMatchCause() {
+        assertThat(ConventionSetErrorCode.CONVENTION_SET_INVALID_DOCUMENT.getHttpStatus())
+                .isEqualTo(400);
+        assertThat(ConventionSetErrorCode.CONVENTION_SET_PARENT_NOT_FOUND.getHttpStatus())
+                .isEqualTo(404);
+        assertThat(ConventionSetErrorCode.CONVENTION_SET_ROW_CONFLICT.getHttpStatus())
+                .isEqualTo(409);
+    }
+
+    @Test
+    @DisplayName("예외는 원인 값을 args로 전달")
+    void exceptions_ShouldCarryArgs() {
+        // when
+        ConventionSetParentNotFoundException notFound =
+                new ConventionSetParentNotFoundException("architecture", List.of(3L, 4L));
+        ConventionSetRowConflictException conflict =
+                new ConventionSetRowConflictException("layer", "[1, domain]");
+
+        // then
+        assertThat(notFound.code()).isEqualTo("CONVENTION_SET-002");
+        assertThat(notFound.args()).containsEntry("table", "architecture");
+        assertThat(notFound.args()).containsEntry("ids", List.of(3L, 4L));
+        assertThat(conflict.args()).containsEntry("key", "[1, domain]");
+    }
+}
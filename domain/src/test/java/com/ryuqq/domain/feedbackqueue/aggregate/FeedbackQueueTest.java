@@ -7,12 +7,15 @@ import com.ryuqq.domain.feedbackqueue.exception.InvalidFeedbackStatusTransitionE
 import com.ryuqq.domain.feedbackqueue.fixture.FeedbackQueueFixture;
 import com.ryuqq.domain.feedbackqueue.id.FeedbackQueueId;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackPayload;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterDelta;
+import com.ryuqq.domain.feedbackqueue.vo.FeedbackQueueCounterKey;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackStatus;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackTargetType;
 import com.ryuqq.domain.feedbackqueue.vo.FeedbackType;
 import com.ryuqq.domain.feedbackqueue.vo.ReviewNotes;
 import com.ryuqq.domain.feedbackqueue.vo.RiskLevel;
 import java.time.Instant;
+import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -45,6 +48,29 @@ class FeedbackQueueTest {
             assertThat(feedback.riskLevel()).isEqualTo(RiskLevel.SAFE);
         }
 
+        @Test
+        @DisplayName("ID를 사전 할당해도 영속화 전까지는 신규 엔티티")
+        void forNew_WithPreAssignedId_ShouldRemainNewUntilPersisted() {
+            // given
+            FeedbackQueue feedback =
+                    FeedbackQueue.forNew(
+                            FeedbackTargetType.RULE_EXAMPLE,
+                            null,
+                            FeedbackType.ADD,
+                            FeedbackPayload.of("{\"code\": \"test\"}"),
+                            NOW);
+
+            // when
+            feedback.assignId(FeedbackQueueId.of(1_000L));
+
+            // then
+            assertThat(feedback.isNew()).isTrue();
+            assertThat(feedback.idValue()).isEqualTo(1_000L);
+
+            feedback.markStatusPersisted();
+            assertThat(feedback.isNew()).isFalse();
+        }
+
         @Test
         @DisplayName("MODIFY 타입은 targetId가 필수")
         void forNew_ModifyType_WithoutTargetId_ShouldThrow() {
@@ -272,6 +298,65 @@ class FeedbackQueueTest {
             // then
             assertThat(feedback.requiresHumanReview()).isTrue();
         }
+
+        @Test
+        @DisplayName("enteredHumanReview - MEDIUM LLM 승인 직후 true")
+        void enteredHumanReview_AfterMediumLlmApprove_ShouldReturnTrue() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.llmApprovedMediumFeedback();
+
+            // then
+            assertThat(feedback.enteredHumanReview()).isTrue();
+        }
+
+        @Test
+        @DisplayName("enteredHumanReview - 영속화 이후에는 false")
+        void enteredHumanReview_AfterPersisted_ShouldReturnFalse() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.llmApprovedMediumFeedback();
+
+            // when
+            feedback.markStatusPersisted();
+
+            // then
+            assertThat(feedback.enteredHumanReview()).isFalse();
+        }
+
+        @Test
+        @DisplayName("enteredHumanReview - SAFE LLM 승인은 false")
+        void enteredHumanReview_SafeLlmApprove_ShouldReturnFalse() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.llmApprovedSafeFeedback();
+
+            // then
+            assertThat(feedback.enteredHumanReview()).isFalse();
+        }
+
+        @Test
+        @DisplayName("leftHumanReview - 영속화된 리뷰 대기 피드백을 Human 승인하면 true")
+        void leftHumanReview_AfterHumanApproveOfPersisted_ShouldReturnTrue() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.llmApprovedMediumFeedback();
+            feedback.markStatusPersisted();
+
+            // when
+            feedback.humanApprove(
+                    ReviewNotes.of("ok"), FeedbackQueueFixture.defaultNow().plusSeconds(120));
+
+            // then
+            assertThat(feedback.leftHumanReview()).isTrue();
+            assertThat(feedback.enteredHumanReview()).isFalse();
+        }
+
+        @Test
+        @DisplayName("leftHumanReview - 리뷰 대기에 진입한 직후는 false")
+        void leftHumanReview_AfterEnteringHumanReview_ShouldReturnFalse() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.llmApprovedMediumFeedback();
+
+            // then
+            assertThat(feedback.leftHumanReview()).isFalse();
+        }
     }
 
     @Nested
@@ -304,4 +389,131 @@ class FeedbackQueueTest {
             assertThat(feedback.isNew()).isFalse();
         }
     }
+
+    @Nested
+    @DisplayName("통계 카운터 증감")
+    class StatusCounterDeltasTest {
+
+        @Test
+        @DisplayName("신규 생성이면 PENDING +1")
+        void statusCounterDeltas_New_ShouldIncrementPending() {
+            // given
+            FeedbackQueue feedback =
+                    FeedbackQueue.forNew(
+                            FeedbackTargetType.RULE_EXAMPLE,
+                            null,
+                            FeedbackType.ADD,
+                            FeedbackPayload.of("{\"code\": \"test\"}"),
+                            NOW);
+
+            // then
+            assertThat(feedback.statusCounterDeltas())
+                    .containsExactly(
+                            FeedbackQueueCounterDelta.increment(
+                                    FeedbackQueueCounterKey.of(
+                                            FeedbackStatus.PENDING,
+                                            RiskLevel.SAFE,
+                                            FeedbackTargetType.RULE_EXAMPLE)));
+        }
+
+        @Test
+        @DisplayName("상태 변화가 없으면 빈 목록")
+        void statusCounterDeltas_Unchanged_ShouldBeEmpty() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.reconstitutedFeedback(
+                            10L,
+                            FeedbackTargetType.CODING_RULE,
+                            100L,
+                            FeedbackType.MODIFY,
+                            FeedbackStatus.PENDING,
+                            RiskLevel.SAFE);
+
+            // then
+            assertThat(feedback.statusCounterDeltas()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("상태 전이 시 이전 상태 -1, 현재 상태 +1")
+        void statusCounterDeltas_Transition_ShouldMoveCount() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.reconstitutedFeedback(
+                            10L,
+                            FeedbackTargetType.CODING_RULE,
+                            100L,
+                            FeedbackType.MODIFY,
+                            FeedbackStatus.PENDING,
+                            RiskLevel.SAFE);
+            FeedbackQueueCounterKey pendingKey =
+                    FeedbackQueueCounterKey.of(
+                            FeedbackStatus.PENDING, feedback.riskLevel(), feedback.targetType());
+            FeedbackQueueCounterKey approvedKey =
+                    FeedbackQueueCounterKey.of(
+                            FeedbackStatus.LLM_APPROVED,
+                            feedback.riskLevel(),
+                            feedback.targetType());
+
+            // when
+            feedback.llmApprove(ReviewNotes.empty(), NOW);
+
+            // then
+            assertThat(feedback.statusCounterDeltas())
+                    .containsExactly(
+                            FeedbackQueueCounterDelta.decrement(pendingKey),
+                            FeedbackQueueCounterDelta.increment(approvedKey));
+        }
+
+        @Test
+        @DisplayName("markStatusPersisted 이후에는 증감이 중복되지 않음")
+        void statusCounterDeltas_AfterMarkPersisted_ShouldBeEmpty() {
+            // given
+            FeedbackQueue feedback = FeedbackQueueFixture.reconstitutedFeedback(
+                            10L,
+                            FeedbackTargetType.CODING_RULE,
+                            100L,
+                            FeedbackType.MODIFY,
+                            FeedbackStatus.PENDING,
+                            RiskLevel.SAFE);
+            feedback.llmApprove(ReviewNotes.empty(), NOW);
+
+            // when
+            feedback.markStatusPersisted();
+
+            // then
+            assertThat(feedback.statusCounterDeltas()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("같은 키의 증감은 합산되고 0은 제외됨")
+        void combine_ShouldSumByKeyAndDropZero() {
+            // given
+            FeedbackQueueCounterKey approved =
+                    FeedbackQueueCounterKey.of(
+                            FeedbackStatus.LLM_APPROVED,
+                            RiskLevel.SAFE,
+                            FeedbackTargetType.CODING_RULE);
+            FeedbackQueueCounterKey merged =
+                    FeedbackQueueCounterKey.of(
+                            FeedbackStatus.MERGED, RiskLevel.SAFE, FeedbackTargetType.CODING_RULE);
+            FeedbackQueueCounterKey pending =
+                    FeedbackQueueCounterKey.of(
+                            FeedbackStatus.PENDING, RiskLevel.SAFE, FeedbackTargetType.CODING_RULE);
+
+            // when
+            List<FeedbackQueueCounterDelta> combined =
+                    FeedbackQueueCounterDelta.combine(
+                            List.of(
+                                    FeedbackQueueCounterDelta.decrement(approved),
+                                    FeedbackQueueCounterDelta.increment(merged),
+                                    FeedbackQueueCounterDelta.decrement(approved),
+                                    FeedbackQueueCounterDelta.increment(merged),
+                                    FeedbackQueueCounterDelta.increment(pending),
+                                    FeedbackQueueCounterDelta.decrement(pending)));
+
+            // then
+            assertThat(combined)
+                    .containsExactly(
+                            new FeedbackQueueCounterDelta(approved, -2L),
+                            new FeedbackQueueCounterDelta(merged, 2L));
+        }
+    }
 }
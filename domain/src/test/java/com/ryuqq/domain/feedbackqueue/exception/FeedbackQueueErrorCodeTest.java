@@ -31,4 +31,16 @@ class FeedbackQueueErrorCodeTest {
         assertThat(errorCode.getHttpStatus()).isEqualTo(400);
         assertThat(errorCode.getMessage()).isEqualTo("Invalid feedback status transition");
     }
+
+    @Test
+    @DisplayName("MERGE_LOCK_TIMEOUT 에러 코드 확인")
+    void mergeLockTimeout_ShouldHaveCorrectValues() {
+        // given
+        FeedbackQueueErrorCode errorCode = FeedbackQueueErrorCode.MERGE_LOCK_TIMEOUT;
+
+        // then
+        assertThat(errorCode.getCode()).isEqualTo("FEEDBACK_QUEUE-005");
+        assertThat(errorCode.getHttpStatus()).isEqualTo(409);
+        assertThat(errorCode.getMessage()).isEqualTo("Feedback merge target is locked");
+    }
 }
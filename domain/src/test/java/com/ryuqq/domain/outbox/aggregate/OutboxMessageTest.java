@@ -0,0 +1,116 @@
+package com.ryuqq.domain.outbox.aggregate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ryuqq.domain.outbox.vo.OutboxStatus;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OutboxMessage Aggregate 테스트")
+class OutboxMessageTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-20T10:00:00Z");
+
+    private static OutboxMessage newMessage() {
+        return OutboxMessage.forNew(
+                "feedback-queue:1",
+                "FeedbackAwaitingHumanReviewEvent",
+                "com.example.FeedbackAwaitingHumanReviewEvent",
+                "{\"feedbackQueueId\":{\"value\":1}}",
+                NOW,
+                NOW);
+    }
+
+    @Nested
+    @DisplayName("forNew 팩토리 메서드")
+    class ForNewTest {
+
+        @Test
+        @DisplayName("PENDING 상태로 생성되고 즉시 전달 가능")
+        void forNew_ShouldBePendingAndDue() {
+            // when
+            OutboxMessage message = newMessage();
+
+            // then
+            assertThat(message.isNew()).isTrue();
+            assertThat(message.status()).isEqualTo(OutboxStatus.PENDING);
+            assertThat(message.attempts()).isZero();
+            assertThat(message.isDue(NOW)).isTrue();
+        }
+
+        @Test
+        @DisplayName("aggregateKey가 비어 있으면 예외")
+        void forNew_WithBlankAggregateKey_ShouldThrow() {
+            // when & then
+            assertThatThrownBy(
+                            () ->
+                                    OutboxMessage.forNew(
+                                            " ", "Type", "com.example.Type", "{}", NOW, NOW))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("recordFailure 메서드")
+    class RecordFailureTest {
+
+        @Test
+        @DisplayName("실패 시 백오프 동안 전달 대상에서 제외")
+        void recordFailure_ShouldDeferNextAttempt() {
+            // given
+            OutboxMessage message = newMessage();
+
+            // when
+            message.recordFailure("listener failed", NOW);
+
+            // then
+            assertThat(message.attempts()).isEqualTo(1);
+            assertThat(message.lastError()).isEqualTo("listener failed");
+            assertThat(message.isDue(NOW)).isFalse();
+            assertThat(message.isDue(NOW.plusSeconds(1))).isTrue();
+        }
+
+        @Test
+        @DisplayName("백오프는 지수 증가하며 최대 5분")
+        void backoff_ShouldGrowExponentiallyUpToCap() {
+            assertThat(OutboxMessage.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+            assertThat(OutboxMessage.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+            assertThat(OutboxMessage.backoff(30)).isEqualTo(Duration.ofMinutes(5));
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 DEAD")
+        void recordFailure_AtMaxAttempts_ShouldBecomeDead() {
+            // given
+            OutboxMessage message = newMessage();
+
+            // when
+            for (int i = 0; i < OutboxMessage.MAX_ATTEMPTS; i++) {
+                message.recordFailure("boom", NOW);
+            }
+
+            // then
+            assertThat(message.isDead()).isTrue();
+            assertThat(message.isDue(NOW.plus(Duration.ofDays(1)))).isFalse();
+            assertThatThrownBy(() -> message.recordFailure("boom", NOW))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("실패 사유는 최대 길이로 잘림")
+        void recordFailure_WithLongError_ShouldTruncate() {
+            // given
+            OutboxMessage message = newMessage();
+
+            // when
+            message.recordFailure("x".repeat(OutboxMessage.MAX_ERROR_LENGTH + 10), NOW);
+
+            // then
+            assertThat(message.lastError()).hasSize(OutboxMessage.MAX_ERROR_LENGTH);
+        }
+    }
+}
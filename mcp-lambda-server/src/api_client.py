@@ -4,7 +4,8 @@ Spring REST API Client
 httpx를 사용한 Spring REST API 호출 클라이언트
 """
 
-from typing import Any, Optional
+import json
+from typing import Any, Iterable, Iterator, Optional
 
 import httpx
 
@@ -588,6 +589,61 @@ class ConventionApiClient:
         except httpx.HTTPStatusError:
             return None
 
+    def export_convention_set(self, tech_stack_id: int) -> Iterator[Any]:
+        """컨벤션 세트 내보내기 (NDJSON 스트리밍)
+
+        응답을 한 줄씩 읽어 JSON 값으로 돌려주므로 전체 스트림을 메모리에 올리지 않음:
+        - 첫 값: 형식 헤더 {"format", "version", "techStackId", "exportedAt"}
+        - 테이블마다: {"table", "columns"} 다음에 행 배열
+        - 마지막 값: {"end": true, "rowCount", "counts"} (없으면 불완전한 스트림)
+        """
+        with self._get_client().stream(
+            "GET", f"/api/v1/templates/tech-stacks/{tech_stack_id}/export"
+        ) as response:
+            response.raise_for_status()
+            for line in response.iter_lines():
+                if line:
+                    yield json.loads(line)
+
+    def download_convention_bundle(self, tech_stack_id: int, path: str) -> int:
+        """컨벤션 세트 번들 다운로드 (파일로 스트리밍)
+
+        번들 모드(spring.profiles.active=bundle) 서버가 메모리 매핑하는 바이너리 파일을 path에 저장.
+        응답을 청크 단위로 파일에 쓰므로 번들 크기와 관계없이 메모리 사용량이 일정.
+        반환값은 저장한 바이트 수.
+        """
+        written = 0
+        with self._get_client().stream(
+            "GET", f"/api/v1/templates/tech-stacks/{tech_stack_id}/bundle"
+        ) as response:
+            response.raise_for_status()
+            with open(path, "wb") as file:
+                for chunk in response.iter_bytes():
+                    file.write(chunk)
+                    written += len(chunk)
+        return written
+
+    def import_convention_set(self, document: Iterable[bytes]) -> Iterator[Any]:
+        """컨벤션 세트 가져오기 (NDJSON 업로드, 진행 상황 스트리밍)
+
+        document는 export_convention_set 형식의 NDJSON 바이트 청크 (파일 객체 가능).
+        응답을 한 줄씩 돌려줌:
+        - 첫 값: {"format", "version", "importedAt", "insertCount", "skippedCount"}
+        - 테이블마다: {"table", "rows", "skipped"}
+        - 청크 커밋마다: {"table", "inserted", "total"}
+        - 마지막 값: {"end": true, "inserted"} (없으면 도중 실패 - 같은 문서를 다시 보내면 이어서 진행)
+        """
+        with self._get_client().stream(
+            "POST",
+            "/api/v1/templates/tech-stacks/import",
+            content=document,
+            headers={"Content-Type": "application/x-ndjson"},
+        ) as response:
+            response.raise_for_status()
+            for line in response.iter_lines():
+                if line:
+                    yield json.loads(line)
+
     # ============================================
     # Architecture API
     # ============================================
@@ -1042,6 +1098,104 @@ class ConventionApiClient:
         response = self._get(f"/api/v1/templates/mcp/module/{module_id}/context", params)
         return self._extract_data(response)
 
+    def resolve_paths(
+        self,
+        architecture_id: int,
+        paths: list[str],
+    ) -> dict[str, Any]:
+        """파일 경로 → Module/PackageStructure 해석
+
+        moduleId를 모르는 파일에 대해 get_module_context 호출 전에 사용:
+        - paths: 경로별 moduleId, structureId, classType (미해석 항목은 None)
+        - resolvedCount: 모듈까지 해석된 경로 수
+        """
+        json_data: dict[str, Any] = {"architectureId": architecture_id, "paths": paths}
+
+        response = self._post("/api/v1/templates/mcp/resolve-paths", json_data)
+        return self._extract_data(response)
+
+    def classify_class_names(
+        self,
+        architecture_id: int,
+        class_names: list[str],
+    ) -> dict[str, Any]:
+        """FQCN → ClassType/PackageStructure 일괄 분류
+
+        PR diff나 저장소 전체 클래스명을 한 번에 분류 (최대 10,000개):
+        - classes: 클래스명별 classType, structureId, moduleId (미분류 항목은 None)
+        - classifiedCount: 클래스 타입이 분류된 클래스명 수
+        """
+        json_data: dict[str, Any] = {
+            "architectureId": architecture_id,
+            "classNames": class_names,
+        }
+
+        response = self._post("/api/v1/templates/mcp/classify-class-names", json_data)
+        return self._extract_data(response)
+
+    def validate_imports(
+        self,
+        architecture_id: int,
+        edges: list[tuple[str, str]],
+    ) -> dict[str, Any]:
+        """import 간선 레이어 의존성 검사
+
+        (from_package, to_package) 간선 목록을 서버에서 규칙과 비교 (최대 50,000개):
+        - violations: FORBIDDEN(금지 규칙) / UNDECLARED(허용 경로 없음) 위반 간선
+        - checkedCount / unresolvedCount: 검사한 간선 수 / 레이어 미해석 간선 수
+        """
+        json_data: dict[str, Any] = {
+            "architectureId": architecture_id,
+            "edges": [
+                {"fromPackage": from_package, "toPackage": to_package}
+                for from_package, to_package in edges
+            ],
+        }
+
+        response = self._post("/api/v1/templates/mcp/validate-imports", json_data)
+        return self._extract_data(response)
+
+    def render_templates(
+        self,
+        items: list[dict[str, Any]],
+    ) -> dict[str, Any]:
+        """템플릿 일괄 렌더링
+
+        각 항목은 {"templateType": "CLASS" | "CONFIG_FILE" | "RESOURCE", "templateId": int,
+        "variables": {...}}
+        형식이며, 한 요청에 최대 500개까지 보낼 수 있음:
+        - templates: 요청 순서대로 content(렌더링 결과)와 missingVariables(값이 없는 변수)
+        - compiledCount: 새로 컴파일한 템플릿 수 (나머지는 서버 캐시 사용)
+        """
+        json_data: dict[str, Any] = {"items": items}
+
+        response = self._post("/api/v1/templates/mcp/render-templates", json_data)
+        return self._extract_data(response)
+
+    def scaffold_module(
+        self,
+        module_id: int,
+        variables: Optional[dict[str, str]] = None,
+        tool_types: Optional[list[str]] = None,
+    ) -> bytes:
+        """Module 스캐폴드 ZIP 다운로드
+
+        Module의 ResourceTemplate, 패키지 구조별 ClassTemplate, 선택한 도구의 ConfigFileTemplate을
+        렌더링한 파일 트리(저장소 루트 기준 경로)를 ZIP으로 반환:
+        - tool_types가 없으면 설정 파일은 제외
+        - 경로나 클래스명에 값이 없는 변수가 남는 템플릿은 제외
+        """
+        json_data: dict[str, Any] = {
+            "variables": variables or {},
+            "toolTypes": tool_types or [],
+        }
+
+        with self._get_client().stream(
+            "POST", f"/api/v1/templates/mcp/module/{module_id}/scaffold", json=json_data
+        ) as response:
+            response.raise_for_status()
+            return b"".join(response.iter_bytes())
+
     def get_validation_context(
         self,
         layers: list[str],